@@ -791,6 +791,9 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkon_fly_cg_widget(), "on-fly-cg");
 
 		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkcompact_cg_widget(), "compact-cg");
+
+		
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparksimplify_offline_widget(), "simplify-offline");
 
 		
@@ -800,9 +803,18 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkignore_types_for_sccs_widget(), "ignore-types-for-sccs");
 
 		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkonline_cycles_widget(), "online-cycles");
+
+		
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkpropagator_widget(), "propagator");
 
 		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkpropagator_threads_widget(), "propagator-threads");
+
+		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkworklist_policy_widget(), "worklist-policy");
+
+		
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkset_impl_widget(), "set-impl");
 
 		
@@ -812,6 +824,9 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkdouble_set_new_widget(), "double-set-new");
 
 		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkset_pool_widget(), "set-pool");
+
+		
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkdump_html_widget(), "dump-html");
 
 		
@@ -830,6 +845,9 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkclass_method_var_widget(), "class-method-var");
 
 		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkdump_format_widget(), "dump-format");
+
+		
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkdump_answer_widget(), "dump-answer");
 
 		
@@ -839,6 +857,9 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkset_mass_widget(), "set-mass");
 
 		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparktelemetry_interval_widget(), "telemetry-interval");
+
+		
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkcs_demand_widget(), "cs-demand");
 
 		
@@ -851,6 +872,9 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkpasses_widget(), "passes");
 
 		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkdemand_memo_widget(), "demand-memo");
+
+		
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkgeom_pta_widget(), "geom-pta");
 
 		
@@ -860,6 +884,9 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkgeom_worklist_widget(), "geom-worklist");
 
 		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkgeom_threads_widget(), "geom-threads");
+
+		
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkgeom_eval_widget(), "geom-eval");
 
 		
@@ -878,6 +905,9 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkkobjsens_widget(), "kobjsens");
 
 		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkkobjsens_api_calldepth_widget(), "kobjsens-api-calldepth");
+
+		
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkkobjsens_context_for_static_inits_widget(), "kobjsens-context-for-static-inits");
 
 		
@@ -887,6 +917,27 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		addToEnableGroup("cg", "cg.spark", getcgcg_sparkkobjsens_extra_array_context_widget(), "kobjsens-extra-array-context");
 
 		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkkobjsens_selective_widget(), "kobjsens-selective");
+
+		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkkobjsens_selective_field_pts_widget(), "kobjsens-selective-field-pts");
+
+		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkkobjsens_selective_pointed_by_widget(), "kobjsens-selective-pointed-by");
+
+		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkkobjsens_selective_method_cost_widget(), "kobjsens-selective-method-cost");
+
+		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkkobjsens_budget_nodes_widget(), "kobjsens-budget-nodes");
+
+		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkkobjsens_budget_method_contexts_widget(), "kobjsens-budget-method-contexts");
+
+		
+		addToEnableGroup("cg", "cg.spark", getcgcg_sparkkobjsens_budget_heap_widget(), "kobjsens-budget-heap");
+
+		
 		
 		makeNewEnableGroup("cg", "cg.paddle");
 		
@@ -2030,6 +2081,16 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 			getConfig().put(getGeneral_Optionsdebug_resolver_widget().getAlias(), new Boolean(boolRes));
 		}
 		
+		boolRes = getGeneral_Optionsrelease_bodies_widget().getButton().getSelection();
+		
+		
+		defBoolRes = false;
+		
+
+		if (boolRes != defBoolRes) {
+			getConfig().put(getGeneral_Optionsrelease_bodies_widget().getAlias(), new Boolean(boolRes));
+		}
+		
 		stringRes = getGeneral_Optionsphase_help_widget().getText().getText();
 		
 		defStringRes = "";
@@ -2039,6 +2100,24 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 			getConfig().put(getGeneral_Optionsphase_help_widget().getAlias(), stringRes);
 		}
 		
+		stringRes = getGeneral_Optionsnum_threads_widget().getText().getText();
+		
+		defStringRes = "1";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getGeneral_Optionsnum_threads_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getGeneral_Optionsresident_bodies_widget().getText().getText();
+		
+		defStringRes = "1000";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getGeneral_Optionsresident_bodies_widget().getAlias(), stringRes);
+		}
+		
 		boolRes = getInput_Optionsprepend_classpath_widget().getButton().getSelection();
 		
 		
@@ -2163,6 +2242,24 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
 			getConfig().put(getInput_Optionsmain_class_widget().getAlias(), stringRes);
 		}
+		
+		stringRes = getInput_Optionsbody_cache_widget().getText().getText();
+		
+		defStringRes = "";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getInput_Optionsbody_cache_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getInput_Optionsclass_path_index_widget().getText().getText();
+		
+		defStringRes = "";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getInput_Optionsclass_path_index_widget().getAlias(), stringRes);
+		}
 		 
 		stringRes = getInput_Optionssrc_prec_widget().getSelectedAlias();
 
@@ -3157,6 +3254,16 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 			getConfig().put(getcgcg_sparkon_fly_cg_widget().getAlias(), new Boolean(boolRes));
 		}
 		
+		boolRes = getcgcg_sparkcompact_cg_widget().getButton().getSelection();
+		
+		
+		defBoolRes = false;
+		
+
+		if (boolRes != defBoolRes) {
+			getConfig().put(getcgcg_sparkcompact_cg_widget().getAlias(), new Boolean(boolRes));
+		}
+		
 		boolRes = getcgcg_sparksimplify_offline_widget().getButton().getSelection();
 		
 		
@@ -3186,6 +3293,35 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		if (boolRes != defBoolRes) {
 			getConfig().put(getcgcg_sparkignore_types_for_sccs_widget().getAlias(), new Boolean(boolRes));
 		}
+		
+		boolRes = getcgcg_sparkonline_cycles_widget().getButton().getSelection();
+		
+		
+		defBoolRes = false;
+		
+
+		if (boolRes != defBoolRes) {
+			getConfig().put(getcgcg_sparkonline_cycles_widget().getAlias(), new Boolean(boolRes));
+		}
+		
+		boolRes = getcgcg_sparkset_pool_widget().getButton().getSelection();
+		
+		
+		defBoolRes = false;
+		
+
+		if (boolRes != defBoolRes) {
+			getConfig().put(getcgcg_sparkset_pool_widget().getAlias(), new Boolean(boolRes));
+		}
+		
+		stringRes = getcgcg_sparkpropagator_threads_widget().getText().getText();
+		
+		defStringRes = "0";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkpropagator_threads_widget().getAlias(), stringRes);
+		}
 		 
 		stringRes = getcgcg_sparkpropagator_widget().getSelectedAlias();
 
@@ -3197,6 +3333,16 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 			getConfig().put(getcgcg_sparkpropagator_widget().getAlias(), stringRes);
 		}
 		 
+		stringRes = getcgcg_sparkworklist_policy_widget().getSelectedAlias();
+
+		
+		defStringRes = "topo";
+		
+
+		if (!stringRes.equals(defStringRes)) {
+			getConfig().put(getcgcg_sparkworklist_policy_widget().getAlias(), stringRes);
+		}
+		 
 		stringRes = getcgcg_sparkset_impl_widget().getSelectedAlias();
 
 		
@@ -3317,6 +3463,70 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 			getConfig().put(getcgcg_sparkset_mass_widget().getAlias(), new Boolean(boolRes));
 		}
 		
+		stringRes = getcgcg_sparktelemetry_file_widget().getText().getText();
+		
+		defStringRes = "";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparktelemetry_file_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparktelemetry_interval_widget().getText().getText();
+		
+		defStringRes = "30";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparktelemetry_interval_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparksnapshot_out_widget().getText().getText();
+		
+		defStringRes = "";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparksnapshot_out_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparksnapshot_in_widget().getText().getText();
+		
+		defStringRes = "";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparksnapshot_in_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparkincremental_snapshot_widget().getText().getText();
+		
+		defStringRes = "";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkincremental_snapshot_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparkincremental_changed_file_widget().getText().getText();
+		
+		defStringRes = "";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkincremental_changed_file_widget().getAlias(), stringRes);
+		}
+		 
+		stringRes = getcgcg_sparkdump_format_widget().getSelectedAlias();
+
+		
+		defStringRes = "text";
+		
+
+		if (!stringRes.equals(defStringRes)) {
+			getConfig().put(getcgcg_sparkdump_format_widget().getAlias(), stringRes);
+		}
+		
 		boolRes = getcgcg_sparkcs_demand_widget().getButton().getSelection();
 		
 		
@@ -3355,6 +3565,15 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 			getConfig().put(getcgcg_sparkpasses_widget().getAlias(), stringRes);
 		}
 		
+		stringRes = getcgcg_sparkdemand_memo_widget().getText().getText();
+		
+		defStringRes = "0";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkdemand_memo_widget().getAlias(), stringRes);
+		}
+		
 		boolRes = getcgcg_sparkgeom_pta_widget().getButton().getSelection();
 		
 		
@@ -3385,6 +3604,15 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 			getConfig().put(getcgcg_sparkgeom_blocking_widget().getAlias(), new Boolean(boolRes));
 		}
 		
+		stringRes = getcgcg_sparkgeom_threads_widget().getText().getText();
+		
+		defStringRes = "1";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkgeom_threads_widget().getAlias(), stringRes);
+		}
+		
 		stringRes = getcgcg_sparkgeom_dump_verbose_widget().getText().getText();
 		
 		defStringRes = "";
@@ -3480,6 +3708,16 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 			getConfig().put(getcgcg_sparkkobjsens_extra_array_context_widget().getAlias(), new Boolean(boolRes));
 		}
 		
+		boolRes = getcgcg_sparkkobjsens_selective_widget().getButton().getSelection();
+		
+		
+		defBoolRes = false;
+		
+
+		if (boolRes != defBoolRes) {
+			getConfig().put(getcgcg_sparkkobjsens_selective_widget().getAlias(), new Boolean(boolRes));
+		}
+		
 		stringRes = getcgcg_sparkkobjsens_widget().getText().getText();
 		
 		defStringRes = "0";
@@ -3489,6 +3727,24 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 			getConfig().put(getcgcg_sparkkobjsens_widget().getAlias(), stringRes);
 		}
 		
+		stringRes = getcgcg_sparkkobjsens_api_calldepth_widget().getText().getText();
+		
+		defStringRes = "-1";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkkobjsens_api_calldepth_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparkkobjsens_app_classes_list_widget().getText().getText();
+		
+		defStringRes = "";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkkobjsens_app_classes_list_widget().getAlias(), stringRes);
+		}
+		
 		stringRes = getcgcg_sparkkobjsens_no_context_list_widget().getText().getText();
 		
 		defStringRes = "";
@@ -3507,6 +3763,78 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 			getConfig().put(getcgcg_sparkkobjsens_limit_heap_context_widget().getAlias(), stringRes);
 		}
 		
+		stringRes = getcgcg_sparkkobjsens_depth_policy_widget().getText().getText();
+		
+		defStringRes = "";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkkobjsens_depth_policy_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparkkobjsens_depth_policy_file_widget().getText().getText();
+		
+		defStringRes = "";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkkobjsens_depth_policy_file_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparkkobjsens_selective_field_pts_widget().getText().getText();
+		
+		defStringRes = "100";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkkobjsens_selective_field_pts_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparkkobjsens_selective_pointed_by_widget().getText().getText();
+		
+		defStringRes = "200";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkkobjsens_selective_pointed_by_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparkkobjsens_selective_method_cost_widget().getText().getText();
+		
+		defStringRes = "5000";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkkobjsens_selective_method_cost_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparkkobjsens_budget_nodes_widget().getText().getText();
+		
+		defStringRes = "0";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkkobjsens_budget_nodes_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparkkobjsens_budget_method_contexts_widget().getText().getText();
+		
+		defStringRes = "0";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkkobjsens_budget_method_contexts_widget().getAlias(), stringRes);
+		}
+		
+		stringRes = getcgcg_sparkkobjsens_budget_heap_widget().getText().getText();
+		
+		defStringRes = "0";
+		
+
+	        if ( (!(stringRes.equals(defStringRes))) && (stringRes != null) && (stringRes.length() != 0)) {
+			getConfig().put(getcgcg_sparkkobjsens_budget_heap_widget().getAlias(), stringRes);
+		}
+		
 		boolRes = getcgcg_paddleenabled_widget().getButton().getSelection();
 		
 		
@@ -6676,6 +7004,16 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		return General_Optionsdebug_resolver_widget;
 	}	
 	
+	private BooleanOptionWidget General_Optionsrelease_bodies_widget;
+	
+	private void setGeneral_Optionsrelease_bodies_widget(BooleanOptionWidget widget) {
+		General_Optionsrelease_bodies_widget = widget;
+	}
+	
+	public BooleanOptionWidget getGeneral_Optionsrelease_bodies_widget() {
+		return General_Optionsrelease_bodies_widget;
+	}	
+	
 
 	private ListOptionWidget General_Optionsphase_help_widget;
 	
@@ -6688,14 +7026,38 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 	}	
 	
 	
-	private BooleanOptionWidget Input_Optionsprepend_classpath_widget;
 	
-	private void setInput_Optionsprepend_classpath_widget(BooleanOptionWidget widget) {
-		Input_Optionsprepend_classpath_widget = widget;
+	private StringOptionWidget General_Optionsnum_threads_widget;
+	
+	private void setGeneral_Optionsnum_threads_widget(StringOptionWidget widget) {
+		General_Optionsnum_threads_widget = widget;
 	}
 	
-	public BooleanOptionWidget getInput_Optionsprepend_classpath_widget() {
-		return Input_Optionsprepend_classpath_widget;
+	public StringOptionWidget getGeneral_Optionsnum_threads_widget() {
+		return General_Optionsnum_threads_widget;
+	}
+	
+	
+	
+	private StringOptionWidget General_Optionsresident_bodies_widget;
+	
+	private void setGeneral_Optionsresident_bodies_widget(StringOptionWidget widget) {
+		General_Optionsresident_bodies_widget = widget;
+	}
+	
+	public StringOptionWidget getGeneral_Optionsresident_bodies_widget() {
+		return General_Optionsresident_bodies_widget;
+	}
+	
+	
+	private BooleanOptionWidget Input_Optionsprepend_classpath_widget;
+	
+	private void setInput_Optionsprepend_classpath_widget(BooleanOptionWidget widget) {
+		Input_Optionsprepend_classpath_widget = widget;
+	}
+	
+	public BooleanOptionWidget getInput_Optionsprepend_classpath_widget() {
+		return Input_Optionsprepend_classpath_widget;
 	}	
 	
 	private BooleanOptionWidget Input_Optionsoaat_widget;
@@ -6829,6 +7191,30 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 	
 	
 	
+	private StringOptionWidget Input_Optionsbody_cache_widget;
+	
+	private void setInput_Optionsbody_cache_widget(StringOptionWidget widget) {
+		Input_Optionsbody_cache_widget = widget;
+	}
+	
+	public StringOptionWidget getInput_Optionsbody_cache_widget() {
+		return Input_Optionsbody_cache_widget;
+	}
+	
+	
+	
+	private StringOptionWidget Input_Optionsclass_path_index_widget;
+	
+	private void setInput_Optionsclass_path_index_widget(StringOptionWidget widget) {
+		Input_Optionsclass_path_index_widget = widget;
+	}
+	
+	public StringOptionWidget getInput_Optionsclass_path_index_widget() {
+		return Input_Optionsclass_path_index_widget;
+	}
+	
+	
+	
 	private MultiOptionWidget Input_Optionssrc_prec_widget;
 	
 	private void setInput_Optionssrc_prec_widget(MultiOptionWidget widget) {
@@ -7850,6 +8236,16 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		return cgcg_sparkon_fly_cg_widget;
 	}	
 	
+	private BooleanOptionWidget cgcg_sparkcompact_cg_widget;
+	
+	private void setcgcg_sparkcompact_cg_widget(BooleanOptionWidget widget) {
+		cgcg_sparkcompact_cg_widget = widget;
+	}
+	
+	public BooleanOptionWidget getcgcg_sparkcompact_cg_widget() {
+		return cgcg_sparkcompact_cg_widget;
+	}	
+	
 	private BooleanOptionWidget cgcg_sparksimplify_offline_widget;
 	
 	private void setcgcg_sparksimplify_offline_widget(BooleanOptionWidget widget) {
@@ -7880,6 +8276,38 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		return cgcg_sparkignore_types_for_sccs_widget;
 	}	
 	
+	private BooleanOptionWidget cgcg_sparkonline_cycles_widget;
+	
+	private void setcgcg_sparkonline_cycles_widget(BooleanOptionWidget widget) {
+		cgcg_sparkonline_cycles_widget = widget;
+	}
+	
+	public BooleanOptionWidget getcgcg_sparkonline_cycles_widget() {
+		return cgcg_sparkonline_cycles_widget;
+	}	
+	
+	private BooleanOptionWidget cgcg_sparkset_pool_widget;
+	
+	private void setcgcg_sparkset_pool_widget(BooleanOptionWidget widget) {
+		cgcg_sparkset_pool_widget = widget;
+	}
+	
+	public BooleanOptionWidget getcgcg_sparkset_pool_widget() {
+		return cgcg_sparkset_pool_widget;
+	}	
+	
+	
+	private StringOptionWidget cgcg_sparkpropagator_threads_widget;
+	
+	private void setcgcg_sparkpropagator_threads_widget(StringOptionWidget widget) {
+		cgcg_sparkpropagator_threads_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkpropagator_threads_widget() {
+		return cgcg_sparkpropagator_threads_widget;
+	}
+	
+	
 	
 	private MultiOptionWidget cgcg_sparkpropagator_widget;
 	
@@ -7893,6 +8321,18 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 	
 	
 	
+	private MultiOptionWidget cgcg_sparkworklist_policy_widget;
+	
+	private void setcgcg_sparkworklist_policy_widget(MultiOptionWidget widget) {
+		cgcg_sparkworklist_policy_widget = widget;
+	}
+	
+	public MultiOptionWidget getcgcg_sparkworklist_policy_widget() {
+		return cgcg_sparkworklist_policy_widget;
+	}	
+	
+	
+	
 	private MultiOptionWidget cgcg_sparkset_impl_widget;
 	
 	private void setcgcg_sparkset_impl_widget(MultiOptionWidget widget) {
@@ -8018,6 +8458,90 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		return cgcg_sparkset_mass_widget;
 	}	
 	
+	
+	private StringOptionWidget cgcg_sparktelemetry_file_widget;
+	
+	private void setcgcg_sparktelemetry_file_widget(StringOptionWidget widget) {
+		cgcg_sparktelemetry_file_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparktelemetry_file_widget() {
+		return cgcg_sparktelemetry_file_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparktelemetry_interval_widget;
+	
+	private void setcgcg_sparktelemetry_interval_widget(StringOptionWidget widget) {
+		cgcg_sparktelemetry_interval_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparktelemetry_interval_widget() {
+		return cgcg_sparktelemetry_interval_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparksnapshot_out_widget;
+	
+	private void setcgcg_sparksnapshot_out_widget(StringOptionWidget widget) {
+		cgcg_sparksnapshot_out_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparksnapshot_out_widget() {
+		return cgcg_sparksnapshot_out_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparksnapshot_in_widget;
+	
+	private void setcgcg_sparksnapshot_in_widget(StringOptionWidget widget) {
+		cgcg_sparksnapshot_in_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparksnapshot_in_widget() {
+		return cgcg_sparksnapshot_in_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparkincremental_snapshot_widget;
+	
+	private void setcgcg_sparkincremental_snapshot_widget(StringOptionWidget widget) {
+		cgcg_sparkincremental_snapshot_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkincremental_snapshot_widget() {
+		return cgcg_sparkincremental_snapshot_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparkincremental_changed_file_widget;
+	
+	private void setcgcg_sparkincremental_changed_file_widget(StringOptionWidget widget) {
+		cgcg_sparkincremental_changed_file_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkincremental_changed_file_widget() {
+		return cgcg_sparkincremental_changed_file_widget;
+	}
+	
+	
+	
+	private MultiOptionWidget cgcg_sparkdump_format_widget;
+	
+	private void setcgcg_sparkdump_format_widget(MultiOptionWidget widget) {
+		cgcg_sparkdump_format_widget = widget;
+	}
+	
+	public MultiOptionWidget getcgcg_sparkdump_format_widget() {
+		return cgcg_sparkdump_format_widget;
+	}	
+	
+	
 	private BooleanOptionWidget cgcg_sparkcs_demand_widget;
 	
 	private void setcgcg_sparkcs_demand_widget(BooleanOptionWidget widget) {
@@ -8062,6 +8586,18 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 	}
 	
 	
+	
+	private StringOptionWidget cgcg_sparkdemand_memo_widget;
+	
+	private void setcgcg_sparkdemand_memo_widget(StringOptionWidget widget) {
+		cgcg_sparkdemand_memo_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkdemand_memo_widget() {
+		return cgcg_sparkdemand_memo_widget;
+	}
+	
+	
 	private BooleanOptionWidget cgcg_sparkgeom_pta_widget;
 	
 	private void setcgcg_sparkgeom_pta_widget(BooleanOptionWidget widget) {
@@ -8093,6 +8629,18 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 	}	
 	
 	
+	private StringOptionWidget cgcg_sparkgeom_threads_widget;
+	
+	private void setcgcg_sparkgeom_threads_widget(StringOptionWidget widget) {
+		cgcg_sparkgeom_threads_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkgeom_threads_widget() {
+		return cgcg_sparkgeom_threads_widget;
+	}
+	
+	
+	
 	private StringOptionWidget cgcg_sparkgeom_dump_verbose_widget;
 	
 	private void setcgcg_sparkgeom_dump_verbose_widget(StringOptionWidget widget) {
@@ -8206,6 +8754,16 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		return cgcg_sparkkobjsens_extra_array_context_widget;
 	}	
 	
+	private BooleanOptionWidget cgcg_sparkkobjsens_selective_widget;
+	
+	private void setcgcg_sparkkobjsens_selective_widget(BooleanOptionWidget widget) {
+		cgcg_sparkkobjsens_selective_widget = widget;
+	}
+	
+	public BooleanOptionWidget getcgcg_sparkkobjsens_selective_widget() {
+		return cgcg_sparkkobjsens_selective_widget;
+	}	
+	
 	
 	private StringOptionWidget cgcg_sparkkobjsens_widget;
 	
@@ -8219,6 +8777,30 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 	
 	
 	
+	private StringOptionWidget cgcg_sparkkobjsens_api_calldepth_widget;
+	
+	private void setcgcg_sparkkobjsens_api_calldepth_widget(StringOptionWidget widget) {
+		cgcg_sparkkobjsens_api_calldepth_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkkobjsens_api_calldepth_widget() {
+		return cgcg_sparkkobjsens_api_calldepth_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparkkobjsens_app_classes_list_widget;
+	
+	private void setcgcg_sparkkobjsens_app_classes_list_widget(StringOptionWidget widget) {
+		cgcg_sparkkobjsens_app_classes_list_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkkobjsens_app_classes_list_widget() {
+		return cgcg_sparkkobjsens_app_classes_list_widget;
+	}
+	
+	
+	
 	private StringOptionWidget cgcg_sparkkobjsens_no_context_list_widget;
 	
 	private void setcgcg_sparkkobjsens_no_context_list_widget(StringOptionWidget widget) {
@@ -8242,6 +8824,102 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 	}
 	
 	
+	
+	private StringOptionWidget cgcg_sparkkobjsens_depth_policy_widget;
+	
+	private void setcgcg_sparkkobjsens_depth_policy_widget(StringOptionWidget widget) {
+		cgcg_sparkkobjsens_depth_policy_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkkobjsens_depth_policy_widget() {
+		return cgcg_sparkkobjsens_depth_policy_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparkkobjsens_depth_policy_file_widget;
+	
+	private void setcgcg_sparkkobjsens_depth_policy_file_widget(StringOptionWidget widget) {
+		cgcg_sparkkobjsens_depth_policy_file_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkkobjsens_depth_policy_file_widget() {
+		return cgcg_sparkkobjsens_depth_policy_file_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparkkobjsens_selective_field_pts_widget;
+	
+	private void setcgcg_sparkkobjsens_selective_field_pts_widget(StringOptionWidget widget) {
+		cgcg_sparkkobjsens_selective_field_pts_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkkobjsens_selective_field_pts_widget() {
+		return cgcg_sparkkobjsens_selective_field_pts_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparkkobjsens_selective_pointed_by_widget;
+	
+	private void setcgcg_sparkkobjsens_selective_pointed_by_widget(StringOptionWidget widget) {
+		cgcg_sparkkobjsens_selective_pointed_by_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkkobjsens_selective_pointed_by_widget() {
+		return cgcg_sparkkobjsens_selective_pointed_by_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparkkobjsens_selective_method_cost_widget;
+	
+	private void setcgcg_sparkkobjsens_selective_method_cost_widget(StringOptionWidget widget) {
+		cgcg_sparkkobjsens_selective_method_cost_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkkobjsens_selective_method_cost_widget() {
+		return cgcg_sparkkobjsens_selective_method_cost_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparkkobjsens_budget_nodes_widget;
+	
+	private void setcgcg_sparkkobjsens_budget_nodes_widget(StringOptionWidget widget) {
+		cgcg_sparkkobjsens_budget_nodes_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkkobjsens_budget_nodes_widget() {
+		return cgcg_sparkkobjsens_budget_nodes_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparkkobjsens_budget_method_contexts_widget;
+	
+	private void setcgcg_sparkkobjsens_budget_method_contexts_widget(StringOptionWidget widget) {
+		cgcg_sparkkobjsens_budget_method_contexts_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkkobjsens_budget_method_contexts_widget() {
+		return cgcg_sparkkobjsens_budget_method_contexts_widget;
+	}
+	
+	
+	
+	private StringOptionWidget cgcg_sparkkobjsens_budget_heap_widget;
+	
+	private void setcgcg_sparkkobjsens_budget_heap_widget(StringOptionWidget widget) {
+		cgcg_sparkkobjsens_budget_heap_widget = widget;
+	}
+	
+	public StringOptionWidget getcgcg_sparkkobjsens_budget_heap_widget() {
+		return cgcg_sparkkobjsens_budget_heap_widget;
+	}
+	
+	
 	private BooleanOptionWidget cgcg_paddleenabled_widget;
 	
 	private void setcgcg_paddleenabled_widget(BooleanOptionWidget widget) {
@@ -10452,6 +11130,22 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		setGeneral_Optionsdebug_resolver_widget(new BooleanOptionWidget(editGroupGeneral_Options, SWT.NONE, new OptionData("Debug Resolver", "", "","debug-resolver", "\nPrint debugging information about class resolving. \n", defaultBool)));
 		
 		
+		
+		defKey = ""+" "+""+" "+"release-bodies";
+		defKey = defKey.trim();
+
+		if (isInDefList(defKey)) {
+			defaultBool = getBoolDef(defKey);	
+		}
+		else {
+			
+			defaultBool = false;
+			
+		}
+
+		setGeneral_Optionsrelease_bodies_widget(new BooleanOptionWidget(editGroupGeneral_Options, SWT.NONE, new OptionData("Release Bodies", "", "","release-bodies", "\nLet Spark mark the body of each method it has built the \npointer assignment graph of as no longer needed. The \npoints-to analysis and the call graph refer to the \nlocals and statements of the bodies, so the marked \nbodies are only taken from their methods once both have \nbeen released from the Scene: this option saves no memory while \nSpark runs, nor while the analysis and call graph are \nkept, and only helps the phases that run after them. \nReleased bodies are dropped when memory runs low, except \nfor the last ones released, and are built again from the \nclass file when they are retrieved; a body that is built \nagain is a new copy. Only bodies read by the ASM \nfrontend, possibly through the body cache, are released. ", defaultBool)));
+		
+		
 
 		defKey = ""+" "+""+" "+"ph";
 		defKey = defKey.trim();
@@ -10467,6 +11161,36 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 
 		setGeneral_Optionsphase_help_widget(new ListOptionWidget(editGroupGeneral_Options, SWT.NONE, new OptionData("Phase Help",  "", "","ph", "\nPrint a help message about the phase or sub-phase named \nPHASE, then exit. To see the help message of \nmore than one phase, specify multiple phase-help options. ", defaultString)));
 		
+		
+		defKey = ""+" "+""+" "+"num-threads";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "1";
+			
+		}
+
+		setGeneral_Optionsnum_threads_widget(new StringOptionWidget(editGroupGeneral_Options, SWT.NONE, new OptionData("Number of Threads",  "", "","num-threads", "\nBuild the bodies of the methods of the reachable \nclasses on a pool of NUM threads before running the \npacks, and then run the body packs, from jtp to bb and \ntag, on the methods of all those classes at once, each \nthread with copies of the transformers of its own. The \nclasses are still written out one at a time, in the same order. \nThe default, 1, does everything one method at a time; 0 \nuses one thread for each available processor. The bodies \nare always built one at a time when the coffi frontend \nis used, since it is not safe for concurrent use. The \nbody packs run on one method at a time when a transformer that \nreads the bodies of other methods or whole-program \nanalyses is enabled, such as the taggers of jap, or one \nadded by a client, and with Shimple, Dava, the time \noption or the interactive mode. ", defaultString)));
+		
+		
+		defKey = ""+" "+""+" "+"resident-bodies";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "1000";
+			
+		}
+
+		setGeneral_Optionsresident_bodies_widget(new StringOptionWidget(editGroupGeneral_Options, SWT.NONE, new OptionData("Resident Bodies",  "", "","resident-bodies", "\nWith the release-bodies option, keep the NUM bodies \nthat were released last, so that they are never built again; \nolder released bodies are only softly reachable. The \ndefault is 1000. ", defaultString)));
+		
 
 		
 		return editGroupGeneral_Options;
@@ -10748,16 +11472,46 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 
 		setInput_Optionsmain_class_widget(new StringOptionWidget(editGroupInput_Options, SWT.NONE, new OptionData("Main Class",  "", "","main-class", "\nBy default, the first class encountered with a main \nmethod is treated as the main class (entry point) in \nwhole-program analysis. This option overrides this \ndefault. ", defaultString)));
 		
-
 		
-		return editGroupInput_Options;
-	}
-
-
+		defKey = ""+" "+""+" "+"body-cache";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "";
+			
+		}
 
-	private Composite Output_OptionsCreate(Composite parent) {
-		String defKey;
-		String defaultString;
+		setInput_Optionsbody_cache_widget(new StringOptionWidget(editGroupInput_Options, SWT.NONE, new OptionData("Body Cache",  "", "","body-cache", "\nKeep the Jimple bodies built from the class files of \nlibrary classes, after the Jimple Body Creation phase, \nin a compact binary form in the directory DIR, and \nload them from there instead of building them again \nwhen the same class file is read with the same options \nand class path. A body is found by a hash of the bytes of its \nclass file, its subsignature, the options that affect the \nJimple Body Creation phase, including \nallow-phantom-refs, and the path, length and \nmodification time of each archive and class file on the class \npath, leaving out the process directories and the \nclass files of application classes. \nSince the bodies depend on the class hierarchy, only the bodies \nof library classes, such as the runtime library, are \ncached; the bodies of application classes are always \nbuilt anew. As library classes do not refer to the \napplication, changing the application does not throw \naway the cached bodies of the library. Bodies with constructs \nthat the cache cannot encode, such as invokedynamic, are \nbuilt anew each time as well. ", defaultString)));
+		
+		
+		defKey = ""+" "+""+" "+"class-path-index";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "";
+			
+		}
+
+		setInput_Optionsclass_path_index_widget(new StringOptionWidget(editGroupInput_Options, SWT.NONE, new OptionData("Class Path Index",  "", "","class-path-index", "\nSoot lists the files in each jar and zip archive on the \nclass path once, the first time it looks for a class, \nand then finds classes in that index and reads them from \narchives that it keeps open. With this option, the index \nis saved in FILE, and later runs take it from there for \nthe archives whose length and modification time have not \nchanged, so that they need not list them again. ", defaultString)));
+		
+
+		
+		return editGroupInput_Options;
+	}
+
+
+
+	private Composite Output_OptionsCreate(Composite parent) {
+		String defKey;
+		String defaultString;
 		boolean defaultBool = false;
 	    String defaultArray;
        
@@ -13537,6 +14291,22 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		setcgcg_sparkon_fly_cg_widget(new BooleanOptionWidget(editGroupcgSpark_Pointer_Assignment_Graph_Building_Options, SWT.NONE, new OptionData("On Fly Call Graph", "p", "cg.spark","on-fly-cg", "\nWhen this option is set to true, the call graph \nis computed on-the-fly as points-to information \nis computed. Otherwise, an initial CHA \napproximation to the call graph is used. ", defaultBool)));
 		
 		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"compact-cg";
+		defKey = defKey.trim();
+
+		if (isInDefList(defKey)) {
+			defaultBool = getBoolDef(defKey);	
+		}
+		else {
+			
+			defaultBool = false;
+			
+		}
+
+		setcgcg_sparkcompact_cg_widget(new BooleanOptionWidget(editGroupcgSpark_Pointer_Assignment_Graph_Building_Options, SWT.NONE, new OptionData("Compact Call Graph", "p", "cg.spark","compact-cg", "\nWhen this option is set to true, the on-the-fly \ncall graph stores its edges column-wise in int \narrays, and only creates Edge objects when they \nare iterated over. This uses much less memory for the large \ncontext-sensitive call graphs of the object-sensitive \nanalysis, at the price of allocating edges on \nevery query. ", defaultBool)));
+		
+		
 
 		
 		return editGroupcgSpark_Pointer_Assignment_Graph_Building_Options;
@@ -13612,7 +14382,23 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 			
 		}
 
-		setcgcg_sparkignore_types_for_sccs_widget(new BooleanOptionWidget(editGroupcgSpark_Pointer_Assignment_Graph_Simplification_Options, SWT.NONE, new OptionData("Ignore Types For SCCs", "p", "cg.spark","ignore-types-for-sccs", "\nWhen this option is set to true, when \ncollapsing strongly-connected components, nodes \nforming SCCs are collapsed regardless of their declared type. \nThe collapsed SCC is given the most general type of \nall the nodes in the component. \nWhen this option is set to false, only edges connecting nodes of \nthe same type are considered when detecting \nSCCs. This option has no effect unless \nsimplify-sccs is true. ", defaultBool)));
+		setcgcg_sparkignore_types_for_sccs_widget(new BooleanOptionWidget(editGroupcgSpark_Pointer_Assignment_Graph_Simplification_Options, SWT.NONE, new OptionData("Ignore Types For SCCs", "p", "cg.spark","ignore-types-for-sccs", "\nWhen this option is set to true, when \ncollapsing strongly-connected components, nodes \nforming SCCs are collapsed regardless of their declared type. \nThe collapsed SCC is given the most general type of \nall the nodes in the component. \nWhen this option is set to false, only edges connecting nodes of \nthe same type are considered when detecting \nSCCs. This option has no effect unless \nsimplify-sccs or online-cycles is true. \n", defaultBool)));
+		
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"online-cycles";
+		defKey = defKey.trim();
+
+		if (isInDefList(defKey)) {
+			defaultBool = getBoolDef(defKey);	
+		}
+		else {
+			
+			defaultBool = false;
+			
+		}
+
+		setcgcg_sparkonline_cycles_widget(new BooleanOptionWidget(editGroupcgSpark_Pointer_Assignment_Graph_Simplification_Options, SWT.NONE, new OptionData("Online Cycles", "p", "cg.spark","online-cycles", "\nWhen this option is set to true, the worklist \npropagator collapses cycles of variable nodes as \nthey appear during propagation, which finds the \ncycles closed by call edges discovered on the fly, such as \nthose through parameters and return values, that \nsimplify-sccs cannot see. A cycle is looked for \nthe first time an edge propagates nothing new \nbetween two nodes with sets of the same size. The \nignore-types-for-sccs option decides which edges may be part \nof a cycle. This option has no effect with the \nother propagators. ", defaultBool)));
 		
 		
 
@@ -13646,6 +14432,22 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		
 		
 		
+		defKey = "p"+" "+"cg.spark"+" "+"set-pool";
+		defKey = defKey.trim();
+
+		if (isInDefList(defKey)) {
+			defaultBool = getBoolDef(defKey);	
+		}
+		else {
+			
+			defaultBool = false;
+			
+		}
+
+		setcgcg_sparkset_pool_widget(new BooleanOptionWidget(editGroupcgSpark_Points_To_Set_Flowing_Options, SWT.NONE, new OptionData("Set Pool", "p", "cg.spark","set-pool", "\nWhen this option is set to true, the old parts \nof double points-to sets are hash-consed in a \npool: all the nodes whose old sets have the same \ntype and elements hold a single, reference-counted copy, which \nis copied when one of them flushes new elements \ninto it while others still hold it. This saves \nmemory when many nodes have equal sets, as the contexts \nof a variable often do in an object-sensitive analysis. A \nset that takes new elements stays out of the \npool, with its hash kept up to date, until it \nstops changing at the end of a wave of propagation. The \nnumbers of sets and references in the pool, and the \nelements and measured bytes saved, are printed \nafter propagation. This option has no effect \nunless Set Implementation is set to double. ", defaultBool)));
+		
+		
+		
 		data = new OptionData [] {
 		
 		new OptionData("Iter",
@@ -13660,6 +14462,12 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		
 		true),
 		
+		new OptionData("Parallel Worklist",
+		"parallel-worklist",
+		"\nParallel Worklist processes the worklist in \nrounds. Within a round, the on-the-fly call \ngraph is updated on the main thread, and the \npropagation along simple, store and load edges is split across a \npool of threads, each of which owns a disjoint \nstripe of the target points-to sets. It \ncomputes the same solution as Worklist. It requires \na set implementation that does not share state between \nsets, so the heintze and sharedlist \nimplementations fall back to a single thread. ",
+		
+		false),
+		
 		new OptionData("Cycle",
 		"cycle",
 		"\nThis algorithm finds cycles in the PAG on-the-fly. It is not yet \nfinished.",
@@ -13700,6 +14508,48 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		
 		
 		
+		data = new OptionData [] {
+		
+		new OptionData("Topological",
+		"topo",
+		"\nTopo takes the variable with the highest \nfinishing number of the topological sort done \nbefore propagation first, so that a variable is \nusually processed after its predecessors. Variables created \nduring propagation come first. This is the \norder Spark has always used. ",
+		
+		true),
+		
+		new OptionData("Lazy Topological",
+		"topo-lazy",
+		"\nTopo-lazy is like topo, but re-runs the \ntopological sort when the number of simple \nedges added on the fly since the last sort exceeds the \nnumber of edges the last sort saw, so that the order \nkeeps up with the edges added for newly \ndiscovered call edges. ",
+		
+		false),
+		
+		new OptionData("Least Recently Fired",
+		"lrf",
+		"\nLRF takes the variable that has gone longest \nwithout being processed, breaking ties by \ntopological order. This spreads the work evenly over \ncycles, where a topological order does not exist. \n",
+		
+		false),
+		
+		new OptionData("Two Phase",
+		"two-phase",
+		"\nTwo-phase processes all the variables queued \nin a round in topological order; variables \nqueued during the round are held back until the next \nround. This keeps a variable from being processed many \ntimes in one round when its predecessors \nchange one by one. ",
+		
+		false),
+		
+		};
+		
+										
+		setcgcg_sparkworklist_policy_widget(new MultiOptionWidget(editGroupcgSpark_Points_To_Set_Flowing_Options, SWT.NONE, data, new OptionData("Worklist Policy", "p", "cg.spark","worklist-policy", "\nThis option selects the priority of variables \non the worklist of the worklist propagator. It \nhas no effect with the other propagators. ")));
+		
+		defKey = "p"+" "+"cg.spark"+" "+"worklist-policy";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);
+		
+			getcgcg_sparkworklist_policy_widget().setDef(defaultString);
+		}
+		
+		
+		
 		data = new OptionData [] {
 		
 		new OptionData("Hash set",
@@ -13738,6 +14588,12 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		
 		false),
 		
+		new OptionData("Chunked bit-vector",
+		"chunked",
+		"\nChunked keeps an explicit list of up to 16 elements, like \nHybrid, 		and then switches to a sparse bit-vector made of \nchunks of 1024 bits, of which 		only those holding elements are \nallocated. Its size thus depends on the objects 		in the set \nrather than on the number of objects in the program. 		",
+		
+		false),
+		
 		new OptionData("Double",
 		"double",
 		"\nDouble is an implementation that itself uses \na pair of sets for each points-to set. The \nfirst set in the pair stores new pointed-to \nobjects that have not yet been propagated, while the second set \nstores old pointed-to objects that have been \npropagated and need not be reconsidered. This \nallows the propagation algorithms to be incremental, \noften speeding them up significantly. ",
@@ -13798,6 +14654,12 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		
 		false),
 		
+		new OptionData("Chunked bit-vector",
+		"chunked",
+		"\nChunked keeps an explicit list of up to 16 elements, like \nHybrid, 		and then switches to a sparse bit-vector made of \nchunks of 1024 bits, of which 		only those holding elements are \nallocated. Its size thus depends on the objects 		in the set \nrather than on the number of objects in the program. 		",
+		
+		false),
+		
 		};
 		
 										
@@ -13852,6 +14714,12 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		
 		false),
 		
+		new OptionData("Chunked bit-vector",
+		"chunked",
+		"\nChunked keeps an explicit list of up to 16 elements, like \nHybrid, 		and then switches to a sparse bit-vector made of \nchunks of 1024 bits, of which 		only those holding elements are \nallocated. Its size thus depends on the objects 		in the set \nrather than on the number of objects in the program. 		",
+		
+		false),
+		
 		};
 		
 										
@@ -13867,6 +14735,21 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		}
 		
 		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"propagator-threads";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "0";
+			
+		}
+
+		setcgcg_sparkpropagator_threads_widget(new StringOptionWidget(editGroupcgSpark_Points_To_Set_Flowing_Options, SWT.NONE, new OptionData("Propagator Threads",  "p", "cg.spark","propagator-threads", "\nNumber of worker threads used when the \npropagator is parallel-worklist. A value of 0 or \nless uses one thread per available processor. \nThis option has no effect with the other propagators. \n", defaultString)));
+		
 
 		
 		return editGroupcgSpark_Points_To_Set_Flowing_Options;
@@ -14041,6 +14924,126 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		setcgcg_sparkset_mass_widget(new BooleanOptionWidget(editGroupcgSpark_Output_Options, SWT.NONE, new OptionData("Calculate Set Mass", "p", "cg.spark","set-mass", "\nWhen this option is set to true, Spark computes \nand prints various cryptic statistics about the \nsize of the points-to sets computed. ", defaultBool)));
 		
 		
+		
+		data = new OptionData [] {
+		
+		new OptionData("Text",
+		"text",
+		"\nThe PAG and solution are dumped to the files \npag and solution as text, in the format \ndescribed under Dump PAG, Topological Sort, \nDump Types and Class Method Var. The whole graph is numbered in \nmemory before it is written. ",
+		
+		true),
+		
+		new OptionData("Binary",
+		"binary",
+		"\nThe PAG and solution are streamed to the \nfiles pag.bin and solution.bin in the binary \nformat described in PAGExporter: tables of \nnodes stored column by column, and rows of edges and points-to \nsets stored as variable-length deltas between \nnode numbers. They are written through a fixed \nbuffer as the nodes are visited, so dumping \ntakes little memory beyond the graph itself. Topological Sort, \nDump Types and Class Method Var have no effect \non this format. ",
+		
+		false),
+		
+		};
+		
+										
+		setcgcg_sparkdump_format_widget(new MultiOptionWidget(editGroupcgSpark_Output_Options, SWT.NONE, data, new OptionData("Dump Format", "p", "cg.spark","dump-format", "\nSelects the format written by the Dump PAG and \nDump Solution options. ")));
+		
+		defKey = "p"+" "+"cg.spark"+" "+"dump-format";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);
+		
+			getcgcg_sparkdump_format_widget().setDef(defaultString);
+		}
+		
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"telemetry-file";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "";
+			
+		}
+
+		setcgcg_sparktelemetry_file_widget(new StringOptionWidget(editGroupcgSpark_Output_Options, SWT.NONE, new OptionData("Telemetry File",  "p", "cg.spark","telemetry-file", "\nWhen this option is set, Spark periodically \nwrites statistics about the solver to the given \nfile: worklist size, propagations per second, \nheap in use, and the numbers of nodes, context nodes, method \ncontexts and call graph edges. Histograms of \npoints-to set sizes are written at the end of \neach phase to a file with the suffix .hist, and the number of \ncontexts of each method is written at the end to a \nfile with the suffix .methods. If the file name \nends in .json, the files are written as one JSON \nobject per line; otherwise they are written as CSV. \n", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"telemetry-interval";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "30";
+			
+		}
+
+		setcgcg_sparktelemetry_interval_widget(new StringOptionWidget(editGroupcgSpark_Output_Options, SWT.NONE, new OptionData("Telemetry Interval",  "p", "cg.spark","telemetry-interval", "\nThe number of seconds between two samples of \nsolver statistics written to the telemetry file. \n", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"snapshot-out";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "";
+			
+		}
+
+		setcgcg_sparksnapshot_out_widget(new StringOptionWidget(editGroupcgSpark_Output_Options, SWT.NONE, new OptionData("Save Snapshot",  "p", "cg.spark","snapshot-out", "\nWhen this option is set, Spark writes a binary \nsnapshot of the solved pointer assignment graph \nto the given file: its nodes and their numbers, \nthe points-to sets of variables and of fields of objects, the \ncontext universe and the context-sensitive call \ngraph. The snapshot can be loaded by a later run \nwith snapshot-in. ", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"snapshot-in";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "";
+			
+		}
+
+		setcgcg_sparksnapshot_in_widget(new StringOptionWidget(editGroupcgSpark_Output_Options, SWT.NONE, new OptionData("Load Snapshot",  "p", "cg.spark","snapshot-in", "\nWhen this option is set, Spark does not build \nor solve the pointer assignment graph. Instead, \nit memory-maps a snapshot written with \nsnapshot-out and answers points-to queries and the call graph \nfrom it. The snapshot must have been written for \nthe same program and class path. ", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"incremental-snapshot";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "";
+			
+		}
+
+		setcgcg_sparkincremental_snapshot_widget(new StringOptionWidget(editGroupcgSpark_Output_Options, SWT.NONE, new OptionData("Incremental Snapshot",  "p", "cg.spark","incremental-snapshot", "\nWhen this option is set, Spark builds and \nsolves the pointer assignment graph as usual, \nbut first seeds it with the points-to facts of a snapshot, \nwritten with snapshot-out by a run with the same Spark \noptions, that do not depend on the methods \nlisted in incremental-changed-file. Only the \nfacts that depend on the changed methods are then recomputed, \nand the solution is the same as that of a full \nrun. Facts are not reused if the options differ, \nor if a context budget or selective contexts are used. \n", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"incremental-changed-file";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "";
+			
+		}
+
+		setcgcg_sparkincremental_changed_file_widget(new StringOptionWidget(editGroupcgSpark_Output_Options, SWT.NONE, new OptionData("Incremental Changed Methods",  "p", "cg.spark","incremental-changed-file", "\nThe file lists the signatures of the methods \nwhose bodies changed since the snapshot given \nwith incremental-snapshot was written, one per line. \nEvery changed method must be listed; changes to the class \nhierarchy require a full run. ", defaultString)));
+		
 
 		
 		return editGroupcgSpark_Output_Options;
@@ -14133,6 +15136,21 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 
 		setcgcg_sparkpasses_widget(new StringOptionWidget(editGroupcgContext_sensitive_refinement, SWT.NONE, new OptionData("Maximal number of passes",  "p", "cg.spark","passes", "\nPerform at most this number of refinement \niterations. Each iteration traverses at most ( \ntraverse / passes ) nodes. ", defaultString)));
 		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"demand-memo";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "0";
+			
+		}
+
+		setcgcg_sparkdemand_memo_widget(new StringOptionWidget(editGroupcgContext_sensitive_refinement, SWT.NONE, new OptionData("Memoized locals",  "p", "cg.spark","demand-memo", "\nWhen this option is greater than 0, queries are \nanswered by a query service that keeps the \nrefined points-to sets of at most this number of locals, \ndropping the least recently used ones first, instead of \nthe unbounded cache of the analysis. Locals \nwhose refinement ran out of budget are remembered too. \n", defaultString)));
+		
 
 		
 		return editGroupcgContext_sensitive_refinement;
@@ -14278,6 +15296,21 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		
 		
 		
+		defKey = "p"+" "+"cg.spark"+" "+"geom-threads";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "1";
+			
+		}
+
+		setcgcg_sparkgeom_threads_widget(new StringOptionWidget(editGroupcgGeometric_context_sensitive_analysis_from_ISSTA_2011, SWT.NONE, new OptionData("Solver threads",  "p", "cg.spark","geom-threads", "\n		With 1 thread, the pointers are propagated one at a time in \nworklist order. With more threads, the pointers taken from the \nworklist together are split into waves of pointers that update \ndisjoint sets of pointers, and each wave is propagated on a pool \nof threads. The waves depend only on the worklist, so the result \nis the same for any number of threads above 1, but it may differ \nslightly from the single-threaded result, since figures are \nmerged in a different order. A value of 0 or less uses one \nthread per available processor. 	 ", defaultString)));
+		
+		
 		defKey = "p"+" "+"cg.spark"+" "+"geom-dump-verbose";
 		defKey = defKey.trim();
 		
@@ -14431,6 +15464,22 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		
 		
 		
+		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-selective";
+		defKey = defKey.trim();
+
+		if (isInDefList(defKey)) {
+			defaultBool = getBoolDef(defKey);	
+		}
+		else {
+			
+			defaultBool = false;
+			
+		}
+
+		setcgcg_sparkkobjsens_selective_widget(new BooleanOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("Selective object sensitivity", "p", "cg.spark","kobjsens-selective", "\nRun a context-insensitive pre-analysis first, and use its \npoints-to sets to decide which allocation sites \nget heap context. Sites whose objects are pointed to by many \nvariables or whose fields point to many objects \nget no heap context, and sites allocated in methods that are \ncalled often on many receivers get heap context of \ndepth 1. All other sites get the full depth. ", defaultBool)));
+		
+		
+		
 		defKey = "p"+" "+"cg.spark"+" "+"kobjsens";
 		defKey = defKey.trim();
 		
@@ -14446,6 +15495,36 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 		setcgcg_sparkkobjsens_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("k object sensitivity",  "p", "cg.spark","kobjsens", "\nRun object sensitivity with k. 0 will run with \ncontext-insensitivitiy.", defaultString)));
 		
 		
+		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-api-calldepth";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "-1";
+			
+		}
+
+		setcgcg_sparkkobjsens_api_calldepth_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("API call graph depth",  "p", "cg.spark","kobjsens-api-calldepth", "\nDepth to traverse call graph edges in API from app. -1 means \nfollow all API edges. 0 is don't taverse into API. 1 mean \nfollow one edge into api and stop, etc.", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-app-classes-list";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "";
+			
+		}
+
+		setcgcg_sparkkobjsens_app_classes_list_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("List of application classes (versus API / Library / Framework classes).",  "p", "cg.spark","kobjsens-app-classes-list", "\nArgument is comma separated list of classes that are the \nimplementation of the Android app. 	 ", defaultString)));
+		
+		
 		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-no-context-list";
 		defKey = defKey.trim();
 		
@@ -14475,6 +15554,126 @@ Composite dbdb_force_recompileChild = dbdb_force_recompileCreate(getPageContaine
 
 		setcgcg_sparkkobjsens_limit_heap_context_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("Limit Heap Context",  "p", "cg.spark","kobjsens-limit-heap-context", "\nLimit heap context to depth 1 for objects of types given in \ncomma separated list of classes. 	 ", defaultString)));
 		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-depth-policy";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "";
+			
+		}
+
+		setcgcg_sparkkobjsens_depth_policy_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("Context depth policy",  "p", "cg.spark","kobjsens-depth-policy", "\nComma separated list of pattern=depth rules that override k. A \npattern is a class (a.b.C), the classes of a \npackage (a.b.*), the classes of a package and its subpackages \n(a.b.**), or an allocation site given by the \nhashcode of its new expression (new:1234). Objects get the heap \ncontext depth of the rule for their allocation \nsite or type; methods get the context depth of the rule for \ntheir declaring class, and their receiver contexts are \ntruncated to it. 	 ", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-depth-policy-file";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "";
+			
+		}
+
+		setcgcg_sparkkobjsens_depth_policy_file_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("Context depth policy file",  "p", "cg.spark","kobjsens-depth-policy-file", "\nFile with one rule per line, in the format of \nkobjsens-depth-policy, with the pattern and the \ndepth separated by = or a space, and # starting a comment. Rules \nfrom kobjsens-depth-policy override rules for the \nsame pattern in the file. 	 ", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-selective-field-pts";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "100";
+			
+		}
+
+		setcgcg_sparkkobjsens_selective_field_pts_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("Selective field points-to threshold",  "p", "cg.spark","kobjsens-selective-field-pts", "\nWith kobjsens-selective, an allocation site gets no heap context \nif the sum of the sizes of the points-to sets of \nits fields in the pre-analysis exceeds this value.", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-selective-pointed-by";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "200";
+			
+		}
+
+		setcgcg_sparkkobjsens_selective_pointed_by_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("Selective pointed-by threshold",  "p", "cg.spark","kobjsens-selective-pointed-by", "\nWith kobjsens-selective, an allocation site gets no heap context \nif more variables than this point to it in the \npre-analysis.", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-selective-method-cost";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "5000";
+			
+		}
+
+		setcgcg_sparkkobjsens_selective_method_cost_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("Selective method cost threshold",  "p", "cg.spark","kobjsens-selective-method-cost", "\nWith kobjsens-selective, the cost of an instance method is the \nnumber of call edges into it times the size of the \npoints-to set of its this variable in the pre-analysis. \nAllocation sites in methods whose cost exceeds \nthis value get heap context of depth 1.", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-budget-nodes";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "0";
+			
+		}
+
+		setcgcg_sparkkobjsens_budget_nodes_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("Budget of object sensitive nodes",  "p", "cg.spark","kobjsens-budget-nodes", "\nWhen the number of object sensitive allocation nodes exceeds \nthis value during propagation, the allocation \nsites with the most heap objects have the depth of their heap \ncontext lowered by one, or lose their heap context \nwhen it is already 1, and propagation continues. Sites are \ndegraded again each time the analysis grows by \nanother tenth of its budget. The result stays sound but is less \nprecise. Only the worklist and parallel-worklist \npropagators check the budget. 0 means no limit.", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-budget-method-contexts";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "0";
+			
+		}
+
+		setcgcg_sparkkobjsens_budget_method_contexts_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("Budget of method contexts",  "p", "cg.spark","kobjsens-budget-method-contexts", "\nAs kobjsens-budget-nodes, for the number of methods with \ncontexts. Method contexts are created for receiver \nobjects, so degrading the heap context of the sites of these \nobjects bounds the number of new method contexts. \n0 means no limit.", defaultString)));
+		
+		
+		defKey = "p"+" "+"cg.spark"+" "+"kobjsens-budget-heap";
+		defKey = defKey.trim();
+		
+		if (isInDefList(defKey)) {
+			defaultString = getStringDef(defKey);	
+		}
+		else {
+			
+			defaultString = "0";
+			
+		}
+
+		setcgcg_sparkkobjsens_budget_heap_widget(new StringOptionWidget(editGroupcgObject_Sensitivity, SWT.NONE, new OptionData("Heap watermark",  "p", "cg.spark","kobjsens-budget-heap", "\nAs kobjsens-budget-nodes, for the percentage of the maximum Java \nheap in use. 0 means no limit.", defaultString)));
+		
 
 		
 		return editGroupcgObject_Sensitivity;
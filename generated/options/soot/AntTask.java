@@ -176,6 +176,20 @@ public class AntTask extends MatchingTask {
             if(arg) addArg("-debug-resolver");
         }
   
+        public void setnum_threads(String arg) {
+            addArg("-num-threads");
+            addArg(arg);
+        }
+  
+        public void setrelease_bodies(boolean arg) {
+            if(arg) addArg("-release-bodies");
+        }
+  
+        public void setresident_bodies(String arg) {
+            addArg("-resident-bodies");
+            addArg(arg);
+        }
+  
         public void setsoot_classpath(String arg) {
             addArg("-soot-classpath");
             addArg(arg);
@@ -258,6 +272,16 @@ public class AntTask extends MatchingTask {
             if(arg) addArg("-polyglot");
         }
   
+        public void setbody_cache(String arg) {
+            addArg("-body-cache");
+            addArg(arg);
+        }
+  
+        public void setclass_path_index(String arg) {
+            addArg("-class-path-index");
+            addArg(arg);
+        }
+  
         public void setoutput_dir(String arg) {
             addArg("-output-dir");
             addArg(arg);
@@ -1277,6 +1301,12 @@ public class AntTask extends MatchingTask {
             addArg("on-fly-cg:"+(arg?"true":"false"));
           }
       
+          public void setcompact_cg(boolean arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("compact-cg:"+(arg?"true":"false"));
+          }
+      
           public void setsimplify_offline(boolean arg) {
             addArg("-p");
             addArg("cg.spark");
@@ -1295,6 +1325,18 @@ public class AntTask extends MatchingTask {
             addArg("ignore-types-for-sccs:"+(arg?"true":"false"));
           }
       
+          public void setonline_cycles(boolean arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("online-cycles:"+(arg?"true":"false"));
+          }
+      
+          public void setset_pool(boolean arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("set-pool:"+(arg?"true":"false"));
+          }
+      
           public void setdump_html(boolean arg) {
             addArg("-p");
             addArg("cg.spark");
@@ -1397,12 +1439,30 @@ public class AntTask extends MatchingTask {
             addArg("kobjsens-extra-array-context:"+(arg?"true":"false"));
           }
       
+          public void setkobjsens_selective(boolean arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("kobjsens-selective:"+(arg?"true":"false"));
+          }
+      
           public void setpropagator(String arg) {
             addArg("-p");
             addArg("cg.spark");
             addArg("propagator:"+arg);
           }
       
+          public void setpropagator_threads(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("propagator-threads:"+arg);
+          }
+      
+          public void setworklist_policy(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("worklist-policy:"+arg);
+          }
+      
           public void setset_impl(String arg) {
             addArg("-p");
             addArg("cg.spark");
@@ -1421,6 +1481,48 @@ public class AntTask extends MatchingTask {
             addArg("double-set-new:"+arg);
           }
       
+          public void setdump_format(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("dump-format:"+arg);
+          }
+      
+          public void settelemetry_file(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("telemetry-file:"+arg);
+          }
+      
+          public void settelemetry_interval(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("telemetry-interval:"+arg);
+          }
+      
+          public void setsnapshot_out(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("snapshot-out:"+arg);
+          }
+      
+          public void setsnapshot_in(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("snapshot-in:"+arg);
+          }
+      
+          public void setincremental_snapshot(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("incremental-snapshot:"+arg);
+          }
+      
+          public void setincremental_changed_file(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("incremental-changed-file:"+arg);
+          }
+      
           public void settraversal(String arg) {
             addArg("-p");
             addArg("cg.spark");
@@ -1433,6 +1535,12 @@ public class AntTask extends MatchingTask {
             addArg("passes:"+arg);
           }
       
+          public void setdemand_memo(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("demand-memo:"+arg);
+          }
+      
           public void setgeom_encoding(String arg) {
             addArg("-p");
             addArg("cg.spark");
@@ -1445,6 +1553,12 @@ public class AntTask extends MatchingTask {
             addArg("geom-worklist:"+arg);
           }
       
+          public void setgeom_threads(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("geom-threads:"+arg);
+          }
+      
           public void setgeom_dump_verbose(String arg) {
             addArg("-p");
             addArg("cg.spark");
@@ -1481,6 +1595,18 @@ public class AntTask extends MatchingTask {
             addArg("kobjsens:"+arg);
           }
       
+          public void setkobjsens_api_calldepth(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("kobjsens-api-calldepth:"+arg);
+          }
+      
+          public void setkobjsens_app_classes_list(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("kobjsens-app-classes-list:"+arg);
+          }
+      
           public void setkobjsens_no_context_list(String arg) {
             addArg("-p");
             addArg("cg.spark");
@@ -1493,6 +1619,54 @@ public class AntTask extends MatchingTask {
             addArg("kobjsens-limit-heap-context:"+arg);
           }
       
+          public void setkobjsens_depth_policy(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("kobjsens-depth-policy:"+arg);
+          }
+      
+          public void setkobjsens_depth_policy_file(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("kobjsens-depth-policy-file:"+arg);
+          }
+      
+          public void setkobjsens_selective_field_pts(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("kobjsens-selective-field-pts:"+arg);
+          }
+      
+          public void setkobjsens_selective_pointed_by(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("kobjsens-selective-pointed-by:"+arg);
+          }
+      
+          public void setkobjsens_selective_method_cost(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("kobjsens-selective-method-cost:"+arg);
+          }
+      
+          public void setkobjsens_budget_nodes(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("kobjsens-budget-nodes:"+arg);
+          }
+      
+          public void setkobjsens_budget_method_contexts(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("kobjsens-budget-method-contexts:"+arg);
+          }
+      
+          public void setkobjsens_budget_heap(String arg) {
+            addArg("-p");
+            addArg("cg.spark");
+            addArg("kobjsens-budget-heap:"+arg);
+          }
+      
         }
     
         public Object createp_cg_paddle() {
@@ -186,6 +186,45 @@ public class Options extends OptionsBase {
             )
                 debug_resolver = true;
   
+            else if( false
+            || option.equals( "num-threads" )
+            ) {
+                if( !hasMoreOptions() ) {
+                    G.v().out.println( "No value given for option -"+option );
+                    return false;
+                }
+                String value = nextOption();
+    
+                try {
+                    num_threads = Integer.parseInt( value );
+                } catch( NumberFormatException e ) {
+                    G.v().out.println( "Invalid integer "+value+" for option -"+option );
+                    return false;
+                }
+            }
+  
+            else if( false 
+            || option.equals( "release-bodies" )
+            )
+                release_bodies = true;
+  
+            else if( false
+            || option.equals( "resident-bodies" )
+            ) {
+                if( !hasMoreOptions() ) {
+                    G.v().out.println( "No value given for option -"+option );
+                    return false;
+                }
+                String value = nextOption();
+    
+                try {
+                    resident_bodies = Integer.parseInt( value );
+                } catch( NumberFormatException e ) {
+                    G.v().out.println( "Invalid integer "+value+" for option -"+option );
+                    return false;
+                }
+            }
+  
             else if( false
             || option.equals( "cp" )
             || option.equals( "soot-class-path" )
@@ -388,6 +427,40 @@ public class Options extends OptionsBase {
             )
                 polyglot = true;
   
+            else if( false
+            || option.equals( "body-cache" )
+            ) {
+                if( !hasMoreOptions() ) {
+                    G.v().out.println( "No value given for option -"+option );
+                    return false;
+                }
+                String value = nextOption();
+    
+                if( body_cache.length() == 0 )
+                    body_cache = value;
+                else {
+                    G.v().out.println( "Duplicate values "+body_cache+" and "+value+" for option -"+option );
+                    return false;
+                }
+            }
+  
+            else if( false
+            || option.equals( "class-path-index" )
+            ) {
+                if( !hasMoreOptions() ) {
+                    G.v().out.println( "No value given for option -"+option );
+                    return false;
+                }
+                String value = nextOption();
+    
+                if( class_path_index.length() == 0 )
+                    class_path_index = value;
+                else {
+                    G.v().out.println( "Duplicate values "+class_path_index+" and "+value+" for option -"+option );
+                    return false;
+                }
+            }
+  
             else if( false
             || option.equals( "d" )
             || option.equals( "output-dir" )
@@ -1156,6 +1229,16 @@ public class Options extends OptionsBase {
     private boolean debug_resolver = false;
     public void set_debug_resolver( boolean setting ) { debug_resolver = setting; }
   
+    public int num_threads() { return num_threads; }
+    public void set_num_threads( int setting ) { num_threads = setting; }
+    private int num_threads = 1;
+    public boolean release_bodies() { return release_bodies; }
+    private boolean release_bodies = false;
+    public void set_release_bodies( boolean setting ) { release_bodies = setting; }
+  
+    public int resident_bodies() { return resident_bodies; }
+    public void set_resident_bodies( int setting ) { resident_bodies = setting; }
+    private int resident_bodies = 1000;
     public String soot_classpath() { return soot_classpath; }
     public void set_soot_classpath( String setting ) { soot_classpath = setting; }
     private String soot_classpath = "";
@@ -1214,6 +1297,12 @@ public class Options extends OptionsBase {
     private boolean polyglot = false;
     public void set_polyglot( boolean setting ) { polyglot = setting; }
   
+    public String body_cache() { return body_cache; }
+    public void set_body_cache( String setting ) { body_cache = setting; }
+    private String body_cache = "";
+    public String class_path_index() { return class_path_index; }
+    public void set_class_path_index( String setting ) { class_path_index = setting; }
+    private String class_path_index = "";
     public String output_dir() { return output_dir; }
     public void set_output_dir( String setting ) { output_dir = setting; }
     private String output_dir = "";
@@ -1392,6 +1481,9 @@ public class Options extends OptionsBase {
 +padOpt(" -validate", "Run internal validation on bodies" )
 +padOpt(" -debug", "Print various Soot debugging info" )
 +padOpt(" -debug-resolver", "Print debugging info from SootResolver" )
++padOpt(" -num-threads NUM", "Use NUM threads to build and transform method bodies" )
++padOpt(" -release-bodies", "Release method bodies once the points-to analysis and call graph are released" )
++padOpt(" -resident-bodies NUM", "Keep the last NUM released bodies in memory" )
 +"\nInput Options:\n"
       
 +padOpt(" -cp PATH -soot-class-path PATH -soot-classpath PATH", "Use PATH as the classpath for finding classes." )
@@ -1413,6 +1505,8 @@ public class Options extends OptionsBase {
 +padOpt(" -j2me", "Use J2ME mode; changes assignment of types" )
 +padOpt(" -main-class CLASS", "Sets the main class for whole-program analysis." )
 +padOpt(" -polyglot", "Use Java 1.4 Polyglot frontend instead of JastAdd" )
++padOpt(" -body-cache DIR", "Cache Jimple bodies built from class files in DIR" )
++padOpt(" -class-path-index FILE", "Save the index of the archives on the class path in FILE" )
 +"\nOutput Options:\n"
       
 +padOpt(" -d DIR -output-dir DIR", "Store output files in DIR" )
@@ -1838,14 +1932,18 @@ public class Options extends OptionsBase {
                 +padOpt( "empties-as-allocs (false)", "Treat singletons for empty sets etc. as allocation sites" )
                 +padOpt( "simple-edges-bidirectional (false)", "Equality-based analysis between variable nodes" )
                 +padOpt( "on-fly-cg (true)", "Build call graph as receiver types become known" )
+                +padOpt( "compact-cg (false)", "Store the call graph edges in int arrays" )
                 +padOpt( "simplify-offline (false)", "Collapse single-entry subgraphs of the PAG" )
                 +padOpt( "simplify-sccs (false)", "Collapse strongly-connected components of the PAG" )
                 +padOpt( "ignore-types-for-sccs (false)", "Ignore declared types when determining node equivalence for SCCs" )
+                +padOpt( "online-cycles (false)", "Collapse cycles of variables during propagation" )
                 +padOpt( "propagator", "Select propagation algorithm" )
                 +padVal( "iter", "Simple iterative algorithm" )
                 
                 +padVal( "worklist (default)", "Fast, worklist-based algorithm" )
                 
+                +padVal( "parallel-worklist", "Worklist-based algorithm that propagates on a thread pool" )
+                
                 +padVal( "cycle", "Unfinished on-the-fly cycle detection algorithm" )
                 
                 +padVal( "merge", "Unfinished field reference merging algorithms" )
@@ -1854,6 +1952,16 @@ public class Options extends OptionsBase {
                 
                 +padVal( "none", "Disable propagation" )
                 
+                +padOpt( "propagator-threads (0)", "Number of threads used by the parallel worklist propagator" )
+                +padOpt( "worklist-policy", "Order in which the worklist propagator processes variables" )
+                +padVal( "topo (default)", "Process variables in topological order" )
+                
+                +padVal( "topo-lazy", "Topological order, re-sorted as the call graph grows" )
+                
+                +padVal( "lrf", "Process the variable that was processed least recently" )
+                
+                +padVal( "two-phase", "Process in rounds, each in topological order" )
+                
                 +padOpt( "set-impl", "Select points-to set implementation" )
                 +padVal( "hash", "Use Java HashSet" )
                 
@@ -1867,6 +1975,8 @@ public class Options extends OptionsBase {
                 
                 +padVal( "sharedlist", "Shared list representation" )
                 
+                +padVal( "chunked", "Hybrid representation using a sparse chunked bit vector for large sets" )
+                
                 +padVal( "double (default)", "Double set representation for incremental propagation" )
                 
                 +padOpt( "double-set-old", "Select implementation of points-to set for old part of double set" )
@@ -1882,6 +1992,8 @@ public class Options extends OptionsBase {
                 
                 +padVal( "sharedlist", "Shared list representation" )
                 
+                +padVal( "chunked", "Hybrid representation using a sparse chunked bit vector for large sets" )
+                
                 +padOpt( "double-set-new", "Select implementation of points-to set for new part of double set" )
                 +padVal( "hash", "Use Java HashSet" )
                 
@@ -1895,19 +2007,34 @@ public class Options extends OptionsBase {
                 
                 +padVal( "sharedlist", "Shared list representation" )
                 
+                +padVal( "chunked", "Hybrid representation using a sparse chunked bit vector for large sets" )
+                
+                +padOpt( "set-pool (false)", "Share equal old sets of double sets" )
                 +padOpt( "dump-html (false)", "Dump pointer assignment graph to HTML for debugging" )
                 +padOpt( "dump-pag (false)", "Dump pointer assignment graph for other solvers" )
                 +padOpt( "dump-solution (false)", "Dump final solution for comparison with other solvers" )
                 +padOpt( "topo-sort (false)", "Sort variable nodes in dump" )
                 +padOpt( "dump-types (true)", "Include declared types in dump" )
                 +padOpt( "class-method-var (true)", "In dump, label variables by class and method" )
+                +padOpt( "dump-format", "Format of the PAG and solution dumps" )
+                +padVal( "text (default)", "Dump as text" )
+                
+                +padVal( "binary", "Stream a compact binary dump" )
+                
                 +padOpt( "dump-answer (false)", "Dump computed reaching types for comparison with other solvers" )
                 +padOpt( "add-tags (false)", "Output points-to results in tags for viewing with the Jimple" )
                 +padOpt( "set-mass (false)", "Calculate statistics about points-to set sizes" )
+                +padOpt( "telemetry-file ()", "Write periodic solver statistics to this file" )
+                +padOpt( "telemetry-interval (30)", "Seconds between two solver statistics samples" )
+                +padOpt( "snapshot-out ()", "Save the solved PAG and call graph to this file" )
+                +padOpt( "snapshot-in ()", "Load the PAG and call graph from a snapshot instead of solving" )
+                +padOpt( "incremental-snapshot ()", "Reuse the solution of a snapshot for the methods that did not change" )
+                +padOpt( "incremental-changed-file ()", "File listing the signatures of the methods changed since the snapshot" )
                 +padOpt( "cs-demand (false)", "After running Spark, refine points-to sets on demand with context information" )
                 +padOpt( "lazy-pts (true)", "Create lazy points-to sets that create context information only when needed." )
                 +padOpt( "traversal (75000)", "Make the analysis traverse at most this number of nodes per query." )
                 +padOpt( "passes (10)", "Perform at most this number of refinement iterations." )
+                +padOpt( "demand-memo (0)", "Keep the refined points-to sets of at most this number of locals." )
                 +padOpt( "geom-pta (false)", "This switch enables/disables the geometric analysis." )
                 +padOpt( "geom-encoding (Geom)", "Encoding methodology" )
                 +padVal( "Geom (default)", "Geometric Encoding" )
@@ -1921,6 +2048,7 @@ public class Options extends OptionsBase {
                 
                 +padVal( "FIFO", "FIFO Queue" )
                 
+                +padOpt( "geom-threads (1)", "Number of threads used to solve the geometric constraints" )
                 +padOpt( "geom-dump-verbose ()", "Filename for detailed execution log" )
                 +padOpt( "geom-verify-name ()", "Filename for verification file" )
                 +padOpt( "geom-eval (0)", "Precision evaluation methodologies" )
@@ -1929,11 +2057,22 @@ public class Options extends OptionsBase {
                 +padOpt( "geom-blocking (true)", "Enable blocking strategy for recursive calls" )
                 +padOpt( "geom-runs (1)", "Iterations of analysis" )
                 +padOpt( "kobjsens (0)", "Run object sensitivity with k." )
+                +padOpt( "kobjsens-api-calldepth (-1)", "Depth to traverse call graph edges in API from app." )
                 +padOpt( "kobjsens-context-for-static-inits (false)", "Keep a special context for static initializer methods." )
                 +padOpt( "kobjsens-types-for-context (false)", "Use types instead of allocation sites for context for context depth > 1." )
                 +padOpt( "kobjsens-extra-array-context (false)", "For array allocations add one extra depth for context string." )
+                +padOpt( "kobjsens-app-classes-list ()", "List of application classes." )
                 +padOpt( "kobjsens-no-context-list ()", "Do not keep method context for types in this list." )
-                +padOpt( "kobjsens-limit-heap-context ()", "Limit heap context for objects of types passed." );
+                +padOpt( "kobjsens-limit-heap-context ()", "Limit heap context for objects of types passed." )
+                +padOpt( "kobjsens-depth-policy ()", "Per type and per allocation site context depths." )
+                +padOpt( "kobjsens-depth-policy-file ()", "File of per type and per allocation site context depths." )
+                +padOpt( "kobjsens-selective (false)", "Choose the allocation sites that get heap context with a context-insensitive pre-analysis." )
+                +padOpt( "kobjsens-selective-field-pts (100)", "No heap context for sites whose fields point to more objects than this." )
+                +padOpt( "kobjsens-selective-pointed-by (200)", "No heap context for sites pointed to by more variables than this." )
+                +padOpt( "kobjsens-selective-method-cost (5000)", "Heap context of depth 1 for sites in methods costlier than this." )
+                +padOpt( "kobjsens-budget-nodes (0)", "Degrade heap context when more object sensitive nodes than this exist (0 is no limit)." )
+                +padOpt( "kobjsens-budget-method-contexts (0)", "Degrade heap context when more method contexts than this exist (0 is no limit)." )
+                +padOpt( "kobjsens-budget-heap (0)", "Degrade heap context when more than this percentage of the heap is in use (0 is no limit)." );
     
         if( phaseName.equals( "cg.paddle" ) )
             return "Phase "+phaseName+":\n"+
@@ -2791,29 +2930,43 @@ public class Options extends OptionsBase {
                 +"empties-as-allocs "
                 +"simple-edges-bidirectional "
                 +"on-fly-cg "
+                +"compact-cg "
                 +"simplify-offline "
                 +"simplify-sccs "
                 +"ignore-types-for-sccs "
+                +"online-cycles "
                 +"propagator "
+                +"propagator-threads "
+                +"worklist-policy "
                 +"set-impl "
                 +"double-set-old "
                 +"double-set-new "
+                +"set-pool "
                 +"dump-html "
                 +"dump-pag "
                 +"dump-solution "
                 +"topo-sort "
                 +"dump-types "
                 +"class-method-var "
+                +"dump-format "
                 +"dump-answer "
                 +"add-tags "
                 +"set-mass "
+                +"telemetry-file "
+                +"telemetry-interval "
+                +"snapshot-out "
+                +"snapshot-in "
+                +"incremental-snapshot "
+                +"incremental-changed-file "
                 +"cs-demand "
                 +"lazy-pts "
                 +"traversal "
                 +"passes "
+                +"demand-memo "
                 +"geom-pta "
                 +"geom-encoding "
                 +"geom-worklist "
+                +"geom-threads "
                 +"geom-dump-verbose "
                 +"geom-verify-name "
                 +"geom-eval "
@@ -2822,11 +2975,22 @@ public class Options extends OptionsBase {
                 +"geom-blocking "
                 +"geom-runs "
                 +"kobjsens "
+                +"kobjsens-api-calldepth "
                 +"kobjsens-context-for-static-inits "
                 +"kobjsens-types-for-context "
                 +"kobjsens-extra-array-context "
+                +"kobjsens-app-classes-list "
                 +"kobjsens-no-context-list "
-                +"kobjsens-limit-heap-context ";
+                +"kobjsens-limit-heap-context "
+                +"kobjsens-depth-policy "
+                +"kobjsens-depth-policy-file "
+                +"kobjsens-selective "
+                +"kobjsens-selective-field-pts "
+                +"kobjsens-selective-pointed-by "
+                +"kobjsens-selective-method-cost "
+                +"kobjsens-budget-nodes "
+                +"kobjsens-budget-method-contexts "
+                +"kobjsens-budget-heap ";
     
         if( phaseName.equals( "cg.paddle" ) )
             return ""
@@ -3405,31 +3569,45 @@ public class Options extends OptionsBase {
               +"empties-as-allocs:false "
               +"simple-edges-bidirectional:false "
               +"on-fly-cg:true "
+              +"compact-cg:false "
               +"simplify-offline:false "
               +"simplify-sccs:false "
               +"ignore-types-for-sccs:false "
+              +"online-cycles:false "
               +"propagator:worklist "
+              +"propagator-threads:0 "
+              +"worklist-policy:topo "
               +"set-impl:double "
               +"double-set-old:hybrid "
               +"double-set-new:hybrid "
+              +"set-pool:false "
               +"dump-html:false "
               +"dump-pag:false "
               +"dump-solution:false "
               +"topo-sort:false "
               +"dump-types:true "
               +"class-method-var:true "
+              +"dump-format:text "
               +"dump-answer:false "
               +"add-tags:false "
               +"set-mass:false "
+              +"telemetry-file: "
+              +"telemetry-interval:30 "
+              +"snapshot-out: "
+              +"snapshot-in: "
+              +"incremental-snapshot: "
+              +"incremental-changed-file: "
               +"cs-demand:false "
               +"lazy-pts:true "
               +"traversal:75000 "
               +"passes:10 "
+              +"demand-memo:0 "
               +"geom-pta:false "
               +"geom-encoding:Geom "
               +"geom-encoding:Geom "
               +"geom-worklist:PQ "
               +"geom-worklist:PQ "
+              +"geom-threads:1 "
               +"geom-dump-verbose: "
               +"geom-verify-name: "
               +"geom-eval:0 "
@@ -3438,11 +3616,22 @@ public class Options extends OptionsBase {
               +"geom-blocking:true "
               +"geom-runs:1 "
               +"kobjsens:0 "
+              +"kobjsens-api-calldepth:-1 "
               +"kobjsens-context-for-static-inits:false "
               +"kobjsens-types-for-context:false "
               +"kobjsens-extra-array-context:false "
+              +"kobjsens-app-classes-list: "
               +"kobjsens-no-context-list: "
-              +"kobjsens-limit-heap-context: ";
+              +"kobjsens-limit-heap-context: "
+              +"kobjsens-depth-policy: "
+              +"kobjsens-depth-policy-file: "
+              +"kobjsens-selective:false "
+              +"kobjsens-selective-field-pts:100 "
+              +"kobjsens-selective-pointed-by:200 "
+              +"kobjsens-selective-method-cost:5000 "
+              +"kobjsens-budget-nodes:0 "
+              +"kobjsens-budget-method-contexts:0 "
+              +"kobjsens-budget-heap:0 ";
     
         if( phaseName.equals( "cg.paddle" ) )
             return ""
@@ -235,6 +235,22 @@ public class SparkOptions
         return soot.PhaseOptions.getBoolean( options, "on-fly-cg" );
     }
     
+    /** Compact Call Graph --
+    
+     * Store the call graph edges in int arrays.
+    
+     * When this option is set to true, the on-the-fly 
+     * call graph stores its edges column-wise in int 
+     * arrays, and only creates Edge objects when they 
+     * are iterated over. This uses much less memory for the large 
+     * context-sensitive call graphs of the object-sensitive 
+     * analysis, at the price of allocating edges on 
+     * every query. 
+     */
+    public boolean compact_cg() {
+        return soot.PhaseOptions.getBoolean( options, "compact-cg" );
+    }
+    
     /** Simplify Offline --
     
      * Collapse single-entry subgraphs of the PAG.
@@ -273,12 +289,57 @@ public class SparkOptions
      * When this option is set to false, only edges connecting nodes of 
      * the same type are considered when detecting 
      * SCCs. This option has no effect unless 
-     * simplify-sccs is true. 
+     * simplify-sccs or online-cycles is true. 
+     * 
      */
     public boolean ignore_types_for_sccs() {
         return soot.PhaseOptions.getBoolean( options, "ignore-types-for-sccs" );
     }
     
+    /** Online Cycles --
+    
+     * Collapse cycles of variables during propagation.
+    
+     * When this option is set to true, the worklist 
+     * propagator collapses cycles of variable nodes as 
+     * they appear during propagation, which finds the 
+     * cycles closed by call edges discovered on the fly, such as 
+     * those through parameters and return values, that 
+     * simplify-sccs cannot see. A cycle is looked for 
+     * the first time an edge propagates nothing new 
+     * between two nodes with sets of the same size. The 
+     * ignore-types-for-sccs option decides which edges may be part 
+     * of a cycle. This option has no effect with the 
+     * other propagators. 
+     */
+    public boolean online_cycles() {
+        return soot.PhaseOptions.getBoolean( options, "online-cycles" );
+    }
+    
+    /** Set Pool --
+    
+     * Share equal old sets of double sets.
+    
+     * When this option is set to true, the old parts 
+     * of double points-to sets are hash-consed in a 
+     * pool: all the nodes whose old sets have the same 
+     * type and elements hold a single, reference-counted copy, which 
+     * is copied when one of them flushes new elements 
+     * into it while others still hold it. This saves 
+     * memory when many nodes have equal sets, as the contexts 
+     * of a variable often do in an object-sensitive analysis. A 
+     * set that takes new elements stays out of the 
+     * pool, with its hash kept up to date, until it 
+     * stops changing at the end of a wave of propagation. The 
+     * numbers of sets and references in the pool, and the 
+     * elements and measured bytes saved, are printed 
+     * after propagation. This option has no effect 
+     * unless Set Implementation is set to double. 
+     */
+    public boolean set_pool() {
+        return soot.PhaseOptions.getBoolean( options, "set-pool" );
+    }
+    
     /** Dump HTML --
     
      * Dump pointer assignment graph to HTML for debugging.
@@ -509,6 +570,49 @@ public class SparkOptions
         return soot.PhaseOptions.getBoolean( options, "kobjsens-extra-array-context" );
     }
     
+    /** Selective object sensitivity --
+    
+     * Choose the allocation sites that get heap context with a 
+     * context-insensitive pre-analysis..
+    
+     * Run a context-insensitive pre-analysis first, and use its 
+     * points-to sets to decide which allocation sites 
+     * get heap context. Sites whose objects are pointed to by many 
+     * variables or whose fields point to many objects 
+     * get no heap context, and sites allocated in methods that are 
+     * called often on many receivers get heap context of 
+     * depth 1. All other sites get the full depth. 
+     */
+    public boolean kobjsens_selective() {
+        return soot.PhaseOptions.getBoolean( options, "kobjsens-selective" );
+    }
+    
+    /** Propagator Threads --
+    
+     * Number of threads used by the parallel worklist propagator.
+    
+     * Number of worker threads used when the 
+     * propagator is parallel-worklist. A value of 0 or 
+     * less uses one thread per available processor. 
+     * This option has no effect with the other propagators. 
+     * 
+     */
+    public int propagator_threads() {
+        return soot.PhaseOptions.getInt( options, "propagator-threads" );
+    }
+    
+    /** Telemetry Interval --
+    
+     * Seconds between two solver statistics samples.
+    
+     * The number of seconds between two samples of 
+     * solver statistics written to the telemetry file. 
+     * 
+     */
+    public int telemetry_interval() {
+        return soot.PhaseOptions.getInt( options, "telemetry-interval" );
+    }
+    
     /** Maximal traversal --
     
      * Make the analysis traverse at most this number of nodes per 
@@ -534,6 +638,41 @@ public class SparkOptions
         return soot.PhaseOptions.getInt( options, "passes" );
     }
     
+    /** Memoized locals --
+    
+     * Keep the refined points-to sets of at most this number of 
+     * locals..
+    
+     * When this option is greater than 0, queries are 
+     * answered by a query service that keeps the 
+     * refined points-to sets of at most this number of locals, 
+     * dropping the least recently used ones first, instead of 
+     * the unbounded cache of the analysis. Locals 
+     * whose refinement ran out of budget are remembered too. 
+     * 
+     */
+    public int demand_memo() {
+        return soot.PhaseOptions.getInt( options, "demand-memo" );
+    }
+    
+    /** Solver threads --
+    
+     * Number of threads used to solve the geometric constraints.
+    
+     * 		With 1 thread, the pointers are propagated one at a time in 
+     * worklist order. With more threads, the pointers taken from the 
+     * worklist together are split into waves of pointers that update 
+     * disjoint sets of pointers, and each wave is propagated on a pool 
+     * of threads. The waves depend only on the worklist, so the result 
+     * is the same for any number of threads above 1, but it may differ 
+     * slightly from the single-threaded result, since figures are 
+     * merged in a different order. A value of 0 or less uses one 
+     * thread per available processor. 	 
+     */
+    public int geom_threads() {
+        return soot.PhaseOptions.getInt( options, "geom-threads" );
+    }
+    
     /** Precision evaluation methodologies --
     
      * Precision evaluation methodologies.
@@ -584,6 +723,192 @@ public class SparkOptions
         return soot.PhaseOptions.getInt( options, "kobjsens" );
     }
     
+    /** API call graph depth --
+    
+     * Depth to traverse call graph edges in API from app..
+    
+     * Depth to traverse call graph edges in API from app. -1 means 
+     * follow all API edges. 0 is don't taverse into API. 1 mean 
+     * follow one edge into api and stop, etc.
+     */
+    public int kobjsens_api_calldepth() {
+        return soot.PhaseOptions.getInt( options, "kobjsens-api-calldepth" );
+    }
+    
+    /** Selective field points-to threshold --
+    
+     * No heap context for sites whose fields point to more objects 
+     * than this..
+    
+     * With kobjsens-selective, an allocation site gets no heap context 
+     * if the sum of the sizes of the points-to sets of 
+     * its fields in the pre-analysis exceeds this value.
+     */
+    public int kobjsens_selective_field_pts() {
+        return soot.PhaseOptions.getInt( options, "kobjsens-selective-field-pts" );
+    }
+    
+    /** Selective pointed-by threshold --
+    
+     * No heap context for sites pointed to by more variables than 
+     * this..
+    
+     * With kobjsens-selective, an allocation site gets no heap context 
+     * if more variables than this point to it in the 
+     * pre-analysis.
+     */
+    public int kobjsens_selective_pointed_by() {
+        return soot.PhaseOptions.getInt( options, "kobjsens-selective-pointed-by" );
+    }
+    
+    /** Selective method cost threshold --
+    
+     * Heap context of depth 1 for sites in methods costlier than this..
+    
+     * With kobjsens-selective, the cost of an instance method is the 
+     * number of call edges into it times the size of the 
+     * points-to set of its this variable in the pre-analysis. 
+     * Allocation sites in methods whose cost exceeds 
+     * this value get heap context of depth 1.
+     */
+    public int kobjsens_selective_method_cost() {
+        return soot.PhaseOptions.getInt( options, "kobjsens-selective-method-cost" );
+    }
+    
+    /** Budget of object sensitive nodes --
+    
+     * Degrade heap context when more object sensitive nodes than this 
+     * exist (0 is no limit)..
+    
+     * When the number of object sensitive allocation nodes exceeds 
+     * this value during propagation, the allocation 
+     * sites with the most heap objects have the depth of their heap 
+     * context lowered by one, or lose their heap context 
+     * when it is already 1, and propagation continues. Sites are 
+     * degraded again each time the analysis grows by 
+     * another tenth of its budget. The result stays sound but is less 
+     * precise. Only the worklist and parallel-worklist 
+     * propagators check the budget. 0 means no limit.
+     */
+    public int kobjsens_budget_nodes() {
+        return soot.PhaseOptions.getInt( options, "kobjsens-budget-nodes" );
+    }
+    
+    /** Budget of method contexts --
+    
+     * Degrade heap context when more method contexts than this exist 
+     * (0 is no limit)..
+    
+     * As kobjsens-budget-nodes, for the number of methods with 
+     * contexts. Method contexts are created for receiver 
+     * objects, so degrading the heap context of the sites of these 
+     * objects bounds the number of new method contexts. 
+     * 0 means no limit.
+     */
+    public int kobjsens_budget_method_contexts() {
+        return soot.PhaseOptions.getInt( options, "kobjsens-budget-method-contexts" );
+    }
+    
+    /** Heap watermark --
+    
+     * Degrade heap context when more than this percentage of the heap 
+     * is in use (0 is no limit)..
+    
+     * As kobjsens-budget-nodes, for the percentage of the maximum Java 
+     * heap in use. 0 means no limit.
+     */
+    public int kobjsens_budget_heap() {
+        return soot.PhaseOptions.getInt( options, "kobjsens-budget-heap" );
+    }
+    
+    /** Telemetry File --
+    
+     * Write periodic solver statistics to this file.
+    
+     * When this option is set, Spark periodically 
+     * writes statistics about the solver to the given 
+     * file: worklist size, propagations per second, 
+     * heap in use, and the numbers of nodes, context nodes, method 
+     * contexts and call graph edges. Histograms of 
+     * points-to set sizes are written at the end of 
+     * each phase to a file with the suffix .hist, and the number of 
+     * contexts of each method is written at the end to a 
+     * file with the suffix .methods. If the file name 
+     * ends in .json, the files are written as one JSON 
+     * object per line; otherwise they are written as CSV. 
+     * 
+     */
+    public String telemetry_file() {
+        return soot.PhaseOptions.getString( options, "telemetry-file" );
+    }
+    
+    /** Save Snapshot --
+    
+     * Save the solved PAG and call graph to this file.
+    
+     * When this option is set, Spark writes a binary 
+     * snapshot of the solved pointer assignment graph 
+     * to the given file: its nodes and their numbers, 
+     * the points-to sets of variables and of fields of objects, the 
+     * context universe and the context-sensitive call 
+     * graph. The snapshot can be loaded by a later run 
+     * with snapshot-in. 
+     */
+    public String snapshot_out() {
+        return soot.PhaseOptions.getString( options, "snapshot-out" );
+    }
+    
+    /** Load Snapshot --
+    
+     * Load the PAG and call graph from a snapshot instead of solving.
+    
+     * When this option is set, Spark does not build 
+     * or solve the pointer assignment graph. Instead, 
+     * it memory-maps a snapshot written with 
+     * snapshot-out and answers points-to queries and the call graph 
+     * from it. The snapshot must have been written for 
+     * the same program and class path. 
+     */
+    public String snapshot_in() {
+        return soot.PhaseOptions.getString( options, "snapshot-in" );
+    }
+    
+    /** Incremental Snapshot --
+    
+     * Reuse the solution of a snapshot for the methods that did not 
+     * change.
+    
+     * When this option is set, Spark builds and 
+     * solves the pointer assignment graph as usual, 
+     * but first seeds it with the points-to facts of a snapshot, 
+     * written with snapshot-out by a run with the same Spark 
+     * options, that do not depend on the methods 
+     * listed in incremental-changed-file. Only the 
+     * facts that depend on the changed methods are then recomputed, 
+     * and the solution is the same as that of a full 
+     * run. Facts are not reused if the options differ, 
+     * or if a context budget or selective contexts are used. 
+     * 
+     */
+    public String incremental_snapshot() {
+        return soot.PhaseOptions.getString( options, "incremental-snapshot" );
+    }
+    
+    /** Incremental Changed Methods --
+    
+     * File listing the signatures of the methods changed since the 
+     * snapshot.
+    
+     * The file lists the signatures of the methods 
+     * whose bodies changed since the snapshot given 
+     * with incremental-snapshot was written, one per line. 
+     * Every changed method must be listed; changes to the class 
+     * hierarchy require a full run. 
+     */
+    public String incremental_changed_file() {
+        return soot.PhaseOptions.getString( options, "incremental-changed-file" );
+    }
+    
     /** Verbose dump file --
     
      * Filename for detailed execution log.
@@ -610,6 +935,17 @@ public class SparkOptions
         return soot.PhaseOptions.getString( options, "geom-verify-name" );
     }
     
+    /** List of application classes (versus API / Library / Framework classes). --
+    
+     * List of application classes..
+    
+     * Argument is comma separated list of classes that are the 
+     * implementation of the Android app. 	 
+     */
+    public String kobjsens_app_classes_list() {
+        return soot.PhaseOptions.getString( options, "kobjsens-app-classes-list" );
+    }
+    
     /** Do not keep method context for types in this list. --
     
      * Do not keep method context for types in this list..
@@ -632,12 +968,45 @@ public class SparkOptions
         return soot.PhaseOptions.getString( options, "kobjsens-limit-heap-context" );
     }
     
+    /** Context depth policy --
+    
+     * Per type and per allocation site context depths..
+    
+     * Comma separated list of pattern=depth rules that override k. A 
+     * pattern is a class (a.b.C), the classes of a 
+     * package (a.b.*), the classes of a package and its subpackages 
+     * (a.b.**), or an allocation site given by the 
+     * hashcode of its new expression (new:1234). Objects get the heap 
+     * context depth of the rule for their allocation 
+     * site or type; methods get the context depth of the rule for 
+     * their declaring class, and their receiver contexts are 
+     * truncated to it. 	 
+     */
+    public String kobjsens_depth_policy() {
+        return soot.PhaseOptions.getString( options, "kobjsens-depth-policy" );
+    }
+    
+    /** Context depth policy file --
+    
+     * File of per type and per allocation site context depths..
+    
+     * File with one rule per line, in the format of 
+     * kobjsens-depth-policy, with the pattern and the 
+     * depth separated by = or a space, and # starting a comment. Rules 
+     * from kobjsens-depth-policy override rules for the 
+     * same pattern in the file. 	 
+     */
+    public String kobjsens_depth_policy_file() {
+        return soot.PhaseOptions.getString( options, "kobjsens-depth-policy-file" );
+    }
+    
     public static final int propagator_iter = 1;
     public static final int propagator_worklist = 2;
-    public static final int propagator_cycle = 3;
-    public static final int propagator_merge = 4;
-    public static final int propagator_alias = 5;
-    public static final int propagator_none = 6;
+    public static final int propagator_parallel_worklist = 3;
+    public static final int propagator_cycle = 4;
+    public static final int propagator_merge = 5;
+    public static final int propagator_alias = 6;
+    public static final int propagator_none = 7;
     /** Propagator --
     
      * Select propagation algorithm.
@@ -654,6 +1023,9 @@ public class SparkOptions
         if( s.equalsIgnoreCase( "worklist" ) )
             return propagator_worklist;
         
+        if( s.equalsIgnoreCase( "parallel-worklist" ) )
+            return propagator_parallel_worklist;
+        
         if( s.equalsIgnoreCase( "cycle" ) )
             return propagator_cycle;
         
@@ -669,13 +1041,44 @@ public class SparkOptions
         throw new RuntimeException( "Invalid value "+s+" of phase option propagator" );
     }
     
+    public static final int worklist_policy_topo = 1;
+    public static final int worklist_policy_topo_lazy = 2;
+    public static final int worklist_policy_lrf = 3;
+    public static final int worklist_policy_two_phase = 4;
+    /** Worklist Policy --
+    
+     * Order in which the worklist propagator processes variables.
+    
+     * This option selects the priority of variables 
+     * on the worklist of the worklist propagator. It 
+     * has no effect with the other propagators. 
+     */
+    public int worklist_policy() {
+        String s = soot.PhaseOptions.getString( options, "worklist-policy" );
+        
+        if( s.equalsIgnoreCase( "topo" ) )
+            return worklist_policy_topo;
+        
+        if( s.equalsIgnoreCase( "topo-lazy" ) )
+            return worklist_policy_topo_lazy;
+        
+        if( s.equalsIgnoreCase( "lrf" ) )
+            return worklist_policy_lrf;
+        
+        if( s.equalsIgnoreCase( "two-phase" ) )
+            return worklist_policy_two_phase;
+        
+        throw new RuntimeException( "Invalid value "+s+" of phase option worklist-policy" );
+    }
+    
     public static final int set_impl_hash = 1;
     public static final int set_impl_bit = 2;
     public static final int set_impl_hybrid = 3;
     public static final int set_impl_array = 4;
     public static final int set_impl_heintze = 5;
     public static final int set_impl_sharedlist = 6;
-    public static final int set_impl_double = 7;
+    public static final int set_impl_chunked = 7;
+    public static final int set_impl_double = 8;
     /** Set Implementation --
     
      * Select points-to set implementation.
@@ -704,6 +1107,9 @@ public class SparkOptions
         if( s.equalsIgnoreCase( "sharedlist" ) )
             return set_impl_sharedlist;
         
+        if( s.equalsIgnoreCase( "chunked" ) )
+            return set_impl_chunked;
+        
         if( s.equalsIgnoreCase( "double" ) )
             return set_impl_double;
         
@@ -716,6 +1122,7 @@ public class SparkOptions
     public static final int double_set_old_array = 4;
     public static final int double_set_old_heintze = 5;
     public static final int double_set_old_sharedlist = 6;
+    public static final int double_set_old_chunked = 7;
     /** Double Set Old --
     
      * Select implementation of points-to set for old part of double 
@@ -747,6 +1154,9 @@ public class SparkOptions
         if( s.equalsIgnoreCase( "sharedlist" ) )
             return double_set_old_sharedlist;
         
+        if( s.equalsIgnoreCase( "chunked" ) )
+            return double_set_old_chunked;
+        
         throw new RuntimeException( "Invalid value "+s+" of phase option double-set-old" );
     }
     
@@ -756,6 +1166,7 @@ public class SparkOptions
     public static final int double_set_new_array = 4;
     public static final int double_set_new_heintze = 5;
     public static final int double_set_new_sharedlist = 6;
+    public static final int double_set_new_chunked = 7;
     /** Double Set New --
     
      * Select implementation of points-to set for new part of double 
@@ -787,9 +1198,33 @@ public class SparkOptions
         if( s.equalsIgnoreCase( "sharedlist" ) )
             return double_set_new_sharedlist;
         
+        if( s.equalsIgnoreCase( "chunked" ) )
+            return double_set_new_chunked;
+        
         throw new RuntimeException( "Invalid value "+s+" of phase option double-set-new" );
     }
     
+    public static final int dump_format_text = 1;
+    public static final int dump_format_binary = 2;
+    /** Dump Format --
+    
+     * Format of the PAG and solution dumps.
+    
+     * Selects the format written by the Dump PAG and 
+     * Dump Solution options. 
+     */
+    public int dump_format() {
+        String s = soot.PhaseOptions.getString( options, "dump-format" );
+        
+        if( s.equalsIgnoreCase( "text" ) )
+            return dump_format_text;
+        
+        if( s.equalsIgnoreCase( "binary" ) )
+            return dump_format_binary;
+        
+        throw new RuntimeException( "Invalid value "+s+" of phase option dump-format" );
+    }
+    
     public static final int geom_encoding_Geom = 1;
     public static final int geom_encoding_HeapIns = 2;
     public static final int geom_encoding_PtIns = 3;
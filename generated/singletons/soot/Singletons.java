@@ -29,934 +29,1736 @@ public class Singletons {
     }
     private Global g = new Global();
 
-    public soot.PhaseOptions instance_soot_PhaseOptions;
+    /** Returns the argument that the constructors of the singletons take,
+     * so that the PackManager can make copies of the body transformers for
+     * each of the threads that run the body packs. */
+    Global global() { return g; }
+
+    public volatile soot.PhaseOptions instance_soot_PhaseOptions;
+    private final Object lock_soot_PhaseOptions = new Object();
     public soot.PhaseOptions soot_PhaseOptions() {
-        if( instance_soot_PhaseOptions == null ) instance_soot_PhaseOptions = new soot.PhaseOptions( g );
-        return instance_soot_PhaseOptions;
+        soot.PhaseOptions ret = instance_soot_PhaseOptions;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_PhaseOptions ) {
+            if( instance_soot_PhaseOptions == null ) instance_soot_PhaseOptions = new soot.PhaseOptions( g );
+            return instance_soot_PhaseOptions;
+        }
     }
 
-    public soot.jimple.toolkits.callgraph.VirtualCalls instance_soot_jimple_toolkits_callgraph_VirtualCalls;
+    public volatile soot.jimple.toolkits.callgraph.VirtualCalls instance_soot_jimple_toolkits_callgraph_VirtualCalls;
+    private final Object lock_soot_jimple_toolkits_callgraph_VirtualCalls = new Object();
     public soot.jimple.toolkits.callgraph.VirtualCalls soot_jimple_toolkits_callgraph_VirtualCalls() {
-        if( instance_soot_jimple_toolkits_callgraph_VirtualCalls == null ) instance_soot_jimple_toolkits_callgraph_VirtualCalls = new soot.jimple.toolkits.callgraph.VirtualCalls( g );
-        return instance_soot_jimple_toolkits_callgraph_VirtualCalls;
+        soot.jimple.toolkits.callgraph.VirtualCalls ret = instance_soot_jimple_toolkits_callgraph_VirtualCalls;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_callgraph_VirtualCalls ) {
+            if( instance_soot_jimple_toolkits_callgraph_VirtualCalls == null ) instance_soot_jimple_toolkits_callgraph_VirtualCalls = new soot.jimple.toolkits.callgraph.VirtualCalls( g );
+            return instance_soot_jimple_toolkits_callgraph_VirtualCalls;
+        }
     }
 
-    public soot.jimple.spark.fieldrw.FieldTagger instance_soot_jimple_spark_fieldrw_FieldTagger;
+    public volatile soot.jimple.spark.fieldrw.FieldTagger instance_soot_jimple_spark_fieldrw_FieldTagger;
+    private final Object lock_soot_jimple_spark_fieldrw_FieldTagger = new Object();
     public soot.jimple.spark.fieldrw.FieldTagger soot_jimple_spark_fieldrw_FieldTagger() {
-        if( instance_soot_jimple_spark_fieldrw_FieldTagger == null ) instance_soot_jimple_spark_fieldrw_FieldTagger = new soot.jimple.spark.fieldrw.FieldTagger( g );
-        return instance_soot_jimple_spark_fieldrw_FieldTagger;
+        soot.jimple.spark.fieldrw.FieldTagger ret = instance_soot_jimple_spark_fieldrw_FieldTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_spark_fieldrw_FieldTagger ) {
+            if( instance_soot_jimple_spark_fieldrw_FieldTagger == null ) instance_soot_jimple_spark_fieldrw_FieldTagger = new soot.jimple.spark.fieldrw.FieldTagger( g );
+            return instance_soot_jimple_spark_fieldrw_FieldTagger;
+        }
     }
 
-    public soot.util.SharedBitSetCache instance_soot_util_SharedBitSetCache;
+    public volatile soot.util.SharedBitSetCache instance_soot_util_SharedBitSetCache;
+    private final Object lock_soot_util_SharedBitSetCache = new Object();
     public soot.util.SharedBitSetCache soot_util_SharedBitSetCache() {
-        if( instance_soot_util_SharedBitSetCache == null ) instance_soot_util_SharedBitSetCache = new soot.util.SharedBitSetCache( g );
-        return instance_soot_util_SharedBitSetCache;
+        soot.util.SharedBitSetCache ret = instance_soot_util_SharedBitSetCache;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_util_SharedBitSetCache ) {
+            if( instance_soot_util_SharedBitSetCache == null ) instance_soot_util_SharedBitSetCache = new soot.util.SharedBitSetCache( g );
+            return instance_soot_util_SharedBitSetCache;
+        }
     }
 
-    public soot.options.Options instance_soot_options_Options;
+    public volatile soot.options.Options instance_soot_options_Options;
+    private final Object lock_soot_options_Options = new Object();
     public soot.options.Options soot_options_Options() {
-        if( instance_soot_options_Options == null ) instance_soot_options_Options = new soot.options.Options( g );
-        return instance_soot_options_Options;
+        soot.options.Options ret = instance_soot_options_Options;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_options_Options ) {
+            if( instance_soot_options_Options == null ) instance_soot_options_Options = new soot.options.Options( g );
+            return instance_soot_options_Options;
+        }
     }
 
-    public soot.jimple.toolkits.callgraph.CHATransformer instance_soot_jimple_toolkits_callgraph_CHATransformer;
+    public volatile soot.jimple.toolkits.callgraph.CHATransformer instance_soot_jimple_toolkits_callgraph_CHATransformer;
+    private final Object lock_soot_jimple_toolkits_callgraph_CHATransformer = new Object();
     public soot.jimple.toolkits.callgraph.CHATransformer soot_jimple_toolkits_callgraph_CHATransformer() {
-        if( instance_soot_jimple_toolkits_callgraph_CHATransformer == null ) instance_soot_jimple_toolkits_callgraph_CHATransformer = new soot.jimple.toolkits.callgraph.CHATransformer( g );
-        return instance_soot_jimple_toolkits_callgraph_CHATransformer;
+        soot.jimple.toolkits.callgraph.CHATransformer ret = instance_soot_jimple_toolkits_callgraph_CHATransformer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_callgraph_CHATransformer ) {
+            if( instance_soot_jimple_toolkits_callgraph_CHATransformer == null ) instance_soot_jimple_toolkits_callgraph_CHATransformer = new soot.jimple.toolkits.callgraph.CHATransformer( g );
+            return instance_soot_jimple_toolkits_callgraph_CHATransformer;
+        }
     }
 
-    public soot.toolkits.graph.SlowPseudoTopologicalOrderer instance_soot_toolkits_graph_SlowPseudoTopologicalOrderer;
+    public volatile soot.toolkits.graph.SlowPseudoTopologicalOrderer instance_soot_toolkits_graph_SlowPseudoTopologicalOrderer;
+    private final Object lock_soot_toolkits_graph_SlowPseudoTopologicalOrderer = new Object();
     public soot.toolkits.graph.SlowPseudoTopologicalOrderer soot_toolkits_graph_SlowPseudoTopologicalOrderer() {
-        if( instance_soot_toolkits_graph_SlowPseudoTopologicalOrderer == null ) instance_soot_toolkits_graph_SlowPseudoTopologicalOrderer = new soot.toolkits.graph.SlowPseudoTopologicalOrderer( g );
-        return instance_soot_toolkits_graph_SlowPseudoTopologicalOrderer;
+        soot.toolkits.graph.SlowPseudoTopologicalOrderer ret = instance_soot_toolkits_graph_SlowPseudoTopologicalOrderer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toolkits_graph_SlowPseudoTopologicalOrderer ) {
+            if( instance_soot_toolkits_graph_SlowPseudoTopologicalOrderer == null ) instance_soot_toolkits_graph_SlowPseudoTopologicalOrderer = new soot.toolkits.graph.SlowPseudoTopologicalOrderer( g );
+            return instance_soot_toolkits_graph_SlowPseudoTopologicalOrderer;
+        }
     }
 
-    public soot.jimple.toolkits.invoke.SynchronizerManager instance_soot_jimple_toolkits_invoke_SynchronizerManager;
+    public volatile soot.jimple.toolkits.invoke.SynchronizerManager instance_soot_jimple_toolkits_invoke_SynchronizerManager;
+    private final Object lock_soot_jimple_toolkits_invoke_SynchronizerManager = new Object();
     public soot.jimple.toolkits.invoke.SynchronizerManager soot_jimple_toolkits_invoke_SynchronizerManager() {
-        if( instance_soot_jimple_toolkits_invoke_SynchronizerManager == null ) instance_soot_jimple_toolkits_invoke_SynchronizerManager = new soot.jimple.toolkits.invoke.SynchronizerManager( g );
-        return instance_soot_jimple_toolkits_invoke_SynchronizerManager;
+        soot.jimple.toolkits.invoke.SynchronizerManager ret = instance_soot_jimple_toolkits_invoke_SynchronizerManager;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_invoke_SynchronizerManager ) {
+            if( instance_soot_jimple_toolkits_invoke_SynchronizerManager == null ) instance_soot_jimple_toolkits_invoke_SynchronizerManager = new soot.jimple.toolkits.invoke.SynchronizerManager( g );
+            return instance_soot_jimple_toolkits_invoke_SynchronizerManager;
+        }
     }
 
-    public soot.jimple.toolkits.typing.integer.ClassHierarchy instance_soot_jimple_toolkits_typing_integer_ClassHierarchy;
+    public volatile soot.jimple.toolkits.typing.integer.ClassHierarchy instance_soot_jimple_toolkits_typing_integer_ClassHierarchy;
+    private final Object lock_soot_jimple_toolkits_typing_integer_ClassHierarchy = new Object();
     public soot.jimple.toolkits.typing.integer.ClassHierarchy soot_jimple_toolkits_typing_integer_ClassHierarchy() {
-        if( instance_soot_jimple_toolkits_typing_integer_ClassHierarchy == null ) instance_soot_jimple_toolkits_typing_integer_ClassHierarchy = new soot.jimple.toolkits.typing.integer.ClassHierarchy( g );
-        return instance_soot_jimple_toolkits_typing_integer_ClassHierarchy;
+        soot.jimple.toolkits.typing.integer.ClassHierarchy ret = instance_soot_jimple_toolkits_typing_integer_ClassHierarchy;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_typing_integer_ClassHierarchy ) {
+            if( instance_soot_jimple_toolkits_typing_integer_ClassHierarchy == null ) instance_soot_jimple_toolkits_typing_integer_ClassHierarchy = new soot.jimple.toolkits.typing.integer.ClassHierarchy( g );
+            return instance_soot_jimple_toolkits_typing_integer_ClassHierarchy;
+        }
     }
 
-    public soot.Main instance_soot_Main;
+    public volatile soot.Main instance_soot_Main;
+    private final Object lock_soot_Main = new Object();
     public soot.Main soot_Main() {
-        if( instance_soot_Main == null ) instance_soot_Main = new soot.Main( g );
-        return instance_soot_Main;
+        soot.Main ret = instance_soot_Main;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_Main ) {
+            if( instance_soot_Main == null ) instance_soot_Main = new soot.Main( g );
+            return instance_soot_Main;
+        }
     }
 
-    public soot.tagkit.TagManager instance_soot_tagkit_TagManager;
+    public volatile soot.tagkit.TagManager instance_soot_tagkit_TagManager;
+    private final Object lock_soot_tagkit_TagManager = new Object();
     public soot.tagkit.TagManager soot_tagkit_TagManager() {
-        if( instance_soot_tagkit_TagManager == null ) instance_soot_tagkit_TagManager = new soot.tagkit.TagManager( g );
-        return instance_soot_tagkit_TagManager;
+        soot.tagkit.TagManager ret = instance_soot_tagkit_TagManager;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_tagkit_TagManager ) {
+            if( instance_soot_tagkit_TagManager == null ) instance_soot_tagkit_TagManager = new soot.tagkit.TagManager( g );
+            return instance_soot_tagkit_TagManager;
+        }
     }
 
-    public soot.jimple.toolkits.pointer.representations.Environment instance_soot_jimple_toolkits_pointer_representations_Environment;
+    public volatile soot.jimple.toolkits.pointer.representations.Environment instance_soot_jimple_toolkits_pointer_representations_Environment;
+    private final Object lock_soot_jimple_toolkits_pointer_representations_Environment = new Object();
     public soot.jimple.toolkits.pointer.representations.Environment soot_jimple_toolkits_pointer_representations_Environment() {
-        if( instance_soot_jimple_toolkits_pointer_representations_Environment == null ) instance_soot_jimple_toolkits_pointer_representations_Environment = new soot.jimple.toolkits.pointer.representations.Environment( g );
-        return instance_soot_jimple_toolkits_pointer_representations_Environment;
+        soot.jimple.toolkits.pointer.representations.Environment ret = instance_soot_jimple_toolkits_pointer_representations_Environment;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_pointer_representations_Environment ) {
+            if( instance_soot_jimple_toolkits_pointer_representations_Environment == null ) instance_soot_jimple_toolkits_pointer_representations_Environment = new soot.jimple.toolkits.pointer.representations.Environment( g );
+            return instance_soot_jimple_toolkits_pointer_representations_Environment;
+        }
     }
 
-    public soot.jimple.toolkits.pointer.representations.TypeConstants instance_soot_jimple_toolkits_pointer_representations_TypeConstants;
+    public volatile soot.jimple.toolkits.pointer.representations.TypeConstants instance_soot_jimple_toolkits_pointer_representations_TypeConstants;
+    private final Object lock_soot_jimple_toolkits_pointer_representations_TypeConstants = new Object();
     public soot.jimple.toolkits.pointer.representations.TypeConstants soot_jimple_toolkits_pointer_representations_TypeConstants() {
-        if( instance_soot_jimple_toolkits_pointer_representations_TypeConstants == null ) instance_soot_jimple_toolkits_pointer_representations_TypeConstants = new soot.jimple.toolkits.pointer.representations.TypeConstants( g );
-        return instance_soot_jimple_toolkits_pointer_representations_TypeConstants;
+        soot.jimple.toolkits.pointer.representations.TypeConstants ret = instance_soot_jimple_toolkits_pointer_representations_TypeConstants;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_pointer_representations_TypeConstants ) {
+            if( instance_soot_jimple_toolkits_pointer_representations_TypeConstants == null ) instance_soot_jimple_toolkits_pointer_representations_TypeConstants = new soot.jimple.toolkits.pointer.representations.TypeConstants( g );
+            return instance_soot_jimple_toolkits_pointer_representations_TypeConstants;
+        }
     }
 
-    public soot.coffi.Util instance_soot_coffi_Util;
+    public volatile soot.coffi.Util instance_soot_coffi_Util;
+    private final Object lock_soot_coffi_Util = new Object();
     public soot.coffi.Util soot_coffi_Util() {
-        if( instance_soot_coffi_Util == null ) instance_soot_coffi_Util = new soot.coffi.Util( g );
-        return instance_soot_coffi_Util;
+        soot.coffi.Util ret = instance_soot_coffi_Util;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_coffi_Util ) {
+            if( instance_soot_coffi_Util == null ) instance_soot_coffi_Util = new soot.coffi.Util( g );
+            return instance_soot_coffi_Util;
+        }
     }
 
-    public soot.SourceLocator instance_soot_SourceLocator;
+    public volatile soot.SourceLocator instance_soot_SourceLocator;
+    private final Object lock_soot_SourceLocator = new Object();
     public soot.SourceLocator soot_SourceLocator() {
-        if( instance_soot_SourceLocator == null ) instance_soot_SourceLocator = new soot.SourceLocator( g );
-        return instance_soot_SourceLocator;
+        soot.SourceLocator ret = instance_soot_SourceLocator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_SourceLocator ) {
+            if( instance_soot_SourceLocator == null ) instance_soot_SourceLocator = new soot.SourceLocator( g );
+            return instance_soot_SourceLocator;
+        }
     }
 
-    public soot.coffi.CONSTANT_Utf8_collector instance_soot_coffi_CONSTANT_Utf8_collector;
+    public volatile soot.coffi.CONSTANT_Utf8_collector instance_soot_coffi_CONSTANT_Utf8_collector;
+    private final Object lock_soot_coffi_CONSTANT_Utf8_collector = new Object();
     public soot.coffi.CONSTANT_Utf8_collector soot_coffi_CONSTANT_Utf8_collector() {
-        if( instance_soot_coffi_CONSTANT_Utf8_collector == null ) instance_soot_coffi_CONSTANT_Utf8_collector = new soot.coffi.CONSTANT_Utf8_collector( g );
-        return instance_soot_coffi_CONSTANT_Utf8_collector;
+        soot.coffi.CONSTANT_Utf8_collector ret = instance_soot_coffi_CONSTANT_Utf8_collector;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_coffi_CONSTANT_Utf8_collector ) {
+            if( instance_soot_coffi_CONSTANT_Utf8_collector == null ) instance_soot_coffi_CONSTANT_Utf8_collector = new soot.coffi.CONSTANT_Utf8_collector( g );
+            return instance_soot_coffi_CONSTANT_Utf8_collector;
+        }
     }
 
-    public soot.dava.toolkits.base.finders.AbruptEdgeFinder instance_soot_dava_toolkits_base_finders_AbruptEdgeFinder;
+    public volatile soot.dava.toolkits.base.finders.AbruptEdgeFinder instance_soot_dava_toolkits_base_finders_AbruptEdgeFinder;
+    private final Object lock_soot_dava_toolkits_base_finders_AbruptEdgeFinder = new Object();
     public soot.dava.toolkits.base.finders.AbruptEdgeFinder soot_dava_toolkits_base_finders_AbruptEdgeFinder() {
-        if( instance_soot_dava_toolkits_base_finders_AbruptEdgeFinder == null ) instance_soot_dava_toolkits_base_finders_AbruptEdgeFinder = new soot.dava.toolkits.base.finders.AbruptEdgeFinder( g );
-        return instance_soot_dava_toolkits_base_finders_AbruptEdgeFinder;
+        soot.dava.toolkits.base.finders.AbruptEdgeFinder ret = instance_soot_dava_toolkits_base_finders_AbruptEdgeFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_finders_AbruptEdgeFinder ) {
+            if( instance_soot_dava_toolkits_base_finders_AbruptEdgeFinder == null ) instance_soot_dava_toolkits_base_finders_AbruptEdgeFinder = new soot.dava.toolkits.base.finders.AbruptEdgeFinder( g );
+            return instance_soot_dava_toolkits_base_finders_AbruptEdgeFinder;
+        }
     }
 
-    public soot.jimple.toolkits.base.Aggregator instance_soot_jimple_toolkits_base_Aggregator;
+    public volatile soot.jimple.toolkits.base.Aggregator instance_soot_jimple_toolkits_base_Aggregator;
+    private final Object lock_soot_jimple_toolkits_base_Aggregator = new Object();
     public soot.jimple.toolkits.base.Aggregator soot_jimple_toolkits_base_Aggregator() {
-        if( instance_soot_jimple_toolkits_base_Aggregator == null ) instance_soot_jimple_toolkits_base_Aggregator = new soot.jimple.toolkits.base.Aggregator( g );
-        return instance_soot_jimple_toolkits_base_Aggregator;
+        soot.jimple.toolkits.base.Aggregator ret = instance_soot_jimple_toolkits_base_Aggregator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_base_Aggregator ) {
+            if( instance_soot_jimple_toolkits_base_Aggregator == null ) instance_soot_jimple_toolkits_base_Aggregator = new soot.jimple.toolkits.base.Aggregator( g );
+            return instance_soot_jimple_toolkits_base_Aggregator;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.arraycheck.ArrayBoundsChecker instance_soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker;
+    public volatile soot.jimple.toolkits.annotation.arraycheck.ArrayBoundsChecker instance_soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker;
+    private final Object lock_soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker = new Object();
     public soot.jimple.toolkits.annotation.arraycheck.ArrayBoundsChecker soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker() {
-        if( instance_soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker == null ) instance_soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker = new soot.jimple.toolkits.annotation.arraycheck.ArrayBoundsChecker( g );
-        return instance_soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker;
+        soot.jimple.toolkits.annotation.arraycheck.ArrayBoundsChecker ret = instance_soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker ) {
+            if( instance_soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker == null ) instance_soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker = new soot.jimple.toolkits.annotation.arraycheck.ArrayBoundsChecker( g );
+            return instance_soot_jimple_toolkits_annotation_arraycheck_ArrayBoundsChecker;
+        }
     }
 
-    public soot.jimple.spark.pag.ArrayElement instance_soot_jimple_spark_pag_ArrayElement;
+    public volatile soot.jimple.spark.pag.ArrayElement instance_soot_jimple_spark_pag_ArrayElement;
+    private final Object lock_soot_jimple_spark_pag_ArrayElement = new Object();
     public soot.jimple.spark.pag.ArrayElement soot_jimple_spark_pag_ArrayElement() {
-        if( instance_soot_jimple_spark_pag_ArrayElement == null ) instance_soot_jimple_spark_pag_ArrayElement = new soot.jimple.spark.pag.ArrayElement( g );
-        return instance_soot_jimple_spark_pag_ArrayElement;
+        soot.jimple.spark.pag.ArrayElement ret = instance_soot_jimple_spark_pag_ArrayElement;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_spark_pag_ArrayElement ) {
+            if( instance_soot_jimple_spark_pag_ArrayElement == null ) instance_soot_jimple_spark_pag_ArrayElement = new soot.jimple.spark.pag.ArrayElement( g );
+            return instance_soot_jimple_spark_pag_ArrayElement;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.tags.ArrayNullTagAggregator instance_soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator;
+    public volatile soot.jimple.toolkits.annotation.tags.ArrayNullTagAggregator instance_soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator;
+    private final Object lock_soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator = new Object();
     public soot.jimple.toolkits.annotation.tags.ArrayNullTagAggregator soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator() {
-        if( instance_soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator == null ) instance_soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator = new soot.jimple.toolkits.annotation.tags.ArrayNullTagAggregator( g );
-        return instance_soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator;
+        soot.jimple.toolkits.annotation.tags.ArrayNullTagAggregator ret = instance_soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator ) {
+            if( instance_soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator == null ) instance_soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator = new soot.jimple.toolkits.annotation.tags.ArrayNullTagAggregator( g );
+            return instance_soot_jimple_toolkits_annotation_tags_ArrayNullTagAggregator;
+        }
     }
 
-    public soot.dava.toolkits.base.AST.ASTWalker instance_soot_dava_toolkits_base_AST_ASTWalker;
+    public volatile soot.dava.toolkits.base.AST.ASTWalker instance_soot_dava_toolkits_base_AST_ASTWalker;
+    private final Object lock_soot_dava_toolkits_base_AST_ASTWalker = new Object();
     public soot.dava.toolkits.base.AST.ASTWalker soot_dava_toolkits_base_AST_ASTWalker() {
-        if( instance_soot_dava_toolkits_base_AST_ASTWalker == null ) instance_soot_dava_toolkits_base_AST_ASTWalker = new soot.dava.toolkits.base.AST.ASTWalker( g );
-        return instance_soot_dava_toolkits_base_AST_ASTWalker;
+        soot.dava.toolkits.base.AST.ASTWalker ret = instance_soot_dava_toolkits_base_AST_ASTWalker;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_AST_ASTWalker ) {
+            if( instance_soot_dava_toolkits_base_AST_ASTWalker == null ) instance_soot_dava_toolkits_base_AST_ASTWalker = new soot.dava.toolkits.base.AST.ASTWalker( g );
+            return instance_soot_dava_toolkits_base_AST_ASTWalker;
+        }
     }
 
-    public soot.baf.Baf instance_soot_baf_Baf;
+    public volatile soot.baf.Baf instance_soot_baf_Baf;
+    private final Object lock_soot_baf_Baf = new Object();
     public soot.baf.Baf soot_baf_Baf() {
-        if( instance_soot_baf_Baf == null ) instance_soot_baf_Baf = new soot.baf.Baf( g );
-        return instance_soot_baf_Baf;
+        soot.baf.Baf ret = instance_soot_baf_Baf;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_baf_Baf ) {
+            if( instance_soot_baf_Baf == null ) instance_soot_baf_Baf = new soot.baf.Baf( g );
+            return instance_soot_baf_Baf;
+        }
     }
 
-    public soot.BooleanType instance_soot_BooleanType;
+    public volatile soot.BooleanType instance_soot_BooleanType;
+    private final Object lock_soot_BooleanType = new Object();
     public soot.BooleanType soot_BooleanType() {
-        if( instance_soot_BooleanType == null ) instance_soot_BooleanType = new soot.BooleanType( g );
-        return instance_soot_BooleanType;
+        soot.BooleanType ret = instance_soot_BooleanType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_BooleanType ) {
+            if( instance_soot_BooleanType == null ) instance_soot_BooleanType = new soot.BooleanType( g );
+            return instance_soot_BooleanType;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.pre.BusyCodeMotion instance_soot_jimple_toolkits_scalar_pre_BusyCodeMotion;
+    public volatile soot.jimple.toolkits.scalar.pre.BusyCodeMotion instance_soot_jimple_toolkits_scalar_pre_BusyCodeMotion;
+    private final Object lock_soot_jimple_toolkits_scalar_pre_BusyCodeMotion = new Object();
     public soot.jimple.toolkits.scalar.pre.BusyCodeMotion soot_jimple_toolkits_scalar_pre_BusyCodeMotion() {
-        if( instance_soot_jimple_toolkits_scalar_pre_BusyCodeMotion == null ) instance_soot_jimple_toolkits_scalar_pre_BusyCodeMotion = new soot.jimple.toolkits.scalar.pre.BusyCodeMotion( g );
-        return instance_soot_jimple_toolkits_scalar_pre_BusyCodeMotion;
+        soot.jimple.toolkits.scalar.pre.BusyCodeMotion ret = instance_soot_jimple_toolkits_scalar_pre_BusyCodeMotion;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_pre_BusyCodeMotion ) {
+            if( instance_soot_jimple_toolkits_scalar_pre_BusyCodeMotion == null ) instance_soot_jimple_toolkits_scalar_pre_BusyCodeMotion = new soot.jimple.toolkits.scalar.pre.BusyCodeMotion( g );
+            return instance_soot_jimple_toolkits_scalar_pre_BusyCodeMotion;
+        }
     }
 
-    public soot.ByteType instance_soot_ByteType;
+    public volatile soot.ByteType instance_soot_ByteType;
+    private final Object lock_soot_ByteType = new Object();
     public soot.ByteType soot_ByteType() {
-        if( instance_soot_ByteType == null ) instance_soot_ByteType = new soot.ByteType( g );
-        return instance_soot_ByteType;
+        soot.ByteType ret = instance_soot_ByteType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_ByteType ) {
+            if( instance_soot_ByteType == null ) instance_soot_ByteType = new soot.ByteType( g );
+            return instance_soot_ByteType;
+        }
     }
 
-    public soot.jimple.toolkits.pointer.CastCheckEliminatorDumper instance_soot_jimple_toolkits_pointer_CastCheckEliminatorDumper;
+    public volatile soot.jimple.toolkits.pointer.CastCheckEliminatorDumper instance_soot_jimple_toolkits_pointer_CastCheckEliminatorDumper;
+    private final Object lock_soot_jimple_toolkits_pointer_CastCheckEliminatorDumper = new Object();
     public soot.jimple.toolkits.pointer.CastCheckEliminatorDumper soot_jimple_toolkits_pointer_CastCheckEliminatorDumper() {
-        if( instance_soot_jimple_toolkits_pointer_CastCheckEliminatorDumper == null ) instance_soot_jimple_toolkits_pointer_CastCheckEliminatorDumper = new soot.jimple.toolkits.pointer.CastCheckEliminatorDumper( g );
-        return instance_soot_jimple_toolkits_pointer_CastCheckEliminatorDumper;
+        soot.jimple.toolkits.pointer.CastCheckEliminatorDumper ret = instance_soot_jimple_toolkits_pointer_CastCheckEliminatorDumper;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_pointer_CastCheckEliminatorDumper ) {
+            if( instance_soot_jimple_toolkits_pointer_CastCheckEliminatorDumper == null ) instance_soot_jimple_toolkits_pointer_CastCheckEliminatorDumper = new soot.jimple.toolkits.pointer.CastCheckEliminatorDumper( g );
+            return instance_soot_jimple_toolkits_pointer_CastCheckEliminatorDumper;
+        }
     }
 
-    public soot.CharType instance_soot_CharType;
+    public volatile soot.CharType instance_soot_CharType;
+    private final Object lock_soot_CharType = new Object();
     public soot.CharType soot_CharType() {
-        if( instance_soot_CharType == null ) instance_soot_CharType = new soot.CharType( g );
-        return instance_soot_CharType;
+        soot.CharType ret = instance_soot_CharType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_CharType ) {
+            if( instance_soot_CharType == null ) instance_soot_CharType = new soot.CharType( g );
+            return instance_soot_CharType;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.arraycheck.ClassFieldAnalysis instance_soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis;
+    public volatile soot.jimple.toolkits.annotation.arraycheck.ClassFieldAnalysis instance_soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis;
+    private final Object lock_soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis = new Object();
     public soot.jimple.toolkits.annotation.arraycheck.ClassFieldAnalysis soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis() {
-        if( instance_soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis == null ) instance_soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis = new soot.jimple.toolkits.annotation.arraycheck.ClassFieldAnalysis( g );
-        return instance_soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis;
+        soot.jimple.toolkits.annotation.arraycheck.ClassFieldAnalysis ret = instance_soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis ) {
+            if( instance_soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis == null ) instance_soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis = new soot.jimple.toolkits.annotation.arraycheck.ClassFieldAnalysis( g );
+            return instance_soot_jimple_toolkits_annotation_arraycheck_ClassFieldAnalysis;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.CommonSubexpressionEliminator instance_soot_jimple_toolkits_scalar_CommonSubexpressionEliminator;
+    public volatile soot.jimple.toolkits.scalar.CommonSubexpressionEliminator instance_soot_jimple_toolkits_scalar_CommonSubexpressionEliminator;
+    private final Object lock_soot_jimple_toolkits_scalar_CommonSubexpressionEliminator = new Object();
     public soot.jimple.toolkits.scalar.CommonSubexpressionEliminator soot_jimple_toolkits_scalar_CommonSubexpressionEliminator() {
-        if( instance_soot_jimple_toolkits_scalar_CommonSubexpressionEliminator == null ) instance_soot_jimple_toolkits_scalar_CommonSubexpressionEliminator = new soot.jimple.toolkits.scalar.CommonSubexpressionEliminator( g );
-        return instance_soot_jimple_toolkits_scalar_CommonSubexpressionEliminator;
+        soot.jimple.toolkits.scalar.CommonSubexpressionEliminator ret = instance_soot_jimple_toolkits_scalar_CommonSubexpressionEliminator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_CommonSubexpressionEliminator ) {
+            if( instance_soot_jimple_toolkits_scalar_CommonSubexpressionEliminator == null ) instance_soot_jimple_toolkits_scalar_CommonSubexpressionEliminator = new soot.jimple.toolkits.scalar.CommonSubexpressionEliminator( g );
+            return instance_soot_jimple_toolkits_scalar_CommonSubexpressionEliminator;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.ConditionalBranchFolder instance_soot_jimple_toolkits_scalar_ConditionalBranchFolder;
+    public volatile soot.jimple.toolkits.scalar.ConditionalBranchFolder instance_soot_jimple_toolkits_scalar_ConditionalBranchFolder;
+    private final Object lock_soot_jimple_toolkits_scalar_ConditionalBranchFolder = new Object();
     public soot.jimple.toolkits.scalar.ConditionalBranchFolder soot_jimple_toolkits_scalar_ConditionalBranchFolder() {
-        if( instance_soot_jimple_toolkits_scalar_ConditionalBranchFolder == null ) instance_soot_jimple_toolkits_scalar_ConditionalBranchFolder = new soot.jimple.toolkits.scalar.ConditionalBranchFolder( g );
-        return instance_soot_jimple_toolkits_scalar_ConditionalBranchFolder;
+        soot.jimple.toolkits.scalar.ConditionalBranchFolder ret = instance_soot_jimple_toolkits_scalar_ConditionalBranchFolder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_ConditionalBranchFolder ) {
+            if( instance_soot_jimple_toolkits_scalar_ConditionalBranchFolder == null ) instance_soot_jimple_toolkits_scalar_ConditionalBranchFolder = new soot.jimple.toolkits.scalar.ConditionalBranchFolder( g );
+            return instance_soot_jimple_toolkits_scalar_ConditionalBranchFolder;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.ConstantPropagatorAndFolder instance_soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder;
+    public volatile soot.jimple.toolkits.scalar.ConstantPropagatorAndFolder instance_soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder;
+    private final Object lock_soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder = new Object();
     public soot.jimple.toolkits.scalar.ConstantPropagatorAndFolder soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder() {
-        if( instance_soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder == null ) instance_soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder = new soot.jimple.toolkits.scalar.ConstantPropagatorAndFolder( g );
-        return instance_soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder;
+        soot.jimple.toolkits.scalar.ConstantPropagatorAndFolder ret = instance_soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder ) {
+            if( instance_soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder == null ) instance_soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder = new soot.jimple.toolkits.scalar.ConstantPropagatorAndFolder( g );
+            return instance_soot_jimple_toolkits_scalar_ConstantPropagatorAndFolder;
+        }
     }
 
-    public soot.grimp.toolkits.base.ConstructorFolder instance_soot_grimp_toolkits_base_ConstructorFolder;
+    public volatile soot.grimp.toolkits.base.ConstructorFolder instance_soot_grimp_toolkits_base_ConstructorFolder;
+    private final Object lock_soot_grimp_toolkits_base_ConstructorFolder = new Object();
     public soot.grimp.toolkits.base.ConstructorFolder soot_grimp_toolkits_base_ConstructorFolder() {
-        if( instance_soot_grimp_toolkits_base_ConstructorFolder == null ) instance_soot_grimp_toolkits_base_ConstructorFolder = new soot.grimp.toolkits.base.ConstructorFolder( g );
-        return instance_soot_grimp_toolkits_base_ConstructorFolder;
+        soot.grimp.toolkits.base.ConstructorFolder ret = instance_soot_grimp_toolkits_base_ConstructorFolder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_grimp_toolkits_base_ConstructorFolder ) {
+            if( instance_soot_grimp_toolkits_base_ConstructorFolder == null ) instance_soot_grimp_toolkits_base_ConstructorFolder = new soot.grimp.toolkits.base.ConstructorFolder( g );
+            return instance_soot_grimp_toolkits_base_ConstructorFolder;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.CopyPropagator instance_soot_jimple_toolkits_scalar_CopyPropagator;
+    public volatile soot.jimple.toolkits.scalar.CopyPropagator instance_soot_jimple_toolkits_scalar_CopyPropagator;
+    private final Object lock_soot_jimple_toolkits_scalar_CopyPropagator = new Object();
     public soot.jimple.toolkits.scalar.CopyPropagator soot_jimple_toolkits_scalar_CopyPropagator() {
-        if( instance_soot_jimple_toolkits_scalar_CopyPropagator == null ) instance_soot_jimple_toolkits_scalar_CopyPropagator = new soot.jimple.toolkits.scalar.CopyPropagator( g );
-        return instance_soot_jimple_toolkits_scalar_CopyPropagator;
+        soot.jimple.toolkits.scalar.CopyPropagator ret = instance_soot_jimple_toolkits_scalar_CopyPropagator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_CopyPropagator ) {
+            if( instance_soot_jimple_toolkits_scalar_CopyPropagator == null ) instance_soot_jimple_toolkits_scalar_CopyPropagator = new soot.jimple.toolkits.scalar.CopyPropagator( g );
+            return instance_soot_jimple_toolkits_scalar_CopyPropagator;
+        }
     }
 
-    public soot.jimple.toolkits.graph.CriticalEdgeRemover instance_soot_jimple_toolkits_graph_CriticalEdgeRemover;
+    public volatile soot.jimple.toolkits.graph.CriticalEdgeRemover instance_soot_jimple_toolkits_graph_CriticalEdgeRemover;
+    private final Object lock_soot_jimple_toolkits_graph_CriticalEdgeRemover = new Object();
     public soot.jimple.toolkits.graph.CriticalEdgeRemover soot_jimple_toolkits_graph_CriticalEdgeRemover() {
-        if( instance_soot_jimple_toolkits_graph_CriticalEdgeRemover == null ) instance_soot_jimple_toolkits_graph_CriticalEdgeRemover = new soot.jimple.toolkits.graph.CriticalEdgeRemover( g );
-        return instance_soot_jimple_toolkits_graph_CriticalEdgeRemover;
+        soot.jimple.toolkits.graph.CriticalEdgeRemover ret = instance_soot_jimple_toolkits_graph_CriticalEdgeRemover;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_graph_CriticalEdgeRemover ) {
+            if( instance_soot_jimple_toolkits_graph_CriticalEdgeRemover == null ) instance_soot_jimple_toolkits_graph_CriticalEdgeRemover = new soot.jimple.toolkits.graph.CriticalEdgeRemover( g );
+            return instance_soot_jimple_toolkits_graph_CriticalEdgeRemover;
+        }
     }
 
-    public soot.dava.toolkits.base.finders.CycleFinder instance_soot_dava_toolkits_base_finders_CycleFinder;
+    public volatile soot.dava.toolkits.base.finders.CycleFinder instance_soot_dava_toolkits_base_finders_CycleFinder;
+    private final Object lock_soot_dava_toolkits_base_finders_CycleFinder = new Object();
     public soot.dava.toolkits.base.finders.CycleFinder soot_dava_toolkits_base_finders_CycleFinder() {
-        if( instance_soot_dava_toolkits_base_finders_CycleFinder == null ) instance_soot_dava_toolkits_base_finders_CycleFinder = new soot.dava.toolkits.base.finders.CycleFinder( g );
-        return instance_soot_dava_toolkits_base_finders_CycleFinder;
+        soot.dava.toolkits.base.finders.CycleFinder ret = instance_soot_dava_toolkits_base_finders_CycleFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_finders_CycleFinder ) {
+            if( instance_soot_dava_toolkits_base_finders_CycleFinder == null ) instance_soot_dava_toolkits_base_finders_CycleFinder = new soot.dava.toolkits.base.finders.CycleFinder( g );
+            return instance_soot_dava_toolkits_base_finders_CycleFinder;
+        }
     }
 
-    public soot.dava.Dava instance_soot_dava_Dava;
+    public volatile soot.dava.Dava instance_soot_dava_Dava;
+    private final Object lock_soot_dava_Dava = new Object();
     public soot.dava.Dava soot_dava_Dava() {
-        if( instance_soot_dava_Dava == null ) instance_soot_dava_Dava = new soot.dava.Dava( g );
-        return instance_soot_dava_Dava;
+        soot.dava.Dava ret = instance_soot_dava_Dava;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_Dava ) {
+            if( instance_soot_dava_Dava == null ) instance_soot_dava_Dava = new soot.dava.Dava( g );
+            return instance_soot_dava_Dava;
+        }
     }
 
-    public soot.dava.DavaPrinter instance_soot_dava_DavaPrinter;
+    public volatile soot.dava.DavaPrinter instance_soot_dava_DavaPrinter;
+    private final Object lock_soot_dava_DavaPrinter = new Object();
     public soot.dava.DavaPrinter soot_dava_DavaPrinter() {
-        if( instance_soot_dava_DavaPrinter == null ) instance_soot_dava_DavaPrinter = new soot.dava.DavaPrinter( g );
-        return instance_soot_dava_DavaPrinter;
+        soot.dava.DavaPrinter ret = instance_soot_dava_DavaPrinter;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_DavaPrinter ) {
+            if( instance_soot_dava_DavaPrinter == null ) instance_soot_dava_DavaPrinter = new soot.dava.DavaPrinter( g );
+            return instance_soot_dava_DavaPrinter;
+        }
     }
 
-    public soot.xml.XMLPrinter instance_soot_xml_XMLPrinter;
+    public volatile soot.xml.XMLPrinter instance_soot_xml_XMLPrinter;
+    private final Object lock_soot_xml_XMLPrinter = new Object();
     public soot.xml.XMLPrinter soot_xml_XMLPrinter() {
-        if( instance_soot_xml_XMLPrinter == null ) instance_soot_xml_XMLPrinter = new soot.xml.XMLPrinter( g );
-        return instance_soot_xml_XMLPrinter;
+        soot.xml.XMLPrinter ret = instance_soot_xml_XMLPrinter;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_xml_XMLPrinter ) {
+            if( instance_soot_xml_XMLPrinter == null ) instance_soot_xml_XMLPrinter = new soot.xml.XMLPrinter( g );
+            return instance_soot_xml_XMLPrinter;
+        }
     }
 
-    public soot.Printer instance_soot_Printer;
+    public volatile soot.Printer instance_soot_Printer;
+    private final Object lock_soot_Printer = new Object();
     public soot.Printer soot_Printer() {
-        if( instance_soot_Printer == null ) instance_soot_Printer = new soot.Printer( g );
-        return instance_soot_Printer;
+        soot.Printer ret = instance_soot_Printer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_Printer ) {
+            if( instance_soot_Printer == null ) instance_soot_Printer = new soot.Printer( g );
+            return instance_soot_Printer;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.DeadAssignmentEliminator instance_soot_jimple_toolkits_scalar_DeadAssignmentEliminator;
+    public volatile soot.jimple.toolkits.scalar.DeadAssignmentEliminator instance_soot_jimple_toolkits_scalar_DeadAssignmentEliminator;
+    private final Object lock_soot_jimple_toolkits_scalar_DeadAssignmentEliminator = new Object();
     public soot.jimple.toolkits.scalar.DeadAssignmentEliminator soot_jimple_toolkits_scalar_DeadAssignmentEliminator() {
-        if( instance_soot_jimple_toolkits_scalar_DeadAssignmentEliminator == null ) instance_soot_jimple_toolkits_scalar_DeadAssignmentEliminator = new soot.jimple.toolkits.scalar.DeadAssignmentEliminator( g );
-        return instance_soot_jimple_toolkits_scalar_DeadAssignmentEliminator;
+        soot.jimple.toolkits.scalar.DeadAssignmentEliminator ret = instance_soot_jimple_toolkits_scalar_DeadAssignmentEliminator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_DeadAssignmentEliminator ) {
+            if( instance_soot_jimple_toolkits_scalar_DeadAssignmentEliminator == null ) instance_soot_jimple_toolkits_scalar_DeadAssignmentEliminator = new soot.jimple.toolkits.scalar.DeadAssignmentEliminator( g );
+            return instance_soot_jimple_toolkits_scalar_DeadAssignmentEliminator;
+        }
     }
 
-    public soot.jimple.toolkits.pointer.DependenceTagAggregator instance_soot_jimple_toolkits_pointer_DependenceTagAggregator;
+    public volatile soot.jimple.toolkits.pointer.DependenceTagAggregator instance_soot_jimple_toolkits_pointer_DependenceTagAggregator;
+    private final Object lock_soot_jimple_toolkits_pointer_DependenceTagAggregator = new Object();
     public soot.jimple.toolkits.pointer.DependenceTagAggregator soot_jimple_toolkits_pointer_DependenceTagAggregator() {
-        if( instance_soot_jimple_toolkits_pointer_DependenceTagAggregator == null ) instance_soot_jimple_toolkits_pointer_DependenceTagAggregator = new soot.jimple.toolkits.pointer.DependenceTagAggregator( g );
-        return instance_soot_jimple_toolkits_pointer_DependenceTagAggregator;
+        soot.jimple.toolkits.pointer.DependenceTagAggregator ret = instance_soot_jimple_toolkits_pointer_DependenceTagAggregator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_pointer_DependenceTagAggregator ) {
+            if( instance_soot_jimple_toolkits_pointer_DependenceTagAggregator == null ) instance_soot_jimple_toolkits_pointer_DependenceTagAggregator = new soot.jimple.toolkits.pointer.DependenceTagAggregator( g );
+            return instance_soot_jimple_toolkits_pointer_DependenceTagAggregator;
+        }
     }
 
-    public soot.coffi.Double2ndHalfType instance_soot_coffi_Double2ndHalfType;
+    public volatile soot.coffi.Double2ndHalfType instance_soot_coffi_Double2ndHalfType;
+    private final Object lock_soot_coffi_Double2ndHalfType = new Object();
     public soot.coffi.Double2ndHalfType soot_coffi_Double2ndHalfType() {
-        if( instance_soot_coffi_Double2ndHalfType == null ) instance_soot_coffi_Double2ndHalfType = new soot.coffi.Double2ndHalfType( g );
-        return instance_soot_coffi_Double2ndHalfType;
+        soot.coffi.Double2ndHalfType ret = instance_soot_coffi_Double2ndHalfType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_coffi_Double2ndHalfType ) {
+            if( instance_soot_coffi_Double2ndHalfType == null ) instance_soot_coffi_Double2ndHalfType = new soot.coffi.Double2ndHalfType( g );
+            return instance_soot_coffi_Double2ndHalfType;
+        }
     }
 
-    public soot.DoubleType instance_soot_DoubleType;
+    public volatile soot.DoubleType instance_soot_DoubleType;
+    private final Object lock_soot_DoubleType = new Object();
     public soot.DoubleType soot_DoubleType() {
-        if( instance_soot_DoubleType == null ) instance_soot_DoubleType = new soot.DoubleType( g );
-        return instance_soot_DoubleType;
+        soot.DoubleType ret = instance_soot_DoubleType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_DoubleType ) {
+            if( instance_soot_DoubleType == null ) instance_soot_DoubleType = new soot.DoubleType( g );
+            return instance_soot_DoubleType;
+        }
     }
 
-    public soot.baf.DoubleWordType instance_soot_baf_DoubleWordType;
+    public volatile soot.baf.DoubleWordType instance_soot_baf_DoubleWordType;
+    private final Object lock_soot_baf_DoubleWordType = new Object();
     public soot.baf.DoubleWordType soot_baf_DoubleWordType() {
-        if( instance_soot_baf_DoubleWordType == null ) instance_soot_baf_DoubleWordType = new soot.baf.DoubleWordType( g );
-        return instance_soot_baf_DoubleWordType;
+        soot.baf.DoubleWordType ret = instance_soot_baf_DoubleWordType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_baf_DoubleWordType ) {
+            if( instance_soot_baf_DoubleWordType == null ) instance_soot_baf_DoubleWordType = new soot.baf.DoubleWordType( g );
+            return instance_soot_baf_DoubleWordType;
+        }
     }
 
-    public soot.jimple.toolkits.pointer.DumbPointerAnalysis instance_soot_jimple_toolkits_pointer_DumbPointerAnalysis;
+    public volatile soot.jimple.toolkits.pointer.DumbPointerAnalysis instance_soot_jimple_toolkits_pointer_DumbPointerAnalysis;
+    private final Object lock_soot_jimple_toolkits_pointer_DumbPointerAnalysis = new Object();
     public soot.jimple.toolkits.pointer.DumbPointerAnalysis soot_jimple_toolkits_pointer_DumbPointerAnalysis() {
-        if( instance_soot_jimple_toolkits_pointer_DumbPointerAnalysis == null ) instance_soot_jimple_toolkits_pointer_DumbPointerAnalysis = new soot.jimple.toolkits.pointer.DumbPointerAnalysis( g );
-        return instance_soot_jimple_toolkits_pointer_DumbPointerAnalysis;
+        soot.jimple.toolkits.pointer.DumbPointerAnalysis ret = instance_soot_jimple_toolkits_pointer_DumbPointerAnalysis;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_pointer_DumbPointerAnalysis ) {
+            if( instance_soot_jimple_toolkits_pointer_DumbPointerAnalysis == null ) instance_soot_jimple_toolkits_pointer_DumbPointerAnalysis = new soot.jimple.toolkits.pointer.DumbPointerAnalysis( g );
+            return instance_soot_jimple_toolkits_pointer_DumbPointerAnalysis;
+        }
     }
 
-    public soot.jimple.spark.sets.EmptyPointsToSet instance_soot_jimple_spark_sets_EmptyPointsToSet;
+    public volatile soot.jimple.spark.sets.EmptyPointsToSet instance_soot_jimple_spark_sets_EmptyPointsToSet;
+    private final Object lock_soot_jimple_spark_sets_EmptyPointsToSet = new Object();
     public soot.jimple.spark.sets.EmptyPointsToSet soot_jimple_spark_sets_EmptyPointsToSet() {
-        if( instance_soot_jimple_spark_sets_EmptyPointsToSet == null ) instance_soot_jimple_spark_sets_EmptyPointsToSet = new soot.jimple.spark.sets.EmptyPointsToSet( g );
-        return instance_soot_jimple_spark_sets_EmptyPointsToSet;
+        soot.jimple.spark.sets.EmptyPointsToSet ret = instance_soot_jimple_spark_sets_EmptyPointsToSet;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_spark_sets_EmptyPointsToSet ) {
+            if( instance_soot_jimple_spark_sets_EmptyPointsToSet == null ) instance_soot_jimple_spark_sets_EmptyPointsToSet = new soot.jimple.spark.sets.EmptyPointsToSet( g );
+            return instance_soot_jimple_spark_sets_EmptyPointsToSet;
+        }
     }
 
-    public soot.ErroneousType instance_soot_ErroneousType;
+    public volatile soot.ErroneousType instance_soot_ErroneousType;
+    private final Object lock_soot_ErroneousType = new Object();
     public soot.ErroneousType soot_ErroneousType() {
-        if( instance_soot_ErroneousType == null ) instance_soot_ErroneousType = new soot.ErroneousType( g );
-        return instance_soot_ErroneousType;
+        soot.ErroneousType ret = instance_soot_ErroneousType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_ErroneousType ) {
+            if( instance_soot_ErroneousType == null ) instance_soot_ErroneousType = new soot.ErroneousType( g );
+            return instance_soot_ErroneousType;
+        }
     }
 
-    public soot.dava.toolkits.base.finders.ExceptionFinder instance_soot_dava_toolkits_base_finders_ExceptionFinder;
+    public volatile soot.dava.toolkits.base.finders.ExceptionFinder instance_soot_dava_toolkits_base_finders_ExceptionFinder;
+    private final Object lock_soot_dava_toolkits_base_finders_ExceptionFinder = new Object();
     public soot.dava.toolkits.base.finders.ExceptionFinder soot_dava_toolkits_base_finders_ExceptionFinder() {
-        if( instance_soot_dava_toolkits_base_finders_ExceptionFinder == null ) instance_soot_dava_toolkits_base_finders_ExceptionFinder = new soot.dava.toolkits.base.finders.ExceptionFinder( g );
-        return instance_soot_dava_toolkits_base_finders_ExceptionFinder;
+        soot.dava.toolkits.base.finders.ExceptionFinder ret = instance_soot_dava_toolkits_base_finders_ExceptionFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_finders_ExceptionFinder ) {
+            if( instance_soot_dava_toolkits_base_finders_ExceptionFinder == null ) instance_soot_dava_toolkits_base_finders_ExceptionFinder = new soot.dava.toolkits.base.finders.ExceptionFinder( g );
+            return instance_soot_dava_toolkits_base_finders_ExceptionFinder;
+        }
     }
 
-    public soot.jimple.toolkits.pointer.FieldRWTagger instance_soot_jimple_toolkits_pointer_FieldRWTagger;
+    public volatile soot.jimple.toolkits.pointer.FieldRWTagger instance_soot_jimple_toolkits_pointer_FieldRWTagger;
+    private final Object lock_soot_jimple_toolkits_pointer_FieldRWTagger = new Object();
     public soot.jimple.toolkits.pointer.FieldRWTagger soot_jimple_toolkits_pointer_FieldRWTagger() {
-        if( instance_soot_jimple_toolkits_pointer_FieldRWTagger == null ) instance_soot_jimple_toolkits_pointer_FieldRWTagger = new soot.jimple.toolkits.pointer.FieldRWTagger( g );
-        return instance_soot_jimple_toolkits_pointer_FieldRWTagger;
+        soot.jimple.toolkits.pointer.FieldRWTagger ret = instance_soot_jimple_toolkits_pointer_FieldRWTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_pointer_FieldRWTagger ) {
+            if( instance_soot_jimple_toolkits_pointer_FieldRWTagger == null ) instance_soot_jimple_toolkits_pointer_FieldRWTagger = new soot.jimple.toolkits.pointer.FieldRWTagger( g );
+            return instance_soot_jimple_toolkits_pointer_FieldRWTagger;
+        }
     }
 
-    public soot.FloatType instance_soot_FloatType;
+    public volatile soot.FloatType instance_soot_FloatType;
+    private final Object lock_soot_FloatType = new Object();
     public soot.FloatType soot_FloatType() {
-        if( instance_soot_FloatType == null ) instance_soot_FloatType = new soot.FloatType( g );
-        return instance_soot_FloatType;
+        soot.FloatType ret = instance_soot_FloatType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_FloatType ) {
+            if( instance_soot_FloatType == null ) instance_soot_FloatType = new soot.FloatType( g );
+            return instance_soot_FloatType;
+        }
     }
 
-    public soot.jimple.toolkits.pointer.FullObjectSet instance_soot_jimple_toolkits_pointer_FullObjectSet;
+    public volatile soot.jimple.toolkits.pointer.FullObjectSet instance_soot_jimple_toolkits_pointer_FullObjectSet;
+    private final Object lock_soot_jimple_toolkits_pointer_FullObjectSet = new Object();
     public soot.jimple.toolkits.pointer.FullObjectSet soot_jimple_toolkits_pointer_FullObjectSet() {
-        if( instance_soot_jimple_toolkits_pointer_FullObjectSet == null ) instance_soot_jimple_toolkits_pointer_FullObjectSet = new soot.jimple.toolkits.pointer.FullObjectSet( g );
-        return instance_soot_jimple_toolkits_pointer_FullObjectSet;
+        soot.jimple.toolkits.pointer.FullObjectSet ret = instance_soot_jimple_toolkits_pointer_FullObjectSet;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_pointer_FullObjectSet ) {
+            if( instance_soot_jimple_toolkits_pointer_FullObjectSet == null ) instance_soot_jimple_toolkits_pointer_FullObjectSet = new soot.jimple.toolkits.pointer.FullObjectSet( g );
+            return instance_soot_jimple_toolkits_pointer_FullObjectSet;
+        }
     }
 
-    public soot.grimp.Grimp instance_soot_grimp_Grimp;
+    public volatile soot.grimp.Grimp instance_soot_grimp_Grimp;
+    private final Object lock_soot_grimp_Grimp = new Object();
     public soot.grimp.Grimp soot_grimp_Grimp() {
-        if( instance_soot_grimp_Grimp == null ) instance_soot_grimp_Grimp = new soot.grimp.Grimp( g );
-        return instance_soot_grimp_Grimp;
+        soot.grimp.Grimp ret = instance_soot_grimp_Grimp;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_grimp_Grimp ) {
+            if( instance_soot_grimp_Grimp == null ) instance_soot_grimp_Grimp = new soot.grimp.Grimp( g );
+            return instance_soot_grimp_Grimp;
+        }
     }
 
-    public soot.dava.toolkits.base.finders.IfFinder instance_soot_dava_toolkits_base_finders_IfFinder;
+    public volatile soot.dava.toolkits.base.finders.IfFinder instance_soot_dava_toolkits_base_finders_IfFinder;
+    private final Object lock_soot_dava_toolkits_base_finders_IfFinder = new Object();
     public soot.dava.toolkits.base.finders.IfFinder soot_dava_toolkits_base_finders_IfFinder() {
-        if( instance_soot_dava_toolkits_base_finders_IfFinder == null ) instance_soot_dava_toolkits_base_finders_IfFinder = new soot.dava.toolkits.base.finders.IfFinder( g );
-        return instance_soot_dava_toolkits_base_finders_IfFinder;
+        soot.dava.toolkits.base.finders.IfFinder ret = instance_soot_dava_toolkits_base_finders_IfFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_finders_IfFinder ) {
+            if( instance_soot_dava_toolkits_base_finders_IfFinder == null ) instance_soot_dava_toolkits_base_finders_IfFinder = new soot.dava.toolkits.base.finders.IfFinder( g );
+            return instance_soot_dava_toolkits_base_finders_IfFinder;
+        }
     }
 
-    public soot.IntType instance_soot_IntType;
+    public volatile soot.IntType instance_soot_IntType;
+    private final Object lock_soot_IntType = new Object();
     public soot.IntType soot_IntType() {
-        if( instance_soot_IntType == null ) instance_soot_IntType = new soot.IntType( g );
-        return instance_soot_IntType;
+        soot.IntType ret = instance_soot_IntType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_IntType ) {
+            if( instance_soot_IntType == null ) instance_soot_IntType = new soot.IntType( g );
+            return instance_soot_IntType;
+        }
     }
 
-    public soot.jimple.Jimple instance_soot_jimple_Jimple;
+    public volatile soot.jimple.Jimple instance_soot_jimple_Jimple;
+    private final Object lock_soot_jimple_Jimple = new Object();
     public soot.jimple.Jimple soot_jimple_Jimple() {
-        if( instance_soot_jimple_Jimple == null ) instance_soot_jimple_Jimple = new soot.jimple.Jimple( g );
-        return instance_soot_jimple_Jimple;
+        soot.jimple.Jimple ret = instance_soot_jimple_Jimple;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_Jimple ) {
+            if( instance_soot_jimple_Jimple == null ) instance_soot_jimple_Jimple = new soot.jimple.Jimple( g );
+            return instance_soot_jimple_Jimple;
+        }
     }
 
-    public soot.dava.toolkits.base.finders.LabeledBlockFinder instance_soot_dava_toolkits_base_finders_LabeledBlockFinder;
+    public volatile soot.dava.toolkits.base.finders.LabeledBlockFinder instance_soot_dava_toolkits_base_finders_LabeledBlockFinder;
+    private final Object lock_soot_dava_toolkits_base_finders_LabeledBlockFinder = new Object();
     public soot.dava.toolkits.base.finders.LabeledBlockFinder soot_dava_toolkits_base_finders_LabeledBlockFinder() {
-        if( instance_soot_dava_toolkits_base_finders_LabeledBlockFinder == null ) instance_soot_dava_toolkits_base_finders_LabeledBlockFinder = new soot.dava.toolkits.base.finders.LabeledBlockFinder( g );
-        return instance_soot_dava_toolkits_base_finders_LabeledBlockFinder;
+        soot.dava.toolkits.base.finders.LabeledBlockFinder ret = instance_soot_dava_toolkits_base_finders_LabeledBlockFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_finders_LabeledBlockFinder ) {
+            if( instance_soot_dava_toolkits_base_finders_LabeledBlockFinder == null ) instance_soot_dava_toolkits_base_finders_LabeledBlockFinder = new soot.dava.toolkits.base.finders.LabeledBlockFinder( g );
+            return instance_soot_dava_toolkits_base_finders_LabeledBlockFinder;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.pre.LazyCodeMotion instance_soot_jimple_toolkits_scalar_pre_LazyCodeMotion;
+    public volatile soot.jimple.toolkits.scalar.pre.LazyCodeMotion instance_soot_jimple_toolkits_scalar_pre_LazyCodeMotion;
+    private final Object lock_soot_jimple_toolkits_scalar_pre_LazyCodeMotion = new Object();
     public soot.jimple.toolkits.scalar.pre.LazyCodeMotion soot_jimple_toolkits_scalar_pre_LazyCodeMotion() {
-        if( instance_soot_jimple_toolkits_scalar_pre_LazyCodeMotion == null ) instance_soot_jimple_toolkits_scalar_pre_LazyCodeMotion = new soot.jimple.toolkits.scalar.pre.LazyCodeMotion( g );
-        return instance_soot_jimple_toolkits_scalar_pre_LazyCodeMotion;
+        soot.jimple.toolkits.scalar.pre.LazyCodeMotion ret = instance_soot_jimple_toolkits_scalar_pre_LazyCodeMotion;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_pre_LazyCodeMotion ) {
+            if( instance_soot_jimple_toolkits_scalar_pre_LazyCodeMotion == null ) instance_soot_jimple_toolkits_scalar_pre_LazyCodeMotion = new soot.jimple.toolkits.scalar.pre.LazyCodeMotion( g );
+            return instance_soot_jimple_toolkits_scalar_pre_LazyCodeMotion;
+        }
     }
 
-    public soot.tagkit.LineNumberTagAggregator instance_soot_tagkit_LineNumberTagAggregator;
+    public volatile soot.tagkit.LineNumberTagAggregator instance_soot_tagkit_LineNumberTagAggregator;
+    private final Object lock_soot_tagkit_LineNumberTagAggregator = new Object();
     public soot.tagkit.LineNumberTagAggregator soot_tagkit_LineNumberTagAggregator() {
-        if( instance_soot_tagkit_LineNumberTagAggregator == null ) instance_soot_tagkit_LineNumberTagAggregator = new soot.tagkit.LineNumberTagAggregator( g );
-        return instance_soot_tagkit_LineNumberTagAggregator;
+        soot.tagkit.LineNumberTagAggregator ret = instance_soot_tagkit_LineNumberTagAggregator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_tagkit_LineNumberTagAggregator ) {
+            if( instance_soot_tagkit_LineNumberTagAggregator == null ) instance_soot_tagkit_LineNumberTagAggregator = new soot.tagkit.LineNumberTagAggregator( g );
+            return instance_soot_tagkit_LineNumberTagAggregator;
+        }
     }
 
-    public soot.tagkit.InnerClassTagAggregator instance_soot_tagkit_InnerClassTagAggregator;
+    public volatile soot.tagkit.InnerClassTagAggregator instance_soot_tagkit_InnerClassTagAggregator;
+    private final Object lock_soot_tagkit_InnerClassTagAggregator = new Object();
     public soot.tagkit.InnerClassTagAggregator soot_tagkit_InnerClassTagAggregator() {
-        if( instance_soot_tagkit_InnerClassTagAggregator == null ) instance_soot_tagkit_InnerClassTagAggregator = new soot.tagkit.InnerClassTagAggregator( g );
-        return instance_soot_tagkit_InnerClassTagAggregator;
+        soot.tagkit.InnerClassTagAggregator ret = instance_soot_tagkit_InnerClassTagAggregator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_tagkit_InnerClassTagAggregator ) {
+            if( instance_soot_tagkit_InnerClassTagAggregator == null ) instance_soot_tagkit_InnerClassTagAggregator = new soot.tagkit.InnerClassTagAggregator( g );
+            return instance_soot_tagkit_InnerClassTagAggregator;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.LineNumberAdder instance_soot_jimple_toolkits_annotation_LineNumberAdder;
+    public volatile soot.jimple.toolkits.annotation.LineNumberAdder instance_soot_jimple_toolkits_annotation_LineNumberAdder;
+    private final Object lock_soot_jimple_toolkits_annotation_LineNumberAdder = new Object();
     public soot.jimple.toolkits.annotation.LineNumberAdder soot_jimple_toolkits_annotation_LineNumberAdder() {
-        if( instance_soot_jimple_toolkits_annotation_LineNumberAdder == null ) instance_soot_jimple_toolkits_annotation_LineNumberAdder = new soot.jimple.toolkits.annotation.LineNumberAdder( g );
-        return instance_soot_jimple_toolkits_annotation_LineNumberAdder;
+        soot.jimple.toolkits.annotation.LineNumberAdder ret = instance_soot_jimple_toolkits_annotation_LineNumberAdder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_LineNumberAdder ) {
+            if( instance_soot_jimple_toolkits_annotation_LineNumberAdder == null ) instance_soot_jimple_toolkits_annotation_LineNumberAdder = new soot.jimple.toolkits.annotation.LineNumberAdder( g );
+            return instance_soot_jimple_toolkits_annotation_LineNumberAdder;
+        }
     }
 
-    public soot.baf.toolkits.base.LoadStoreOptimizer instance_soot_baf_toolkits_base_LoadStoreOptimizer;
+    public volatile soot.baf.toolkits.base.LoadStoreOptimizer instance_soot_baf_toolkits_base_LoadStoreOptimizer;
+    private final Object lock_soot_baf_toolkits_base_LoadStoreOptimizer = new Object();
     public soot.baf.toolkits.base.LoadStoreOptimizer soot_baf_toolkits_base_LoadStoreOptimizer() {
-        if( instance_soot_baf_toolkits_base_LoadStoreOptimizer == null ) instance_soot_baf_toolkits_base_LoadStoreOptimizer = new soot.baf.toolkits.base.LoadStoreOptimizer( g );
-        return instance_soot_baf_toolkits_base_LoadStoreOptimizer;
+        soot.baf.toolkits.base.LoadStoreOptimizer ret = instance_soot_baf_toolkits_base_LoadStoreOptimizer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_baf_toolkits_base_LoadStoreOptimizer ) {
+            if( instance_soot_baf_toolkits_base_LoadStoreOptimizer == null ) instance_soot_baf_toolkits_base_LoadStoreOptimizer = new soot.baf.toolkits.base.LoadStoreOptimizer( g );
+            return instance_soot_baf_toolkits_base_LoadStoreOptimizer;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.LocalNameStandardizer instance_soot_jimple_toolkits_scalar_LocalNameStandardizer;
+    public volatile soot.jimple.toolkits.scalar.LocalNameStandardizer instance_soot_jimple_toolkits_scalar_LocalNameStandardizer;
+    private final Object lock_soot_jimple_toolkits_scalar_LocalNameStandardizer = new Object();
     public soot.jimple.toolkits.scalar.LocalNameStandardizer soot_jimple_toolkits_scalar_LocalNameStandardizer() {
-        if( instance_soot_jimple_toolkits_scalar_LocalNameStandardizer == null ) instance_soot_jimple_toolkits_scalar_LocalNameStandardizer = new soot.jimple.toolkits.scalar.LocalNameStandardizer( g );
-        return instance_soot_jimple_toolkits_scalar_LocalNameStandardizer;
+        soot.jimple.toolkits.scalar.LocalNameStandardizer ret = instance_soot_jimple_toolkits_scalar_LocalNameStandardizer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_LocalNameStandardizer ) {
+            if( instance_soot_jimple_toolkits_scalar_LocalNameStandardizer == null ) instance_soot_jimple_toolkits_scalar_LocalNameStandardizer = new soot.jimple.toolkits.scalar.LocalNameStandardizer( g );
+            return instance_soot_jimple_toolkits_scalar_LocalNameStandardizer;
+        }
     }
 
-    public soot.toolkits.scalar.LocalPacker instance_soot_toolkits_scalar_LocalPacker;
+    public volatile soot.toolkits.scalar.LocalPacker instance_soot_toolkits_scalar_LocalPacker;
+    private final Object lock_soot_toolkits_scalar_LocalPacker = new Object();
     public soot.toolkits.scalar.LocalPacker soot_toolkits_scalar_LocalPacker() {
-        if( instance_soot_toolkits_scalar_LocalPacker == null ) instance_soot_toolkits_scalar_LocalPacker = new soot.toolkits.scalar.LocalPacker( g );
-        return instance_soot_toolkits_scalar_LocalPacker;
+        soot.toolkits.scalar.LocalPacker ret = instance_soot_toolkits_scalar_LocalPacker;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toolkits_scalar_LocalPacker ) {
+            if( instance_soot_toolkits_scalar_LocalPacker == null ) instance_soot_toolkits_scalar_LocalPacker = new soot.toolkits.scalar.LocalPacker( g );
+            return instance_soot_toolkits_scalar_LocalPacker;
+        }
     }
 
-    public soot.toolkits.scalar.LocalSplitter instance_soot_toolkits_scalar_LocalSplitter;
+    public volatile soot.toolkits.scalar.LocalSplitter instance_soot_toolkits_scalar_LocalSplitter;
+    private final Object lock_soot_toolkits_scalar_LocalSplitter = new Object();
     public soot.toolkits.scalar.LocalSplitter soot_toolkits_scalar_LocalSplitter() {
-        if( instance_soot_toolkits_scalar_LocalSplitter == null ) instance_soot_toolkits_scalar_LocalSplitter = new soot.toolkits.scalar.LocalSplitter( g );
-        return instance_soot_toolkits_scalar_LocalSplitter;
+        soot.toolkits.scalar.LocalSplitter ret = instance_soot_toolkits_scalar_LocalSplitter;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toolkits_scalar_LocalSplitter ) {
+            if( instance_soot_toolkits_scalar_LocalSplitter == null ) instance_soot_toolkits_scalar_LocalSplitter = new soot.toolkits.scalar.LocalSplitter( g );
+            return instance_soot_toolkits_scalar_LocalSplitter;
+        }
     }
 
-    public soot.coffi.Long2ndHalfType instance_soot_coffi_Long2ndHalfType;
+    public volatile soot.coffi.Long2ndHalfType instance_soot_coffi_Long2ndHalfType;
+    private final Object lock_soot_coffi_Long2ndHalfType = new Object();
     public soot.coffi.Long2ndHalfType soot_coffi_Long2ndHalfType() {
-        if( instance_soot_coffi_Long2ndHalfType == null ) instance_soot_coffi_Long2ndHalfType = new soot.coffi.Long2ndHalfType( g );
-        return instance_soot_coffi_Long2ndHalfType;
+        soot.coffi.Long2ndHalfType ret = instance_soot_coffi_Long2ndHalfType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_coffi_Long2ndHalfType ) {
+            if( instance_soot_coffi_Long2ndHalfType == null ) instance_soot_coffi_Long2ndHalfType = new soot.coffi.Long2ndHalfType( g );
+            return instance_soot_coffi_Long2ndHalfType;
+        }
     }
 
-    public soot.LongType instance_soot_LongType;
+    public volatile soot.LongType instance_soot_LongType;
+    private final Object lock_soot_LongType = new Object();
     public soot.LongType soot_LongType() {
-        if( instance_soot_LongType == null ) instance_soot_LongType = new soot.LongType( g );
-        return instance_soot_LongType;
+        soot.LongType ret = instance_soot_LongType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_LongType ) {
+            if( instance_soot_LongType == null ) instance_soot_LongType = new soot.LongType( g );
+            return instance_soot_LongType;
+        }
     }
 
-    public soot.dava.toolkits.base.misc.MonitorConverter instance_soot_dava_toolkits_base_misc_MonitorConverter;
+    public volatile soot.dava.toolkits.base.misc.MonitorConverter instance_soot_dava_toolkits_base_misc_MonitorConverter;
+    private final Object lock_soot_dava_toolkits_base_misc_MonitorConverter = new Object();
     public soot.dava.toolkits.base.misc.MonitorConverter soot_dava_toolkits_base_misc_MonitorConverter() {
-        if( instance_soot_dava_toolkits_base_misc_MonitorConverter == null ) instance_soot_dava_toolkits_base_misc_MonitorConverter = new soot.dava.toolkits.base.misc.MonitorConverter( g );
-        return instance_soot_dava_toolkits_base_misc_MonitorConverter;
+        soot.dava.toolkits.base.misc.MonitorConverter ret = instance_soot_dava_toolkits_base_misc_MonitorConverter;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_misc_MonitorConverter ) {
+            if( instance_soot_dava_toolkits_base_misc_MonitorConverter == null ) instance_soot_dava_toolkits_base_misc_MonitorConverter = new soot.dava.toolkits.base.misc.MonitorConverter( g );
+            return instance_soot_dava_toolkits_base_misc_MonitorConverter;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.NopEliminator instance_soot_jimple_toolkits_scalar_NopEliminator;
+    public volatile soot.jimple.toolkits.scalar.NopEliminator instance_soot_jimple_toolkits_scalar_NopEliminator;
+    private final Object lock_soot_jimple_toolkits_scalar_NopEliminator = new Object();
     public soot.jimple.toolkits.scalar.NopEliminator soot_jimple_toolkits_scalar_NopEliminator() {
-        if( instance_soot_jimple_toolkits_scalar_NopEliminator == null ) instance_soot_jimple_toolkits_scalar_NopEliminator = new soot.jimple.toolkits.scalar.NopEliminator( g );
-        return instance_soot_jimple_toolkits_scalar_NopEliminator;
+        soot.jimple.toolkits.scalar.NopEliminator ret = instance_soot_jimple_toolkits_scalar_NopEliminator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_NopEliminator ) {
+            if( instance_soot_jimple_toolkits_scalar_NopEliminator == null ) instance_soot_jimple_toolkits_scalar_NopEliminator = new soot.jimple.toolkits.scalar.NopEliminator( g );
+            return instance_soot_jimple_toolkits_scalar_NopEliminator;
+        }
     }
 
-    public soot.jimple.NullConstant instance_soot_jimple_NullConstant;
+    public volatile soot.jimple.NullConstant instance_soot_jimple_NullConstant;
+    private final Object lock_soot_jimple_NullConstant = new Object();
     public soot.jimple.NullConstant soot_jimple_NullConstant() {
-        if( instance_soot_jimple_NullConstant == null ) instance_soot_jimple_NullConstant = new soot.jimple.NullConstant( g );
-        return instance_soot_jimple_NullConstant;
+        soot.jimple.NullConstant ret = instance_soot_jimple_NullConstant;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_NullConstant ) {
+            if( instance_soot_jimple_NullConstant == null ) instance_soot_jimple_NullConstant = new soot.jimple.NullConstant( g );
+            return instance_soot_jimple_NullConstant;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.nullcheck.NullPointerChecker instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker;
+    public volatile soot.jimple.toolkits.annotation.nullcheck.NullPointerChecker instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker;
+    private final Object lock_soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker = new Object();
     public soot.jimple.toolkits.annotation.nullcheck.NullPointerChecker soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker() {
-        if( instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker == null ) instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker = new soot.jimple.toolkits.annotation.nullcheck.NullPointerChecker( g );
-        return instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker;
+        soot.jimple.toolkits.annotation.nullcheck.NullPointerChecker ret = instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker ) {
+            if( instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker == null ) instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker = new soot.jimple.toolkits.annotation.nullcheck.NullPointerChecker( g );
+            return instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerChecker;
+        }
     }
 
-    public soot.NullType instance_soot_NullType;
+    public volatile soot.NullType instance_soot_NullType;
+    private final Object lock_soot_NullType = new Object();
     public soot.NullType soot_NullType() {
-        if( instance_soot_NullType == null ) instance_soot_NullType = new soot.NullType( g );
-        return instance_soot_NullType;
+        soot.NullType ret = instance_soot_NullType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_NullType ) {
+            if( instance_soot_NullType == null ) instance_soot_NullType = new soot.NullType( g );
+            return instance_soot_NullType;
+        }
     }
 
-    public soot.dava.toolkits.base.misc.PackageNamer instance_soot_dava_toolkits_base_misc_PackageNamer;
+    public volatile soot.dava.toolkits.base.misc.PackageNamer instance_soot_dava_toolkits_base_misc_PackageNamer;
+    private final Object lock_soot_dava_toolkits_base_misc_PackageNamer = new Object();
     public soot.dava.toolkits.base.misc.PackageNamer soot_dava_toolkits_base_misc_PackageNamer() {
-        if( instance_soot_dava_toolkits_base_misc_PackageNamer == null ) instance_soot_dava_toolkits_base_misc_PackageNamer = new soot.dava.toolkits.base.misc.PackageNamer( g );
-        return instance_soot_dava_toolkits_base_misc_PackageNamer;
+        soot.dava.toolkits.base.misc.PackageNamer ret = instance_soot_dava_toolkits_base_misc_PackageNamer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_misc_PackageNamer ) {
+            if( instance_soot_dava_toolkits_base_misc_PackageNamer == null ) instance_soot_dava_toolkits_base_misc_PackageNamer = new soot.dava.toolkits.base.misc.PackageNamer( g );
+            return instance_soot_dava_toolkits_base_misc_PackageNamer;
+        }
     }
 
-    public soot.PackManager instance_soot_PackManager;
+    public volatile soot.PackManager instance_soot_PackManager;
+    private final Object lock_soot_PackManager = new Object();
     public soot.PackManager soot_PackManager() {
-        if( instance_soot_PackManager == null ) instance_soot_PackManager = new soot.PackManager( g );
-        return instance_soot_PackManager;
+        soot.PackManager ret = instance_soot_PackManager;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_PackManager ) {
+            if( instance_soot_PackManager == null ) instance_soot_PackManager = new soot.PackManager( g );
+            return instance_soot_PackManager;
+        }
     }
 
-    public soot.baf.toolkits.base.PeepholeOptimizer instance_soot_baf_toolkits_base_PeepholeOptimizer;
+    public volatile soot.baf.toolkits.base.PeepholeOptimizer instance_soot_baf_toolkits_base_PeepholeOptimizer;
+    private final Object lock_soot_baf_toolkits_base_PeepholeOptimizer = new Object();
     public soot.baf.toolkits.base.PeepholeOptimizer soot_baf_toolkits_base_PeepholeOptimizer() {
-        if( instance_soot_baf_toolkits_base_PeepholeOptimizer == null ) instance_soot_baf_toolkits_base_PeepholeOptimizer = new soot.baf.toolkits.base.PeepholeOptimizer( g );
-        return instance_soot_baf_toolkits_base_PeepholeOptimizer;
+        soot.baf.toolkits.base.PeepholeOptimizer ret = instance_soot_baf_toolkits_base_PeepholeOptimizer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_baf_toolkits_base_PeepholeOptimizer ) {
+            if( instance_soot_baf_toolkits_base_PeepholeOptimizer == null ) instance_soot_baf_toolkits_base_PeepholeOptimizer = new soot.baf.toolkits.base.PeepholeOptimizer( g );
+            return instance_soot_baf_toolkits_base_PeepholeOptimizer;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.profiling.ProfilingGenerator instance_soot_jimple_toolkits_annotation_profiling_ProfilingGenerator;
+    public volatile soot.jimple.toolkits.annotation.profiling.ProfilingGenerator instance_soot_jimple_toolkits_annotation_profiling_ProfilingGenerator;
+    private final Object lock_soot_jimple_toolkits_annotation_profiling_ProfilingGenerator = new Object();
     public soot.jimple.toolkits.annotation.profiling.ProfilingGenerator soot_jimple_toolkits_annotation_profiling_ProfilingGenerator() {
-        if( instance_soot_jimple_toolkits_annotation_profiling_ProfilingGenerator == null ) instance_soot_jimple_toolkits_annotation_profiling_ProfilingGenerator = new soot.jimple.toolkits.annotation.profiling.ProfilingGenerator( g );
-        return instance_soot_jimple_toolkits_annotation_profiling_ProfilingGenerator;
+        soot.jimple.toolkits.annotation.profiling.ProfilingGenerator ret = instance_soot_jimple_toolkits_annotation_profiling_ProfilingGenerator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_profiling_ProfilingGenerator ) {
+            if( instance_soot_jimple_toolkits_annotation_profiling_ProfilingGenerator == null ) instance_soot_jimple_toolkits_annotation_profiling_ProfilingGenerator = new soot.jimple.toolkits.annotation.profiling.ProfilingGenerator( g );
+            return instance_soot_jimple_toolkits_annotation_profiling_ProfilingGenerator;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.arraycheck.RectangularArrayFinder instance_soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder;
+    public volatile soot.jimple.toolkits.annotation.arraycheck.RectangularArrayFinder instance_soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder;
+    private final Object lock_soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder = new Object();
     public soot.jimple.toolkits.annotation.arraycheck.RectangularArrayFinder soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder() {
-        if( instance_soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder == null ) instance_soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder = new soot.jimple.toolkits.annotation.arraycheck.RectangularArrayFinder( g );
-        return instance_soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder;
+        soot.jimple.toolkits.annotation.arraycheck.RectangularArrayFinder ret = instance_soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder ) {
+            if( instance_soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder == null ) instance_soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder = new soot.jimple.toolkits.annotation.arraycheck.RectangularArrayFinder( g );
+            return instance_soot_jimple_toolkits_annotation_arraycheck_RectangularArrayFinder;
+        }
     }
 
-    public soot.RefType instance_soot_RefType;
+    public volatile soot.RefType instance_soot_RefType;
+    private final Object lock_soot_RefType = new Object();
     public soot.RefType soot_RefType() {
-        if( instance_soot_RefType == null ) instance_soot_RefType = new soot.RefType( g );
-        return instance_soot_RefType;
+        soot.RefType ret = instance_soot_RefType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_RefType ) {
+            if( instance_soot_RefType == null ) instance_soot_RefType = new soot.RefType( g );
+            return instance_soot_RefType;
+        }
     }
 
-    public soot.Scene instance_soot_Scene;
+    public volatile soot.Scene instance_soot_Scene;
+    private final Object lock_soot_Scene = new Object();
     public soot.Scene soot_Scene() {
-        if( instance_soot_Scene == null ) instance_soot_Scene = new soot.Scene( g );
-        return instance_soot_Scene;
+        soot.Scene ret = instance_soot_Scene;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_Scene ) {
+            if( instance_soot_Scene == null ) instance_soot_Scene = new soot.Scene( g );
+            return instance_soot_Scene;
+        }
     }
 
-    public soot.dava.toolkits.base.finders.SequenceFinder instance_soot_dava_toolkits_base_finders_SequenceFinder;
+    public volatile soot.dava.toolkits.base.finders.SequenceFinder instance_soot_dava_toolkits_base_finders_SequenceFinder;
+    private final Object lock_soot_dava_toolkits_base_finders_SequenceFinder = new Object();
     public soot.dava.toolkits.base.finders.SequenceFinder soot_dava_toolkits_base_finders_SequenceFinder() {
-        if( instance_soot_dava_toolkits_base_finders_SequenceFinder == null ) instance_soot_dava_toolkits_base_finders_SequenceFinder = new soot.dava.toolkits.base.finders.SequenceFinder( g );
-        return instance_soot_dava_toolkits_base_finders_SequenceFinder;
+        soot.dava.toolkits.base.finders.SequenceFinder ret = instance_soot_dava_toolkits_base_finders_SequenceFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_finders_SequenceFinder ) {
+            if( instance_soot_dava_toolkits_base_finders_SequenceFinder == null ) instance_soot_dava_toolkits_base_finders_SequenceFinder = new soot.dava.toolkits.base.finders.SequenceFinder( g );
+            return instance_soot_dava_toolkits_base_finders_SequenceFinder;
+        }
     }
 
-    public soot.shimple.Shimple instance_soot_shimple_Shimple;
+    public volatile soot.shimple.Shimple instance_soot_shimple_Shimple;
+    private final Object lock_soot_shimple_Shimple = new Object();
     public soot.shimple.Shimple soot_shimple_Shimple() {
-        if( instance_soot_shimple_Shimple == null ) instance_soot_shimple_Shimple = new soot.shimple.Shimple( g );
-        return instance_soot_shimple_Shimple;
+        soot.shimple.Shimple ret = instance_soot_shimple_Shimple;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_shimple_Shimple ) {
+            if( instance_soot_shimple_Shimple == null ) instance_soot_shimple_Shimple = new soot.shimple.Shimple( g );
+            return instance_soot_shimple_Shimple;
+        }
     }
 
-    public soot.shimple.ShimpleTransformer instance_soot_shimple_ShimpleTransformer;
+    public volatile soot.shimple.ShimpleTransformer instance_soot_shimple_ShimpleTransformer;
+    private final Object lock_soot_shimple_ShimpleTransformer = new Object();
     public soot.shimple.ShimpleTransformer soot_shimple_ShimpleTransformer() {
-        if( instance_soot_shimple_ShimpleTransformer == null ) instance_soot_shimple_ShimpleTransformer = new soot.shimple.ShimpleTransformer( g );
-        return instance_soot_shimple_ShimpleTransformer;
+        soot.shimple.ShimpleTransformer ret = instance_soot_shimple_ShimpleTransformer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_shimple_ShimpleTransformer ) {
+            if( instance_soot_shimple_ShimpleTransformer == null ) instance_soot_shimple_ShimpleTransformer = new soot.shimple.ShimpleTransformer( g );
+            return instance_soot_shimple_ShimpleTransformer;
+        }
     }
 
-    public soot.shimple.toolkits.scalar.SConstantPropagatorAndFolder instance_soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder;
+    public volatile soot.shimple.toolkits.scalar.SConstantPropagatorAndFolder instance_soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder;
+    private final Object lock_soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder = new Object();
     public soot.shimple.toolkits.scalar.SConstantPropagatorAndFolder soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder() {
-        if( instance_soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder == null ) instance_soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder = new soot.shimple.toolkits.scalar.SConstantPropagatorAndFolder( g );
-        return instance_soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder;
+        soot.shimple.toolkits.scalar.SConstantPropagatorAndFolder ret = instance_soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder ) {
+            if( instance_soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder == null ) instance_soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder = new soot.shimple.toolkits.scalar.SConstantPropagatorAndFolder( g );
+            return instance_soot_shimple_toolkits_scalar_SConstantPropagatorAndFolder;
+        }
     }
 
-    public soot.ShortType instance_soot_ShortType;
+    public volatile soot.ShortType instance_soot_ShortType;
+    private final Object lock_soot_ShortType = new Object();
     public soot.ShortType soot_ShortType() {
-        if( instance_soot_ShortType == null ) instance_soot_ShortType = new soot.ShortType( g );
-        return instance_soot_ShortType;
+        soot.ShortType ret = instance_soot_ShortType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_ShortType ) {
+            if( instance_soot_ShortType == null ) instance_soot_ShortType = new soot.ShortType( g );
+            return instance_soot_ShortType;
+        }
     }
 
-    public soot.jimple.toolkits.pointer.SideEffectTagger instance_soot_jimple_toolkits_pointer_SideEffectTagger;
+    public volatile soot.jimple.toolkits.pointer.SideEffectTagger instance_soot_jimple_toolkits_pointer_SideEffectTagger;
+    private final Object lock_soot_jimple_toolkits_pointer_SideEffectTagger = new Object();
     public soot.jimple.toolkits.pointer.SideEffectTagger soot_jimple_toolkits_pointer_SideEffectTagger() {
-        if( instance_soot_jimple_toolkits_pointer_SideEffectTagger == null ) instance_soot_jimple_toolkits_pointer_SideEffectTagger = new soot.jimple.toolkits.pointer.SideEffectTagger( g );
-        return instance_soot_jimple_toolkits_pointer_SideEffectTagger;
+        soot.jimple.toolkits.pointer.SideEffectTagger ret = instance_soot_jimple_toolkits_pointer_SideEffectTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_pointer_SideEffectTagger ) {
+            if( instance_soot_jimple_toolkits_pointer_SideEffectTagger == null ) instance_soot_jimple_toolkits_pointer_SideEffectTagger = new soot.jimple.toolkits.pointer.SideEffectTagger( g );
+            return instance_soot_jimple_toolkits_pointer_SideEffectTagger;
+        }
     }
 
-    public soot.jimple.spark.SparkTransformer instance_soot_jimple_spark_SparkTransformer;
+    public volatile soot.jimple.spark.SparkTransformer instance_soot_jimple_spark_SparkTransformer;
+    private final Object lock_soot_jimple_spark_SparkTransformer = new Object();
     public soot.jimple.spark.SparkTransformer soot_jimple_spark_SparkTransformer() {
-        if( instance_soot_jimple_spark_SparkTransformer == null ) instance_soot_jimple_spark_SparkTransformer = new soot.jimple.spark.SparkTransformer( g );
-        return instance_soot_jimple_spark_SparkTransformer;
+        soot.jimple.spark.SparkTransformer ret = instance_soot_jimple_spark_SparkTransformer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_spark_SparkTransformer ) {
+            if( instance_soot_jimple_spark_SparkTransformer == null ) instance_soot_jimple_spark_SparkTransformer = new soot.jimple.spark.SparkTransformer( g );
+            return instance_soot_jimple_spark_SparkTransformer;
+        }
     }
 
-    public soot.jimple.toolkits.invoke.StaticInliner instance_soot_jimple_toolkits_invoke_StaticInliner;
+    public volatile soot.jimple.toolkits.invoke.StaticInliner instance_soot_jimple_toolkits_invoke_StaticInliner;
+    private final Object lock_soot_jimple_toolkits_invoke_StaticInliner = new Object();
     public soot.jimple.toolkits.invoke.StaticInliner soot_jimple_toolkits_invoke_StaticInliner() {
-        if( instance_soot_jimple_toolkits_invoke_StaticInliner == null ) instance_soot_jimple_toolkits_invoke_StaticInliner = new soot.jimple.toolkits.invoke.StaticInliner( g );
-        return instance_soot_jimple_toolkits_invoke_StaticInliner;
+        soot.jimple.toolkits.invoke.StaticInliner ret = instance_soot_jimple_toolkits_invoke_StaticInliner;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_invoke_StaticInliner ) {
+            if( instance_soot_jimple_toolkits_invoke_StaticInliner == null ) instance_soot_jimple_toolkits_invoke_StaticInliner = new soot.jimple.toolkits.invoke.StaticInliner( g );
+            return instance_soot_jimple_toolkits_invoke_StaticInliner;
+        }
     }
 
-    public soot.jimple.toolkits.invoke.StaticMethodBinder instance_soot_jimple_toolkits_invoke_StaticMethodBinder;
+    public volatile soot.jimple.toolkits.invoke.StaticMethodBinder instance_soot_jimple_toolkits_invoke_StaticMethodBinder;
+    private final Object lock_soot_jimple_toolkits_invoke_StaticMethodBinder = new Object();
     public soot.jimple.toolkits.invoke.StaticMethodBinder soot_jimple_toolkits_invoke_StaticMethodBinder() {
-        if( instance_soot_jimple_toolkits_invoke_StaticMethodBinder == null ) instance_soot_jimple_toolkits_invoke_StaticMethodBinder = new soot.jimple.toolkits.invoke.StaticMethodBinder( g );
-        return instance_soot_jimple_toolkits_invoke_StaticMethodBinder;
+        soot.jimple.toolkits.invoke.StaticMethodBinder ret = instance_soot_jimple_toolkits_invoke_StaticMethodBinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_invoke_StaticMethodBinder ) {
+            if( instance_soot_jimple_toolkits_invoke_StaticMethodBinder == null ) instance_soot_jimple_toolkits_invoke_StaticMethodBinder = new soot.jimple.toolkits.invoke.StaticMethodBinder( g );
+            return instance_soot_jimple_toolkits_invoke_StaticMethodBinder;
+        }
     }
 
-    public soot.StmtAddressType instance_soot_StmtAddressType;
+    public volatile soot.StmtAddressType instance_soot_StmtAddressType;
+    private final Object lock_soot_StmtAddressType = new Object();
     public soot.StmtAddressType soot_StmtAddressType() {
-        if( instance_soot_StmtAddressType == null ) instance_soot_StmtAddressType = new soot.StmtAddressType( g );
-        return instance_soot_StmtAddressType;
+        soot.StmtAddressType ret = instance_soot_StmtAddressType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_StmtAddressType ) {
+            if( instance_soot_StmtAddressType == null ) instance_soot_StmtAddressType = new soot.StmtAddressType( g );
+            return instance_soot_StmtAddressType;
+        }
     }
 
-    public soot.dava.toolkits.base.finders.SwitchFinder instance_soot_dava_toolkits_base_finders_SwitchFinder;
+    public volatile soot.dava.toolkits.base.finders.SwitchFinder instance_soot_dava_toolkits_base_finders_SwitchFinder;
+    private final Object lock_soot_dava_toolkits_base_finders_SwitchFinder = new Object();
     public soot.dava.toolkits.base.finders.SwitchFinder soot_dava_toolkits_base_finders_SwitchFinder() {
-        if( instance_soot_dava_toolkits_base_finders_SwitchFinder == null ) instance_soot_dava_toolkits_base_finders_SwitchFinder = new soot.dava.toolkits.base.finders.SwitchFinder( g );
-        return instance_soot_dava_toolkits_base_finders_SwitchFinder;
+        soot.dava.toolkits.base.finders.SwitchFinder ret = instance_soot_dava_toolkits_base_finders_SwitchFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_finders_SwitchFinder ) {
+            if( instance_soot_dava_toolkits_base_finders_SwitchFinder == null ) instance_soot_dava_toolkits_base_finders_SwitchFinder = new soot.dava.toolkits.base.finders.SwitchFinder( g );
+            return instance_soot_dava_toolkits_base_finders_SwitchFinder;
+        }
     }
 
-    public soot.dava.toolkits.base.finders.SynchronizedBlockFinder instance_soot_dava_toolkits_base_finders_SynchronizedBlockFinder;
+    public volatile soot.dava.toolkits.base.finders.SynchronizedBlockFinder instance_soot_dava_toolkits_base_finders_SynchronizedBlockFinder;
+    private final Object lock_soot_dava_toolkits_base_finders_SynchronizedBlockFinder = new Object();
     public soot.dava.toolkits.base.finders.SynchronizedBlockFinder soot_dava_toolkits_base_finders_SynchronizedBlockFinder() {
-        if( instance_soot_dava_toolkits_base_finders_SynchronizedBlockFinder == null ) instance_soot_dava_toolkits_base_finders_SynchronizedBlockFinder = new soot.dava.toolkits.base.finders.SynchronizedBlockFinder( g );
-        return instance_soot_dava_toolkits_base_finders_SynchronizedBlockFinder;
+        soot.dava.toolkits.base.finders.SynchronizedBlockFinder ret = instance_soot_dava_toolkits_base_finders_SynchronizedBlockFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_finders_SynchronizedBlockFinder ) {
+            if( instance_soot_dava_toolkits_base_finders_SynchronizedBlockFinder == null ) instance_soot_dava_toolkits_base_finders_SynchronizedBlockFinder = new soot.dava.toolkits.base.finders.SynchronizedBlockFinder( g );
+            return instance_soot_dava_toolkits_base_finders_SynchronizedBlockFinder;
+        }
     }
 
-    public soot.dava.toolkits.base.misc.ThrowFinder instance_soot_dava_toolkits_base_misc_ThrowFinder;
+    public volatile soot.dava.toolkits.base.misc.ThrowFinder instance_soot_dava_toolkits_base_misc_ThrowFinder;
+    private final Object lock_soot_dava_toolkits_base_misc_ThrowFinder = new Object();
     public soot.dava.toolkits.base.misc.ThrowFinder soot_dava_toolkits_base_misc_ThrowFinder() {
-        if( instance_soot_dava_toolkits_base_misc_ThrowFinder == null ) instance_soot_dava_toolkits_base_misc_ThrowFinder = new soot.dava.toolkits.base.misc.ThrowFinder( g );
-        return instance_soot_dava_toolkits_base_misc_ThrowFinder;
+        soot.dava.toolkits.base.misc.ThrowFinder ret = instance_soot_dava_toolkits_base_misc_ThrowFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_misc_ThrowFinder ) {
+            if( instance_soot_dava_toolkits_base_misc_ThrowFinder == null ) instance_soot_dava_toolkits_base_misc_ThrowFinder = new soot.dava.toolkits.base.misc.ThrowFinder( g );
+            return instance_soot_dava_toolkits_base_misc_ThrowFinder;
+        }
     }
 
-    public soot.dava.toolkits.base.misc.ThrowNullConverter instance_soot_dava_toolkits_base_misc_ThrowNullConverter;
+    public volatile soot.dava.toolkits.base.misc.ThrowNullConverter instance_soot_dava_toolkits_base_misc_ThrowNullConverter;
+    private final Object lock_soot_dava_toolkits_base_misc_ThrowNullConverter = new Object();
     public soot.dava.toolkits.base.misc.ThrowNullConverter soot_dava_toolkits_base_misc_ThrowNullConverter() {
-        if( instance_soot_dava_toolkits_base_misc_ThrowNullConverter == null ) instance_soot_dava_toolkits_base_misc_ThrowNullConverter = new soot.dava.toolkits.base.misc.ThrowNullConverter( g );
-        return instance_soot_dava_toolkits_base_misc_ThrowNullConverter;
+        soot.dava.toolkits.base.misc.ThrowNullConverter ret = instance_soot_dava_toolkits_base_misc_ThrowNullConverter;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_misc_ThrowNullConverter ) {
+            if( instance_soot_dava_toolkits_base_misc_ThrowNullConverter == null ) instance_soot_dava_toolkits_base_misc_ThrowNullConverter = new soot.dava.toolkits.base.misc.ThrowNullConverter( g );
+            return instance_soot_dava_toolkits_base_misc_ThrowNullConverter;
+        }
     }
 
-    public soot.Timers instance_soot_Timers;
+    public volatile soot.Timers instance_soot_Timers;
+    private final Object lock_soot_Timers = new Object();
     public soot.Timers soot_Timers() {
-        if( instance_soot_Timers == null ) instance_soot_Timers = new soot.Timers( g );
-        return instance_soot_Timers;
+        soot.Timers ret = instance_soot_Timers;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_Timers ) {
+            if( instance_soot_Timers == null ) instance_soot_Timers = new soot.Timers( g );
+            return instance_soot_Timers;
+        }
     }
 
-    public soot.dava.toolkits.base.AST.TryContentsFinder instance_soot_dava_toolkits_base_AST_TryContentsFinder;
+    public volatile soot.dava.toolkits.base.AST.TryContentsFinder instance_soot_dava_toolkits_base_AST_TryContentsFinder;
+    private final Object lock_soot_dava_toolkits_base_AST_TryContentsFinder = new Object();
     public soot.dava.toolkits.base.AST.TryContentsFinder soot_dava_toolkits_base_AST_TryContentsFinder() {
-        if( instance_soot_dava_toolkits_base_AST_TryContentsFinder == null ) instance_soot_dava_toolkits_base_AST_TryContentsFinder = new soot.dava.toolkits.base.AST.TryContentsFinder( g );
-        return instance_soot_dava_toolkits_base_AST_TryContentsFinder;
+        soot.dava.toolkits.base.AST.TryContentsFinder ret = instance_soot_dava_toolkits_base_AST_TryContentsFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_AST_TryContentsFinder ) {
+            if( instance_soot_dava_toolkits_base_AST_TryContentsFinder == null ) instance_soot_dava_toolkits_base_AST_TryContentsFinder = new soot.dava.toolkits.base.AST.TryContentsFinder( g );
+            return instance_soot_dava_toolkits_base_AST_TryContentsFinder;
+        }
     }
 
-    public soot.jimple.toolkits.typing.TypeAssigner instance_soot_jimple_toolkits_typing_TypeAssigner;
+    public volatile soot.jimple.toolkits.typing.TypeAssigner instance_soot_jimple_toolkits_typing_TypeAssigner;
+    private final Object lock_soot_jimple_toolkits_typing_TypeAssigner = new Object();
     public soot.jimple.toolkits.typing.TypeAssigner soot_jimple_toolkits_typing_TypeAssigner() {
-        if( instance_soot_jimple_toolkits_typing_TypeAssigner == null ) instance_soot_jimple_toolkits_typing_TypeAssigner = new soot.jimple.toolkits.typing.TypeAssigner( g );
-        return instance_soot_jimple_toolkits_typing_TypeAssigner;
+        soot.jimple.toolkits.typing.TypeAssigner ret = instance_soot_jimple_toolkits_typing_TypeAssigner;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_typing_TypeAssigner ) {
+            if( instance_soot_jimple_toolkits_typing_TypeAssigner == null ) instance_soot_jimple_toolkits_typing_TypeAssigner = new soot.jimple.toolkits.typing.TypeAssigner( g );
+            return instance_soot_jimple_toolkits_typing_TypeAssigner;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.UnconditionalBranchFolder instance_soot_jimple_toolkits_scalar_UnconditionalBranchFolder;
+    public volatile soot.jimple.toolkits.scalar.UnconditionalBranchFolder instance_soot_jimple_toolkits_scalar_UnconditionalBranchFolder;
+    private final Object lock_soot_jimple_toolkits_scalar_UnconditionalBranchFolder = new Object();
     public soot.jimple.toolkits.scalar.UnconditionalBranchFolder soot_jimple_toolkits_scalar_UnconditionalBranchFolder() {
-        if( instance_soot_jimple_toolkits_scalar_UnconditionalBranchFolder == null ) instance_soot_jimple_toolkits_scalar_UnconditionalBranchFolder = new soot.jimple.toolkits.scalar.UnconditionalBranchFolder( g );
-        return instance_soot_jimple_toolkits_scalar_UnconditionalBranchFolder;
+        soot.jimple.toolkits.scalar.UnconditionalBranchFolder ret = instance_soot_jimple_toolkits_scalar_UnconditionalBranchFolder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_UnconditionalBranchFolder ) {
+            if( instance_soot_jimple_toolkits_scalar_UnconditionalBranchFolder == null ) instance_soot_jimple_toolkits_scalar_UnconditionalBranchFolder = new soot.jimple.toolkits.scalar.UnconditionalBranchFolder( g );
+            return instance_soot_jimple_toolkits_scalar_UnconditionalBranchFolder;
+        }
     }
 
-    public soot.UnknownType instance_soot_UnknownType;
+    public volatile soot.UnknownType instance_soot_UnknownType;
+    private final Object lock_soot_UnknownType = new Object();
     public soot.UnknownType soot_UnknownType() {
-        if( instance_soot_UnknownType == null ) instance_soot_UnknownType = new soot.UnknownType( g );
-        return instance_soot_UnknownType;
+        soot.UnknownType ret = instance_soot_UnknownType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_UnknownType ) {
+            if( instance_soot_UnknownType == null ) instance_soot_UnknownType = new soot.UnknownType( g );
+            return instance_soot_UnknownType;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.UnreachableCodeEliminator instance_soot_jimple_toolkits_scalar_UnreachableCodeEliminator;
+    public volatile soot.jimple.toolkits.scalar.UnreachableCodeEliminator instance_soot_jimple_toolkits_scalar_UnreachableCodeEliminator;
+    private final Object lock_soot_jimple_toolkits_scalar_UnreachableCodeEliminator = new Object();
     public soot.jimple.toolkits.scalar.UnreachableCodeEliminator soot_jimple_toolkits_scalar_UnreachableCodeEliminator() {
-        if( instance_soot_jimple_toolkits_scalar_UnreachableCodeEliminator == null ) instance_soot_jimple_toolkits_scalar_UnreachableCodeEliminator = new soot.jimple.toolkits.scalar.UnreachableCodeEliminator( g );
-        return instance_soot_jimple_toolkits_scalar_UnreachableCodeEliminator;
+        soot.jimple.toolkits.scalar.UnreachableCodeEliminator ret = instance_soot_jimple_toolkits_scalar_UnreachableCodeEliminator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_UnreachableCodeEliminator ) {
+            if( instance_soot_jimple_toolkits_scalar_UnreachableCodeEliminator == null ) instance_soot_jimple_toolkits_scalar_UnreachableCodeEliminator = new soot.jimple.toolkits.scalar.UnreachableCodeEliminator( g );
+            return instance_soot_jimple_toolkits_scalar_UnreachableCodeEliminator;
+        }
     }
 
-    public soot.toolkits.scalar.UnusedLocalEliminator instance_soot_toolkits_scalar_UnusedLocalEliminator;
+    public volatile soot.toolkits.scalar.UnusedLocalEliminator instance_soot_toolkits_scalar_UnusedLocalEliminator;
+    private final Object lock_soot_toolkits_scalar_UnusedLocalEliminator = new Object();
     public soot.toolkits.scalar.UnusedLocalEliminator soot_toolkits_scalar_UnusedLocalEliminator() {
-        if( instance_soot_toolkits_scalar_UnusedLocalEliminator == null ) instance_soot_toolkits_scalar_UnusedLocalEliminator = new soot.toolkits.scalar.UnusedLocalEliminator( g );
-        return instance_soot_toolkits_scalar_UnusedLocalEliminator;
+        soot.toolkits.scalar.UnusedLocalEliminator ret = instance_soot_toolkits_scalar_UnusedLocalEliminator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toolkits_scalar_UnusedLocalEliminator ) {
+            if( instance_soot_toolkits_scalar_UnusedLocalEliminator == null ) instance_soot_toolkits_scalar_UnusedLocalEliminator = new soot.toolkits.scalar.UnusedLocalEliminator( g );
+            return instance_soot_toolkits_scalar_UnusedLocalEliminator;
+        }
     }
 
-    public soot.coffi.UnusuableType instance_soot_coffi_UnusuableType;
+    public volatile soot.coffi.UnusuableType instance_soot_coffi_UnusuableType;
+    private final Object lock_soot_coffi_UnusuableType = new Object();
     public soot.coffi.UnusuableType soot_coffi_UnusuableType() {
-        if( instance_soot_coffi_UnusuableType == null ) instance_soot_coffi_UnusuableType = new soot.coffi.UnusuableType( g );
-        return instance_soot_coffi_UnusuableType;
+        soot.coffi.UnusuableType ret = instance_soot_coffi_UnusuableType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_coffi_UnusuableType ) {
+            if( instance_soot_coffi_UnusuableType == null ) instance_soot_coffi_UnusuableType = new soot.coffi.UnusuableType( g );
+            return instance_soot_coffi_UnusuableType;
+        }
     }
 
-    public soot.dava.toolkits.base.AST.UselessTryRemover instance_soot_dava_toolkits_base_AST_UselessTryRemover;
+    public volatile soot.dava.toolkits.base.AST.UselessTryRemover instance_soot_dava_toolkits_base_AST_UselessTryRemover;
+    private final Object lock_soot_dava_toolkits_base_AST_UselessTryRemover = new Object();
     public soot.dava.toolkits.base.AST.UselessTryRemover soot_dava_toolkits_base_AST_UselessTryRemover() {
-        if( instance_soot_dava_toolkits_base_AST_UselessTryRemover == null ) instance_soot_dava_toolkits_base_AST_UselessTryRemover = new soot.dava.toolkits.base.AST.UselessTryRemover( g );
-        return instance_soot_dava_toolkits_base_AST_UselessTryRemover;
+        soot.dava.toolkits.base.AST.UselessTryRemover ret = instance_soot_dava_toolkits_base_AST_UselessTryRemover;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_AST_UselessTryRemover ) {
+            if( instance_soot_dava_toolkits_base_AST_UselessTryRemover == null ) instance_soot_dava_toolkits_base_AST_UselessTryRemover = new soot.dava.toolkits.base.AST.UselessTryRemover( g );
+            return instance_soot_dava_toolkits_base_AST_UselessTryRemover;
+        }
     }
 
-    public soot.VoidType instance_soot_VoidType;
+    public volatile soot.VoidType instance_soot_VoidType;
+    private final Object lock_soot_VoidType = new Object();
     public soot.VoidType soot_VoidType() {
-        if( instance_soot_VoidType == null ) instance_soot_VoidType = new soot.VoidType( g );
-        return instance_soot_VoidType;
+        soot.VoidType ret = instance_soot_VoidType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_VoidType ) {
+            if( instance_soot_VoidType == null ) instance_soot_VoidType = new soot.VoidType( g );
+            return instance_soot_VoidType;
+        }
     }
 
-    public soot.baf.WordType instance_soot_baf_WordType;
+    public volatile soot.baf.WordType instance_soot_baf_WordType;
+    private final Object lock_soot_baf_WordType = new Object();
     public soot.baf.WordType soot_baf_WordType() {
-        if( instance_soot_baf_WordType == null ) instance_soot_baf_WordType = new soot.baf.WordType( g );
-        return instance_soot_baf_WordType;
+        soot.baf.WordType ret = instance_soot_baf_WordType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_baf_WordType ) {
+            if( instance_soot_baf_WordType == null ) instance_soot_baf_WordType = new soot.baf.WordType( g );
+            return instance_soot_baf_WordType;
+        }
     }
 
-    public soot.jimple.spark.fieldrw.FieldReadTagAggregator instance_soot_jimple_spark_fieldrw_FieldReadTagAggregator;
+    public volatile soot.jimple.spark.fieldrw.FieldReadTagAggregator instance_soot_jimple_spark_fieldrw_FieldReadTagAggregator;
+    private final Object lock_soot_jimple_spark_fieldrw_FieldReadTagAggregator = new Object();
     public soot.jimple.spark.fieldrw.FieldReadTagAggregator soot_jimple_spark_fieldrw_FieldReadTagAggregator() {
-        if( instance_soot_jimple_spark_fieldrw_FieldReadTagAggregator == null ) instance_soot_jimple_spark_fieldrw_FieldReadTagAggregator = new soot.jimple.spark.fieldrw.FieldReadTagAggregator( g );
-        return instance_soot_jimple_spark_fieldrw_FieldReadTagAggregator;
+        soot.jimple.spark.fieldrw.FieldReadTagAggregator ret = instance_soot_jimple_spark_fieldrw_FieldReadTagAggregator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_spark_fieldrw_FieldReadTagAggregator ) {
+            if( instance_soot_jimple_spark_fieldrw_FieldReadTagAggregator == null ) instance_soot_jimple_spark_fieldrw_FieldReadTagAggregator = new soot.jimple.spark.fieldrw.FieldReadTagAggregator( g );
+            return instance_soot_jimple_spark_fieldrw_FieldReadTagAggregator;
+        }
     }
 
-    public soot.jimple.spark.fieldrw.FieldWriteTagAggregator instance_soot_jimple_spark_fieldrw_FieldWriteTagAggregator;
+    public volatile soot.jimple.spark.fieldrw.FieldWriteTagAggregator instance_soot_jimple_spark_fieldrw_FieldWriteTagAggregator;
+    private final Object lock_soot_jimple_spark_fieldrw_FieldWriteTagAggregator = new Object();
     public soot.jimple.spark.fieldrw.FieldWriteTagAggregator soot_jimple_spark_fieldrw_FieldWriteTagAggregator() {
-        if( instance_soot_jimple_spark_fieldrw_FieldWriteTagAggregator == null ) instance_soot_jimple_spark_fieldrw_FieldWriteTagAggregator = new soot.jimple.spark.fieldrw.FieldWriteTagAggregator( g );
-        return instance_soot_jimple_spark_fieldrw_FieldWriteTagAggregator;
+        soot.jimple.spark.fieldrw.FieldWriteTagAggregator ret = instance_soot_jimple_spark_fieldrw_FieldWriteTagAggregator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_spark_fieldrw_FieldWriteTagAggregator ) {
+            if( instance_soot_jimple_spark_fieldrw_FieldWriteTagAggregator == null ) instance_soot_jimple_spark_fieldrw_FieldWriteTagAggregator = new soot.jimple.spark.fieldrw.FieldWriteTagAggregator( g );
+            return instance_soot_jimple_spark_fieldrw_FieldWriteTagAggregator;
+        }
     }
 
-    public soot.jimple.spark.fieldrw.FieldTagAggregator instance_soot_jimple_spark_fieldrw_FieldTagAggregator;
+    public volatile soot.jimple.spark.fieldrw.FieldTagAggregator instance_soot_jimple_spark_fieldrw_FieldTagAggregator;
+    private final Object lock_soot_jimple_spark_fieldrw_FieldTagAggregator = new Object();
     public soot.jimple.spark.fieldrw.FieldTagAggregator soot_jimple_spark_fieldrw_FieldTagAggregator() {
-        if( instance_soot_jimple_spark_fieldrw_FieldTagAggregator == null ) instance_soot_jimple_spark_fieldrw_FieldTagAggregator = new soot.jimple.spark.fieldrw.FieldTagAggregator( g );
-        return instance_soot_jimple_spark_fieldrw_FieldTagAggregator;
+        soot.jimple.spark.fieldrw.FieldTagAggregator ret = instance_soot_jimple_spark_fieldrw_FieldTagAggregator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_spark_fieldrw_FieldTagAggregator ) {
+            if( instance_soot_jimple_spark_fieldrw_FieldTagAggregator == null ) instance_soot_jimple_spark_fieldrw_FieldTagAggregator = new soot.jimple.spark.fieldrw.FieldTagAggregator( g );
+            return instance_soot_jimple_spark_fieldrw_FieldTagAggregator;
+        }
     }
 
-    public soot.EntryPoints instance_soot_EntryPoints;
+    public volatile soot.EntryPoints instance_soot_EntryPoints;
+    private final Object lock_soot_EntryPoints = new Object();
     public soot.EntryPoints soot_EntryPoints() {
-        if( instance_soot_EntryPoints == null ) instance_soot_EntryPoints = new soot.EntryPoints( g );
-        return instance_soot_EntryPoints;
+        soot.EntryPoints ret = instance_soot_EntryPoints;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_EntryPoints ) {
+            if( instance_soot_EntryPoints == null ) instance_soot_EntryPoints = new soot.EntryPoints( g );
+            return instance_soot_EntryPoints;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.callgraph.CallGraphTagger instance_soot_jimple_toolkits_annotation_callgraph_CallGraphTagger;
+    public volatile soot.jimple.toolkits.annotation.callgraph.CallGraphTagger instance_soot_jimple_toolkits_annotation_callgraph_CallGraphTagger;
+    private final Object lock_soot_jimple_toolkits_annotation_callgraph_CallGraphTagger = new Object();
     public soot.jimple.toolkits.annotation.callgraph.CallGraphTagger soot_jimple_toolkits_annotation_callgraph_CallGraphTagger() {
-        if( instance_soot_jimple_toolkits_annotation_callgraph_CallGraphTagger == null ) instance_soot_jimple_toolkits_annotation_callgraph_CallGraphTagger = new soot.jimple.toolkits.annotation.callgraph.CallGraphTagger( g );
-        return instance_soot_jimple_toolkits_annotation_callgraph_CallGraphTagger;
+        soot.jimple.toolkits.annotation.callgraph.CallGraphTagger ret = instance_soot_jimple_toolkits_annotation_callgraph_CallGraphTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_callgraph_CallGraphTagger ) {
+            if( instance_soot_jimple_toolkits_annotation_callgraph_CallGraphTagger == null ) instance_soot_jimple_toolkits_annotation_callgraph_CallGraphTagger = new soot.jimple.toolkits.annotation.callgraph.CallGraphTagger( g );
+            return instance_soot_jimple_toolkits_annotation_callgraph_CallGraphTagger;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.nullcheck.NullPointerColorer instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer;
+    public volatile soot.jimple.toolkits.annotation.nullcheck.NullPointerColorer instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer;
+    private final Object lock_soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer = new Object();
     public soot.jimple.toolkits.annotation.nullcheck.NullPointerColorer soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer() {
-        if( instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer == null ) instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer = new soot.jimple.toolkits.annotation.nullcheck.NullPointerColorer( g );
-        return instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer;
+        soot.jimple.toolkits.annotation.nullcheck.NullPointerColorer ret = instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer ) {
+            if( instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer == null ) instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer = new soot.jimple.toolkits.annotation.nullcheck.NullPointerColorer( g );
+            return instance_soot_jimple_toolkits_annotation_nullcheck_NullPointerColorer;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.parity.ParityTagger instance_soot_jimple_toolkits_annotation_parity_ParityTagger;
+    public volatile soot.jimple.toolkits.annotation.parity.ParityTagger instance_soot_jimple_toolkits_annotation_parity_ParityTagger;
+    private final Object lock_soot_jimple_toolkits_annotation_parity_ParityTagger = new Object();
     public soot.jimple.toolkits.annotation.parity.ParityTagger soot_jimple_toolkits_annotation_parity_ParityTagger() {
-        if( instance_soot_jimple_toolkits_annotation_parity_ParityTagger == null ) instance_soot_jimple_toolkits_annotation_parity_ParityTagger = new soot.jimple.toolkits.annotation.parity.ParityTagger( g );
-        return instance_soot_jimple_toolkits_annotation_parity_ParityTagger;
+        soot.jimple.toolkits.annotation.parity.ParityTagger ret = instance_soot_jimple_toolkits_annotation_parity_ParityTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_parity_ParityTagger ) {
+            if( instance_soot_jimple_toolkits_annotation_parity_ParityTagger == null ) instance_soot_jimple_toolkits_annotation_parity_ParityTagger = new soot.jimple.toolkits.annotation.parity.ParityTagger( g );
+            return instance_soot_jimple_toolkits_annotation_parity_ParityTagger;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.methods.UnreachableMethodsTagger instance_soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger;
+    public volatile soot.jimple.toolkits.annotation.methods.UnreachableMethodsTagger instance_soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger;
+    private final Object lock_soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger = new Object();
     public soot.jimple.toolkits.annotation.methods.UnreachableMethodsTagger soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger() {
-        if( instance_soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger == null ) instance_soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger = new soot.jimple.toolkits.annotation.methods.UnreachableMethodsTagger( g );
-        return instance_soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger;
+        soot.jimple.toolkits.annotation.methods.UnreachableMethodsTagger ret = instance_soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger ) {
+            if( instance_soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger == null ) instance_soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger = new soot.jimple.toolkits.annotation.methods.UnreachableMethodsTagger( g );
+            return instance_soot_jimple_toolkits_annotation_methods_UnreachableMethodsTagger;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.fields.UnreachableFieldsTagger instance_soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger;
+    public volatile soot.jimple.toolkits.annotation.fields.UnreachableFieldsTagger instance_soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger;
+    private final Object lock_soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger = new Object();
     public soot.jimple.toolkits.annotation.fields.UnreachableFieldsTagger soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger() {
-        if( instance_soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger == null ) instance_soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger = new soot.jimple.toolkits.annotation.fields.UnreachableFieldsTagger( g );
-        return instance_soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger;
+        soot.jimple.toolkits.annotation.fields.UnreachableFieldsTagger ret = instance_soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger ) {
+            if( instance_soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger == null ) instance_soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger = new soot.jimple.toolkits.annotation.fields.UnreachableFieldsTagger( g );
+            return instance_soot_jimple_toolkits_annotation_fields_UnreachableFieldsTagger;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.qualifiers.TightestQualifiersTagger instance_soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger;
+    public volatile soot.jimple.toolkits.annotation.qualifiers.TightestQualifiersTagger instance_soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger;
+    private final Object lock_soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger = new Object();
     public soot.jimple.toolkits.annotation.qualifiers.TightestQualifiersTagger soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger() {
-        if( instance_soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger == null ) instance_soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger = new soot.jimple.toolkits.annotation.qualifiers.TightestQualifiersTagger( g );
-        return instance_soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger;
+        soot.jimple.toolkits.annotation.qualifiers.TightestQualifiersTagger ret = instance_soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger ) {
+            if( instance_soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger == null ) instance_soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger = new soot.jimple.toolkits.annotation.qualifiers.TightestQualifiersTagger( g );
+            return instance_soot_jimple_toolkits_annotation_qualifiers_TightestQualifiersTagger;
+        }
     }
 
-    public soot.jimple.toolkits.pointer.ParameterAliasTagger instance_soot_jimple_toolkits_pointer_ParameterAliasTagger;
+    public volatile soot.jimple.toolkits.pointer.ParameterAliasTagger instance_soot_jimple_toolkits_pointer_ParameterAliasTagger;
+    private final Object lock_soot_jimple_toolkits_pointer_ParameterAliasTagger = new Object();
     public soot.jimple.toolkits.pointer.ParameterAliasTagger soot_jimple_toolkits_pointer_ParameterAliasTagger() {
-        if( instance_soot_jimple_toolkits_pointer_ParameterAliasTagger == null ) instance_soot_jimple_toolkits_pointer_ParameterAliasTagger = new soot.jimple.toolkits.pointer.ParameterAliasTagger( g );
-        return instance_soot_jimple_toolkits_pointer_ParameterAliasTagger;
+        soot.jimple.toolkits.pointer.ParameterAliasTagger ret = instance_soot_jimple_toolkits_pointer_ParameterAliasTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_pointer_ParameterAliasTagger ) {
+            if( instance_soot_jimple_toolkits_pointer_ParameterAliasTagger == null ) instance_soot_jimple_toolkits_pointer_ParameterAliasTagger = new soot.jimple.toolkits.pointer.ParameterAliasTagger( g );
+            return instance_soot_jimple_toolkits_pointer_ParameterAliasTagger;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.defs.ReachingDefsTagger instance_soot_jimple_toolkits_annotation_defs_ReachingDefsTagger;
+    public volatile soot.jimple.toolkits.annotation.defs.ReachingDefsTagger instance_soot_jimple_toolkits_annotation_defs_ReachingDefsTagger;
+    private final Object lock_soot_jimple_toolkits_annotation_defs_ReachingDefsTagger = new Object();
     public soot.jimple.toolkits.annotation.defs.ReachingDefsTagger soot_jimple_toolkits_annotation_defs_ReachingDefsTagger() {
-        if( instance_soot_jimple_toolkits_annotation_defs_ReachingDefsTagger == null ) instance_soot_jimple_toolkits_annotation_defs_ReachingDefsTagger = new soot.jimple.toolkits.annotation.defs.ReachingDefsTagger( g );
-        return instance_soot_jimple_toolkits_annotation_defs_ReachingDefsTagger;
+        soot.jimple.toolkits.annotation.defs.ReachingDefsTagger ret = instance_soot_jimple_toolkits_annotation_defs_ReachingDefsTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_defs_ReachingDefsTagger ) {
+            if( instance_soot_jimple_toolkits_annotation_defs_ReachingDefsTagger == null ) instance_soot_jimple_toolkits_annotation_defs_ReachingDefsTagger = new soot.jimple.toolkits.annotation.defs.ReachingDefsTagger( g );
+            return instance_soot_jimple_toolkits_annotation_defs_ReachingDefsTagger;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.liveness.LiveVarsTagger instance_soot_jimple_toolkits_annotation_liveness_LiveVarsTagger;
+    public volatile soot.jimple.toolkits.annotation.liveness.LiveVarsTagger instance_soot_jimple_toolkits_annotation_liveness_LiveVarsTagger;
+    private final Object lock_soot_jimple_toolkits_annotation_liveness_LiveVarsTagger = new Object();
     public soot.jimple.toolkits.annotation.liveness.LiveVarsTagger soot_jimple_toolkits_annotation_liveness_LiveVarsTagger() {
-        if( instance_soot_jimple_toolkits_annotation_liveness_LiveVarsTagger == null ) instance_soot_jimple_toolkits_annotation_liveness_LiveVarsTagger = new soot.jimple.toolkits.annotation.liveness.LiveVarsTagger( g );
-        return instance_soot_jimple_toolkits_annotation_liveness_LiveVarsTagger;
+        soot.jimple.toolkits.annotation.liveness.LiveVarsTagger ret = instance_soot_jimple_toolkits_annotation_liveness_LiveVarsTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_liveness_LiveVarsTagger ) {
+            if( instance_soot_jimple_toolkits_annotation_liveness_LiveVarsTagger == null ) instance_soot_jimple_toolkits_annotation_liveness_LiveVarsTagger = new soot.jimple.toolkits.annotation.liveness.LiveVarsTagger( g );
+            return instance_soot_jimple_toolkits_annotation_liveness_LiveVarsTagger;
+        }
     }
 
-    public soot.toolkits.graph.interaction.InteractionHandler instance_soot_toolkits_graph_interaction_InteractionHandler;
+    public volatile soot.toolkits.graph.interaction.InteractionHandler instance_soot_toolkits_graph_interaction_InteractionHandler;
+    private final Object lock_soot_toolkits_graph_interaction_InteractionHandler = new Object();
     public soot.toolkits.graph.interaction.InteractionHandler soot_toolkits_graph_interaction_InteractionHandler() {
-        if( instance_soot_toolkits_graph_interaction_InteractionHandler == null ) instance_soot_toolkits_graph_interaction_InteractionHandler = new soot.toolkits.graph.interaction.InteractionHandler( g );
-        return instance_soot_toolkits_graph_interaction_InteractionHandler;
+        soot.toolkits.graph.interaction.InteractionHandler ret = instance_soot_toolkits_graph_interaction_InteractionHandler;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toolkits_graph_interaction_InteractionHandler ) {
+            if( instance_soot_toolkits_graph_interaction_InteractionHandler == null ) instance_soot_toolkits_graph_interaction_InteractionHandler = new soot.toolkits.graph.interaction.InteractionHandler( g );
+            return instance_soot_toolkits_graph_interaction_InteractionHandler;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.logic.LoopInvariantFinder instance_soot_jimple_toolkits_annotation_logic_LoopInvariantFinder;
+    public volatile soot.jimple.toolkits.annotation.logic.LoopInvariantFinder instance_soot_jimple_toolkits_annotation_logic_LoopInvariantFinder;
+    private final Object lock_soot_jimple_toolkits_annotation_logic_LoopInvariantFinder = new Object();
     public soot.jimple.toolkits.annotation.logic.LoopInvariantFinder soot_jimple_toolkits_annotation_logic_LoopInvariantFinder() {
-        if( instance_soot_jimple_toolkits_annotation_logic_LoopInvariantFinder == null ) instance_soot_jimple_toolkits_annotation_logic_LoopInvariantFinder = new soot.jimple.toolkits.annotation.logic.LoopInvariantFinder( g );
-        return instance_soot_jimple_toolkits_annotation_logic_LoopInvariantFinder;
+        soot.jimple.toolkits.annotation.logic.LoopInvariantFinder ret = instance_soot_jimple_toolkits_annotation_logic_LoopInvariantFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_logic_LoopInvariantFinder ) {
+            if( instance_soot_jimple_toolkits_annotation_logic_LoopInvariantFinder == null ) instance_soot_jimple_toolkits_annotation_logic_LoopInvariantFinder = new soot.jimple.toolkits.annotation.logic.LoopInvariantFinder( g );
+            return instance_soot_jimple_toolkits_annotation_logic_LoopInvariantFinder;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.AvailExprTagger instance_soot_jimple_toolkits_annotation_AvailExprTagger;
+    public volatile soot.jimple.toolkits.annotation.AvailExprTagger instance_soot_jimple_toolkits_annotation_AvailExprTagger;
+    private final Object lock_soot_jimple_toolkits_annotation_AvailExprTagger = new Object();
     public soot.jimple.toolkits.annotation.AvailExprTagger soot_jimple_toolkits_annotation_AvailExprTagger() {
-        if( instance_soot_jimple_toolkits_annotation_AvailExprTagger == null ) instance_soot_jimple_toolkits_annotation_AvailExprTagger = new soot.jimple.toolkits.annotation.AvailExprTagger( g );
-        return instance_soot_jimple_toolkits_annotation_AvailExprTagger;
+        soot.jimple.toolkits.annotation.AvailExprTagger ret = instance_soot_jimple_toolkits_annotation_AvailExprTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_AvailExprTagger ) {
+            if( instance_soot_jimple_toolkits_annotation_AvailExprTagger == null ) instance_soot_jimple_toolkits_annotation_AvailExprTagger = new soot.jimple.toolkits.annotation.AvailExprTagger( g );
+            return instance_soot_jimple_toolkits_annotation_AvailExprTagger;
+        }
     }
 
-    public soot.util.PhaseDumper instance_soot_util_PhaseDumper;
+    public volatile soot.util.PhaseDumper instance_soot_util_PhaseDumper;
+    private final Object lock_soot_util_PhaseDumper = new Object();
     public soot.util.PhaseDumper soot_util_PhaseDumper() {
-        if( instance_soot_util_PhaseDumper == null ) instance_soot_util_PhaseDumper = new soot.util.PhaseDumper( g );
-        return instance_soot_util_PhaseDumper;
+        soot.util.PhaseDumper ret = instance_soot_util_PhaseDumper;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_util_PhaseDumper ) {
+            if( instance_soot_util_PhaseDumper == null ) instance_soot_util_PhaseDumper = new soot.util.PhaseDumper( g );
+            return instance_soot_util_PhaseDumper;
+        }
     }
 
-    public soot.util.cfgcmd.AltClassLoader instance_soot_util_cfgcmd_AltClassLoader;
+    public volatile soot.util.cfgcmd.AltClassLoader instance_soot_util_cfgcmd_AltClassLoader;
+    private final Object lock_soot_util_cfgcmd_AltClassLoader = new Object();
     public soot.util.cfgcmd.AltClassLoader soot_util_cfgcmd_AltClassLoader() {
-        if( instance_soot_util_cfgcmd_AltClassLoader == null ) instance_soot_util_cfgcmd_AltClassLoader = new soot.util.cfgcmd.AltClassLoader( g );
-        return instance_soot_util_cfgcmd_AltClassLoader;
+        soot.util.cfgcmd.AltClassLoader ret = instance_soot_util_cfgcmd_AltClassLoader;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_util_cfgcmd_AltClassLoader ) {
+            if( instance_soot_util_cfgcmd_AltClassLoader == null ) instance_soot_util_cfgcmd_AltClassLoader = new soot.util.cfgcmd.AltClassLoader( g );
+            return instance_soot_util_cfgcmd_AltClassLoader;
+        }
     }
 
-    public soot.toolkits.exceptions.ThrowableSet.Manager instance_soot_toolkits_exceptions_ThrowableSet_Manager;
+    public volatile soot.toolkits.exceptions.ThrowableSet.Manager instance_soot_toolkits_exceptions_ThrowableSet_Manager;
+    private final Object lock_soot_toolkits_exceptions_ThrowableSet_Manager = new Object();
     public soot.toolkits.exceptions.ThrowableSet.Manager soot_toolkits_exceptions_ThrowableSet_Manager() {
-        if( instance_soot_toolkits_exceptions_ThrowableSet_Manager == null ) instance_soot_toolkits_exceptions_ThrowableSet_Manager = new soot.toolkits.exceptions.ThrowableSet.Manager( g );
-        return instance_soot_toolkits_exceptions_ThrowableSet_Manager;
+        soot.toolkits.exceptions.ThrowableSet.Manager ret = instance_soot_toolkits_exceptions_ThrowableSet_Manager;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toolkits_exceptions_ThrowableSet_Manager ) {
+            if( instance_soot_toolkits_exceptions_ThrowableSet_Manager == null ) instance_soot_toolkits_exceptions_ThrowableSet_Manager = new soot.toolkits.exceptions.ThrowableSet.Manager( g );
+            return instance_soot_toolkits_exceptions_ThrowableSet_Manager;
+        }
     }
 
-    public soot.toolkits.exceptions.UnitThrowAnalysis instance_soot_toolkits_exceptions_UnitThrowAnalysis;
+    public volatile soot.toolkits.exceptions.UnitThrowAnalysis instance_soot_toolkits_exceptions_UnitThrowAnalysis;
+    private final Object lock_soot_toolkits_exceptions_UnitThrowAnalysis = new Object();
     public soot.toolkits.exceptions.UnitThrowAnalysis soot_toolkits_exceptions_UnitThrowAnalysis() {
-        if( instance_soot_toolkits_exceptions_UnitThrowAnalysis == null ) instance_soot_toolkits_exceptions_UnitThrowAnalysis = new soot.toolkits.exceptions.UnitThrowAnalysis( g );
-        return instance_soot_toolkits_exceptions_UnitThrowAnalysis;
+        soot.toolkits.exceptions.UnitThrowAnalysis ret = instance_soot_toolkits_exceptions_UnitThrowAnalysis;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toolkits_exceptions_UnitThrowAnalysis ) {
+            if( instance_soot_toolkits_exceptions_UnitThrowAnalysis == null ) instance_soot_toolkits_exceptions_UnitThrowAnalysis = new soot.toolkits.exceptions.UnitThrowAnalysis( g );
+            return instance_soot_toolkits_exceptions_UnitThrowAnalysis;
+        }
     }
 
-    public soot.dexpler.DalvikThrowAnalysis instance_soot_dexpler_DalvikThrowAnalysis;
+    public volatile soot.dexpler.DalvikThrowAnalysis instance_soot_dexpler_DalvikThrowAnalysis;
+    private final Object lock_soot_dexpler_DalvikThrowAnalysis = new Object();
     public soot.dexpler.DalvikThrowAnalysis soot_dexpler_DalvikThrowAnalysis() {
-        if( instance_soot_dexpler_DalvikThrowAnalysis == null ) instance_soot_dexpler_DalvikThrowAnalysis = new soot.dexpler.DalvikThrowAnalysis( g );
-        return instance_soot_dexpler_DalvikThrowAnalysis;
+        soot.dexpler.DalvikThrowAnalysis ret = instance_soot_dexpler_DalvikThrowAnalysis;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dexpler_DalvikThrowAnalysis ) {
+            if( instance_soot_dexpler_DalvikThrowAnalysis == null ) instance_soot_dexpler_DalvikThrowAnalysis = new soot.dexpler.DalvikThrowAnalysis( g );
+            return instance_soot_dexpler_DalvikThrowAnalysis;
+        }
     }
 
-    public soot.toolkits.exceptions.PedanticThrowAnalysis instance_soot_toolkits_exceptions_PedanticThrowAnalysis;
+    public volatile soot.toolkits.exceptions.PedanticThrowAnalysis instance_soot_toolkits_exceptions_PedanticThrowAnalysis;
+    private final Object lock_soot_toolkits_exceptions_PedanticThrowAnalysis = new Object();
     public soot.toolkits.exceptions.PedanticThrowAnalysis soot_toolkits_exceptions_PedanticThrowAnalysis() {
-        if( instance_soot_toolkits_exceptions_PedanticThrowAnalysis == null ) instance_soot_toolkits_exceptions_PedanticThrowAnalysis = new soot.toolkits.exceptions.PedanticThrowAnalysis( g );
-        return instance_soot_toolkits_exceptions_PedanticThrowAnalysis;
+        soot.toolkits.exceptions.PedanticThrowAnalysis ret = instance_soot_toolkits_exceptions_PedanticThrowAnalysis;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toolkits_exceptions_PedanticThrowAnalysis ) {
+            if( instance_soot_toolkits_exceptions_PedanticThrowAnalysis == null ) instance_soot_toolkits_exceptions_PedanticThrowAnalysis = new soot.toolkits.exceptions.PedanticThrowAnalysis( g );
+            return instance_soot_toolkits_exceptions_PedanticThrowAnalysis;
+        }
     }
 
-    public soot.toolkits.exceptions.TrapTightener instance_soot_toolkits_exceptions_TrapTightener;
+    public volatile soot.toolkits.exceptions.TrapTightener instance_soot_toolkits_exceptions_TrapTightener;
+    private final Object lock_soot_toolkits_exceptions_TrapTightener = new Object();
     public soot.toolkits.exceptions.TrapTightener soot_toolkits_exceptions_TrapTightener() {
-        if( instance_soot_toolkits_exceptions_TrapTightener == null ) instance_soot_toolkits_exceptions_TrapTightener = new soot.toolkits.exceptions.TrapTightener( g );
-        return instance_soot_toolkits_exceptions_TrapTightener;
+        soot.toolkits.exceptions.TrapTightener ret = instance_soot_toolkits_exceptions_TrapTightener;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toolkits_exceptions_TrapTightener ) {
+            if( instance_soot_toolkits_exceptions_TrapTightener == null ) instance_soot_toolkits_exceptions_TrapTightener = new soot.toolkits.exceptions.TrapTightener( g );
+            return instance_soot_toolkits_exceptions_TrapTightener;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.callgraph.CallGraphGrapher instance_soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher;
+    public volatile soot.jimple.toolkits.annotation.callgraph.CallGraphGrapher instance_soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher;
+    private final Object lock_soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher = new Object();
     public soot.jimple.toolkits.annotation.callgraph.CallGraphGrapher soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher() {
-        if( instance_soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher == null ) instance_soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher = new soot.jimple.toolkits.annotation.callgraph.CallGraphGrapher( g );
-        return instance_soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher;
+        soot.jimple.toolkits.annotation.callgraph.CallGraphGrapher ret = instance_soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher ) {
+            if( instance_soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher == null ) instance_soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher = new soot.jimple.toolkits.annotation.callgraph.CallGraphGrapher( g );
+            return instance_soot_jimple_toolkits_annotation_callgraph_CallGraphGrapher;
+        }
     }
 
-    public soot.SootResolver instance_soot_SootResolver;
+    public volatile soot.SootResolver instance_soot_SootResolver;
+    private final Object lock_soot_SootResolver = new Object();
     public soot.SootResolver soot_SootResolver() {
-        if( instance_soot_SootResolver == null ) instance_soot_SootResolver = new soot.SootResolver( g );
-        return instance_soot_SootResolver;
+        soot.SootResolver ret = instance_soot_SootResolver;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_SootResolver ) {
+            if( instance_soot_SootResolver == null ) instance_soot_SootResolver = new soot.SootResolver( g );
+            return instance_soot_SootResolver;
+        }
     }
 
-    public soot.javaToJimple.InitialResolver instance_soot_javaToJimple_InitialResolver;
+    public volatile soot.javaToJimple.InitialResolver instance_soot_javaToJimple_InitialResolver;
+    private final Object lock_soot_javaToJimple_InitialResolver = new Object();
     public soot.javaToJimple.InitialResolver soot_javaToJimple_InitialResolver() {
-        if( instance_soot_javaToJimple_InitialResolver == null ) instance_soot_javaToJimple_InitialResolver = new soot.javaToJimple.InitialResolver( g );
-        return instance_soot_javaToJimple_InitialResolver;
+        soot.javaToJimple.InitialResolver ret = instance_soot_javaToJimple_InitialResolver;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_javaToJimple_InitialResolver ) {
+            if( instance_soot_javaToJimple_InitialResolver == null ) instance_soot_javaToJimple_InitialResolver = new soot.javaToJimple.InitialResolver( g );
+            return instance_soot_javaToJimple_InitialResolver;
+        }
     }
 
-    public soot.jimple.paddle.PaddleHook instance_soot_jimple_paddle_PaddleHook;
+    public volatile soot.jimple.paddle.PaddleHook instance_soot_jimple_paddle_PaddleHook;
+    private final Object lock_soot_jimple_paddle_PaddleHook = new Object();
     public soot.jimple.paddle.PaddleHook soot_jimple_paddle_PaddleHook() {
-        if( instance_soot_jimple_paddle_PaddleHook == null ) instance_soot_jimple_paddle_PaddleHook = new soot.jimple.paddle.PaddleHook( g );
-        return instance_soot_jimple_paddle_PaddleHook;
+        soot.jimple.paddle.PaddleHook ret = instance_soot_jimple_paddle_PaddleHook;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_paddle_PaddleHook ) {
+            if( instance_soot_jimple_paddle_PaddleHook == null ) instance_soot_jimple_paddle_PaddleHook = new soot.jimple.paddle.PaddleHook( g );
+            return instance_soot_jimple_paddle_PaddleHook;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.DominatorsTagger instance_soot_jimple_toolkits_annotation_DominatorsTagger;
+    public volatile soot.jimple.toolkits.annotation.DominatorsTagger instance_soot_jimple_toolkits_annotation_DominatorsTagger;
+    private final Object lock_soot_jimple_toolkits_annotation_DominatorsTagger = new Object();
     public soot.jimple.toolkits.annotation.DominatorsTagger soot_jimple_toolkits_annotation_DominatorsTagger() {
-        if( instance_soot_jimple_toolkits_annotation_DominatorsTagger == null ) instance_soot_jimple_toolkits_annotation_DominatorsTagger = new soot.jimple.toolkits.annotation.DominatorsTagger( g );
-        return instance_soot_jimple_toolkits_annotation_DominatorsTagger;
+        soot.jimple.toolkits.annotation.DominatorsTagger ret = instance_soot_jimple_toolkits_annotation_DominatorsTagger;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_DominatorsTagger ) {
+            if( instance_soot_jimple_toolkits_annotation_DominatorsTagger == null ) instance_soot_jimple_toolkits_annotation_DominatorsTagger = new soot.jimple.toolkits.annotation.DominatorsTagger( g );
+            return instance_soot_jimple_toolkits_annotation_DominatorsTagger;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.purity.PurityAnalysis instance_soot_jimple_toolkits_annotation_purity_PurityAnalysis;
+    public volatile soot.jimple.toolkits.annotation.purity.PurityAnalysis instance_soot_jimple_toolkits_annotation_purity_PurityAnalysis;
+    private final Object lock_soot_jimple_toolkits_annotation_purity_PurityAnalysis = new Object();
     public soot.jimple.toolkits.annotation.purity.PurityAnalysis soot_jimple_toolkits_annotation_purity_PurityAnalysis() {
-        if( instance_soot_jimple_toolkits_annotation_purity_PurityAnalysis == null ) instance_soot_jimple_toolkits_annotation_purity_PurityAnalysis = new soot.jimple.toolkits.annotation.purity.PurityAnalysis( g );
-        return instance_soot_jimple_toolkits_annotation_purity_PurityAnalysis;
+        soot.jimple.toolkits.annotation.purity.PurityAnalysis ret = instance_soot_jimple_toolkits_annotation_purity_PurityAnalysis;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_purity_PurityAnalysis ) {
+            if( instance_soot_jimple_toolkits_annotation_purity_PurityAnalysis == null ) instance_soot_jimple_toolkits_annotation_purity_PurityAnalysis = new soot.jimple.toolkits.annotation.purity.PurityAnalysis( g );
+            return instance_soot_jimple_toolkits_annotation_purity_PurityAnalysis;
+        }
     }
 
-    public soot.javaToJimple.toolkits.CondTransformer instance_soot_javaToJimple_toolkits_CondTransformer;
+    public volatile soot.javaToJimple.toolkits.CondTransformer instance_soot_javaToJimple_toolkits_CondTransformer;
+    private final Object lock_soot_javaToJimple_toolkits_CondTransformer = new Object();
     public soot.javaToJimple.toolkits.CondTransformer soot_javaToJimple_toolkits_CondTransformer() {
-        if( instance_soot_javaToJimple_toolkits_CondTransformer == null ) instance_soot_javaToJimple_toolkits_CondTransformer = new soot.javaToJimple.toolkits.CondTransformer( g );
-        return instance_soot_javaToJimple_toolkits_CondTransformer;
+        soot.javaToJimple.toolkits.CondTransformer ret = instance_soot_javaToJimple_toolkits_CondTransformer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_javaToJimple_toolkits_CondTransformer ) {
+            if( instance_soot_javaToJimple_toolkits_CondTransformer == null ) instance_soot_javaToJimple_toolkits_CondTransformer = new soot.javaToJimple.toolkits.CondTransformer( g );
+            return instance_soot_javaToJimple_toolkits_CondTransformer;
+        }
     }
 
-    public soot.dava.toolkits.base.AST.transformations.UselessLabelFinder instance_soot_dava_toolkits_base_AST_transformations_UselessLabelFinder;
+    public volatile soot.dava.toolkits.base.AST.transformations.UselessLabelFinder instance_soot_dava_toolkits_base_AST_transformations_UselessLabelFinder;
+    private final Object lock_soot_dava_toolkits_base_AST_transformations_UselessLabelFinder = new Object();
     public soot.dava.toolkits.base.AST.transformations.UselessLabelFinder soot_dava_toolkits_base_AST_transformations_UselessLabelFinder() {
-        if( instance_soot_dava_toolkits_base_AST_transformations_UselessLabelFinder == null ) instance_soot_dava_toolkits_base_AST_transformations_UselessLabelFinder = new soot.dava.toolkits.base.AST.transformations.UselessLabelFinder( g );
-        return instance_soot_dava_toolkits_base_AST_transformations_UselessLabelFinder;
+        soot.dava.toolkits.base.AST.transformations.UselessLabelFinder ret = instance_soot_dava_toolkits_base_AST_transformations_UselessLabelFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_AST_transformations_UselessLabelFinder ) {
+            if( instance_soot_dava_toolkits_base_AST_transformations_UselessLabelFinder == null ) instance_soot_dava_toolkits_base_AST_transformations_UselessLabelFinder = new soot.dava.toolkits.base.AST.transformations.UselessLabelFinder( g );
+            return instance_soot_dava_toolkits_base_AST_transformations_UselessLabelFinder;
+        }
     }
 
-    public soot.dava.DavaStaticBlockCleaner instance_soot_dava_DavaStaticBlockCleaner;
+    public volatile soot.dava.DavaStaticBlockCleaner instance_soot_dava_DavaStaticBlockCleaner;
+    private final Object lock_soot_dava_DavaStaticBlockCleaner = new Object();
     public soot.dava.DavaStaticBlockCleaner soot_dava_DavaStaticBlockCleaner() {
-        if( instance_soot_dava_DavaStaticBlockCleaner == null ) instance_soot_dava_DavaStaticBlockCleaner = new soot.dava.DavaStaticBlockCleaner( g );
-        return instance_soot_dava_DavaStaticBlockCleaner;
+        soot.dava.DavaStaticBlockCleaner ret = instance_soot_dava_DavaStaticBlockCleaner;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_DavaStaticBlockCleaner ) {
+            if( instance_soot_dava_DavaStaticBlockCleaner == null ) instance_soot_dava_DavaStaticBlockCleaner = new soot.dava.DavaStaticBlockCleaner( g );
+            return instance_soot_dava_DavaStaticBlockCleaner;
+        }
     }
 
-    public soot.dava.toolkits.base.AST.traversals.ClosestAbruptTargetFinder instance_soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder;
+    public volatile soot.dava.toolkits.base.AST.traversals.ClosestAbruptTargetFinder instance_soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder;
+    private final Object lock_soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder = new Object();
     public soot.dava.toolkits.base.AST.traversals.ClosestAbruptTargetFinder soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder() {
-        if( instance_soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder == null ) instance_soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder = new soot.dava.toolkits.base.AST.traversals.ClosestAbruptTargetFinder( g );
-        return instance_soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder;
+        soot.dava.toolkits.base.AST.traversals.ClosestAbruptTargetFinder ret = instance_soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder ) {
+            if( instance_soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder == null ) instance_soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder = new soot.dava.toolkits.base.AST.traversals.ClosestAbruptTargetFinder( g );
+            return instance_soot_dava_toolkits_base_AST_traversals_ClosestAbruptTargetFinder;
+        }
     }
 
-    public soot.jimple.spark.sets.AllSharedListNodes instance_soot_jimple_spark_sets_AllSharedListNodes;
+    public volatile soot.jimple.spark.sets.AllSharedListNodes instance_soot_jimple_spark_sets_AllSharedListNodes;
+    private final Object lock_soot_jimple_spark_sets_AllSharedListNodes = new Object();
     public soot.jimple.spark.sets.AllSharedListNodes soot_jimple_spark_sets_AllSharedListNodes() {
-        if( instance_soot_jimple_spark_sets_AllSharedListNodes == null ) instance_soot_jimple_spark_sets_AllSharedListNodes = new soot.jimple.spark.sets.AllSharedListNodes( g );
-        return instance_soot_jimple_spark_sets_AllSharedListNodes;
+        soot.jimple.spark.sets.AllSharedListNodes ret = instance_soot_jimple_spark_sets_AllSharedListNodes;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_spark_sets_AllSharedListNodes ) {
+            if( instance_soot_jimple_spark_sets_AllSharedListNodes == null ) instance_soot_jimple_spark_sets_AllSharedListNodes = new soot.jimple.spark.sets.AllSharedListNodes( g );
+            return instance_soot_jimple_spark_sets_AllSharedListNodes;
+        }
     }
 
-    public soot.jimple.spark.sets.AllSharedHybridNodes instance_soot_jimple_spark_sets_AllSharedHybridNodes;
+    public volatile soot.jimple.spark.sets.AllSharedHybridNodes instance_soot_jimple_spark_sets_AllSharedHybridNodes;
+    private final Object lock_soot_jimple_spark_sets_AllSharedHybridNodes = new Object();
     public soot.jimple.spark.sets.AllSharedHybridNodes soot_jimple_spark_sets_AllSharedHybridNodes() {
-        if( instance_soot_jimple_spark_sets_AllSharedHybridNodes == null ) instance_soot_jimple_spark_sets_AllSharedHybridNodes = new soot.jimple.spark.sets.AllSharedHybridNodes( g );
-        return instance_soot_jimple_spark_sets_AllSharedHybridNodes;
+        soot.jimple.spark.sets.AllSharedHybridNodes ret = instance_soot_jimple_spark_sets_AllSharedHybridNodes;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_spark_sets_AllSharedHybridNodes ) {
+            if( instance_soot_jimple_spark_sets_AllSharedHybridNodes == null ) instance_soot_jimple_spark_sets_AllSharedHybridNodes = new soot.jimple.spark.sets.AllSharedHybridNodes( g );
+            return instance_soot_jimple_spark_sets_AllSharedHybridNodes;
+        }
     }
 
-    public soot.jimple.toolkits.thread.synchronization.LockAllocator instance_soot_jimple_toolkits_thread_synchronization_LockAllocator;
+    public volatile soot.jimple.toolkits.thread.synchronization.LockAllocator instance_soot_jimple_toolkits_thread_synchronization_LockAllocator;
+    private final Object lock_soot_jimple_toolkits_thread_synchronization_LockAllocator = new Object();
     public soot.jimple.toolkits.thread.synchronization.LockAllocator soot_jimple_toolkits_thread_synchronization_LockAllocator() {
-        if( instance_soot_jimple_toolkits_thread_synchronization_LockAllocator == null ) instance_soot_jimple_toolkits_thread_synchronization_LockAllocator = new soot.jimple.toolkits.thread.synchronization.LockAllocator( g );
-        return instance_soot_jimple_toolkits_thread_synchronization_LockAllocator;
+        soot.jimple.toolkits.thread.synchronization.LockAllocator ret = instance_soot_jimple_toolkits_thread_synchronization_LockAllocator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_thread_synchronization_LockAllocator ) {
+            if( instance_soot_jimple_toolkits_thread_synchronization_LockAllocator == null ) instance_soot_jimple_toolkits_thread_synchronization_LockAllocator = new soot.jimple.toolkits.thread.synchronization.LockAllocator( g );
+            return instance_soot_jimple_toolkits_thread_synchronization_LockAllocator;
+        }
     }
 
-    public soot.jimple.toolkits.thread.mhp.MhpTransformer instance_soot_jimple_toolkits_thread_mhp_MhpTransformer;
+    public volatile soot.jimple.toolkits.thread.mhp.MhpTransformer instance_soot_jimple_toolkits_thread_mhp_MhpTransformer;
+    private final Object lock_soot_jimple_toolkits_thread_mhp_MhpTransformer = new Object();
     public soot.jimple.toolkits.thread.mhp.MhpTransformer soot_jimple_toolkits_thread_mhp_MhpTransformer() {
-        if( instance_soot_jimple_toolkits_thread_mhp_MhpTransformer == null ) instance_soot_jimple_toolkits_thread_mhp_MhpTransformer = new soot.jimple.toolkits.thread.mhp.MhpTransformer( g );
-        return instance_soot_jimple_toolkits_thread_mhp_MhpTransformer;
+        soot.jimple.toolkits.thread.mhp.MhpTransformer ret = instance_soot_jimple_toolkits_thread_mhp_MhpTransformer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_thread_mhp_MhpTransformer ) {
+            if( instance_soot_jimple_toolkits_thread_mhp_MhpTransformer == null ) instance_soot_jimple_toolkits_thread_mhp_MhpTransformer = new soot.jimple.toolkits.thread.mhp.MhpTransformer( g );
+            return instance_soot_jimple_toolkits_thread_mhp_MhpTransformer;
+        }
     }
 
-    public soot.JastAddInitialResolver instance_soot_JastAddInitialResolver;
+    public volatile soot.JastAddInitialResolver instance_soot_JastAddInitialResolver;
+    private final Object lock_soot_JastAddInitialResolver = new Object();
     public soot.JastAddInitialResolver soot_JastAddInitialResolver() {
-        if( instance_soot_JastAddInitialResolver == null ) instance_soot_JastAddInitialResolver = new soot.JastAddInitialResolver( g );
-        return instance_soot_JastAddInitialResolver;
+        soot.JastAddInitialResolver ret = instance_soot_JastAddInitialResolver;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_JastAddInitialResolver ) {
+            if( instance_soot_JastAddInitialResolver == null ) instance_soot_JastAddInitialResolver = new soot.JastAddInitialResolver( g );
+            return instance_soot_JastAddInitialResolver;
+        }
     }
 
-    public soot.jimple.toolkits.annotation.j5anno.AnnotationGenerator instance_soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator;
+    public volatile soot.jimple.toolkits.annotation.j5anno.AnnotationGenerator instance_soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator;
+    private final Object lock_soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator = new Object();
     public soot.jimple.toolkits.annotation.j5anno.AnnotationGenerator soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator() {
-        if( instance_soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator == null ) instance_soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator = new soot.jimple.toolkits.annotation.j5anno.AnnotationGenerator( g );
-        return instance_soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator;
+        soot.jimple.toolkits.annotation.j5anno.AnnotationGenerator ret = instance_soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator ) {
+            if( instance_soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator == null ) instance_soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator = new soot.jimple.toolkits.annotation.j5anno.AnnotationGenerator( g );
+            return instance_soot_jimple_toolkits_annotation_j5anno_AnnotationGenerator;
+        }
     }
 
-    public soot.sootify.TemplatePrinter instance_soot_sootify_TemplatePrinter;
+    public volatile soot.sootify.TemplatePrinter instance_soot_sootify_TemplatePrinter;
+    private final Object lock_soot_sootify_TemplatePrinter = new Object();
     public soot.sootify.TemplatePrinter soot_sootify_TemplatePrinter() {
-        if( instance_soot_sootify_TemplatePrinter == null ) instance_soot_sootify_TemplatePrinter = new soot.sootify.TemplatePrinter( g );
-        return instance_soot_sootify_TemplatePrinter;
+        soot.sootify.TemplatePrinter ret = instance_soot_sootify_TemplatePrinter;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_sootify_TemplatePrinter ) {
+            if( instance_soot_sootify_TemplatePrinter == null ) instance_soot_sootify_TemplatePrinter = new soot.sootify.TemplatePrinter( g );
+            return instance_soot_sootify_TemplatePrinter;
+        }
     }
 
-    public soot.dexpler.DexResolver instance_soot_dexpler_DexResolver;
+    public volatile soot.dexpler.DexResolver instance_soot_dexpler_DexResolver;
+    private final Object lock_soot_dexpler_DexResolver = new Object();
     public soot.dexpler.DexResolver soot_dexpler_DexResolver() {
-        if( instance_soot_dexpler_DexResolver == null ) instance_soot_dexpler_DexResolver = new soot.dexpler.DexResolver( g );
-        return instance_soot_dexpler_DexResolver;
+        soot.dexpler.DexResolver ret = instance_soot_dexpler_DexResolver;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dexpler_DexResolver ) {
+            if( instance_soot_dexpler_DexResolver == null ) instance_soot_dexpler_DexResolver = new soot.dexpler.DexResolver( g );
+            return instance_soot_dexpler_DexResolver;
+        }
     }
 
-    public soot.jimple.toolkits.scalar.EmptySwitchEliminator instance_soot_jimple_toolkits_scalar_EmptySwitchEliminator;
+    public volatile soot.jimple.toolkits.scalar.EmptySwitchEliminator instance_soot_jimple_toolkits_scalar_EmptySwitchEliminator;
+    private final Object lock_soot_jimple_toolkits_scalar_EmptySwitchEliminator = new Object();
     public soot.jimple.toolkits.scalar.EmptySwitchEliminator soot_jimple_toolkits_scalar_EmptySwitchEliminator() {
-        if( instance_soot_jimple_toolkits_scalar_EmptySwitchEliminator == null ) instance_soot_jimple_toolkits_scalar_EmptySwitchEliminator = new soot.jimple.toolkits.scalar.EmptySwitchEliminator( g );
-        return instance_soot_jimple_toolkits_scalar_EmptySwitchEliminator;
+        soot.jimple.toolkits.scalar.EmptySwitchEliminator ret = instance_soot_jimple_toolkits_scalar_EmptySwitchEliminator;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_scalar_EmptySwitchEliminator ) {
+            if( instance_soot_jimple_toolkits_scalar_EmptySwitchEliminator == null ) instance_soot_jimple_toolkits_scalar_EmptySwitchEliminator = new soot.jimple.toolkits.scalar.EmptySwitchEliminator( g );
+            return instance_soot_jimple_toolkits_scalar_EmptySwitchEliminator;
+        }
     }
 
-    public soot.toDex.SynchronizedMethodTransformer instance_soot_toDex_SynchronizedMethodTransformer;
+    public volatile soot.toDex.SynchronizedMethodTransformer instance_soot_toDex_SynchronizedMethodTransformer;
+    private final Object lock_soot_toDex_SynchronizedMethodTransformer = new Object();
     public soot.toDex.SynchronizedMethodTransformer soot_toDex_SynchronizedMethodTransformer() {
-        if( instance_soot_toDex_SynchronizedMethodTransformer == null ) instance_soot_toDex_SynchronizedMethodTransformer = new soot.toDex.SynchronizedMethodTransformer( g );
-        return instance_soot_toDex_SynchronizedMethodTransformer;
+        soot.toDex.SynchronizedMethodTransformer ret = instance_soot_toDex_SynchronizedMethodTransformer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toDex_SynchronizedMethodTransformer ) {
+            if( instance_soot_toDex_SynchronizedMethodTransformer == null ) instance_soot_toDex_SynchronizedMethodTransformer = new soot.toDex.SynchronizedMethodTransformer( g );
+            return instance_soot_toDex_SynchronizedMethodTransformer;
+        }
     }
 
-    public soot.toDex.TrapSplitter instance_soot_toDex_TrapSplitter;
+    public volatile soot.toDex.TrapSplitter instance_soot_toDex_TrapSplitter;
+    private final Object lock_soot_toDex_TrapSplitter = new Object();
     public soot.toDex.TrapSplitter soot_toDex_TrapSplitter() {
-        if( instance_soot_toDex_TrapSplitter == null ) instance_soot_toDex_TrapSplitter = new soot.toDex.TrapSplitter( g );
-        return instance_soot_toDex_TrapSplitter;
+        soot.toDex.TrapSplitter ret = instance_soot_toDex_TrapSplitter;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toDex_TrapSplitter ) {
+            if( instance_soot_toDex_TrapSplitter == null ) instance_soot_toDex_TrapSplitter = new soot.toDex.TrapSplitter( g );
+            return instance_soot_toDex_TrapSplitter;
+        }
     }
 
-    public soot.toDex.FastDexTrapTightener instance_soot_toDex_FastDexTrapTightener;
+    public volatile soot.toDex.FastDexTrapTightener instance_soot_toDex_FastDexTrapTightener;
+    private final Object lock_soot_toDex_FastDexTrapTightener = new Object();
     public soot.toDex.FastDexTrapTightener soot_toDex_FastDexTrapTightener() {
-        if( instance_soot_toDex_FastDexTrapTightener == null ) instance_soot_toDex_FastDexTrapTightener = new soot.toDex.FastDexTrapTightener( g );
-        return instance_soot_toDex_FastDexTrapTightener;
+        soot.toDex.FastDexTrapTightener ret = instance_soot_toDex_FastDexTrapTightener;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_toDex_FastDexTrapTightener ) {
+            if( instance_soot_toDex_FastDexTrapTightener == null ) instance_soot_toDex_FastDexTrapTightener = new soot.toDex.FastDexTrapTightener( g );
+            return instance_soot_toDex_FastDexTrapTightener;
+        }
     }
 
-    private soot.jimple.toolkits.base.RenameDuplicatedClasses instance_soot_jimple_toolkits_base_RenameDuplicatedClasses;
+    public volatile soot.jimple.toolkits.base.RenameDuplicatedClasses instance_soot_jimple_toolkits_base_RenameDuplicatedClasses;
+    private final Object lock_soot_jimple_toolkits_base_RenameDuplicatedClasses = new Object();
     public soot.jimple.toolkits.base.RenameDuplicatedClasses soot_jimple_toolkits_base_RenameDuplicatedClasses() {
-        if( instance_soot_jimple_toolkits_base_RenameDuplicatedClasses == null ) instance_soot_jimple_toolkits_base_RenameDuplicatedClasses = new soot.jimple.toolkits.base.RenameDuplicatedClasses( g );
-        return instance_soot_jimple_toolkits_base_RenameDuplicatedClasses;
+        soot.jimple.toolkits.base.RenameDuplicatedClasses ret = instance_soot_jimple_toolkits_base_RenameDuplicatedClasses;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_base_RenameDuplicatedClasses ) {
+            if( instance_soot_jimple_toolkits_base_RenameDuplicatedClasses == null ) instance_soot_jimple_toolkits_base_RenameDuplicatedClasses = new soot.jimple.toolkits.base.RenameDuplicatedClasses( g );
+            return instance_soot_jimple_toolkits_base_RenameDuplicatedClasses;
+        }
     }
 
-    private soot.jimple.toolkits.typing.fast.Integer127Type instance_soot_jimple_toolkits_typing_fast_Integer127Type;
+    public volatile soot.jimple.toolkits.typing.fast.Integer127Type instance_soot_jimple_toolkits_typing_fast_Integer127Type;
+    private final Object lock_soot_jimple_toolkits_typing_fast_Integer127Type = new Object();
     public soot.jimple.toolkits.typing.fast.Integer127Type soot_jimple_toolkits_typing_fast_Integer127Type() {
-        if( instance_soot_jimple_toolkits_typing_fast_Integer127Type == null ) instance_soot_jimple_toolkits_typing_fast_Integer127Type = new soot.jimple.toolkits.typing.fast.Integer127Type( g );
-        return instance_soot_jimple_toolkits_typing_fast_Integer127Type;
+        soot.jimple.toolkits.typing.fast.Integer127Type ret = instance_soot_jimple_toolkits_typing_fast_Integer127Type;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_typing_fast_Integer127Type ) {
+            if( instance_soot_jimple_toolkits_typing_fast_Integer127Type == null ) instance_soot_jimple_toolkits_typing_fast_Integer127Type = new soot.jimple.toolkits.typing.fast.Integer127Type( g );
+            return instance_soot_jimple_toolkits_typing_fast_Integer127Type;
+        }
     }
 
-    private soot.jimple.toolkits.typing.fast.Integer1Type instance_soot_jimple_toolkits_typing_fast_Integer1Type;
+    public volatile soot.jimple.toolkits.typing.fast.Integer1Type instance_soot_jimple_toolkits_typing_fast_Integer1Type;
+    private final Object lock_soot_jimple_toolkits_typing_fast_Integer1Type = new Object();
     public soot.jimple.toolkits.typing.fast.Integer1Type soot_jimple_toolkits_typing_fast_Integer1Type() {
-        if( instance_soot_jimple_toolkits_typing_fast_Integer1Type == null ) instance_soot_jimple_toolkits_typing_fast_Integer1Type = new soot.jimple.toolkits.typing.fast.Integer1Type( g );
-        return instance_soot_jimple_toolkits_typing_fast_Integer1Type;
+        soot.jimple.toolkits.typing.fast.Integer1Type ret = instance_soot_jimple_toolkits_typing_fast_Integer1Type;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_typing_fast_Integer1Type ) {
+            if( instance_soot_jimple_toolkits_typing_fast_Integer1Type == null ) instance_soot_jimple_toolkits_typing_fast_Integer1Type = new soot.jimple.toolkits.typing.fast.Integer1Type( g );
+            return instance_soot_jimple_toolkits_typing_fast_Integer1Type;
+        }
     }
 
-    private soot.jimple.toolkits.typing.fast.Integer32767Type instance_soot_jimple_toolkits_typing_fast_Integer32767Type;
+    public volatile soot.jimple.toolkits.typing.fast.Integer32767Type instance_soot_jimple_toolkits_typing_fast_Integer32767Type;
+    private final Object lock_soot_jimple_toolkits_typing_fast_Integer32767Type = new Object();
     public soot.jimple.toolkits.typing.fast.Integer32767Type soot_jimple_toolkits_typing_fast_Integer32767Type() {
-        if( instance_soot_jimple_toolkits_typing_fast_Integer32767Type == null ) instance_soot_jimple_toolkits_typing_fast_Integer32767Type = new soot.jimple.toolkits.typing.fast.Integer32767Type( g );
-        return instance_soot_jimple_toolkits_typing_fast_Integer32767Type;
+        soot.jimple.toolkits.typing.fast.Integer32767Type ret = instance_soot_jimple_toolkits_typing_fast_Integer32767Type;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_typing_fast_Integer32767Type ) {
+            if( instance_soot_jimple_toolkits_typing_fast_Integer32767Type == null ) instance_soot_jimple_toolkits_typing_fast_Integer32767Type = new soot.jimple.toolkits.typing.fast.Integer32767Type( g );
+            return instance_soot_jimple_toolkits_typing_fast_Integer32767Type;
+        }
     }
 
-    private soot.jimple.toolkits.typing.fast.BottomType instance_soot_jimple_toolkits_typing_fast_BottomType;
+    public volatile soot.jimple.toolkits.typing.fast.BottomType instance_soot_jimple_toolkits_typing_fast_BottomType;
+    private final Object lock_soot_jimple_toolkits_typing_fast_BottomType = new Object();
     public soot.jimple.toolkits.typing.fast.BottomType soot_jimple_toolkits_typing_fast_BottomType() {
-        if( instance_soot_jimple_toolkits_typing_fast_BottomType == null ) instance_soot_jimple_toolkits_typing_fast_BottomType = new soot.jimple.toolkits.typing.fast.BottomType( g );
-        return instance_soot_jimple_toolkits_typing_fast_BottomType;
+        soot.jimple.toolkits.typing.fast.BottomType ret = instance_soot_jimple_toolkits_typing_fast_BottomType;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_toolkits_typing_fast_BottomType ) {
+            if( instance_soot_jimple_toolkits_typing_fast_BottomType == null ) instance_soot_jimple_toolkits_typing_fast_BottomType = new soot.jimple.toolkits.typing.fast.BottomType( g );
+            return instance_soot_jimple_toolkits_typing_fast_BottomType;
+        }
     }
 
-    private soot.dexpler.TrapMinimizer instance_soot_dexpler_TrapMinimizer;
+    public volatile soot.dexpler.TrapMinimizer instance_soot_dexpler_TrapMinimizer;
+    private final Object lock_soot_dexpler_TrapMinimizer = new Object();
     public soot.dexpler.TrapMinimizer soot_dexpler_TrapMinimizer() {
-        if( instance_soot_dexpler_TrapMinimizer == null ) instance_soot_dexpler_TrapMinimizer = new soot.dexpler.TrapMinimizer( g );
-        return instance_soot_dexpler_TrapMinimizer;
+        soot.dexpler.TrapMinimizer ret = instance_soot_dexpler_TrapMinimizer;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_dexpler_TrapMinimizer ) {
+            if( instance_soot_dexpler_TrapMinimizer == null ) instance_soot_dexpler_TrapMinimizer = new soot.dexpler.TrapMinimizer( g );
+            return instance_soot_dexpler_TrapMinimizer;
+        }
+    }
+
+    public volatile soot.jimple.cache.BodyCache instance_soot_jimple_cache_BodyCache;
+    private final Object lock_soot_jimple_cache_BodyCache = new Object();
+    public soot.jimple.cache.BodyCache soot_jimple_cache_BodyCache() {
+        soot.jimple.cache.BodyCache ret = instance_soot_jimple_cache_BodyCache;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_jimple_cache_BodyCache ) {
+            if( instance_soot_jimple_cache_BodyCache == null ) instance_soot_jimple_cache_BodyCache = new soot.jimple.cache.BodyCache( g );
+            return instance_soot_jimple_cache_BodyCache;
+        }
+    }
+
+    public volatile soot.BodyManager instance_soot_BodyManager;
+    private final Object lock_soot_BodyManager = new Object();
+    public soot.BodyManager soot_BodyManager() {
+        soot.BodyManager ret = instance_soot_BodyManager;
+        if( ret != null ) return ret;
+        synchronized( lock_soot_BodyManager ) {
+            if( instance_soot_BodyManager == null ) instance_soot_BodyManager = new soot.BodyManager( g );
+            return instance_soot_BodyManager;
+        }
     }
 
 }
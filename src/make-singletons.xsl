@@ -34,14 +34,27 @@ public class Singletons {
         private Global() {}
     }
     private Global g = new Global();
-<xsl:for-each select="/singletons/class">
+
+    /** Returns the argument that the constructors of the singletons take,
+     * so that the PackManager can make copies of the body transformers for
+     * each of the threads that run the body packs. */
+    Global global() { return g; }
+<!-- Each singleton is made under a lock of its own, so that only one is
+     ever made, and making it does not hold a lock that code getting other
+     singletons may need. G is reset rather than replaced, so holder
+     classes cannot be used. --><xsl:for-each select="/singletons/class">
     <xsl:variable name="class" select="."/>
     <xsl:variable name="undottedClass" select="translate(.,'.','_')"/>
     <xsl:variable name="instanceName">instance_<xsl:value-of select="$undottedClass"/></xsl:variable>
-    public <xsl:value-of select="$class"/><xsl:text> </xsl:text><xsl:value-of select="$instanceName"/>;
+    public volatile <xsl:value-of select="$class"/><xsl:text> </xsl:text><xsl:value-of select="$instanceName"/>;
+    private final Object lock_<xsl:value-of select="$undottedClass"/> = new Object();
     public <xsl:value-of select="$class"/><xsl:text> </xsl:text><xsl:value-of select="$undottedClass"/>() {
-        if( <xsl:value-of select="$instanceName"/> == null ) <xsl:value-of select="$instanceName"/> = new <xsl:value-of select="$class"/>( g );
-        return <xsl:value-of select="$instanceName"/>;
+        <xsl:value-of select="$class"/> ret = <xsl:value-of select="$instanceName"/>;
+        if( ret != null ) return ret;
+        synchronized( lock_<xsl:value-of select="$undottedClass"/> ) {
+            if( <xsl:value-of select="$instanceName"/> == null ) <xsl:value-of select="$instanceName"/> = new <xsl:value-of select="$class"/>( g );
+            return <xsl:value-of select="$instanceName"/>;
+        }
     }
 </xsl:for-each>
 }
@@ -48,6 +48,9 @@ class AbstractSootFieldRef implements SootFieldRef {
     private final String name;
     private final Type type;
     private final boolean isStatic;
+    /** The field this reference last resolved to, so that resolving it
+     * again takes no lock while that field is still declared. */
+    private volatile SootField resolved;
     
     public SootClass declaringClass() { return declaringClass; }
     public String name() { return name; }
@@ -78,7 +81,14 @@ class AbstractSootFieldRef implements SootFieldRef {
     }
 
     public SootField resolve() {
-    	return resolve(null);
+    	SootField ret = resolved;
+    	if( ret != null && ret.isDeclared() ) return ret;
+    	// May add a phantom field to the declaring class
+    	synchronized(Scene.v()) {
+    		ret = resolve(null);
+    	}
+    	resolved = ret;
+    	return ret;
     }
     
     private SootField checkStatic(SootField ret) {
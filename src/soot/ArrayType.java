@@ -83,8 +83,13 @@ public class ArrayType extends RefLikeType
         
         ArrayType ret = elementType.getArrayType();
         if( ret == null ) {
-            ret = new ArrayType(baseType, numDimensions);
-            elementType.setArrayType( ret );
+            synchronized( elementType ) {
+                ret = elementType.getArrayType();
+                if( ret == null ) {
+                    ret = new ArrayType(baseType, numDimensions);
+                    elementType.setArrayType( ret );
+                }
+            }
         }
         return ret;
     }
@@ -0,0 +1,170 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import soot.jimple.cache.CachingMethodSource;
+import soot.options.Options;
+
+/** Takes back the bodies of methods that their clients no longer need,
+ * when the release-bodies option is set. A client calls release() once it
+ * is done with the body of a method; the body is then taken from the
+ * method, and retrieveActiveBody() gets it back from here or, once it has
+ * been dropped, builds it again from the class file of the method.
+ * <p>
+ * A body that is built again is a new copy, whose statements and locals
+ * are not those that were released. The points-to analysis and the call
+ * graph of the Scene are keyed by the locals and statements of the
+ * bodies, so the bodies released while either of them is in the Scene
+ * are only taken once both have been released from it; releasing bodies
+ * saves no memory while the analyses that built them run.
+ * <p>
+ * The bodies released last, up to the number given by the resident-bodies
+ * option, are kept as they are; older ones are only softly reachable, and
+ * are dropped when memory runs low.
+ * @author agent
+ */
+public class BodyManager {
+    public BodyManager( Singletons.Global g ) {}
+    public static BodyManager v() { return G.v().soot_BodyManager(); }
+
+    /** Returns true if the release-bodies option is set. */
+    public boolean isEnabled() {
+        return Options.v().release_bodies();
+    }
+
+    /** Tells the manager that the caller no longer needs the active body
+     * of m, and has not changed it since it was retrieved. The body is
+     * taken from m if it can be built again, as soon as neither the
+     * points-to analysis nor the call graph of the Scene may refer to it,
+     * unless a body pack runs on it or it is replaced before then. */
+    public synchronized void release( SootMethod m ) {
+        if( !isEnabled() || !m.hasActiveBody() || !reloadable.contains( m ) ) return;
+        Scene s = Scene.v();
+        if( s.hasPointsToAnalysis() || s.hasCallGraph() ) {
+            pending.add( m );
+            return;
+        }
+        Body b = m.getActiveBody();
+        m.releaseActiveBody();
+        resident.put( m, b );
+        released++;
+    }
+
+    /** Drops the released bodies that are only softly reachable, as if
+     * memory had run low, so that they are built again when they are
+     * retrieved. */
+    public synchronized void trim() {
+        for( SoftReference<Body> ref : softBodies.values() ) ref.clear();
+    }
+
+    /** Prints how many bodies were released and got back. */
+    public synchronized void report() {
+        G.v().out.println( "[BodyManager] "+released+" bodies released, "
+                +reclaimed+" got back and "+reloaded+" built again; "
+                +resident.size()+" resident, "+pending.size()+" waiting for the "
+                +"points-to analysis and call graph to be released" );
+    }
+
+    /* End of public methods. */
+
+    /** Notes that the first body of m is being built from the source ms,
+     * so that m may be released if its body can be built again from its
+     * class file. */
+    synchronized void retrieving( SootMethod m, MethodSource ms ) {
+        if( ms instanceof CachingMethodSource ) ms = ((CachingMethodSource) ms).source();
+        if( ms instanceof ReloadableMethodSource ) reloadable.add( m );
+    }
+
+    /** Takes the bodies that were released while the points-to analysis
+     * or the call graph were in the Scene, once neither of them is. */
+    void releasePending() {
+        List<SootMethod> methods;
+        synchronized( this ) {
+            Scene s = Scene.v();
+            if( pending.isEmpty() || s.hasPointsToAnalysis() || s.hasCallGraph() ) return;
+            methods = new ArrayList<SootMethod>( pending );
+            pending.clear();
+        }
+        for( SootMethod m : methods ) release( m );
+    }
+
+    /** Returns the body of m that was released, if it is still kept, or
+     * else built again, and stops keeping it; returns null if the body of
+     * m was not released. */
+    Body reclaim( SootMethod m ) {
+        synchronized( this ) {
+            Body ret = resident.remove( m );
+            if( ret == null ) {
+                SoftReference<Body> ref = softBodies.remove( m );
+                if( ref == null ) return null;
+                ret = ref.get();
+            }
+            if( ret != null ) {
+                reclaimed++;
+                return ret;
+            }
+            reloaded++;
+        }
+        return reload( m );
+    }
+
+    /** Stops keeping any released body of m. */
+    synchronized void forget( SootMethod m ) {
+        resident.remove( m );
+        softBodies.remove( m );
+        pending.remove( m );
+    }
+
+    /** Builds the body of m again, from a new source read from its class
+     * file. */
+    private Body reload( SootMethod m ) {
+        ClassSource cs = SourceLocator.v().getClassSource( m.getDeclaringClass().getName() );
+        MethodSource ms = cs == null ? null : cs.methodSource( m );
+        if( ms == null )
+            throw new RuntimeException( "Cannot build the released body of "+m+" again" );
+        return ms.getBody( m, "jb" );
+    }
+
+    /** The methods whose bodies can be built again from their class files. */
+    private final Set<SootMethod> reloadable = new HashSet<SootMethod>();
+    private final Set<SootMethod> pending = new LinkedHashSet<SootMethod>();
+    private final Map<SootMethod, SoftReference<Body>> softBodies =
+        new HashMap<SootMethod, SoftReference<Body>>();
+    private final Map<SootMethod, Body> resident = new LinkedHashMap<SootMethod, Body>() {
+        protected boolean removeEldestEntry( Map.Entry<SootMethod, Body> eldest ) {
+            if( size() <= Options.v().resident_bodies() ) return false;
+            softBodies.put( eldest.getKey(), new SoftReference<Body>( eldest.getValue() ) );
+            return true;
+        }
+    };
+    private long released;
+    private long reclaimed;
+    private long reloaded;
+}
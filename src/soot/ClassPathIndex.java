@@ -0,0 +1,235 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import soot.options.Options;
+import soot.util.ChannelDataInput;
+import soot.util.ChannelDataOutput;
+
+/** An index of the jar and zip archives on the Soot class path, built once
+ * when the class path is first searched. It lists the files in each
+ * archive, so that looking for a class does not open or scan any archive;
+ * an archive is opened the first time a file is read from it, and is then
+ * kept open until the class path changes.
+ * <p>
+ * If the class-path-index option names a file, the lists are saved in it,
+ * and later runs read them from it for the archives whose length and
+ * modification time have not changed.
+ * @author agent
+ */
+final class ClassPathIndex {
+    ClassPathIndex( Collection<String> archivePaths ) {
+        String indexFile = Options.v().class_path_index();
+        boolean persist = indexFile != null && indexFile.length() > 0;
+        Map<String, Archive> saved = persist ? read( new File( indexFile ) )
+            : new HashMap<String, Archive>();
+        boolean changed = false;
+        for( String path : archivePaths ) {
+            if( archives.containsKey( path ) ) continue;
+            File f = new File( path );
+            Archive a = saved.get( path );
+            if( a == null || a.length != f.length() || a.lastModified != f.lastModified() ) {
+                a = scan( f );
+                saved.put( path, a );
+                changed = true;
+            }
+            if( a.names == null ) a.names = new HashSet<String>( Arrays.asList( a.entries ) );
+            archives.put( path, a );
+        }
+        if( persist && changed ) write( new File( indexFile ), saved );
+    }
+
+    /** Returns true if the archive at path is in the index. */
+    boolean isArchive( String path ) {
+        return archives.containsKey( path );
+    }
+
+    /** Returns true if the archive at path has a file called fileName. */
+    boolean contains( String path, String fileName ) {
+        Archive a = archives.get( path );
+        return a != null && a.names.contains( fileName );
+    }
+
+    /** Returns the names of the files in the archive at path, in the order
+     * in which they appear in it. */
+    List<String> entries( String path ) {
+        return Arrays.asList( archives.get( path ).entries );
+    }
+
+    /** Returns the archive at path, opening it if it is not open yet. */
+    ZipFile open( String path ) throws IOException {
+        Archive a = archives.get( path );
+        synchronized( a ) {
+            if( a.zip == null ) a.zip = new ZipFile( path );
+            return a.zip;
+        }
+    }
+
+    /** Closes the archives that are open. */
+    void close() {
+        for( Archive a : archives.values() ) {
+            synchronized( a ) {
+                if( a.zip == null ) continue;
+                try {
+                    a.zip.close();
+                } catch( IOException e ) {
+                    // Nothing more will be read from it anyway
+                }
+                a.zip = null;
+            }
+        }
+    }
+
+    /* End of package methods. */
+
+    private static final class Archive {
+        Archive( long length, long lastModified, String[] entries ) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.entries = entries;
+        }
+        final long length;
+        final long lastModified;
+        final String[] entries;
+        /** The entries, for lookup; only made for archives on the class path. */
+        Set<String> names;
+        ZipFile zip;
+    }
+
+    /** Lists the files in the archive f, and keeps it open. */
+    private static Archive scan( File f ) {
+        long length = f.length();
+        long lastModified = f.lastModified();
+        try {
+            ZipFile zip = new ZipFile( f );
+            List<String> entries = new ArrayList<String>();
+            for( Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements(); ) {
+                ZipEntry entry = e.nextElement();
+                if( !entry.isDirectory() ) entries.add( entry.getName() );
+            }
+            Archive ret = new Archive( length, lastModified,
+                    entries.toArray( new String[entries.size()] ) );
+            ret.zip = zip;
+            return ret;
+        } catch( IOException e ) {
+            throw new RuntimeException( "Caught IOException " + e + " reading archive file " + f );
+        }
+    }
+
+    private static final int MAGIC = 0x53435049;
+    private static final int VERSION = 1;
+
+    /** Reads the archives saved in file, or returns none if it cannot be
+     * read. Each name is saved as the length of the prefix it shares with
+     * the name before it, followed by the rest of it. */
+    private static Map<String, Archive> read( File file ) {
+        Map<String, Archive> ret = new HashMap<String, Archive>();
+        if( !file.isFile() ) return ret;
+        try {
+            ChannelDataInput in = new ChannelDataInput(
+                    new FileInputStream( file ).getChannel(), 1<<16 );
+            try {
+                if( in.readVarInt() != MAGIC || in.readVarInt() != VERSION ) return ret;
+                int archiveCount = in.readVarInt();
+                for( int i = 0; i < archiveCount; i++ ) {
+                    String path = in.readString();
+                    long length = in.readVarLong();
+                    long lastModified = in.readVarLong();
+                    String[] entries = new String[in.readVarInt()];
+                    String prev = "";
+                    for( int j = 0; j < entries.length; j++ ) {
+                        int shared = in.readVarInt();
+                        prev = entries[j] = prev.substring( 0, shared ) + in.readString();
+                    }
+                    ret.put( path, new Archive( length, lastModified, entries ) );
+                }
+            } finally {
+                in.close();
+            }
+        } catch( IOException e ) {
+            ret.clear();
+        } catch( RuntimeException e ) {
+            // A truncated file can fail anywhere in reading
+            ret.clear();
+        }
+        return ret;
+    }
+
+    /** Saves archives in file. */
+    private static void write( File file, Map<String, Archive> archives ) {
+        File tmp = null;
+        try {
+            File dir = file.getAbsoluteFile().getParentFile();
+            dir.mkdirs();
+            tmp = File.createTempFile( file.getName(), ".tmp", dir );
+            ChannelDataOutput out = new ChannelDataOutput(
+                    new FileOutputStream( tmp ).getChannel(), 1<<16 );
+            try {
+                out.writeVarInt( MAGIC );
+                out.writeVarInt( VERSION );
+                out.writeVarInt( archives.size() );
+                for( Map.Entry<String, Archive> e : archives.entrySet() ) {
+                    Archive a = e.getValue();
+                    out.writeString( e.getKey() );
+                    out.writeVarLong( a.length );
+                    out.writeVarLong( a.lastModified );
+                    out.writeVarInt( a.entries.length );
+                    String prev = "";
+                    for( String name : a.entries ) {
+                        int shared = 0;
+                        int max = Math.min( prev.length(), name.length() );
+                        while( shared < max && prev.charAt( shared ) == name.charAt( shared ) ) shared++;
+                        // Do not split a surrogate pair
+                        if( shared > 0 && Character.isHighSurrogate( name.charAt( shared-1 ) ) ) shared--;
+                        out.writeVarInt( shared );
+                        out.writeString( name.substring( shared ) );
+                        prev = name;
+                    }
+                }
+            } finally {
+                out.close();
+            }
+            // Replace the old index whole, so that other runs never see part of it
+            file.delete();
+            if( !tmp.renameTo( file ) ) tmp.delete();
+        } catch( IOException e ) {
+            if( tmp != null ) tmp.delete();
+            G.v().out.println( "Warning: could not save the class path index in "
+                    + file + ": " + e );
+        }
+    }
+
+    private final Map<String, Archive> archives = new HashMap<String, Archive>();
+}
@@ -32,6 +32,12 @@ public abstract class ClassSource
     /** Resolve the class into the SootClass sc. Returns a list of Strings
      * or Types referenced by the class. */
     public abstract Dependencies resolve( SootClass sc );
+    /** Returns a new source for the body of m, a method of the class that
+     * was already resolved, or null if this class source cannot make one.
+     * The BodyManager uses it to build a released body again. */
+    public MethodSource methodSource( SootMethod m ) {
+        return null;
+    }
     protected String className;
 }
 
@@ -20,8 +20,10 @@
 package soot;
 import soot.javaToJimple.IInitialResolver;
 import soot.javaToJimple.IInitialResolver.Dependencies;
+import soot.jimple.cache.BodyCache;
 import soot.options.*;
 import java.io.*;
+import java.security.DigestInputStream;
 import java.util.*;
 
 /** A class source for resolving from .class files through coffi.
@@ -42,11 +44,18 @@ public class CoffiClassSource extends ClassSource
         if(Options.v().verbose())
             G.v().out.println("resolving [from .class]: " + className );
         List<Type> references = new ArrayList<Type>();
-        soot.coffi.Util.v().resolveFromClassFile(sc, classFile, fileName, references);
+        InputStream in = classFile;
+        DigestInputStream digest = null;
+        if( BodyCache.v().isEnabled() )
+            in = digest = BodyCache.v().digesting(classFile);
+        soot.coffi.Util.v().resolveFromClassFile(sc, in, fileName, references);
 
         try {
             classFile.close();
         } catch (IOException e) { throw new RuntimeException("!?"); }
+
+        if( digest != null )
+            BodyCache.v().attach(sc, digest);
         
         addSourceFileTag(sc);
         
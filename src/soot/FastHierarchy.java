@@ -157,7 +157,7 @@ public class FastHierarchy
 
     /** For an interface parent (MUST be an interface), returns set of all
      * implementers of it but NOT their subclasses. */
-    public Set<SootClass> getAllImplementersOfInterface( SootClass parent ) {
+    public synchronized Set<SootClass> getAllImplementersOfInterface( SootClass parent ) {
         parent.checkLevel(SootClass.HIERARCHY);
         if( !interfaceToAllImplementers.containsKey( parent ) ) {
             for(SootClass subinterface : getAllSubinterfaces( parent )) {
@@ -176,7 +176,7 @@ public class FastHierarchy
      * @param parent the parent interface.
      * @return an set, possibly empty
      * */
-    public Set<SootClass> getAllSubinterfaces( SootClass parent ) {
+    public synchronized Set<SootClass> getAllSubinterfaces( SootClass parent ) {
         parent.checkLevel(SootClass.HIERARCHY);
         if (!parent.isInterface()) return Collections.<SootClass>emptySet();
         if( !interfaceToAllSubinterfaces.containsKey( parent ) ) {
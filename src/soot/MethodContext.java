@@ -25,8 +25,10 @@ import java.util.*;
  */
 public final class MethodContext implements MethodOrMethodContext
 { 
-    private static final Map<MethodContext, MethodContext> MethodContext_map = 
-            new HashMap<MethodContext, MethodContext>();
+    /** Open addressing table of all MethodContexts, so that looking one up
+     * does not need a probe object. */
+    private static MethodContext[] universe = new MethodContext[1024];
+    private static int universeSize = 0;
     
     private SootMethod method;
     public SootMethod method() { return method; }
@@ -38,24 +40,41 @@ public final class MethodContext implements MethodOrMethodContext
     }
     
     public static void clearUniverse() {
-        MethodContext_map.clear();
+        universe = new MethodContext[1024];
+        universeSize = 0;
     }
     
     public static int universeSize() {
-        return MethodContext_map.size();
+        return universeSize;
     }
   
     public static MethodOrMethodContext v( SootMethod method, Context context ) {
         if( context == null ) return method;
-        MethodContext probe = new MethodContext( method, context );
-        Map<MethodContext, MethodContext> map = MethodContext_map;
-        MethodContext ret = map.get( probe );
-        if( ret == null ) {
-            map.put( probe, probe );
-            return probe;
+        int mask = universe.length-1;
+        int i = hash( method, context ) & mask;
+        for( MethodContext mc = universe[i]; mc != null; mc = universe[i] ) {
+            if( mc.method.equals( method ) && mc.context.equals( context ) ) return mc;
+            i = (i+1) & mask;
+        }
+        MethodContext ret = new MethodContext( method, context );
+        universe[i] = ret;
+        if( ++universeSize*2 > universe.length ) {
+            MethodContext[] old = universe;
+            universe = new MethodContext[old.length*2];
+            mask = universe.length-1;
+            for( MethodContext mc : old ) {
+                if( mc == null ) continue;
+                int j = hash( mc.method, mc.context ) & mask;
+                while( universe[j] != null ) j = (j+1) & mask;
+                universe[j] = mc;
+            }
         }
         return ret;
     }
+    private static int hash( SootMethod method, Context context ) {
+        int h = 31 * (31 + context.hashCode()) + method.hashCode();
+        return h ^ (h >>> 16);
+    }
     public String toString() {
         return "Method "+method+" in context "+context;
     }
@@ -121,6 +121,8 @@ public abstract class Pack implements HasPhaseOptions, Iterable<Transform>
     public final void apply(Body b) {
         Map<String, String> options = PhaseOptions.v().getPhaseOptions( this );
         if( !PhaseOptions.getBoolean( options, "enabled" ) ) return;
+        // A body that may have changed must not be built again from its source
+        if( BodyManager.v().isEnabled() ) BodyManager.v().forget( b.getMethod() );
 	if (DEBUG)
 	    PhaseDumper.v().dumpBefore(b, getPhaseName());
         internalApply(b);
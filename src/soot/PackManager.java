@@ -25,13 +25,25 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 import java.util.zip.GZIPOutputStream;
@@ -54,6 +66,7 @@ import soot.dava.toolkits.base.misc.ThrowFinder;
 import soot.grimp.Grimp;
 import soot.grimp.toolkits.base.ConstructorFolder;
 import soot.jimple.JimpleBody;
+import soot.jimple.cache.BodyCache;
 import soot.jimple.paddle.PaddleHook;
 import soot.jimple.spark.SparkTransformer;
 import soot.jimple.spark.fieldrw.FieldTagAggregator;
@@ -602,6 +615,13 @@ public class PackManager {
     }
 
     private void runBodyPacks( Iterator<SootClass> classes ) {
+        int threads = numThreads();
+        if( threads > 1 && runsBodyPacksConcurrently( new BodyPackIRs() ) ) {
+            List<SootClass> list = new ArrayList<SootClass>();
+            while( classes.hasNext() ) list.add( classes.next() );
+            runBodyPacksConcurrently( list, threads );
+            return;
+        }
     	while( classes.hasNext() ) {
             runBodyPacks(classes.next());
         }
@@ -807,7 +827,52 @@ public class PackManager {
 
     }
     
-    @SuppressWarnings("fallthrough")
+    /** The IRs that the body packs produce, as set by the output format. */
+    private static class BodyPackIRs {
+        boolean produceBaf = false, produceGrimp = false, produceDava = false,
+            produceJimple = true, produceShimple = false;
+        final boolean wholeShimple = Options.v().whole_shimple();
+
+        @SuppressWarnings("fallthrough")
+        BodyPackIRs() {
+            final int format = Options.v().output_format();
+            switch (format) {
+                case Options.output_format_none :
+                case Options.output_format_xml :
+                case Options.output_format_jimple :
+                case Options.output_format_jimp :
+                case Options.output_format_template :
+                case Options.output_format_dex :
+                    break;
+                case Options.output_format_shimp:
+                case Options.output_format_shimple:
+                    produceShimple = true;
+                    // FLIP produceJimple
+                    produceJimple = false;
+                    break;
+                case Options.output_format_dava :
+                    produceDava = true;
+                    // FALL THROUGH
+                case Options.output_format_grimp :
+                case Options.output_format_grimple :
+                    produceGrimp = true;
+                    break;
+                case Options.output_format_baf :
+                case Options.output_format_b :
+                    produceBaf = true;
+                    break;
+                case Options.output_format_jasmin :
+                case Options.output_format_class :
+                    produceGrimp = Options.v().via_grimp();
+                    produceBaf = !produceGrimp;
+                    break;
+                default :
+                    throw new RuntimeException();
+            }
+            if( Options.v().via_shimple() ) produceShimple = true;
+        }
+    }
+
     private void runBodyPacks(SootClass c) {
         final int format = Options.v().output_format();
         if (format == Options.output_format_dava) {
@@ -820,48 +885,10 @@ public class PackManager {
         }
         G.v().out.println(c.getName() + "... ");
 
-        boolean produceBaf = false, produceGrimp = false, produceDava = false,
-            produceJimple = true, produceShimple = false;
-
-        switch (format) {
-            case Options.output_format_none :
-            case Options.output_format_xml :
-            case Options.output_format_jimple :
-            case Options.output_format_jimp :
-            case Options.output_format_template :
-            case Options.output_format_dex :
-                break;
-            case Options.output_format_shimp:
-            case Options.output_format_shimple:
-                produceShimple = true;
-                // FLIP produceJimple
-                produceJimple = false;
-                break;
-            case Options.output_format_dava :
-                produceDava = true;
-                // FALL THROUGH
-            case Options.output_format_grimp :
-            case Options.output_format_grimple :
-                produceGrimp = true;
-                break;
-            case Options.output_format_baf :
-            case Options.output_format_b :
-                produceBaf = true;
-                break;
-            case Options.output_format_jasmin :
-            case Options.output_format_class :
-                produceGrimp = Options.v().via_grimp();
-                produceBaf = !produceGrimp;
-                break;
-            default :
-                throw new RuntimeException();
-        }
+        BodyPackIRs irs = new BodyPackIRs();
 
         soot.xml.TagCollector tc = new soot.xml.TagCollector();
 
-        boolean wholeShimple = Options.v().whole_shimple();
-        if( Options.v().via_shimple() ) produceShimple = true;
-
         //here we create a copy of the methods so that transformers are able
         //to add method bodies during the following iteration;
         //such adding of methods happens in rare occasions: for instance when
@@ -876,66 +903,19 @@ public class PackManager {
 
             if (!m.isConcrete()) continue;
 
-            if (produceShimple || wholeShimple) {
-                ShimpleBody sBody = null;
-
-                // whole shimple or not?
-                {
-                    Body body = m.retrieveActiveBody();
-
-                    if(body instanceof ShimpleBody){
-                        sBody = (ShimpleBody) body;
-                        if(!sBody.isSSA())
-                            sBody.rebuild();
-                    }
-                    else{
-                        sBody = Shimple.v().newBody(body);
-                    }
-                }
-
-                m.setActiveBody(sBody);
-                PackManager.v().getPack("stp").apply(sBody);
-                PackManager.v().getPack("sop").apply(sBody);
-
-                if( produceJimple || (wholeShimple && !produceShimple) )
-                    m.setActiveBody(sBody.toJimpleBody());
-            }
-
-            if (produceJimple) {
-                Body body = m.retrieveActiveBody();
-                //Change
-                ConditionalBranchFolder.v().transform(body);
-                UnreachableCodeEliminator.v().transform(body);
-                DeadAssignmentEliminator.v().transform(body);
-                UnusedLocalEliminator.v().transform(body);
-                PackManager.v().getPack("jtp").apply(body);
-                if( Options.v().validate() ) {
-                    body.validate();
-                }
-                PackManager.v().getPack("jop").apply(body);
-                PackManager.v().getPack("jap").apply(body);
-                if (Options.v().xml_attributes() && Options.v().output_format() != Options.output_format_jimple) {
-                    //System.out.println("collecting body tags");
-                    tc.collectBodyTags(body);
-                }
-            }
-
-            //PackManager.v().getPack("cfg").apply(m.retrieveActiveBody());
-
-            if (produceGrimp) {
-                m.setActiveBody(Grimp.v().newBody(m.getActiveBody(), "gb"));
-                PackManager.v().getPack("gop").apply(m.getActiveBody());
-            } else if (produceBaf) {
-        		m.setActiveBody(convertJimpleBodyToBaf(m));
+            Body jimpleBody = runBodyPacks(m, irs);
+            if (jimpleBody != null && collectsBodyTags()) {
+                //System.out.println("collecting body tags");
+                tc.collectBodyTags(jimpleBody);
             }
         }
 
-        if (Options.v().xml_attributes() && Options.v().output_format() != Options.output_format_jimple) {
+        if (collectsBodyTags()) {
             processXMLForClass(c, tc);
             //System.out.println("processed xml for class");
         }
 
-        if (produceDava) {
+        if (irs.produceDava) {
             for (SootMethod m : c.getMethods()) {
                 if (!m.isConcrete())
                 	continue;
@@ -963,6 +943,194 @@ public class PackManager {
         }//end if produceDava
     }
 
+    /** Runs the body packs of the IRs up to Grimp or Baf on the body of m,
+     * and returns its Jimple body once jap has run, or null if no Jimple
+     * is produced. Apart from the transformers of the packs, which each
+     * thread has copies of, uses no state shared with other methods, so
+     * that it can run on several methods at once. */
+    private Body runBodyPacks(SootMethod m, BodyPackIRs irs) {
+        Body jimpleBody = null;
+        if (irs.produceShimple || irs.wholeShimple) {
+            ShimpleBody sBody = null;
+
+            // whole shimple or not?
+            {
+                Body body = m.retrieveActiveBody();
+
+                if(body instanceof ShimpleBody){
+                    sBody = (ShimpleBody) body;
+                    if(!sBody.isSSA())
+                        sBody.rebuild();
+                }
+                else{
+                    sBody = Shimple.v().newBody(body);
+                }
+            }
+
+            m.setActiveBody(sBody);
+            PackManager.v().getPack("stp").apply(sBody);
+            PackManager.v().getPack("sop").apply(sBody);
+
+            if( irs.produceJimple || (irs.wholeShimple && !irs.produceShimple) )
+                m.setActiveBody(sBody.toJimpleBody());
+        }
+
+        if (irs.produceJimple) {
+            Body body = m.retrieveActiveBody();
+            //Change
+            ConditionalBranchFolder.v().transform(body);
+            UnreachableCodeEliminator.v().transform(body);
+            DeadAssignmentEliminator.v().transform(body);
+            UnusedLocalEliminator.v().transform(body);
+            PackManager.v().getPack("jtp").apply(body);
+            if( Options.v().validate() ) {
+                body.validate();
+            }
+            PackManager.v().getPack("jop").apply(body);
+            PackManager.v().getPack("jap").apply(body);
+            jimpleBody = body;
+        }
+
+        //PackManager.v().getPack("cfg").apply(m.retrieveActiveBody());
+
+        if (irs.produceGrimp) {
+            m.setActiveBody(Grimp.v().newBody(m.getActiveBody(), "gb"));
+            PackManager.v().getPack("gop").apply(m.getActiveBody());
+        } else if (irs.produceBaf) {
+    		m.setActiveBody(convertJimpleBodyToBaf(m));
+        }
+        return jimpleBody;
+    }
+
+    private boolean collectsBodyTags() {
+        return Options.v().xml_attributes() && Options.v().output_format() != Options.output_format_jimple;
+    }
+
+    /** The transformers that keep no state but that of the body they
+     * transform, in their own fields, and only read what other methods
+     * share, so that the copies of each thread can run on several bodies
+     * at once. The others, such as the jap taggers that read the bodies of
+     * the methods called or the side-effect analysis of the Scene, and
+     * the transformers added by clients, keep the packs on one method at
+     * a time. */
+    private static final Set<Class<?>> CONFINABLE_TRANSFORMERS = new HashSet<Class<?>>( Arrays.<Class<?>>asList(
+            CopyPropagator.class, ConstantPropagatorAndFolder.class,
+            ConditionalBranchFolder.class, DeadAssignmentEliminator.class,
+            UnreachableCodeEliminator.class, UnconditionalBranchFolder.class,
+            UnusedLocalEliminator.class, Aggregator.class, ConstructorFolder.class,
+            LoadStoreOptimizer.class, PeepholeOptimizer.class, LocalPacker.class,
+            LineNumberTagAggregator.class, ArrayNullTagAggregator.class,
+            DependenceTagAggregator.class, FieldTagAggregator.class ) );
+
+    /** The packs that run on each body after jb. */
+    private static final String[] BODY_PACKS = { "jtp", "jop", "jap", "gb", "gop", "bb", "bop", "tag" };
+
+    /** The copies of the transformers of the body packs, by their
+     * transforms, that the current thread runs instead, if it is one of
+     * those that run the packs on several methods at once. */
+    private final ThreadLocal<Map<Transform, Transformer>> threadTransformers =
+        new ThreadLocal<Map<Transform, Transformer>>();
+
+    /** Returns the transformer that t is to run on the current thread. */
+    Transformer transformerFor( Transform t ) {
+        Map<Transform, Transformer> copies = threadTransformers.get();
+        Transformer ret = copies == null ? null : copies.get( t );
+        return ret == null ? t.getTransformer() : ret;
+    }
+
+    /** Returns true if the body packs can run on several methods at once,
+     * which is when every transform enabled in them is confinable to a
+     * thread. Dava keeps the methods it adds in G, the timers of the time
+     * option time one thing at a time, the interactive mode shows one body
+     * at a time, and Shimple has not been made safe for concurrent use, so
+     * they all keep the packs on one method at a time. */
+    private boolean runsBodyPacksConcurrently( BodyPackIRs irs ) {
+        if( irs.produceDava || irs.produceShimple || irs.wholeShimple ) return false;
+        if( Options.v().time() || Options.v().interactive_mode() ) return false;
+        PhaseOptions po = PhaseOptions.v();
+        for( String name : BODY_PACKS ) {
+            Pack p = getPack( name );
+            if( !PhaseOptions.getBoolean( po.getPhaseOptions( p ), "enabled" ) ) continue;
+            for( Transform t : p ) {
+                if( !PhaseOptions.getBoolean( po.getPhaseOptions( t ), "enabled" ) ) continue;
+                Transformer tr = t.getTransformer();
+                if( tr == null || !CONFINABLE_TRANSFORMERS.contains( tr.getClass() ) ) return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns copies of the transformers of the body packs, by their
+     * transforms, each made through its singleton constructor. */
+    private Map<Transform, Transformer> copyBodyTransformers() {
+        Map<Transform, Transformer> ret = new HashMap<Transform, Transformer>();
+        for( String name : BODY_PACKS ) {
+            for( Transform t : getPack( name ) ) {
+                Transformer tr = t.getTransformer();
+                if( tr == null || !CONFINABLE_TRANSFORMERS.contains( tr.getClass() ) ) continue;
+                try {
+                    ret.put( t, tr.getClass().getConstructor( Singletons.Global.class )
+                            .newInstance( G.v().global() ) );
+                } catch( Exception e ) {
+                    throw new RuntimeException( "Cannot copy the transformer of "+t.getPhaseName(), e );
+                }
+            }
+        }
+        return ret;
+    }
+
+    /** Runs the body packs on the methods of all the classes at once, on a
+     * pool of threads that each run copies of the transformers of their
+     * own. The classes are announced, and their tags collected, in the
+     * order given, so that the output does not depend on the order in
+     * which the threads finish. */
+    private void runBodyPacksConcurrently( List<SootClass> classes, int threads ) {
+        final BodyPackIRs irs = new BodyPackIRs();
+        final List<SootMethod> methods = new ArrayList<SootMethod>();
+        int[] classEnd = new int[classes.size()];
+        for( int i = 0; i < classes.size(); i++ ) {
+            SootClass c = classes.get( i );
+            G.v().out.println( "Transforming "+c.getName()+"... " );
+            //a copy, since phantom methods may be added to the class
+            for( SootMethod m : new ArrayList<SootMethod>( c.getMethods() ) ) {
+                if( m.isConcrete() ) methods.add( m );
+            }
+            classEnd[i] = methods.size();
+        }
+
+        if( Options.v().coffi() ) {
+            // coffi cannot build bodies concurrently; see retrieveBodies
+            for( SootMethod m : methods ) m.retrieveActiveBody();
+        }
+        // The copies are made here, since the transformers of the packs
+        // are only read while the threads run
+        final Queue<Map<Transform, Transformer>> copies =
+            new ConcurrentLinkedQueue<Map<Transform, Transformer>>();
+        for( int i = 0; i < threads; i++ ) copies.add( copyBodyTransformers() );
+        final Body[] jimpleBodies = new Body[methods.size()];
+        try {
+            forEachIndex( methods.size(), threads, "soot-body-packs", new IndexTask() {
+                public void run( int i ) {
+                    if( threadTransformers.get() == null ) threadTransformers.set( copies.remove() );
+                    jimpleBodies[i] = runBodyPacks( methods.get( i ), irs );
+                }
+            } );
+        } finally {
+            copies.clear();
+        }
+
+        if( collectsBodyTags() ) {
+            int j = 0;
+            for( int i = 0; i < classes.size(); i++ ) {
+                soot.xml.TagCollector tc = new soot.xml.TagCollector();
+                for( ; j < classEnd[i]; j++ ) {
+                    if( jimpleBodies[j] != null ) tc.collectBodyTags( jimpleBodies[j] );
+                }
+                processXMLForClass( classes.get( i ), tc );
+            }
+        }
+    }
+
 	public BafBody convertJimpleBodyToBaf(SootMethod m) {
 		JimpleBody body = (JimpleBody) m.getActiveBody().clone();
 		//Change
@@ -1120,6 +1288,7 @@ public class PackManager {
     }
 
     private void retrieveAllBodies() {
+        List<SootMethod> methods = new ArrayList<SootMethod>();
         Iterator<SootClass> clIt = reachableClasses();
         while( clIt.hasNext() ) {
             SootClass cl = (SootClass) clIt.next();
@@ -1137,10 +1306,94 @@ public class PackManager {
                 }
 
                 if( m.isConcrete() ) {
-                    m.retrieveActiveBody();
+                    methods.add( m );
                 }
             }
         }
+
+        retrieveBodies( methods );
+        if( BodyCache.v().isEnabled() && Options.v().verbose() ) {
+            BodyCache.v().report();
+        }
+    }
+
+    private void retrieveBodies( final List<SootMethod> methods ) {
+        int threads = numThreads();
+        // coffi switches the phantom-refs setting of the Scene while it
+        // builds a body, so its bodies are built one at a time
+        if( threads <= 1 || methods.size() <= 1 || Options.v().coffi() ) {
+            for( SootMethod m : methods ) {
+                m.retrieveActiveBody();
+            }
+            return;
+        }
+        if( Options.v().verbose() ) {
+            G.v().out.println( "[jb] Building "+methods.size()+" bodies on "
+                    +threads+" threads" );
+        }
+        forEachIndex( methods.size(), threads, "soot-body-builder", new IndexTask() {
+            public void run( int i ) {
+                methods.get( i ).retrieveActiveBody();
+            }
+        } );
+    }
+
+    private interface IndexTask {
+        void run( int i );
+    }
+
+    /** Runs task on each index from 0 to size-1, on a pool of threads
+     * that each take the next index in turn, so that a few slow indices
+     * do not hold up the rest. Rethrows the first exception thrown by
+     * the task. */
+    private static void forEachIndex( final int size, int threads,
+            final String name, final IndexTask task ) {
+        ExecutorService executor = Executors.newFixedThreadPool( threads, new ThreadFactory() {
+            private int count = 0;
+            public Thread newThread( Runnable r ) {
+                Thread t = new Thread( r, name+"-"+(++count) );
+                t.setDaemon( true );
+                return t;
+            }
+        } );
+        try {
+            final AtomicInteger next = new AtomicInteger( 0 );
+            List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+            for( int i = 0; i < threads; i++ ) {
+                tasks.add( new Callable<Object>() {
+                    public Object call() {
+                        int j;
+                        while( ( j = next.getAndIncrement() ) < size ) {
+                            task.run( j );
+                        }
+                        return null;
+                    }
+                } );
+            }
+            for (Future<Object> f : executor.invokeAll( tasks )) {
+                f.get();
+            }
+        } catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException( "Interrupted while running "+name, e );
+        } catch( ExecutionException e ) {
+            Throwable cause = e.getCause();
+            if( cause instanceof RuntimeException ) throw (RuntimeException) cause;
+            if( cause instanceof Error ) throw (Error) cause;
+            throw new RuntimeException( cause );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Returns the number of threads to run on, as set by the
+     * num-threads option, where 0 means one for each processor. */
+    private int numThreads() {
+        int threads = Options.v().num_threads();
+        if( threads < 0 )
+            throw new RuntimeException( "Invalid number of threads: "+threads );
+        if( threads == 0 ) threads = Runtime.getRuntime().availableProcessors();
+        return threads;
     }
     
     public void resetDexPrinter() {
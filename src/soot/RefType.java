@@ -46,7 +46,7 @@ public class RefType extends RefLikeType implements Comparable<RefType>
     /** the class name that parameterizes this RefType */
     private String className;
     public String getClassName() { return className; }
-    private SootClass sootClass;
+    private volatile SootClass sootClass;
     private AnySubType anySubType;
 
     private RefType(String className)
@@ -66,8 +66,15 @@ public class RefType extends RefLikeType implements Comparable<RefType>
     {
     	RefType rt = Scene.v().getRefTypeUnsafe( className );
     	if (rt == null) {
-	        rt = new RefType(className);
-		    Scene.v().addRefType( rt );
+    	    synchronized( Scene.v() ) {
+    	        // Bodies may be built on several threads, which must agree
+    	        // on a single RefType for each class
+    	        rt = Scene.v().getRefTypeUnsafe( className );
+    	        if (rt == null) {
+    	            rt = new RefType(className);
+    	            Scene.v().addRefType( rt );
+    	        }
+    	    }
     	}
 	    return rt;
     }
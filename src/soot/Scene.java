@@ -44,6 +44,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -130,7 +131,7 @@ public class Scene  //extends AbstractHost
     Chain<SootClass> libraryClasses = new HashChain<SootClass>();
     Chain<SootClass> phantomClasses = new HashChain<SootClass>();
     
-    private final Map<String,RefType> nameToClass = new HashMap<String,RefType>();
+    private final Map<String,RefType> nameToClass = new ConcurrentHashMap<String,RefType>();
 
     ArrayNumberer<Kind> kindNumberer = new ArrayNumberer<Kind>();
     ArrayNumberer<Type> typeNumberer = new ArrayNumberer<Type>();
@@ -526,7 +527,7 @@ public class Scene  //extends AbstractHost
         activePointsToAnalysis = null;
     }
 
-    public void addClass(SootClass c) 
+    public synchronized void addClass(SootClass c) 
     {
         if(c.isInScene())
             throw new RuntimeException("already managed: "+c.getName());
@@ -543,7 +544,7 @@ public class Scene  //extends AbstractHost
         modifyHierarchy();
     }
 
-    public void removeClass(SootClass c)
+    public synchronized void removeClass(SootClass c)
     {
         if(!c.isInScene())
             throw new RuntimeException();
@@ -736,7 +737,7 @@ public class Scene  //extends AbstractHost
     /**
      * Returns the RefType with the given className.  
      */
-    public void addRefType(RefType type) 
+    public synchronized void addRefType(RefType type) 
     {
         nameToClass.put(type.getClassName(), type);
     }
@@ -757,10 +758,16 @@ public class Scene  //extends AbstractHost
 		
 		if (allowsPhantomRefs() ||
 				   className.equals(SootClass.INVOKEDYNAMIC_DUMMY_CLASS_NAME)) {
-			SootClass c = new SootClass(className);
-			addClass(c);
-            c.setPhantom(true);
-			return c;
+			synchronized (this) {
+				// Another thread may have made the class since we looked
+				type = nameToClass.get(className);
+				if (type != null && type.getSootClass() != null)
+					return type.getSootClass();
+				SootClass c = new SootClass(className);
+				addClass(c);
+				c.setPhantom(true);
+				return c;
+			}
 		}
 		
 		return null;
@@ -894,12 +901,13 @@ public class Scene  //extends AbstractHost
     public void releasePointsToAnalysis()
     {
         activePointsToAnalysis = null;
+        BodyManager.v().releasePending();
     }
 
     /****************************************************************************/
     /** Makes a new fast hierarchy is none is active, and returns the active
      * fast hierarchy. */
-    public FastHierarchy getOrMakeFastHierarchy() {
+    public synchronized FastHierarchy getOrMakeFastHierarchy() {
 	if(!hasFastHierarchy() ) {
 	    setFastHierarchy( new FastHierarchy() );
 	}
@@ -1020,6 +1028,7 @@ public class Scene  //extends AbstractHost
     {
         activeCallGraph = null;
         reachableMethods = null;
+        BodyManager.v().releasePending();
     }
     public ReachableMethods getReachableMethods() {
         if( reachableMethods == null ) {
@@ -176,14 +176,15 @@ public class SootClass extends AbstractHost implements Numberable
         Returns the number of fields in this class.
     */
 
-    public int getFieldCount()
+    public synchronized int getFieldCount()
     {
         checkLevel(SIGNATURES);
         return fields.size();
     }
 
     /**
-     * Returns a backed Chain of fields.
+     * Returns a backed Chain of fields. Unlike the lookups, which lock
+     * the class, it must not be used while other threads add fields.
      */
 
     public Chain<SootField> getFields()
@@ -203,7 +204,7 @@ public class SootClass extends AbstractHost implements Numberable
         Adds the given field to this class.
     */
 
-    public void addField(SootField f) 
+    public synchronized void addField(SootField f) 
     {
         checkLevel(SIGNATURES);
         if(f.isDeclared())
@@ -223,7 +224,7 @@ public class SootClass extends AbstractHost implements Numberable
         Removes the given field from this class.
     */
 
-    public void removeField(SootField f) 
+    public synchronized void removeField(SootField f) 
     {
         checkLevel(SIGNATURES);
         if(!f.isDeclared() || f.getDeclaringClass() != this)
@@ -248,7 +249,7 @@ public class SootClass extends AbstractHost implements Numberable
      * Returns the field of this class with the given name and type. If the
      * field cannot be found, null is returned.  
     */    
-    public SootField getFieldUnsafe( String name, Type type ) {
+    public synchronized SootField getFieldUnsafe( String name, Type type ) {
         checkLevel(SIGNATURES);
         for (SootField field : fields) {
             if(field.getName().equals(name) && field.getType().equals(type))
@@ -274,7 +275,7 @@ public class SootClass extends AbstractHost implements Numberable
      * is more than one field with the given name. Returns null if no field with the given name
      * exists.
     */
-    public SootField getFieldByNameUnsafe(String name)
+    public synchronized SootField getFieldByNameUnsafe(String name)
     {
         checkLevel(SIGNATURES);
         SootField foundField = null;
@@ -307,7 +308,7 @@ public class SootClass extends AbstractHost implements Numberable
      * Returns the field of this class with the given subsignature. If such a field
      * does not exist, null is returned.
      */
-    public SootField getFieldUnsafe(String subsignature)
+    public synchronized SootField getFieldUnsafe(String subsignature)
     {
         checkLevel(SIGNATURES);
         for (SootField field : fields) {
@@ -319,7 +320,7 @@ public class SootClass extends AbstractHost implements Numberable
     /**
      * Does this class declare a field with the given subsignature?
      */
-    public boolean declaresField(String subsignature)
+    public synchronized boolean declaresField(String subsignature)
     {
         checkLevel(SIGNATURES);
         for( SootField field : fields )
@@ -345,7 +346,7 @@ public class SootClass extends AbstractHost implements Numberable
      * Returns the method of this class with the given subsignature. If no
      * method with the given subsignature can be found, null is returned.
      */
-    public SootMethod getMethodUnsafe(NumberedString subsignature)
+    public synchronized SootMethod getMethodUnsafe(NumberedString subsignature)
     {
         checkLevel(SIGNATURES);
         SootMethod ret = subSigToMethods.get( subsignature );
@@ -355,7 +356,7 @@ public class SootClass extends AbstractHost implements Numberable
     /**
      * Does this class declare a method with the given subsignature?
      */
-    public boolean declaresMethod(NumberedString subsignature)
+    public synchronized boolean declaresMethod(NumberedString subsignature)
     {
         checkLevel(SIGNATURES);
         SootMethod ret = subSigToMethods.get( subsignature );
@@ -398,7 +399,7 @@ public class SootClass extends AbstractHost implements Numberable
         Does this class declare a field with the given name?
     */
 
-    public boolean declaresFieldByName(String name)
+    public synchronized boolean declaresFieldByName(String name)
     {
         checkLevel(SIGNATURES);
         for (SootField field : fields) {
@@ -413,7 +414,7 @@ public class SootClass extends AbstractHost implements Numberable
     /**
      * Does this class declare a field with the given name and type.
      */
-    public boolean declaresField(String name, Type type)
+    public synchronized boolean declaresField(String name, Type type)
     {
         checkLevel(SIGNATURES);
         for (SootField field : fields) {
@@ -429,14 +430,15 @@ public class SootClass extends AbstractHost implements Numberable
         Returns the number of methods in this class.
     */
 
-    public int getMethodCount()
+    public synchronized int getMethodCount()
     {
         checkLevel(SIGNATURES);
         return subSigToMethods.nonNullSize();
     }
 
     /**
-     * Returns an iterator over the methods in this class.
+     * Returns an iterator over the methods in this class. Unlike
+     * getMethods(), it must not be used while other threads add methods.
      */
 
     public Iterator<SootMethod> methodIterator()
@@ -445,7 +447,7 @@ public class SootClass extends AbstractHost implements Numberable
         return methodList.iterator();
     }
 
-    public List<SootMethod> getMethods() {
+    public synchronized List<SootMethod> getMethods() {
         checkLevel(SIGNATURES);
         return new ArrayList<SootMethod>(methodList);
     }
@@ -470,7 +472,7 @@ public class SootClass extends AbstractHost implements Numberable
      * Attempts to retrieve the method with the given name, parameters and return type.
      * If no matching method can be found, null is returned.  
      */
-    public SootMethod getMethodUnsafe( String name, List<Type> parameterTypes,
+    public synchronized SootMethod getMethodUnsafe( String name, List<Type> parameterTypes,
             Type returnType )
     {
         checkLevel(SIGNATURES);
@@ -491,7 +493,7 @@ public class SootClass extends AbstractHost implements Numberable
         given name and parameter.
     */
 
-    public SootMethod getMethod(String name, List<Type> parameterTypes) 
+    public synchronized SootMethod getMethod(String name, List<Type> parameterTypes) 
     {
         checkLevel(SIGNATURES);
         SootMethod foundMethod = null;
@@ -519,7 +521,7 @@ public class SootClass extends AbstractHost implements Numberable
       * with the given name. If no method with the given is found, null is
       * returned.
     */
-    public SootMethod getMethodByNameUnsafe(String name) 
+    public synchronized SootMethod getMethodByNameUnsafe(String name) 
     {
         checkLevel(SIGNATURES);
         SootMethod foundMethod = null;
@@ -554,7 +556,7 @@ public class SootClass extends AbstractHost implements Numberable
         Does this class declare a method with the given name and parameter types?
     */
 
-    public boolean declaresMethod(String name, List<Type> parameterTypes)
+    public synchronized boolean declaresMethod(String name, List<Type> parameterTypes)
     {
         checkLevel(SIGNATURES);
         for (SootMethod method : methodList) {
@@ -570,7 +572,7 @@ public class SootClass extends AbstractHost implements Numberable
         Does this class declare a method with the given name, parameter types, and return type?
     */
 
-    public boolean declaresMethod(String name, List<Type> parameterTypes, Type returnType)
+    public synchronized boolean declaresMethod(String name, List<Type> parameterTypes, Type returnType)
     {
         checkLevel(SIGNATURES);
         for (SootMethod method : methodList) {
@@ -588,7 +590,7 @@ public class SootClass extends AbstractHost implements Numberable
         Does this class declare a method with the given name?
     */
 
-    public boolean declaresMethodByName(String name)
+    public synchronized boolean declaresMethodByName(String name)
     {
         checkLevel(SIGNATURES);
         for (SootMethod method : methodList) {
@@ -610,7 +612,7 @@ public class SootClass extends AbstractHost implements Numberable
         Adds the given method to this class.
     */
 
-    public void addMethod(SootMethod m) 
+    public synchronized void addMethod(SootMethod m) 
     {
         checkLevel(SIGNATURES);
         if(m.isDeclared())
@@ -636,7 +638,7 @@ public class SootClass extends AbstractHost implements Numberable
         Removes the given method from this class.
     */
 
-    public void removeMethod(SootMethod m) 
+    public synchronized void removeMethod(SootMethod m) 
     {
         checkLevel(SIGNATURES);
         if(!m.isDeclared() || m.getDeclaringClass() != this)
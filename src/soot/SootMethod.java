@@ -76,7 +76,7 @@ implements ClassMember, Numberable, MethodOrMethodContext {
     private List<SootClass> exceptions = null;
 
     /** Active body associated with this method. */
-    private Body activeBody;
+    private volatile Body activeBody;
 
     /** Tells this method how to find out where its body lives. */
     protected MethodSource ms;
@@ -323,7 +323,7 @@ implements ClassMember, Numberable, MethodOrMethodContext {
      * Please call setApplicationClass() on the relevant class.
      */
 
-    public Body retrieveActiveBody() {
+    public synchronized Body retrieveActiveBody() {
         declaringClass.checkLevel(SootClass.BODIES);
         if (declaringClass.isPhantomClass())
             throw new RuntimeException(
@@ -334,7 +334,14 @@ implements ClassMember, Numberable, MethodOrMethodContext {
         if (!hasActiveBody()) {
             //	    G.v().out.println("Retrieving "+this.getSignature());
 
-            setActiveBody(this.getBodyFromMethodSource("jb"));
+            BodyManager bm = BodyManager.v();
+            Body body = bm.isEnabled() ? bm.reclaim(this) : null;
+            if (body == null) {
+                if (bm.isEnabled())
+                    bm.retrieving(this, ms);
+                body = this.getBodyFromMethodSource("jb");
+            }
+            setActiveBody(body);
             ms = null;
         }
         return getActiveBody();
@@ -357,6 +364,8 @@ implements ClassMember, Numberable, MethodOrMethodContext {
             body.setMethod(this);
 
         activeBody = body;
+        if (BodyManager.v().isEnabled())
+            BodyManager.v().forget(this);
     }
 
     /** Returns true if this method has an active body. */
@@ -367,6 +376,8 @@ implements ClassMember, Numberable, MethodOrMethodContext {
     /** Releases the active body associated with this method. */
     public void releaseActiveBody() {
         activeBody = null;
+        if (BodyManager.v().isEnabled())
+            BodyManager.v().forget(this);
     }
 
     /** Adds the given exception to the list of exceptions thrown by this method
@@ -69,6 +69,9 @@ class SootMethodRefImpl implements SootMethodRef {
     private final boolean isStatic;
     
     private NumberedString subsig;
+    /** The method this reference last resolved to, so that resolving it
+     * again takes no lock while that method is still declared. */
+    private volatile SootMethod resolved;
 
     public SootClass declaringClass() { return declaringClass; }
     public String name() { return name; }
@@ -108,7 +111,14 @@ class SootMethodRefImpl implements SootMethodRef {
     
     @Override
     public SootMethod resolve() {
-        return resolve(null);
+        SootMethod ret = resolved;
+        if( ret != null && ret.isDeclared() ) return ret;
+        // May add a phantom method to the declaring class
+        synchronized(Scene.v()) {
+            ret = resolve(null);
+        }
+        resolved = ret;
+        return ret;
     }
     
     private SootMethod checkStatic(SootMethod ret) {
@@ -105,15 +105,19 @@ public class SootResolver
      * */
     public SootClass makeClassRef(String className)
     {
-        if(Scene.v().containsClass(className))
-            return Scene.v().getSootClass(className);
-
-        SootClass newClass;
-        newClass = new SootClass(className);
-        newClass.setResolvingLevel(SootClass.DANGLING);
-        Scene.v().addClass(newClass);
-
-        return newClass;
+        // Resolution shares the lock of the Scene, so that classes can be
+        // resolved from bodies built on several threads
+        synchronized(Scene.v()) {
+            if(Scene.v().containsClass(className))
+                return Scene.v().getSootClass(className);
+
+            SootClass newClass;
+            newClass = new SootClass(className);
+            newClass.setResolvingLevel(SootClass.DANGLING);
+            Scene.v().addClass(newClass);
+
+            return newClass;
+        }
     }
 
 
@@ -123,6 +127,7 @@ public class SootResolver
      * been resolved, just returns the class that was already resolved.
      * */
     public SootClass resolveClass(String className, int desiredLevel) {
+      synchronized(Scene.v()) {
     	SootClass resolvedClass = null;
     	try{
 			resolvedClass = makeClassRef(className);
@@ -137,6 +142,7 @@ public class SootResolver
     		}
     		throw e;
     	}
+      }
     }
 
     /** Resolve all classes on toResolveWorklist. */
@@ -177,6 +177,40 @@ public class SourceLocator
     public List<String> classPath() { return classPath; }
     public void invalidateClassPath() {
         classPath = null;
+        synchronized( this ) {
+            if( classPathIndex != null ) classPathIndex.close();
+            classPathIndex = null;
+            classPathTypes = null;
+        }
+    }
+
+    private volatile ClassPathIndex classPathIndex;
+    /** The types of the class path entries, found when the index is built. */
+    private volatile Map<String, ClassSourceType> classPathTypes;
+
+    /** Returns the index of the archives on the class path, building it
+     * the first time. */
+    private ClassPathIndex classPathIndex() {
+        ClassPathIndex ret = classPathIndex;
+        if( ret != null ) return ret;
+        synchronized( this ) {
+            if( classPathIndex == null ) {
+                if( classPath == null ) {
+                    classPath = explodeClassPath(Scene.v().getSootClassPath());
+                }
+                Map<String, ClassSourceType> types = new HashMap<String, ClassSourceType>();
+                List<String> archives = new ArrayList<String>();
+                for (String path : classPath) {
+                    ClassSourceType cst = getClassSourceType(path);
+                    types.put(path, cst);
+                    if (cst == ClassSourceType.jar || cst == ClassSourceType.zip)
+                        archives.add(path);
+                }
+                classPathTypes = types;
+                classPathIndex = new ClassPathIndex(archives);
+            }
+            return classPathIndex;
+        }
     }
 
     private List<String> sourcePath;
@@ -195,6 +229,12 @@ public class SourceLocator
     }
     
     private ClassSourceType getClassSourceType(String path) {
+        Map<String, ClassSourceType> types = classPathTypes;
+        if (types != null) {
+            ClassSourceType ret = types.get(path);
+            if (ret != null)
+                return ret;
+        }
         File f = new File(path);
         if (f.isFile() && f.canRead()) {
             if (path.endsWith(".zip"))
@@ -247,25 +287,40 @@ public class SourceLocator
 			inputExtensions.add(".class");
 			inputExtensions.add(".jimple");
 
+			List<String> entryNames;
+			ClassPathIndex index = classPathIndex();
+			String canonicalPath;
 			try {
-				ZipFile archive = new ZipFile(aPath);				
-				for (Enumeration<? extends ZipEntry> entries = archive.entries(); entries.hasMoreElements();) {
-					ZipEntry entry = entries.nextElement();
-					String entryName = entry.getName();
-					int extensionIndex = entryName.lastIndexOf('.');
-					if (extensionIndex >= 0) {
-						String entryExtension = entryName.substring(extensionIndex);
-						if (inputExtensions.contains(entryExtension)) {
-							entryName = entryName.substring(0, extensionIndex);
-							entryName = entryName.replace('/', '.');
-							classes.add(entryName);
-						}
+				// The class path holds canonical paths
+				canonicalPath = new File(aPath).getCanonicalPath();
+			} catch (IOException e) {
+				canonicalPath = aPath;
+			}
+			if (index.isArchive(canonicalPath)) {
+				entryNames = index.entries(canonicalPath);
+			} else {
+				entryNames = new ArrayList<String>();
+				try {
+					ZipFile archive = new ZipFile(aPath);
+					for (Enumeration<? extends ZipEntry> entries = archive.entries(); entries.hasMoreElements();) {
+						entryNames.add(entries.nextElement().getName());
+					}
+					archive.close();
+				} catch (IOException e) {
+					G.v().out.println("Error reading " + aPath + ": " + e.toString());
+					throw new CompilationDeathException(CompilationDeathException.COMPILATION_ABORTED);
+				}
+			}
+			for (String entryName : entryNames) {
+				int extensionIndex = entryName.lastIndexOf('.');
+				if (extensionIndex >= 0) {
+					String entryExtension = entryName.substring(extensionIndex);
+					if (inputExtensions.contains(entryExtension)) {
+						entryName = entryName.substring(0, extensionIndex);
+						entryName = entryName.replace('/', '.');
+						classes.add(entryName);
 					}
 				}
-				archive.close();
-			} catch (IOException e) {
-				G.v().out.println("Error reading " + aPath + ": " + e.toString());
-				throw new CompilationDeathException(CompilationDeathException.COMPILATION_ABORTED);
 			}
 		}
 		else if (cst == ClassSourceType.directory) {
@@ -539,7 +594,7 @@ public class SourceLocator
 
     // LWG: refactored to take an extra argument 'path'
     /** Searches for a file with the given name in the exploded classPath. */
-    FoundFile lookupInPath( String fileName, String path) {
+    public FoundFile lookupInPath( String fileName, String path) {
     	FoundFile ret = null;
     	ClassSourceType cst = getClassSourceType(path);
     	if(cst == ClassSourceType.zip || cst == ClassSourceType.jar) {
@@ -559,6 +614,17 @@ public class SourceLocator
         return null;
     }
     private FoundFile lookupInArchive(String archivePath, String fileName) {
+        ClassPathIndex index = classPathIndex();
+        if( index.isArchive(archivePath) ) {
+            // The archive is only opened once something is read from it
+            if( !index.contains(archivePath, fileName) ) return null;
+            try {
+                ZipFile archive = index.open(archivePath);
+                return new FoundFile(archive, archive.getEntry(fileName));
+            } catch( IOException e ) {
+                throw new RuntimeException("Caught IOException " + e + " looking in archive file " + archivePath + " for file " + fileName);
+            }
+        }
         try {
             ZipFile archive = new ZipFile(archivePath);
             ZipEntry entry = archive.getEntry(fileName);
@@ -102,7 +102,7 @@ public class Transform implements HasPhaseOptions
 	if (DEBUG)
 	    PhaseDumper.v().dumpBefore(b, getPhaseName());
 
-        ((BodyTransformer) t).transform( b, phaseName, options );
+        ((BodyTransformer) PackManager.v().transformerFor( this )).transform( b, phaseName, options );
 
 	if (DEBUG)
 	    PhaseDumper.v().dumpAfter(b, getPhaseName());
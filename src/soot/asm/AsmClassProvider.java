@@ -39,6 +39,9 @@ public class AsmClassProvider implements ClassProvider {
 	// LWG
 	@Override
 	public ClassSource find(String className, String path) {
-		return find(className);
+		String clsFile = className.replace('.', '/') + ".class";
+		SourceLocator.FoundFile file =
+				SourceLocator.v().lookupInPath(clsFile, path);
+		return file == null ? null : new AsmClassSource(className, file.inputStream());
 	}
 }
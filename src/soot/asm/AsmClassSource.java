@@ -20,12 +20,23 @@ package soot.asm;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.util.List;
 
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.JSRInlinerAdapter;
 
 import soot.ClassSource;
+import soot.MethodSource;
 import soot.SootClass;
+import soot.SootMethod;
+import soot.Type;
 import soot.javaToJimple.IInitialResolver.Dependencies;
+import soot.jimple.cache.BodyCache;
+import soot.jimple.cache.CachingMethodSource;
 
 /**
  * ASM class source implementation.
@@ -60,6 +71,9 @@ class AsmClassSource extends ClassSource {
 	
 	@Override
 	public Dependencies resolve(SootClass sc) {
+		DigestInputStream digest = null;
+		if (BodyCache.v().isEnabled() && data != null)
+			data = digest = BodyCache.v().digesting(data);
 		ClassReader clsr;
 		try {
 			clsr = read();
@@ -68,8 +82,52 @@ class AsmClassSource extends ClassSource {
 		}
 		SootClassBuilder scb = new SootClassBuilder(sc);
 		clsr.accept(scb, ClassReader.SKIP_FRAMES);
+		if (digest != null)
+			BodyCache.v().attach(sc, digest);
 		Dependencies deps = new Dependencies();
 		deps.typesToSignature.addAll(scb.deps);
 		return deps;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Reads the code of m again, without resolving the class again.
+	 */
+	@Override
+	public MethodSource methodSource(final SootMethod m) {
+		DigestInputStream digest = null;
+		if (BodyCache.v().isEnabled() && data != null)
+			data = digest = BodyCache.v().digesting(data);
+		ClassReader clsr;
+		try {
+			clsr = read();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		final MethodSource[] ret = new MethodSource[1];
+		clsr.accept(new ClassVisitor(Opcodes.ASM5) {
+			@Override
+			public MethodVisitor visitMethod(int access, String name, String desc,
+					String signature, String[] exceptions) {
+				if (!name.equals(m.getName()))
+					return null;
+				List<Type> sigTypes = AsmUtil.toJimpleDesc(desc);
+				Type returnType = sigTypes.remove(sigTypes.size() - 1);
+				if (!returnType.equals(m.getReturnType())
+						|| !sigTypes.equals(m.getParameterTypes()))
+					return null;
+				return new JSRInlinerAdapter(Opcodes.ASM5, null, access, name,
+						desc, signature, exceptions) {
+					@Override
+					public void visitEnd() {
+						super.visitEnd();
+						ret[0] = new AsmMethodSource(maxLocals, instructions,
+								localVariables, tryCatchBlocks);
+					}
+				};
+			}
+		}, ClassReader.SKIP_FRAMES);
+		if (ret[0] != null && digest != null)
+			ret[0] = new CachingMethodSource(ret[0], digest.getMessageDigest().digest());
+		return ret[0];
+	}
+}
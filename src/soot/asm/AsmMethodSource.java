@@ -78,9 +78,9 @@ import soot.FloatType;
 import soot.IntType;
 import soot.Local;
 import soot.LongType;
-import soot.MethodSource;
 import soot.PackManager;
 import soot.RefType;
+import soot.ReloadableMethodSource;
 import soot.Scene;
 import soot.ShortType;
 import soot.SootClass;
@@ -145,7 +145,7 @@ import com.google.common.collect.Table;
  * 
  * @author Aaloan Miftah
  */
-final class AsmMethodSource implements MethodSource {
+final class AsmMethodSource implements ReloadableMethodSource {
 	
 	private static final Operand DWORD_DUMMY = new Operand(null, null);
 	
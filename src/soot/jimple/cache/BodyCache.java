@@ -0,0 +1,281 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.cache;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import soot.G;
+import soot.MethodSource;
+import soot.PackManager;
+import soot.PhaseOptions;
+import soot.Scene;
+import soot.Singletons;
+import soot.SootClass;
+import soot.SootMethod;
+import soot.Transform;
+import soot.jimple.JimpleBody;
+import soot.options.Options;
+import soot.util.ChannelDataInput;
+import soot.util.ChannelDataOutput;
+
+/** An on-disk cache of the Jimple bodies built from the class files of
+ * library classes, in the directory given by the body-cache option. Each
+ * body is kept in its own file, named by a hash of the bytes of its class
+ * file, the subsignature of its method, the options that affect jb, and
+ * the library part of the class path; the files are written in the
+ * encoding of BodyFormat.
+ * <p>
+ * The body of a method depends on more than its class file: jb looks up
+ * the supertypes and the members that it refers to. The class path is
+ * therefore part of the key, by the path, length and modification time
+ * of each archive and class file on it, so that a body is built again
+ * once any class it could refer to may have changed. The bodies of
+ * application classes, which are the ones expected to change between
+ * runs, are not cached at all, and as library classes do not refer to
+ * them, the process directories and the class files of application
+ * classes are left out of the key: editing the application does not
+ * throw away the bodies of the library.
+ * <p>
+ * The class sources read class files through digesting(), and hand the
+ * digest to attach() once the class is resolved, which puts a
+ * CachingMethodSource in front of the source of each concrete method.
+ * The body is then loaded from the cache, or built and stored in it, the
+ * first time it is retrieved.
+ * @author agent
+ */
+public class BodyCache {
+    public BodyCache( Singletons.Global g ) {}
+    public static BodyCache v() { return G.v().soot_jimple_cache_BodyCache(); }
+
+    /** Returns true if the body-cache option names a directory. */
+    public boolean isEnabled() {
+        String dir = Options.v().body_cache();
+        return dir != null && dir.length() > 0;
+    }
+
+    /** Returns a stream that reads in and computes the digest of the
+     * bytes read, to be passed to attach(). */
+    public DigestInputStream digesting( InputStream in ) {
+        return new DigestInputStream( in, newDigest() );
+    }
+
+    /** Makes the concrete methods of sc, which was just resolved from
+     * the class file read through in, get their bodies through the
+     * cache. */
+    public void attach( SootClass sc, DigestInputStream in ) {
+        byte[] classDigest = in.getMessageDigest().digest();
+        for( SootMethod m : sc.getMethods() ) {
+            MethodSource ms = m.getSource();
+            if( !m.isConcrete() || ms == null || ms instanceof CachingMethodSource ) continue;
+            m.setSource( new CachingMethodSource( ms, classDigest ) );
+        }
+    }
+
+    /** Returns true if the body of m is to be cached, which is when m is
+     * a method of a library class. */
+    public boolean caches( SootMethod m ) {
+        return m.getDeclaringClass().isLibraryClass();
+    }
+
+    /** Returns the cached body of m, or null if there is none. */
+    public JimpleBody load( SootMethod m, byte[] classDigest ) {
+        File f = file( m, classDigest );
+        if( !f.isFile() ) {
+            misses.incrementAndGet();
+            return null;
+        }
+        JimpleBody ret = null;
+        try {
+            FileInputStream fis = new FileInputStream( f );
+            int bufferSize = (int) Math.max( 1, Math.min( f.length(), 1<<16 ) );
+            ChannelDataInput in = new ChannelDataInput( fis.getChannel(), bufferSize );
+            try {
+                ret = new BodyDecoder( in ).read( m );
+            } finally {
+                in.close();
+            }
+        } catch( IOException e ) {
+            ret = null;
+        } catch( RuntimeException e ) {
+            // A truncated or stale file can fail anywhere in decoding
+            ret = null;
+        }
+        if( ret == null ) {
+            failures.incrementAndGet();
+            f.delete();
+            return null;
+        }
+        hits.incrementAndGet();
+        return ret;
+    }
+
+    /** Stores body in the cache, unless it has a construct that the
+     * encoding does not cover. */
+    public void store( JimpleBody body, byte[] classDigest ) {
+        File f = file( body.getMethod(), classDigest );
+        File dir = f.getParentFile();
+        dir.mkdirs();
+        File tmp = null;
+        try {
+            tmp = File.createTempFile( f.getName(), ".tmp", dir );
+            ChannelDataOutput out = new ChannelDataOutput(
+                    new FileOutputStream( tmp ).getChannel(), 1<<13 );
+            try {
+                new BodyEncoder( out ).write( body );
+            } finally {
+                out.close();
+            }
+            // The rename makes the file appear whole to other runs
+            if( !tmp.renameTo( f ) ) tmp.delete();
+            else stores.incrementAndGet();
+        } catch( BodyEncoder.UnsupportedBodyException e ) {
+            unsupported.incrementAndGet();
+            tmp.delete();
+            if( Options.v().verbose() ) {
+                G.v().out.println( "[BodyCache] Not caching "+body.getMethod()
+                        +": "+e.getMessage() );
+            }
+        } catch( IOException e ) {
+            if( tmp != null ) tmp.delete();
+            failures.incrementAndGet();
+        }
+    }
+
+    /** Prints how many bodies were loaded from and stored in the cache. */
+    public void report() {
+        G.v().out.println( "[BodyCache] "+hits.get()+" bodies loaded, "+misses.get()
+                +" built and "+stores.get()+" stored, "+unsupported.get()
+                +" not encodable, "+failures.get()+" failures" );
+    }
+
+    /* End of public methods. */
+
+    private File file( SootMethod m, byte[] classDigest ) {
+        MessageDigest md = newDigest();
+        md.update( fingerprint().getBytes( UTF8 ) );
+        md.update( classDigest );
+        md.update( m.getSubSignature().getBytes( UTF8 ) );
+        StringBuilder key = new StringBuilder();
+        for( byte b : md.digest() ) {
+            key.append( Character.forDigit( ( b >> 4 ) & 0xf, 16 ) );
+            key.append( Character.forDigit( b & 0xf, 16 ) );
+        }
+        // Spread the files over 256 directories
+        File dir = new File( Options.v().body_cache(), key.substring( 0, 2 ) );
+        return new File( dir, key.substring( 2 ) );
+    }
+
+    /** Returns a description of the options that affect the bodies that
+     * jb builds. */
+    private String fingerprint() {
+        String ret = fingerprint;
+        if( ret == null ) {
+            Options o = Options.v();
+            StringBuilder sb = new StringBuilder();
+            sb.append( "format "+BodyFormat.VERSION );
+            sb.append( " coffi "+o.coffi() );
+            sb.append( " keep-line-number "+o.keep_line_number() );
+            sb.append( " keep-offset "+o.keep_offset() );
+            sb.append( " throw-analysis "+o.throw_analysis() );
+            sb.append( " j2me "+o.j2me() );
+            sb.append( " allow-phantom-refs "+o.allow_phantom_refs() );
+            sb.append( " class-path" );
+            Set<File> processDirs = new HashSet<File>();
+            for( String path : o.process_dir() ) processDirs.add( canonical( new File( path ) ) );
+            for( String path : Scene.v().getSootClassPath().split( File.pathSeparator ) ) {
+                File f = new File( path );
+                if( processDirs.contains( canonical( f ) ) ) continue;
+                appendFiles( sb, f, "" );
+            }
+            appendOptions( sb, "jb", PhaseOptions.v().getPhaseOptions( "jb" ) );
+            for( Transform t : PackManager.v().getPack( "jb" ) ) {
+                appendOptions( sb, t.getPhaseName(), PhaseOptions.v().getPhaseOptions( t ) );
+            }
+            fingerprint = ret = sb.toString();
+        }
+        return ret;
+    }
+
+    /** Appends the path, length and modification time of f, or of each
+     * file under f if f is a directory, except the class files of
+     * application classes; name is the path of f under its class path
+     * entry, with dots. */
+    private static void appendFiles( StringBuilder sb, File f, String name ) {
+        File[] children = f.listFiles();
+        if( children == null ) {
+            if( isApplicationClassFile( name ) ) return;
+            sb.append( " "+f.getPath()+" "+f.length()+" "+f.lastModified() );
+            return;
+        }
+        Arrays.sort( children );
+        for( File child : children ) {
+            appendFiles( sb, child, name.length() == 0 ? child.getName() : name+"."+child.getName() );
+        }
+    }
+
+    private static boolean isApplicationClassFile( String name ) {
+        if( !name.endsWith( ".class" ) ) return false;
+        String className = name.substring( 0, name.length() - ".class".length() );
+        Scene scene = Scene.v();
+        return scene.containsClass( className ) && scene.getSootClass( className ).isApplicationClass();
+    }
+
+    private static File canonical( File f ) {
+        try {
+            return f.getCanonicalFile();
+        } catch( IOException e ) {
+            return f.getAbsoluteFile();
+        }
+    }
+
+    private static void appendOptions( StringBuilder sb, String phase, Map<String, String> options ) {
+        sb.append( " "+phase+" "+new TreeMap<String, String>( options ) );
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance( "SHA-1" );
+        } catch( NoSuchAlgorithmException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    private static final Charset UTF8 = Charset.forName( "UTF-8" );
+    private volatile String fingerprint;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+    private final AtomicLong unsupported = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+}
@@ -0,0 +1,381 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.cache;
+import static soot.jimple.cache.BodyFormat.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import soot.ArrayType;
+import soot.BooleanType;
+import soot.ByteType;
+import soot.CharType;
+import soot.DoubleType;
+import soot.FloatType;
+import soot.IntType;
+import soot.Local;
+import soot.LongType;
+import soot.NullType;
+import soot.RefType;
+import soot.Scene;
+import soot.ShortType;
+import soot.SootClass;
+import soot.SootFieldRef;
+import soot.SootMethod;
+import soot.SootMethodRef;
+import soot.Type;
+import soot.Unit;
+import soot.UnitBox;
+import soot.Value;
+import soot.VoidType;
+import soot.jimple.*;
+import soot.tagkit.BytecodeOffsetTag;
+import soot.tagkit.LineNumberTag;
+import soot.util.ChannelDataInput;
+
+/** Reads Jimple bodies written by BodyEncoder.
+ * @author agent
+ */
+final class BodyDecoder {
+    BodyDecoder( ChannelDataInput in ) {
+        this.in = in;
+    }
+
+    /** Reads the body of m, or returns null if the input was written for
+     * another method or by another version of the encoding. */
+    JimpleBody read( SootMethod m ) throws IOException {
+        if( in.readVarInt() != MAGIC ) return null;
+        if( in.readVarInt() != VERSION ) return null;
+        if( !in.readString().equals( m.getSubSignature() ) ) return null;
+
+        Jimple j = Jimple.v();
+        JimpleBody body = j.newBody( m );
+
+        int numLocals = in.readVarInt();
+        locals = new Local[numLocals];
+        for( int i = 0; i < numLocals; i++ ) {
+            String name = readName();
+            locals[i] = j.newLocal( name, readType() );
+            body.getLocals().add( locals[i] );
+        }
+
+        int numUnits = in.readVarInt();
+        Unit[] units = new Unit[numUnits];
+        placeholders = new HashMap<Unit, Integer>();
+        for( int i = 0; i < numUnits; i++ ) {
+            units[i] = readStmt();
+            readTags( units[i] );
+            body.getUnits().add( units[i] );
+        }
+        // Branches were made to placeholders, since their targets may
+        // come later
+        for( Unit u : units ) {
+            for( UnitBox ub : u.getUnitBoxes() ) {
+                Integer target = placeholders.get( ub.getUnit() );
+                if( target != null ) ub.setUnit( units[target.intValue()] );
+            }
+        }
+
+        int numTraps = in.readVarInt();
+        for( int i = 0; i < numTraps; i++ ) {
+            SootClass exception = Scene.v().getSootClass( readName() );
+            Unit begin = units[in.readVarInt()];
+            Unit end = units[in.readVarInt()];
+            Unit handler = units[in.readVarInt()];
+            body.getTraps().add( j.newTrap( exception, begin, end, handler ) );
+        }
+        return body;
+    }
+
+    /* End of package methods. */
+
+    private String readName() throws IOException {
+        int i = in.readVarInt();
+        if( i == 0 ) {
+            String ret = in.readString();
+            names.add( ret );
+            return ret;
+        }
+        return names.get( i-1 );
+    }
+
+    /** Returns a stand-in for the unit at index i, to be replaced once
+     * all the units have been read. */
+    private Unit readUnit() throws IOException {
+        Unit ret = Jimple.v().newNopStmt();
+        placeholders.put( ret, in.readVarInt() );
+        return ret;
+    }
+
+    private Type readType() throws IOException {
+        int tag = in.readByte();
+        switch( tag ) {
+            case T_VOID: return VoidType.v();
+            case T_BOOLEAN: return BooleanType.v();
+            case T_BYTE: return ByteType.v();
+            case T_CHAR: return CharType.v();
+            case T_SHORT: return ShortType.v();
+            case T_INT: return IntType.v();
+            case T_LONG: return LongType.v();
+            case T_FLOAT: return FloatType.v();
+            case T_DOUBLE: return DoubleType.v();
+            case T_NULL: return NullType.v();
+            case T_REF: return RefType.v( readName() );
+            case T_ARRAY:
+                Type base = readType();
+                return ArrayType.v( base, in.readVarInt() );
+            default:
+                throw new IOException( "bad type tag "+tag );
+        }
+    }
+
+    private void readTags( Unit u ) throws IOException {
+        int numTags = in.readVarInt();
+        for( int i = 0; i < numTags; i++ ) {
+            int tag = in.readByte();
+            switch( tag ) {
+                case G_LINE_NUMBER:
+                    u.addTag( new LineNumberTag( in.readVarInt() ) );
+                    break;
+                case G_BYTECODE_OFFSET:
+                    u.addTag( new BytecodeOffsetTag( in.readVarInt() ) );
+                    break;
+                default:
+                    throw new IOException( "bad unit tag "+tag );
+            }
+        }
+    }
+
+    private Stmt readStmt() throws IOException {
+        Jimple j = Jimple.v();
+        int tag = in.readByte();
+        switch( tag ) {
+            case S_IDENTITY: {
+                Value l = readValue();
+                return j.newIdentityStmt( l, readValue() );
+            }
+            case S_ASSIGN: {
+                Value l = readValue();
+                return j.newAssignStmt( l, readValue() );
+            }
+            case S_INVOKE:
+                return j.newInvokeStmt( readValue() );
+            case S_IF: {
+                Value cond = readValue();
+                return j.newIfStmt( cond, readUnit() );
+            }
+            case S_GOTO:
+                return j.newGotoStmt( readUnit() );
+            case S_NOP:
+                return j.newNopStmt();
+            case S_RETURN:
+                return j.newReturnStmt( readValue() );
+            case S_RETURN_VOID:
+                return j.newReturnVoidStmt();
+            case S_THROW:
+                return j.newThrowStmt( readValue() );
+            case S_ENTER_MONITOR:
+                return j.newEnterMonitorStmt( readValue() );
+            case S_EXIT_MONITOR:
+                return j.newExitMonitorStmt( readValue() );
+            case S_TABLE_SWITCH: {
+                Value key = readValue();
+                int low = in.readSignedVarInt();
+                int high = in.readSignedVarInt();
+                int numTargets = in.readVarInt();
+                List<Unit> targets = new ArrayList<Unit>( numTargets );
+                for( int i = 0; i < numTargets; i++ ) targets.add( readUnit() );
+                return j.newTableSwitchStmt( key, low, high, targets, readUnit() );
+            }
+            case S_LOOKUP_SWITCH: {
+                Value key = readValue();
+                int numTargets = in.readVarInt();
+                List<IntConstant> values = new ArrayList<IntConstant>( numTargets );
+                List<Unit> targets = new ArrayList<Unit>( numTargets );
+                for( int i = 0; i < numTargets; i++ ) {
+                    values.add( IntConstant.v( in.readSignedVarInt() ) );
+                    targets.add( readUnit() );
+                }
+                return j.newLookupSwitchStmt( key, values, targets, readUnit() );
+            }
+            case S_BREAKPOINT:
+                return j.newBreakpointStmt();
+            case S_RET:
+                return j.newRetStmt( readValue() );
+            default:
+                throw new IOException( "bad statement tag "+tag );
+        }
+    }
+
+    private Value readValue() throws IOException {
+        Jimple j = Jimple.v();
+        int tag = in.readByte();
+        switch( tag ) {
+            case V_LOCAL:
+                return locals[in.readVarInt()];
+            case V_INT:
+                return IntConstant.v( in.readSignedVarInt() );
+            case V_LONG: {
+                long l = in.readVarLong();
+                return LongConstant.v( ( l >>> 1 ) ^ -( l & 1 ) );
+            }
+            case V_FLOAT:
+                return FloatConstant.v( Float.intBitsToFloat( in.readVarInt() ) );
+            case V_DOUBLE:
+                return DoubleConstant.v( Double.longBitsToDouble( in.readVarLong() ) );
+            case V_STRING:
+                return StringConstant.v( in.readString() );
+            case V_NULL:
+                return NullConstant.v();
+            case V_CLASS:
+                return ClassConstant.v( readName() );
+            case V_BINOP: {
+                int op = in.readByte();
+                Value op1 = readValue();
+                return binop( op, op1, readValue() );
+            }
+            case V_NEG:
+                return j.newNegExpr( readValue() );
+            case V_LENGTH:
+                return j.newLengthExpr( readValue() );
+            case V_CAST: {
+                Type t = readType();
+                return j.newCastExpr( readValue(), t );
+            }
+            case V_INSTANCE_OF: {
+                Type t = readType();
+                return j.newInstanceOfExpr( readValue(), t );
+            }
+            case V_NEW:
+                return j.newNewExpr( RefType.v( readName() ) );
+            case V_NEW_ARRAY: {
+                Type t = readType();
+                return j.newNewArrayExpr( t, readValue() );
+            }
+            case V_NEW_MULTI_ARRAY: {
+                ArrayType t = (ArrayType) readType();
+                int numSizes = in.readVarInt();
+                List<Value> sizes = new ArrayList<Value>( numSizes );
+                for( int i = 0; i < numSizes; i++ ) sizes.add( readValue() );
+                return j.newNewMultiArrayExpr( t, sizes );
+            }
+            case V_STATIC_INVOKE: {
+                SootMethodRef ref = readMethodRef();
+                return j.newStaticInvokeExpr( ref, readArgs() );
+            }
+            case V_VIRTUAL_INVOKE: {
+                Local base = (Local) readValue();
+                SootMethodRef ref = readMethodRef();
+                return j.newVirtualInvokeExpr( base, ref, readArgs() );
+            }
+            case V_INTERFACE_INVOKE: {
+                Local base = (Local) readValue();
+                SootMethodRef ref = readMethodRef();
+                return j.newInterfaceInvokeExpr( base, ref, readArgs() );
+            }
+            case V_SPECIAL_INVOKE: {
+                Local base = (Local) readValue();
+                SootMethodRef ref = readMethodRef();
+                return j.newSpecialInvokeExpr( base, ref, readArgs() );
+            }
+            case V_ARRAY_REF: {
+                Value base = readValue();
+                return j.newArrayRef( base, readValue() );
+            }
+            case V_INSTANCE_FIELD_REF: {
+                Value base = readValue();
+                return j.newInstanceFieldRef( base, readFieldRef() );
+            }
+            case V_STATIC_FIELD_REF:
+                return j.newStaticFieldRef( readFieldRef() );
+            case V_PARAMETER_REF: {
+                Type t = readType();
+                return j.newParameterRef( t, in.readVarInt() );
+            }
+            case V_THIS_REF:
+                return j.newThisRef( (RefType) readType() );
+            case V_CAUGHT_EXCEPTION_REF:
+                return j.newCaughtExceptionRef();
+            default:
+                throw new IOException( "bad value tag "+tag );
+        }
+    }
+
+    private List<Value> readArgs() throws IOException {
+        int numArgs = in.readVarInt();
+        List<Value> ret = new ArrayList<Value>( numArgs );
+        for( int i = 0; i < numArgs; i++ ) ret.add( readValue() );
+        return ret;
+    }
+
+    private SootMethodRef readMethodRef() throws IOException {
+        SootClass declaringClass = Scene.v().getSootClass( readName() );
+        String name = readName();
+        int numParams = in.readVarInt();
+        List<Type> params = new ArrayList<Type>( numParams );
+        for( int i = 0; i < numParams; i++ ) params.add( readType() );
+        Type returnType = readType();
+        boolean isStatic = in.readByte() != 0;
+        return Scene.v().makeMethodRef( declaringClass, name, params, returnType, isStatic );
+    }
+
+    private SootFieldRef readFieldRef() throws IOException {
+        SootClass declaringClass = Scene.v().getSootClass( readName() );
+        String name = readName();
+        Type type = readType();
+        boolean isStatic = in.readByte() != 0;
+        return Scene.v().makeFieldRef( declaringClass, name, type, isStatic );
+    }
+
+    private static Value binop( int op, Value op1, Value op2 ) throws IOException {
+        Jimple j = Jimple.v();
+        switch( op ) {
+            case B_ADD: return j.newAddExpr( op1, op2 );
+            case B_AND: return j.newAndExpr( op1, op2 );
+            case B_CMP: return j.newCmpExpr( op1, op2 );
+            case B_CMPG: return j.newCmpgExpr( op1, op2 );
+            case B_CMPL: return j.newCmplExpr( op1, op2 );
+            case B_DIV: return j.newDivExpr( op1, op2 );
+            case B_EQ: return j.newEqExpr( op1, op2 );
+            case B_GE: return j.newGeExpr( op1, op2 );
+            case B_GT: return j.newGtExpr( op1, op2 );
+            case B_LE: return j.newLeExpr( op1, op2 );
+            case B_LT: return j.newLtExpr( op1, op2 );
+            case B_MUL: return j.newMulExpr( op1, op2 );
+            case B_NE: return j.newNeExpr( op1, op2 );
+            case B_OR: return j.newOrExpr( op1, op2 );
+            case B_REM: return j.newRemExpr( op1, op2 );
+            case B_SHL: return j.newShlExpr( op1, op2 );
+            case B_SHR: return j.newShrExpr( op1, op2 );
+            case B_SUB: return j.newSubExpr( op1, op2 );
+            case B_USHR: return j.newUshrExpr( op1, op2 );
+            case B_XOR: return j.newXorExpr( op1, op2 );
+            default:
+                throw new IOException( "bad operator "+op );
+        }
+    }
+
+    private final ChannelDataInput in;
+    private final List<String> names = new ArrayList<String>();
+    private Local[] locals;
+    private HashMap<Unit, Integer> placeholders;
+}
@@ -0,0 +1,400 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.cache;
+import static soot.jimple.cache.BodyFormat.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+
+import soot.ArrayType;
+import soot.BooleanType;
+import soot.ByteType;
+import soot.CharType;
+import soot.DoubleType;
+import soot.FloatType;
+import soot.IntType;
+import soot.Local;
+import soot.LongType;
+import soot.NullType;
+import soot.RefType;
+import soot.ShortType;
+import soot.SootFieldRef;
+import soot.SootMethodRef;
+import soot.Trap;
+import soot.Type;
+import soot.Unit;
+import soot.Value;
+import soot.VoidType;
+import soot.jimple.*;
+import soot.tagkit.BytecodeOffsetTag;
+import soot.tagkit.LineNumberTag;
+import soot.tagkit.Tag;
+import soot.util.ChannelDataOutput;
+
+/** Writes Jimple bodies in the encoding described in BodyFormat.
+ * @author agent
+ */
+final class BodyEncoder {
+    /** Thrown for a body with a construct that the encoding does not
+     * cover, such as invokedynamic or a tag other than a line number or
+     * bytecode offset. */
+    static final class UnsupportedBodyException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        UnsupportedBodyException( String what ) { super( what ); }
+    }
+
+    BodyEncoder( ChannelDataOutput out ) {
+        this.out = out;
+    }
+
+    void write( JimpleBody body ) throws IOException {
+        out.writeVarInt( MAGIC );
+        out.writeVarInt( VERSION );
+        out.writeString( body.getMethod().getSubSignature() );
+        if( !body.getTags().isEmpty() ) {
+            throw new UnsupportedBodyException( "body tag "+body.getTags().get( 0 ).getName() );
+        }
+
+        out.writeVarInt( body.getLocalCount() );
+        for( Local l : body.getLocals() ) {
+            locals.put( l, locals.size() );
+            writeName( l.getName() );
+            writeType( l.getType() );
+        }
+
+        for( Unit u : body.getUnits() ) {
+            units.put( u, units.size() );
+        }
+        out.writeVarInt( units.size() );
+        for( Unit u : body.getUnits() ) {
+            writeStmt( (Stmt) u );
+            writeTags( u.getTags() );
+        }
+
+        out.writeVarInt( body.getTraps().size() );
+        for( Trap t : body.getTraps() ) {
+            writeName( t.getException().getName() );
+            writeUnit( t.getBeginUnit() );
+            writeUnit( t.getEndUnit() );
+            writeUnit( t.getHandlerUnit() );
+        }
+    }
+
+    /* End of package methods. */
+
+    private void writeName( String s ) throws IOException {
+        Integer i = names.get( s );
+        if( i == null ) {
+            names.put( s, names.size()+1 );
+            out.writeVarInt( 0 );
+            out.writeString( s );
+        } else {
+            out.writeVarInt( i );
+        }
+    }
+
+    private void writeUnit( Unit u ) throws IOException {
+        Integer i = units.get( u );
+        if( i == null ) throw new UnsupportedBodyException( "unit outside the body: "+u );
+        out.writeVarInt( i );
+    }
+
+    private void writeType( Type t ) throws IOException {
+        if( t instanceof RefType ) {
+            out.writeByte( T_REF );
+            writeName( ((RefType) t).getClassName() );
+        } else if( t instanceof ArrayType ) {
+            ArrayType at = (ArrayType) t;
+            out.writeByte( T_ARRAY );
+            writeType( at.baseType );
+            out.writeVarInt( at.numDimensions );
+        } else if( t instanceof IntType ) {
+            out.writeByte( T_INT );
+        } else if( t instanceof BooleanType ) {
+            out.writeByte( T_BOOLEAN );
+        } else if( t instanceof ByteType ) {
+            out.writeByte( T_BYTE );
+        } else if( t instanceof CharType ) {
+            out.writeByte( T_CHAR );
+        } else if( t instanceof ShortType ) {
+            out.writeByte( T_SHORT );
+        } else if( t instanceof LongType ) {
+            out.writeByte( T_LONG );
+        } else if( t instanceof FloatType ) {
+            out.writeByte( T_FLOAT );
+        } else if( t instanceof DoubleType ) {
+            out.writeByte( T_DOUBLE );
+        } else if( t instanceof VoidType ) {
+            out.writeByte( T_VOID );
+        } else if( t instanceof NullType ) {
+            out.writeByte( T_NULL );
+        } else {
+            throw new UnsupportedBodyException( "type "+t );
+        }
+    }
+
+    private void writeTags( List<Tag> tags ) throws IOException {
+        out.writeVarInt( tags.size() );
+        for( Tag t : tags ) {
+            if( t instanceof LineNumberTag ) {
+                out.writeByte( G_LINE_NUMBER );
+                out.writeVarInt( ((LineNumberTag) t).getLineNumber() );
+            } else if( t instanceof BytecodeOffsetTag ) {
+                out.writeByte( G_BYTECODE_OFFSET );
+                out.writeVarInt( ((BytecodeOffsetTag) t).getBytecodeOffset() );
+            } else {
+                throw new UnsupportedBodyException( "tag "+t.getName() );
+            }
+        }
+    }
+
+    private void writeStmt( Stmt s ) throws IOException {
+        if( s instanceof IdentityStmt ) {
+            IdentityStmt is = (IdentityStmt) s;
+            out.writeByte( S_IDENTITY );
+            writeValue( is.getLeftOp() );
+            writeValue( is.getRightOp() );
+        } else if( s instanceof AssignStmt ) {
+            AssignStmt as = (AssignStmt) s;
+            out.writeByte( S_ASSIGN );
+            writeValue( as.getLeftOp() );
+            writeValue( as.getRightOp() );
+        } else if( s instanceof InvokeStmt ) {
+            out.writeByte( S_INVOKE );
+            writeValue( s.getInvokeExpr() );
+        } else if( s instanceof IfStmt ) {
+            IfStmt is = (IfStmt) s;
+            out.writeByte( S_IF );
+            writeValue( is.getCondition() );
+            writeUnit( is.getTarget() );
+        } else if( s instanceof GotoStmt ) {
+            out.writeByte( S_GOTO );
+            writeUnit( ((GotoStmt) s).getTarget() );
+        } else if( s instanceof NopStmt ) {
+            out.writeByte( S_NOP );
+        } else if( s instanceof ReturnStmt ) {
+            out.writeByte( S_RETURN );
+            writeValue( ((ReturnStmt) s).getOp() );
+        } else if( s instanceof ReturnVoidStmt ) {
+            out.writeByte( S_RETURN_VOID );
+        } else if( s instanceof ThrowStmt ) {
+            out.writeByte( S_THROW );
+            writeValue( ((ThrowStmt) s).getOp() );
+        } else if( s instanceof EnterMonitorStmt ) {
+            out.writeByte( S_ENTER_MONITOR );
+            writeValue( ((EnterMonitorStmt) s).getOp() );
+        } else if( s instanceof ExitMonitorStmt ) {
+            out.writeByte( S_EXIT_MONITOR );
+            writeValue( ((ExitMonitorStmt) s).getOp() );
+        } else if( s instanceof TableSwitchStmt ) {
+            TableSwitchStmt ts = (TableSwitchStmt) s;
+            out.writeByte( S_TABLE_SWITCH );
+            writeValue( ts.getKey() );
+            out.writeSignedVarInt( ts.getLowIndex() );
+            out.writeSignedVarInt( ts.getHighIndex() );
+            List<Unit> targets = ts.getTargets();
+            out.writeVarInt( targets.size() );
+            for( Unit u : targets ) writeUnit( u );
+            writeUnit( ts.getDefaultTarget() );
+        } else if( s instanceof LookupSwitchStmt ) {
+            LookupSwitchStmt ls = (LookupSwitchStmt) s;
+            out.writeByte( S_LOOKUP_SWITCH );
+            writeValue( ls.getKey() );
+            out.writeVarInt( ls.getTargetCount() );
+            for( int i = 0; i < ls.getTargetCount(); i++ ) {
+                out.writeSignedVarInt( ls.getLookupValue( i ) );
+                writeUnit( ls.getTarget( i ) );
+            }
+            writeUnit( ls.getDefaultTarget() );
+        } else if( s instanceof BreakpointStmt ) {
+            out.writeByte( S_BREAKPOINT );
+        } else if( s instanceof RetStmt ) {
+            out.writeByte( S_RET );
+            writeValue( ((RetStmt) s).getStmtAddress() );
+        } else {
+            throw new UnsupportedBodyException( "statement "+s );
+        }
+    }
+
+    private void writeValue( Value v ) throws IOException {
+        if( v instanceof Local ) {
+            Integer i = locals.get( v );
+            if( i == null ) throw new UnsupportedBodyException( "local outside the body: "+v );
+            out.writeByte( V_LOCAL );
+            out.writeVarInt( i );
+        } else if( v instanceof Constant ) {
+            writeConstant( (Constant) v );
+        } else if( v instanceof BinopExpr ) {
+            BinopExpr e = (BinopExpr) v;
+            out.writeByte( V_BINOP );
+            out.writeByte( binop( e ) );
+            writeValue( e.getOp1() );
+            writeValue( e.getOp2() );
+        } else if( v instanceof NegExpr ) {
+            out.writeByte( V_NEG );
+            writeValue( ((NegExpr) v).getOp() );
+        } else if( v instanceof LengthExpr ) {
+            out.writeByte( V_LENGTH );
+            writeValue( ((LengthExpr) v).getOp() );
+        } else if( v instanceof CastExpr ) {
+            CastExpr e = (CastExpr) v;
+            out.writeByte( V_CAST );
+            writeType( e.getCastType() );
+            writeValue( e.getOp() );
+        } else if( v instanceof InstanceOfExpr ) {
+            InstanceOfExpr e = (InstanceOfExpr) v;
+            out.writeByte( V_INSTANCE_OF );
+            writeType( e.getCheckType() );
+            writeValue( e.getOp() );
+        } else if( v instanceof NewExpr ) {
+            out.writeByte( V_NEW );
+            writeName( ((NewExpr) v).getBaseType().getClassName() );
+        } else if( v instanceof NewArrayExpr ) {
+            NewArrayExpr e = (NewArrayExpr) v;
+            out.writeByte( V_NEW_ARRAY );
+            writeType( e.getBaseType() );
+            writeValue( e.getSize() );
+        } else if( v instanceof NewMultiArrayExpr ) {
+            NewMultiArrayExpr e = (NewMultiArrayExpr) v;
+            out.writeByte( V_NEW_MULTI_ARRAY );
+            writeType( e.getBaseType() );
+            out.writeVarInt( e.getSizeCount() );
+            for( int i = 0; i < e.getSizeCount(); i++ ) writeValue( e.getSize( i ) );
+        } else if( v instanceof InvokeExpr ) {
+            writeInvoke( (InvokeExpr) v );
+        } else if( v instanceof ArrayRef ) {
+            ArrayRef r = (ArrayRef) v;
+            out.writeByte( V_ARRAY_REF );
+            writeValue( r.getBase() );
+            writeValue( r.getIndex() );
+        } else if( v instanceof InstanceFieldRef ) {
+            InstanceFieldRef r = (InstanceFieldRef) v;
+            out.writeByte( V_INSTANCE_FIELD_REF );
+            writeValue( r.getBase() );
+            writeFieldRef( r.getFieldRef() );
+        } else if( v instanceof StaticFieldRef ) {
+            out.writeByte( V_STATIC_FIELD_REF );
+            writeFieldRef( ((StaticFieldRef) v).getFieldRef() );
+        } else if( v instanceof ParameterRef ) {
+            ParameterRef r = (ParameterRef) v;
+            out.writeByte( V_PARAMETER_REF );
+            writeType( r.getType() );
+            out.writeVarInt( r.getIndex() );
+        } else if( v instanceof ThisRef ) {
+            out.writeByte( V_THIS_REF );
+            writeType( v.getType() );
+        } else if( v instanceof CaughtExceptionRef ) {
+            out.writeByte( V_CAUGHT_EXCEPTION_REF );
+        } else {
+            throw new UnsupportedBodyException( "value "+v );
+        }
+    }
+
+    private void writeConstant( Constant c ) throws IOException {
+        if( c instanceof IntConstant ) {
+            out.writeByte( V_INT );
+            out.writeSignedVarInt( ((IntConstant) c).value );
+        } else if( c instanceof LongConstant ) {
+            long l = ((LongConstant) c).value;
+            out.writeByte( V_LONG );
+            out.writeVarLong( ( l << 1 ) ^ ( l >> 63 ) );
+        } else if( c instanceof FloatConstant ) {
+            out.writeByte( V_FLOAT );
+            out.writeVarInt( Float.floatToRawIntBits( ((FloatConstant) c).value ) );
+        } else if( c instanceof DoubleConstant ) {
+            out.writeByte( V_DOUBLE );
+            out.writeVarLong( Double.doubleToRawLongBits( ((DoubleConstant) c).value ) );
+        } else if( c instanceof StringConstant ) {
+            out.writeByte( V_STRING );
+            out.writeString( ((StringConstant) c).value );
+        } else if( c instanceof NullConstant ) {
+            out.writeByte( V_NULL );
+        } else if( c instanceof ClassConstant ) {
+            out.writeByte( V_CLASS );
+            writeName( ((ClassConstant) c).getValue() );
+        } else {
+            throw new UnsupportedBodyException( "constant "+c );
+        }
+    }
+
+    private void writeInvoke( InvokeExpr e ) throws IOException {
+        if( e instanceof StaticInvokeExpr ) {
+            out.writeByte( V_STATIC_INVOKE );
+        } else if( e instanceof VirtualInvokeExpr ) {
+            out.writeByte( V_VIRTUAL_INVOKE );
+        } else if( e instanceof InterfaceInvokeExpr ) {
+            out.writeByte( V_INTERFACE_INVOKE );
+        } else if( e instanceof SpecialInvokeExpr ) {
+            out.writeByte( V_SPECIAL_INVOKE );
+        } else {
+            throw new UnsupportedBodyException( "invoke "+e );
+        }
+        if( e instanceof InstanceInvokeExpr ) {
+            writeValue( ((InstanceInvokeExpr) e).getBase() );
+        }
+        SootMethodRef ref = e.getMethodRef();
+        writeName( ref.declaringClass().getName() );
+        writeName( ref.name() );
+        List<Type> params = ref.parameterTypes();
+        out.writeVarInt( params.size() );
+        for( Type t : params ) writeType( t );
+        writeType( ref.returnType() );
+        out.writeByte( ref.isStatic() ? 1 : 0 );
+        out.writeVarInt( e.getArgCount() );
+        for( int i = 0; i < e.getArgCount(); i++ ) writeValue( e.getArg( i ) );
+    }
+
+    private void writeFieldRef( SootFieldRef ref ) throws IOException {
+        writeName( ref.declaringClass().getName() );
+        writeName( ref.name() );
+        writeType( ref.type() );
+        out.writeByte( ref.isStatic() ? 1 : 0 );
+    }
+
+    private static int binop( BinopExpr e ) {
+        if( e instanceof AddExpr ) return B_ADD;
+        if( e instanceof AndExpr ) return B_AND;
+        if( e instanceof CmpExpr ) return B_CMP;
+        if( e instanceof CmpgExpr ) return B_CMPG;
+        if( e instanceof CmplExpr ) return B_CMPL;
+        if( e instanceof DivExpr ) return B_DIV;
+        if( e instanceof EqExpr ) return B_EQ;
+        if( e instanceof GeExpr ) return B_GE;
+        if( e instanceof GtExpr ) return B_GT;
+        if( e instanceof LeExpr ) return B_LE;
+        if( e instanceof LtExpr ) return B_LT;
+        if( e instanceof MulExpr ) return B_MUL;
+        if( e instanceof NeExpr ) return B_NE;
+        if( e instanceof OrExpr ) return B_OR;
+        if( e instanceof RemExpr ) return B_REM;
+        if( e instanceof ShlExpr ) return B_SHL;
+        if( e instanceof ShrExpr ) return B_SHR;
+        if( e instanceof SubExpr ) return B_SUB;
+        if( e instanceof UshrExpr ) return B_USHR;
+        if( e instanceof XorExpr ) return B_XOR;
+        throw new UnsupportedBodyException( "operator "+e );
+    }
+
+    private final ChannelDataOutput out;
+    private final HashMap<String, Integer> names = new HashMap<String, Integer>();
+    private final HashMap<Local, Integer> locals = new HashMap<Local, Integer>();
+    private final HashMap<Unit, Integer> units = new HashMap<Unit, Integer>();
+}
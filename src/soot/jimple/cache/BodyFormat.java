@@ -0,0 +1,125 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.cache;
+
+/** The tags of the binary encoding of Jimple bodies written by BodyEncoder
+ * and read by BodyDecoder.
+ * <p>
+ * A file holds the magic number, the version and the subsignature of the
+ * method, then the locals (name and type), the units, and the traps (the
+ * name of the exception class and the indices of the begin, end and handler
+ * units). Each unit is a statement tag followed by its operands, with units
+ * referred to by index, and then its tags. Each value is a value tag
+ * followed by its operands. Strings that name classes, members, locals and
+ * types are written once per body, and then referred to by number.
+ * @author agent
+ */
+final class BodyFormat {
+    private BodyFormat() {}
+
+    static final int MAGIC = 0x4a424459;
+    /** Changes whenever the encoding, or what jb produces, changes. */
+    static final int VERSION = 1;
+
+    /* Types. */
+    static final int T_VOID = 0;
+    static final int T_BOOLEAN = 1;
+    static final int T_BYTE = 2;
+    static final int T_CHAR = 3;
+    static final int T_SHORT = 4;
+    static final int T_INT = 5;
+    static final int T_LONG = 6;
+    static final int T_FLOAT = 7;
+    static final int T_DOUBLE = 8;
+    static final int T_NULL = 9;
+    static final int T_REF = 10;
+    static final int T_ARRAY = 11;
+
+    /* Statements. */
+    static final int S_IDENTITY = 0;
+    static final int S_ASSIGN = 1;
+    static final int S_INVOKE = 2;
+    static final int S_IF = 3;
+    static final int S_GOTO = 4;
+    static final int S_NOP = 5;
+    static final int S_RETURN = 6;
+    static final int S_RETURN_VOID = 7;
+    static final int S_THROW = 8;
+    static final int S_ENTER_MONITOR = 9;
+    static final int S_EXIT_MONITOR = 10;
+    static final int S_TABLE_SWITCH = 11;
+    static final int S_LOOKUP_SWITCH = 12;
+    static final int S_BREAKPOINT = 13;
+    static final int S_RET = 14;
+
+    /* Unit tags. */
+    static final int G_LINE_NUMBER = 0;
+    static final int G_BYTECODE_OFFSET = 1;
+
+    /* Values. */
+    static final int V_LOCAL = 0;
+    static final int V_INT = 1;
+    static final int V_LONG = 2;
+    static final int V_FLOAT = 3;
+    static final int V_DOUBLE = 4;
+    static final int V_STRING = 5;
+    static final int V_NULL = 6;
+    static final int V_CLASS = 7;
+    static final int V_BINOP = 8;
+    static final int V_NEG = 9;
+    static final int V_LENGTH = 10;
+    static final int V_CAST = 11;
+    static final int V_INSTANCE_OF = 12;
+    static final int V_NEW = 13;
+    static final int V_NEW_ARRAY = 14;
+    static final int V_NEW_MULTI_ARRAY = 15;
+    static final int V_STATIC_INVOKE = 16;
+    static final int V_VIRTUAL_INVOKE = 17;
+    static final int V_INTERFACE_INVOKE = 18;
+    static final int V_SPECIAL_INVOKE = 19;
+    static final int V_ARRAY_REF = 20;
+    static final int V_INSTANCE_FIELD_REF = 21;
+    static final int V_STATIC_FIELD_REF = 22;
+    static final int V_PARAMETER_REF = 23;
+    static final int V_THIS_REF = 24;
+    static final int V_CAUGHT_EXCEPTION_REF = 25;
+
+    /* Binary operators, following V_BINOP. */
+    static final int B_ADD = 0;
+    static final int B_AND = 1;
+    static final int B_CMP = 2;
+    static final int B_CMPG = 3;
+    static final int B_CMPL = 4;
+    static final int B_DIV = 5;
+    static final int B_EQ = 6;
+    static final int B_GE = 7;
+    static final int B_GT = 8;
+    static final int B_LE = 9;
+    static final int B_LT = 10;
+    static final int B_MUL = 11;
+    static final int B_NE = 12;
+    static final int B_OR = 13;
+    static final int B_REM = 14;
+    static final int B_SHL = 15;
+    static final int B_SHR = 16;
+    static final int B_SUB = 17;
+    static final int B_USHR = 18;
+    static final int B_XOR = 19;
+}
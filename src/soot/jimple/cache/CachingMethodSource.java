@@ -0,0 +1,57 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.cache;
+
+import soot.Body;
+import soot.MethodSource;
+import soot.SootMethod;
+import soot.jimple.JimpleBody;
+
+/** A method source that loads the jb body of its method from the
+ * BodyCache, and otherwise gets it from the source it stands in front
+ * of, and stores it in the cache. Only the bodies of library classes are
+ * cached.
+ * @author agent
+ */
+public class CachingMethodSource implements MethodSource {
+    public CachingMethodSource( MethodSource source, byte[] classDigest ) {
+        this.source = source;
+        this.classDigest = classDigest;
+    }
+
+    public Body getBody( SootMethod m, String phaseName ) {
+        BodyCache cache = BodyCache.v();
+        // Whether the class is a library class is only known once the
+        // classes have been loaded, so it is checked here, not in attach()
+        if( !phaseName.equals( "jb" ) || !cache.caches( m ) )
+            return source.getBody( m, phaseName );
+        JimpleBody ret = cache.load( m, classDigest );
+        if( ret != null ) return ret;
+        Body body = source.getBody( m, phaseName );
+        if( body instanceof JimpleBody ) cache.store( (JimpleBody) body, classDigest );
+        return body;
+    }
+
+    /** Returns the source that builds the body when it is not cached. */
+    public MethodSource source() { return source; }
+
+    private final MethodSource source;
+    private final byte[] classDigest;
+}
@@ -0,0 +1,188 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import soot.G;
+import soot.MethodContext;
+import soot.MethodOrMethodContext;
+import soot.PointsToAnalysis;
+import soot.SootMethod;
+import soot.jimple.spark.builder.ContextInsensitiveBuilder;
+import soot.jimple.spark.pag.AllocDotField;
+import soot.jimple.spark.pag.AllocNode;
+import soot.jimple.spark.pag.InsensitiveAllocNode;
+import soot.jimple.spark.pag.MethodPAG;
+import soot.jimple.spark.pag.Node;
+import soot.jimple.spark.pag.ObjectSensitiveConfig;
+import soot.jimple.spark.pag.PAG;
+import soot.jimple.spark.pag.VarNode;
+import soot.jimple.spark.sets.P2SetVisitor;
+import soot.jimple.spark.solver.PropParallelWorklist;
+import soot.jimple.spark.solver.PropWorklist;
+import soot.jimple.spark.solver.Propagator;
+import soot.jimple.toolkits.callgraph.CallGraph;
+import soot.options.SparkOptions;
+import soot.toolkits.scalar.Pair;
+
+/**
+ * A cheap context-insensitive pre-analysis that selects which allocation sites get
+ * heap context in the object sensitive analysis, in the style of introspective
+ * analysis.
+ *
+ * For every allocation site it measures how many variables point to its objects,
+ * and how many objects the fields of its objects point to.  Sites for which
+ * either metric is over its threshold are the ones that would blow up when
+ * analyzed with context, so they get no heap context.  For every instance method
+ * it measures the number of call edges into the method times the size of the
+ * points-to set of its this variable; sites allocated in methods over the
+ * method threshold get heap context of depth 1.
+ * @author agent
+ */
+public class SelectiveContextPreAnalysis {
+    private final Map<String, String> options;
+    private final int fieldPtsThreshold;
+    private final int pointedByThreshold;
+    private final int methodCostThreshold;
+
+    private final Set<Object> noContext = new HashSet<Object>();
+    private final Set<Object> limitHeapContext = new HashSet<Object>();
+    private int numSites = 0;
+
+    public SelectiveContextPreAnalysis(Map options) {
+        this.options = new HashMap<String, String>(options);
+        SparkOptions opts = new SparkOptions(options);
+        this.fieldPtsThreshold = opts.kobjsens_selective_field_pts();
+        this.pointedByThreshold = opts.kobjsens_selective_pointed_by();
+        this.methodCostThreshold = opts.kobjsens_selective_method_cost();
+    }
+
+    /** new exprs that should get no heap context */
+    public Set<Object> noContext() {
+        return noContext;
+    }
+
+    /** new exprs that should get heap context of depth 1 */
+    public Set<Object> limitHeapContext() {
+        return limitHeapContext;
+    }
+
+    /**
+     * Run the context-insensitive pre-analysis and compute the selection.  Leaves
+     * the method PAGs and method contexts reset for the main analysis.
+     */
+    public void run() {
+        //the pre-analysis is a plain on-the-fly context-insensitive spark run
+        boolean parallel = 
+            new SparkOptions(options).propagator() == SparkOptions.propagator_parallel_worklist;
+        options.put("kobjsens", "0");
+        options.put("on-fly-cg", "true");
+        options.put("vta", "false");
+        options.put("geom-pta", "false");
+        options.put("cs-demand", "false");
+        options.put("propagator", parallel ? "parallel-worklist" : "worklist");
+        SparkOptions opts = new SparkOptions(options);
+
+        Date start = new Date();
+        resetGlobalState();
+        try {
+            ObjectSensitiveConfig.noObjectSens();
+            ContextInsensitiveBuilder b = new ContextInsensitiveBuilder();
+            PAG pag = b.setup(opts);
+            b.build();
+            pag.getTypeManager().makeTypeMask();
+            pag.cleanUpMerges();
+
+            Propagator propagator;
+            if (parallel)
+                propagator = new PropParallelWorklist(pag);
+            else
+                propagator = new PropWorklist(pag);
+            propagator.propagate();
+
+            select(pag, pag.getOnFlyCallGraph().callGraph());
+        } finally {
+            resetGlobalState();
+        }
+        SparkTransformer.reportTime("Selective context pre-analysis", start, new Date());
+
+        G.v().out.println("[Spark] Selective context: " + noContext.size() + " of " + numSites +
+            " allocation sites without heap context, " + limitHeapContext.size() + " with depth 1");
+    }
+
+    private void resetGlobalState() {
+        MethodPAG.reset();
+        G.v().Parm_pairToElement = new HashMap();
+        MethodContext.clearUniverse();
+    }
+
+    private void select(PAG pag, CallGraph cg) {
+        final int[] pointedBy = new int[pag.getAllocNodeNumberer().size() + 1];
+        for (Iterator vIt = pag.getVarNodeNumberer().iterator(); vIt.hasNext(); ) {
+            VarNode vn = (VarNode) vIt.next();
+            if (vn.getReplacement() != vn)
+                continue;
+            vn.getP2Set().forall(new P2SetVisitor() {
+                public final void visit(Node n) {
+                    pointedBy[n.getNumber()]++;
+                }
+            });
+        }
+
+        Map<SootMethod, Long> methodCost = new HashMap<SootMethod, Long>();
+        for (Iterator mIt = pag.getOnFlyCallGraph().reachableMethods().listener(); mIt.hasNext(); ) {
+            SootMethod m = ((MethodOrMethodContext) mIt.next()).method();
+            if (m.isStatic() || methodCost.containsKey(m))
+                continue;
+            long fanIn = 0;
+            for (Iterator eIt = cg.edgesInto(m); eIt.hasNext(); eIt.next())
+                fanIn++;
+            VarNode thisNode = pag.findLocalVarNode(new Pair(m, PointsToAnalysis.THIS_NODE));
+            int thisPts = thisNode == null ? 0 : thisNode.getP2Set().size();
+            methodCost.put(m, fanIn * Math.max(1, thisPts));
+        }
+
+        for (Iterator aIt = pag.getAllocNodeNumberer().iterator(); aIt.hasNext(); ) {
+            AllocNode an = (AllocNode) aIt.next();
+            if (!(an instanceof InsensitiveAllocNode))
+                continue;
+            numSites++;
+
+            long fieldPts = 0;
+            for (Object o : an.getAllFieldRefs())
+                fieldPts += ((AllocDotField) o).getP2Set().size();
+
+            if (fieldPts > fieldPtsThreshold || pointedBy[an.getNumber()] > pointedByThreshold) {
+                noContext.add(an.getNewExpr());
+                continue;
+            }
+
+            Long cost = an.getMethod() == null ? null : methodCost.get(an.getMethod());
+            if (cost != null && cost > methodCostThreshold)
+                limitHeapContext.add(an.getNewExpr());
+        }
+    }
+}
@@ -19,7 +19,6 @@ import soot.SootClass;
 import soot.SootField;
 import soot.SootMethod;
 import soot.Type;
-import soot.Unit;
 import soot.Value;
 import soot.jimple.AssignStmt;
 import soot.jimple.CastExpr;
@@ -326,7 +325,7 @@ public class SparkEvaluator {
     private void stmtProcessing() {
         // Get type manager from Soot
         final TypeManager typeManager = ptsProvider.getTypeManager();
-        CallGraph callGraph = Scene.v().getCallGraph();
+        CallGraph callGraph = Scene.v().getCallGraph().contextInsensitive();
 
         int totalCasts = 0;
         int appCasts = 0;
@@ -437,7 +436,6 @@ public class SparkEvaluator {
         reachableMethods = new LinkedHashSet<SootMethod>();
         reachableMethodContexts = new LinkedHashSet<MethodOrMethodContext>();
         methodToContexts = new LinkedHashMap<SootMethod, Set<MethodOrMethodContext>>();
-        Set<InsensEdge> insEdges = new HashSet<InsensEdge>();
 
         QueueReader<MethodOrMethodContext> qr = Scene.v().getReachableMethods().listener();
 
@@ -451,18 +449,11 @@ public class SparkEvaluator {
                 methodToContexts.put(momc.method(), new LinkedHashSet<MethodOrMethodContext>());
 
             methodToContexts.get(momc.method()).add(momc);
-
-            Iterator<Edge> iterator = callGraph.edgesInto(momc);
-            while (iterator.hasNext()) {
-                Edge e = iterator.next();
-                InsensEdge insEdge = new InsensEdge(e);
-                insEdges.add(insEdge);                
-            }
         }
 
         addLine("Reachable Methods: " + reachableMethods.size() );
         addLine("Reachable Method Contexts: " + reachableMethodContexts.size() );        
-        addLine("Callgraph Edges (Insens): " + insEdges.size());
+        addLine("Callgraph Edges (Insens): " + callGraph.contextInsensitive().size());
         addLine("Callgraph Edges (CS): " + callGraph.size());
 
     }
@@ -474,53 +465,4 @@ public class SparkEvaluator {
     public String toString() {
         return report.toString();
     }
-
-    class InsensEdge {
-        SootMethod src;
-        SootMethod dst;
-        Unit srcUnit;
-
-        public InsensEdge(Edge edge) {
-            this.src = edge.src();
-            this.dst = edge.tgt();
-            srcUnit = edge.srcUnit();            
-        }
-
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + getOuterType().hashCode();
-            result = prime * result + ((dst == null) ? 0 : dst.hashCode());
-            result = prime * result + ((src == null) ? 0 : src.hashCode());
-            result = prime * result + ((srcUnit == null) ? 0 : srcUnit.hashCode());
-            return result;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) return true;
-            if (obj == null) return false;
-            if (getClass() != obj.getClass()) return false;
-            InsensEdge other = (InsensEdge) obj;
-            if (!getOuterType().equals(other.getOuterType())) return false;
-            if (dst == null) {
-                if (other.dst != null) return false;
-            } else if (!dst.equals(other.dst)) return false;
-            if (src == null) {
-                if (other.src != null) return false;
-            } else if (!src.equals(other.src)) return false;
-            if (srcUnit == null) {
-                if (other.srcUnit != null) return false;
-            } else if (!srcUnit.equals(other.srcUnit)) return false;
-            return true;
-        }
-
-        private SparkEvaluator getOuterType() {
-            return SparkEvaluator.this;
-        }
-
-        
-
-    }
 }
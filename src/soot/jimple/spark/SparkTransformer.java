@@ -18,6 +18,7 @@
  */
 
 package soot.jimple.spark;
+import java.io.File;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -25,6 +26,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import soot.BodyManager;
 import soot.G;
 import soot.Local;
 import soot.MethodContext;
@@ -46,16 +48,23 @@ import soot.jimple.spark.builder.ObjectSensitiveBuilder;
 import soot.jimple.spark.builder.PAGBuilder;
 import soot.jimple.spark.geom.geomPA.GeomPointsTo;
 import soot.jimple.spark.ondemand.DemandCSPointsTo;
+import soot.jimple.spark.ondemand.DemandQueryService;
 import soot.jimple.spark.pag.AllocDotField;
 import soot.jimple.spark.pag.AllocNode;
+import soot.jimple.spark.pag.ContextBudget;
+import soot.jimple.spark.pag.ContextDepthPolicy;
+import soot.jimple.spark.pag.IncrementalSeeder;
 import soot.jimple.spark.pag.MethodPAG;
 import soot.jimple.spark.pag.NoContext;
 import soot.jimple.spark.pag.Node;
 import soot.jimple.spark.pag.ObjectSensitiveAllocNode;
 import soot.jimple.spark.pag.ObjectSensitiveConfig;
 import soot.jimple.spark.pag.PAG;
+import soot.jimple.spark.pag.PAGSnapshot;
+import soot.jimple.spark.pag.PAGSnapshotWriter;
 import soot.jimple.spark.pag.PAG2HTML;
 import soot.jimple.spark.pag.PAGDumper;
+import soot.jimple.spark.pag.PAGExporter;
 import soot.jimple.spark.pag.StaticInitContext;
 import soot.jimple.spark.pag.VarNode;
 import soot.jimple.spark.sets.P2SetVisitor;
@@ -65,9 +74,12 @@ import soot.jimple.spark.solver.PropAlias;
 import soot.jimple.spark.solver.PropCycle;
 import soot.jimple.spark.solver.PropIter;
 import soot.jimple.spark.solver.PropMerge;
+import soot.jimple.spark.solver.PropParallelWorklist;
 import soot.jimple.spark.solver.PropWorklist;
 import soot.jimple.spark.solver.Propagator;
 import soot.jimple.spark.solver.SCCCollapser;
+import soot.jimple.spark.solver.SolverTelemetry;
+import soot.jimple.spark.solver.SolverTelemetryWriter;
 import soot.jimple.toolkits.callgraph.CallGraphBuilder;
 import soot.jimple.toolkits.callgraph.ObjSensContextManager;
 import soot.jimple.toolkits.callgraph.ReachableMethods;
@@ -99,6 +111,15 @@ public class SparkTransformer extends SceneTransformer
         SparkOptions opts = new SparkOptions( options );
         final String output_dir = SourceLocator.v().getOutputDir();
 
+        if( opts.snapshot_in().length() > 0 ) {
+            Date startLoad = new Date();
+            PAGSnapshot snapshot = PAGSnapshot.load( opts.snapshot_in() );
+            Scene.v().setPointsToAnalysis( snapshot );
+            Scene.v().setCallGraph( snapshot.callGraph() );
+            reportTime( "Loaded PAG snapshot", startLoad, new Date() );
+            return;
+        }
+
         //always reset the obj sens universe because we might switch back and forth 
         //between obj sens and no sens, definitely ugly, but better than passing around
         //global state
@@ -108,6 +129,12 @@ public class SparkTransformer extends SceneTransformer
         // Build pointer assignment graph
         PAGBuilder b;
         if (opts.kobjsens() > 0) {
+            SelectiveContextPreAnalysis selection = null;
+            if (opts.kobjsens_selective()) {
+                selection = new SelectiveContextPreAnalysis(options);
+                selection.run();
+            }
+
             ObjectSensitiveConfig.initialize(
                 opts.kobjsens(),  
                 opts.kobjsens_api_calldepth(),
@@ -118,6 +145,19 @@ public class SparkTransformer extends SceneTransformer
                 opts.kobjsens_types_for_context(),
                 opts.kobjsens_extra_array_context());
 
+            if (selection != null)
+                ObjectSensitiveConfig.v().setSelectedContexts(selection.noContext(), selection.limitHeapContext());
+
+            ContextDepthPolicy depthPolicy = new ContextDepthPolicy();
+            depthPolicy.addRulesFromFile(opts.kobjsens_depth_policy_file());
+            depthPolicy.addRules(opts.kobjsens_depth_policy());
+            ObjectSensitiveConfig.v().setDepthPolicy(depthPolicy);
+
+            ObjectSensitiveConfig.v().setBudget(new ContextBudget(
+                opts.kobjsens_budget_nodes(),
+                opts.kobjsens_budget_method_contexts(),
+                opts.kobjsens_budget_heap()));
+
             b = new ObjectSensitiveBuilder();
             
         } else {
@@ -134,6 +174,13 @@ public class SparkTransformer extends SceneTransformer
         SparkEvaluator.v().begin();
         
         final PAG pag = b.setup( opts );
+        SolverTelemetry telemetry = null;
+        if( opts.telemetry_file().length() > 0 || SolverTelemetry.hasGlobalListeners() ) {
+            telemetry = new SolverTelemetry( pag, opts.telemetry_interval() * 1000L );
+            if( opts.telemetry_file().length() > 0 ) {
+                telemetry.addListener( new SolverTelemetryWriter( opts.telemetry_file() ) );
+            }
+        }
         b.build();
         Date endBuild = new Date();
         reportTime( "Pointer Assignment Graph", startBuild, endBuild );
@@ -174,13 +221,20 @@ public class SparkTransformer extends SceneTransformer
         if( opts.force_gc() ) doGC();
 
         // Dump pag
+        final boolean binaryDump = opts.dump_format() == SparkOptions.dump_format_binary;
         PAGDumper dumper = null;
-        if( opts.dump_pag() || opts.dump_solution() ) {
+        if( ( opts.dump_pag() || opts.dump_solution() ) && !binaryDump ) {
             dumper = new PAGDumper( pag, output_dir );
         }
-        if( opts.dump_pag() ) dumper.dump();
+        if( opts.dump_pag() ) {
+            if( binaryDump ) new PAGExporter( pag ).exportPAG( new File( output_dir, "pag.bin" ).getPath() );
+            else dumper.dump();
+        }
+
+        if( opts.incremental_snapshot().length() > 0 ) seedFromSnapshot( pag, opts, options );
 
         // Propagate
+        if( telemetry != null ) telemetry.phase( "propagate" );
         Date startProp = new Date();
         final Propagator[] propagator = new Propagator[1];
         switch( opts.propagator() ) {
@@ -190,6 +244,9 @@ public class SparkTransformer extends SceneTransformer
             case SparkOptions.propagator_worklist:
                 propagator[0] = new PropWorklist( pag );
                 break;
+            case SparkOptions.propagator_parallel_worklist:
+                propagator[0] = new PropParallelWorklist( pag );
+                break;
             case SparkOptions.propagator_cycle:
                 propagator[0] = new PropCycle( pag );
                 break;
@@ -208,6 +265,15 @@ public class SparkTransformer extends SceneTransformer
         Date endProp = new Date();
         reportTime( "Propagation", startProp, endProp );
         reportTime( "Solution found", startSimplify, endProp );
+        if( pag.getSetPool() != null ) {
+            // Whatever the propagator, no set changes any more
+            pag.getSetPool().internChanged();
+            pag.getSetPool().report();
+        }
+        if( telemetry != null ) {
+            telemetry.finish();
+            pag.setTelemetry( null );
+        }
 
         if( opts.force_gc() ) doGC();
         
@@ -219,13 +285,21 @@ public class SparkTransformer extends SceneTransformer
         if( opts.verbose() ) {
             G.v().out.println( "[Spark] Number of reachable methods: "
                     +Scene.v().getReachableMethods().size() );
+            if( BodyManager.v().isEnabled() ) BodyManager.v().report();
         }
 
         if( opts.set_mass() ) findSetMass( pag );
 
         if( opts.dump_answer() ) new ReachingTypeDumper( pag, output_dir ).dump();
-        if( opts.dump_solution() ) dumper.dumpPointsToSets();
+        if( opts.dump_solution() ) {
+            if( binaryDump ) new PAGExporter( pag ).exportPointsToSets( new File( output_dir, "solution.bin" ).getPath() );
+            else dumper.dumpPointsToSets();
+        }
         if( opts.dump_html() ) new PAG2HTML( pag, output_dir ).dump();
+        if( opts.snapshot_out().length() > 0 ) {
+            new PAGSnapshotWriter( pag, Scene.v().getCallGraph(), options ).write( opts.snapshot_out() );
+        }
+        if( opts.kobjsens() > 0 ) pag.projectContexts();
         Scene.v().setPointsToAnalysis( pag );
         if( opts.add_tags() ) {
             addTags( pag );
@@ -249,7 +323,11 @@ public class SparkTransformer extends SceneTransformer
         if(opts.cs_demand()) {
         		//replace by demand-driven refinement-based context-sensitive analysis
         		Date startOnDemand = new Date();
-        		PointsToAnalysis onDemandAnalysis = DemandCSPointsTo.makeWithBudget(opts.traversal(), opts.passes(), opts.lazy_pts());
+        		DemandCSPointsTo demandCSPointsTo = DemandCSPointsTo.makeWithBudget(opts.traversal(), opts.passes(), opts.lazy_pts());
+        		PointsToAnalysis onDemandAnalysis = demandCSPointsTo;
+        		if(opts.demand_memo() > 0) {
+        			onDemandAnalysis = new DemandQueryService(demandCSPointsTo, opts.demand_memo());
+        		}
         		Date endOndemand = new Date();
         		reportTime( "Initialized on-demand refinement-based context-sensitive analysis", startOnDemand, endOndemand );
         		Scene.v().setPointsToAnalysis(onDemandAnalysis);
@@ -308,6 +386,37 @@ public class SparkTransformer extends SceneTransformer
             }
         }
     }
+    /** Seeds pag with the facts of the incremental snapshot that do not
+     * depend on the changed methods, unless the snapshot was written with
+     * different options or the analysis may coarsen its contexts. */
+    protected void seedFromSnapshot( PAG pag, SparkOptions opts, Map options ) {
+        Date startSeed = new Date();
+        PAGSnapshot snapshot = PAGSnapshot.load( opts.incremental_snapshot() );
+        String refused = null;
+        if( !snapshot.fingerprint().equals( PAGSnapshot.fingerprint( options ) ) ) {
+            refused = "it was written with different Spark options";
+        } else if( opts.kobjsens() > 0 && ( opts.kobjsens_selective()
+                    || ObjectSensitiveConfig.v().budget() != null ) ) {
+            refused = "selective contexts or a context budget are used";
+        }
+        if( refused != null ) {
+            G.v().out.println( "[Spark] Not reusing snapshot "+opts.incremental_snapshot()
+                    +" because "+refused+"; solving from scratch" );
+            return;
+        }
+        IncrementalSeeder seeder = new IncrementalSeeder( pag, snapshot );
+        if( opts.incremental_changed_file().length() > 0 ) {
+            seeder.addChangedMethods( opts.incremental_changed_file() );
+        }
+        int seeded = seeder.seed();
+        if( opts.verbose() ) {
+            G.v().out.println( "[Spark] Variables affected by the changes: "
+                    +seeder.numAffectedVars()+" of "+snapshot.numVarNodes() );
+            G.v().out.println( "[Spark] Points-to facts reused: "+seeded );
+        }
+        reportTime( "Seeded from snapshot", startSeed, new Date() );
+    }
+
     protected static void reportTime( String desc, Date start, Date end ) {
         long time = end.getTime()-start.getTime();
         G.v().out.println( "[Spark] "+desc+" in "+time/1000+"."+(time/100)%10+" seconds." );
@@ -26,12 +26,20 @@ import soot.tagkit.*;
 
 public class FieldTagAggregator extends TagAggregator
 {    
-    public FieldTagAggregator( Singletons.Global g ) {}
+    public FieldTagAggregator( Singletons.Global g ) {
+        // Aggregators of its own, so that a copy of this aggregator shares
+        // no lists with the others
+        reads = new FieldReadTagAggregator( g );
+        writes = new FieldWriteTagAggregator( g );
+    }
     public static FieldTagAggregator v() { return G.v().soot_jimple_spark_fieldrw_FieldTagAggregator(); }
 
+    private final FieldReadTagAggregator reads;
+    private final FieldWriteTagAggregator writes;
+
     protected void internalTransform( Body b, String phaseName, Map options ) {
-        FieldReadTagAggregator.v().transform( b, phaseName, options );
-        FieldWriteTagAggregator.v().transform( b, phaseName, options );
+        reads.transform( b, phaseName, options );
+        writes.transform( b, phaseName, options );
     }
 
     /** Decide whether this tag should be aggregated by this aggregator. */
@@ -19,6 +19,8 @@
 package soot.jimple.spark.geom.geomE;
 
 import java.io.PrintStream;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -184,6 +186,7 @@ public class FullSensitiveNode extends IVarAbstraction
 	public boolean add_points_to_3(AllocNode obj, long I1, long I2,
 			long L) 
 	{			
+		RectangleNode pres = getPres();
 		pres.I1 = I1;
 		pres.I2 = I2;
 		pres.L = L;
@@ -195,6 +198,7 @@ public class FullSensitiveNode extends IVarAbstraction
 	public boolean add_points_to_4(AllocNode obj, long I1, long I2,
 			long L1, long L2) 
 	{
+		RectangleNode pres = getPres();
 		pres.I1 = I1;
 		pres.I2 = I2;
 		pres.L = L1;
@@ -207,6 +211,7 @@ public class FullSensitiveNode extends IVarAbstraction
 	public boolean add_simple_constraint_3(IVarAbstraction qv, long I1,
 			long I2, long L) 
 	{
+		RectangleNode pres = getPres();
 		pres.I1 = I1;
 		pres.I2 = I2;
 		pres.L = L;
@@ -218,6 +223,7 @@ public class FullSensitiveNode extends IVarAbstraction
 	public boolean add_simple_constraint_4(IVarAbstraction qv, long I1,
 			long I2, long L1, long L2) 
 	{
+		RectangleNode pres = getPres();
 		pres.I1 = I1;
 		pres.I2 = I2;
 		pres.L = L1;
@@ -245,6 +251,15 @@ public class FullSensitiveNode extends IVarAbstraction
 	/**
 	 * The place where you implement the pointer assignment reasoning.
 	 */
+	@Override
+	public Collection<? extends IVarAbstraction> getPropagationTargets()
+	{
+		// The field dereferences and the this pointer filter touch other pointers and the type hierarchy
+		if ( complex_cons != null || isThisPointer() )
+			return null;
+		return flowto == null ? Collections.<FullSensitiveNode>emptySet() : flowto.keySet();
+	}
+	
 	@Override
 	public void propagate(GeomPointsTo ptAnalyzer, IWorklist worklist) 
 	{
@@ -746,6 +761,7 @@ public class FullSensitiveNode extends IVarAbstraction
 	 */
 	private boolean addPointsTo(int code, AllocNode obj) 
 	{
+		RectangleNode pres = getPres();
 		GeometricManager gm = pt_objs.get(obj);
 		
 		if ( gm == null ) {
@@ -772,6 +788,7 @@ public class FullSensitiveNode extends IVarAbstraction
 	 */
 	private boolean addFlowsTo(int code, IVarAbstraction qv) 
 	{
+		RectangleNode pres = getPres();
 	    if (flowto == null)
 	        flowto = new HashMap<FullSensitiveNode, GeometricManager>();
 	    
@@ -818,6 +835,7 @@ public class FullSensitiveNode extends IVarAbstraction
 	 */
 	private int infer_pts_is_one_to_one( SegmentNode pts, SegmentNode pe, int code )
 	{
+		RectangleNode pres = getPres();
 		long interI, interJ;
 		
 		// The left-end is the larger one
@@ -852,6 +870,7 @@ public class FullSensitiveNode extends IVarAbstraction
 	 */
 	private int infer_pts_is_many_to_many( RectangleNode pts, SegmentNode pe, int code )
 	{
+		RectangleNode pres = getPres();
 		long interI, interJ;
 		
 		// The left-end is the larger one
@@ -920,6 +939,7 @@ public class FullSensitiveNode extends IVarAbstraction
 	private boolean instantiateLoadConstraint(FullSensitiveNode objn,
 			FullSensitiveNode qn, SegmentNode pts, int code ) 
 	{
+		RectangleNode pres = getPres();
 		int ret_type = GeometricManager.Undefined_Mapping;
 		
 		if ( (code>>8) == GeometricManager.ONE_TO_ONE ) {
@@ -971,6 +991,7 @@ public class FullSensitiveNode extends IVarAbstraction
 	private boolean instantiateStoreConstraint(FullSensitiveNode qn,
 			FullSensitiveNode objn, SegmentNode pts, int code) 
 	{
+		RectangleNode pres = getPres();
 		int ret_type = GeometricManager.Undefined_Mapping;
 		
 		if ( (code>>8) == GeometricManager.ONE_TO_ONE ) {
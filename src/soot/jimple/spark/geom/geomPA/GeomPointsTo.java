@@ -90,6 +90,9 @@ public class GeomPointsTo extends PAG
 	// Other choice, FIFO_Worklist
 	protected IWorklist worklist = null;
 	
+	// The solver that propagates on a pool of threads, if more than one thread is used
+	protected ParallelSolver parallelSolver = null;
+	
 	// The generator that is used to generate the internal representations for the pointers and objects
 	protected IEncodingBroker nodeGenerator = null;
 	
@@ -247,6 +250,13 @@ public class GeomPointsTo extends PAG
     		break;
     	}
     	
+    	// The number of threads for propagation
+    	int n_threads = opts.geom_threads();
+    	if ( n_threads <= 0 )
+    		n_threads = Runtime.getRuntime().availableProcessors();
+    	if ( n_threads > 1 )
+    		parallelSolver = new ParallelSolver( this, n_threads );
+    	
     	// We dump the processing statistics to an external file if needed by the user
     	dump_dir = opts.geom_dump_verbose();
     	if ( !dump_dir.isEmpty() ) {
@@ -739,6 +749,11 @@ public class GeomPointsTo extends PAG
 	 */
 	private void solveConstraints() 
 	{
+		if ( parallelSolver != null ) {
+			parallelSolver.solve( worklist );
+			return;
+		}
+		
 		while (worklist.has_job()) {
 			IVarAbstraction pn = worklist.next();
 //			ps.printf( " pointer %d has %d new points-to tuple\n", pn.id, pn.count_new_pts_intervals() );
@@ -1078,6 +1093,9 @@ public class GeomPointsTo extends PAG
 		ps.println();
 		ps.printf("[Geom] Preprocessing time : %.2f seconds\n", (double) prepare_time / 1000);
 		ps.printf("[Geom] Main propagation time : %.2f seconds\n", (double) solve_time / 1000 );
+		if ( parallelSolver != null )
+			ps.printf("[Geom] Parallel propagation : %d waves, %d pointers in parallel, %d alone\n",
+					parallelSolver.n_waves, parallelSolver.n_parallel, parallelSolver.n_alone );
 		ps.printf("[Geom] Memory used : %.1f MB\n", (double) (mem) / 1024 / 1024 );
 		
 		// Finish points-to analysis and prepare for querying
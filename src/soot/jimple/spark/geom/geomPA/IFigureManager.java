@@ -32,6 +32,8 @@ public abstract class IFigureManager
 	// We implement an internal memory manager here
 	private static SegmentNode segHeader = null;
 	private static SegmentNode rectHeader = null;
+	// When figures are made by several threads, the cache is bypassed
+	private static boolean concurrent = false;
 	
 	/**
 	 * Generate a segment node from our own cache.
@@ -41,7 +43,7 @@ public abstract class IFigureManager
 	{
 		SegmentNode ret = null;
 		
-		if ( segHeader != null ) {
+		if ( !concurrent && segHeader != null ) {
 			ret = segHeader;
 			segHeader = ret.next;
 			ret.next = null;
@@ -62,7 +64,7 @@ public abstract class IFigureManager
 	{
 		RectangleNode ret = null;
 		
-		if ( rectHeader != null ) {
+		if ( !concurrent && rectHeader != null ) {
 			ret = (RectangleNode)rectHeader;
 			rectHeader = ret.next;
 			ret.next = null;
@@ -82,6 +84,7 @@ public abstract class IFigureManager
 	protected static SegmentNode reclaimSegmentNode( SegmentNode p )
 	{
 		SegmentNode q = p.next;
+		if ( concurrent ) return q;
 		p.next = segHeader;
 		segHeader = p;
 		return q;
@@ -95,6 +98,7 @@ public abstract class IFigureManager
 	protected static SegmentNode reclaimRectangleNode( SegmentNode p )
 	{
 		SegmentNode q = p.next;
+		if ( concurrent ) return q;
 		p.next = rectHeader;
 		rectHeader = p;
 		return q;
@@ -109,6 +113,16 @@ public abstract class IFigureManager
 		rectHeader = null;
 	}
 	
+	/**
+	 * Tells the managers whether figures are made and reclaimed by several threads at once.
+	 * The cached memory is not used in the meantime.
+	 * @param b
+	 */
+	public static void setConcurrent( boolean b )
+	{
+		concurrent = b;
+	}
+	
 	
 	// Get the information of the figures
 	public abstract SegmentNode[] getFigures();
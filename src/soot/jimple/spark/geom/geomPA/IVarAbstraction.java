@@ -19,6 +19,7 @@
 package soot.jimple.spark.geom.geomPA;
 
 import java.io.PrintStream;
+import java.util.Collection;
 import java.util.Set;
 
 import soot.Scene;
@@ -27,6 +28,7 @@ import soot.jimple.spark.geom.dataMgr.PtSensVisitor;
 import soot.jimple.spark.geom.dataRep.PlainConstraint;
 import soot.jimple.spark.geom.dataRep.RectangleNode;
 import soot.jimple.spark.pag.AllocNode;
+import soot.jimple.spark.pag.LocalVarNode;
 import soot.jimple.spark.pag.Node;
 import soot.util.Numberable;
 
@@ -46,12 +48,38 @@ public abstract class IVarAbstraction implements Numberable
 	protected static IFigureManager deadManager = null;
 	// A temporary rectangle holds the candidate figure 
 	protected static RectangleNode pres = null;
+	// When several threads propagate, each one uses its own temporary rectangle instead
+	private static boolean concurrent = false;
+	private static final ThreadLocal<RectangleNode> threadPres = new ThreadLocal<RectangleNode>() {
+		@Override
+		protected RectangleNode initialValue() {
+			return new RectangleNode();
+		}
+	};
 	
 	static {
 		// Initialize the static fields
 		ptsProvider = (GeomPointsTo)Scene.v().getPointsToAnalysis();
 	}
 	
+	/**
+	 * Tells the pointers whether they are propagated by several threads at once.
+	 * @param b
+	 */
+	public static void setConcurrent( boolean b )
+	{
+		concurrent = b;
+	}
+	
+	/**
+	 * Obtain the temporary rectangle of the current thread.
+	 * @return
+	 */
+	protected static RectangleNode getPres()
+	{
+		return concurrent ? threadPres.get() : pres;
+	}
+	
 	// Corresponding SPARK node
 	public Node me;
 	// The integer mapping for this node
@@ -84,6 +112,15 @@ public abstract class IVarAbstraction implements Numberable
 		return me.getType();
 	}
 	
+	/**
+	 * Test if this pointer is the this pointer of a method, whose points-to facts are filtered by the dispatch.
+	 * @return
+	 */
+	public boolean isThisPointer()
+	{
+		return me instanceof LocalVarNode && ((LocalVarNode) me).isThisPtr();
+	}
+	
 	public boolean lessThan( IVarAbstraction other )
 	{
 		// NEED IMPROVE
@@ -145,6 +182,17 @@ public abstract class IVarAbstraction implements Numberable
 	public abstract void do_after_propagation();
 	public abstract void propagate(GeomPointsTo ptAnalyzer, IWorklist worklist);
 	
+	/**
+	 * Obtain the pointers, other than this one, whose points-to information may be changed when this pointer is propagated.
+	 * The parallel solver only propagates together the pointers whose sets are disjoint.
+	 * @return null if they cannot be known before the propagation, e.g. because of the field dereferences,
+	 * in which case this pointer is propagated alone
+	 */
+	public Collection<? extends IVarAbstraction> getPropagationTargets()
+	{
+		return null;
+	}
+	
 	
 	// Manipulate points-to results
 	public abstract void drop_duplicates();
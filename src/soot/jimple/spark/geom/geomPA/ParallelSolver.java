@@ -0,0 +1,283 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+package soot.jimple.spark.geom.geomPA;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Solves the geometric constraints on a pool of threads.
+ *
+ * The pointers on the worklist are taken out together and split into waves, in worklist order.
+ * A pointer joins the current wave if neither it nor any of the pointers it propagates to
+ * is already claimed by a pointer of that wave; otherwise it waits for a later wave.
+ * The pointers of a wave thus update disjoint sets of pointers, and are propagated concurrently,
+ * each one owning its targets. Pointers that dereference fields, or are filtered by the dispatch,
+ * may touch other pointers, so they are propagated alone after the wave.
+ *
+ * The pointers to process next are pushed onto the worklist in wave order once the wave is over.
+ * Since the waves only depend on the worklist, the result does not depend on the number of threads
+ * or on the scheduling.
+ *
+ * @author agent
+ *
+ */
+public class ParallelSolver
+{
+	// Waves smaller than this are propagated on the calling thread
+	private static final int MIN_PARALLEL_WAVE = 4;
+
+	private final GeomPointsTo ptAnalyzer;
+	private final int n_threads;
+	private ExecutorService executor = null;
+	// The last wave in which each pointer was claimed, indexed by pointer id
+	private int[] claimed = new int[0];
+	private int wave_id = 0;
+
+	// Statistics
+	public int n_waves = 0, n_parallel = 0, n_alone = 0;
+
+	public ParallelSolver( GeomPointsTo ptAnalyzer, int n_threads )
+	{
+		this.ptAnalyzer = ptAnalyzer;
+		this.n_threads = n_threads;
+	}
+
+	/**
+	 * Propagate until the worklist is empty.
+	 * @param worklist
+	 */
+	public void solve( IWorklist worklist )
+	{
+		executor = Executors.newFixedThreadPool( n_threads, new ThreadFactory() {
+			private int count = 0;
+
+			@Override
+			public Thread newThread( Runnable r ) {
+				Thread t = new Thread( r, "geom-solver-" + (++count) );
+				t.setDaemon( true );
+				return t;
+			}
+		} );
+		ptAnalyzer.getTypeManager().setConcurrent( true );
+		IFigureManager.setConcurrent( true );
+		IVarAbstraction.setConcurrent( true );
+
+		try {
+			List<IVarAbstraction> pending = new ArrayList<IVarAbstraction>();
+
+			while ( worklist.has_job() ) {
+				// Take out all the pointers currently on the worklist
+				pending.clear();
+				while ( worklist.has_job() )
+					pending.add( worklist.next() );
+
+				while ( pending.size() != 0 )
+					pending = runWave( pending, worklist );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+			executor = null;
+			IVarAbstraction.setConcurrent( false );
+			IFigureManager.setConcurrent( false );
+			ptAnalyzer.getTypeManager().setConcurrent( false );
+		}
+	}
+
+	/**
+	 * Propagate one wave picked from the pending pointers.
+	 * @return the pointers left for later waves
+	 */
+	private List<IVarAbstraction> runWave( List<IVarAbstraction> pending, IWorklist worklist )
+	{
+		List<IVarAbstraction> wave = new ArrayList<IVarAbstraction>();
+		List<IVarAbstraction> alone = new ArrayList<IVarAbstraction>();
+		List<IVarAbstraction> deferred = new ArrayList<IVarAbstraction>();
+
+		++wave_id;
+		for ( IVarAbstraction pn : pending ) {
+			Collection<? extends IVarAbstraction> targets = pn.getPropagationTargets();
+
+			if ( targets == null ) {
+				alone.add( pn );
+				continue;
+			}
+
+			if ( isClaimed( pn ) ) {
+				deferred.add( pn );
+				continue;
+			}
+
+			boolean free = true;
+			for ( IVarAbstraction qn : targets ) {
+				if ( isClaimed( qn ) ) {
+					free = false;
+					break;
+				}
+			}
+
+			if ( !free ) {
+				deferred.add( pn );
+				continue;
+			}
+
+			claim( pn );
+			for ( IVarAbstraction qn : targets )
+				claim( qn );
+			wave.add( pn );
+		}
+
+		++n_waves;
+		n_parallel += wave.size();
+		n_alone += alone.size();
+
+		// Propagate the wave, collecting the pointers to push in wave order
+		List<List<IVarAbstraction>> pushed = propagateWave( wave );
+		for ( List<IVarAbstraction> l : pushed ) {
+			for ( IVarAbstraction qn : l )
+				worklist.push( qn );
+		}
+
+		// The pointers that may touch anything are propagated one by one
+		for ( IVarAbstraction pn : alone )
+			propagate( pn, worklist );
+
+		return deferred;
+	}
+
+	private List<List<IVarAbstraction>> propagateWave( final List<IVarAbstraction> wave )
+	{
+		final List<List<IVarAbstraction>> pushed = new ArrayList<List<IVarAbstraction>>( wave.size() );
+		for ( int i = 0; i < wave.size(); ++i )
+			pushed.add( null );
+
+		if ( wave.size() < MIN_PARALLEL_WAVE ) {
+			runChunk( wave, pushed, 0, wave.size() );
+			return pushed;
+		}
+
+		int n_chunks = Math.min( n_threads * 4, wave.size() );
+		List<Callable<Object>> tasks = new ArrayList<Callable<Object>>( n_chunks );
+		for ( int c = 0; c < n_chunks; ++c ) {
+			final int begin = (int) ((long) wave.size() * c / n_chunks);
+			final int end = (int) ((long) wave.size() * (c + 1) / n_chunks);
+			tasks.add( new Callable<Object>() {
+				@Override
+				public Object call() {
+					runChunk( wave, pushed, begin, end );
+					return null;
+				}
+			} );
+		}
+
+		try {
+			for ( Future<Object> f : executor.invokeAll( tasks ) )
+				f.get();
+		}
+		catch ( InterruptedException e ) {
+			throw new RuntimeException( e );
+		}
+		catch ( ExecutionException e ) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException )
+				throw (RuntimeException) cause;
+			if ( cause instanceof Error )
+				throw (Error) cause;
+			throw new RuntimeException( cause );
+		}
+
+		return pushed;
+	}
+
+	private void runChunk( List<IVarAbstraction> wave, List<List<IVarAbstraction>> pushed, int begin, int end )
+	{
+		for ( int i = begin; i < end; ++i ) {
+			CollectingWorklist local = new CollectingWorklist();
+			propagate( wave.get(i), local );
+			pushed.set( i, local.pushed );
+		}
+	}
+
+	private void propagate( IVarAbstraction pn, IWorklist worklist )
+	{
+		pn.do_before_propagation();
+		pn.propagate( ptAnalyzer, worklist );
+		pn.do_after_propagation();
+	}
+
+	private boolean isClaimed( IVarAbstraction pn )
+	{
+		return pn.id < claimed.length && claimed[pn.id] == wave_id;
+	}
+
+	private void claim( IVarAbstraction pn )
+	{
+		if ( pn.id >= claimed.length ) {
+			int[] new_claimed = new int[ Math.max( pn.id + 1, claimed.length * 2 ) ];
+			System.arraycopy( claimed, 0, new_claimed, 0, claimed.length );
+			claimed = new_claimed;
+		}
+		claimed[pn.id] = wave_id;
+	}
+
+	/**
+	 * Records the pointers pushed by one propagation, in order, without touching the pointers.
+	 */
+	private static class CollectingWorklist implements IWorklist
+	{
+		final List<IVarAbstraction> pushed = new ArrayList<IVarAbstraction>();
+
+		@Override
+		public void initialize( int size ) {
+		}
+
+		@Override
+		public boolean has_job() {
+			return false;
+		}
+
+		@Override
+		public IVarAbstraction next() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void push( IVarAbstraction p ) {
+			pushed.add( p );
+		}
+
+		@Override
+		public int size() {
+			return pushed.size();
+		}
+
+		@Override
+		public void clear() {
+			pushed.clear();
+		}
+	}
+}
@@ -7,6 +7,8 @@
 package soot.jimple.spark.geom.heapinsE;
 
 import java.io.PrintStream;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -171,6 +173,7 @@ public class HeapInsNode extends IVarAbstraction
 	@Override
 	public boolean add_points_to_3(AllocNode obj, long I1, long I2, long L) 
 	{	
+		RectangleNode pres = getPres();
 		int code = 0;
 		
 		pres.I1 = I1;
@@ -195,6 +198,7 @@ public class HeapInsNode extends IVarAbstraction
 	@Override
 	public boolean add_simple_constraint_3(IVarAbstraction qv, long I1, long I2, long L) 
 	{
+		RectangleNode pres = getPres();
 		int code = 0;
 		
 		pres.I1 = I1;
@@ -238,6 +242,15 @@ public class HeapInsNode extends IVarAbstraction
 	/**
 	 * An efficient implementation of differential propagation.
 	 */
+	@Override
+	public Collection<? extends IVarAbstraction> getPropagationTargets()
+	{
+		// The field dereferences and the this pointer filter touch other pointers and the type hierarchy
+		if ( complex_cons != null || isThisPointer() )
+			return null;
+		return flowto == null ? Collections.<HeapInsNode>emptySet() : flowto.keySet();
+	}
+	
 	@Override
 	public void propagate(GeomPointsTo ptAnalyzer, IWorklist worklist) 
 	{
@@ -641,6 +654,7 @@ public class HeapInsNode extends IVarAbstraction
 	
 	private boolean addPointsTo( int code, AllocNode obj )
 	{
+		RectangleNode pres = getPres();
 		HeapInsIntervalManager im = pt_objs.get(obj);
 		
 		if ( im == null ) {
@@ -663,6 +677,7 @@ public class HeapInsNode extends IVarAbstraction
 	
 	private boolean addFlowsTo( int code, HeapInsNode qv )
 	{
+		RectangleNode pres = getPres();
 		HeapInsIntervalManager im = flowto.get(qv);
 		
 		if ( im == null ) {
@@ -678,6 +693,7 @@ public class HeapInsNode extends IVarAbstraction
 	private boolean add_new_points_to_tuple( SegmentNode pts, SegmentNode pe, 
 			AllocNode obj, HeapInsNode qn )
 	{
+		RectangleNode pres = getPres();
 		long interI, interJ;
 		int code = 0;
 		
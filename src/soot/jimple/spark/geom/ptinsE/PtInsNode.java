@@ -19,6 +19,8 @@
 package soot.jimple.spark.geom.ptinsE;
 
 import java.io.PrintStream;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -183,6 +185,7 @@ public class PtInsNode extends IVarAbstraction
 	@Override
 	public boolean add_points_to_3(AllocNode obj, long I1, long I2, long L) 
 	{
+		RectangleNode pres = getPres();
 		int code = 0;
 		
 		pres.I1 = I1;
@@ -207,6 +210,7 @@ public class PtInsNode extends IVarAbstraction
 	@Override
 	public boolean add_simple_constraint_3(IVarAbstraction qv, long I1, long I2, long L) 
 	{
+		RectangleNode pres = getPres();
 		int code = 0;
 		
 		pres.I1 = I1;
@@ -251,6 +255,15 @@ public class PtInsNode extends IVarAbstraction
 	/**
 	 * An efficient implementation of differential propagation.
 	 */
+	@Override
+	public Collection<? extends IVarAbstraction> getPropagationTargets()
+	{
+		// The field dereferences and the this pointer filter touch other pointers and the type hierarchy
+		if ( complex_cons != null || isThisPointer() )
+			return null;
+		return flowto == null ? Collections.<PtInsNode>emptySet() : flowto.keySet();
+	}
+	
 	@Override
 	public void propagate(GeomPointsTo ptAnalyzer, IWorklist worklist) 
 	{
@@ -654,6 +667,7 @@ public class PtInsNode extends IVarAbstraction
 	
 	private boolean addPointsTo( int code, AllocNode obj )
 	{
+		RectangleNode pres = getPres();
 		PtInsIntervalManager im = pt_objs.get(obj);
 		
 		if ( im == null ) {
@@ -676,6 +690,7 @@ public class PtInsNode extends IVarAbstraction
 	
 	private boolean addFlowsTo( int code, PtInsNode qv )
 	{
+		RectangleNode pres = getPres();
 		PtInsIntervalManager im = flowto.get(qv);
 		
 		if ( im == null ) {
@@ -691,6 +706,7 @@ public class PtInsNode extends IVarAbstraction
 	private boolean add_new_points_to_tuple( SegmentNode pts, SegmentNode pe, 
 			AllocNode obj, PtInsNode qn )
 	{
+		RectangleNode pres = getPres();
 		long interI, interJ;
 		int code = 0;
 
@@ -64,36 +64,12 @@ public final class TypeManager {
 
     final public BitVector get( Type type ) {
         if( type == null ) return null;
-        while(allocNodeListener.hasNext()) {
-            AllocNode n = (AllocNode) allocNodeListener.next();
-            for( Iterator tIt = Scene.v().getTypeNumberer().iterator(); tIt.hasNext(); ) {
-                final Type t = (Type) tIt.next();
-                if( !(t instanceof RefLikeType) ) continue;
-                if( t instanceof AnySubType ) continue;
-                if( isUnresolved(t) ) continue;
-                if( castNeverFails( n.getType(), t ) ) {
-                    BitVector mask = (BitVector) typeMask.get( t );
-                    if( mask == null ) {
-                        typeMask.put( t, mask = new BitVector() );
-                        for( Iterator anIt = pag.getAllocNodeNumberer().iterator(); anIt.hasNext(); ) {
-                            final AllocNode an = (AllocNode) anIt.next();
-                            if( castNeverFails( an.getType(), t ) ) {
-                                mask.set( an.getNumber() );
-                            }
-                        }
-                        continue;
-                    }
-                    mask.set( n.getNumber() );
-                }
+        if( concurrent ) {
+            synchronized( this ) {
+                return getMask( type, true );
             }
         }
-        BitVector ret = (BitVector) typeMask.get( type );
-        /* MIG: removed because it seems as if all calling method will handled a returned null mask 
-         * conservatively
-        if( ret == null && fh != null ) throw new RuntimeException( "Type mask not found for type "+type );
-        
-        */
-        return ret;
+        return getMask( type, false );
     }
     
     // LWG: typeMask is used to filter out AllocNodes whose types are incompatible with the given
@@ -108,6 +84,47 @@ public final class TypeManager {
     // only computes the type mask for a subset of alloc nodes where the information is needed.
     final public BitVector get( Type type, BitVector target ) {
         if( type == null ) return null;
+        if( concurrent ) {
+            synchronized( this ) {
+                return getMask( type, target, true );
+            }
+        }
+        return getMask( type, target, false );
+    }
+
+    /** Same as get( Type, BitVector ), for the alloc nodes in a
+     * ChunkedBitVector. */
+    final public BitVector get( Type type, ChunkedBitVector target ) {
+        if( type == null ) return null;
+        if( concurrent ) {
+            synchronized( this ) {
+                return getMask( type, target, true );
+            }
+        }
+        return getMask( type, target, false );
+    }
+
+    private BitVector getMask( Type type, BitVector target, boolean growByCopy ) {
+        BitVector mask = masks( type, target.size(), growByCopy );
+        BitVector negativeMask = (BitVector) negativeTypeMask.get( type );
+        for( BitSetIterator it = target.iterator(); it.hasNext(); ) {
+            classify( type, it.next(), mask, negativeMask );
+        }
+        return mask;
+    }
+
+    private BitVector getMask( Type type, ChunkedBitVector target, boolean growByCopy ) {
+        BitVector mask = masks( type, target.length(), growByCopy );
+        BitVector negativeMask = (BitVector) negativeTypeMask.get( type );
+        for( ChunkedBitSetIterator it = target.iterator(); it.hasNext(); ) {
+            classify( type, it.next(), mask, negativeMask );
+        }
+        return mask;
+    }
+
+    /** Returns the type mask of type, creating it and its negative mask
+     * if needed. */
+    private BitVector masks( Type type, int size, boolean growByCopy ) {
         BitVector negativeMask = (BitVector) negativeTypeMask.get( type );
         BitVector mask = (BitVector) typeMask.get( type );
         if (negativeMask == null) {
@@ -118,19 +135,44 @@ public final class TypeManager {
         	mask = new BitVector();
         	typeMask.put( type, mask);
         }
-        for( BitSetIterator it = target.iterator(); it.hasNext(); ) {
-            int allocNodeNum = it.next();
-            if (!mask.get(allocNodeNum) && !negativeMask.get(allocNodeNum)) {
-            	AllocNode allocNode = (AllocNode) pag.getAllocNodeNumberer().get(allocNodeNum);
-            	if (castNeverFails(allocNode.getType(), type))
-            		mask.set(allocNodeNum);
-            	else
-            		negativeMask.set(allocNodeNum);
-            }
+        // Other threads may be reading a mask we handed out earlier, so
+        // never resize it in place; publish a larger copy instead.
+        if( growByCopy && mask.size() < size ) {
+            BitVector grown = new BitVector( size );
+            grown.or( mask );
+            typeMask.put( type, mask = grown );
         }
         return mask;
     }
 
+    /** Same as get( Type, BitVector ), for all the alloc nodes made so
+     * far. The mask of each type remembers how many alloc nodes it has
+     * looked at, so each alloc node is classified once per type. */
+    private BitVector getMask( Type type, boolean growByCopy ) {
+        int last = pag.getAllocNodeNumberer().size();
+        BitVector mask = masks( type, last+1, growByCopy );
+        BitVector negativeMask = (BitVector) negativeTypeMask.get( type );
+        int number = type.getNumber();
+        if( number >= classified.length ) {
+            classified = Arrays.copyOf( classified, Math.max( number+1, 2*classified.length ) );
+        }
+        for( int i = classified[number]+1; i <= last; i++ ) {
+            classify( type, i, mask, negativeMask );
+        }
+        classified[number] = last;
+        return mask;
+    }
+
+    private void classify( Type type, int allocNodeNum, BitVector mask, BitVector negativeMask ) {
+        if (!mask.get(allocNodeNum) && !negativeMask.get(allocNodeNum)) {
+        	AllocNode allocNode = (AllocNode) pag.getAllocNodeNumberer().get(allocNodeNum);
+        	if (castNeverFails(allocNode.getType(), type))
+        		mask.set(allocNodeNum);
+        	else
+        		negativeMask.set(allocNodeNum);
+        }
+    }
+
     final public void clearTypeMask() {
         typeMask = null;
     }
@@ -141,6 +183,7 @@ public final class TypeManager {
 //        RefType.v( "java.lang.Class" );
         negativeTypeMask = new LargeNumberedMap<Type, BitVector>( typeNumberer );
         typeMask = new LargeNumberedMap<Type, BitVector>( typeNumberer );
+        classified = new int[typeNumberer.size()+1];
 
         // LWG: The following typeMask initialization code is commented out because
         // the typeMask entries are now computed only when necessary
@@ -206,6 +249,15 @@ public final class TypeManager {
         if( dst == null ) return true;
         if( dst == src ) return true;
         if( src == null ) return false;
+        if( concurrent ) {
+            synchronized( this ) {
+                return cachedCastNeverFails( src, dst );
+            }
+        }
+        return cachedCastNeverFails( src, dst );
+    }
+
+    private boolean cachedCastNeverFails( Type src, Type dst ) {
         int size = Scene.v().getTypeNumberer().size();
         BitVector trueCache = (BitVector) castNeverFailsTrueCache.get(src);
         if (trueCache == null) {
@@ -243,11 +295,19 @@ public final class TypeManager {
         return fh.canStoreType( src, dst );
     }
     public void setFastHierarchy( FastHierarchy fh ) { this.fh = fh; }
+    /** Guards the lazily filled type mask and cast caches with this
+     * object's monitor, so that points-to sets may be updated from
+     * several threads at once. */
+    public void setConcurrent( boolean concurrent ) { this.concurrent = concurrent; }
+    public boolean isConcurrent() { return concurrent; }
     public FastHierarchy getFastHierarchy() { return fh; }
 
     protected FastHierarchy fh = null;
     protected PAG pag;
-    protected QueueReader allocNodeListener = null;
+    protected boolean concurrent = false;
+    /** For each type number, the number of the last alloc node that
+     * get( Type ) classified against the type. */
+    private int[] classified = new int[0];
     // ** new methods
     private void initClass2allocs() {
         Iterator allocIt = pag.getAllocNodeNumberer().iterator();
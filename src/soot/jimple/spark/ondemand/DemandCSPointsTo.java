@@ -101,6 +101,22 @@ public final class DemandCSPointsTo implements PointsToAnalysis {
 			HashSetMultiMap<CallSiteAndContext, SootMethod> {
 	}
 
+	/**
+	 * The caches filled by the passes of a batch that ran with the same
+	 * settings.
+	 */
+	protected static final class PassCaches {
+		final AllocAndContextCache allocAndContextCache = new AllocAndContextCache();
+
+		final CallSiteToTargetsMap callSiteToResolvedTargets = new CallSiteToTargetsMap();
+
+		final Set<CallSiteAndContext> queriedCallSites = new HashSet<CallSiteAndContext>();
+
+		final Map<VarAndContext, Pair<PointsToSetInternal, AllocAndContextSet>> contextsForAllocsCache = new HashMap<VarAndContext, Pair<PointsToSetInternal, AllocAndContextSet>>();
+
+		final Map<VarContextAndUp, Map<AllocAndContext, CallingContextSet>> upContextCache = new HashMap<VarContextAndUp, Map<AllocAndContext, CallingContextSet>>();
+	}
+
 	protected static abstract class IncomingEdgeHandler {
 
 		public abstract void handleAlloc(AllocNode allocNode,
@@ -220,11 +236,11 @@ public final class DemandCSPointsTo implements PointsToAnalysis {
 		return new DemandCSPointsTo(csInfo, pag, maxTraversal, maxPasses, lazy);
 	}
 
-	protected final AllocAndContextCache allocAndContextCache = new AllocAndContextCache();
+	protected AllocAndContextCache allocAndContextCache = new AllocAndContextCache();
 
 	protected Stack<Pair<Integer, ImmutableStack<Integer>>> callGraphStack = new Stack<Pair<Integer, ImmutableStack<Integer>>>();
 
-	protected final CallSiteToTargetsMap callSiteToResolvedTargets = new CallSiteToTargetsMap();
+	protected CallSiteToTargetsMap callSiteToResolvedTargets = new CallSiteToTargetsMap();
 
 	protected HashMap<List<Object>, Set<SootMethod>> callTargetsArgCache = new HashMap<List<Object>, Set<SootMethod>>();
 
@@ -262,7 +278,7 @@ public final class DemandCSPointsTo implements PointsToAnalysis {
 
 	protected AllocAndContextSet pointsTo = null;
 
-	protected final Set<CallSiteAndContext> queriedCallSites = new HashSet<CallSiteAndContext>();
+	protected Set<CallSiteAndContext> queriedCallSites = new HashSet<CallSiteAndContext>();
 
 	protected int recursionDepth = -1;
 
@@ -278,6 +294,21 @@ public final class DemandCSPointsTo implements PointsToAnalysis {
 
     protected boolean useCache;
 
+	/**
+	 * The caches of the passes of the current batch, by the settings they
+	 * ran with; null if no batch is running.
+	 */
+	protected Map<String, PassCaches> batchCaches;
+
+	/** the settings the current pass runs with, in a batch */
+	protected String passSettings;
+
+	/**
+	 * <code>true</code> if the current pass ran out of budget, and left
+	 * its caches unfinished
+	 */
+	protected boolean passTerminated;
+
 	private final boolean lazy;
 
 	public DemandCSPointsTo(ContextSensitiveInfo csInfo, PAG pag) {
@@ -578,20 +609,57 @@ public final class DemandCSPointsTo implements PointsToAnalysis {
 	}
 
 	protected void clearState() {
-		allocAndContextCache.clear();
 		callGraphStack.clear();
-		callSiteToResolvedTargets.clear();
-		queriedCallSites.clear();
-		contextsForAllocsCache.clear();
 		contextForAllocsStack.clear();
-		upContextCache.clear();
-		callTargetsArgCache.clear();
+		if (batchCaches != null) {
+			usePassCaches();
+		} else {
+			allocAndContextCache.clear();
+			callSiteToResolvedTargets.clear();
+			queriedCallSites.clear();
+			contextsForAllocsCache.clear();
+			upContextCache.clear();
+			callTargetsArgCache.clear();
+		}
+		passTerminated = false;
 		sccManager = new OTFMethodSCCManager();
 		numNodesTraversed = 0;
 		nesting = 0;
 		recursionDepth = -1;
 	}
 
+	/**
+	 * Starts the next pass of a batch on the caches of the earlier passes
+	 * that ran with the same settings and a heuristic that prints the same,
+	 * which traversed the graph the way this pass will. The caches of a
+	 * pass that ran out of budget hold half-done entries, and are dropped.
+	 */
+	protected void usePassCaches() {
+		if (passTerminated) {
+			batchCaches.remove(passSettings);
+		}
+		passSettings = doPointsTo + " " + refineCallGraph + " "
+				+ fieldCheckHeuristic;
+		PassCaches caches = batchCaches.get(passSettings);
+		if (caches == null) {
+			caches = new PassCaches();
+			batchCaches.put(passSettings, caches);
+		}
+		allocAndContextCache = caches.allocAndContextCache;
+		callSiteToResolvedTargets = caches.callSiteToResolvedTargets;
+		queriedCallSites = caches.queriedCallSites;
+		contextsForAllocsCache = caches.contextsForAllocsCache;
+		upContextCache = caches.upContextCache;
+	}
+
+	/**
+	 * Marks the current pass as out of budget.
+	 */
+	protected TerminateEarlyException terminateEarly() {
+		passTerminated = true;
+		return new TerminateEarlyException();
+	}
+
 	/**
 	 * compute a flows-to set for an allocation site. for now, we use a simple
 	 * refinement strategy; just refine as much as possible, maintaining the
@@ -782,7 +850,7 @@ public final class DemandCSPointsTo implements PointsToAnalysis {
 					}
 				} else if (contextForAllocsStack.size() - oldIndex > 5) {
 					// just give up
-					throw new TerminateEarlyException();
+					throw terminateEarly();
 				}
 			}
 		}
@@ -1093,7 +1161,7 @@ public final class DemandCSPointsTo implements PointsToAnalysis {
 						// but possible
 						// reachedGlobal = true;
 						// // for now, just give up
-						throw new TerminateEarlyException();
+						throw terminateEarly();
 					}
 					return src.getP2Set().contains(alloc);
 				}
@@ -1452,7 +1520,7 @@ public final class DemandCSPointsTo implements PointsToAnalysis {
 	protected void incrementNodesTraversed() {
 		numNodesTraversed++;
 		if (numNodesTraversed > maxNodesPerPass) {
-			throw new TerminateEarlyException();
+			throw terminateEarly();
 		}
 	}
 
@@ -1656,7 +1724,7 @@ public final class DemandCSPointsTo implements PointsToAnalysis {
 				}
 				// TODO properly collapse recursive methods
 				if (true) {
-					throw new TerminateEarlyException();
+					throw terminateEarly();
 				}
 				Set<SootMethod> toBeCollapsed = new ArraySet<SootMethod>();
 				int callSiteInd = 0;
@@ -2173,6 +2241,13 @@ public final class DemandCSPointsTo implements PointsToAnalysis {
 	    useCache = false;
 	}
 	
+	/**
+	 * @return <code>true</code> if reachingObjects(Local) returns lazy sets
+	 */
+	public boolean isLazy() {
+	    return lazy;
+	}
+	
 	/**
 	 * clears the cache
 	 */
@@ -2181,6 +2256,33 @@ public final class DemandCSPointsTo implements PointsToAnalysis {
         reachingObjectsCacheNoCGRefinement.clear();
 	}
 
+	/**
+	 * Starts a batch of queries: until {@link #endBatch()}, a pass keeps
+	 * what the earlier passes with the same heuristic found, instead of
+	 * starting from empty caches. A pass that answers from these caches
+	 * does not show its heuristic the fields checked on the way to the
+	 * cached answers, so a query of a batch may be refined over fewer
+	 * fields than it would be alone; its answer is still sound.
+	 */
+	public void beginBatch() {
+		batchCaches = new HashMap<String, PassCaches>();
+		passTerminated = false;
+	}
+
+	/**
+	 * Ends the batch, and frees its caches.
+	 */
+	public void endBatch() {
+		batchCaches = null;
+		passSettings = null;
+		allocAndContextCache = new AllocAndContextCache();
+		callSiteToResolvedTargets = new CallSiteToTargetsMap();
+		queriedCallSites = new HashSet<CallSiteAndContext>();
+		contextsForAllocsCache = new HashMap<VarAndContext, Pair<PointsToSetInternal, AllocAndContextSet>>();
+		upContextCache = new HashMap<VarContextAndUp, Map<AllocAndContext, CallingContextSet>>();
+		callTargetsArgCache.clear();
+	}
+
     public boolean isRefineCallGraph() {
         return refineCallGraph;
     }
@@ -0,0 +1,375 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+package soot.jimple.spark.ondemand;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import soot.Context;
+import soot.Local;
+import soot.PointsToAnalysis;
+import soot.PointsToSet;
+import soot.SootField;
+import soot.SootMethod;
+import soot.jimple.spark.pag.LocalVarNode;
+import soot.jimple.spark.pag.VarNode;
+import soot.jimple.spark.sets.PointsToSetInternal;
+
+/**
+ * A query service on top of a {@link DemandCSPointsTo}, for clients that
+ * ask many alias queries. Refined points-to sets, with their contexts, are
+ * kept in a memo shared by all queries, bounded to a number of locals and
+ * evicted least recently used first, so that a repeated query costs a map
+ * lookup. Queries that ran out of budget are memoized too, as having no
+ * refined set, since asking again with the same budget would fail the same
+ * way; they are answered with Spark's set.
+ *
+ * With the cs-demand option of Spark, the service replaces the analysis as
+ * the points-to analysis of the Scene when demand-memo is set. If the
+ * analysis makes lazy sets, so does the service, and the lazy sets refine
+ * themselves through the memo.
+ *
+ * The service turns off the unbounded cache of the analysis it wraps
+ * outside of {@link #queryAll(Collection)}, which runs its queries as one
+ * batch of the analysis, on caches kept from query to query and freed at
+ * the end. The service assumes that the settings of the analysis, such as
+ * its heuristic, do not change; call {@link #clear()} if they do. All
+ * methods are synchronized, since the analysis keeps its traversal state
+ * in its fields.
+ *
+ * @author agent
+ *
+ */
+public final class DemandQueryService implements PointsToAnalysis {
+
+	/**
+	 * The answer to one query, with what it cost.
+	 */
+	public static final class QueryResult {
+		public final Local local;
+
+		/** the refined set, or Spark's set if exhausted */
+		public final PointsToSet pointsTo;
+
+		/** the refined set, with its contexts; null if exhausted */
+		public final AllocAndContextSet refined;
+
+		/** <code>true</code> if the answer came from the memo */
+		public final boolean cached;
+
+		/**
+		 * <code>true</code> if the refinement ran out of budget, and
+		 * pointsTo is Spark's set
+		 */
+		public final boolean exhausted;
+
+		public final long nanos;
+
+		/** refinement passes run; 0 if cached */
+		public final int passes;
+
+		/** nodes traversed by the last pass; 0 if cached */
+		public final int nodesTraversed;
+
+		QueryResult(Local local, PointsToSet pointsTo,
+				AllocAndContextSet refined, boolean cached, long nanos,
+				int passes, int nodesTraversed) {
+			this.local = local;
+			this.pointsTo = pointsTo;
+			this.refined = refined;
+			this.cached = cached;
+			this.exhausted = refined == null;
+			this.nanos = nanos;
+			this.passes = passes;
+			this.nodesTraversed = nodesTraversed;
+		}
+
+		public String toString() {
+			return local + (cached ? " (cached)" : "")
+					+ (exhausted ? " (exhausted)" : "") + " in " + nanos
+					+ " ns, " + passes + " passes, " + nodesTraversed
+					+ " nodes";
+		}
+	}
+
+	/**
+	 * Totals over all queries since the service was made or cleared.
+	 */
+	public static final class Stats {
+		public long queries;
+
+		public long hits;
+
+		public long exhausted;
+
+		public long evictions;
+
+		public long totalNanos;
+
+		public long maxMissNanos;
+
+		public long totalPasses;
+
+		public long totalNodesTraversed;
+
+		public double hitRate() {
+			return queries == 0 ? 0 : (double) hits / queries;
+		}
+
+		public double averageNanos() {
+			return queries == 0 ? 0 : (double) totalNanos / queries;
+		}
+
+		public String toString() {
+			return queries + " queries, " + hits + " hits, " + exhausted
+					+ " out of budget, " + evictions + " evictions, "
+					+ (long) averageNanos() + " ns average, " + maxMissNanos
+					+ " ns slowest miss, " + totalPasses + " passes, "
+					+ totalNodesTraversed + " nodes traversed";
+		}
+	}
+
+	public static final int DEFAULT_CAPACITY = 10000;
+
+	/**
+	 * Makes a service over a default analysis. Assumes Spark has already
+	 * run.
+	 */
+	public static DemandQueryService makeDefault() {
+		return new DemandQueryService(DemandCSPointsTo.makeDefault(),
+				DEFAULT_CAPACITY);
+	}
+
+	protected final DemandCSPointsTo analysis;
+
+	protected final int capacity;
+
+	/**
+	 * The refined sets of the locals queried, least recently used first;
+	 * a local whose query ran out of budget maps to null.
+	 */
+	protected final Map<Local, AllocAndContextSet> memo;
+
+	protected Stats stats = new Stats();
+
+	public DemandQueryService(DemandCSPointsTo analysis, final int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive: "
+					+ capacity);
+		}
+		this.analysis = analysis;
+		this.capacity = capacity;
+		analysis.disableCache();
+		this.memo = new LinkedHashMap<Local, AllocAndContextSet>(16, 0.75f,
+				true) {
+			protected boolean removeEldestEntry(
+					Map.Entry<Local, AllocAndContextSet> eldest) {
+				if (size() > capacity) {
+					stats.evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Returns the refined points-to set of l, or Spark's if refinement ran
+	 * out of budget. If the analysis makes lazy sets, returns one that
+	 * refines itself through this service when it needs to.
+	 */
+	public synchronized PointsToSet reachingObjects(Local l) {
+		if (analysis.isLazy()) {
+			return new LazyContextSensitivePointsToSet(l, sparkSet(l), this);
+		}
+		return query(l).pointsTo;
+	}
+
+	/**
+	 * Answers a query on l, from the memo if possible.
+	 */
+	public synchronized QueryResult query(Local l) {
+		long start = System.nanoTime();
+		if (memo.containsKey(l)) {
+			AllocAndContextSet refined = memo.get(l);
+			QueryResult ret = new QueryResult(l, refined == null ? sparkSet(l)
+					: refined, refined, true, System.nanoTime() - start, 0, 0);
+			record(ret);
+			return ret;
+		}
+		analysis.numPasses = 0;
+		analysis.numNodesTraversed = 0;
+		PointsToSet pointsTo = analysis.doReachingObjects(l);
+		AllocAndContextSet refined;
+		if (pointsTo instanceof AllocAndContextSet) {
+			refined = (AllocAndContextSet) pointsTo;
+		} else if (pointsTo instanceof WrappedPointsToSet) {
+			refined = null;
+		} else {
+			// l has no node, so it points to nothing
+			refined = new AllocAndContextSet();
+			pointsTo = refined;
+		}
+		QueryResult ret = new QueryResult(l, pointsTo, refined, false,
+				System.nanoTime() - start, Math.min(analysis.numPasses,
+						analysis.maxPasses), analysis.numNodesTraversed);
+		memo.put(l, refined);
+		record(ret);
+		return ret;
+	}
+
+	/**
+	 * Returns Spark's set of l, wrapped as the analysis does.
+	 */
+	protected WrappedPointsToSet sparkSet(Local l) {
+		return new WrappedPointsToSet((PointsToSetInternal) analysis.getPAG()
+				.reachingObjects(l));
+	}
+
+	/**
+	 * Answers queries on all of locals, in the order given. Duplicates are
+	 * answered once, and queries on locals of the same method are run one
+	 * after the other, which keeps the traversals in one part of the graph
+	 * at a time. The queries run as one batch of the analysis, so that each
+	 * one reuses what the ones before it traversed.
+	 */
+	public synchronized List<QueryResult> queryAll(Collection<Local> locals) {
+		Map<SootMethod, List<Local>> byMethod = new LinkedHashMap<SootMethod, List<Local>>();
+		for (Local l : locals) {
+			VarNode v = analysis.getPAG().findLocalVarNode(l);
+			SootMethod m = v instanceof LocalVarNode ? ((LocalVarNode) v)
+					.getMethod() : null;
+			List<Local> group = byMethod.get(m);
+			if (group == null) {
+				group = new ArrayList<Local>();
+				byMethod.put(m, group);
+			}
+			group.add(l);
+		}
+		Map<Local, QueryResult> answers = new LinkedHashMap<Local, QueryResult>();
+		analysis.enableCache();
+		analysis.beginBatch();
+		try {
+			for (List<Local> group : byMethod.values()) {
+				for (Local l : group) {
+					if (!answers.containsKey(l)) {
+						answers.put(l, query(l));
+					}
+				}
+			}
+		} finally {
+			analysis.endBatch();
+			analysis.clearCache();
+			analysis.disableCache();
+		}
+		List<QueryResult> ret = new ArrayList<QueryResult>(locals.size());
+		for (Local l : locals) {
+			ret.add(answers.get(l));
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns <code>true</code> if l1 and l2 may point to the same object
+	 * in some context.
+	 */
+	public synchronized boolean mayAlias(Local l1, Local l2) {
+		return query(l1).pointsTo.hasNonEmptyIntersection(query(l2).pointsTo);
+	}
+
+	public synchronized PointsToSet reachingObjects(Context c, Local l) {
+		return analysis.reachingObjects(c, l);
+	}
+
+	public synchronized PointsToSet reachingObjects(Context c, Local l,
+			SootField f) {
+		return analysis.reachingObjects(c, l, f);
+	}
+
+	public synchronized PointsToSet reachingObjects(Local l, SootField f) {
+		return analysis.reachingObjects(l, f);
+	}
+
+	public synchronized PointsToSet reachingObjects(PointsToSet s, SootField f) {
+		return analysis.reachingObjects(s, f);
+	}
+
+	public synchronized PointsToSet reachingObjects(SootField f) {
+		return analysis.reachingObjects(f);
+	}
+
+	public synchronized PointsToSet reachingObjectsOfArrayElement(
+			PointsToSet s) {
+		return analysis.reachingObjectsOfArrayElement(s);
+	}
+
+	/**
+	 * Returns the totals so far. The object returned is not updated by later
+	 * queries.
+	 */
+	public synchronized Stats getStats() {
+		Stats ret = new Stats();
+		ret.queries = stats.queries;
+		ret.hits = stats.hits;
+		ret.exhausted = stats.exhausted;
+		ret.evictions = stats.evictions;
+		ret.totalNanos = stats.totalNanos;
+		ret.maxMissNanos = stats.maxMissNanos;
+		ret.totalPasses = stats.totalPasses;
+		ret.totalNodesTraversed = stats.totalNodesTraversed;
+		return ret;
+	}
+
+	/**
+	 * Returns the number of locals in the memo.
+	 */
+	public synchronized int size() {
+		return memo.size();
+	}
+
+	public DemandCSPointsTo getAnalysis() {
+		return analysis;
+	}
+
+	/**
+	 * Empties the memo and resets the statistics.
+	 */
+	public synchronized void clear() {
+		memo.clear();
+		stats = new Stats();
+	}
+
+	protected void record(QueryResult r) {
+		stats.queries++;
+		stats.totalNanos += r.nanos;
+		if (r.cached) {
+			stats.hits++;
+			return;
+		}
+		if (r.exhausted) {
+			stats.exhausted++;
+		}
+		stats.maxMissNanos = Math.max(stats.maxMissNanos, r.nanos);
+		stats.totalPasses += r.passes;
+		stats.totalNodesTraversed += r.nodesTraversed;
+	}
+}
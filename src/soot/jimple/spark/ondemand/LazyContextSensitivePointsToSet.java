@@ -23,6 +23,7 @@ public class LazyContextSensitivePointsToSet implements EqualsSupportingPointsTo
 
 	private EqualsSupportingPointsToSet delegate;
 	private final DemandCSPointsTo demandCSPointsTo;
+	private final DemandQueryService service;
 	private final Local local;
 	private boolean isContextSensitive;
 
@@ -34,6 +35,18 @@ public class LazyContextSensitivePointsToSet implements EqualsSupportingPointsTo
 		this.local = l;
 		this.delegate = contextInsensitiveSet;
 		this.demandCSPointsTo = demandCSPointsTo;
+		this.service = null;
+		this.isContextSensitive = false;
+	}
+
+	/**
+	 * Makes a set that refines itself through the memo of service.
+	 */
+	public LazyContextSensitivePointsToSet(Local l, EqualsSupportingPointsToSet contextInsensitiveSet, DemandQueryService service) {
+		this.local = l;
+		this.delegate = contextInsensitiveSet;
+		this.demandCSPointsTo = service.getAnalysis();
+		this.service = service;
 		this.isContextSensitive = false;
 	}
 
@@ -59,7 +72,10 @@ public class LazyContextSensitivePointsToSet implements EqualsSupportingPointsTo
 	
 	public void computeContextSensitiveInfo() {
 		if(!isContextSensitive) {
-			delegate = (EqualsSupportingPointsToSet) demandCSPointsTo.doReachingObjects(local);
+			if(service != null)
+				delegate = (EqualsSupportingPointsToSet) service.query(local).pointsTo;
+			else
+				delegate = (EqualsSupportingPointsToSet) demandCSPointsTo.doReachingObjects(local);
 			isContextSensitive = true;
 		}
 	}
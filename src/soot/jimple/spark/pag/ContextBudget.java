@@ -0,0 +1,205 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import soot.G;
+
+/**
+ * A memory budget for an object sensitive PTA.
+ *
+ * The budget is a maximum number of object sensitive nodes, a maximum number of
+ * reachable method contexts and a maximum percentage of the heap in use after
+ * garbage collection.  Propagators call tick() for every node they process, or
+ * check() after every round of nodes; when the budget is crossed, the allocation
+ * sites with the most heap objects have their heap context degraded by one
+ * element, or lose it when it is a single element, through
+ * ObjectSensitiveConfig.degradeHeapContext().
+ *
+ * The heap objects and method contexts already created are kept, only the new
+ * ones are coarser, so the result is sound but less precise.  As the counts never
+ * go down, the next degradation happens only once the analysis has grown by
+ * another tenth of the budget.
+ * @author agent
+ */
+public class ContextBudget {
+    /** check the heap every that many calls to tick() */
+    private static final int HEAP_CHECK_INTERVAL = 1024;
+
+    private final int maxNodes;
+    private final int maxMethodContexts;
+    private final int heapPercent;
+
+    /** counts at which the budget is next checked */
+    private long nextNodes;
+    private long nextMethodContexts;
+    private long nextUsedHeap;
+
+    private int ticks = 0;
+    private int steps = 0;
+    private int degradedSites = 0;
+    private boolean exhausted = false;
+
+    public ContextBudget(int maxNodes, int maxMethodContexts, int heapPercent) {
+        this.maxNodes = maxNodes;
+        this.maxMethodContexts = maxMethodContexts;
+        this.heapPercent = Math.min(heapPercent, 100);
+        this.nextNodes = maxNodes;
+        this.nextMethodContexts = maxMethodContexts;
+        this.nextUsedHeap = Runtime.getRuntime().maxMemory() / 100 * this.heapPercent;
+    }
+
+    /** Return true if the budget sets no limit. */
+    public boolean isEmpty() {
+        return maxNodes <= 0 && maxMethodContexts <= 0 && heapPercent <= 0;
+    }
+
+    /** Return the number of times contexts were degraded. */
+    public int steps() {
+        return steps;
+    }
+
+    /**
+     * Called by propagators for every node processed; checks the counts every
+     * time, and the heap every HEAP_CHECK_INTERVAL calls.  Must be called from
+     * the thread that updates the call graph.
+     */
+    public void tick(PAG pag) {
+        boolean checkHeap = ++ticks >= HEAP_CHECK_INTERVAL;
+        if (checkHeap)
+            ticks = 0;
+        check(pag, checkHeap);
+    }
+
+    /** Degrade heap contexts if the budget is crossed; return true if it was. */
+    public boolean check(PAG pag) {
+        return check(pag, true);
+    }
+
+    private boolean check(PAG pag, boolean checkHeap) {
+        if (exhausted)
+            return false;
+
+        int nodes = ObjectSensitiveAllocNode.numberOfObjSensNodes();
+        int methodContexts = pag.numMethodContexts();
+        long usedHeap = checkHeap && heapPercent > 0 ? liveHeap() : 0;
+
+        String reason;
+        if (maxNodes > 0 && nodes > nextNodes)
+            reason = nodes + " object sensitive nodes";
+        else if (maxMethodContexts > 0 && methodContexts > nextMethodContexts)
+            reason = methodContexts + " method contexts";
+        else if (heapPercent > 0 && usedHeap > nextUsedHeap)
+            reason = (usedHeap >> 20) + "MB of heap in use";
+        else
+            return false;
+
+        int degraded = degrade(pag);
+        steps++;
+        degradedSites += degraded;
+        if (degraded == 0) {
+            exhausted = true;
+            G.v().out.println("[Spark] Context budget crossed with " + reason +
+                ", but no allocation site has heap context left");
+            return true;
+        }
+        G.v().out.println("[Spark] Context budget crossed with " + reason +
+            ", degraded heap context of " + degraded + " allocation sites (" + degradedSites + " in total)");
+
+        nextNodes = nodes + Math.max(1, maxNodes / 10);
+        nextMethodContexts = methodContexts + Math.max(1, maxMethodContexts / 10);
+        nextUsedHeap = Math.max(nextUsedHeap,
+            usedHeap + Runtime.getRuntime().maxMemory() / 100 * Math.max(1, heapPercent / 10));
+        return true;
+    }
+
+    /**
+     * Return the heap in use just after the last collection of each heap pool.
+     * Unlike the heap in use now, this does not count garbage that has not been
+     * collected yet; it lags behind the live heap until the pools are collected
+     * again, which happens soon once the heap fills up.
+     */
+    private static long liveHeap() {
+        long ret = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP)
+                continue;
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (usage != null)
+                ret += usage.getUsed();
+        }
+        return ret;
+    }
+
+    /**
+     * Degrade the heap context of the allocation sites that, most expensive first,
+     * account for half of the object sensitive nodes.  Return the number of sites
+     * degraded.
+     */
+    private int degrade(PAG pag) {
+        ObjectSensitiveConfig config = ObjectSensitiveConfig.v();
+        final Map<Object, Integer> nodesPerSite = new HashMap<Object, Integer>();
+        Map<Object, AllocNode> sites = new HashMap<Object, AllocNode>();
+        int total = 0;
+        for (Iterator aIt = pag.getAllocNodeNumberer().iterator(); aIt.hasNext(); ) {
+            AllocNode an = (AllocNode) aIt.next();
+            if (!(an instanceof ObjectSensitiveAllocNode))
+                continue;
+            Object site = an.getNewExpr();
+            AllocNode base = (AllocNode) ((ObjectSensitiveAllocNode)an).getContextElement(0);
+            if (!config.addHeapContext(base))
+                continue;
+            Integer n = nodesPerSite.get(site);
+            nodesPerSite.put(site, n == null ? 1 : n + 1);
+            sites.put(site, base);
+            total++;
+        }
+
+        List<Object> bySize = new ArrayList<Object>(nodesPerSite.keySet());
+        Collections.sort(bySize, new Comparator<Object>() {
+            public int compare(Object o1, Object o2) {
+                return nodesPerSite.get(o2).compareTo(nodesPerSite.get(o1));
+            }
+        });
+
+        int degraded = 0;
+        int covered = 0;
+        for (Object site : bySize) {
+            if (covered * 2 >= total)
+                break;
+            AllocNode base = sites.get(site);
+            config.degradeHeapContext(base, config.heapContextDepth(base) - 1);
+            covered += nodesPerSite.get(site);
+            degraded++;
+        }
+        return degraded;
+    }
+}
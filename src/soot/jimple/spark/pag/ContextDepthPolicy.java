@@ -0,0 +1,213 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import soot.ArrayType;
+import soot.RefType;
+import soot.SootClass;
+import soot.SootMethod;
+import soot.Type;
+
+/**
+ * Per allocation site and per type depth of object sensitive contexts.
+ *
+ * A policy is a list of rules of the form pattern=depth (or pattern depth, one
+ * per line in a policy file, with # starting a comment).  A pattern is one of:
+ *
+ *   a.b.C      the class a.b.C
+ *   a.b.*      the classes of package a.b
+ *   a.b.**     the classes of package a.b and its subpackages
+ *   new:1234   the allocation site whose new expr has hashcode 1234 (as in
+ *              kobjsens-limit-heap-context)
+ *
+ * The depth of the heap context of an object is given by the rule for its
+ * allocation site, or else by the rule for its type (the element type for
+ * arrays).  The depth of the context of a method is given by the rule for its
+ * declaring class.  The most specific rule applies: site, then class, then the
+ * longest package.  Objects and methods matched by no rule keep the default
+ * depth.
+ * @author agent
+ */
+public class ContextDepthPolicy {
+    /** depth returned when no rule matches */
+    public static final int NO_RULE = -1;
+
+    private final Map<Integer, Integer> siteRules = new HashMap<Integer, Integer>();
+    private final Map<String, Integer> classRules = new HashMap<String, Integer>();
+    private final Map<String, Integer> packageRules = new HashMap<String, Integer>();
+    private final Map<String, Integer> packageTreeRules = new HashMap<String, Integer>();
+
+    /** cache of class depths, by class */
+    private final Map<SootClass, Integer> classDepths = new HashMap<SootClass, Integer>();
+    /** cache of method depths, by method number, shifted by 2 so that 0 means not computed */
+    private int[] methodDepths = new int[0];
+
+    /** Add the rules given as a comma separated list of pattern=depth. */
+    public void addRules(String rules) {
+        if (rules == null || rules.isEmpty())
+            return;
+
+        for (String rule : rules.split(","))
+            addRule(rule);
+    }
+
+    /** Add the rules of a policy file, one per line. */
+    public void addRulesFromFile(String fileName) {
+        if (fileName == null || fileName.isEmpty())
+            return;
+
+        try {
+            BufferedReader in = new BufferedReader(new FileReader(fileName));
+            try {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    int comment = line.indexOf('#');
+                    if (comment >= 0)
+                        line = line.substring(0, comment);
+                    addRule(line);
+                }
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read context depth policy file " + fileName, e);
+        }
+    }
+
+    private void addRule(String rule) {
+        rule = rule.trim();
+        if (rule.isEmpty())
+            return;
+
+        int sep = rule.indexOf('=');
+        if (sep < 0)
+            sep = rule.lastIndexOf(' ');
+        if (sep < 0)
+            sep = rule.lastIndexOf('\t');
+        if (sep < 0)
+            throw new RuntimeException("Invalid context depth rule, expected pattern=depth: " + rule);
+
+        String pattern = rule.substring(0, sep).trim();
+        int depth;
+        try {
+            depth = Integer.parseInt(rule.substring(sep + 1).trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid depth in context depth rule: " + rule);
+        }
+        if (depth < 0)
+            throw new RuntimeException("Negative depth in context depth rule: " + rule);
+
+        if (pattern.startsWith("new:")) {
+            try {
+                siteRules.put(Integer.parseInt(pattern.substring(4).trim()), depth);
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("Invalid hashCode in context depth rule: " + rule);
+            }
+        } else if (pattern.endsWith(".**")) {
+            packageTreeRules.put(pattern.substring(0, pattern.length() - 3), depth);
+        } else if (pattern.endsWith(".*")) {
+            packageRules.put(pattern.substring(0, pattern.length() - 2), depth);
+        } else {
+            classRules.put(pattern, depth);
+        }
+    }
+
+    public boolean isEmpty() {
+        return siteRules.isEmpty() && classRules.isEmpty()
+            && packageRules.isEmpty() && packageTreeRules.isEmpty();
+    }
+
+    /** Return the depth of heap context for objects allocated at base, or NO_RULE. */
+    public int heapDepth(AllocNode base) {
+        if (!siteRules.isEmpty()) {
+            Integer depth = siteRules.get(base.getNewExpr().hashCode());
+            if (depth != null)
+                return depth;
+        }
+
+        SootClass clz = sootClassOf(base.getType());
+        return clz == null ? NO_RULE : classDepth(clz);
+    }
+
+    /** Return the depth of context for method m, or NO_RULE. */
+    public synchronized int methodDepth(SootMethod m) {
+        //cache by method number as this is asked for on every this pointer propagation
+        int n = m.getNumber();
+        if (n == 0)
+            return classDepth(m.getDeclaringClass());
+        int[] cache = methodDepths;
+        if (n < cache.length && cache[n] != 0)
+            return cache[n] - 2;
+
+        int depth = classDepth(m.getDeclaringClass());
+        if (n >= cache.length) {
+            int[] grown = new int[Math.max(n + 1, cache.length * 2)];
+            System.arraycopy(cache, 0, grown, 0, cache.length);
+            methodDepths = cache = grown;
+        }
+        cache[n] = depth + 2;
+        return depth;
+    }
+
+    private synchronized int classDepth(SootClass clz) {
+        Integer depth = classDepths.get(clz);
+        if (depth == null) {
+            depth = computeClassDepth(clz.getName());
+            classDepths.put(clz, depth);
+        }
+        return depth;
+    }
+
+    private int computeClassDepth(String className) {
+        Integer depth = classRules.get(className);
+        if (depth != null)
+            return depth;
+
+        int dot = className.lastIndexOf('.');
+        String pkg = dot < 0 ? "" : className.substring(0, dot);
+        depth = packageRules.get(pkg);
+        if (depth != null)
+            return depth;
+
+        while (true) {
+            depth = packageTreeRules.get(pkg);
+            if (depth != null)
+                return depth;
+            dot = pkg.lastIndexOf('.');
+            if (dot < 0)
+                return NO_RULE;
+            pkg = pkg.substring(0, dot);
+        }
+    }
+
+    private static SootClass sootClassOf(Type type) {
+        if (type instanceof RefType)
+            return ((RefType)type).getSootClass();
+        if (type instanceof ArrayType && ((ArrayType)type).getArrayElementType() instanceof RefType)
+            return ((RefType)((ArrayType)type).getArrayElementType()).getSootClass();
+        return null;
+    }
+}
@@ -0,0 +1,266 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import soot.Context;
+
+/**
+ * The universe of heap contexts of an object sensitive PTA.
+ *
+ * A heap context is a list of context elements, the first one being the
+ * allocation site.  Each list is interned in a trie and identified by an int,
+ * so a prefix shared by many contexts is stored only once, and extending a
+ * context by an element does not allocate.  Id 0 is the empty list.
+ *
+ * Each heap context has at most one ObjectSensitiveAllocNode, which is found by
+ * its id.  Contexts that are not ObjectSensitiveAllocNodes are given negative
+ * ids, so every Context used by the PTA can be referred to by an int.
+ * @author agent
+ */
+public final class ContextUniverse {
+    public static final int EMPTY = 0;
+    /** The id returned by the find methods for a context that has not been interned. */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    private static ContextUniverse v;
+
+    public static ContextUniverse v() {
+        if (v == null)
+            v = new ContextUniverse();
+        return v;
+    }
+
+    public static void reset() {
+        v = new ContextUniverse();
+    }
+
+    /** for each context id, the id of the context without its last element */
+    private int[] parent = new int[1024];
+    /** for each context id, the number of its last element */
+    private int[] last = new int[1024];
+    /** for each context id, the number of elements in the context */
+    private int[] length = new int[1024];
+    /** the heap object for each context id, if created */
+    private ObjectSensitiveAllocNode[] nodes = new ObjectSensitiveAllocNode[1024];
+    private int size = 1;
+    private int numNodes = 0;
+
+    /** open addressing table of context ids, hashed by (parent, last) */
+    private int[] table = new int[2048];
+
+    private final Map<ContextElement, Integer> elementNumbers = new HashMap<ContextElement, Integer>();
+    private final List<ContextElement> elements = new ArrayList<ContextElement>();
+
+    private final Map<Context, Integer> otherNumbers = new HashMap<Context, Integer>();
+    private final List<Context> others = new ArrayList<Context>();
+
+    private ContextUniverse() {
+        elements.add(null);
+        others.add(null);
+    }
+
+    /**
+     * Return the id of the context that is the given context followed by the
+     * element e, creating it if needed.
+     */
+    public int append(int context, ContextElement e) {
+        int elem = elementNumber(e);
+        int mask = table.length - 1;
+        int i = hash(context, elem) & mask;
+        while (true) {
+            int id = table[i];
+            if (id == EMPTY)
+                break;
+            if (parent[id] == context && last[id] == elem)
+                return id;
+            i = (i + 1) & mask;
+        }
+
+        int id = size++;
+        if (id == parent.length) {
+            int newLength = parent.length * 2;
+            parent = Arrays.copyOf(parent, newLength);
+            last = Arrays.copyOf(last, newLength);
+            length = Arrays.copyOf(length, newLength);
+            nodes = Arrays.copyOf(nodes, newLength);
+        }
+        parent[id] = context;
+        last[id] = elem;
+        length[id] = length[context] + 1;
+        table[i] = id;
+        if (size * 2 > table.length)
+            rehash();
+        return id;
+    }
+
+    /**
+     * Return the id of the context that is the given context followed by the
+     * element e, or NONE if it has not been created.  Unlike append(), this
+     * interns nothing.
+     */
+    public int find(int context, ContextElement e) {
+        Integer elem = elementNumbers.get(e);
+        if (elem == null || context == NONE)
+            return NONE;
+        int mask = table.length - 1;
+        for (int i = hash(context, elem.intValue()) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+            int id = table[i];
+            if (parent[id] == context && last[id] == elem.intValue())
+                return id;
+        }
+        return NONE;
+    }
+
+    /** Return the number of elements in the context. */
+    public int length(int context) {
+        return context > 0 ? length[context] : 0;
+    }
+
+    /** Return the i-th element of the context, or NoContext if it is shorter. */
+    public ContextElement elementAt(int context, int i) {
+        int len = length(context);
+        if (i < 0 || i >= len)
+            return NoContext.v();
+        for (int j = len - 1; j > i; j--)
+            context = parent[context];
+        return elements.get(last[context]);
+    }
+
+    /** Return the context made of the first len elements of the given context. */
+    public int prefix(int context, int len) {
+        for (int j = length(context); j > len; j--)
+            context = parent[context];
+        return context;
+    }
+
+    /** Return the heap object created for the context, or null. */
+    public ObjectSensitiveAllocNode node(int context) {
+        return context > 0 ? nodes[context] : null;
+    }
+
+    void setNode(int context, ObjectSensitiveAllocNode node) {
+        if (nodes[context] == null)
+            numNodes++;
+        nodes[context] = node;
+    }
+
+    /** Return the heap objects created, in the order of their contexts' ids. */
+    public List<ObjectSensitiveAllocNode> nodes() {
+        List<ObjectSensitiveAllocNode> ret = new ArrayList<ObjectSensitiveAllocNode>(numNodes);
+        for (int id = 1; id < size; id++) {
+            if (nodes[id] != null)
+                ret.add(nodes[id]);
+        }
+        return ret;
+    }
+
+    /** Return the contexts that are not heap contexts and have been given an id. */
+    public List<Context> otherContexts() {
+        return Collections.unmodifiableList(others.subList(1, others.size()));
+    }
+
+    /** Return the number of heap objects created. */
+    public int numNodes() {
+        return numNodes;
+    }
+
+    /** Return the number of interned contexts, not counting the empty one. */
+    public int numContexts() {
+        return size - 1;
+    }
+
+    /** Return the number of contexts that are not heap contexts, numbered -1 down. */
+    public int numOtherContexts() {
+        return others.size() - 1;
+    }
+
+    /**
+     * Return the int id of a context: the heap context id of an object
+     * sensitive node, or a negative number for any other context.
+     */
+    public int contextId(Context c) {
+        if (c instanceof ObjectSensitiveAllocNode)
+            return ((ObjectSensitiveAllocNode)c).getContextId();
+        if (c == null)
+            return EMPTY;
+        Integer n = otherNumbers.get(c);
+        if (n == null) {
+            n = -others.size();
+            otherNumbers.put(c, n);
+            others.add(c);
+        }
+        return n.intValue();
+    }
+
+    /**
+     * Return the int id of a context like contextId(), or NONE if it is a
+     * context other than a heap context that has not been given an id yet.
+     * Unlike contextId(), this interns nothing.
+     */
+    public int findContextId(Context c) {
+        if (c instanceof ObjectSensitiveAllocNode)
+            return ((ObjectSensitiveAllocNode)c).getContextId();
+        if (c == null)
+            return EMPTY;
+        Integer n = otherNumbers.get(c);
+        return n == null ? NONE : n.intValue();
+    }
+
+    /** Return the context with the given id. */
+    public Context context(int id) {
+        if (id > 0)
+            return nodes[id];
+        return others.get(-id);
+    }
+
+    private int elementNumber(ContextElement e) {
+        Integer n = elementNumbers.get(e);
+        if (n == null) {
+            n = elements.size();
+            elementNumbers.put(e, n);
+            elements.add(e);
+        }
+        return n.intValue();
+    }
+
+    private static int hash(int context, int elem) {
+        int h = context * 0x9E3779B9 + elem;
+        return h ^ (h >>> 16);
+    }
+
+    private void rehash() {
+        int[] newTable = new int[table.length * 2];
+        int mask = newTable.length - 1;
+        for (int id = 1; id < size; id++) {
+            int i = hash(parent[id], last[id]) & mask;
+            while (newTable[i] != EMPTY)
+                i = (i + 1) & mask;
+            newTable[i] = id;
+        }
+        table = newTable;
+    }
+}
@@ -24,18 +24,20 @@ import soot.Context;
  * @author Ondrej Lhotak
  */
 public class ContextVarNode extends LocalVarNode {
-    private Context context;
-    public Context context() { return context; }
+    private final int contextId;
+    public Context context() { return ContextUniverse.v().context( contextId ); }
+    /** Returns the id of the context of this node in the ContextUniverse. */
+    public int contextId() { return contextId; }
     public String toString() {
-	return "ContextVarNode "+getNumber()+" "+variable+" "+method+" "+context;
+	return "ContextVarNode "+getNumber()+" "+variable+" "+method+" "+context();
     }
 
     /* End of public methods. */
 
     ContextVarNode( PAG pag, LocalVarNode base, Context context ) {
 	super( pag, base.getVariable(), base.getType(), base.getMethod() );
-        this.context = context;
-        base.addContext( this, context );
+        this.contextId = ContextUniverse.v().contextId( context );
+        base.addContext( this );
     }
 }
 
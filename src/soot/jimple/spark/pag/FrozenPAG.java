@@ -0,0 +1,269 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+import java.util.*;
+
+import soot.*;
+import soot.jimple.ClassConstant;
+import soot.jimple.spark.sets.P2SetVisitor;
+import soot.jimple.spark.sets.PointsToSetInternal;
+
+/** An immutable copy of the solution of a PAG, made by PAG.freeze(),
+ * which answers points-to queries from any number of threads without
+ * locking. Every points-to set is a sorted array of alloc node numbers,
+ * and all the arrays and maps are filled in by the constructor and never
+ * written again, so that they are safely published through the final
+ * fields of this object. Equal sets are shared.
+ * <p>
+ * The PAG itself is not referenced, so it can be discarded once frozen.
+ * Queries on locals that are numbered after the freeze return the empty
+ * set.
+ * @author agent
+ */
+public final class FrozenPAG implements PointsToAnalysis {
+    FrozenPAG( PAG pag ) {
+        final Map<IntArray, int[]> canonical = new HashMap<IntArray, int[]>();
+        fieldBased = pag.getOpts().field_based() || pag.getOpts().vta();
+
+        int numAllocs = pag.getAllocNodeNumberer().size();
+        allocTypes = new Type[numAllocs+1];
+        allocConstants = new Object[numAllocs+1];
+        allocFieldIds = new int[numAllocs+1][];
+        allocFieldSets = new int[numAllocs+1][][];
+        Map<SparkField, Integer> fields = new HashMap<SparkField, Integer>();
+        for( Iterator anIt = pag.getAllocNodeNumberer().iterator(); anIt.hasNext(); ) {
+            final AllocNode an = (AllocNode) anIt.next();
+            int n = an.getNumber();
+            allocTypes[n] = an.getType();
+            if( an instanceof StringConstantNode ) {
+                allocConstants[n] = ((StringConstantNode) an).getString();
+            } else if( an instanceof ClassConstantNode ) {
+                allocConstants[n] = ((ClassConstantNode) an).getClassConstant();
+            }
+            Set<AllocDotField> adfs = an.getFields();
+            if( adfs.isEmpty() ) continue;
+            long[] sorted = new long[adfs.size()];
+            int[][] sets = new int[adfs.size()][];
+            int i = 0;
+            for( AllocDotField adf : adfs ) {
+                Integer f = fields.get( adf.getField() );
+                if( f == null ) fields.put( adf.getField(), f = fields.size() );
+                sets[i] = freeze( adf.getP2Set(), canonical );
+                sorted[i] = ( (long) f.intValue() << 32 ) | i;
+                i++;
+            }
+            Arrays.sort( sorted );
+            allocFieldIds[n] = new int[sorted.length];
+            allocFieldSets[n] = new int[sorted.length][];
+            for( i = 0; i < sorted.length; i++ ) {
+                allocFieldIds[n][i] = (int) ( sorted[i] >>> 32 );
+                allocFieldSets[n][i] = sets[(int) sorted[i]];
+            }
+        }
+        fieldIds = fields;
+
+        Map<Context, Integer> contexts = new HashMap<Context, Integer>();
+        int numLocals = 0;
+        for( Local l : pag.getLocalPointers() ) numLocals = Math.max( numLocals, l.getNumber()+1 );
+        localSets = new int[numLocals][];
+        localContextIds = new int[numLocals][];
+        localContextSets = new int[numLocals][][];
+        for( Local l : pag.getLocalPointers() ) {
+            LocalVarNode vn = pag.findLocalVarNode( l );
+            if( vn == null ) continue;
+            int n = l.getNumber();
+            List<int[]> sets = new ArrayList<int[]>();
+            sets.add( freeze( vn.getP2Set(), canonical ) );
+            List<ContextVarNode> cvns = vn.getContextVarNodes();
+            if( cvns != null ) {
+                long[] sorted = new long[cvns.size()];
+                int[][] csets = new int[cvns.size()][];
+                for( int i = 0; i < sorted.length; i++ ) {
+                    ContextVarNode cvn = cvns.get( i );
+                    Context c = cvn.context();
+                    Integer id = contexts.get( c );
+                    if( id == null ) contexts.put( c, id = contexts.size() );
+                    csets[i] = freeze( cvn.getP2Set(), canonical );
+                    sets.add( csets[i] );
+                    sorted[i] = ( (long) id.intValue() << 32 ) | i;
+                }
+                Arrays.sort( sorted );
+                localContextIds[n] = new int[sorted.length];
+                localContextSets[n] = new int[sorted.length][];
+                for( int i = 0; i < sorted.length; i++ ) {
+                    localContextIds[n][i] = (int) ( sorted[i] >>> 32 );
+                    localContextSets[n][i] = csets[(int) sorted[i]];
+                }
+            }
+            localSets[n] = canonical( FrozenPointsToSet.union( sets ), canonical );
+        }
+        contextIds = contexts;
+
+        Map<Object, int[]> globals = new HashMap<Object, int[]>();
+        for( Object v : pag.getGlobalPointers() ) {
+            GlobalVarNode vn = pag.findGlobalVarNode( v );
+            if( vn != null ) globals.put( v, freeze( vn.getP2Set(), canonical ) );
+        }
+        globalSets = globals;
+    }
+
+    /** Returns the set of objects pointed to by variable l, in any context. */
+    public PointsToSet reachingObjects( Local l ) {
+        int n = l.getNumber();
+        if( n <= 0 || n >= localSets.length || localSets[n] == null ) return set( FrozenPointsToSet.EMPTY );
+        return set( localSets[n] );
+    }
+
+    /** Returns the set of objects pointed to by variable l in context c. */
+    public PointsToSet reachingObjects( Context c, Local l ) {
+        int n = l.getNumber();
+        if( n <= 0 || n >= localSets.length ) return set( FrozenPointsToSet.EMPTY );
+        Integer id = contextIds.get( c );
+        if( id == null || localContextIds[n] == null ) return set( FrozenPointsToSet.EMPTY );
+        int i = Arrays.binarySearch( localContextIds[n], id.intValue() );
+        return set( i < 0 ? FrozenPointsToSet.EMPTY : localContextSets[n][i] );
+    }
+
+    /** Returns the set of objects pointed to by static field f. */
+    public PointsToSet reachingObjects( SootField f ) {
+        if( !f.isStatic() )
+            throw new RuntimeException( "The parameter f must be a *static* field." );
+        return global( f );
+    }
+
+    /** Returns the set of objects pointed to by instance field f
+     * of the objects in the PointsToSet s. */
+    public PointsToSet reachingObjects( PointsToSet s, SootField f ) {
+        if( f.isStatic() )
+            throw new RuntimeException( "The parameter f must be an *instance* field." );
+        return reachingObjectsInternal( s, f );
+    }
+
+    /** Returns the set of objects pointed to by instance field f
+     * of the objects pointed to by l. */
+    public PointsToSet reachingObjects( Local l, SootField f ) {
+        return reachingObjects( reachingObjects( l ), f );
+    }
+
+    /** Returns the set of objects pointed to by instance field f
+     * of the objects pointed to by l in context c. */
+    public PointsToSet reachingObjects( Context c, Local l, SootField f ) {
+        return reachingObjects( reachingObjects( c, l ), f );
+    }
+
+    /** Returns the set of objects pointed to by elements of the arrays
+     * in the PointsToSet s. */
+    public PointsToSet reachingObjectsOfArrayElement( PointsToSet s ) {
+        return reachingObjectsInternal( s, ArrayElement.v() );
+    }
+
+    /* End of public methods. */
+
+    Type allocType( int n ) {
+        return allocTypes[n];
+    }
+
+    /** Returns the String or ClassConstant of a constant alloc node, or
+     * null. */
+    Object allocConstant( int n ) {
+        return allocConstants[n];
+    }
+
+    private FrozenPointsToSet set( int[] elems ) {
+        return new FrozenPointsToSet( this, elems );
+    }
+
+    private PointsToSet global( Object v ) {
+        int[] ret = globalSets.get( v );
+        return set( ret == null ? FrozenPointsToSet.EMPTY : ret );
+    }
+
+    private PointsToSet reachingObjectsInternal( PointsToSet s, SparkField f ) {
+        if( fieldBased ) return global( f );
+        if( !(s instanceof FrozenPointsToSet) || ((FrozenPointsToSet) s).pag != this ) {
+            throw new RuntimeException( "Points-to set "+s+" does not come from this frozen PAG" );
+        }
+        Integer id = fieldIds.get( f );
+        if( id == null ) return set( FrozenPointsToSet.EMPTY );
+        List<int[]> sets = new ArrayList<int[]>();
+        for( int n : ((FrozenPointsToSet) s).elems ) {
+            int[] ids = allocFieldIds[n];
+            if( ids == null ) continue;
+            int i = Arrays.binarySearch( ids, id.intValue() );
+            if( i >= 0 ) sets.add( allocFieldSets[n][i] );
+        }
+        return set( FrozenPointsToSet.union( sets ) );
+    }
+
+    private static int[] freeze( PointsToSetInternal s, Map<IntArray, int[]> canonical ) {
+        if( s == null || s.isEmpty() ) return FrozenPointsToSet.EMPTY;
+        final int[] ret = new int[s.size()];
+        s.forall( new P2SetVisitor() {
+            int i = 0;
+            public final void visit( Node n ) {
+                ret[i++] = n.getNumber();
+            }
+        } );
+        Arrays.sort( ret );
+        return canonical( ret, canonical );
+    }
+
+    private static int[] canonical( int[] set, Map<IntArray, int[]> canonical ) {
+        if( set.length == 0 ) return FrozenPointsToSet.EMPTY;
+        IntArray key = new IntArray( set );
+        int[] ret = canonical.get( key );
+        if( ret != null ) return ret;
+        canonical.put( key, set );
+        return set;
+    }
+
+    /** An int[] compared by contents, to share equal sets. */
+    private static final class IntArray {
+        IntArray( int[] a ) {
+            this.a = a;
+            this.hash = Arrays.hashCode( a );
+        }
+        public int hashCode() {
+            return hash;
+        }
+        public boolean equals( Object o ) {
+            return o instanceof IntArray && Arrays.equals( a, ((IntArray) o).a );
+        }
+        private final int[] a;
+        private final int hash;
+    }
+
+    private final boolean fieldBased;
+    /** Indexed by alloc node number. */
+    private final Type[] allocTypes;
+    private final Object[] allocConstants;
+    /** Indexed by alloc node number: the sorted ids of its fields, and the
+     * set of each. */
+    private final int[][] allocFieldIds;
+    private final int[][][] allocFieldSets;
+    private final Map<SparkField, Integer> fieldIds;
+    /** Indexed by local number: the union over contexts, and the sorted
+     * ids of its contexts and the set of each. */
+    private final int[][] localSets;
+    private final int[][] localContextIds;
+    private final int[][][] localContextSets;
+    private final Map<Context, Integer> contextIds;
+    private final Map<Object, int[]> globalSets;
+}
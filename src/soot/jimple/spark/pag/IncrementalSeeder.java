@@ -0,0 +1,457 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+import java.io.*;
+import java.util.*;
+
+import soot.*;
+import soot.jimple.AssignStmt;
+import soot.jimple.ClassConstant;
+import soot.jimple.NewArrayExpr;
+import soot.jimple.NewExpr;
+import soot.jimple.NewMultiArrayExpr;
+import soot.jimple.StringConstant;
+import soot.toolkits.scalar.Pair;
+
+/** Seeds a new pointer assignment graph with the part of the solution
+ * in a PAGSnapshot that cannot have changed when the given methods
+ * changed, so that propagation only has to recompute the rest.
+ *
+ * The facts of the snapshot that depend on the changed methods are those
+ * of variables reachable in the old PAG from a variable of a changed
+ * method, through simple, store and load edges (a store into a field
+ * makes every load of the field dependent), and those of the parameters
+ * of method contexts reached by a call edge that depends on them: an
+ * edge from a dependent method context, or a virtual call whose receiver
+ * is dependent. A method context that is no longer reachable from the
+ * entry points through independent call edges is itself dependent.
+ *
+ * Every independent fact also holds in a full run of Spark on the
+ * changed program, so adding it as an alloc edge before propagation
+ * leaves the least fixed point, and thus the solution, unchanged. Facts
+ * whose nodes cannot be found in the new program are simply not seeded.
+ * The changed methods must include every method whose body changed;
+ * changes to the class hierarchy need a full run.
+ * @author agent
+ */
+public class IncrementalSeeder {
+    public IncrementalSeeder( PAG pag, PAGSnapshot snapshot ) {
+        this.pag = pag;
+        this.snapshot = snapshot;
+        numVars = snapshot.numVarNodes();
+        affected = new boolean[numVars+1];
+        groupAffected = new boolean[numVars+1];
+    }
+
+    /** Marks all contexts of the method with the given signature as
+     * changed. */
+    public void addChangedMethod( String signature ) {
+        int sid = snapshot.stringId( signature );
+        if( sid >= 0 ) changedMethods.add( sid );
+    }
+
+    /** Marks the methods listed in the file, one signature per line, as
+     * changed. Empty lines and lines starting with # are ignored. */
+    public void addChangedMethods( String fileName ) {
+        try {
+            BufferedReader in = new BufferedReader( new FileReader( fileName ) );
+            try {
+                String line;
+                while( (line = in.readLine()) != null ) {
+                    line = line.trim();
+                    if( line.length() == 0 || line.startsWith( "#" ) ) continue;
+                    addChangedMethod( line );
+                }
+            } finally {
+                in.close();
+            }
+        } catch( IOException e ) {
+            throw new RuntimeException( "Couldn't read changed methods from "+fileName+": "+e );
+        }
+    }
+
+    /** Finds the facts that depend on the changed methods, and adds the
+     * others to the PAG. Returns the number of facts added. */
+    public int seed() {
+        buildIndex();
+        for( Long mc : methodContexts ) {
+            if( changedMethods.contains( (int) (mc >> 32) ) ) markMethodContext( mc );
+        }
+        boolean[] edgeAffected = new boolean[numEdges];
+        do {
+            closure();
+            for( int i = 0; i < numEdges; i++ ) {
+                if( edgeAffected[i] || !edgeDepends( i ) ) continue;
+                edgeAffected[i] = true;
+                markParameters( edgeTarget[i] );
+            }
+            markUnreachable( edgeAffected );
+        } while( !worklist.isEmpty() );
+
+        int seeded = 0;
+        for( int v = 1; v <= numVars; v++ ) {
+            if( isAffected( v ) ) continue;
+            int kind = snapshot.varKind( v );
+            if( kind != PAGSnapshot.VAR_LOCAL && kind != PAGSnapshot.VAR_CONTEXT
+                    && kind != PAGSnapshot.VAR_FIELD ) continue;
+            int[] pointsTo = snapshot.pointsTo( v );
+            if( pointsTo.length == 0 ) continue;
+            VarNode node = mapVar( v );
+            if( node == null ) continue;
+            for( int a : pointsTo ) {
+                AllocNode alloc = mapAlloc( a );
+                if( alloc != null && pag.addEdge( alloc, node ) ) seeded++;
+            }
+        }
+        return seeded;
+    }
+
+    /** Returns the number of variable nodes of the snapshot whose points-to
+     * sets depend on the changed methods. */
+    public int numAffectedVars() {
+        int ret = 0;
+        for( int v = 1; v <= numVars; v++ ) if( isAffected( v ) ) ret++;
+        return ret;
+    }
+
+    /* End of public methods. */
+
+    private static long methodContext( int method, int context ) {
+        return ((long) method << 32) | (context & 0xffffffffL);
+    }
+
+    private void buildIndex() {
+        Set<Long> inCallGraph = new HashSet<Long>();
+        numEdges = snapshot.numEdges();
+        edgeSource = new long[numEdges];
+        edgeTarget = new long[numEdges];
+        for( int i = 0; i < numEdges; i++ ) {
+            edgeSource[i] = methodContext( snapshot.edgeInt( i, 0 ), snapshot.edgeInt( i, 1 ) );
+            edgeTarget[i] = methodContext( snapshot.edgeInt( i, 3 ), snapshot.edgeInt( i, 4 ) );
+            inCallGraph.add( edgeSource[i] );
+            inCallGraph.add( edgeTarget[i] );
+        }
+
+        varMethodContext = new long[numVars+1];
+        for( int v = 1; v <= numVars; v++ ) {
+            int method = snapshot.varMethod( v );
+            if( method < 0 ) {
+                varMethodContext[v] = -1;
+                continue;
+            }
+            int context = snapshot.varKind( v ) == PAGSnapshot.VAR_CONTEXT ? snapshot.varContext( v ) : 0;
+            long mc = methodContext( method, context );
+            if( context == 0 && !inCallGraph.contains( mc ) ) {
+                // The context-insensitive nodes of an object-sensitive
+                // analysis depend on every context of their method.
+                List<Integer> vars = insensitiveVars.get( method );
+                if( vars == null ) insensitiveVars.put( method, vars = new ArrayList<Integer>() );
+                vars.add( v );
+            }
+            varMethodContext[v] = mc;
+            List<Integer> vars = methodVars.get( mc );
+            if( vars == null ) methodVars.put( mc, vars = new ArrayList<Integer>() );
+            vars.add( v );
+        }
+        for( Iterator mIt = Scene.v().getEntryPoints().iterator(); mIt.hasNext(); ) {
+            int sid = snapshot.stringId( ((SootMethod) mIt.next()).getSignature() );
+            if( sid >= 0 ) entryPoints.add( sid );
+        }
+        methodContexts.addAll( inCallGraph );
+        methodContexts.addAll( methodVars.keySet() );
+
+        int[] simple = snapshot.simpleEdges();
+        simpleTargets = index( simple, 2, 0, 1 );
+        int[] stores = snapshot.storeEdges();
+        storeFieldsBySource = index( stores, 3, 0, 2 );
+        storeFieldsByBase = index( stores, 3, 1, 2 );
+        int[] loads = snapshot.loadEdges();
+        loadTargetsByBase = index( loads, 3, 0, 2 );
+        for( int i = 0; i < loads.length; i += 3 ) {
+            List<Integer> targets = loadTargetsByField.get( loads[i+1] );
+            if( targets == null ) loadTargetsByField.put( loads[i+1], targets = new ArrayList<Integer>() );
+            targets.add( loads[i+2] );
+        }
+    }
+
+    /** Returns, for each variable node, the values of field value of the
+     * records of edges whose field key is the node. */
+    private int[][] index( int[] edges, int record, int key, int value ) {
+        int[] counts = new int[numVars+1];
+        for( int i = 0; i < edges.length; i += record ) counts[edges[i+key]]++;
+        int[][] ret = new int[numVars+1][];
+        for( int v = 0; v <= numVars; v++ ) ret[v] = new int[counts[v]];
+        for( int i = 0; i < edges.length; i += record ) {
+            int v = edges[i+key];
+            ret[v][--counts[v]] = edges[i+value];
+        }
+        return ret;
+    }
+
+    private boolean isAffected( int v ) {
+        return affected[v] || affected[snapshot.varRep( v )];
+    }
+
+    private void markVar( int v ) {
+        if( v <= 0 || affected[v] ) return;
+        affected[v] = true;
+        worklist.add( v );
+        markVar( snapshot.varRep( v ) );
+    }
+
+    private void markMethodContext( long mc ) {
+        if( !affectedMethodContexts.add( mc ) ) return;
+        List<Integer> vars = methodVars.get( mc );
+        if( vars != null ) for( int v : vars ) markVar( v );
+        List<Integer> insensitive = insensitiveVars.get( (int) (mc >> 32) );
+        if( insensitive != null ) for( int v : insensitive ) markVar( v );
+    }
+
+    private void markField( int field ) {
+        if( !affectedFields.add( field ) ) return;
+        List<Integer> targets = loadTargetsByField.get( field );
+        if( targets != null ) for( int v : targets ) markVar( v );
+    }
+
+    /** Marks everything reachable in the old PAG from the marked nodes. */
+    private void closure() {
+        while( !worklist.isEmpty() ) {
+            int v = worklist.remove( worklist.size()-1 );
+            for( int t : simpleTargets[v] ) markVar( t );
+            for( int f : storeFieldsBySource[v] ) markField( f );
+            for( int f : storeFieldsByBase[v] ) markField( f );
+            for( int t : loadTargetsByBase[v] ) markVar( t );
+            if( varMethodContext[v] >= 0 ) methodContextsWithAffectedVars.add( varMethodContext[v] );
+            groupAffected[snapshot.varKind( v ) == PAGSnapshot.VAR_CONTEXT ? snapshot.varBase( v ) : v] = true;
+        }
+    }
+
+    /** Returns true if call edge i may be missing from the new call graph. */
+    private boolean edgeDepends( int i ) {
+        if( affectedMethodContexts.contains( edgeSource[i] ) ) return true;
+        Kind kind = snapshot.edgeKind( i );
+        if( kind == Kind.STATIC || kind == Kind.CLINIT ) return false;
+        int receiver = snapshot.edgeInt( i, 6 );
+        if( receiver > 0 ) return groupAffected[receiver];
+        return methodContextsWithAffectedVars.contains( edgeSource[i] );
+    }
+
+    /** Marks the parameters, this and return nodes of method context mc. */
+    private void markParameters( long mc ) {
+        List<Integer> vars = methodVars.get( mc );
+        if( vars == null ) return;
+        for( int v : vars ) {
+            int base = snapshot.varKind( v ) == PAGSnapshot.VAR_CONTEXT ? snapshot.varBase( v ) : v;
+            if( snapshot.varKind( base ) == PAGSnapshot.VAR_LOCAL_OTHER ) markVar( v );
+        }
+    }
+
+    /** Marks the method contexts that are not reachable from the entry
+     * points without the affected call edges. */
+    private void markUnreachable( boolean[] edgeAffected ) {
+        Map<Long, List<Integer>> out = new HashMap<Long, List<Integer>>();
+        Set<Long> targets = new HashSet<Long>();
+        for( int i = 0; i < numEdges; i++ ) {
+            targets.add( edgeTarget[i] );
+            if( edgeAffected[i] ) continue;
+            List<Integer> edges = out.get( edgeSource[i] );
+            if( edges == null ) out.put( edgeSource[i], edges = new ArrayList<Integer>() );
+            edges.add( i );
+        }
+        Set<Long> reached = new HashSet<Long>();
+        LinkedList<Long> queue = new LinkedList<Long>();
+        for( int i = 0; i < numEdges; i++ ) {
+            long src = edgeSource[i];
+            if( (!targets.contains( src ) || entryPoints.contains( (int) (src >> 32) ))
+                    && reached.add( src ) ) {
+                queue.add( src );
+            }
+        }
+        while( !queue.isEmpty() ) {
+            List<Integer> edges = out.get( queue.removeFirst() );
+            if( edges == null ) continue;
+            for( int i : edges ) {
+                if( reached.add( edgeTarget[i] ) ) queue.add( edgeTarget[i] );
+            }
+        }
+        for( Long mc : targets ) {
+            if( !reached.contains( mc ) ) markMethodContext( mc );
+        }
+    }
+
+    /** Returns the node of the new PAG for variable node v, or null. */
+    private VarNode mapVar( int v ) {
+        switch( snapshot.varKind( v ) ) {
+            case PAGSnapshot.VAR_LOCAL: {
+                SootMethod m = snapshot.method( snapshot.varMethod( v ) );
+                if( m == null ) return null;
+                Local l = locals( m ).get( snapshot.varName( v ) );
+                if( l == null || !l.getType().equals( snapshot.varType( v ) ) ) return null;
+                return pag.makeLocalVarNode( l, l.getType(), m );
+            }
+            case PAGSnapshot.VAR_CONTEXT: {
+                VarNode base = mapVar( snapshot.varBase( v ) );
+                Context context = mapContext( snapshot.varContext( v ) );
+                if( !(base instanceof LocalVarNode) || context == null ) return null;
+                return pag.makeContextVarNode( (LocalVarNode) base, context );
+            }
+            case PAGSnapshot.VAR_FIELD: {
+                String sig = snapshot.varName( v );
+                if( !Scene.v().containsField( sig ) ) return null;
+                SootField f = Scene.v().getField( sig );
+                if( !f.getType().equals( snapshot.varType( v ) ) ) return null;
+                return pag.makeGlobalVarNode( f, f.getType() );
+            }
+            default:
+                return null;
+        }
+    }
+
+    private Context mapContext( int id ) {
+        if( id < 0 ) {
+            return snapshot.otherContextKind( id ) == PAGSnapshot.ELEMENT_NO_CONTEXT ? NoContext.v() : null;
+        }
+        int newId = mapContextId( id );
+        return newId > 0 ? ObjectSensitiveAllocNode.getObjSensNode( pag, newId ) : null;
+    }
+
+    /** Returns the id in the ContextUniverse of heap context id of the
+     * snapshot, or -1. */
+    private int mapContextId( int id ) {
+        if( id == ContextUniverse.EMPTY ) return ContextUniverse.EMPTY;
+        Integer ret = contextIds.get( id );
+        if( ret != null ) return ret;
+        ret = -1;
+        int prefix = mapContextId( snapshot.contextPrefix( id ) );
+        if( prefix >= 0 ) {
+            ContextElement element = null;
+            int ref = snapshot.contextElementRef( id );
+            switch( snapshot.contextElementKind( id ) ) {
+                case PAGSnapshot.ELEMENT_ALLOC:
+                    AllocNode alloc = mapAlloc( ref );
+                    if( alloc instanceof ContextElement ) element = (ContextElement) alloc;
+                    break;
+                case PAGSnapshot.ELEMENT_TYPE:
+                    element = TypeContextElement.v( snapshot.type( ref ) );
+                    break;
+            }
+            if( element != null ) ret = ContextUniverse.v().append( prefix, element );
+        }
+        contextIds.put( id, ret );
+        return ret;
+    }
+
+    /** Returns the node of the new PAG for alloc node a, or null. */
+    private AllocNode mapAlloc( int a ) {
+        if( allocs.containsKey( a ) ) return allocs.get( a );
+        AllocNode ret = null;
+        if( snapshot.allocKind( a ) == PAGSnapshot.ALLOC_OBJSENS ) {
+            int id = mapContextId( snapshot.allocContext( a ) );
+            if( id > 0 && mapAlloc( snapshot.allocBase( a ) ) != null ) {
+                ret = ObjectSensitiveAllocNode.getObjSensNode( pag, id );
+            }
+        } else {
+            String key = snapshot.allocSiteKey( a );
+            if( key != null ) ret = mapSite( a, key );
+        }
+        allocs.put( a, ret );
+        return ret;
+    }
+
+    private AllocNode mapSite( int a, String key ) {
+        Type type = snapshot.allocType( a );
+        SootMethod m = snapshot.method( snapshot.allocMethod( a ) );
+        if( key.startsWith( "str:" ) ) {
+            return pag.makeStringConstantNode( StringConstant.v( key.substring( 4 ) ), m );
+        }
+        if( key.startsWith( "class:" ) ) {
+            return pag.makeClassConstantNode( ClassConstant.v( key.substring( 6 ) ) );
+        }
+        if( key.startsWith( "global:" ) ) return pag.makeAllocNode( key.substring( 7 ), type, null );
+        if( key.startsWith( "type:" ) ) return pag.makeAllocNode( type, type, null );
+        if( !key.startsWith( "@" ) || m == null || !m.isConcrete() ) return null;
+
+        int slash = key.indexOf( '/' );
+        int index = Integer.parseInt( key.substring( 1, slash < 0 ? key.length() : slash ) );
+        Unit[] units = units( m );
+        if( index >= units.length || !(units[index] instanceof AssignStmt) ) return null;
+        Value site = ((AssignStmt) units[index]).getRightOp();
+        if( slash >= 0 ) {
+            if( !(site instanceof NewMultiArrayExpr) ) return null;
+            int dims = Integer.parseInt( key.substring( slash+1 ) );
+            ArrayType siteType = (ArrayType) site.getType();
+            if( !ArrayType.v( siteType.baseType, dims ).equals( type ) ) return null;
+            return pag.makeAllocNode( new Pair( site, Integer.valueOf( dims ) ), type, m );
+        }
+        if( !(site instanceof NewExpr || site instanceof NewArrayExpr) ) return null;
+        if( !site.getType().equals( type ) ) return null;
+        return pag.makeAllocNode( site, type, m );
+    }
+
+    private Map<String, Local> locals( SootMethod m ) {
+        Map<String, Local> ret = methodLocals.get( m );
+        if( ret == null ) {
+            ret = new HashMap<String, Local>();
+            if( m.isConcrete() ) {
+                for( Local l : m.retrieveActiveBody().getLocals() ) ret.put( l.getName(), l );
+            }
+            methodLocals.put( m, ret );
+        }
+        return ret;
+    }
+
+    private Unit[] units( SootMethod m ) {
+        Unit[] ret = methodUnits.get( m );
+        if( ret == null ) {
+            ret = m.retrieveActiveBody().getUnits().toArray( new Unit[0] );
+            methodUnits.put( m, ret );
+        }
+        return ret;
+    }
+
+    private final PAG pag;
+    private final PAGSnapshot snapshot;
+    private final int numVars;
+    private int numEdges;
+    private long[] edgeSource;
+    private long[] edgeTarget;
+    private long[] varMethodContext;
+    private int[][] simpleTargets;
+    private int[][] storeFieldsBySource;
+    private int[][] storeFieldsByBase;
+    private int[][] loadTargetsByBase;
+    private final boolean[] affected;
+    /** Whether a variable or one of its context variables is affected. */
+    private final boolean[] groupAffected;
+    private final List<Integer> worklist = new ArrayList<Integer>();
+    private final Set<Integer> changedMethods = new HashSet<Integer>();
+    private final Set<Integer> entryPoints = new HashSet<Integer>();
+    private final Set<Long> methodContexts = new HashSet<Long>();
+    private final Set<Long> affectedMethodContexts = new HashSet<Long>();
+    private final Set<Long> methodContextsWithAffectedVars = new HashSet<Long>();
+    private final Set<Integer> affectedFields = new HashSet<Integer>();
+    private final Map<Long, List<Integer>> methodVars = new HashMap<Long, List<Integer>>();
+    private final Map<Integer, List<Integer>> insensitiveVars = new HashMap<Integer, List<Integer>>();
+    private final Map<Integer, List<Integer>> loadTargetsByField = new HashMap<Integer, List<Integer>>();
+    private final Map<Integer, Integer> contextIds = new HashMap<Integer, Integer>();
+    private final Map<Integer, AllocNode> allocs = new HashMap<Integer, AllocNode>();
+    private final Map<SootMethod, Map<String, Local>> methodLocals = new HashMap<SootMethod, Map<String, Local>>();
+    private final Map<SootMethod, Unit[]> methodUnits = new HashMap<SootMethod, Unit[]>();
+}
@@ -1,8 +1,5 @@
 package soot.jimple.spark.pag;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import soot.Context;
 import soot.SootMethod;
 import soot.Type;
@@ -12,7 +9,6 @@ public class InsensitiveAllocNode extends AllocNode implements ContextElement {
     // LWG: changed from public access to package access
     InsensitiveAllocNode(PAG pag, Object newExpr, Type t, SootMethod m) {
         super(pag, newExpr, t, m);
-        cvns = new HashMap<Context, ObjectSensitiveAllocNode>();
     }
 
     /**
@@ -24,22 +20,12 @@ public class InsensitiveAllocNode extends AllocNode implements ContextElement {
         if (context == null)
             throw new RuntimeException("Context should not be null when getting context for insensitive node.");
         
-        //if we have seen this context before, just return the context object for this alloc node
-        if (!cvns.containsKey(context)) {
-            ObjectSensitiveAllocNode objsensnode = ObjectSensitiveAllocNode.getObjSensNode(pag, this, (Context)context);
-            cvns.put(context, objsensnode );
-        }
-        
-        return cvns.get(context);
-    }
-
-    public Map<Context, ObjectSensitiveAllocNode> getContextNodeMap() {
-        return cvns;
+        //the context universe interns heap contexts, so if we have seen this context 
+        //before, this finds the context object for this alloc node without a per-node map
+        return ObjectSensitiveAllocNode.getObjSensNode(pag, this, context);
     }
 
     /* End of package methods. */
-
-    protected Map<Context, ObjectSensitiveAllocNode> cvns;
     
     public String toString() {
         return "InsensitiveAllocNode "+hashCode()+" "+newExpr+" in "+getMethod();
@@ -18,20 +18,32 @@
  */
 
 package soot.jimple.spark.pag;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import soot.Context;
 import soot.SootMethod;
 import soot.Type;
+import soot.jimple.spark.sets.PointsToSetInternal;
 
 /** Represents a simple variable node (Green) in the pointer assignment graph
  * that is specific to a particular method invocation.
  * @author Ondrej Lhotak
  */
 public class LocalVarNode extends VarNode {
-    public ContextVarNode context( Context context ) 
-    { return cvns == null ? null : cvns.get( context ); }
+    public ContextVarNode context( Context context ) {
+        if( cvns == null ) return null;
+        int id = ContextUniverse.v().findContextId( context );
+        if( id == ContextUniverse.NONE ) return null;
+        int mask = cvns.length-1;
+        for( int i = hash( id ) & mask; cvns[i] != null; i = (i+1) & mask ) {
+            if( cvns[i].contextId() == id ) return cvns[i];
+        }
+        return null;
+    }
 
     public SootMethod getMethod() {
         return method;
@@ -47,18 +59,61 @@ public class LocalVarNode extends VarNode {
         //if( m == null ) throw new RuntimeException( "method shouldn't be null" );
     }
     /** Registers a cvn as having this node as its base. */
-    void addContext( ContextVarNode cvn, Context context ) {
-        if( cvns == null ) cvns = new HashMap<Context, ContextVarNode>();
-        cvns.put( context, cvn );
+    void addContext( ContextVarNode cvn ) {
+        if( cvns == null ) cvns = new ContextVarNode[2];
+        else if( (numCvns+1)*2 > cvns.length ) {
+            ContextVarNode[] old = cvns;
+            cvns = new ContextVarNode[old.length*2];
+            for( ContextVarNode n : old ) {
+                if( n != null ) insert( n );
+            }
+        }
+        insert( cvn );
+        numCvns++;
+    }
+    private void insert( ContextVarNode cvn ) {
+        int mask = cvns.length-1;
+        int i = hash( cvn.contextId() ) & mask;
+        while( cvns[i] != null ) i = (i+1) & mask;
+        cvns[i] = cvn;
+    }
+    private static int hash( int contextId ) {
+        int h = contextId * 0x9E3779B9;
+        return h ^ (h >>> 16);
     }
 
     /* End of package methods. */
 
-    protected Map<Context, ContextVarNode> cvns;
+    /** Open addressing table of the context nodes of this node, by context id. */
+    protected ContextVarNode[] cvns;
+    protected int numCvns;
     protected SootMethod method;
+    /** The union of the points-to sets of the context nodes, once computed
+     * by PAG.projectContexts(). */
+    PointsToSetInternal projectedP2Set;
     
+    /** Returns a map from each context of this node to its context node, or
+     * null if there are none. The map is a copy, made on each call.
+     * @deprecated use getContextVarNodes() and ContextVarNode.context()
+     */
+    @Deprecated
     public Map<Context, ContextVarNode> getContextVarMap() {
-        return cvns;
+        if( cvns == null ) return null;
+        Map<Context, ContextVarNode> ret = new HashMap<Context, ContextVarNode>( numCvns*2 );
+        for( ContextVarNode n : cvns ) {
+            if( n != null ) ret.put( n.context(), n );
+        }
+        return Collections.unmodifiableMap( ret );
+    }
+
+    /** Returns the context nodes having this node as base, or null if there are none. */
+    public List<ContextVarNode> getContextVarNodes() {
+        if( cvns == null ) return null;
+        List<ContextVarNode> ret = new ArrayList<ContextVarNode>( numCvns );
+        for( ContextVarNode n : cvns ) {
+            if( n != null ) ret.add( n );
+        }
+        return ret;
     }
 }
 
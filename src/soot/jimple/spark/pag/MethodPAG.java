@@ -18,13 +18,16 @@
  */
 
 package soot.jimple.spark.pag;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import soot.ArrayType;
 import soot.Body;
+import soot.BodyManager;
 import soot.Context;
 import soot.EntryPoints;
 import soot.G;
@@ -75,59 +78,92 @@ public final class MethodPAG {
             if( addedContexts == null ) addedContexts = new HashSet<Context>();
             if( !addedContexts.add( varNodeParameter ) ) return;
         }
-        QueueReader reader = (QueueReader) internalReader.clone();
-        while(reader.hasNext()) {
-            Node src = (Node) reader.next();
-            src = parameterize( src, varNodeParameter );
-            Node dst = (Node) reader.next();
-            dst = parameterize( dst, varNodeParameter );
-            pag.addEdge( src, dst );
+        if( template == null && varNodeParameter == null && !ObjectSensitiveConfig.isObjectSensitive() ) {
+            // Nothing to parameterize; add the edges as they are.
+            for( QueueReader reader : new QueueReader[] { internalReader, inReader, outReader } ) {
+                reader = (QueueReader) reader.clone();
+                while(reader.hasNext()) {
+                    Node src = (Node) reader.next();
+                    Node dst = (Node) reader.next();
+                    pag.addEdge( src, dst );
+                }
+            }
+            return;
         }
-        reader = (QueueReader) inReader.clone();
-        while(reader.hasNext()) {
-            Node src = (Node) reader.next();
-            Node dst = (Node) reader.next();
-            dst = parameterize( dst, varNodeParameter );
-            pag.addEdge( src, dst );
+        if( template == null ) {
+            template = new MethodPAGTemplate( this, internalReader, inReader, outReader );
+            // The template has the edges now, and is given the later ones
+            internalEdges = inEdges = outEdges = null;
+            internalReader = inReader = outReader = null;
         }
-        reader = (QueueReader) outReader.clone();
-        while(reader.hasNext()) {
-            Node src = (Node) reader.next();
-            src = parameterize( src, varNodeParameter );
-            Node dst = (Node) reader.next();
-            pag.addEdge( src, dst );
+        template.instantiate( varNodeParameter );
+    }
+    /** Returns the edges that addToPAG() would add in the given context by
+     * parameterizing the queued edges one at a time, as source and target
+     * pairs. The queues are dropped once the template is made, so this is
+     * for a MethodPAG that has none. */
+    List<Node> replayEdges( Context context ) {
+        List<Node> ret = new ArrayList<Node>();
+        for( QueueReader reader : new QueueReader[] { internalReader, inReader, outReader } ) {
+            boolean parameterizeSrc = reader != inReader;
+            boolean parameterizeDst = reader != outReader;
+            reader = (QueueReader) reader.clone();
+            while( reader.hasNext() ) {
+                Node src = (Node) reader.next();
+                Node dst = (Node) reader.next();
+                ret.add( parameterizeSrc ? parameterize( src, context ) : src );
+                ret.add( parameterizeDst ? parameterize( dst, context ) : dst );
+            }
         }
+        return ret;
     }
+    /** Returns the template used to add this method in contexts, or null
+     * if it has not been added in any. */
+    public MethodPAGTemplate template() { return template; }
+    private MethodPAGTemplate template;
     public void addInternalEdge( Node src, Node dst ) {
         if( src == null ) return;
-        internalEdges.add( src );
-        internalEdges.add( dst );
+        if( template != null ) {
+            template.addInternalEdge( src, dst );
+        } else {
+            internalEdges.add( src );
+            internalEdges.add( dst );
+        }
         if (hasBeenAdded) {
             pag.addEdge(src, dst);
         }        
     }
     public void addInEdge( Node src, Node dst ) {
         if( src == null ) return;
-        inEdges.add( src );
-        inEdges.add( dst );
+        if( template != null ) {
+            template.addInEdge( src, dst );
+        } else {
+            inEdges.add( src );
+            inEdges.add( dst );
+        }
         if (hasBeenAdded) {
             pag.addEdge(src, dst);
         }        
     }
     public void addOutEdge( Node src, Node dst ) {
         if( src == null ) return;
-        outEdges.add( src );
-        outEdges.add( dst );
+        if( template != null ) {
+            template.addOutEdge( src, dst );
+        } else {
+            outEdges.add( src );
+            outEdges.add( dst );
+        }
         if (hasBeenAdded) {
             pag.addEdge(src, dst);
         }        
     }
-    private final ChunkedQueue internalEdges = new ChunkedQueue();
-    private final ChunkedQueue inEdges = new ChunkedQueue();
-    private final ChunkedQueue outEdges = new ChunkedQueue();
-    private final QueueReader internalReader = internalEdges.reader();
-    private final QueueReader inReader = inEdges.reader();
-    private final QueueReader outReader = outEdges.reader();
+    /* The edges, until the template is made. */
+    private ChunkedQueue internalEdges = new ChunkedQueue();
+    private ChunkedQueue inEdges = new ChunkedQueue();
+    private ChunkedQueue outEdges = new ChunkedQueue();
+    private QueueReader internalReader = internalEdges.reader();
+    private QueueReader inReader = inEdges.reader();
+    private QueueReader outReader = outEdges.reader();
 
     SootMethod method;
     public SootMethod getMethod() { return method; }
@@ -221,6 +257,15 @@ public final class MethodPAG {
             Stmt s = (Stmt) unitsIt.next();
             nodeFactory.handleStmt( s );
         }
+        releaseBody();
+    }
+    /** Tells the BodyManager that Spark is done with the body of the
+     * method. This frees nothing yet: the PAG and the call graph refer to
+     * the locals and statements of the body, so the manager only takes it
+     * once both have been released from the Scene. */
+    protected void releaseBody() {
+        BodyManager bm = BodyManager.v();
+        if( bm.isEnabled() ) bm.release( method );
     }
     protected void buildNative() {
         ValNode thisNode = null;
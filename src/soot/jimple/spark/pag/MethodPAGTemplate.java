@@ -0,0 +1,234 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import soot.Context;
+import soot.util.queue.QueueReader;
+
+/** The edges of a MethodPAG compiled to int arrays over a table of the
+ * distinct nodes they connect, so that the method can be added to the
+ * PAG in a new context by first parameterizing each node once, and then
+ * adding the edges by index. Replaying the edge queues instead would
+ * parameterize a node once for every edge it is on.
+ * <p>
+ * The table lists each node once for each way it is used: as is, for the
+ * ends of in and out edges that are outside the method, or
+ * parameterized. A parameterized field reference comes after its base,
+ * and is made from the parameterized base directly. The MethodPAG drops
+ * its edge queues once it has made the template, and gives it the edges
+ * added later, which are added in the contexts the method is
+ * instantiated in from then on; their nodes get new entries in the table.
+ * @author agent
+ */
+public final class MethodPAGTemplate {
+    /** Compiles the edges that the readers have not read yet. */
+    MethodPAGTemplate( MethodPAG mpag, QueueReader internalReader,
+            QueueReader inReader, QueueReader outReader ) {
+        this.mpag = mpag;
+        // The indices only live while the edges are compiled
+        Map<Node, Integer> fixed = new HashMap<Node, Integer>();
+        Map<Node, Integer> parameterized = new HashMap<Node, Integer>();
+        internalReader = (QueueReader) internalReader.clone();
+        while( internalReader.hasNext() ) {
+            int src = parameterized( (Node) internalReader.next(), parameterized );
+            int dst = parameterized( (Node) internalReader.next(), parameterized );
+            addInternal( src, dst );
+        }
+        inReader = (QueueReader) inReader.clone();
+        while( inReader.hasNext() ) {
+            int src = fixed( (Node) inReader.next(), fixed );
+            int dst = parameterized( (Node) inReader.next(), parameterized );
+            addIn( src, dst );
+        }
+        outReader = (QueueReader) outReader.clone();
+        while( outReader.hasNext() ) {
+            int src = parameterized( (Node) outReader.next(), parameterized );
+            int dst = fixed( (Node) outReader.next(), fixed );
+            addOut( src, dst );
+        }
+        nodes = Arrays.copyOf( nodes, numNodes );
+        kinds = Arrays.copyOf( kinds, numNodes );
+        bases = Arrays.copyOf( bases, numNodes );
+        internalEdges = Arrays.copyOf( internalEdges, numInternal );
+        inEdges = Arrays.copyOf( inEdges, numIn );
+        outEdges = Arrays.copyOf( outEdges, numOut );
+    }
+
+    /** Adds the edges of the method to the PAG, with the nodes
+     * parameterized by context. */
+    public void instantiate( Context context ) {
+        PAG pag = mpag.pag();
+        Node[] resolved = resolve( context );
+        addEdges( pag, resolved, internalEdges, numInternal );
+        addEdges( pag, resolved, inEdges, numIn );
+        addEdges( pag, resolved, outEdges, numOut );
+    }
+
+    /** Returns the number of nodes in the table. */
+    public int numNodes() { return numNodes; }
+
+    /** Returns the number of edges compiled. */
+    public int numEdges() { return ( numInternal + numIn + numOut ) / 2; }
+
+    /* End of public methods. */
+
+    void addInternalEdge( Node src, Node dst ) {
+        addInternal( parameterized( src, null ), parameterized( dst, null ) );
+    }
+
+    void addInEdge( Node src, Node dst ) {
+        addIn( fixed( src, null ), parameterized( dst, null ) );
+    }
+
+    void addOutEdge( Node src, Node dst ) {
+        addOut( parameterized( src, null ), fixed( dst, null ) );
+    }
+
+    /** Returns the edges that instantiate() adds in the given context, as
+     * source and target pairs. */
+    List<Node> edges( Context context ) {
+        Node[] resolved = resolve( context );
+        List<Node> ret = new ArrayList<Node>();
+        for( int i = 0; i < numInternal; i++ ) ret.add( resolved[internalEdges[i]] );
+        for( int i = 0; i < numIn; i++ ) ret.add( resolved[inEdges[i]] );
+        for( int i = 0; i < numOut; i++ ) ret.add( resolved[outEdges[i]] );
+        return ret;
+    }
+
+    /* End of package methods. */
+
+    private static final byte FIXED = 0;
+    private static final byte PARAMETERIZED = 1;
+    private static final byte FIELD_REF = 2;
+
+    /** Returns the nodes of the table parameterized by context. */
+    private Node[] resolve( Context context ) {
+        PAG pag = mpag.pag();
+        Node[] resolved = new Node[numNodes];
+        for( int i = 0; i < numNodes; i++ ) {
+            Node n = nodes[i];
+            switch( kinds[i] ) {
+                case FIXED:
+                    resolved[i] = n;
+                    break;
+                case FIELD_REF:
+                    resolved[i] = pag.makeFieldRefNode( (VarNode) resolved[bases[i]],
+                            ((FieldRefNode) n).getField() );
+                    break;
+                default:
+                    resolved[i] = mpag.parameterize( n, context );
+            }
+        }
+        return resolved;
+    }
+
+    private static void addEdges( PAG pag, Node[] resolved, int[] edges, int length ) {
+        for( int i = 0; i < length; i += 2 ) {
+            pag.addEdge( resolved[edges[i]], resolved[edges[i+1]] );
+        }
+    }
+
+    private void addInternal( int src, int dst ) {
+        internalEdges = append( internalEdges, numInternal, src, dst );
+        numInternal += 2;
+    }
+
+    private void addIn( int src, int dst ) {
+        inEdges = append( inEdges, numIn, src, dst );
+        numIn += 2;
+    }
+
+    private void addOut( int src, int dst ) {
+        outEdges = append( outEdges, numOut, src, dst );
+        numOut += 2;
+    }
+
+    private static int[] append( int[] edges, int length, int src, int dst ) {
+        if( length + 2 > edges.length ) {
+            int[] newEdges = new int[Math.max( 16, edges.length * 2 )];
+            System.arraycopy( edges, 0, newEdges, 0, length );
+            edges = newEdges;
+        }
+        edges[length] = src;
+        edges[length+1] = dst;
+        return edges;
+    }
+
+    /** Returns the entry of n used as is, from index if it is not null. */
+    private int fixed( Node n, Map<Node, Integer> index ) {
+        Integer ret = index == null ? null : index.get( n );
+        if( ret == null ) {
+            ret = add( n, FIXED, -1 );
+            if( index != null ) index.put( n, ret );
+        }
+        return ret;
+    }
+
+    /** Returns the entry of n parameterized, from index if it is not null. */
+    private int parameterized( Node n, Map<Node, Integer> index ) {
+        Integer ret = index == null ? null : index.get( n );
+        if( ret == null ) {
+            if( n instanceof FieldRefNode ) {
+                int base = parameterized( ((FieldRefNode) n).getBase(), index );
+                ret = add( n, FIELD_REF, base );
+            } else {
+                ret = add( n, PARAMETERIZED, -1 );
+            }
+            if( index != null ) index.put( n, ret );
+        }
+        return ret;
+    }
+
+    private int add( Node n, byte kind, int base ) {
+        if( numNodes == nodes.length ) {
+            int size = Math.max( 16, nodes.length * 2 );
+            Node[] newNodes = new Node[size];
+            byte[] newKinds = new byte[size];
+            int[] newBases = new int[size];
+            System.arraycopy( nodes, 0, newNodes, 0, numNodes );
+            System.arraycopy( kinds, 0, newKinds, 0, numNodes );
+            System.arraycopy( bases, 0, newBases, 0, numNodes );
+            nodes = newNodes;
+            kinds = newKinds;
+            bases = newBases;
+        }
+        nodes[numNodes] = n;
+        kinds[numNodes] = kind;
+        bases[numNodes] = base;
+        return numNodes++;
+    }
+
+    private final MethodPAG mpag;
+    private Node[] nodes = new Node[0];
+    private byte[] kinds = new byte[0];
+    private int[] bases = new int[0];
+    private int numNodes = 0;
+    private int[] internalEdges = new int[0];
+    private int numInternal = 0;
+    private int[] inEdges = new int[0];
+    private int numIn = 0;
+    private int[] outEdges = new int[0];
+    private int numOut = 0;
+}
@@ -67,6 +67,7 @@ public class Node implements ReferenceVariable, Numberable {
                 myRep.p2set = other.p2set;
             } else {
                 myRep.p2set.mergeWith( other.p2set );
+                if( other.p2set != myRep.p2set ) other.p2set.release();
             }
         }
         other.p2set = null;
@@ -110,6 +111,7 @@ public class Node implements ReferenceVariable, Numberable {
 	/** Delete current points-to set and make a new one */
 	public void discardP2Set()
 	{
+		if( p2set != null ) p2set.release();
 		p2set = null;
 	}
 	
@@ -0,0 +1,274 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+import java.util.*;
+
+import soot.util.ArrayNumberer;
+
+/** A map from a node to the set of its successors along one kind of
+ * edge, stored as rows of node numbers indexed by the number of the
+ * source node. Rows longer than INDEX_THRESHOLD get an open-addressing
+ * hash table of their entries, so that adding an edge stays cheap.
+ * The array of target nodes returned for a row is kept until the row
+ * changes, so that repeated lookups of a row do not allocate.
+ * @author agent
+ */
+final class NumberedEdgeMap {
+    private static final int[] EMPTY_ROW = new int[0];
+    private static final int INDEX_THRESHOLD = 32;
+
+    /** Creates a map whose sources are numbered by keys and whose
+     * targets are numbered by values. */
+    NumberedEdgeMap( ArrayNumberer keys, ArrayNumberer values ) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /** Adds an edge from key to value; returns true if it is new. */
+    boolean add( Node key, Node value ) {
+        return add( ensureRow( number( key ) ), number( value ) );
+    }
+
+    /** Returns true if edges from key have ever been added. */
+    boolean containsKey( Object key ) {
+        if( !(key instanceof Node) ) return false;
+        Node n = (Node) key;
+        int k = n.getNumber();
+        return k > 0 && k < rows.length && rows[k] != null
+            && keys.get( k ) == n;
+    }
+
+    /** Returns the targets of the edges from key. If merged is true,
+     * targets that have been merged into other nodes are first replaced
+     * by their representatives, in place. The returned array is shared
+     * by all lookups of key until its edges change, and must not be
+     * modified; it is not changed when edges are added later. */
+    Node[] lookup( Node key, boolean merged ) {
+        if( !containsKey( key ) ) return PAG.EMPTY_NODE_ARRAY;
+        int k = key.getNumber();
+        if( merged ) fixUp( k );
+        Node[] ret = targets[k];
+        if( ret != null ) return ret;
+        int[] row = rows[k];
+        int size = sizes[k];
+        if( size == 0 ) {
+            ret = PAG.EMPTY_NODE_ARRAY;
+        } else {
+            ret = new Node[size];
+            for( int i = 0; i < size; i++ ) {
+                ret[i] = (Node) values.get( row[i] );
+            }
+        }
+        targets[k] = ret;
+        return ret;
+    }
+
+    /** Replaces merged targets by their representatives in all rows. */
+    void fixUpAll() {
+        for( int k = 1; k < rows.length; k++ ) {
+            if( rows[k] != null ) fixUp( k );
+        }
+    }
+
+    /** Moves the edges of n2, which has been merged into n1, to n1. Does
+     * nothing if n2 is not a source in this map. */
+    void merge( Node n1, Node n2 ) {
+        if( !containsKey( n2 ) ) return;
+        int k2 = n2.getNumber();
+        int[] row2 = rows[k2];
+        int size2 = sizes[k2];
+        int k1 = ensureRow( number( n1 ) );
+        for( int i = 0; i < size2; i++ ) {
+            add( k1, row2[i] );
+        }
+        removeRow( k2 );
+    }
+
+    /** Removes all edges. */
+    void clear() {
+        rows = new int[0][];
+        sizes = EMPTY_ROW;
+        index = new int[0][];
+        targets = new Node[0][];
+        keyCount = 0;
+    }
+
+    /** Returns a view of the sources of edges in this map. */
+    Set<Object> keySet() {
+        return keySet;
+    }
+
+    private final Set<Object> keySet = new AbstractSet<Object>() {
+        public int size() { return keyCount; }
+        public boolean contains( Object o ) { return containsKey( o ); }
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+                private int cur = advance( 1 );
+                private int advance( int k ) {
+                    while( k < rows.length && rows[k] == null ) k++;
+                    return k;
+                }
+                public boolean hasNext() { return cur < rows.length; }
+                public Object next() {
+                    if( !hasNext() ) throw new NoSuchElementException();
+                    Object ret = keys.get( cur );
+                    cur = advance( cur+1 );
+                    return ret;
+                }
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    };
+
+    private static int number( Node n ) {
+        int ret = n.getNumber();
+        if( ret == 0 ) throw new RuntimeException( "unnumbered node "+n );
+        return ret;
+    }
+
+    private int ensureRow( int k ) {
+        if( k >= rows.length ) {
+            int newLength = Math.max( k+1, rows.length*3/2+16 );
+            rows = Arrays.copyOf( rows, newLength );
+            sizes = Arrays.copyOf( sizes, newLength );
+            index = Arrays.copyOf( index, newLength );
+            targets = Arrays.copyOf( targets, newLength );
+        }
+        if( rows[k] == null ) {
+            rows[k] = new int[4];
+            keyCount++;
+        }
+        return k;
+    }
+
+    private void removeRow( int k ) {
+        rows[k] = null;
+        sizes[k] = 0;
+        index[k] = null;
+        targets[k] = null;
+        keyCount--;
+    }
+
+    private boolean add( int k, int v ) {
+        int[] row = rows[k];
+        int size = sizes[k];
+        int[] idx = index[k];
+        if( idx != null ) {
+            if( !insert( idx, v ) ) return false;
+            if( (size+1)*2 > idx.length ) index[k] = rehash( idx, idx.length*2 );
+        } else {
+            for( int i = 0; i < size; i++ ) {
+                if( row[i] == v ) return false;
+            }
+        }
+        if( size == row.length ) {
+            rows[k] = row = Arrays.copyOf( row, size*2 );
+        }
+        row[size++] = v;
+        sizes[k] = size;
+        targets[k] = null;
+        if( idx == null && size > INDEX_THRESHOLD ) index[k] = buildIndex( row, size );
+        return true;
+    }
+
+    /** Replaces merged targets in row k by their representatives,
+     * dropping self-loops and duplicates. */
+    private void fixUp( int k ) {
+        int[] row = rows[k];
+        int size = sizes[k];
+        Node key = (Node) keys.get( k );
+        int i = 0;
+        for( ; i < size; i++ ) {
+            Node n = (Node) values.get( row[i] );
+            Node rep = n.getReplacement();
+            if( rep != n || rep == key ) break;
+        }
+        if( i == size ) return;
+
+        int[] idx = size > INDEX_THRESHOLD ? new int[tableSize( size )] : null;
+        if( idx != null ) {
+            for( int j = 0; j < i; j++ ) insert( idx, row[j] );
+        }
+        int j = i;
+        outer: for( ; i < size; i++ ) {
+            Node rep = ((Node) values.get( row[i] )).getReplacement();
+            if( rep == key ) continue;
+            int v = rep.getNumber();
+            if( idx != null ) {
+                if( !insert( idx, v ) ) continue;
+            } else {
+                for( int m = 0; m < j; m++ )
+                    if( row[m] == v ) continue outer;
+            }
+            row[j++] = v;
+        }
+        sizes[k] = j;
+        index[k] = j > INDEX_THRESHOLD ? idx : null;
+        targets[k] = null;
+    }
+
+    private static int tableSize( int size ) {
+        int ret = 64;
+        while( ret < size*2 ) ret <<= 1;
+        return ret;
+    }
+
+    private static int[] buildIndex( int[] row, int size ) {
+        int[] ret = new int[tableSize( size )];
+        for( int i = 0; i < size; i++ ) insert( ret, row[i] );
+        return ret;
+    }
+
+    private static int[] rehash( int[] idx, int newLength ) {
+        int[] ret = new int[newLength];
+        for( int v : idx ) {
+            if( v != 0 ) insert( ret, v );
+        }
+        return ret;
+    }
+
+    /** Inserts the non-zero v into the open-addressing table idx; returns
+     * false if it was already there. */
+    private static boolean insert( int[] idx, int v ) {
+        int mask = idx.length-1;
+        int i = (v * 0x9E3779B9) >>> 7 & mask;
+        while( true ) {
+            int cur = idx[i];
+            if( cur == v ) return false;
+            if( cur == 0 ) {
+                idx[i] = v;
+                return true;
+            }
+            i = (i+1) & mask;
+        }
+    }
+
+    private final ArrayNumberer keys;
+    private final ArrayNumberer values;
+    private int[][] rows = new int[0][];
+    private int[] sizes = EMPTY_ROW;
+    private int[][] index = new int[0][];
+    /** The arrays last returned by lookup, or null for rows that have
+     * changed since. */
+    private Node[][] targets = new Node[0][];
+    private int keyCount = 0;
+}
@@ -31,10 +31,8 @@ import soot.options.CGOptions;
  *
  */
 public class ObjectSensitiveAllocNode extends AllocNode implements Context {
-    public static Map<ContextElements, ObjectSensitiveAllocNode> universeMap;
-
-    /** Array for context of allocation (new exprs) */
-    private ContextElement[] contextAllocs;
+    /** Id of the context of allocation (new exprs) in the ContextUniverse */
+    private final int contextId;
 
 
     /**
@@ -43,67 +41,135 @@ public class ObjectSensitiveAllocNode extends AllocNode implements Context {
      * which is a comma separated list of fully-qualified class names.
      */
     public static void reset() {
-        universeMap = new HashMap<ContextElements,ObjectSensitiveAllocNode>(10000);
+        ContextUniverse.reset();
     }
 
     public ObjectSensitiveAllocNode getRepFromUniverse() {
-        return universeMap.get(this);
+        return ContextUniverse.v().node(contextId);
     }
 
     public static ObjectSensitiveAllocNode getObjSensNode(PAG pag, InsensitiveAllocNode base, Context context) {
-        ContextElements contextElements = new ContextElements(base, context);
+        ContextUniverse universe = ContextUniverse.v();
+        int contextId = contextId(universe, base, context, true);
 
         /*
         if (!ObjectSensitiveConfig.v().addHeapContext(probe))
             probe =  new ObjectSensitiveAllocNode(pag, base, NoContext.v());
          */
 
-        ObjectSensitiveAllocNode objSenAllocNode = universeMap.get(contextElements);
+        ObjectSensitiveAllocNode objSenAllocNode = universe.node(contextId);
 
         if (objSenAllocNode == null) {
             //System.out.println("Creating obj sens node: " + probe + "\n");
-            objSenAllocNode = new ObjectSensitiveAllocNode(pag, base, contextElements.array);
-            universeMap.put(contextElements, objSenAllocNode);
+            objSenAllocNode = new ObjectSensitiveAllocNode(pag, base, contextId);
+            universe.setNode(contextId, objSenAllocNode);
             pag.getAllocNodeNumberer().add( objSenAllocNode );
             // LWG: removed for efficiency
             // Note: This removal is valid only when the spark option 'set-impl' is 
             // double or hybrid
             //pag.newAllocNodes.add(objSenAllocNode);
+        } 
 
-            /* print some stats
-            if (base.getMethod() != null) {
-                SootClass allocatorClass = base.getMethod().getDeclaringClass();
-
-                if (!numNodes.containsKey(allocatorClass))
-                    numNodes.put(allocatorClass, 0);
+        return objSenAllocNode;        
+    }
 
-                numNodes.put(allocatorClass, numNodes.get(allocatorClass) + 1);
-                if (universe.size() % printQuantum == 0) {
-                    System.out.println(" ======= ");
-                    for (Map.Entry<SootClass, Integer> entry : numNodes.entrySet()) {
-                        System.out.println(entry.getKey() + " => " + entry.getValue());
-                    }
-                }
+    /**
+     * Return the node for an allocation of base in the given context if it has
+     * been created, or null.  Unlike getObjSensNode(), this creates nothing.
+     */
+    public static ObjectSensitiveAllocNode findObjSensNode(InsensitiveAllocNode base, Context context) {
+        ContextUniverse universe = ContextUniverse.v();
+        int contextId = contextId(universe, base, context, false);
+        return contextId == ContextUniverse.NONE ? null : universe.node(contextId);
+    }
 
+    /**
+     * Return the id of the heap context for an allocation of base in the given context:
+     * the allocation site followed by the first elements of the context, up to 
+     * the depth chosen for this allocation site by ObjectSensitiveConfig.heapContextDepth().
+     * Trailing no-context elements are dropped, so heap objects with the same elements 
+     * share an id.  If create is false, returns ContextUniverse.NONE rather than
+     * interning a context that does not exist yet.
+     */
+    private static int contextId(ContextUniverse universe, InsensitiveAllocNode base, Context context,
+            boolean create) {
+        int contextLength = ObjectSensitiveConfig.v().heapContextDepth(base);
+
+        int id = extend(universe, ContextUniverse.EMPTY, base, create);
+
+        if (contextLength > 1) {                
+            if (context instanceof ObjectSensitiveAllocNode) {
+                int osanContext = ((ObjectSensitiveAllocNode)context).contextId;
+                int n = Math.min(contextLength - 1, universe.length(osanContext));
+
+                for (int i = 0; i < n; i++) 
+                    id = extend(universe, id, heapContextElement(universe.elementAt(osanContext, i)), create);
+            } else if (context instanceof ContextElement) {
+                if (context != NoContext.v())
+                    id = extend(universe, id, heapContextElement((ContextElement)context), create);
+            } else {
+                throw new RuntimeException("Unsupported context on alloc node: " + context);
             }
-             */
-        } 
+        }
 
-        return objSenAllocNode;        
+        return id;
     }
 
-    public ContextElement getContextElement(int i) {
-        return contextAllocs[i];
+    private static int extend(ContextUniverse universe, int id, ContextElement e, boolean create) {
+        return create ? universe.append(id, e) : universe.find(id, e);
     }
 
-    public static int numberOfObjSensNodes() {
+    private static ContextElement heapContextElement(ContextElement ce) {
+        if (ObjectSensitiveConfig.v().typesForContextGTOne() && 
+                ce instanceof InsensitiveAllocNode) 
+            return TypeContextElement.v(((InsensitiveAllocNode)ce).getType());
+        return ce;
+    }
+
+    /** Return the id of the context made of the first depth elements of this node's context. */
+    public int truncatedContextId(int depth) {
+        return ContextUniverse.v().prefix(contextId, depth);
+    }
+
+    /**
+     * Return the node for the first depth elements of this node's context, creating 
+     * it if needed.  Used as the context of methods whose context depth is less than
+     * the heap context depth of their receivers.
+     */
+    public ObjectSensitiveAllocNode truncate(PAG pag, int depth) {
+        int truncatedId = ContextUniverse.v().prefix(contextId, depth);
+        if (truncatedId == contextId)
+            return this;
+        return getObjSensNode(pag, truncatedId);
+    }
+
+    /**
+     * Return the node for the heap context with the given id, creating it if needed.
+     * The first element of the context must be the insensitive node of the allocation site.
+     */
+    public static ObjectSensitiveAllocNode getObjSensNode(PAG pag, int contextId) {
+        ContextUniverse universe = ContextUniverse.v();
+        ObjectSensitiveAllocNode ret = universe.node(contextId);
+        if (ret == null) {
+            InsensitiveAllocNode base = (InsensitiveAllocNode) universe.elementAt(contextId, 0);
+            ret = new ObjectSensitiveAllocNode(pag, base, contextId);
+            universe.setNode(contextId, ret);
+            pag.getAllocNodeNumberer().add( ret );
+        }
+        return ret;
+    }
 
+    public ContextElement getContextElement(int i) {
+        return ContextUniverse.v().elementAt(contextId, i);
+    }
 
-        if (universeMap != null)
-            return universeMap.size();
-        else 
-            return 0;
+    /** Return the id of the heap context of this node in the ContextUniverse. */
+    public int getContextId() {
+        return contextId;
+    }
 
+    public static int numberOfObjSensNodes() {
+        return ContextUniverse.v().numNodes();
     }
 
 
@@ -111,31 +177,25 @@ public class ObjectSensitiveAllocNode extends AllocNode implements Context {
         StringBuffer buf = new StringBuffer();
         buf.append("ObjSensAllocNode ");
 
-        for (int i = 0; i < contextAllocs.length; i++) {
-            if (contextAllocs[i] != null)
-                buf.append(String.format("[%s (%s)]", contextAllocs[i], 
-                    (contextAllocs[i] == null ? 0 : contextAllocs[i].hashCode())));
+        for (int i = 0; i < numContextElements(); i++) {
+            ContextElement ce = getContextElement(i);
+            buf.append(String.format("[%s (%s)]", ce, ce.hashCode()));
         }
 
         return buf.toString();
     }
 
 
-    private ObjectSensitiveAllocNode( PAG pag, InsensitiveAllocNode base, ContextElement[] contextAllocs ) {
+    private ObjectSensitiveAllocNode( PAG pag, InsensitiveAllocNode base, int contextId ) {
         super( pag, base.newExpr, base.type, base.getMethod());
-        this.contextAllocs = contextAllocs;
+        this.contextId = contextId;
     }
 
     /**
      * Return the oldest context for this next if it has a depth of k for object sensitive context
      */
     public ContextElement getStartingContextElement() {
-        for (int i = contextAllocs.length - 1; i >= 0; i--) {
-            if (contextAllocs[i] != null && !contextAllocs[i].equals(NoContext.v()))
-                return contextAllocs[i];
-        }
-
-        return NoContext.v();
+        return getContextElement(numContextElements() - 1);
     }
 
     public boolean noContext() {
@@ -143,132 +203,15 @@ public class ObjectSensitiveAllocNode extends AllocNode implements Context {
     }
 
     public int numContextElements() {
-        for (int i = 0; i < contextAllocs.length; i++) {
-            if (contextAllocs[i] == null || contextAllocs[i].equals(NoContext.v()))
-                return i;
-        }
-
-        return contextAllocs.length;
+        return ContextUniverse.v().length(contextId);
     }
 
     public boolean containsNewExprContext(Object contextAlloc) {
-        for (int i = 0; i < contextAllocs.length; i++) {
-            if (contextAlloc.equals(contextAllocs[i]))
+        for (int i = 0; i < numContextElements(); i++) {
+            if (contextAlloc.equals(getContextElement(i)))
                 return true;
         }
         return false;
     }
 
-    static class ContextElements {
-        ContextElement[] array;
-
-        ContextElements(InsensitiveAllocNode base, Context context) {
-            int contextLength = ObjectSensitiveConfig.v().k();
-
-            if (ObjectSensitiveConfig.v().limitHeapContext(base)) {
-                contextLength = 1; 
-            } else {
-                // do something more for arrays
-
-                
-                /*
-                 //add more context for classes that have arrays
-                if (ObjectSensitiveConfig.v().hasArrayField(base.getType())) {
-                    contextLength = ObjectSensitiveConfig.v().k() + 1;
-                }
-                
-                */
-                
-                //add more context for arrays, change to  + 2 if using the above
-                if (ObjectSensitiveConfig.v().extraArrayContext() && !(base.getType() instanceof RefType)) {
-                    contextLength = ObjectSensitiveConfig.v().k() + 1;
-                }
-            }
-
-            array = new ContextElement[contextLength];            
-            array[0] = base;
-
-            if (contextLength > 1) {                
-                if (context instanceof ObjectSensitiveAllocNode) {
-                    ObjectSensitiveAllocNode osan = (ObjectSensitiveAllocNode)context;
-
-                    for (int i = 1; i < contextLength; i++) {
-                        if ((i-1) >= osan.contextAllocs.length)
-                            break;
-                        
-                        if (ObjectSensitiveConfig.v().typesForContextGTOne() && 
-                                osan.contextAllocs[i-1] instanceof InsensitiveAllocNode) {
-                            array[i] = TypeContextElement.v(((InsensitiveAllocNode)osan.contextAllocs[i-1]).getType());
-                        } else 
-                            array[i] = osan.contextAllocs[i - 1];
-                    }
-                } else if (context instanceof ContextElement) {
-                    if (ObjectSensitiveConfig.v().typesForContextGTOne() && 
-                            context instanceof InsensitiveAllocNode)
-                        array[1] = TypeContextElement.v(((InsensitiveAllocNode)context).getType());
-                    else 
-                        array[1] = (ContextElement)context;
-
-                } else {
-                    throw new RuntimeException("Unsupported context on alloc node: " + context);
-                }
-                
-                //for loop to fill context elements
-                for (int i = 0; i < array.length; i++) {
-                    if (array[i] == null)
-                        array[i] = NoContext.v();
-                }
-            }
-
-            
-        }
-
-        @Override
-        public int hashCode() {
-            return Arrays.hashCode(array);
-        }
-
-        /** 
-         * Return the number of non-null or non-No-Context elements, assuming that in the array
-         * once we see a no-context element, we don't see a context element.
-         * 
-         * @return
-         */
-        public int numContextElements() {
-            for (int i = 0; i < array.length; i++) {
-                if (array[i] == null || array[i].equals(NoContext.v()))
-                    return i;
-            }
-
-            return array.length;
-        }
-        
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) return true;
-            if (getClass() != obj.getClass()) return false;
-            ContextElements other = (ContextElements) obj;
-            
-            //if (!Arrays.equals(array, other.array)) return false;
-            
-            //custom array equals for context
-            //allows for checking of different sized arrays, but represent same context-sensitive heap object
-            if (this.array == null || other.array == null)
-                return false;
-           
-            if (this.numContextElements() != other.numContextElements())
-                return false;
-            
-            for (int i = 0; i < numContextElements(); i++) {
-                Object o1 = this.array[i];
-                Object o2 = other.array[i];
-                if (!(o1==null ? o2==null : o1.equals(o2)))
-                    return false;                
-            }
-            
-            return true;
-        }
-
-    }
-
 }
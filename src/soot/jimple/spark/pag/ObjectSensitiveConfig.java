@@ -1,6 +1,8 @@
 package soot.jimple.spark.pag;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import soot.ArrayType;
@@ -35,6 +37,21 @@ public class ObjectSensitiveConfig {
 
     private static Set<Object> newExprsForNoContext;
 
+    /** new exprs that the selective pre-analysis chose to have no heap context */
+    private Set<Object> selectedNoContext;
+
+    /** new exprs that the selective pre-analysis chose to have heap context of depth 1 */
+    private Set<Object> selectedLimitHeapContext;
+
+    /** per site and per type depth of contexts, null if k applies everywhere */
+    private ContextDepthPolicy depthPolicy;
+
+    /** heap context depths lowered by the context budget, by new expr, 0 for no heap context */
+    private final Map<Object, Integer> degradedDepths = new HashMap<Object, Integer>();
+
+    /** memory budget checked during propagation, null if none */
+    private ContextBudget budget;
+
     /** depth of the object sensitivity on heap and method */
     private int k = 0;
     /** depth to traverse into API for call graph building, -1 is follow all edges */
@@ -127,6 +144,16 @@ public class ObjectSensitiveConfig {
         return newExprsForNoContext != null && newExprsForNoContext.contains(newExpr);
     }
 
+    /**
+     * Install the choice of heap context made by a pre-analysis: the new exprs in
+     * noContext get no heap context, and the new exprs in limitHeapContext get 
+     * heap context of depth 1.
+     */
+    public void setSelectedContexts(Set<Object> noContext, Set<Object> limitHeapContext) {
+        this.selectedNoContext = noContext;
+        this.selectedLimitHeapContext = limitHeapContext;
+    }
+
 
     private void installLimitHeapContext(String lhc) {
     	if (lhc == null || lhc.isEmpty())
@@ -191,6 +218,30 @@ public class ObjectSensitiveConfig {
         }
     }
 
+    /** Install per site and per type context depths that override k. */
+    public void setDepthPolicy(ContextDepthPolicy policy) {
+        this.depthPolicy = (policy == null || policy.isEmpty()) ? null : policy;
+    }
+
+    /** Install the memory budget checked by the propagators. */
+    public void setBudget(ContextBudget budget) {
+        this.budget = (budget == null || budget.isEmpty()) ? null : budget;
+    }
+
+    /** Return the memory budget checked by the propagators, or null. */
+    public ContextBudget budget() {
+        return budget;
+    }
+
+    /**
+     * Lower the heap context of objects allocated at base from now on to depth 
+     * elements, or to no heap context if depth is 0.  Objects already created keep 
+     * their context.
+     */
+    public void degradeHeapContext(AllocNode base, int depth) {
+        degradedDepths.put(base.getNewExpr(), Math.max(0, depth));
+    }
+
     public boolean extraArrayContext() {
         return extraArrayContext;
     }    
@@ -226,6 +277,9 @@ public class ObjectSensitiveConfig {
      * @return
      */
     public boolean limitHeapContext(AllocNode base) {
+        if (selectedLimitHeapContext != null && selectedLimitHeapContext.contains(base.newExpr))
+            return true;
+
         return limitHeapContext.contains(base.newExpr.hashCode());
     }
 
@@ -233,6 +287,15 @@ public class ObjectSensitiveConfig {
         if (isNewExprNoContext(probe.getNewExpr()))
             return false;
 
+        if (selectedNoContext != null && selectedNoContext.contains(probe.getNewExpr()))
+            return false;
+
+        if (!degradedDepths.isEmpty()) {
+            Integer degraded = degradedDepths.get(probe.getNewExpr());
+            if (degraded != null && degraded == 0)
+                return false;
+        }
+
         //shortcircuit below computation
         if (ignoreList.isEmpty())
             return true;
@@ -251,49 +314,67 @@ public class ObjectSensitiveConfig {
 
     }
 
-    /*
-    public int contextDepth(AllocNode probe, Context context) {
-        if (!addHeapContext(probe))
-            return 0;
+    /**
+     * Return the number of context elements, including the allocation site itself, 
+     * of the heap context of objects allocated at base.
+     */
+    public int heapContextDepth(AllocNode base) {
+        if (limitHeapContext(base))
+            return 1;
+
+        int depth = k;
+        if (depthPolicy != null) {
+            int policyDepth = depthPolicy.heapDepth(base);
+            if (policyDepth != ContextDepthPolicy.NO_RULE)
+                depth = Math.max(1, policyDepth);
+        }
 
-        //now check if we have defined important allocators, we check to see if the starting context is an important
-        //allocator
-        if (importantAllocators.isEmpty())
-            return k;
+        /*
+         //add more context for classes that have arrays
+        if (hasArrayField(base.getType())) {
+            depth = depth + 1;
+        }
+        */
 
-        SootClass allocated = getSootClass(probe.getType());
+        //add more context for arrays, change to  + 2 if using the above
+        if (extraArrayContext && !(base.getType() instanceof RefType))
+            depth = depth + 1;
 
-        if (allocated != null && importantAllocators.contains(allocated)) {
-            return k;
-        }   
+        if (!degradedDepths.isEmpty()) {
+            Integer degraded = degradedDepths.get(base.getNewExpr());
+            if (degraded != null)
+                depth = Math.min(depth, Math.max(1, degraded));
+        }
 
-        //if we have made it here, then the allocated type is not important
+        return depth;
+    }
 
-        if (naiveDecay) {
-            return minK;
-        } else {
-            //smarter decision hopefully...
-            if (context instanceof ObjectSensitiveAllocNode) {
-                ObjectSensitiveAllocNode contextNode = (ObjectSensitiveAllocNode)context;
-
-                for (int i = 0; i < contextNode.numContextElements(); i++) {
-                    ContextElement ce = contextNode.getContextElement(i);
-                    if (ce instanceof InsensitiveAllocNode) {
-                        SootClass currentAllocated = getSootClass(((InsensitiveAllocNode)ce).getType());
-                        if (importantAllocators.contains(currentAllocated))
-                            return k;
-                        
-                        
-                       
-                        }
-                        
-                    }   
-                }
-            } 
-            return minK;
-        }
+    /**
+     * Return the number of receiver context elements kept in the context of method m,
+     * Integer.MAX_VALUE if the whole receiver object is the context.
+     */
+    public int methodContextDepth(SootMethod m) {
+        if (depthPolicy == null)
+            return Integer.MAX_VALUE;
+
+        int depth = depthPolicy.methodDepth(m);
+        return depth == ContextDepthPolicy.NO_RULE ? Integer.MAX_VALUE : depth;
+    }
+
+    /**
+     * Return the context in which method m is analyzed when called on the receiver 
+     * object: the receiver truncated to the context depth of m.
+     */
+    public Context truncateMethodContext(PAG pag, Context receiver, SootMethod m) {
+        if (depthPolicy == null || !(receiver instanceof ObjectSensitiveAllocNode))
+            return receiver;
+
+        int depth = methodContextDepth(m);
+        if (depth == 0)
+            return NoContext.v();
+
+        return ((ObjectSensitiveAllocNode)receiver).truncate(pag, depth);
     }
-    */
 
     private SootClass getSootClass(Type type) {
         SootClass allocated = null;
@@ -307,6 +388,23 @@ public class ObjectSensitiveConfig {
         return allocated;
     }
 
+    /**
+     * Return true if allocNode may flow to the this pointer of a method analyzed in 
+     * thisRefContext, where methodDepth is the context depth of the method, as given 
+     * by methodContextDepth().
+     */
+    public boolean thisPtrShouldAdd(AllocNode allocNode, Context thisRefContext, int methodDepth) {
+        if (methodDepth != Integer.MAX_VALUE && allocNode instanceof ObjectSensitiveAllocNode) {
+            ObjectSensitiveAllocNode osan = (ObjectSensitiveAllocNode)allocNode;
+            if (methodDepth == 0)
+                return thisRefContext instanceof NoContext;
+            if (thisRefContext instanceof ObjectSensitiveAllocNode)
+                return ((ObjectSensitiveAllocNode)thisRefContext).getContextId() == osan.truncatedContextId(methodDepth);
+        }
+
+        return thisPtrShouldAdd(allocNode, thisRefContext);
+    }
+
     // LWG
     public boolean thisPtrShouldAdd(AllocNode allocNode, Context thisRefContext) {
 
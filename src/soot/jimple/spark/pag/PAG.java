@@ -53,6 +53,7 @@ import soot.jimple.spark.builder.GlobalNodeFactory;
 import soot.jimple.spark.builder.MethodNodeFactory;
 import soot.jimple.spark.internal.TypeManager;
 import soot.jimple.spark.sets.BitPointsToSet;
+import soot.jimple.spark.sets.ChunkedBitPointsToSet;
 import soot.jimple.spark.sets.DoublePointsToSet;
 import soot.jimple.spark.sets.EmptyPointsToSet;
 import soot.jimple.spark.sets.HashPointsToSet;
@@ -60,10 +61,13 @@ import soot.jimple.spark.sets.HybridPointsToSet;
 import soot.jimple.spark.sets.P2SetFactory;
 import soot.jimple.spark.sets.P2SetVisitor;
 import soot.jimple.spark.sets.PointsToSetInternal;
+import soot.jimple.spark.sets.SetPool;
 import soot.jimple.spark.sets.SharedHybridSet;
 import soot.jimple.spark.sets.SharedListSet;
 import soot.jimple.spark.sets.SortedArraySet;
+import soot.jimple.spark.sets.UnmodifiablePointsToSet;
 import soot.jimple.spark.solver.OnFlyCallGraph;
+import soot.jimple.spark.solver.SolverTelemetry;
 import soot.jimple.toolkits.callgraph.Edge;
 import soot.jimple.toolkits.pointer.util.NativeMethodDriver;
 import soot.options.SparkOptions;
@@ -89,6 +93,9 @@ public class PAG implements PointsToAnalysis {
         if( opts.add_tags() ) {
             nodeToTag = new HashMap<Node, Tag>();
         }
+        if( opts.cs_demand() ) {
+            callAssigns = new HashMultiMap();
+        }
         typeManager = new TypeManager(this);
         if( !opts.ignore_types() ) {
             typeManager.setFastHierarchy( Scene.v().getOrMakeFastHierarchy() );
@@ -112,6 +119,9 @@ public class PAG implements PointsToAnalysis {
             case SparkOptions.set_impl_bit:
                 setFactory = BitPointsToSet.getFactory();
                 break;
+            case SparkOptions.set_impl_chunked:
+                setFactory = ChunkedBitPointsToSet.getFactory();
+                break;
             case SparkOptions.set_impl_double:
                 P2SetFactory oldF;
                 P2SetFactory newF;
@@ -134,6 +144,9 @@ public class PAG implements PointsToAnalysis {
                     case SparkOptions.double_set_old_bit:
                         oldF = BitPointsToSet.getFactory();
                         break;
+                    case SparkOptions.double_set_old_chunked:
+                        oldF = ChunkedBitPointsToSet.getFactory();
+                        break;
                     default:
                         throw new RuntimeException();
                 }
@@ -156,10 +169,14 @@ public class PAG implements PointsToAnalysis {
                     case SparkOptions.double_set_new_bit:
                         newF = BitPointsToSet.getFactory();
                         break;
+                    case SparkOptions.double_set_new_chunked:
+                        newF = ChunkedBitPointsToSet.getFactory();
+                        break;
                     default:
                         throw new RuntimeException();
                 }
                 setFactory = DoublePointsToSet.getFactory( newF, oldF );
+                if( opts.set_pool() ) setPool = new SetPool( oldF, this );
                 break;
             default:
                 throw new RuntimeException();
@@ -174,6 +191,7 @@ public class PAG implements PointsToAnalysis {
         if( n == null ) {
             return EmptyPointsToSet.v();
         }
+        if( n.projectedP2Set != null ) return n.projectedP2Set;
 
         //find all context nodes, and collect their answers
 
@@ -183,16 +201,61 @@ public class PAG implements PointsToAnalysis {
         //just in case is no context
         ret.addAll(n.getP2Set(), null);
 
-        if (n.getContextVarMap() != null) {
+        if (n.getContextVarNodes() != null) {
             //add all context nodes
-            for (Map.Entry<Context,ContextVarNode> entry : n.getContextVarMap().entrySet()) {
-                ret.addAll((PointsToSetInternal)reachingObjects(entry.getKey(), l), null);
+            for (ContextVarNode cvn : n.getContextVarNodes()) {
+                ret.addAll(cvn.getP2Set(), null);
             }
         }
 
         return ret;
     }
 
+    /** Computes, for each local, the union of the points-to sets of its
+     * context nodes once, so that reachingObjects(Local) returns it
+     * instead of building it on every query. A local whose nodes have only
+     * one non-empty set shares that set. Either way, the set is handed out
+     * as an UnmodifiablePointsToSet, so that callers cannot change the
+     * sets of the nodes. Must be called once the points-to sets are final. */
+    public void projectContexts() {
+        for( Iterator localsIt = localToNodeMap.keyIterator(); localsIt.hasNext(); ) {
+            projectContexts( (LocalVarNode) localToNodeMap.get( (Local) localsIt.next() ) );
+        }
+        for( LocalVarNode n : valToLocalVarNode.values() ) {
+            projectContexts( n );
+        }
+    }
+    private void projectContexts( LocalVarNode n ) {
+        PointsToSetInternal only = n.getP2Set().isEmpty() ? null : n.getP2Set();
+        PointsToSetInternal ret = null;
+        List<ContextVarNode> cvns = n.getContextVarNodes();
+        if( cvns != null ) {
+            for( ContextVarNode cvn : cvns ) {
+                PointsToSetInternal s = cvn.getP2Set();
+                if( s.isEmpty() || s == only ) continue;
+                if( only == null ) {
+                    only = s;
+                    continue;
+                }
+                if( ret == null ) {
+                    ret = setFactory.newSet( n.getType(), this );
+                    ret.addAll( only, null );
+                }
+                ret.addAll( s, null );
+            }
+        }
+        if( ret == null ) ret = only;
+        n.projectedP2Set = ret == null ? EmptyPointsToSet.v()
+            : new UnmodifiablePointsToSet( ret );
+    }
+
+    /** Returns an immutable copy of the solution, which, unlike the PAG,
+     * may be queried from several threads at once. Must be called once
+     * the points-to sets are final. */
+    public FrozenPAG freeze() {
+        return new FrozenPAG( this );
+    }
+
     /** Returns the set of objects pointed to by variable l in context c. */
     public PointsToSet reachingObjects( Context c, Local l ) {
 
@@ -254,36 +317,48 @@ public class PAG implements PointsToAnalysis {
     public P2SetFactory getSetFactory() {
         return setFactory;
     }
+    /** Returns the pool of shared old sets, or null if sets are not
+     * pooled. */
+    public SetPool getSetPool() {
+        return setPool;
+    }
     public void cleanUpMerges() {
         if( opts.verbose() ) {
             G.v().out.println( "Cleaning up graph for merged nodes" );
         }
-        Map[] maps = { simple, alloc, store, load,
+        NumberedEdgeMap[] maps = { simple, alloc, store, load,
                        simpleInv, allocInv, storeInv, loadInv };
-        for (Map<Object, Object> m : maps) {
-            for (Object object : m.keySet()) {
-                lookup( m, object );
-            }
+        for (NumberedEdgeMap m : maps) {
+            m.fixUpAll();
         }
         somethingMerged = false;
         if( opts.verbose() ) {
             G.v().out.println( "Done cleaning up graph for merged nodes" );
         }
     }
+    /* The edges are added between the representatives of the nodes, since
+     * the edge maps of merged nodes have already been moved to them. */
     public boolean doAddSimpleEdge( VarNode from, VarNode to ) {
-        return addToMap( simple, from, to ) | addToMap( simpleInv, to, from );
+        from = (VarNode) from.getReplacement();
+        to = (VarNode) to.getReplacement();
+        return simple.add( from, to ) | simpleInv.add( to, from );
     }
 
     public boolean doAddStoreEdge( VarNode from, FieldRefNode to ) {
-        return addToMap( store, from, to ) | addToMap( storeInv, to, from );
+        from = (VarNode) from.getReplacement();
+        to = (FieldRefNode) to.getReplacement();
+        return store.add( from, to ) | storeInv.add( to, from );
     }
 
     public boolean doAddLoadEdge( FieldRefNode from, VarNode to ) {
-        return addToMap( load, from, to ) | addToMap( loadInv, to, from );
+        from = (FieldRefNode) from.getReplacement();
+        to = (VarNode) to.getReplacement();
+        return load.add( from, to ) | loadInv.add( to, from );
     }
 
     public boolean doAddAllocEdge( AllocNode from, VarNode to ) {
-        return addToMap( alloc, from, to ) | addToMap( allocInv, to, from );
+        to = (VarNode) to.getReplacement();
+        return alloc.add( from, to ) | allocInv.add( to, from );
     }
 
     /** Node uses this to notify PAG that n2 has been merged into n1. */
@@ -293,117 +368,18 @@ public class PAG implements PointsToAnalysis {
         somethingMerged = true;
         if( ofcg() != null ) ofcg().mergedWith( n1, n2 );
 
-        Map[] maps = { simple, alloc, store, load,
+        NumberedEdgeMap[] maps = { simple, alloc, store, load,
                        simpleInv, allocInv, storeInv, loadInv };
-        for (Map<Node, Object> m : maps) {
-            if( !m.keySet().contains( n2 ) ) continue;
-
-            Object[] os = { m.get( n1 ), m.get( n2 ) };
-            int size1 = getSize(os[0]); int size2 = getSize(os[1]);
-            if( size1 == 0 ) {
-                if( os[1] != null ) m.put( n1, os[1] );
-            } else if( size2 == 0 ) {
-                // nothing needed
-            } else if( os[0] instanceof HashSet ) {
-                if( os[1] instanceof HashSet ) {
-                    ((HashSet) os[0]).addAll( (HashSet) os[1] );
-                } else {
-                    Node[] ar = (Node[]) os[1];
-                    for (Node element0 : ar) {
-                        ( (HashSet<Node>) os[0] ).add( element0 );
-                    }
-                }
-            } else if( os[1] instanceof HashSet ) {
-                Node[] ar = (Node[]) os[0];
-                for (Node element0 : ar) {
-                    ((HashSet<Node>) os[1]).add( element0 );
-                }
-                m.put( n1, os[1] );
-            } else if( size1*size2 < 1000 ) {
-                Node[] a1 = (Node[]) os[0];
-                Node[] a2 = (Node[]) os[1];
-                Node[] ret = new Node[size1+size2];
-                System.arraycopy( a1, 0, ret, 0, a1.length ); 
-                int j = a1.length;
-                outer: for (Node rep : a2) {
-                    for( int k = 0; k < j; k++ )
-                        if( rep == ret[k] ) continue outer;
-                    ret[j++] = rep;
-                }
-                Node[] newArray = new Node[j];
-                System.arraycopy( ret, 0, newArray, 0, j );
-                m.put( n1, ret = newArray );
-            } else {
-                HashSet<Node> s = new HashSet<Node>( size1+size2 );
-                for (Object o : os) {
-                    if( o == null ) continue;
-                    if( o instanceof Set ) {
-                        s.addAll( (Set) o );
-                    } else {
-                        Node[] ar = (Node[]) o;
-                        for (Node element1 : ar) {
-                            s.add( element1 );
-                        }
-                    }
-                }
-                m.put( n1, s );
-            }
-            m.remove( n2 );
+        for (NumberedEdgeMap m : maps) {
+            m.merge( n1, n2 );
         }
     }
     protected final static Node[] EMPTY_NODE_ARRAY = new Node[0];
-    protected Node[] lookup( Map<Object, Object> m, Object key ) {
-        Object valueList = m.get( key );
-        if( valueList == null ) {
-            return EMPTY_NODE_ARRAY;
-        }
-        if( valueList instanceof Set ) {
-            try {
-                m.put( key, valueList = 
-                        ( (Set) valueList ).toArray( EMPTY_NODE_ARRAY ) );
-            } catch( Exception e ) {
-                for( Iterator it = ((Set)valueList).iterator(); it.hasNext(); ) {
-                    G.v().out.println( ""+it.next() );
-                }
-                throw new RuntimeException( ""+valueList+e );
-            }
-        }
-        Node[] ret = (Node[]) valueList;
-        if( somethingMerged ) {
-            for( int i = 0; i < ret.length; i++ ) {
-                Node reti = ret[i];
-                Node rep = reti.getReplacement();
-                if( rep != reti || rep == key ) {
-                    Set<Node> s;
-                    if( ret.length <= 75 ) {
-                        int j = i;
-                        outer: for( ; i < ret.length; i++ ) {
-                            reti = ret[i];
-                            rep = reti.getReplacement();
-                            if( rep == key ) continue;
-                            for( int k = 0; k < j; k++ )
-                                if( rep == ret[k] ) continue outer;
-                            ret[j++] = rep;
-                        }
-                        Node[] newArray = new Node[j];
-                        System.arraycopy( ret, 0, newArray, 0, j );
-                        m.put( key, ret = newArray );
-                    } else {
-                        s = new HashSet<Node>( ret.length * 2 );
-                        for( int j = 0; j < i; j++ ) s.add( ret[j] );
-                        for( int j = i; j < ret.length; j++ ) {
-                            rep = ret[j].getReplacement();
-                            if( rep != key ) {
-                                s.add( rep );
-                            }
-                        }
-                        m.put( key, ret = s.toArray( EMPTY_NODE_ARRAY ) );
-                    }
-                    break;
-                }
-            }
-        }
-        return ret;
+    /** Returns the targets of the edges from key in m. The returned array
+     * is shared and must not be modified; it may be kept by the caller,
+     * since edges added later do not change it. */
+    protected Node[] lookup( NumberedEdgeMap m, Node key ) {
+        return m.lookup( key, somethingMerged );
     }
 
     public Node[] simpleLookup( VarNode key ) 
@@ -440,14 +416,10 @@ public class PAG implements PointsToAnalysis {
     public Iterator<Object> storeInvSourcesIterator() { return storeInv.keySet().iterator(); }
     public Iterator<Object> loadInvSourcesIterator() { return loadInv.keySet().iterator(); }
 
-    static private int getSize( Object set ) {
-        if( set instanceof Set ) return ((Set) set).size();
-        else if( set == null ) return 0;
-        else return ((Object[]) set).length;
-    }
 
 
     protected P2SetFactory setFactory;
+    protected SetPool setPool;
     protected boolean somethingMerged = false;
 
     /** Returns the set of objects pointed to by instance field f
@@ -645,11 +617,26 @@ public class PAG implements PointsToAnalysis {
         ContextVarNode ret = base.context( context );
         if( ret == null ) {
             ret = new ContextVarNode( this, base, context );
+            numContextVarNodes++;
             addNodeTag( ret, base.getMethod() );
         }
         return ret;
     }
 
+    /** Returns the number of ContextVarNodes created. */
+    public int numContextVarNodes() {
+        return numContextVarNodes;
+    }
+
+    /** Returns the number of methods or method contexts reachable in the
+     * on-the-fly call graph, or 0 if there is none. Unlike
+     * MethodContext.universeSize(), this does not count the contexts that
+     * were only looked up, such as those of the class initializers that the
+     * object sensitive builder asks about. */
+    public int numMethodContexts() {
+        return ofcg == null ? 0 : ofcg.reachableMethods().size();
+    }
+
     public ObjectSensitiveAllocNode makeObjSensAllocNode(InsensitiveAllocNode node, Context context) {
         //context desired, create a node if needed
         ObjectSensitiveAllocNode objSensNode = node.context(context);
@@ -799,6 +786,11 @@ public class PAG implements PointsToAnalysis {
     public void setOnFlyCallGraph( OnFlyCallGraph ofcg ) { this.ofcg = ofcg; }
     public OnFlyCallGraph getOnFlyCallGraph() { return ofcg; }
     public OnFlyCallGraph ofcg() { return ofcg; }
+    /** Sets the telemetry that propagators report their progress to. */
+    public void setTelemetry( SolverTelemetry telemetry ) { this.telemetry = telemetry; }
+    /** Returns the telemetry that propagators report their progress to,
+     * or null if none. */
+    public SolverTelemetry getTelemetry() { return telemetry; }
     /** Adds the base of a dereference to the list of dereferenced 
      * variables. */
     public void addDereference( VarNode base ) {
@@ -850,6 +842,12 @@ public class PAG implements PointsToAnalysis {
         return assign2edges.get(val);
     }
 
+    /** Records in callAssigns that the call ie assigns from to to, if
+     * callAssigns is kept. */
+    private void addCallAssign( InvokeExpr ie, Node from, Node to ) {
+        if( callAssigns != null ) callAssigns.put( ie, new Pair<Node, Node>( from, to ) );
+    }
+
     final public void addCallTarget( Edge e ) {
         if( !e.passesParameters() ) return;
         MethodPAG srcmpag = MethodPAG.v( this, e.src() );
@@ -876,9 +874,7 @@ public class PAG implements PointsToAnalysis {
                 thiz = thiz.getReplacement();
 
                 addEdge( parm, thiz );
-                // LWG: temporary hack to reduce memory-inefficiency 
-                //pval = addInterproceduralAssignment(parm, thiz, e);
-                //callAssigns.put(ie, pval);
+                addCallAssign( ie, parm, thiz );
                 callToMethod.put(ie, srcmpag.getMethod());
 
                 if( e.srcUnit() instanceof AssignStmt ) {
@@ -893,9 +889,7 @@ public class PAG implements PointsToAnalysis {
                     lhs = lhs.getReplacement();
 
                     addEdge( ret, lhs );
-                    // LWG: temporary hack to reduce memory-inefficiency
-                    //pval = addInterproceduralAssignment(ret, lhs, e);
-                    //callAssigns.put(ie, pval);
+                    addCallAssign( ie, ret, lhs );
                     callToMethod.put(ie, srcmpag.getMethod());
                 }
             } else if( e.kind() == Kind.FINALIZE ) {
@@ -932,9 +926,7 @@ public class PAG implements PointsToAnalysis {
                     addEdge( newObject, asLHS);
                 }
 
-                // LWG: temporary hack to reduce memory-inefficiency
-                //pval = addInterproceduralAssignment(newObject, initThis, e);
-                //callAssigns.put(s.getInvokeExpr(), pval);
+                addCallAssign( s.getInvokeExpr(), newObject, initThis );
                 callToMethod.put(s.getInvokeExpr(), srcmpag.getMethod());
             } else if( e.kind() == Kind.REFL_INVOKE ) {
                 // Flow (1) from first parameter of invoke(..) invocation
@@ -957,9 +949,7 @@ public class PAG implements PointsToAnalysis {
                     thiz = thiz.getReplacement();
 
                     addEdge( parm0, thiz );
-                    // LWG: temporary hack to reduce memory-inefficiency
-                    //pval = addInterproceduralAssignment(parm0, thiz, e);
-                    //callAssigns.put(ie, pval);
+                    addCallAssign( ie, parm0, thiz );
                     callToMethod.put(ie, srcmpag.getMethod());
                 }
 
@@ -982,9 +972,7 @@ public class PAG implements PointsToAnalysis {
                         tgtParmI = tgtParmI.getReplacement();
 
                         addEdge( parm1contents, tgtParmI );
-                        // LWG: temporary hack to reduce memory-inefficiency
-                        //pval = addInterproceduralAssignment(parm1contents, tgtParmI, e);
-                        //callAssigns.put(ie, pval);
+                        addCallAssign( ie, parm1contents, tgtParmI );
                         additionalVirtualCalls.add(ie);
                     }
                 }
@@ -1004,9 +992,7 @@ public class PAG implements PointsToAnalysis {
                     lhs = lhs.getReplacement();
 
                     addEdge( ret, lhs );
-                    // LWG: temporary hack to reduce memory-inefficiency
-                    //pval = addInterproceduralAssignment(ret, lhs, e);
-                    //callAssigns.put(ie, pval);
+                    addCallAssign( ie, ret, lhs );
                     additionalVirtualCalls.add(ie);
                 }
             } else if( e.kind() == Kind.REFL_CLASS_NEWINSTANCE || e.kind() == Kind.REFL_CONSTR_NEWINSTANCE) {
@@ -1061,9 +1047,7 @@ public class PAG implements PointsToAnalysis {
                             tgtParmI = tgtParmI.getReplacement();
 
                             addEdge( parm1contents, tgtParmI );
-                            // LWG: temporary hack to reduce memory-inefficiency
-                            //pval = addInterproceduralAssignment(parm1contents, tgtParmI, e);
-                            //callAssigns.put(iie, pval);
+                            addCallAssign( iie, parm1contents, tgtParmI );
                             additionalVirtualCalls.add(iie);
                         }
                     }
@@ -1078,9 +1062,7 @@ public class PAG implements PointsToAnalysis {
                     addEdge( newObject, asLHS);
                 }
 
-                // LWG: temporary hack to reduce memory-inefficiency
-                //pval = addInterproceduralAssignment(newObject, initThis, e);
-                //callAssigns.put(s.getInvokeExpr(), pval);
+                addCallAssign( s.getInvokeExpr(), newObject, initThis );
                 callToMethod.put(s.getInvokeExpr(), srcmpag.getMethod());
             } else {
                 throw new RuntimeException( "Unhandled edge "+e );
@@ -1131,9 +1113,7 @@ public class PAG implements PointsToAnalysis {
             parm = parm.getReplacement();
 
             addEdge( argNode, parm );
-            // LWG: temporary hack to reduce memory-inefficiency
-            //Pair pval = addInterproceduralAssignment(argNode, parm, e);
-            //callAssigns.put(ie, pval);
+            addCallAssign( ie, argNode, parm );
             callToMethod.put(ie, srcmpag.getMethod());
 
         }
@@ -1160,9 +1140,7 @@ public class PAG implements PointsToAnalysis {
             thisRef = tgtmpag.parameterize( thisRef, tgtContext );
             thisRef = thisRef.getReplacement();
             addEdge( baseNode, thisRef );
-            // LWG: temporary hack to reduce memory-inefficiency
-            //Pair pval = addInterproceduralAssignment(baseNode, thisRef, e);
-            //callAssigns.put(ie, pval);
+            addCallAssign( ie, baseNode, thisRef );
             callToMethod.put(ie, srcmpag.getMethod());
             if (virtualCall && !virtualCallsToReceivers.containsKey(ie)) {
                 virtualCallsToReceivers.put(ie, baseNode);
@@ -1181,9 +1159,7 @@ public class PAG implements PointsToAnalysis {
                 retNode = retNode.getReplacement();
 
                 addEdge( retNode, destNode );
-                // LWG: temporary hack to reduce memory-inefficiency
-                //Pair pval = addInterproceduralAssignment( retNode, destNode, e );
-                //callAssigns.put(ie, pval);
+                addCallAssign( ie, retNode, destNode );
                 callToMethod.put(ie, srcmpag.getMethod());
             }
         }
@@ -1208,43 +1184,15 @@ public class PAG implements PointsToAnalysis {
 
     protected SparkOptions opts;
 
-    protected Map<Object, Object> simple = new HashMap<Object, Object>();
-    protected Map<Object, Object> load = new HashMap<Object, Object>();
-    protected Map<Object, Object> store = new HashMap<Object, Object>();
-    protected Map<Object, Object> alloc = new HashMap<Object, Object>();
-
-    protected Map<Object, Object> simpleInv = new HashMap<Object, Object>();
-    protected Map<Object, Object> loadInv = new HashMap<Object, Object>();
-    protected Map<Object, Object> storeInv = new HashMap<Object, Object>();
-    protected Map<Object, Object> allocInv = new HashMap<Object, Object>();
-
-    protected boolean addToMap( Map<Object, Object> m, Node key, Node value ) {
-        Object valueList = m.get( key );
-
-        if( valueList == null ) {
-            m.put( key, valueList = new HashSet(4) );
-        } else if( !(valueList instanceof Set) ) {
-            Node[] ar = (Node[]) valueList;
-            HashSet<Node> vl = new HashSet<Node>(ar.length+4);
-            m.put( key, vl );
-            for (Node element : ar)
-                vl.add( element );
-            return vl.add( value );
-            /*
-	    Node[] ar = (Node[]) valueList;
-            Node[] newar = new Node[ar.length+1];
-            for( int i = 0; i < ar.length; i++ ) {
-                Node n = ar[i];
-                if( n == value ) return false;
-                newar[i] = n;
-            }
-            newar[ar.length] = value;
-            m.put( key, newar );
-            return true;
-             */
-        }
-        return ((Set<Node>) valueList).add( value );
-    }
+    protected NumberedEdgeMap simple = new NumberedEdgeMap( varNodeNumberer, varNodeNumberer );
+    protected NumberedEdgeMap load = new NumberedEdgeMap( fieldRefNodeNumberer, varNodeNumberer );
+    protected NumberedEdgeMap store = new NumberedEdgeMap( varNodeNumberer, fieldRefNodeNumberer );
+    protected NumberedEdgeMap alloc = new NumberedEdgeMap( allocNodeNumberer, varNodeNumberer );
+
+    protected NumberedEdgeMap simpleInv = new NumberedEdgeMap( varNodeNumberer, varNodeNumberer );
+    protected NumberedEdgeMap loadInv = new NumberedEdgeMap( varNodeNumberer, fieldRefNodeNumberer );
+    protected NumberedEdgeMap storeInv = new NumberedEdgeMap( fieldRefNodeNumberer, varNodeNumberer );
+    protected NumberedEdgeMap allocInv = new NumberedEdgeMap( varNodeNumberer, allocNodeNumberer );
 
     /* LWG: removed due to inefficiency
     public PointsToSetInternal prunePTSetForThisPtr(final VarNode node, PointsToSetInternal pts) {
@@ -1298,6 +1246,8 @@ public class PAG implements PointsToAnalysis {
     private final Map<Object, AllocNode> valToAllocNode = 
             new HashMap<Object, AllocNode>(10000);
     private OnFlyCallGraph ofcg;
+    private SolverTelemetry telemetry;
+    private int numContextVarNodes = 0;
     private final ArrayList<VarNode> dereferences = new ArrayList<VarNode>();
     protected TypeManager typeManager;
     private final LargeNumberedMap localToNodeMap = new LargeNumberedMap( Scene.v().getLocalNumberer() );
@@ -1307,8 +1257,9 @@ public class PAG implements PointsToAnalysis {
     public GlobalNodeFactory nodeFactory() { return nodeFactory; }
     public NativeMethodDriver nativeMethodDriver;
 
-    // LWG: temporary hack to reduce memory-inefficiency (use new field additionalVirtualCalls instead of callAssigns)
-    //public HashMultiMap /* InvokeExpr -> Set[Pair] */ callAssigns = new HashMultiMap();
+    /** The parameter and return assignments of each call site, which only
+     * the demand-driven refinement of cs-demand uses; null without it, to
+     * save memory (use additionalVirtualCalls instead). */
     public HashMultiMap /* InvokeExpr -> Set[Pair] */ callAssigns;
     private Set<InvokeExpr> additionalVirtualCalls = new HashSet<InvokeExpr>();
     public Map<InvokeExpr, SootMethod> callToMethod = new HashMap<InvokeExpr, SootMethod>(); 
@@ -0,0 +1,537 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+import java.io.*;
+import java.util.*;
+
+import soot.*;
+import soot.jimple.spark.sets.P2SetVisitor;
+import soot.jimple.spark.sets.PointsToSetInternal;
+import soot.util.ArrayNumberer;
+import soot.util.BitSetIterator;
+import soot.util.BitVector;
+import soot.util.ChannelDataOutput;
+import soot.util.Numberer;
+
+/** Exports a pointer assignment graph, and its points-to sets, in a
+ * compact binary form. Unlike PAGDumper, it builds nothing in memory but
+ * tables of the types, methods, fields and contexts it refers to: it walks
+ * the nodes in the order of their numbers and writes as it goes through a
+ * ChannelDataOutput.
+ * <p>
+ * All ints are variable-length, as written by ChannelDataOutput. A file
+ * starts with MAGIC, as four bytes, and VERSION, followed by sections,
+ * each starting with a tag byte, and ends with the tag END:
+ * <ul>
+ * <li>TYPES, METHODS and FIELDS: a count n, then n strings, for the
+ * types, methods and fields that the rest of the file refers to, in the
+ * order of their numbers in the Scene. Everywhere else, they are given by
+ * their index in these tables, starting at 1, with 0 for none.</li>
+ * <li>ALLOC_NODES: a count n of allocation nodes, then their columns,
+ * each with one value per node in the order of their numbers: kind, type,
+ * method, context id, and description.</li>
+ * <li>VAR_NODES: a count n of variable nodes, then their columns: kind,
+ * type, method, context id, number of the representative of the node
+ * minus its own number (signed), and name.</li>
+ * <li>CONTEXTS: the contexts whose ids appear in the nodes, as numbered by
+ * ContextUniverse. First a count n of heap contexts, and n rows in
+ * increasing order of id, with their prefixes: the id minus that of the
+ * previous row, the id of the context without its last element, which
+ * comes earlier, and the last element, as a kind and a value: an
+ * allocation node number for ELEMENT_ALLOC, a type for ELEMENT_TYPE, and a
+ * string for ELEMENT_OTHER. Then a count m of the other contexts, which
+ * have negative ids, and m rows: minus the id, and a string.</li>
+ * <li>ALLOC_EDGES, SIMPLE_EDGES and STORE_EDGES: one row per source node
+ * with edges, in increasing order of number, and the terminator 0. A row
+ * is the difference between the number of its node and that of the
+ * previous row, the number of edges, and the targets. Each target is its
+ * number minus that of the previous target (signed), starting from the
+ * source; a store target is followed by its field.</li>
+ * <li>LOAD_EDGES: the same, with one row per field reference node, whose
+ * row has the base and field of the node before the number of edges.</li>
+ * <li>POINTS_TO: rows as above, one per representative variable node with
+ * a non-empty set, listing the allocation nodes of the set.</li>
+ * <li>FIELD_POINTS_TO: the same for the fields of allocation nodes, one
+ * row per AllocDotField, whose row has the base and field before the
+ * size of the set.</li>
+ * </ul>
+ * Deltas keep the ints short when the nodes of a row have close numbers,
+ * as they do in the bit-vector sets, which visit their nodes in order.
+ * @author agent
+ */
+public class PAGExporter {
+    public static final int MAGIC = 0x5350584e; // "SPXN"
+    public static final int VERSION = 2;
+
+    public static final int END = 0;
+    public static final int TYPES = 1;
+    public static final int METHODS = 2;
+    public static final int FIELDS = 3;
+    public static final int ALLOC_NODES = 4;
+    public static final int VAR_NODES = 5;
+    public static final int ALLOC_EDGES = 6;
+    public static final int SIMPLE_EDGES = 7;
+    public static final int STORE_EDGES = 8;
+    public static final int LOAD_EDGES = 9;
+    public static final int POINTS_TO = 10;
+    public static final int FIELD_POINTS_TO = 11;
+    public static final int CONTEXTS = 12;
+
+    public static final int ALLOC_PLAIN = 0;
+    public static final int ALLOC_STRING = 1;
+    public static final int ALLOC_CLASS = 2;
+    public static final int ALLOC_OBJSENS = 3;
+
+    public static final int VAR_LOCAL = 0;
+    public static final int VAR_GLOBAL = 1;
+    public static final int VAR_CONTEXT = 2;
+
+    public static final int ELEMENT_ALLOC = 0;
+    public static final int ELEMENT_TYPE = 1;
+    public static final int ELEMENT_OTHER = 2;
+
+    public PAGExporter( PAG pag ) {
+        this.pag = pag;
+    }
+
+    /** Writes the nodes and edges of the graph to the given file. */
+    public void exportPAG( String fileName ) {
+        export( fileName, true, false );
+    }
+
+    /** Writes the nodes of the graph and their points-to sets to the
+     * given file. */
+    public void exportPointsToSets( String fileName ) {
+        export( fileName, false, true );
+    }
+
+    /** Writes the nodes of the graph to the given file, followed by its
+     * edges if edges is set, and by the points-to sets if sets is set. */
+    public void export( String fileName, boolean edges, boolean sets ) {
+        try {
+            out = new ChannelDataOutput( new FileOutputStream( fileName ).getChannel() );
+            try {
+                for( int i = 24; i >= 0; i -= 8 ) out.writeByte( MAGIC >>> i );
+                out.writeVarInt( VERSION );
+                collectSymbols( edges, sets );
+                writeSymbols();
+                writeAllocNodes();
+                writeVarNodes();
+                writeContexts();
+                if( edges ) {
+                    writeAllocEdges();
+                    writeSimpleEdges();
+                    writeStoreEdges();
+                    writeLoadEdges();
+                }
+                if( sets ) {
+                    writePointsToSets();
+                    writeFieldPointsToSets();
+                }
+                out.writeByte( END );
+            } finally {
+                out.close();
+            }
+            if( pag.getOpts().verbose() ) {
+                G.v().out.println( "[Spark] Exported "+out.size()+" bytes to "+fileName );
+            }
+        } catch( IOException e ) {
+            throw new RuntimeException( "Couldn't export PAG to "+fileName+": "+e );
+        } finally {
+            out = null;
+            types = null;
+            methods = null;
+            fields = null;
+            heapContexts = null;
+            otherContexts = null;
+        }
+    }
+
+    /* End of public methods. */
+
+    /** Finds the types, methods, fields and contexts that the sections
+     * to be written refer to, and numbers them. */
+    private void collectSymbols( boolean edges, boolean sets ) {
+        types = new SymbolTable( Scene.v().getTypeNumberer().size() );
+        methods = new SymbolTable( Scene.v().getMethodNumberer().size() );
+        fields = new SymbolTable( Scene.v().getFieldNumberer().size() );
+        heapContexts = new BitVector();
+        otherContexts = new BitVector();
+
+        ArrayNumberer allocs = pag.getAllocNodeNumberer();
+        for( int i = 1; i <= allocs.size(); i++ ) {
+            AllocNode an = (AllocNode) allocs.get( i );
+            markType( an.getType() );
+            markMethod( an.getMethod() );
+            if( an instanceof ObjectSensitiveAllocNode ) {
+                markContext( ((ObjectSensitiveAllocNode) an).getContextId() );
+            }
+        }
+        ArrayNumberer vars = pag.getVarNodeNumberer();
+        for( int i = 1; i <= vars.size(); i++ ) {
+            VarNode vn = (VarNode) vars.get( i );
+            markType( vn.getType() );
+            if( vn instanceof LocalVarNode ) markMethod( ((LocalVarNode) vn).getMethod() );
+            if( vn instanceof ContextVarNode ) markContext( ((ContextVarNode) vn).contextId() );
+        }
+        if( edges ) {
+            ArrayNumberer frs = pag.getFieldRefNodeNumberer();
+            for( int i = 1; i <= frs.size(); i++ ) {
+                fields.mark( ((FieldRefNode) frs.get( i )).getField().getNumber() );
+            }
+        }
+        if( sets ) {
+            ArrayNumberer adfs = pag.getAllocDotFieldNodeNumberer();
+            for( int i = 1; i <= adfs.size(); i++ ) {
+                AllocDotField adf = (AllocDotField) adfs.get( i );
+                PointsToSetInternal set = adf.getP2Set();
+                if( set != null && !set.isEmpty() ) fields.mark( adf.getField().getNumber() );
+            }
+        }
+        types.assign();
+        methods.assign();
+        fields.assign();
+    }
+
+    private void markType( Type t ) {
+        if( t != null ) types.mark( t.getNumber() );
+    }
+
+    private void markMethod( SootMethod m ) {
+        if( m != null ) methods.mark( m.getNumber() );
+    }
+
+    /** Marks context, and for a heap context, its prefixes and the type of
+     * any TypeContextElement in it. */
+    private void markContext( int context ) {
+        if( context < 0 ) {
+            otherContexts.set( -context );
+            return;
+        }
+        ContextUniverse universe = ContextUniverse.v();
+        for( int len = universe.length( context ); len > 0 && !heapContexts.get( context ); len-- ) {
+            heapContexts.set( context );
+            ContextElement e = universe.elementAt( context, len - 1 );
+            if( e instanceof TypeContextElement ) markType( ((TypeContextElement) e).getType() );
+            context = universe.prefix( context, len - 1 );
+        }
+    }
+
+    private void writeSymbols() throws IOException {
+        ArrayNumberer<Type> typeNumberer = Scene.v().getTypeNumberer();
+        out.writeByte( TYPES );
+        out.writeVarInt( types.size() );
+        for( int i = 1; i <= typeNumberer.size(); i++ ) {
+            if( types.id( i ) != 0 ) out.writeString( String.valueOf( typeNumberer.get( i ) ) );
+        }
+
+        ArrayNumberer<SootMethod> methodNumberer = Scene.v().getMethodNumberer();
+        out.writeByte( METHODS );
+        out.writeVarInt( methods.size() );
+        for( int i = 1; i <= methodNumberer.size(); i++ ) {
+            if( methods.id( i ) != 0 ) out.writeString( methodNumberer.get( i ).getSignature() );
+        }
+
+        Numberer<SparkField> fieldNumberer = Scene.v().getFieldNumberer();
+        out.writeByte( FIELDS );
+        out.writeVarInt( fields.size() );
+        // The ArrayElement of the Scene is not numbered, so it is field 0
+        for( int i = 0; i <= fieldNumberer.size(); i++ ) {
+            if( fields.id( i ) == 0 ) continue;
+            SparkField f = i == 0 ? ArrayElement.v() : fieldNumberer.get( i );
+            out.writeString( f instanceof SootField ? ((SootField) f).getSignature()
+                    : PAGSnapshot.ARRAY_ELEMENT_KEY );
+        }
+    }
+
+    private void writeAllocNodes() throws IOException {
+        ArrayNumberer allocs = pag.getAllocNodeNumberer();
+        int n = allocs.size();
+        out.writeByte( ALLOC_NODES );
+        out.writeVarInt( n );
+        for( int i = 1; i <= n; i++ ) out.writeVarInt( allocKind( (AllocNode) allocs.get( i ) ) );
+        for( int i = 1; i <= n; i++ ) out.writeVarInt( type( ((AllocNode) allocs.get( i )).getType() ) );
+        for( int i = 1; i <= n; i++ ) out.writeVarInt( method( ((AllocNode) allocs.get( i )).getMethod() ) );
+        for( int i = 1; i <= n; i++ ) {
+            AllocNode an = (AllocNode) allocs.get( i );
+            out.writeVarInt( an instanceof ObjectSensitiveAllocNode
+                    ? ((ObjectSensitiveAllocNode) an).getContextId() : 0 );
+        }
+        for( int i = 1; i <= n; i++ ) {
+            AllocNode an = (AllocNode) allocs.get( i );
+            if( an instanceof StringConstantNode ) {
+                out.writeString( ((StringConstantNode) an).getString() );
+            } else if( an instanceof ClassConstantNode ) {
+                out.writeString( ((ClassConstantNode) an).getClassConstant().getValue() );
+            } else {
+                out.writeString( String.valueOf( an.getNewExpr() ) );
+            }
+        }
+    }
+
+    private static int allocKind( AllocNode an ) {
+        if( an instanceof ObjectSensitiveAllocNode ) return ALLOC_OBJSENS;
+        if( an instanceof StringConstantNode ) return ALLOC_STRING;
+        if( an instanceof ClassConstantNode ) return ALLOC_CLASS;
+        return ALLOC_PLAIN;
+    }
+
+    private void writeVarNodes() throws IOException {
+        ArrayNumberer vars = pag.getVarNodeNumberer();
+        int n = vars.size();
+        out.writeByte( VAR_NODES );
+        out.writeVarInt( n );
+        for( int i = 1; i <= n; i++ ) {
+            VarNode vn = (VarNode) vars.get( i );
+            out.writeVarInt( vn instanceof ContextVarNode ? VAR_CONTEXT
+                    : vn instanceof LocalVarNode ? VAR_LOCAL : VAR_GLOBAL );
+        }
+        for( int i = 1; i <= n; i++ ) out.writeVarInt( type( ((VarNode) vars.get( i )).getType() ) );
+        for( int i = 1; i <= n; i++ ) {
+            VarNode vn = (VarNode) vars.get( i );
+            out.writeVarInt( vn instanceof LocalVarNode ? method( ((LocalVarNode) vn).getMethod() ) : 0 );
+        }
+        for( int i = 1; i <= n; i++ ) {
+            VarNode vn = (VarNode) vars.get( i );
+            out.writeVarInt( vn instanceof ContextVarNode ? ((ContextVarNode) vn).contextId() : 0 );
+        }
+        for( int i = 1; i <= n; i++ ) {
+            out.writeSignedVarInt( ((VarNode) vars.get( i )).getReplacement().getNumber() - i );
+        }
+        for( int i = 1; i <= n; i++ ) {
+            Object var = ((VarNode) vars.get( i )).getVariable();
+            if( var instanceof Local ) out.writeString( ((Local) var).getName() );
+            else if( var instanceof SootField ) out.writeString( ((SootField) var).getSignature() );
+            else out.writeString( String.valueOf( var ) );
+        }
+    }
+
+    private void writeContexts() throws IOException {
+        ContextUniverse universe = ContextUniverse.v();
+        out.writeByte( CONTEXTS );
+        out.writeVarInt( heapContexts.cardinality() );
+        int prev = 0;
+        for( BitSetIterator it = heapContexts.iterator(); it.hasNext(); ) {
+            int context = it.next();
+            int len = universe.length( context );
+            out.writeVarInt( context - prev );
+            prev = context;
+            out.writeVarInt( universe.prefix( context, len - 1 ) );
+            ContextElement e = universe.elementAt( context, len - 1 );
+            if( e instanceof AllocNode ) {
+                out.writeVarInt( ELEMENT_ALLOC );
+                out.writeVarInt( ((AllocNode) e).getNumber() );
+            } else if( e instanceof TypeContextElement ) {
+                out.writeVarInt( ELEMENT_TYPE );
+                out.writeVarInt( type( ((TypeContextElement) e).getType() ) );
+            } else {
+                out.writeVarInt( ELEMENT_OTHER );
+                out.writeString( String.valueOf( e ) );
+            }
+        }
+        out.writeVarInt( otherContexts.cardinality() );
+        for( BitSetIterator it = otherContexts.iterator(); it.hasNext(); ) {
+            int id = it.next();
+            out.writeVarInt( id );
+            out.writeString( String.valueOf( universe.context( -id ) ) );
+        }
+    }
+
+    private void writeAllocEdges() throws IOException {
+        ArrayNumberer allocs = pag.getAllocNodeNumberer();
+        out.writeByte( ALLOC_EDGES );
+        int prev = 0;
+        for( int i = 1; i <= allocs.size(); i++ ) {
+            Node[] succs = pag.allocLookup( (AllocNode) allocs.get( i ) );
+            if( succs.length == 0 ) continue;
+            prev = startRow( i, prev, succs.length );
+            writeTargets( i, succs );
+        }
+        out.writeVarInt( 0 );
+    }
+
+    private void writeSimpleEdges() throws IOException {
+        ArrayNumberer vars = pag.getVarNodeNumberer();
+        out.writeByte( SIMPLE_EDGES );
+        int prev = 0;
+        for( int i = 1; i <= vars.size(); i++ ) {
+            VarNode vn = (VarNode) vars.get( i );
+            if( vn.getReplacement() != vn ) continue;
+            Node[] succs = pag.simpleLookup( vn );
+            if( succs.length == 0 ) continue;
+            prev = startRow( i, prev, succs.length );
+            writeTargets( i, succs );
+        }
+        out.writeVarInt( 0 );
+    }
+
+    private void writeStoreEdges() throws IOException {
+        ArrayNumberer vars = pag.getVarNodeNumberer();
+        out.writeByte( STORE_EDGES );
+        int prev = 0;
+        for( int i = 1; i <= vars.size(); i++ ) {
+            VarNode vn = (VarNode) vars.get( i );
+            if( vn.getReplacement() != vn ) continue;
+            Node[] succs = pag.storeLookup( vn );
+            if( succs.length == 0 ) continue;
+            prev = startRow( i, prev, succs.length );
+            int last = i;
+            for( Node succ : succs ) {
+                FieldRefNode fr = (FieldRefNode) succ;
+                int base = fr.getBase().getNumber();
+                out.writeSignedVarInt( base - last );
+                out.writeVarInt( fields.id( fr.getField().getNumber() ) );
+                last = base;
+            }
+        }
+        out.writeVarInt( 0 );
+    }
+
+    private void writeLoadEdges() throws IOException {
+        ArrayNumberer frs = pag.getFieldRefNodeNumberer();
+        out.writeByte( LOAD_EDGES );
+        int prev = 0;
+        for( int i = 1; i <= frs.size(); i++ ) {
+            FieldRefNode fr = (FieldRefNode) frs.get( i );
+            if( fr.getReplacement() != fr ) continue;
+            Node[] succs = pag.loadLookup( fr );
+            if( succs.length == 0 ) continue;
+            out.writeVarInt( i - prev );
+            prev = i;
+            int base = fr.getBase().getNumber();
+            out.writeVarInt( base );
+            out.writeVarInt( fields.id( fr.getField().getNumber() ) );
+            out.writeVarInt( succs.length );
+            writeTargets( base, succs );
+        }
+        out.writeVarInt( 0 );
+    }
+
+    private void writePointsToSets() throws IOException {
+        ArrayNumberer vars = pag.getVarNodeNumberer();
+        out.writeByte( POINTS_TO );
+        int prev = 0;
+        for( int i = 1; i <= vars.size(); i++ ) {
+            VarNode vn = (VarNode) vars.get( i );
+            if( vn.getReplacement() != vn ) continue;
+            PointsToSetInternal set = vn.getP2Set();
+            if( set == null || set.isEmpty() ) continue;
+            prev = startRow( i, prev, set.size() );
+            writeSet( set );
+        }
+        out.writeVarInt( 0 );
+    }
+
+    private void writeFieldPointsToSets() throws IOException {
+        ArrayNumberer adfs = pag.getAllocDotFieldNodeNumberer();
+        out.writeByte( FIELD_POINTS_TO );
+        int prev = 0;
+        for( int i = 1; i <= adfs.size(); i++ ) {
+            AllocDotField adf = (AllocDotField) adfs.get( i );
+            PointsToSetInternal set = adf.getP2Set();
+            if( set == null || set.isEmpty() ) continue;
+            out.writeVarInt( i - prev );
+            prev = i;
+            out.writeVarInt( adf.getBase().getNumber() );
+            out.writeVarInt( fields.id( adf.getField().getNumber() ) );
+            out.writeVarInt( set.size() );
+            writeSet( set );
+        }
+        out.writeVarInt( 0 );
+    }
+
+    /** Writes the start of the row of node number, after the row of node
+     * prev; returns number. */
+    private int startRow( int number, int prev, int length ) throws IOException {
+        out.writeVarInt( number - prev );
+        out.writeVarInt( length );
+        return number;
+    }
+
+    private void writeTargets( int source, Node[] targets ) throws IOException {
+        int last = source;
+        for( Node n : targets ) {
+            out.writeSignedVarInt( n.getNumber() - last );
+            last = n.getNumber();
+        }
+    }
+
+    /** Writes the elements of set, which must not change meanwhile; the
+     * count written before must be set.size(). */
+    private void writeSet( PointsToSetInternal set ) throws IOException {
+        last = 0;
+        set.forall( new P2SetVisitor() {
+            public final void visit( Node n ) {
+                try {
+                    out.writeSignedVarInt( n.getNumber() - last );
+                } catch( IOException e ) {
+                    throw new RuntimeException( "Couldn't export points-to set: "+e );
+                }
+                last = n.getNumber();
+            }
+        } );
+    }
+
+    private int type( Type t ) {
+        return t == null ? 0 : types.id( t.getNumber() );
+    }
+
+    private int method( SootMethod m ) {
+        return m == null ? 0 : methods.id( m.getNumber() );
+    }
+
+    /** The symbols of one kind that are written, given by their numbers in
+     * the Scene, and their indices in the file. */
+    private static final class SymbolTable {
+        SymbolTable( int numSymbols ) {
+            ids = new int[numSymbols + 1];
+        }
+        void mark( int number ) {
+            ids[number] = -1;
+        }
+        /** Numbers the marked symbols from 1, in increasing order. */
+        void assign() {
+            for( int i = 0; i < ids.length; i++ ) {
+                if( ids[i] != 0 ) ids[i] = ++size;
+            }
+        }
+        /** Returns the index of the symbol of the given number, or 0 if it
+         * is not written. */
+        int id( int number ) {
+            return number < ids.length ? ids[number] : 0;
+        }
+        int size() {
+            return size;
+        }
+        private final int[] ids;
+        private int size = 0;
+    }
+
+    private final PAG pag;
+    private ChannelDataOutput out;
+    private int last;
+    private SymbolTable types;
+    private SymbolTable methods;
+    private SymbolTable fields;
+    /** The ids of the heap contexts, and minus the ids of the other
+     * contexts, that are written. */
+    private BitVector heapContexts;
+    private BitVector otherContexts;
+}
@@ -0,0 +1,677 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.*;
+
+import soot.*;
+import soot.jimple.toolkits.callgraph.CallGraph;
+import soot.jimple.toolkits.callgraph.Edge;
+
+/** A solved pointer assignment graph loaded from a snapshot written by
+ * PAGSnapshotWriter. The file is memory-mapped, and points-to sets are
+ * read from it when queried, so loading is cheap and the snapshot is
+ * never copied into the Java heap as a whole.
+ *
+ * The file starts with MAGIC, VERSION, the fingerprint of the Spark
+ * options and the offsets of its sections. The file is mapped in
+ * segments, so it may be larger than a single buffer can map.
+ * All numbers are big-endian ints, but for the offsets, which are longs. Nodes keep the numbers they had in
+ * the PAG, and refer to strings, such as signatures and types, by their
+ * index in the string table.
+ * <ul>
+ * <li>SETS: points-to sets, each its size followed by the sorted numbers
+ * of its alloc nodes; referred to by offset, 0 for the empty set.</li>
+ * <li>ALLOC_NODES: count, then per node: kind, type, method, description,
+ * context id, number of the context-insensitive node, key of the
+ * allocation site.</li>
+ * <li>VAR_NODES: count, then per node: kind, type, method, variable name
+ * or signature, number of the base variable of a context variable,
+ * context id, number of the representative node, offset of the set.</li>
+ * <li>FIELD_SETS: count, then per field of an alloc node, sorted: alloc
+ * node number, field signature, offset of the set.</li>
+ * <li>CONTEXTS: count, then per heap context: id of its prefix, kind and
+ * reference of its last element; then the count of other contexts and
+ * per context its kind and description.</li>
+ * <li>CALL_EDGES: count, then per edge: source method, source context,
+ * index of the call site in the source body, target method, target
+ * context, kind, number of the variable node of the receiver.</li>
+ * <li>PAG_EDGES: count, then per simple edge: source, target; count,
+ * then per store edge: source, base, field; count, then per load edge:
+ * base, field, target.</li>
+ * <li>STRINGS: count, then per string its length and UTF-8 bytes.</li>
+ * </ul>
+ * @author agent
+ */
+public class PAGSnapshot implements PointsToAnalysis {
+    static final int MAGIC = 0x53504b53;
+    static final int VERSION = 3;
+
+    static final int SETS = 0;
+    static final int ALLOC_NODES = 1;
+    static final int VAR_NODES = 2;
+    static final int FIELD_SETS = 3;
+    static final int CONTEXTS = 4;
+    static final int CALL_EDGES = 5;
+    static final int STRINGS = 6;
+    static final int PAG_EDGES = 7;
+    static final int NUM_SECTIONS = 8;
+    static final int HEADER = 12;
+
+    static final int ALLOC_INSENSITIVE = 0;
+    static final int ALLOC_OBJSENS = 1;
+    static final int ALLOC_STRING = 2;
+    static final int ALLOC_CLASS = 3;
+
+    static final int VAR_LOCAL = 0;
+    static final int VAR_LOCAL_OTHER = 1;
+    static final int VAR_CONTEXT = 2;
+    static final int VAR_FIELD = 3;
+    static final int VAR_GLOBAL_OTHER = 4;
+
+    static final int ELEMENT_ALLOC = 0;
+    static final int ELEMENT_TYPE = 1;
+    static final int ELEMENT_OTHER = 2;
+    static final int ELEMENT_NO_CONTEXT = 3;
+
+    static final String ARRAY_ELEMENT_KEY = "[]";
+
+    private static final int ALLOC_RECORD = 7;
+    private static final int VAR_RECORD = 9;
+    private static final int FIELD_RECORD = 4;
+    private static final int CONTEXT_RECORD = 3;
+    private static final int EDGE_RECORD = 7;
+
+    private static final Kind[] KINDS = {
+        Kind.INVALID, Kind.STATIC, Kind.VIRTUAL, Kind.INTERFACE, Kind.SPECIAL,
+        Kind.CLINIT, Kind.THREAD, Kind.EXECUTOR, Kind.ASYNCTASK, Kind.FINALIZE,
+        Kind.INVOKE_FINALIZE, Kind.PRIVILEGED, Kind.NEWINSTANCE, Kind.REFL_INVOKE,
+        Kind.REFL_CONSTR_NEWINSTANCE, Kind.REFL_CLASS_NEWINSTANCE
+    };
+
+    static int kindIndex( Kind k ) {
+        for( int i = 0; i < KINDS.length; i++ ) {
+            if( KINDS[i] == k ) return i;
+        }
+        throw new RuntimeException( "Unknown call edge kind "+k );
+    }
+
+    /** Options that only affect what Spark outputs or how fast it runs,
+     * not its solution. */
+    private static final String[] OUTPUT_OPTIONS = {
+        "enabled", "verbose", "force-gc", "set-mass", "add-tags", "dump-",
+        "snapshot-", "telemetry-", "incremental-", "propagator-threads",
+        "set-impl", "double-set-"
+    };
+
+    /** Returns the Spark options that affect the solution, sorted, as
+     * one string. */
+    public static String fingerprint( Map options ) {
+        List<String> entries = new ArrayList<String>();
+        entries: for( Iterator oIt = options.entrySet().iterator(); oIt.hasNext(); ) {
+            Map.Entry e = (Map.Entry) oIt.next();
+            String key = String.valueOf( e.getKey() );
+            for( String o : OUTPUT_OPTIONS ) {
+                if( key.startsWith( o ) ) continue entries;
+            }
+            entries.add( key+":"+e.getValue() );
+        }
+        Collections.sort( entries );
+        StringBuffer ret = new StringBuffer();
+        for( String e : entries ) ret.append( e ).append( ' ' );
+        return ret.toString();
+    }
+
+    /** Memory-maps the snapshot in the given file. */
+    public static PAGSnapshot load( String fileName ) {
+        return load( fileName, SEGMENT_SIZE );
+    }
+
+    /** Memory-maps the snapshot in the given file, in segments of the
+     * given size. */
+    static PAGSnapshot load( String fileName, int segmentSize ) {
+        try {
+            RandomAccessFile file = new RandomAccessFile( fileName, "r" );
+            try {
+                return new PAGSnapshot( fileName, new Mapping( file.getChannel(), segmentSize ) );
+            } finally {
+                file.close();
+            }
+        } catch( IOException e ) {
+            throw new RuntimeException( "Couldn't load PAG snapshot "+fileName+": "+e );
+        }
+    }
+
+    private PAGSnapshot( String fileName, Mapping buf ) throws IOException {
+        this.buf = buf;
+        if( buf.size() < HEADER+8*NUM_SECTIONS || buf.getInt( 0 ) != MAGIC ) {
+            throw new RuntimeException( fileName+" is not a PAG snapshot" );
+        }
+        if( buf.getInt( 4 ) != VERSION ) {
+            throw new RuntimeException( "PAG snapshot "+fileName+" has version "+buf.getInt( 4 )
+                    +", expected "+VERSION );
+        }
+        for( int i = 0; i < NUM_SECTIONS; i++ ) sections[i] = buf.getLong( HEADER+8*i );
+
+        long pos = sections[STRINGS];
+        strings = new String[buf.getInt( pos )];
+        pos += 4;
+        for( int i = 0; i < strings.length; i++ ) {
+            byte[] bytes = new byte[buf.getInt( pos )];
+            pos += 4;
+            for( int j = 0; j < bytes.length; j++ ) bytes[j] = buf.get( pos++ );
+            strings[i] = new String( bytes, "UTF-8" );
+        }
+        numAllocNodes = buf.getInt( sections[ALLOC_NODES] );
+        numVarNodes = buf.getInt( sections[VAR_NODES] );
+        numFieldSets = buf.getInt( sections[FIELD_SETS] );
+        numContexts = buf.getInt( sections[CONTEXTS] );
+        numEdges = buf.getInt( sections[CALL_EDGES] );
+        fingerprint = strings[buf.getInt( 8 )];
+    }
+
+    /** Returns the set of objects pointed to by variable l, in any context. */
+    public PointsToSet reachingObjects( Local l ) {
+        int n = localNode( l );
+        if( n == 0 ) return SnapshotPointsToSet.empty( this );
+        List<int[]> sets = new ArrayList<int[]>();
+        sets.add( varSet( n ) );
+        int[] contexts = contextNodes.get( n );
+        if( contexts != null ) {
+            for( int c : contexts ) sets.add( varSet( c ) );
+        }
+        return new SnapshotPointsToSet( this, SnapshotPointsToSet.union( sets ) );
+    }
+
+    /** Returns the set of objects pointed to by variable l in context c. */
+    public PointsToSet reachingObjects( Context c, Local l ) {
+        int n = localNode( l );
+        if( n == 0 ) return SnapshotPointsToSet.empty( this );
+        int id = c instanceof SnapshotContext && ((SnapshotContext) c).snapshot == this
+            ? ((SnapshotContext) c).id : c == NoContext.v() ? noContextId : 0;
+        if( id != 0 ) {
+            int[] contexts = contextNodes.get( n );
+            if( contexts == null ) return SnapshotPointsToSet.empty( this );
+            for( int cn : contexts ) {
+                if( varInt( cn, 5 ) == id ) return new SnapshotPointsToSet( this, varSet( cn ) );
+            }
+            return SnapshotPointsToSet.empty( this );
+        }
+        return new SnapshotPointsToSet( this, varSet( n ) );
+    }
+
+    /** Returns the set of objects pointed to by static field f. */
+    public PointsToSet reachingObjects( SootField f ) {
+        if( !f.isStatic() )
+            throw new RuntimeException( "The parameter f must be a *static* field." );
+        buildIndex();
+        Integer n = globalNodes.get( f.getSignature() );
+        if( n == null ) return SnapshotPointsToSet.empty( this );
+        return new SnapshotPointsToSet( this, varSet( n ) );
+    }
+
+    /** Returns the set of objects pointed to by instance field f
+     * of the objects in the PointsToSet s. */
+    public PointsToSet reachingObjects( PointsToSet s, SootField f ) {
+        if( f.isStatic() )
+            throw new RuntimeException( "The parameter f must be an *instance* field." );
+        return reachingObjectsInternal( s, f.getSignature() );
+    }
+
+    /** Returns the set of objects pointed to by instance field f
+     * of the objects pointed to by l. */
+    public PointsToSet reachingObjects( Local l, SootField f ) {
+        return reachingObjects( reachingObjects( l ), f );
+    }
+
+    /** Returns the set of objects pointed to by instance field f
+     * of the objects pointed to by l in context c. */
+    public PointsToSet reachingObjects( Context c, Local l, SootField f ) {
+        return reachingObjects( reachingObjects( c, l ), f );
+    }
+
+    /** Returns the set of objects pointed to by elements of the arrays
+     * in the PointsToSet s. */
+    public PointsToSet reachingObjectsOfArrayElement( PointsToSet s ) {
+        return reachingObjectsInternal( s, ARRAY_ELEMENT_KEY );
+    }
+
+    /** Returns the call graph of the snapshot, with the context-sensitive
+     * edges of the analysis. The bodies of the methods that contain call
+     * sites are loaded to find the statements of the call sites. */
+    public CallGraph callGraph() {
+        if( callGraph != null ) return callGraph;
+        CallGraph cg = new CallGraph();
+        Map<SootMethod, Unit[]> units = new HashMap<SootMethod, Unit[]>();
+        long pos = sections[CALL_EDGES]+4;
+        for( int i = 0; i < numEdges; i++, pos += 4*EDGE_RECORD ) {
+            SootMethod src = method( buf.getInt( pos ) );
+            SootMethod tgt = method( buf.getInt( pos+12 ) );
+            if( src == null || tgt == null ) continue;
+            Unit srcUnit = null;
+            int index = buf.getInt( pos+8 );
+            if( index >= 0 && src.isConcrete() ) {
+                Unit[] body = units.get( src );
+                if( body == null ) {
+                    body = src.retrieveActiveBody().getUnits().toArray( new Unit[0] );
+                    units.put( src, body );
+                }
+                if( index < body.length ) srcUnit = body[index];
+            }
+            cg.addEdge( new Edge( methodContext( src, buf.getInt( pos+4 ) ), srcUnit,
+                        methodContext( tgt, buf.getInt( pos+16 ) ), KINDS[buf.getInt( pos+20 )] ) );
+        }
+        return callGraph = cg;
+    }
+
+    /** Returns the context with the given id in the snapshot, or null for
+     * id 0. */
+    public Context context( int id ) {
+        if( id == 0 ) return null;
+        Context ret = contexts.get( id );
+        if( ret == null ) {
+            if( id < 0 && otherKind( id ) == ELEMENT_NO_CONTEXT ) {
+                ret = NoContext.v();
+            } else {
+                ret = new SnapshotContext( this, id );
+            }
+            contexts.put( id, ret );
+        }
+        return ret;
+    }
+
+    /** Returns the number of alloc nodes in the snapshot. */
+    public int numAllocNodes() { return numAllocNodes; }
+    /** Returns the number of variable nodes in the snapshot. */
+    public int numVarNodes() { return numVarNodes; }
+    /** Returns the fingerprint of the Spark options of the run that wrote
+     * the snapshot. */
+    public String fingerprint() { return fingerprint; }
+
+    /* End of public methods. */
+
+    /** Returns the type of objects allocated at alloc node n. */
+    Type allocType( int n ) {
+        return type( allocInt( n, 1 ) );
+    }
+
+    /** Returns the kind of alloc node n. */
+    int allocKind( int n ) {
+        return allocInt( n, 0 );
+    }
+
+    /** Returns the string or class of a constant alloc node. */
+    String allocDescription( int n ) {
+        return strings[allocInt( n, 3 )];
+    }
+
+    /** Returns the method of alloc node n, as a string id, or -1. */
+    int allocMethod( int n ) {
+        return allocInt( n, 2 );
+    }
+
+    int allocContext( int n ) {
+        return allocInt( n, 4 );
+    }
+
+    int allocBase( int n ) {
+        return allocInt( n, 5 );
+    }
+
+    /** Returns the key of the allocation site of alloc node n, or null. */
+    String allocSiteKey( int n ) {
+        int sid = allocInt( n, 6 );
+        return sid < 0 ? null : strings[sid];
+    }
+
+    int varKind( int n ) { return varInt( n, 0 ); }
+    Type varType( int n ) { return type( varInt( n, 1 ) ); }
+    /** Returns the method of variable node n, as a string id, or -1. */
+    int varMethod( int n ) { return varInt( n, 2 ); }
+    String varName( int n ) { return strings[varInt( n, 3 )]; }
+    int varBase( int n ) { return varInt( n, 4 ); }
+    int varContext( int n ) { return varInt( n, 5 ); }
+    int varRep( int n ) { return varInt( n, 6 ); }
+
+    /** Returns the sorted alloc nodes pointed to by variable node n. */
+    int[] pointsTo( int n ) {
+        return varSet( n );
+    }
+
+    int contextPrefix( int id ) { return buf.getInt( contextPos( id ) ); }
+    int contextElementKind( int id ) { return buf.getInt( contextPos( id )+4 ); }
+    int contextElementRef( int id ) { return buf.getInt( contextPos( id )+8 ); }
+    /** Returns the kind of the context with negative id. */
+    int otherContextKind( int id ) { return otherKind( id ); }
+
+    int numEdges() { return numEdges; }
+
+    /** Returns the given field of call edge i, counting from 0. */
+    int edgeInt( int i, int field ) {
+        return buf.getInt( sections[CALL_EDGES]+4+4*(EDGE_RECORD*(long) i+field) );
+    }
+
+    Kind edgeKind( int i ) {
+        return KINDS[edgeInt( i, 5 )];
+    }
+
+    /** Returns the simple edges as source, target pairs. */
+    int[] simpleEdges() {
+        return readEdges( sections[PAG_EDGES], 2 );
+    }
+
+    /** Returns the store edges as source, base, field triples. */
+    int[] storeEdges() {
+        long pos = sections[PAG_EDGES];
+        pos += 4+8L*buf.getInt( pos );
+        return readEdges( pos, 3 );
+    }
+
+    /** Returns the load edges as base, field, target triples. */
+    int[] loadEdges() {
+        long pos = sections[PAG_EDGES];
+        pos += 4+8L*buf.getInt( pos );
+        pos += 4+12L*buf.getInt( pos );
+        return readEdges( pos, 3 );
+    }
+
+    String string( int sid ) {
+        return strings[sid];
+    }
+
+    /** Returns the id of the string s, or -1 if it is not in the snapshot. */
+    int stringId( String s ) {
+        buildIndex();
+        Integer ret = stringIds.get( s );
+        return ret == null ? -1 : ret;
+    }
+
+    private int[] readEdges( long pos, int record ) {
+        int[] ret = new int[record*buf.getInt( pos )];
+        for( int i = 0; i < ret.length; i++ ) ret[i] = buf.getInt( pos+4+4L*i );
+        return ret;
+    }
+
+    String contextString( int id ) {
+        if( id < 0 ) return strings[buf.getInt( otherPos( id )+4 )];
+        StringBuffer ret = new StringBuffer( "ObjSensAllocNode " );
+        List<String> elems = new ArrayList<String>();
+        for( int c = id; c > 0; c = buf.getInt( contextPos( c ) ) ) {
+            long pos = contextPos( c );
+            int kind = buf.getInt( pos+4 );
+            int ref = buf.getInt( pos+8 );
+            if( kind == ELEMENT_ALLOC ) elems.add( strings[allocInt( ref, 3 )] );
+            else elems.add( strings[ref] );
+        }
+        for( int i = elems.size()-1; i >= 0; i-- ) ret.append( "["+elems.get( i )+"]" );
+        return ret.toString();
+    }
+
+    private PointsToSet reachingObjectsInternal( PointsToSet s, String field ) {
+        if( !(s instanceof SnapshotPointsToSet) || ((SnapshotPointsToSet) s).snapshot != this ) {
+            throw new RuntimeException( "Points-to set "+s+" does not come from this snapshot" );
+        }
+        buildIndex();
+        Integer f = stringIds.get( field );
+        if( f == null ) return SnapshotPointsToSet.empty( this );
+        List<int[]> sets = new ArrayList<int[]>();
+        for( int a : ((SnapshotPointsToSet) s).elems ) {
+            long set = fieldSet( a, f );
+            if( set != 0 ) sets.add( readSet( set ) );
+        }
+        return new SnapshotPointsToSet( this, SnapshotPointsToSet.union( sets ) );
+    }
+
+    /** Binary search of the field set of alloc node a and field f. */
+    private long fieldSet( int a, int f ) {
+        long base = sections[FIELD_SETS]+4;
+        int lo = 0, hi = numFieldSets-1;
+        while( lo <= hi ) {
+            int mid = (lo+hi) >>> 1;
+            long pos = base+4L*FIELD_RECORD*mid;
+            int ma = buf.getInt( pos );
+            int mf = buf.getInt( pos+4 );
+            if( ma < a || (ma == a && mf < f) ) lo = mid+1;
+            else if( ma > a || mf > f ) hi = mid-1;
+            else return buf.getLong( pos+8 );
+        }
+        return 0;
+    }
+
+    private int[] varSet( int n ) {
+        return readSet( buf.getLong( varPos( n, 7 ) ) );
+    }
+
+    private int[] readSet( long offset ) {
+        if( offset == 0 ) return SnapshotPointsToSet.EMPTY;
+        int[] ret = new int[buf.getInt( offset )];
+        for( int i = 0; i < ret.length; i++ ) ret[i] = buf.getInt( offset+4+4L*i );
+        return ret;
+    }
+
+    private int allocInt( int n, int field ) {
+        return buf.getInt( sections[ALLOC_NODES]+4+4*(ALLOC_RECORD*(n-1L)+field) );
+    }
+
+    private int varInt( int n, int field ) {
+        return buf.getInt( varPos( n, field ) );
+    }
+
+    private long varPos( int n, int field ) {
+        return sections[VAR_NODES]+4+4*(VAR_RECORD*(n-1L)+field);
+    }
+
+    private long contextPos( int id ) {
+        return sections[CONTEXTS]+4+4L*CONTEXT_RECORD*(id-1);
+    }
+
+    private long otherPos( int id ) {
+        return sections[CONTEXTS]+8+4L*CONTEXT_RECORD*numContexts+8L*(-id-1);
+    }
+
+    private int otherKind( int id ) {
+        return buf.getInt( otherPos( id ) );
+    }
+
+    /** Returns the number of the variable node of l, or 0. */
+    private int localNode( Local l ) {
+        if( !(l.getType() instanceof RefLikeType) ) return 0;
+        buildIndex();
+        Integer ret = localNodes.get( l );
+        if( ret == null && !pendingMethods.isEmpty() ) {
+            indexPendingMethods();
+            ret = localNodes.get( l );
+        }
+        return ret == null ? 0 : ret;
+    }
+
+    /** Builds the maps from fields and method locals to variable nodes. */
+    private void buildIndex() {
+        if( stringIds != null ) return;
+        stringIds = new HashMap<String, Integer>();
+        for( int i = 0; i < strings.length; i++ ) stringIds.put( strings[i], i );
+
+        Map<Integer, List<Integer>> contextLists = new HashMap<Integer, List<Integer>>();
+        for( int n = 1; n <= numVarNodes; n++ ) {
+            int kind = varInt( n, 0 );
+            if( kind == VAR_LOCAL ) {
+                int m = varInt( n, 2 );
+                Map<String, Integer> locals = methodLocals.get( m );
+                if( locals == null ) {
+                    methodLocals.put( m, locals = new HashMap<String, Integer>() );
+                    pendingMethods.add( m );
+                }
+                locals.put( strings[varInt( n, 3 )], n );
+            } else if( kind == VAR_CONTEXT ) {
+                Integer base = varInt( n, 4 );
+                List<Integer> list = contextLists.get( base );
+                if( list == null ) contextLists.put( base, list = new ArrayList<Integer>() );
+                list.add( n );
+            } else if( kind == VAR_FIELD ) {
+                globalNodes.put( strings[varInt( n, 3 )], n );
+            }
+        }
+        int others = buf.getInt( sections[CONTEXTS]+4+4L*CONTEXT_RECORD*numContexts );
+        for( int id = -1; id >= -others; id-- ) {
+            if( otherKind( id ) == ELEMENT_NO_CONTEXT ) noContextId = id;
+        }
+        for( Map.Entry<Integer, List<Integer>> e : contextLists.entrySet() ) {
+            int[] nodes = new int[e.getValue().size()];
+            for( int i = 0; i < nodes.length; i++ ) nodes[i] = e.getValue().get( i );
+            contextNodes.put( e.getKey(), nodes );
+        }
+        indexPendingMethods();
+    }
+
+    /** Maps the locals of the methods whose bodies have been loaded since
+     * the last call. */
+    private void indexPendingMethods() {
+        for( Iterator<Integer> mIt = pendingMethods.iterator(); mIt.hasNext(); ) {
+            int m = mIt.next();
+            SootMethod method = method( m );
+            if( method == null ) {
+                mIt.remove();
+                continue;
+            }
+            if( !method.hasActiveBody() ) continue;
+            mIt.remove();
+            Map<String, Integer> locals = methodLocals.get( m );
+            for( Local l : method.getActiveBody().getLocals() ) {
+                Integer n = locals.get( l.getName() );
+                if( n != null ) localNodes.put( l, n );
+            }
+        }
+    }
+
+    SootMethod method( int sid ) {
+        if( sid < 0 ) return null;
+        if( methods.containsKey( sid ) ) return methods.get( sid );
+        String sig = strings[sid];
+        SootMethod ret = Scene.v().containsMethod( sig ) ? Scene.v().getMethod( sig ) : null;
+        methods.put( sid, ret );
+        return ret;
+    }
+
+    private MethodOrMethodContext methodContext( SootMethod m, int contextId ) {
+        Context c = context( contextId );
+        return c == null ? m : MethodContext.v( m, c );
+    }
+
+    /** Returns the type with the given name in the snapshot. */
+    Type type( int sid ) {
+        if( sid < 0 ) return null;
+        Type ret = types.get( sid );
+        if( ret == null ) {
+            ret = parseType( strings[sid] );
+            types.put( sid, ret );
+        }
+        return ret;
+    }
+
+    private static Type parseType( String name ) {
+        int dims = 0;
+        while( name.endsWith( "[]" ) ) {
+            name = name.substring( 0, name.length()-2 );
+            dims++;
+        }
+        Type base;
+        if( name.equals( "int" ) ) base = IntType.v();
+        else if( name.equals( "long" ) ) base = LongType.v();
+        else if( name.equals( "short" ) ) base = ShortType.v();
+        else if( name.equals( "byte" ) ) base = ByteType.v();
+        else if( name.equals( "char" ) ) base = CharType.v();
+        else if( name.equals( "boolean" ) ) base = BooleanType.v();
+        else if( name.equals( "float" ) ) base = FloatType.v();
+        else if( name.equals( "double" ) ) base = DoubleType.v();
+        else if( name.equals( NullType.v().toString() ) ) base = NullType.v();
+        else if( name.startsWith( "Any_subtype_of_" ) )
+            base = AnySubType.v( RefType.v( name.substring( "Any_subtype_of_".length() ) ) );
+        else base = RefType.v( name );
+        return dims == 0 ? base : ArrayType.v( base, dims );
+    }
+
+    /** A context of the analysis that wrote the snapshot, known by its id. */
+    public static final class SnapshotContext implements Context {
+        SnapshotContext( PAGSnapshot snapshot, int id ) {
+            this.snapshot = snapshot;
+            this.id = id;
+        }
+        /** Returns the id of the context in the snapshot. */
+        public int id() { return id; }
+        public String toString() { return snapshot.contextString( id ); }
+        final PAGSnapshot snapshot;
+        final int id;
+    }
+
+    /** A file mapped in segments of the same size. Each segment but the
+     * last also maps the first bytes of the next one, so that any int or
+     * long is read from a single segment. */
+    private static final class Mapping {
+        Mapping( FileChannel channel, int segmentSize ) throws IOException {
+            this.segmentSize = segmentSize;
+            size = channel.size();
+            segments = new MappedByteBuffer[(int) ((size+segmentSize-1)/segmentSize)];
+            for( int i = 0; i < segments.length; i++ ) {
+                long start = (long) i*segmentSize;
+                segments[i] = channel.map( FileChannel.MapMode.READ_ONLY, start,
+                        Math.min( size-start, segmentSize+8L ) );
+            }
+        }
+        long size() { return size; }
+        byte get( long pos ) {
+            return segments[(int) (pos/segmentSize)].get( (int) (pos%segmentSize) );
+        }
+        int getInt( long pos ) {
+            return segments[(int) (pos/segmentSize)].getInt( (int) (pos%segmentSize) );
+        }
+        long getLong( long pos ) {
+            return segments[(int) (pos/segmentSize)].getLong( (int) (pos%segmentSize) );
+        }
+        private final int segmentSize;
+        private final long size;
+        private final MappedByteBuffer[] segments;
+    }
+
+    /** The size of the segments in which snapshots are mapped. */
+    private static final int SEGMENT_SIZE = 1<<30;
+
+    private final Mapping buf;
+    private final long[] sections = new long[NUM_SECTIONS];
+    private final String[] strings;
+    private final int numAllocNodes;
+    private final int numVarNodes;
+    private final int numFieldSets;
+    private final int numContexts;
+    private final int numEdges;
+    private final String fingerprint;
+    private int noContextId = 0;
+    private CallGraph callGraph;
+    private Map<String, Integer> stringIds;
+    private final Map<Integer, Type> types = new HashMap<Integer, Type>();
+    private final Map<Integer, SootMethod> methods = new HashMap<Integer, SootMethod>();
+    private final Map<Integer, Context> contexts = new HashMap<Integer, Context>();
+    private final Map<Integer, Map<String, Integer>> methodLocals = new HashMap<Integer, Map<String, Integer>>();
+    private final Set<Integer> pendingMethods = new LinkedHashSet<Integer>();
+    private final Map<Local, Integer> localNodes = new HashMap<Local, Integer>();
+    private final Map<Integer, int[]> contextNodes = new HashMap<Integer, int[]>();
+    private final Map<String, Integer> globalNodes = new HashMap<String, Integer>();
+}
@@ -0,0 +1,454 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+import java.io.*;
+import java.util.*;
+
+import soot.*;
+import soot.jimple.AssignStmt;
+import soot.jimple.InvokeExpr;
+import soot.jimple.NewMultiArrayExpr;
+import soot.jimple.Stmt;
+import soot.jimple.spark.sets.P2SetVisitor;
+import soot.jimple.spark.sets.PointsToSetInternal;
+import soot.jimple.toolkits.callgraph.CallGraph;
+import soot.jimple.toolkits.callgraph.Edge;
+import soot.toolkits.scalar.Pair;
+import soot.util.ArrayNumberer;
+
+/** Writes a solved pointer assignment graph and its call graph to a
+ * binary snapshot that can be loaded by PAGSnapshot. The layout of the
+ * file is described in PAGSnapshot.
+ * @author agent
+ */
+public class PAGSnapshotWriter {
+    public PAGSnapshotWriter( PAG pag, CallGraph cg ) {
+        this( pag, cg, null );
+    }
+
+    /** Creates a writer that records the fingerprint of the given Spark
+     * options, so that an incremental run can check that it analyses
+     * the program the same way. */
+    public PAGSnapshotWriter( PAG pag, CallGraph cg, Map options ) {
+        this.pag = pag;
+        this.cg = cg;
+        this.fingerprint = options == null ? "" : PAGSnapshot.fingerprint( options );
+    }
+
+    /** Writes the snapshot to the given file. */
+    public void write( String fileName ) {
+        try {
+            counter = new Counter( new BufferedOutputStream(
+                        new FileOutputStream( fileName ), 1<<16 ) );
+            out = new DataOutputStream( counter );
+            out.writeInt( PAGSnapshot.MAGIC );
+            out.writeInt( PAGSnapshot.VERSION );
+            out.writeInt( string( fingerprint ) );
+            for( int i = 0; i < PAGSnapshot.NUM_SECTIONS; i++ ) out.writeLong( 0 );
+
+            long[] offsets = new long[PAGSnapshot.NUM_SECTIONS];
+            offsets[PAGSnapshot.SETS] = counter.count;
+            writeSets();
+            offsets[PAGSnapshot.ALLOC_NODES] = counter.count;
+            writeAllocNodes();
+            offsets[PAGSnapshot.VAR_NODES] = counter.count;
+            writeVarNodes();
+            offsets[PAGSnapshot.FIELD_SETS] = counter.count;
+            writeFieldSets();
+            offsets[PAGSnapshot.CONTEXTS] = counter.count;
+            writeContexts();
+            offsets[PAGSnapshot.CALL_EDGES] = counter.count;
+            writeCallEdges();
+            offsets[PAGSnapshot.PAG_EDGES] = counter.count;
+            writePAGEdges();
+            offsets[PAGSnapshot.STRINGS] = counter.count;
+            writeStrings();
+            out.close();
+
+            RandomAccessFile file = new RandomAccessFile( fileName, "rw" );
+            try {
+                file.seek( PAGSnapshot.HEADER );
+                for( long offset : offsets ) file.writeLong( offset );
+            } finally {
+                file.close();
+            }
+        } catch( IOException e ) {
+            throw new RuntimeException( "Couldn't write PAG snapshot "+fileName+": "+e );
+        }
+    }
+
+    /* End of public methods. */
+
+    /** Writes the points-to sets of variables and of fields of objects,
+     * and remembers their offsets. */
+    private void writeSets() throws IOException {
+        ArrayNumberer vars = pag.getVarNodeNumberer();
+        varSets = new long[vars.size()+1];
+        for( Iterator vIt = vars.iterator(); vIt.hasNext(); ) {
+            VarNode vn = (VarNode) vIt.next();
+            if( vn.getReplacement() != vn ) continue;
+            varSets[vn.getNumber()] = writeSet( vn.getP2Set() );
+        }
+        ArrayNumberer adfs = pag.getAllocDotFieldNodeNumberer();
+        fieldSets = new long[adfs.size()+1];
+        for( Iterator aIt = adfs.iterator(); aIt.hasNext(); ) {
+            AllocDotField adf = (AllocDotField) aIt.next();
+            fieldSets[adf.getNumber()] = writeSet( adf.getP2Set() );
+        }
+    }
+
+    /** Writes a set as its size followed by its sorted elements; returns
+     * its offset, or 0 if it is empty. */
+    private long writeSet( PointsToSetInternal set ) throws IOException {
+        if( set == null || set.isEmpty() ) return 0;
+        final int[] elems = new int[set.size()];
+        final int[] size = new int[1];
+        set.forall( new P2SetVisitor() {
+            public final void visit( Node n ) {
+                elems[size[0]++] = n.getNumber();
+            }
+        } );
+        Arrays.sort( elems, 0, size[0] );
+        long offset = counter.count;
+        out.writeInt( size[0] );
+        for( int i = 0; i < size[0]; i++ ) out.writeInt( elems[i] );
+        return offset;
+    }
+
+    private void writeAllocNodes() throws IOException {
+        ArrayNumberer allocs = pag.getAllocNodeNumberer();
+        out.writeInt( allocs.size() );
+        for( int i = 1; i <= allocs.size(); i++ ) {
+            AllocNode an = (AllocNode) allocs.get( i );
+            int kind = PAGSnapshot.ALLOC_INSENSITIVE;
+            int desc;
+            int contextId = 0;
+            int base = 0;
+            if( an instanceof StringConstantNode ) {
+                kind = PAGSnapshot.ALLOC_STRING;
+                desc = string( ((StringConstantNode) an).getString() );
+            } else if( an instanceof ClassConstantNode ) {
+                kind = PAGSnapshot.ALLOC_CLASS;
+                desc = string( ((ClassConstantNode) an).getClassConstant().getValue() );
+            } else {
+                desc = string( String.valueOf( an.getNewExpr() ) );
+            }
+            if( an instanceof ObjectSensitiveAllocNode ) {
+                ObjectSensitiveAllocNode osan = (ObjectSensitiveAllocNode) an;
+                kind = PAGSnapshot.ALLOC_OBJSENS;
+                contextId = osan.getContextId();
+                base = ((Node) osan.getContextElement( 0 )).getNumber();
+            }
+            out.writeInt( kind );
+            out.writeInt( type( an.getType() ) );
+            out.writeInt( method( an.getMethod() ) );
+            out.writeInt( desc );
+            out.writeInt( contextId );
+            out.writeInt( base );
+            String key = siteKey( an );
+            out.writeInt( key == null ? -1 : string( key ) );
+        }
+    }
+
+    /** Returns a key that finds the allocation site of an in a later run
+     * of Spark on the same code, or null if there is none. */
+    private String siteKey( AllocNode an ) {
+        if( an instanceof StringConstantNode ) return "str:"+((StringConstantNode) an).getString();
+        if( an instanceof ClassConstantNode ) {
+            return "class:"+((ClassConstantNode) an).getClassConstant().getValue();
+        }
+        Object site = an.getNewExpr();
+        if( site instanceof String ) return "global:"+site;
+        if( site instanceof Type ) return "type:"+site;
+        int dims = -1;
+        if( site instanceof Pair && ((Pair) site).getO1() instanceof NewMultiArrayExpr ) {
+            dims = (Integer) ((Pair) site).getO2();
+            site = ((Pair) site).getO1();
+        }
+        if( !(site instanceof Value) ) return null;
+        int index = siteIndex( an.getMethod(), (Value) site );
+        if( index < 0 ) return null;
+        return dims < 0 ? "@"+index : "@"+index+"/"+dims;
+    }
+
+    private void writeVarNodes() throws IOException {
+        ArrayNumberer vars = pag.getVarNodeNumberer();
+        int[] baseOf = new int[vars.size()+1];
+        for( Iterator vIt = vars.iterator(); vIt.hasNext(); ) {
+            VarNode vn = (VarNode) vIt.next();
+            if( !(vn instanceof LocalVarNode) || vn instanceof ContextVarNode ) continue;
+            List<ContextVarNode> cvns = ((LocalVarNode) vn).getContextVarNodes();
+            if( cvns == null ) continue;
+            for( ContextVarNode cvn : cvns ) baseOf[cvn.getNumber()] = vn.getNumber();
+        }
+
+        out.writeInt( vars.size() );
+        for( int i = 1; i <= vars.size(); i++ ) {
+            VarNode vn = (VarNode) vars.get( i );
+            Object var = vn.getVariable();
+            int kind;
+            int method = -1;
+            int contextId = 0;
+            if( vn instanceof ContextVarNode ) {
+                kind = PAGSnapshot.VAR_CONTEXT;
+                method = method( ((ContextVarNode) vn).getMethod() );
+                contextId = ((ContextVarNode) vn).contextId();
+            } else if( vn instanceof LocalVarNode ) {
+                kind = var instanceof Local ? PAGSnapshot.VAR_LOCAL : PAGSnapshot.VAR_LOCAL_OTHER;
+                method = method( ((LocalVarNode) vn).getMethod() );
+            } else {
+                kind = var instanceof SootField ? PAGSnapshot.VAR_FIELD : PAGSnapshot.VAR_GLOBAL_OTHER;
+            }
+            String key;
+            if( var instanceof Local ) key = ((Local) var).getName();
+            else if( var instanceof SootField ) key = ((SootField) var).getSignature();
+            else key = String.valueOf( var );
+            VarNode rep = (VarNode) vn.getReplacement();
+
+            out.writeInt( kind );
+            out.writeInt( type( vn.getType() ) );
+            out.writeInt( method );
+            out.writeInt( string( key ) );
+            out.writeInt( baseOf[i] );
+            out.writeInt( contextId );
+            out.writeInt( rep.getNumber() );
+            out.writeLong( varSets[rep.getNumber()] );
+        }
+    }
+
+    private void writeFieldSets() throws IOException {
+        List<long[]> entries = new ArrayList<long[]>();
+        for( Iterator aIt = pag.getAllocDotFieldNodeNumberer().iterator(); aIt.hasNext(); ) {
+            AllocDotField adf = (AllocDotField) aIt.next();
+            long set = fieldSets[adf.getNumber()];
+            if( set == 0 ) continue;
+            entries.add( new long[] { adf.getBase().getNumber(), field( adf.getField() ), set } );
+        }
+        Collections.sort( entries, new Comparator<long[]>() {
+            public int compare( long[] e1, long[] e2 ) {
+                if( e1[0] != e2[0] ) return e1[0] < e2[0] ? -1 : 1;
+                return e1[1] < e2[1] ? -1 : e1[1] == e2[1] ? 0 : 1;
+            }
+        } );
+        out.writeInt( entries.size() );
+        for( long[] e : entries ) {
+            out.writeInt( (int) e[0] );
+            out.writeInt( (int) e[1] );
+            out.writeLong( e[2] );
+        }
+    }
+
+    private void writeContexts() throws IOException {
+        ContextUniverse universe = ContextUniverse.v();
+        int n = universe.numContexts();
+        out.writeInt( n );
+        for( int id = 1; id <= n; id++ ) {
+            int length = universe.length( id );
+            ContextElement last = universe.elementAt( id, length-1 );
+            out.writeInt( universe.prefix( id, length-1 ) );
+            if( last instanceof AllocNode ) {
+                out.writeInt( PAGSnapshot.ELEMENT_ALLOC );
+                out.writeInt( ((AllocNode) last).getNumber() );
+            } else if( last instanceof TypeContextElement ) {
+                out.writeInt( PAGSnapshot.ELEMENT_TYPE );
+                out.writeInt( type( ((TypeContextElement) last).getType() ) );
+            } else {
+                out.writeInt( PAGSnapshot.ELEMENT_OTHER );
+                out.writeInt( string( String.valueOf( last ) ) );
+            }
+        }
+
+        int others = universe.numOtherContexts();
+        out.writeInt( others );
+        for( int i = 1; i <= others; i++ ) {
+            Context c = universe.context( -i );
+            out.writeInt( c == NoContext.v() ? PAGSnapshot.ELEMENT_NO_CONTEXT
+                    : PAGSnapshot.ELEMENT_OTHER );
+            out.writeInt( string( String.valueOf( c ) ) );
+        }
+    }
+
+    private void writeCallEdges() throws IOException {
+        List<Edge> edges = new ArrayList<Edge>();
+        if( cg != null ) {
+            for( Iterator eIt = cg.listener(); eIt.hasNext(); ) edges.add( (Edge) eIt.next() );
+        }
+        out.writeInt( edges.size() );
+        for( Edge e : edges ) {
+            out.writeInt( method( e.src() ) );
+            out.writeInt( context( e.srcCtxt() ) );
+            out.writeInt( unitIndex( e.src(), e.srcUnit() ) );
+            out.writeInt( method( e.tgt() ) );
+            out.writeInt( context( e.tgtCtxt() ) );
+            out.writeInt( PAGSnapshot.kindIndex( e.kind() ) );
+            out.writeInt( receiver( e ) );
+        }
+    }
+
+    /** Returns the number of the context-insensitive variable node of the
+     * receiver of the virtual call of e, or 0 if it is not known. */
+    private int receiver( Edge e ) {
+        Stmt s = e.srcStmt();
+        if( s == null || !s.containsInvokeExpr() ) return 0;
+        Node n = pag.virtualCallsToReceivers.get( s.getInvokeExpr() );
+        if( n instanceof ContextVarNode ) n = pag.findLocalVarNode( ((ContextVarNode) n).getVariable() );
+        return n instanceof VarNode ? n.getNumber() : 0;
+    }
+
+    /** Writes the simple, store and load edges of the PAG. */
+    private void writePAGEdges() throws IOException {
+        List<int[]> simple = new ArrayList<int[]>();
+        for( Object src : pag.simpleSources() ) {
+            for( Node dst : pag.simpleLookup( (VarNode) src ) ) {
+                simple.add( new int[] { ((VarNode) src).getNumber(), dst.getNumber() } );
+            }
+        }
+        out.writeInt( simple.size() );
+        for( int[] e : simple ) {
+            out.writeInt( e[0] );
+            out.writeInt( e[1] );
+        }
+
+        List<int[]> stores = new ArrayList<int[]>();
+        for( Object src : pag.storeSources() ) {
+            for( Node dst : pag.storeLookup( (VarNode) src ) ) {
+                FieldRefNode fr = (FieldRefNode) dst;
+                stores.add( new int[] { ((VarNode) src).getNumber(), fr.getBase().getNumber(),
+                    field( fr.getField() ) } );
+            }
+        }
+        out.writeInt( stores.size() );
+        for( int[] e : stores ) {
+            out.writeInt( e[0] );
+            out.writeInt( e[1] );
+            out.writeInt( e[2] );
+        }
+
+        List<int[]> loads = new ArrayList<int[]>();
+        for( Object src : pag.loadSources() ) {
+            FieldRefNode fr = (FieldRefNode) src;
+            for( Node dst : pag.loadLookup( fr ) ) {
+                loads.add( new int[] { fr.getBase().getNumber(), field( fr.getField() ),
+                    dst.getNumber() } );
+            }
+        }
+        out.writeInt( loads.size() );
+        for( int[] e : loads ) {
+            out.writeInt( e[0] );
+            out.writeInt( e[1] );
+            out.writeInt( e[2] );
+        }
+    }
+
+    private void writeStrings() throws IOException {
+        out.writeInt( strings.size() );
+        for( String s : strings ) {
+            byte[] bytes = s.getBytes( "UTF-8" );
+            out.writeInt( bytes.length );
+            out.write( bytes );
+        }
+    }
+
+    private int string( String s ) {
+        Integer ret = stringIds.get( s );
+        if( ret == null ) {
+            stringIds.put( s, ret = strings.size() );
+            strings.add( s );
+        }
+        return ret;
+    }
+
+    private int type( Type t ) {
+        return t == null ? -1 : string( t.toString() );
+    }
+
+    private int method( SootMethod m ) {
+        return m == null ? -1 : string( m.getSignature() );
+    }
+
+    private int field( SparkField f ) {
+        return f instanceof SootField ? string( ((SootField) f).getSignature() )
+            : string( PAGSnapshot.ARRAY_ELEMENT_KEY );
+    }
+
+    private static int context( Context c ) {
+        return c == null ? 0 : ContextUniverse.v().contextId( c );
+    }
+
+    /** Returns the position of u in the body of m, or -1. */
+    private int unitIndex( SootMethod m, Unit u ) {
+        if( u == null || m == null || !m.hasActiveBody() ) return -1;
+        Map<Unit, Integer> index = unitIndices.get( m );
+        if( index == null ) {
+            index = new HashMap<Unit, Integer>();
+            int i = 0;
+            for( Unit unit : m.getActiveBody().getUnits() ) index.put( unit, i++ );
+            unitIndices.put( m, index );
+        }
+        Integer ret = index.get( u );
+        return ret == null ? -1 : ret;
+    }
+
+    /** Returns the position in the body of m of the statement that
+     * allocates site, or -1. */
+    private int siteIndex( SootMethod m, Value site ) {
+        if( m == null || !m.hasActiveBody() ) return -1;
+        Map<Value, Integer> index = siteIndices.get( m );
+        if( index == null ) {
+            index = new IdentityHashMap<Value, Integer>();
+            int i = 0;
+            for( Unit unit : m.getActiveBody().getUnits() ) {
+                if( unit instanceof AssignStmt ) index.put( ((AssignStmt) unit).getRightOp(), i );
+                i++;
+            }
+            siteIndices.put( m, index );
+        }
+        Integer ret = index.get( site );
+        return ret == null ? -1 : ret;
+    }
+
+    private final PAG pag;
+    private final CallGraph cg;
+    private final String fingerprint;
+    /** Counts the bytes written, as DataOutputStream.size() stops at 2GB. */
+    private static final class Counter extends FilterOutputStream {
+        Counter( OutputStream out ) {
+            super( out );
+        }
+        public void write( int b ) throws IOException {
+            out.write( b );
+            count++;
+        }
+        public void write( byte[] b, int off, int len ) throws IOException {
+            out.write( b, off, len );
+            count += len;
+        }
+        long count;
+    }
+
+    private Counter counter;
+    private DataOutputStream out;
+    private long[] varSets;
+    private long[] fieldSets;
+    private final Map<String, Integer> stringIds = new HashMap<String, Integer>();
+    private final List<String> strings = new ArrayList<String>();
+    private final Map<SootMethod, Map<Unit, Integer>> unitIndices = new HashMap<SootMethod, Map<Unit, Integer>>();
+    private final Map<SootMethod, Map<Value, Integer>> siteIndices = new HashMap<SootMethod, Map<Value, Integer>>();
+}
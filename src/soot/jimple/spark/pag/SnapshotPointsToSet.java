@@ -0,0 +1,135 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+import java.util.*;
+
+import soot.PointsToSet;
+import soot.Type;
+import soot.jimple.ClassConstant;
+import soot.jimple.spark.sets.EqualsSupportingPointsToSet;
+
+/** A points-to set read from a PAGSnapshot, holding the sorted numbers
+ * of its alloc nodes in the snapshot.
+ * @author agent
+ */
+public final class SnapshotPointsToSet implements EqualsSupportingPointsToSet {
+    static final int[] EMPTY = new int[0];
+
+    SnapshotPointsToSet( PAGSnapshot snapshot, int[] elems ) {
+        this.snapshot = snapshot;
+        this.elems = elems;
+    }
+
+    static SnapshotPointsToSet empty( PAGSnapshot snapshot ) {
+        return new SnapshotPointsToSet( snapshot, EMPTY );
+    }
+
+    /** Returns the number of objects in this set. */
+    public int size() { return elems.length; }
+
+    /** Returns the numbers of the alloc nodes of this set in the snapshot,
+     * sorted. The array must not be modified. */
+    public int[] allocNodes() { return elems; }
+
+    public boolean isEmpty() { return elems.length == 0; }
+
+    public boolean hasNonEmptyIntersection( PointsToSet other ) {
+        if( !(other instanceof SnapshotPointsToSet) || ((SnapshotPointsToSet) other).snapshot != snapshot ) {
+            throw new RuntimeException( "Points-to set "+other+" does not come from the same snapshot" );
+        }
+        int[] o = ((SnapshotPointsToSet) other).elems;
+        int i = 0, j = 0;
+        while( i < elems.length && j < o.length ) {
+            if( elems[i] < o[j] ) i++;
+            else if( elems[i] > o[j] ) j++;
+            else return true;
+        }
+        return false;
+    }
+
+    public Set<Type> possibleTypes() {
+        Set<Type> ret = new HashSet<Type>();
+        for( int n : elems ) {
+            Type t = snapshot.allocType( n );
+            if( t != null ) ret.add( t );
+        }
+        return ret;
+    }
+
+    public Set<String> possibleStringConstants() {
+        Set<String> ret = new HashSet<String>();
+        for( int n : elems ) {
+            if( snapshot.allocKind( n ) != PAGSnapshot.ALLOC_STRING ) return null;
+            ret.add( snapshot.allocDescription( n ) );
+        }
+        return ret;
+    }
+
+    public Set<ClassConstant> possibleClassConstants() {
+        Set<ClassConstant> ret = new HashSet<ClassConstant>();
+        for( int n : elems ) {
+            if( snapshot.allocKind( n ) != PAGSnapshot.ALLOC_CLASS ) return null;
+            ret.add( ClassConstant.v( snapshot.allocDescription( n ) ) );
+        }
+        return ret;
+    }
+
+    public int pointsToSetHashCode() {
+        return Arrays.hashCode( elems );
+    }
+
+    public boolean pointsToSetEquals( Object other ) {
+        return other instanceof SnapshotPointsToSet
+            && ((SnapshotPointsToSet) other).snapshot == snapshot
+            && Arrays.equals( elems, ((SnapshotPointsToSet) other).elems );
+    }
+
+    public String toString() {
+        return Arrays.toString( elems );
+    }
+
+    /* End of public methods. */
+
+    /** Returns the sorted union of the sorted sets. */
+    static int[] union( List<int[]> sets ) {
+        int[] ret = EMPTY;
+        for( int[] set : sets ) {
+            if( set.length == 0 ) continue;
+            if( ret.length == 0 ) {
+                ret = set;
+                continue;
+            }
+            int[] merged = new int[ret.length+set.length];
+            int i = 0, j = 0, k = 0;
+            while( i < ret.length && j < set.length ) {
+                if( ret[i] < set[j] ) merged[k++] = ret[i++];
+                else if( ret[i] > set[j] ) merged[k++] = set[j++];
+                else { merged[k++] = ret[i++]; j++; }
+            }
+            while( i < ret.length ) merged[k++] = ret[i++];
+            while( j < set.length ) merged[k++] = set[j++];
+            ret = k == merged.length ? merged : Arrays.copyOf( merged, k );
+        }
+        return ret;
+    }
+
+    final PAGSnapshot snapshot;
+    final int[] elems;
+}
@@ -58,6 +58,11 @@ public abstract class VarNode extends ValNode implements Comparable {
         finishingNumber = i;
         if( i > pag.maxFinishNumber ) pag.maxFinishNumber = i;
     }
+    /** Returns the number given to this node by the last topological
+     * sort; nodes with larger numbers come first in the order. */
+    public int getFinishingNumber() {
+        return finishingNumber;
+    }
     /** Returns the underlying variable that this node represents. */
     public Object getVariable() {
         return variable;
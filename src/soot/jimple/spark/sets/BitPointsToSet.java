@@ -85,6 +85,10 @@ public final class BitPointsToSet extends PointsToSetInternal {
     public final boolean contains( Node n ) {
         return bits.get( n.getNumber() );
     }
+    /** Returns the bytes this set takes, with its bit vector. */
+    public long bytes() {
+        return 32 + 32 + bits.size()/8;
+    }
     public static P2SetFactory getFactory() {
         return new P2SetFactory() {
             public PointsToSetInternal newSet( Type type, PAG pag ) {
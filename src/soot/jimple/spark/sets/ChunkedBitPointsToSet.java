@@ -0,0 +1,155 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.sets;
+import soot.Type;
+import soot.jimple.spark.internal.TypeManager;
+import soot.jimple.spark.pag.Node;
+import soot.jimple.spark.pag.PAG;
+import soot.util.BitVector;
+import soot.util.ChunkedBitSetIterator;
+import soot.util.ChunkedBitVector;
+
+/** Implementation of points-to set that, like HybridPointsToSet, keeps
+ * an explicit array of up to 16 elements, but then switches to a sparse
+ * ChunkedBitVector, whose size depends on the alloc nodes it holds
+ * rather than on the number of alloc nodes in the PAG. Adding a set
+ * filtered by the type mask and an exclude set is one fused loop over
+ * the words of each chunk.
+ * @author agent
+ */
+public final class ChunkedBitPointsToSet extends PointsToSetInternal {
+    public ChunkedBitPointsToSet( Type type, PAG pag ) {
+        super( type );
+        this.pag = pag;
+    }
+    /** Returns true if this set contains no run-time objects. */
+    public final boolean isEmpty() {
+        return bits == null ? numNodes == 0 : bits.isEmpty();
+    }
+
+    private final boolean nativeAddAll( ChunkedBitPointsToSet other, ChunkedBitPointsToSet exclude ) {
+        if( other.bits == null ) {
+            boolean ret = false;
+            for( int i = 0; i < other.numNodes; i++ ) {
+                Node n = other.nodes[i];
+                if( exclude == null || !exclude.contains( n ) ) {
+                    ret = add( n ) | ret;
+                }
+            }
+            return ret;
+        }
+        convertToBits();
+        ChunkedBitVector ebits = null;
+        if( exclude != null ) {
+            exclude.convertToBits();
+            ebits = exclude.bits;
+        }
+        BitVector mask = null;
+        TypeManager typeManager = pag.getTypeManager();
+        if( !typeManager.castNeverFails( other.getType(), this.getType() ) ) {
+            mask = typeManager.get( this.getType(), other.bits );
+        }
+        return bits.orAndAndNot( other.bits, mask, ebits );
+    }
+
+    /** Adds contents of other into this set, returns true if this set
+     * changed. */
+    public final boolean addAll( final PointsToSetInternal other,
+            final PointsToSetInternal exclude ) {
+        if( other == null || other.isEmpty() )
+            return false;
+        if( !(other instanceof ChunkedBitPointsToSet) )
+            return super.addAll( other, exclude );
+        if( exclude != null && !(exclude instanceof ChunkedBitPointsToSet) )
+            return super.addAll( other, exclude );
+        return nativeAddAll( (ChunkedBitPointsToSet) other, (ChunkedBitPointsToSet) exclude );
+    }
+
+    /** Calls v's visit method on all nodes in this set. */
+    public final boolean forall( P2SetVisitor v ) {
+        if( bits == null ) {
+            for( int i = 0; i < numNodes; i++ ) v.visit( nodes[i] );
+        } else {
+            for( ChunkedBitSetIterator it = bits.iterator(); it.hasNext(); ) {
+                v.visit( (Node) pag.getAllocNodeNumberer().get( it.next() ) );
+            }
+        }
+        return v.getReturnValue();
+    }
+    /** Adds n to this set, returns true if n was not already in this set. */
+    public final boolean add( Node n ) {
+        if( pag.getTypeManager().castNeverFails( n.getType(), type ) ) {
+            return fastAdd( n );
+        }
+        return false;
+    }
+    /** Returns true iff the set contains n. */
+    public final boolean contains( Node n ) {
+        if( bits == null ) {
+            for( int i = 0; i < numNodes; i++ ) {
+                if( nodes[i] == n ) return true;
+            }
+            return false;
+        }
+        return bits.get( n.getNumber() );
+    }
+    public final int size() {
+        return bits == null ? numNodes : bits.cardinality();
+    }
+    public final static P2SetFactory getFactory() {
+        return new P2SetFactory() {
+            public final PointsToSetInternal newSet( Type type, PAG pag ) {
+                return new ChunkedBitPointsToSet( type, pag );
+            }
+        };
+    }
+
+    /* End of public methods. */
+    /* End of package methods. */
+
+    private final boolean fastAdd( Node n ) {
+        if( bits == null ) {
+            for( int i = 0; i < numNodes; i++ ) {
+                if( nodes[i] == n ) return false;
+            }
+            if( numNodes < MAX_NODES ) {
+                if( nodes == null ) nodes = new Node[MAX_NODES];
+                nodes[numNodes++] = n;
+                return true;
+            }
+            convertToBits();
+        }
+        return bits.set( n.getNumber() );
+    }
+
+    private final void convertToBits() {
+        if( bits != null ) return;
+        bits = new ChunkedBitVector();
+        for( int i = 0; i < numNodes; i++ ) bits.set( nodes[i].getNumber() );
+        nodes = null;
+        numNodes = 0;
+    }
+
+    private static final int MAX_NODES = 16;
+    private Node[] nodes = null;
+    private int numNodes = 0;
+    private ChunkedBitVector bits = null;
+    private final PAG pag;
+}
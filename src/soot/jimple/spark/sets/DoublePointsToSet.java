@@ -25,7 +25,9 @@ import soot.*;
 
 /** Implementation of points-to set that holds two sets: one for new
  * elements that have not yet been propagated, and the other for elements
- * that have already been propagated.
+ * that have already been propagated. If the PAG has a SetPool, the old
+ * set is kept in it once it stops changing, and shared with all the sets
+ * with the same old elements.
  * @author Ondrej Lhotak
  */
 public class DoublePointsToSet extends PointsToSetInternal {
@@ -77,13 +79,49 @@ public class DoublePointsToSet extends PointsToSetInternal {
     public PointsToSetInternal getNewSet() { return newSet; }
     /** Sets all newly-added nodes to old nodes. */
     public void flushNew() {
-        oldSet.addAll( newSet, null );
+        SetPool pool = pag.getSetPool();
+        if( pool == null ) {
+            oldSet.addAll( newSet, null );
+        } else if( newSet.isEmpty() ) {
+            // Nothing came in since the last flush, so the old set has
+            // stopped changing, for now
+            internOld();
+        } else {
+            if( oldShared != null ) {
+                oldHash = oldShared.hash;
+                oldSize = oldShared.size;
+                oldSet = pool.modify( oldShared );
+                oldShared = null;
+            }
+            if( !changed ) {
+                changed = true;
+                pool.changed( this );
+            }
+            newSet.forall( new P2SetVisitor() {
+            public final void visit( Node n ) {
+                if( oldSet.add( n ) ) {
+                    oldHash += SetPool.hash( n );
+                    oldSize++;
+                }
+            }} );
+        }
         newSet = G.v().newSetFactory.newSet( type, pag );
     }
     /** Sets all nodes to newly-added nodes. */
     public void unFlushNew() {
         newSet.addAll( oldSet, null );
+        release();
         oldSet = G.v().oldSetFactory.newSet( type, pag );
+        oldHash = 0;
+        oldSize = 0;
+    }
+    /** Gives the old set back to the pool, if it came from there. */
+    public void release() {
+        if( oldShared != null ) {
+            pag.getSetPool().release( oldShared );
+            oldShared = null;
+        }
+        changed = false;
     }
     /** Merges other into this set. */
     public void mergeWith( PointsToSetInternal other ) {
@@ -106,7 +144,10 @@ public class DoublePointsToSet extends PointsToSetInternal {
         newNewSet.addAll( this, newOldSet );
         newNewSet.addAll( o, newOldSet );
         newSet = newNewSet;
+        release();
         oldSet = newOldSet;
+        SetPool pool = pag.getSetPool();
+        if( pool != null ) setOldSet( newOldSet, pool );
     }
     /** Returns true iff the set contains n. */
     public boolean contains( Node n ) {
@@ -127,8 +168,40 @@ public class DoublePointsToSet extends PointsToSetInternal {
     /* End of public methods. */
     /* End of package methods. */
 
+    /** Puts the old set, which has stopped changing, in the pool, if it
+     * changed since it was last there and is not empty. */
+    void internOld() {
+        if( !changed ) return;
+        changed = false;
+        if( oldSize == 0 ) return;
+        oldShared = pag.getSetPool().intern( oldSet, oldHash, oldSize );
+        oldSet = oldShared.set();
+    }
+
+    /** Makes old, which is not shared, the old set, pooling it unless it
+     * is empty. */
+    private void setOldSet( PointsToSetInternal old, SetPool pool ) {
+        changed = false;
+        if( old.isEmpty() ) {
+            oldShared = null;
+            oldSet = old;
+            oldHash = 0;
+            oldSize = 0;
+        } else {
+            oldShared = pool.intern( old );
+            oldSet = oldShared.set();
+        }
+    }
+
     private PAG pag;
     protected PointsToSetInternal newSet;
     protected PointsToSetInternal oldSet;
+    /** The pooled set that oldSet is, or null if it is not pooled. */
+    protected SetPool.Shared oldShared;
+    /** The pool hash and size of oldSet, while it is not pooled. */
+    private int oldHash;
+    private int oldSize;
+    /** Whether oldSet changed since it was last pooled, and waits in the
+     * pool's list of changed sets. */
+    private boolean changed;
 }
-
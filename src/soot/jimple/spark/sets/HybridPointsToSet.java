@@ -205,6 +205,11 @@ public final class HybridPointsToSet extends PointsToSetInternal {
             return bits.get( n.getNumber() );
         }
     }
+    /** Returns the bytes this set takes: itself, with its sixteen node
+     * slots, and its bit vector once it has one. */
+    public long bytes() {
+        return 96 + ( bits == null ? 0 : 32 + bits.size()/8 );
+    }
     public final static P2SetFactory getFactory() {
         return new P2SetFactory() {
             public final PointsToSetInternal newSet( Type type, PAG pag ) {
@@ -75,6 +75,9 @@ public abstract class PointsToSetInternal implements PointsToSet, EqualsSupporti
     /** Merges other into this set. */
     public void mergeWith( PointsToSetInternal other ) 
     { addAll( other, null ); }
+    /** Tells the set that it will no longer be used, so that it can give
+     * back what it shares with other sets. */
+    public void release() {}
     /** Returns true iff the set contains n. */
     public abstract boolean contains( Node n );
 
@@ -117,6 +120,12 @@ public abstract class PointsToSetInternal implements PointsToSet, EqualsSupporti
         } );
         return ret[0];
     }
+    /** Returns the bytes that this set takes, not counting the nodes in
+     * it, on a 64-bit VM with compressed references. Sets that do not
+     * know their layout count an array of references to their nodes. */
+    public long bytes() {
+        return 16 + 4L*size();
+    }
     public String toString() {
         final StringBuffer ret = new StringBuffer();
         this.forall( new P2SetVisitor() {
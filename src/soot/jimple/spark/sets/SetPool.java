@@ -0,0 +1,228 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.sets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import soot.G;
+import soot.Type;
+import soot.jimple.spark.pag.Node;
+import soot.jimple.spark.pag.PAG;
+
+/** A pool of points-to sets hash-consed by their contents and type, so
+ * that all the holders of equal sets share a single copy. The pooled
+ * sets are made by any P2SetFactory, and must not be changed while
+ * they are in the pool: a holder that wants to change its set asks
+ * modify() for a set it may change, which is the pooled set itself if
+ * nobody else holds it, and a copy otherwise, and interns the result
+ * when done. Each pooled set counts its holders, and leaves the pool
+ * when the last one releases it.
+ * <p>
+ * DoublePointsToSet keeps the old part of its set in the pool when the
+ * set-pool option is on. A set that new elements are flushed into leaves
+ * the pool, keeps its hash up to date as the elements come in, and is
+ * only interned again once it stops changing: when a flush brings nothing
+ * new, or when the solver calls internChanged() at the end of a wave. In
+ * an object-sensitive analysis, the contexts of a variable often end up
+ * with the same set, which is then stored once.
+ * @author agent
+ */
+public final class SetPool {
+    /** A set in the pool, with the number of its holders. */
+    public static final class Shared {
+        Shared( PointsToSetInternal set, int hash, int size ) {
+            this.set = set;
+            this.hash = hash;
+            this.size = size;
+        }
+        /** Returns the pooled set, which must not be changed. */
+        public PointsToSetInternal set() { return set; }
+
+        public int hashCode() { return hash; }
+        public boolean equals( Object o ) {
+            if( o == this ) return true;
+            if( !( o instanceof Shared ) ) return false;
+            Shared other = (Shared) o;
+            if( other.hash != hash || other.size != size ) return false;
+            Type t = set.getType();
+            Type ot = other.set.getType();
+            if( t == null ? ot != null : !t.equals( ot ) ) return false;
+            final PointsToSetInternal otherSet = other.set;
+            return !set.forall( new P2SetVisitor() {
+                public final void visit( Node n ) {
+                    if( !otherSet.contains( n ) ) returnValue = true;
+                }
+            } );
+        }
+
+        final PointsToSetInternal set;
+        final int hash;
+        final int size;
+        /** The bytes the set takes, measured when it enters the pool. */
+        long bytes;
+        int refs = 0;
+    }
+
+    public SetPool( P2SetFactory factory, PAG pag ) {
+        this.factory = factory;
+        this.pag = pag;
+    }
+
+    /** Returns the pooled set equal to set, adding set to the pool if
+     * there is none, and counts the caller as one more holder. set must
+     * not be changed afterwards. */
+    public Shared intern( PointsToSetInternal set ) {
+        final int[] hash = new int[2];
+        set.forall( new P2SetVisitor() {
+            public final void visit( Node n ) {
+                hash[0] += hash( n );
+                hash[1]++;
+            }
+        } );
+        return intern( set, hash[0], hash[1] );
+    }
+
+    /** Like intern( set ), for a set whose hash and size are known. */
+    synchronized Shared intern( PointsToSetInternal set, int hash, int size ) {
+        Shared probe = new Shared( set, hash, size );
+        interned++;
+        Shared ret = pool.get( probe );
+        if( ret == null ) {
+            probe.bytes = set.bytes();
+            pool.put( probe, probe );
+            ret = probe;
+            storedElements += ret.size;
+            storedBytes += ret.bytes;
+        } else {
+            hits++;
+        }
+        ret.refs++;
+        references++;
+        heldElements += ret.size;
+        heldBytes += ret.bytes;
+        return ret;
+    }
+
+    /** Returns the hash of n in a set; the hash of a set is the sum of the
+     * hashes of its nodes, so that the order in which a set visits its
+     * nodes does not matter, and adding a node updates it at once. */
+    static int hash( Node n ) {
+        int h = n.getNumber() * 0x9e3779b9;
+        return h ^ ( h >>> 16 );
+    }
+
+    /** Releases the caller's hold on s, and returns a set with the same
+     * contents that the caller may change. */
+    public synchronized PointsToSetInternal modify( Shared s ) {
+        if( s.refs == 1 ) {
+            release( s );
+            return s.set;
+        }
+        release( s );
+        copies++;
+        PointsToSetInternal ret = factory.newSet( s.set.getType(), pag );
+        ret.addAll( s.set, null );
+        return ret;
+    }
+
+    /** Releases the caller's hold on s. */
+    public synchronized void release( Shared s ) {
+        if( s.refs <= 0 ) throw new RuntimeException( "set released too often" );
+        references--;
+        heldElements -= s.size;
+        heldBytes -= s.bytes;
+        if( --s.refs == 0 ) {
+            pool.remove( s );
+            storedElements -= s.size;
+            storedBytes -= s.bytes;
+        }
+    }
+
+    /** Puts the sets that changed since the last call back in the pool;
+     * call it once the sets stop changing for a while, as at the end of a
+     * wave of propagation. */
+    public void internChanged() {
+        List<DoublePointsToSet> sets;
+        synchronized( this ) {
+            sets = changed;
+            changed = new ArrayList<DoublePointsToSet>();
+        }
+        for( DoublePointsToSet set : sets ) set.internOld();
+    }
+
+    /** Notes that the old part of set left the pool to take new elements. */
+    synchronized void changed( DoublePointsToSet set ) {
+        changed.add( set );
+    }
+
+    /** Returns the number of distinct sets in the pool. */
+    public synchronized int numSets() {
+        return pool.size();
+    }
+
+    /** Returns the number of holders of the sets in the pool. */
+    public synchronized long numReferences() {
+        return references;
+    }
+
+    /** Returns the average number of holders of a set in the pool. */
+    public synchronized double sharingRatio() {
+        return pool.isEmpty() ? 0 : (double) references / pool.size();
+    }
+
+    /** Returns the number of elements that would be stored if each holder
+     * had its own copy, minus the number actually stored. */
+    public synchronized long savedElements() {
+        return heldElements - storedElements;
+    }
+
+    /** Returns the bytes that the sets would take if each holder had its
+     * own copy, minus the bytes that the pooled sets take, as measured by
+     * PointsToSetInternal.bytes(). */
+    public synchronized long savedBytes() {
+        return heldBytes - storedBytes;
+    }
+
+    /** Prints the statistics of the pool. */
+    public synchronized void report() {
+        G.v().out.println( "[Spark] Set pool: "+pool.size()+" sets, "+references
+                +" references, sharing ratio "+Math.round( sharingRatio()*100 )/100.0 );
+        G.v().out.println( "[Spark] Set pool: "+storedElements+" elements stored for "
+                +heldElements+" held, saving "+savedElements()+" elements ("
+                +savedBytes()/1024+" KB of "+heldBytes/1024+" KB); "+hits+" of "+interned
+                +" interned sets found, "+copies+" copied on write" );
+    }
+
+    /* End of public methods. */
+
+    private final P2SetFactory factory;
+    private final PAG pag;
+    private final HashMap<Shared, Shared> pool = new HashMap<Shared, Shared>();
+    private List<DoublePointsToSet> changed = new ArrayList<DoublePointsToSet>();
+    private long references = 0;
+    private long heldElements = 0;
+    private long storedElements = 0;
+    private long heldBytes = 0;
+    private long storedBytes = 0;
+    private long interned = 0;
+    private long hits = 0;
+    private long copies = 0;
+}
@@ -147,6 +147,10 @@ public final class SortedArraySet extends PointsToSetInternal {
         }
         return false;
     }
+    /** Returns the bytes this set takes, with its node array. */
+    public long bytes() {
+        return 32 + ( nodes == null ? 0 : 16 + 4L*nodes.length );
+    }
     public final static P2SetFactory getFactory() {
         return new P2SetFactory() {
             public final PointsToSetInternal newSet( Type type, PAG pag ) {
@@ -0,0 +1,66 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.sets;
+import soot.Type;
+import soot.jimple.spark.pag.Node;
+
+/** A read-only view of another points-to set, for handing out a set that
+ * the analysis keeps using, such as the points-to set of a node. It
+ * reflects later changes to the set it views.
+ * @author agent
+ */
+public final class UnmodifiablePointsToSet extends PointsToSetInternal {
+    public UnmodifiablePointsToSet( PointsToSetInternal set ) {
+        super( set.getType() );
+        this.set = set;
+    }
+
+    /** Returns true if this set contains no run-time objects. */
+    public boolean isEmpty() { return set.isEmpty(); }
+    /** Adds contents of other into this set, returns true if this set
+     * changed. */
+    public boolean addAll( PointsToSetInternal other,
+            PointsToSetInternal exclude ) {
+        throw new RuntimeException( "can't add into unmodifiable set" );
+    }
+    /** Calls v's visit method on all nodes in this set. */
+    public boolean forall( P2SetVisitor v ) {
+        return set.forall( v );
+    }
+    /** Adds n to this set, returns true if n was not already in this set. */
+    public boolean add( Node n ) {
+        throw new RuntimeException( "can't add into unmodifiable set" );
+    }
+    /** Returns true iff the set contains n. */
+    public boolean contains( Node n ) {
+        return set.contains( n );
+    }
+    public void mergeWith( PointsToSetInternal other ) {
+        throw new RuntimeException( "can't merge into unmodifiable set" );
+    }
+    public void setType( Type type ) {
+        throw new RuntimeException( "can't change the type of unmodifiable set" );
+    }
+    public int size() {
+        return set.size();
+    }
+
+    private final PointsToSetInternal set;
+}
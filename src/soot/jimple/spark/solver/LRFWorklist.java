@@ -0,0 +1,80 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.solver;
+import soot.jimple.spark.pag.*;
+import soot.util.IntPriorityQueue;
+import java.util.Arrays;
+
+/** Handles first the node that was handled least recently, so that a
+ * node that keeps being re-added does not starve the others; nodes
+ * handled equally recently, such as those never handled, are taken in
+ * topological order.
+ * @author agent
+ */
+public final class LRFWorklist extends VarNodeWorklist {
+    public LRFWorklist( PAG pag ) {
+        super( pag );
+    }
+    public boolean add( VarNode n ) {
+        int number = n.getNumber();
+        long fired = number < lastFired.length ? lastFired[number] : 0;
+        return queue.add( number, ( fired << 32 ) | ( Integer.MAX_VALUE - n.getFinishingNumber() ) );
+    }
+    public VarNode next() {
+        int number = queue.removeMin();
+        if( number >= lastFired.length ) {
+            int[] newLastFired = new int[Math.max( number+1, lastFired.length*2 )];
+            System.arraycopy( lastFired, 0, newLastFired, 0, lastFired.length );
+            lastFired = newLastFired;
+        }
+        if( clock == Integer.MAX_VALUE ) renumber();
+        lastFired[number] = ++clock;
+        return node( number );
+    }
+    public int size() {
+        return queue.size();
+    }
+
+    /* End of public methods. */
+
+    /** Numbers the times at which the nodes were handled from 1 again,
+     * keeping their order, before the clock wraps, and queues the nodes
+     * again with their new keys. */
+    private void renumber() {
+        int[] times = new int[lastFired.length+1];
+        System.arraycopy( lastFired, 0, times, 1, lastFired.length );
+        Arrays.sort( times );
+        int distinct = 1;
+        for( int i = 1; i < times.length; i++ ) {
+            if( times[i] != times[distinct-1] ) times[distinct++] = times[i];
+        }
+        for( int i = 0; i < lastFired.length; i++ ) {
+            lastFired[i] = Arrays.binarySearch( times, 0, distinct, lastFired[i] );
+        }
+        clock = distinct-1;
+        int[] queued = queue.toArray();
+        queue.clear();
+        for( int number : queued ) add( node( number ) );
+    }
+
+    private final IntPriorityQueue queue = new IntPriorityQueue();
+    private int[] lastFired = new int[16];
+    private int clock = 0;
+}
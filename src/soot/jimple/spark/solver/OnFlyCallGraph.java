@@ -18,8 +18,10 @@
  */
 
 package soot.jimple.spark.solver;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import soot.jimple.spark.SparkTransformer;
 import soot.jimple.spark.sets.*;
@@ -67,7 +69,7 @@ public class OnFlyCallGraph {
 
     public OnFlyCallGraph( PAG pag ) {
         this.pag = pag;
-        callGraph = new CallGraph();
+        callGraph = pag.getOpts().compact_cg() ? new CompactCallGraph() : new CallGraph();
         Scene.v().setCallGraph( callGraph );
         //change reachable methods list of entry points to have method contexts with NoContext
         if (ObjectSensitiveConfig.isObjectSensitive())
@@ -115,6 +117,34 @@ public class OnFlyCallGraph {
     public OnFlyCallGraphBuilder ofcgb() { return ofcgb; }
 
     public void updatedNode( final VarNode vn ) {
+        updatedNode( vn, vn.getP2Set().getNewSet() );
+    }
+
+    /** Notifies the call graph builder that the objects in p2set were
+     * newly added to the points-to set of vn. Used by propagators that
+     * detach the new set of a node before processing it. */
+    public void updatedNode( final VarNode vn, PointsToSetInternal p2set ) {
+        updatedVariable( vn, p2set );
+        List<VarNode> others = merged.get( vn );
+        if( others != null ) {
+            for( VarNode other : others ) updatedVariable( other, p2set );
+        }
+    }
+
+    /** Node uses this to notify PAG that n2 has been merged into n1. */
+    public void mergedWith( Node n1, Node n2 ) {
+        if( !(n1 instanceof VarNode) || !(n2 instanceof VarNode) ) return;
+        List<VarNode> others = merged.get( n1 );
+        if( others == null ) merged.put( (VarNode) n1, others = new LinkedList<VarNode>() );
+        others.add( (VarNode) n2 );
+        List<VarNode> othersOf2 = merged.remove( n2 );
+        if( othersOf2 != null ) others.addAll( othersOf2 );
+    }
+
+    /* End of public methods. */
+    /* End of package methods. */
+
+    private void updatedVariable( final VarNode vn, PointsToSetInternal p2set ) {
         final Object r = vn.getVariable();
 
         /* LWG: removed the sanity check for efficiency (the violation should not happen when the p2sets are
@@ -143,8 +173,6 @@ public class OnFlyCallGraph {
         if( !(r instanceof Local) ) return;
         final Local receiver = (Local) r;
        
-        PointsToSetInternal p2set = vn.getP2Set().getNewSet();
-         
         if( ofcgb.wantTypes( vn ) ) {
             p2set.forall( new P2SetVisitor() {
                 public final void visit( Node n ) {
@@ -165,14 +193,10 @@ public class OnFlyCallGraph {
         }
     }
 
-    /** Node uses this to notify PAG that n2 has been merged into n1. */
-    public void mergedWith( Node n1, Node n2 ) {
-    }
-
-    /* End of public methods. */
-    /* End of package methods. */
-
     private PAG pag;
+    /** The variables merged into each representative, whose receivers
+     * must still hear of the objects reaching it. */
+    private final Map<VarNode, List<VarNode>> merged = new HashMap<VarNode, List<VarNode>>();
 }
 
 
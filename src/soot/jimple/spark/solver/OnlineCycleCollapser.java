@@ -0,0 +1,245 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.solver;
+import soot.jimple.spark.pag.*;
+import soot.*;
+import java.util.*;
+import soot.jimple.spark.internal.*;
+
+/** Collapses cycles of VarNodes (green) while the points-to sets are
+ * being propagated, so that cycles closed by call edges found on the fly
+ * are collapsed too. Detection is lazy: a simple edge whose propagation
+ * changed nothing, and whose ends then have sets of the same size, may
+ * close a cycle, so the first time that happens on an edge, a search
+ * from its target looks for a path back to its source, and the nodes on
+ * it are merged into the source.
+ * <p>
+ * Edges into this pointers of an object-sensitive analysis filter what
+ * they carry, so they are never followed. Unless ignoreTypes is set, the
+ * edges that filter by type are not followed either, and only nodes of
+ * the same type are merged, as in SCCCollapser; with ignoreTypes, all
+ * other edges are followed, but nodes whose sets have different types
+ * are still left alone, since their sets cannot be merged once filled.
+ * @author agent
+ */
+
+public class OnlineCycleCollapser {
+    public OnlineCycleCollapser( PAG pag, boolean ignoreTypes ) {
+        this.pag = pag;
+        this.ignoreTypes = ignoreTypes;
+        this.typeManager = pag.getTypeManager();
+    }
+
+    /** Tells the collapser that the new points-to set of src was
+     * propagated along the simple edge to tgt, and whether that changed
+     * the set of tgt. */
+    public void propagated( VarNode src, VarNode tgt, boolean changed ) {
+        if( changed || src == tgt || isFiltered( src ) || !follows( src, tgt ) ) return;
+        if( src.getP2Set().size() != tgt.getP2Set().size() ) return;
+        long edge = ( (long) src.getNumber() << 32 ) | tgt.getNumber();
+        if( !checked.add( edge ) ) return;
+        pendingSrcs.add( src );
+        pendingTgts.add( tgt );
+    }
+
+    /** Looks for the cycles closed by the edges passed to propagated()
+     * since the last call, collapses them, and adds the representatives
+     * to worklist. Returns the number of nodes merged. */
+    public int collapse( VarNodeWorklist worklist ) {
+        int ret = 0;
+        for( int i = 0; i < pendingSrcs.size(); i++ ) {
+            VarNode root = (VarNode) pendingSrcs.get( i ).getReplacement();
+            VarNode tgt = (VarNode) pendingTgts.get( i ).getReplacement();
+            if( root == tgt ) continue;
+            reaches( tgt, root );
+            int merged = 0;
+            for( VarNode v : cycle ) {
+                if( v.getReplacement() == v && canMerge( root, v ) ) {
+                    root.mergeWith( v );
+                    // Move the field references of v to root, with their
+                    // load and store edges.
+                    for( FieldRefNode fr : v.getAllFieldRefs() ) fr.getReplacement();
+                    merged++;
+                }
+            }
+            if( merged > 0 ) worklist.add( root );
+            ret += merged;
+            reached.clear();
+            cycle.clear();
+        }
+        pendingSrcs.clear();
+        pendingTgts.clear();
+        numCollapsed += ret;
+        return ret;
+    }
+
+    /** Returns the number of nodes merged so far. */
+    public int numCollapsed() {
+        return numCollapsed;
+    }
+
+    /* End of public methods. */
+    /* End of package methods. */
+
+    protected int numCollapsed = 0;
+    protected PAG pag;
+    protected boolean ignoreTypes;
+    protected TypeManager typeManager;
+    /** The edges that have already started a search, as pairs of node
+     * numbers. */
+    protected LongSet checked = new LongSet();
+    protected ArrayList<VarNode> pendingSrcs = new ArrayList<VarNode>();
+    protected ArrayList<VarNode> pendingTgts = new ArrayList<VarNode>();
+    /** The nodes visited by the current search, and whether they were
+     * found to reach the root. */
+    protected HashMap<VarNode, Boolean> reached = new HashMap<VarNode, Boolean>();
+    protected ArrayList<VarNode> cycle = new ArrayList<VarNode>();
+    /** The search stack: the nodes being searched, their successors, the
+     * index of the next successor to look at, and whether one of them was
+     * found to reach the root. */
+    protected VarNode[] stackNodes = new VarNode[16];
+    protected Node[][] stackSuccs = new Node[16][];
+    protected int[] stackNext = new int[16];
+    protected boolean[] stackFound = new boolean[16];
+    protected int stackSize = 0;
+
+    /** Returns true if root can be reached from v, and adds to cycle the
+     * nodes found on the way that reach root. A node whose search is still
+     * in progress counts as not reaching root, which may miss some nodes of
+     * the cycle, but never adds one that is not on it. The search keeps its
+     * own stack, since the paths it follows may be very long. */
+    final protected boolean reaches( VarNode v, VarNode root ) {
+        if( v == root ) return true;
+        Boolean known = reached.get( v );
+        if( known != null ) return known.booleanValue();
+        push( v );
+        boolean ret = false;
+        while( stackSize > 0 ) {
+            int top = stackSize - 1;
+            VarNode n = stackNodes[top];
+            Node[] succs = stackSuccs[top];
+            if( stackNext[top] < succs.length ) {
+                VarNode succ = (VarNode) succs[stackNext[top]++].getReplacement();
+                if( !follows( n, succ ) ) continue;
+                if( succ == root ) {
+                    stackFound[top] = true;
+                    continue;
+                }
+                known = reached.get( succ );
+                if( known == null ) push( succ );
+                else if( known.booleanValue() ) stackFound[top] = true;
+                continue;
+            }
+            ret = stackFound[top];
+            stackNodes[top] = null;
+            stackSuccs[top] = null;
+            stackSize--;
+            if( ret ) {
+                reached.put( n, Boolean.TRUE );
+                cycle.add( n );
+                if( stackSize > 0 ) stackFound[stackSize - 1] = true;
+            }
+        }
+        return ret;
+    }
+
+    private void push( VarNode v ) {
+        if( stackSize == stackNodes.length ) {
+            int size = stackSize * 2;
+            stackNodes = Arrays.copyOf( stackNodes, size );
+            stackSuccs = Arrays.copyOf( stackSuccs, size );
+            stackNext = Arrays.copyOf( stackNext, size );
+            stackFound = Arrays.copyOf( stackFound, size );
+        }
+        reached.put( v, Boolean.FALSE );
+        stackNodes[stackSize] = v;
+        stackSuccs[stackSize] = pag.simpleLookup( v );
+        stackNext[stackSize] = 0;
+        stackFound[stackSize] = false;
+        stackSize++;
+    }
+
+    /** Returns true if everything in the set of src flows along an edge
+     * to tgt. */
+    final protected boolean follows( VarNode src, VarNode tgt ) {
+        if( isFiltered( tgt ) ) return false;
+        return ignoreTypes
+            || typeManager.castNeverFails( src.getType(), tgt.getType() );
+    }
+
+    final protected boolean isFiltered( VarNode v ) {
+        return ObjectSensitiveConfig.isObjectSensitive()
+            && v.isThisPtr() && v instanceof ContextVarNode;
+    }
+
+    final protected boolean canMerge( VarNode root, VarNode v ) {
+        if( !ignoreTypes
+        && !( typeManager.castNeverFails( v.getType(), root.getType() )
+           && typeManager.castNeverFails( root.getType(), v.getType() ) ) ) {
+            return false;
+        }
+        Type rootSetType = root.makeP2Set().getType();
+        Type setType = v.makeP2Set().getType();
+        return rootSetType == null ? setType == null : rootSetType.equals( setType );
+    }
+
+    /** A set of longs, kept in an open-addressing hash table, so that the
+     * edges checked do not each cost a boxed Long and a map entry. */
+    protected static final class LongSet {
+        /** Adds key to the set, returns true if it was not already there. */
+        public boolean add( long key ) {
+            if( key == 0 ) {
+                if( hasZero ) return false;
+                hasZero = true;
+                return true;
+            }
+            if( ( size + 1 ) * 2 > keys.length ) grow();
+            if( !insert( keys, key ) ) return false;
+            size++;
+            return true;
+        }
+        public int size() {
+            return hasZero ? size + 1 : size;
+        }
+
+        private static boolean insert( long[] table, long key ) {
+            int mask = table.length - 1;
+            long h = key * 0x9E3779B97F4A7C15L;
+            int i = (int) ( h ^ ( h >>> 32 ) ) & mask;
+            while( table[i] != 0 ) {
+                if( table[i] == key ) return false;
+                i = ( i + 1 ) & mask;
+            }
+            table[i] = key;
+            return true;
+        }
+        private void grow() {
+            long[] old = keys;
+            keys = new long[old.length * 2];
+            for( long key : old ) {
+                if( key != 0 ) insert( keys, key );
+            }
+        }
+
+        private long[] keys = new long[64];
+        private int size = 0;
+        private boolean hasZero = false;
+    }
+}
@@ -0,0 +1,444 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.solver;
+import soot.jimple.spark.pag.*;
+import soot.jimple.spark.sets.*;
+import soot.options.SparkOptions;
+import soot.*;
+import soot.util.IdentityHashSet;
+import soot.util.queue.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/** Propagates points-to sets along pointer assignment graph using a worklist
+ * that is processed in rounds on a pool of threads.
+ *
+ * Each round takes all nodes currently on the worklist. The new part of
+ * their points-to sets is detached, the on-the-fly call graph is updated,
+ * and all the work along simple, store and load edges is collected on the
+ * calling thread, since the PAG, the call graph builder and the method
+ * PAGs are not thread-safe. The collected work is then split into stripes
+ * by the number of the node whose points-to set is written, and each
+ * stripe is handled by exactly one thread, so no points-to set is ever
+ * written by two threads. Simple, store and load edges are handled in
+ * three separate phases, so that a set is never read while another thread
+ * writes to it.
+ *
+ * Since every set that changes is put back on the worklist, this computes
+ * the same fixed point as PropWorklist.
+ * @author agent
+ */
+
+public final class PropParallelWorklist extends Propagator {
+    protected final Set<VarNode> varNodeWorkList = new TreeSet<VarNode>();
+
+    public PropParallelWorklist( PAG pag ) {
+        this.pag = pag;
+        int n = pag.getOpts().propagator_threads();
+        if( n <= 0 ) n = Runtime.getRuntime().availableProcessors();
+        if( n > 1 && sharesSetState( pag.getOpts() ) ) {
+            G.v().out.println( "[Spark] The heintze and sharedlist set implementations "+
+                    "share state between sets; propagating on a single thread." );
+            n = 1;
+        }
+        threads = n;
+    }
+    /** Actually does the propagation. */
+    public final void propagate() {
+        ofcg = pag.getOnFlyCallGraph();
+        new TopoSorter( pag, false ).sort();
+        for (Object object : pag.allocSources()) {
+            handleAllocNode( (AllocNode) object );
+        }
+
+        boolean verbose = pag.getOpts().verbose();
+        SolverTelemetry telemetry = pag.getTelemetry();
+        ContextBudget budget = ObjectSensitiveConfig.isObjectSensitive() ?
+            ObjectSensitiveConfig.v().budget() : null;
+        if( threads > 1 ) {
+            executor = Executors.newFixedThreadPool( threads, new ThreadFactory() {
+                private int count = 0;
+                public Thread newThread( Runnable r ) {
+                    Thread t = new Thread( r, "spark-propagator-"+(++count) );
+                    t.setDaemon( true );
+                    return t;
+                }
+            } );
+            pag.getTypeManager().setConcurrent( true );
+        }
+        try {
+            do {
+                if( verbose ) {
+                    G.v().out.println( "Worklist has "+varNodeWorkList.size()+
+                            " nodes." );
+                }
+                while( !varNodeWorkList.isEmpty() ) {
+                    int roundSize = varNodeWorkList.size();
+                    handleRound();
+                    if( telemetry != null ) telemetry.ticked( roundSize, varNodeWorkList.size() );
+                    if( budget != null ) budget.check( pag );
+                }
+                if( verbose ) {
+                    G.v().out.println( "Now handling field references" );
+                }
+                handleStoreSources();
+                handleLoadSources();
+                // The end of a wave, so pool the sets it changed
+                if( pag.getSetPool() != null ) pag.getSetPool().internChanged();
+            } while( !varNodeWorkList.isEmpty() );
+        } finally {
+            if( executor != null ) {
+                executor.shutdownNow();
+                executor = null;
+            }
+            pag.getTypeManager().setConcurrent( false );
+        }
+    }
+
+    /* End of public methods. */
+    /* End of package methods. */
+
+    /** Returns true if the configured points-to sets share internal
+     * structures with each other, and thus cannot be written concurrently. */
+    private static boolean sharesSetState( SparkOptions opts ) {
+        switch( opts.set_impl() ) {
+            case SparkOptions.set_impl_heintze:
+            case SparkOptions.set_impl_sharedlist:
+                return true;
+            case SparkOptions.set_impl_double:
+                return opts.double_set_old() == SparkOptions.double_set_old_heintze
+                    || opts.double_set_old() == SparkOptions.double_set_old_sharedlist
+                    || opts.double_set_new() == SparkOptions.double_set_new_heintze
+                    || opts.double_set_new() == SparkOptions.double_set_new_sharedlist;
+            default:
+                return false;
+        }
+    }
+
+    /** Propagates new points-to information of node src to all its
+     * successors. */
+    protected final void handleAllocNode( AllocNode src ) {
+        Node[] targets = pag.allocLookup( src );
+        for (Node element : targets) {
+            if (thisPtrFilterAdd((VarNode)element, src, element.makeP2Set())) {
+                varNodeWorkList.add( (VarNode) element );
+            }
+        }
+    }
+
+    private boolean thisPtrFilterAdd(VarNode pointer, AllocNode other, PointsToSetInternal addTo) {
+        if (ObjectSensitiveConfig.isObjectSensitive() && pointer.isThisPtr() && pointer instanceof ContextVarNode) {
+            Context thisRefContext = ((ContextVarNode) pointer).context();
+            int methodDepth = ObjectSensitiveConfig.v().methodContextDepth(((ContextVarNode) pointer).getMethod());
+            if (ObjectSensitiveConfig.v().thisPtrShouldAdd(other, thisRefContext, methodDepth))
+                return addTo.add(other);
+            else
+                return false;
+        }
+        return addTo.add(other);
+    }
+
+    private boolean thisPtrFilterAddAll(final VarNode pointer,
+                                     PointsToSetInternal other,
+                                     final PointsToSetInternal addTo) {
+        if (ObjectSensitiveConfig.isObjectSensitive() && pointer.isThisPtr() && pointer instanceof ContextVarNode) {
+            final Context thisPtrCtxt = ((ContextVarNode) pointer).context();
+            final int methodDepth = ObjectSensitiveConfig.v().methodContextDepth(((ContextVarNode) pointer).getMethod());
+            return other.forall( new P2SetVisitor() {
+                public final void visit( Node n ) {
+                    if (ObjectSensitiveConfig.v().thisPtrShouldAdd((AllocNode)n, thisPtrCtxt, methodDepth))
+                        if (addTo.add(n))
+                            returnValue = true;
+                }} );
+        }
+        return addTo.addAll(other, null);
+    }
+
+    /** Takes the new part of the points-to set of src out of the set, so
+     * that it is not changed by the writes of the current round. */
+    private PointsToSetInternal detachNewSet( VarNode src ) {
+        PointsToSetInternal p2set = src.getP2Set();
+        PointsToSetInternal newSet = p2set.getNewSet();
+        if( newSet.isEmpty() ) return newSet;
+        if( newSet == p2set ) {
+            // Not an incremental set; work on a private copy.
+            PointsToSetInternal copy = pag.getSetFactory().newSet( src.getType(), pag );
+            copy.addAll( newSet, null );
+            return copy;
+        }
+        p2set.flushNew();
+        return newSet;
+    }
+
+    /** Processes all the nodes currently on the worklist. */
+    protected final void handleRound() {
+        VarNode[] round = varNodeWorkList.toArray( new VarNode[varNodeWorkList.size()] );
+        varNodeWorkList.clear();
+
+        Stripe[] simples = newStripes();
+        Stripe[] stores = newStripes();
+        Stripe[] loads = newStripes();
+        for (VarNode src : round) {
+            collectVarNode( src, simples, stores, loads );
+        }
+        runStripes( simples, SIMPLE );
+        runStripes( stores, STORE );
+        runStripes( loads, LOAD );
+    }
+
+    /** Detaches the new points-to information of src, updates the call
+     * graph with it, and records the propagation to its successors in the
+     * stripes of the nodes that will be written. */
+    protected final void collectVarNode( final VarNode src, Stripe[] simples,
+            final Stripe[] stores, final Stripe[] loads ) {
+        if( src.getReplacement() != src ) throw new RuntimeException(
+            "Got bad node "+src+" with rep "+src.getReplacement() );
+
+        final PointsToSetInternal newP2Set = detachNewSet( src );
+        if( newP2Set.isEmpty() ) return;
+
+        if( ofcg != null ) {
+            QueueReader addedEdges = pag.edgeReader();
+            ofcg.updatedNode( src, newP2Set );
+            ofcg.build();
+
+            while(addedEdges.hasNext()) {
+                Node addedSrc = (Node) addedEdges.next();
+                Node addedTgt = (Node) addedEdges.next();
+                if( addedSrc instanceof VarNode ) {
+                    if( addedTgt instanceof VarNode ) {
+                        VarNode edgeSrc = (VarNode) addedSrc.getReplacement();
+                        VarNode edgeTgt = (VarNode) addedTgt.getReplacement();
+                        if (thisPtrFilterAddAll(edgeTgt, edgeSrc.getP2Set(), edgeTgt.makeP2Set())) {
+                            varNodeWorkList.add( edgeTgt );
+                        }
+                    }
+                } else if( addedSrc instanceof AllocNode ) {
+                    AllocNode edgeSrc = (AllocNode) addedSrc;
+                    VarNode edgeTgt = (VarNode) addedTgt.getReplacement();
+                    if (thisPtrFilterAdd(edgeTgt, edgeSrc, edgeTgt.makeP2Set())) {
+                        varNodeWorkList.add( edgeTgt );
+                    }
+                }
+            }
+        }
+
+        Node[] simpleTargets = pag.simpleLookup( src );
+        for (Node element : simpleTargets) {
+            stripeOf( simples, element ).add( newP2Set, element );
+        }
+
+        Node[] storeTargets = pag.storeLookup( src );
+        for (Node element : storeTargets) {
+            final FieldRefNode fr = (FieldRefNode) element;
+            final SparkField f = fr.getField();
+            fr.getBase().getP2Set().forall( new P2SetVisitor() {
+                public final void visit( Node n ) {
+                    AllocDotField nDotF = pag.makeAllocDotField(
+                        (AllocNode) n, f );
+                    stripeOf( stores, nDotF ).add( newP2Set, nDotF );
+                }
+            } );
+        }
+
+        for (FieldRefNode fr : src.getAllFieldRefs()) {
+            final SparkField field = fr.getField();
+            final Node[] storeSources = pag.storeInvLookup( fr );
+            final Node[] loadTargets = pag.loadLookup( fr );
+            if( storeSources.length == 0 && loadTargets.length == 0 ) continue;
+            newP2Set.forall( new P2SetVisitor() {
+                public final void visit( Node n ) {
+                    Node nDotF = pag.makeAllocDotField(
+                        (AllocNode) n, field ).getReplacement();
+                    for (Node element : storeSources) {
+                        stripeOf( stores, nDotF ).add( element, nDotF );
+                    }
+                    for (Node element : loadTargets) {
+                        stripeOf( loads, element ).add( nDotF, element );
+                    }
+                }
+            } );
+        }
+    }
+
+    /** Propagates the points-to sets of store sources into the fields of
+     * the objects pointed to by the bases of their targets. */
+    protected final void handleStoreSources() {
+        final Stripe[] stores = newStripes();
+        for (Object object : pag.storeSources()) {
+            final VarNode src = (VarNode) object;
+            Node[] targets = pag.storeLookup( src );
+            for (Node element0 : targets) {
+                final FieldRefNode target = (FieldRefNode) element0;
+                target.getBase().makeP2Set().forall( new P2SetVisitor() {
+                    public final void visit( Node n ) {
+                        AllocDotField nDotF = pag.makeAllocDotField(
+                            (AllocNode) n, target.getField() );
+                        stripeOf( stores, nDotF ).add( src, nDotF );
+                    }
+                } );
+            }
+        }
+        runStripes( stores, STORE );
+    }
+
+    /** Propagates the new points-to information of object fields to the
+     * targets of the loads that read them. */
+    protected final void handleLoadSources() {
+        final Stripe[] loads = newStripes();
+        final IdentityHashSet<PointsToSetInternal> nodesToFlush = new IdentityHashSet<PointsToSetInternal>();
+        for (Object object : pag.loadSources()) {
+            final FieldRefNode src = (FieldRefNode) object;
+            final Node[] loadTargets = pag.loadLookup( src );
+            if( loadTargets.length == 0 ) continue;
+            final SparkField field = src.getField();
+            src.getBase().getP2Set().forall( new P2SetVisitor() {
+                public final void visit( Node n ) {
+                    AllocDotField nDotF = pag.makeAllocDotField(
+                        (AllocNode) n, field );
+                    PointsToSetInternal p2Set = nDotF.getP2Set();
+                    if( p2Set.getNewSet().isEmpty() ) return;
+                    for (Node element : loadTargets) {
+                        stripeOf( loads, element ).add( p2Set, element );
+                    }
+                    nodesToFlush.add( p2Set );
+                }
+            } );
+        }
+        runStripes( loads, LOAD_NEW );
+        for (PointsToSetInternal nDotF : nodesToFlush) {
+            nDotF.flushNew();
+        }
+    }
+
+    private Stripe[] newStripes() {
+        Stripe[] ret = new Stripe[threads];
+        for( int i = 0; i < threads; i++ ) ret[i] = new Stripe();
+        return ret;
+    }
+
+    private static Stripe stripeOf( Stripe[] stripes, Node target ) {
+        return stripes[target.getNumber() % stripes.length];
+    }
+
+    /** Handles all stripes, each on its own thread, and puts the nodes
+     * whose points-to sets changed on the worklist. */
+    private void runStripes( Stripe[] stripes, final int kind ) {
+        if( executor == null ) {
+            for (Stripe stripe : stripes) {
+                stripe.propagate( kind );
+            }
+        } else {
+            List<Callable<Object>> tasks = new ArrayList<Callable<Object>>( stripes.length );
+            for (final Stripe stripe : stripes) {
+                if( stripe.size == 0 ) continue;
+                tasks.add( new Callable<Object>() {
+                    public Object call() {
+                        stripe.propagate( kind );
+                        return null;
+                    }
+                } );
+            }
+            try {
+                for (Future<Object> f : executor.invokeAll( tasks )) {
+                    f.get();
+                }
+            } catch( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException( "Interrupted during propagation", e );
+            } catch( ExecutionException e ) {
+                Throwable cause = e.getCause();
+                if( cause instanceof RuntimeException ) throw (RuntimeException) cause;
+                if( cause instanceof Error ) throw (Error) cause;
+                throw new RuntimeException( cause );
+            }
+        }
+        for (Stripe stripe : stripes) {
+            varNodeWorkList.addAll( stripe.changed );
+        }
+    }
+
+    private static final int SIMPLE = 0;
+    private static final int STORE = 1;
+    private static final int LOAD = 2;
+    private static final int LOAD_NEW = 3;
+
+    /** The propagations whose targets are owned by one thread. A source is
+     * either a points-to set or the node whose current set is read. */
+    private final class Stripe {
+        private Object[] sources = new Object[16];
+        private Node[] targets = new Node[16];
+        private int size = 0;
+        private final List<VarNode> changed = new ArrayList<VarNode>();
+
+        void add( Object source, Node target ) {
+            if( size == targets.length ) {
+                sources = Arrays.copyOf( sources, size*2 );
+                targets = Arrays.copyOf( targets, size*2 );
+            }
+            sources[size] = source;
+            targets[size] = target;
+            size++;
+        }
+
+        void propagate( int kind ) {
+            for( int i = 0; i < size; i++ ) {
+                Object source = sources[i];
+                Node target = targets[i];
+                switch( kind ) {
+                    case SIMPLE:
+                        if( thisPtrFilterAddAll( (VarNode) target,
+                                (PointsToSetInternal) source, target.makeP2Set() ) ) {
+                            changed.add( (VarNode) target );
+                        }
+                        break;
+                    case STORE:
+                        target.makeP2Set().addAll( setOf( source ), null );
+                        break;
+                    case LOAD:
+                        if( thisPtrFilterAddAll( (VarNode) target,
+                                setOf( source ), target.makeP2Set() ) ) {
+                            changed.add( (VarNode) target );
+                        }
+                        break;
+                    case LOAD_NEW:
+                        if( thisPtrFilterAddAll( (VarNode) target,
+                                ((PointsToSetInternal) source).getNewSet(), target.makeP2Set() ) ) {
+                            changed.add( (VarNode) target );
+                        }
+                        break;
+                    default:
+                        throw new RuntimeException();
+                }
+            }
+        }
+
+        private PointsToSetInternal setOf( Object source ) {
+            if( source instanceof Node ) return ((Node) source).getP2Set();
+            return (PointsToSetInternal) source;
+        }
+    }
+
+    protected PAG pag;
+    protected OnFlyCallGraph ofcg;
+    protected final int threads;
+    private ExecutorService executor;
+}
@@ -31,9 +31,15 @@ import java.util.*;
  */
 
 public final class PropWorklist extends Propagator {
-    protected final Set<VarNode> varNodeWorkList = new TreeSet<VarNode>();
+    protected final VarNodeWorklist varNodeWorkList;
+    protected final OnlineCycleCollapser cycles;
 
-    public PropWorklist( PAG pag ) { this.pag = pag; }
+    public PropWorklist( PAG pag ) {
+        this.pag = pag;
+        varNodeWorkList = VarNodeWorklist.make( pag );
+        cycles = pag.getOpts().online_cycles() ?
+            new OnlineCycleCollapser( pag, pag.getOpts().ignore_types_for_sccs() ) : null;
+    }
     /** Actually does the propagation. */
     public final void propagate() {
         ofcg = pag.getOnFlyCallGraph();
@@ -43,15 +49,23 @@ public final class PropWorklist extends Propagator {
         }
 
         boolean verbose = pag.getOpts().verbose();
+        SolverTelemetry telemetry = pag.getTelemetry();
+        ContextBudget budget = ObjectSensitiveConfig.isObjectSensitive() ?
+            ObjectSensitiveConfig.v().budget() : null;
         do {
             if( verbose ) {
                 G.v().out.println( "Worklist has "+varNodeWorkList.size()+
                         " nodes." );
             }
             while( !varNodeWorkList.isEmpty() ) {
-                VarNode src = varNodeWorkList.iterator().next();
-                varNodeWorkList.remove( src );
+                VarNode src = varNodeWorkList.next();
+                // A node merged into a cycle while queued is handled
+                // through its representative.
+                if( src.getReplacement() != src ) continue;
                 handleVarNode( src );
+                if( cycles != null ) cycles.collapse( varNodeWorkList );
+                if( telemetry != null ) telemetry.tick( varNodeWorkList.size() );
+                if( budget != null ) budget.tick( pag );
             }
             if( verbose ) {
                 G.v().out.println( "Now handling field references" );
@@ -89,7 +103,12 @@ public final class PropWorklist extends Propagator {
             for (PointsToSetInternal nDotF : nodesToFlush) {
                 nDotF.flushNew();
             }
+            // The end of a wave, so pool the sets it changed
+            if( pag.getSetPool() != null ) pag.getSetPool().internChanged();
         } while( !varNodeWorkList.isEmpty() );
+        if( verbose && cycles != null ) {
+            G.v().out.println( ""+cycles.numCollapsed()+" nodes were collapsed online." );
+        }
     }
 
     /* End of public methods. */
@@ -120,7 +139,8 @@ public final class PropWorklist extends Propagator {
                 return false;
               */
              Context thisRefContext = ((ContextVarNode) pointer).context();
-             if (ObjectSensitiveConfig.v().thisPtrShouldAdd(other, thisRefContext)) 
+             int methodDepth = ObjectSensitiveConfig.v().methodContextDepth(((ContextVarNode) pointer).getMethod());
+             if (ObjectSensitiveConfig.v().thisPtrShouldAdd(other, thisRefContext, methodDepth)) 
                  return addTo.add(other);
              else
                  return false;
@@ -139,9 +159,10 @@ public final class PropWorklist extends Propagator {
         // LWG: moved part of the test out of the loop for efficiency
         if (ObjectSensitiveConfig.isObjectSensitive() && pointer.isThisPtr() && pointer instanceof ContextVarNode) {
             final Context thisPtrCtxt = ((ContextVarNode) pointer).context();
+            final int methodDepth = ObjectSensitiveConfig.v().methodContextDepth(((ContextVarNode) pointer).getMethod());
             return other.forall( new P2SetVisitor() {
                 public final void visit( Node n ) {
-                    if (ObjectSensitiveConfig.v().thisPtrShouldAdd((AllocNode)n, thisPtrCtxt))
+                    if (ObjectSensitiveConfig.v().thisPtrShouldAdd((AllocNode)n, thisPtrCtxt, methodDepth))
                         if (addTo.add(n))
                             returnValue = true;
                 }} );
@@ -178,6 +199,7 @@ public final class PropWorklist extends Propagator {
                     if( addedTgt instanceof VarNode ) {
                         VarNode edgeSrc = (VarNode) addedSrc.getReplacement();
                         VarNode edgeTgt = (VarNode) addedTgt.getReplacement();
+                        varNodeWorkList.edgeAdded();
                         
                         // LWG: cache the new simple targets (from the input source node) whose 
                         // p2sets are updated to avoid redundant computation
@@ -185,10 +207,12 @@ public final class PropWorklist extends Propagator {
                         	processedSimpleTargets.add(edgeTgt);
                         	
                         //if( edgeTgt.makeP2Set().addAll( edgeSrc.getP2Set(), null ) ) {
-                        if (thisPtrFilterAddAll(edgeTgt, edgeSrc.getP2Set(), edgeTgt.makeP2Set())) {
+                        boolean changed = thisPtrFilterAddAll(edgeTgt, edgeSrc.getP2Set(), edgeTgt.makeP2Set());
+                        if (changed) {
                             varNodeWorkList.add( edgeTgt );
                             if(edgeTgt == src) flush = false;
                         }
+                        if( cycles != null ) cycles.propagated( edgeSrc, edgeTgt, changed );
                     }
                 } else if( addedSrc instanceof AllocNode ) {
                     AllocNode edgeSrc = (AllocNode) addedSrc;
@@ -208,10 +232,12 @@ public final class PropWorklist extends Propagator {
             // LWG: Do not re-compute p2sets of simple targets if they were already computed
         	// in the while loop above
         	if (!processedSimpleTargets.contains(element)) {
-        		if (thisPtrFilterAddAll((VarNode)element, newP2Set, element.makeP2Set())) {
+        		boolean changed = thisPtrFilterAddAll((VarNode)element, newP2Set, element.makeP2Set());
+        		if (changed) {
         			varNodeWorkList.add( (VarNode) element );
         			if(element == src) flush = false;
         		}
+        		if( cycles != null ) cycles.propagated( src, (VarNode) element, changed );
         	}
         }
 
@@ -0,0 +1,89 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.solver;
+import java.util.*;
+
+import soot.SootMethod;
+
+/** A snapshot of the state of the Spark solver, taken by SolverTelemetry.
+ * @author agent
+ */
+public final class SolverSample {
+    /** Number of buckets of the points-to set size histograms. Bucket 0
+     * counts empty sets, and bucket i counts sets with 2^(i-1) to 2^i - 1
+     * elements; the last bucket counts all larger sets. */
+    public static final int BUCKETS = 24;
+
+    SolverSample( String phase, long elapsedMillis ) {
+        this.phase = phase;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /** Returns the phase of the analysis, such as "build" or "propagate". */
+    public String phase() { return phase; }
+    /** Returns the time since the analysis started, in milliseconds. */
+    public long elapsedMillis() { return elapsedMillis; }
+    /** Returns the number of nodes on the worklist of the propagator. */
+    public int worklistSize() { return worklistSize; }
+    /** Returns the number of nodes processed by the propagator so far. */
+    public long propagations() { return propagations; }
+    /** Returns the number of nodes processed per second since the
+     * previous sample. */
+    public double propagationsPerSecond() { return propagationsPerSecond; }
+    /** Returns the heap in use, in bytes. */
+    public long usedHeap() { return usedHeap; }
+    /** Returns the maximum heap, in bytes. */
+    public long maxHeap() { return maxHeap; }
+    /** Returns the number of allocation nodes, with or without context. */
+    public int allocNodes() { return allocNodes; }
+    /** Returns the number of object-sensitive allocation nodes. */
+    public int objSensNodes() { return objSensNodes; }
+    /** Returns the number of variable nodes, with or without context. */
+    public int varNodes() { return varNodes; }
+    /** Returns the number of context variable nodes. */
+    public int contextVarNodes() { return contextVarNodes; }
+    /** Returns the number of reachable methods or method contexts. */
+    public int methodContexts() { return methodContexts; }
+    /** Returns the number of edges in the on-the-fly call graph. */
+    public int callGraphEdges() { return callGraphEdges; }
+    /** Returns the histograms of points-to set sizes of variable nodes, by
+     * name of the points-to set implementation, or null if not computed
+     * for this sample. */
+    public Map<String, long[]> setSizeHistograms() { return histograms; }
+    /** Returns the number of contexts of each reachable method, or null
+     * if not computed for this sample. */
+    public Map<SootMethod, Integer> methodContextCounts() { return methodContextCounts; }
+
+    final String phase;
+    final long elapsedMillis;
+    int worklistSize;
+    long propagations;
+    double propagationsPerSecond;
+    long usedHeap;
+    long maxHeap;
+    int allocNodes;
+    int objSensNodes;
+    int varNodes;
+    int contextVarNodes;
+    int methodContexts;
+    int callGraphEdges;
+    Map<String, long[]> histograms;
+    Map<SootMethod, Integer> methodContextCounts;
+}
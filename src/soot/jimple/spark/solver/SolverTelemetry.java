@@ -0,0 +1,177 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.solver;
+import soot.jimple.spark.pag.*;
+import soot.jimple.spark.sets.*;
+import soot.*;
+import java.util.*;
+
+/** Collects statistics about a run of the Spark solver and reports them
+ * to SolverListeners. Propagators call tick() for each node they process;
+ * every interval, a sample of the worklist size, the propagation rate, the
+ * heap in use and the sizes of the context universes is sent to the
+ * listeners. Samples taken at the end of a phase also include histograms
+ * of the points-to set sizes, and the final sample the number of contexts
+ * of each reachable method.
+ * @author agent
+ */
+public final class SolverTelemetry {
+    /** Adds a listener that is notified by every telemetry created from
+     * now on, such as one installed by a benchmark harness. */
+    public static synchronized void addGlobalListener( SolverListener l ) {
+        globalListeners.add( l );
+    }
+    /** Removes a listener added with addGlobalListener. */
+    public static synchronized void removeGlobalListener( SolverListener l ) {
+        globalListeners.remove( l );
+    }
+    /** Returns true if any listener has been added with addGlobalListener. */
+    public static synchronized boolean hasGlobalListeners() {
+        return !globalListeners.isEmpty();
+    }
+
+    /** Creates a telemetry for pag that samples every intervalMillis
+     * milliseconds, and attaches it to pag. */
+    public SolverTelemetry( PAG pag, long intervalMillis ) {
+        this.pag = pag;
+        this.intervalMillis = intervalMillis;
+        this.start = System.currentTimeMillis();
+        this.lastSampleTime = start;
+        synchronized( SolverTelemetry.class ) {
+            listeners.addAll( globalListeners );
+        }
+        pag.setTelemetry( this );
+    }
+
+    /** Adds a listener notified only by this telemetry. */
+    public void addListener( SolverListener l ) {
+        listeners.add( l );
+    }
+
+    /** Ends the current phase of the analysis with a full sample, and
+     * starts the given phase. The first phase is "build". */
+    public void phase( String phase ) {
+        SolverSample s = sample( true );
+        for( SolverListener l : listeners ) l.sampled( s );
+        this.phase = phase;
+    }
+
+    /** Records that the propagator has processed one node, and has
+     * worklistSize nodes left. */
+    public void tick( int worklistSize ) {
+        propagations++;
+        if( (propagations & 1023) == 0 ) check( worklistSize );
+    }
+
+    /** Records that the propagator has processed count nodes, and has
+     * worklistSize nodes left. */
+    public void ticked( int count, int worklistSize ) {
+        long before = propagations;
+        propagations += count;
+        if( (before >>> 10) != (propagations >>> 10) ) check( worklistSize );
+    }
+
+    /** Ends the current phase and the analysis with the final sample. */
+    public void finish() {
+        SolverSample s = sample( true );
+        s.methodContextCounts = methodContextCounts();
+        for( SolverListener l : listeners ) l.finished( s );
+    }
+
+    /* End of public methods. */
+
+    private void check( int worklistSize ) {
+        if( System.currentTimeMillis() - lastSampleTime < intervalMillis ) return;
+        SolverSample s = sample( false );
+        s.worklistSize = worklistSize;
+        for( SolverListener l : listeners ) l.sampled( s );
+    }
+
+    private SolverSample sample( boolean histograms ) {
+        long now = System.currentTimeMillis();
+        SolverSample s = new SolverSample( phase, now - start );
+        s.propagations = propagations;
+        long elapsed = now - lastSampleTime;
+        s.propagationsPerSecond = elapsed <= 0 ? 0.0 :
+            (propagations - lastSamplePropagations) * 1000.0 / elapsed;
+        lastSampleTime = now;
+        lastSamplePropagations = propagations;
+
+        Runtime rt = Runtime.getRuntime();
+        s.usedHeap = rt.totalMemory() - rt.freeMemory();
+        s.maxHeap = rt.maxMemory();
+        s.allocNodes = pag.getAllocNodeNumberer().size();
+        s.objSensNodes = ObjectSensitiveAllocNode.numberOfObjSensNodes();
+        s.varNodes = pag.getVarNodeNumberer().size();
+        s.contextVarNodes = pag.numContextVarNodes();
+        s.methodContexts = pag.numMethodContexts();
+        OnFlyCallGraph ofcg = pag.getOnFlyCallGraph();
+        s.callGraphEdges = ofcg == null ? 0 : ofcg.callGraph().size();
+        if( histograms ) s.histograms = setSizeHistograms();
+        return s;
+    }
+
+    private Map<String, long[]> setSizeHistograms() {
+        Map<String, long[]> ret = new TreeMap<String, long[]>();
+        for( Iterator vIt = pag.getVarNodeNumberer().iterator(); vIt.hasNext(); ) {
+            final VarNode vn = (VarNode) vIt.next();
+            if( vn.getReplacement() != vn ) continue;
+            PointsToSetInternal p2set = vn.getP2Set();
+            String name = p2set.getClass().getSimpleName();
+            long[] histogram = ret.get( name );
+            if( histogram == null ) {
+                histogram = new long[SolverSample.BUCKETS];
+                ret.put( name, histogram );
+            }
+            histogram[bucket( p2set.size() )]++;
+        }
+        return ret;
+    }
+
+    /** Returns the histogram bucket of a set of the given size. */
+    static int bucket( int size ) {
+        if( size <= 0 ) return 0;
+        return Math.min( SolverSample.BUCKETS-1, 32-Integer.numberOfLeadingZeros( size ) );
+    }
+
+    private Map<SootMethod, Integer> methodContextCounts() {
+        Map<SootMethod, Integer> ret = new HashMap<SootMethod, Integer>();
+        OnFlyCallGraph ofcg = pag.getOnFlyCallGraph();
+        Iterator mIt = ofcg != null ? ofcg.reachableMethods().listener()
+            : Scene.v().getReachableMethods().listener();
+        while( mIt.hasNext() ) {
+            SootMethod m = ((MethodOrMethodContext) mIt.next()).method();
+            Integer n = ret.get( m );
+            ret.put( m, n == null ? 1 : n+1 );
+        }
+        return ret;
+    }
+
+    private static final List<SolverListener> globalListeners = new ArrayList<SolverListener>();
+
+    private final PAG pag;
+    private final long intervalMillis;
+    private final long start;
+    private final List<SolverListener> listeners = new ArrayList<SolverListener>();
+    private String phase = "build";
+    private long propagations = 0;
+    private long lastSampleTime;
+    private long lastSamplePropagations = 0;
+}
@@ -0,0 +1,162 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.solver;
+import soot.*;
+import java.io.*;
+import java.util.*;
+
+/** A SolverListener that writes the samples to a file, as CSV or, if the
+ * file name ends in .json, as one JSON object per line. Histograms of
+ * points-to set sizes go to a second file with .hist inserted before the
+ * extension, and the number of contexts of each method to a third file
+ * with .methods inserted. Each line is flushed as it is written, so that
+ * the samples of a run that runs out of memory are not lost.
+ * @author agent
+ */
+public class SolverTelemetryWriter implements SolverListener {
+    public SolverTelemetryWriter( String fileName ) {
+        json = fileName.endsWith( ".json" );
+        int dot = fileName.lastIndexOf( '.' );
+        if( dot <= fileName.lastIndexOf( File.separatorChar ) ) dot = fileName.length();
+        base = fileName.substring( 0, dot );
+        extension = fileName.substring( dot );
+        samples = open( fileName );
+        if( !json ) {
+            samples.println( "phase,elapsed_ms,worklist,propagations,propagations_per_sec,"
+                    +"used_heap,max_heap,alloc_nodes,objsens_nodes,var_nodes,"
+                    +"context_var_nodes,method_contexts,call_graph_edges" );
+            samples.flush();
+        }
+    }
+
+    public void sampled( SolverSample s ) {
+        writeSample( s );
+        if( s.setSizeHistograms() != null ) writeHistograms( s );
+    }
+
+    public void finished( SolverSample s ) {
+        sampled( s );
+        if( s.methodContextCounts() != null ) writeMethods( s.methodContextCounts() );
+        samples.close();
+        if( histograms != null ) histograms.close();
+    }
+
+    /* End of public methods. */
+
+    private void writeSample( SolverSample s ) {
+        if( json ) {
+            samples.println( "{\"phase\":"+quote( s.phase() )
+                    +",\"elapsed_ms\":"+s.elapsedMillis()
+                    +",\"worklist\":"+s.worklistSize()
+                    +",\"propagations\":"+s.propagations()
+                    +",\"propagations_per_sec\":"+(long) s.propagationsPerSecond()
+                    +",\"used_heap\":"+s.usedHeap()
+                    +",\"max_heap\":"+s.maxHeap()
+                    +",\"alloc_nodes\":"+s.allocNodes()
+                    +",\"objsens_nodes\":"+s.objSensNodes()
+                    +",\"var_nodes\":"+s.varNodes()
+                    +",\"context_var_nodes\":"+s.contextVarNodes()
+                    +",\"method_contexts\":"+s.methodContexts()
+                    +",\"call_graph_edges\":"+s.callGraphEdges()+"}" );
+        } else {
+            samples.println( s.phase()+","+s.elapsedMillis()+","+s.worklistSize()
+                    +","+s.propagations()+","+(long) s.propagationsPerSecond()
+                    +","+s.usedHeap()+","+s.maxHeap()+","+s.allocNodes()
+                    +","+s.objSensNodes()+","+s.varNodes()+","+s.contextVarNodes()
+                    +","+s.methodContexts()+","+s.callGraphEdges() );
+        }
+        samples.flush();
+    }
+
+    private void writeHistograms( SolverSample s ) {
+        if( histograms == null ) {
+            histograms = open( base+".hist"+extension );
+            if( !json ) {
+                StringBuffer header = new StringBuffer( "phase,elapsed_ms,set" );
+                for( int i = 0; i < SolverSample.BUCKETS; i++ ) header.append( ",b"+i );
+                histograms.println( header );
+            }
+        }
+        for( Map.Entry<String, long[]> e : s.setSizeHistograms().entrySet() ) {
+            StringBuffer line = new StringBuffer();
+            if( json ) {
+                line.append( "{\"phase\":"+quote( s.phase() )
+                        +",\"elapsed_ms\":"+s.elapsedMillis()
+                        +",\"set\":"+quote( e.getKey() )+",\"buckets\":[" );
+            } else {
+                line.append( s.phase()+","+s.elapsedMillis()+","+e.getKey() );
+            }
+            long[] buckets = e.getValue();
+            for( int i = 0; i < buckets.length; i++ ) {
+                if( !json || i > 0 ) line.append( ',' );
+                line.append( buckets[i] );
+            }
+            if( json ) line.append( "]}" );
+            histograms.println( line );
+        }
+        histograms.flush();
+    }
+
+    private void writeMethods( Map<SootMethod, Integer> counts ) {
+        List<Map.Entry<SootMethod, Integer>> entries =
+            new ArrayList<Map.Entry<SootMethod, Integer>>( counts.entrySet() );
+        Collections.sort( entries, new Comparator<Map.Entry<SootMethod, Integer>>() {
+            public int compare( Map.Entry<SootMethod, Integer> e1, Map.Entry<SootMethod, Integer> e2 ) {
+                return e2.getValue().compareTo( e1.getValue() );
+            }
+        } );
+        PrintWriter out = open( base+".methods"+extension );
+        if( !json ) out.println( "method,contexts" );
+        for( Map.Entry<SootMethod, Integer> e : entries ) {
+            if( json ) {
+                out.println( "{\"method\":"+quote( e.getKey().getSignature() )
+                        +",\"contexts\":"+e.getValue()+"}" );
+            } else {
+                out.println( "\""+e.getKey().getSignature().replace( "\"", "\"\"" )
+                        +"\","+e.getValue() );
+            }
+        }
+        out.close();
+    }
+
+    private static PrintWriter open( String fileName ) {
+        try {
+            return new PrintWriter( new BufferedWriter( new FileWriter( fileName ) ) );
+        } catch( IOException e ) {
+            throw new RuntimeException( "Couldn't open telemetry file "+fileName+": "+e );
+        }
+    }
+
+    private static String quote( String s ) {
+        StringBuffer ret = new StringBuffer( "\"" );
+        for( int i = 0; i < s.length(); i++ ) {
+            char c = s.charAt( i );
+            if( c == '"' || c == '\\' ) ret.append( '\\' );
+            ret.append( c );
+        }
+        return ret.append( '"' ).toString();
+    }
+
+    private final boolean json;
+    private final String base;
+    private final String extension;
+    private final PrintWriter samples;
+    private PrintWriter histograms;
+}
@@ -0,0 +1,70 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.solver;
+import soot.jimple.spark.pag.*;
+import soot.util.IntPriorityQueue;
+
+/** Handles nodes in the topological order computed by TopoSorter, as the
+ * TreeSet of VarNodes used to. Nodes created on the fly come first, since
+ * they are numbered after the sort; if resort is set, the PAG is sorted
+ * again, and the queue rebuilt, whenever the simple edges added on the
+ * fly since the last sort outnumber those it saw.
+ * @author agent
+ */
+public final class TopoWorklist extends VarNodeWorklist {
+    public TopoWorklist( PAG pag, boolean resort ) {
+        super( pag );
+        this.resort = resort;
+        if( resort ) {
+            for( Object src : pag.simpleSources() ) {
+                sortedEdges += pag.simpleLookup( (VarNode) src ).length;
+            }
+        }
+    }
+    public boolean add( VarNode n ) {
+        return queue.add( n.getNumber(), topoKey( n ) );
+    }
+    public VarNode next() {
+        if( resort && newEdges > sortedEdges ) resort();
+        return node( queue.removeMin() );
+    }
+    public int size() {
+        return queue.size();
+    }
+    public void edgeAdded() {
+        newEdges++;
+    }
+
+    /* End of public methods. */
+
+    private void resort() {
+        new TopoSorter( pag, false ).sort();
+        int[] queued = queue.toArray();
+        queue.clear();
+        for( int n : queued ) add( node( n ) );
+        sortedEdges += newEdges;
+        newEdges = 0;
+    }
+
+    private final IntPriorityQueue queue = new IntPriorityQueue();
+    private final boolean resort;
+    private long sortedEdges = 0;
+    private long newEdges = 0;
+}
@@ -0,0 +1,68 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.solver;
+import soot.jimple.spark.pag.*;
+import soot.util.BitVector;
+import soot.util.IntPriorityQueue;
+
+/** Handles nodes in phases. Each phase handles, in topological order, the
+ * nodes that were queued when it started; nodes added during a phase
+ * wait, in a FIFO list, for the next one, even if they come earlier in
+ * the order. This batches the changes reaching a node instead of
+ * handling it again for each of them.
+ * @author agent
+ */
+public final class TwoPhaseWorklist extends VarNodeWorklist {
+    public TwoPhaseWorklist( PAG pag ) {
+        super( pag );
+    }
+    public boolean add( VarNode n ) {
+        int number = n.getNumber();
+        if( current.contains( number ) || !waiting.set( number ) ) return false;
+        if( numNext == next.length ) {
+            int[] newNext = new int[next.length*2];
+            System.arraycopy( next, 0, newNext, 0, numNext );
+            next = newNext;
+        }
+        next[numNext++] = number;
+        return true;
+    }
+    public VarNode next() {
+        if( current.isEmpty() ) {
+            for( int i = 0; i < numNext; i++ ) {
+                VarNode n = node( next[i] );
+                waiting.clear( next[i] );
+                current.add( next[i], topoKey( n ) );
+            }
+            numNext = 0;
+        }
+        return node( current.removeMin() );
+    }
+    public int size() {
+        return current.size() + numNext;
+    }
+
+    /* End of public methods. */
+
+    private final IntPriorityQueue current = new IntPriorityQueue();
+    private final BitVector waiting = new BitVector();
+    private int[] next = new int[16];
+    private int numNext = 0;
+}
@@ -0,0 +1,74 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.solver;
+import soot.jimple.spark.pag.*;
+import soot.options.SparkOptions;
+
+/** The worklist of variable nodes of PropWorklist, which decides in which
+ * order they are handled. Implementations keep the numbers of the queued
+ * nodes in primitive int structures, and are picked by the
+ * worklist-policy option.
+ * @author agent
+ */
+public abstract class VarNodeWorklist {
+    /** Returns the worklist asked for by the options of pag. */
+    public static VarNodeWorklist make( PAG pag ) {
+        switch( pag.getOpts().worklist_policy() ) {
+            case SparkOptions.worklist_policy_topo:
+                return new TopoWorklist( pag, false );
+            case SparkOptions.worklist_policy_topo_lazy:
+                return new TopoWorklist( pag, true );
+            case SparkOptions.worklist_policy_lrf:
+                return new LRFWorklist( pag );
+            case SparkOptions.worklist_policy_two_phase:
+                return new TwoPhaseWorklist( pag );
+            default:
+                throw new RuntimeException( "Unknown worklist policy "+pag.getOpts().worklist_policy() );
+        }
+    }
+
+    /** Adds n to the worklist; returns false if it was already there. */
+    public abstract boolean add( VarNode n );
+    /** Removes and returns the node to handle next. */
+    public abstract VarNode next();
+    public abstract int size();
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+    /** Tells the worklist that a simple edge was added on the fly. */
+    public void edgeAdded() {}
+
+    /* End of public methods. */
+
+    protected VarNodeWorklist( PAG pag ) {
+        this.pag = pag;
+    }
+
+    protected final VarNode node( int number ) {
+        return (VarNode) pag.getVarNodeNumberer().get( number );
+    }
+
+    /** Returns the key that orders nodes topologically. */
+    protected static long topoKey( VarNode n ) {
+        return -(long) n.getFinishingNumber();
+    }
+
+    protected final PAG pag;
+}
@@ -48,11 +48,13 @@ public class CallGraph
     protected Map<Unit, Edge> srcUnitToEdge = new LinkedHashMap<Unit, Edge>();
     protected Map<MethodOrMethodContext, Edge> tgtToEdge = new LinkedHashMap<MethodOrMethodContext, Edge>();
     protected Edge dummy = new Edge( null, null, null, Kind.INVALID );
+    protected CallGraph insensitive = null;
 
     /** Used to add an edge to the call graph. Returns true iff the edge was
      * not already present. */
     public boolean addEdge( Edge e ) {
         if( !edges.add( e ) ) return false;
+        insensitive = null;
         stream.add( e );
         Edge position = null;
 
@@ -122,6 +124,7 @@ public class CallGraph
      * was originally present in the call graph. */
     public boolean removeEdge( Edge e ) {
         if( !edges.remove( e ) ) return false;
+        insensitive = null;
         e.remove();
 
         if( srcUnitToEdge.get(e.srcUnit()) == e ) {
@@ -285,6 +288,36 @@ public class CallGraph
     public QueueReader<Edge> newListener() {
         return stream.reader();
     }
+    /** Returns the call graph with the contexts of the methods projected
+     * away: it has an edge from m1 to m2 at unit u of kind k iff this graph
+     * has one from some context of m1 to some context of m2. The
+     * projection is computed once and reused until this graph changes; a
+     * graph without contexts is its own projection. */
+    public CallGraph contextInsensitive() {
+        if( insensitive != null ) return insensitive;
+        boolean hasContexts = false;
+        for( Iterator<Edge> eIt = liveEdges(); eIt.hasNext(); ) {
+            Edge e = eIt.next();
+            if( !(e.getTgt() instanceof SootMethod)
+            || ( e.getSrc() != null && !(e.getSrc() instanceof SootMethod) ) ) {
+                hasContexts = true;
+                break;
+            }
+        }
+        if( !hasContexts ) return insensitive = this;
+        CompactCallGraph ret = new CompactCallGraph();
+        for( Iterator<Edge> eIt = liveEdges(); eIt.hasNext(); ) {
+            Edge e = eIt.next();
+            ret.addEdge( new Edge( e.src(), e.srcUnit(), e.tgt(), e.kind() ) );
+        }
+        ret.insensitive = ret;
+        return insensitive = ret;
+    }
+    /** Returns an iterator over the edges currently in the graph, unlike
+     * listener(), which also returns edges that have been removed. */
+    protected Iterator<Edge> liveEdges() {
+        return edges.iterator();
+    }
     public String toString() {
         QueueReader<Edge> reader = listener();
         StringBuffer out = new StringBuffer();
@@ -0,0 +1,505 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.toolkits.callgraph;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import soot.Kind;
+import soot.MethodOrMethodContext;
+import soot.SootMethod;
+import soot.Unit;
+import soot.jimple.Stmt;
+import soot.util.queue.QueueReader;
+
+/** A call graph that stores its edges column-wise in int arrays rather
+ * than as Edge objects. Methods (or method contexts), units and kinds are
+ * numbered once, and each edge is a row of four small columns plus, for
+ * each of the source unit, source method and target, the number of the
+ * next edge with the same key. Edge objects are only created when the
+ * edges are iterated over, so two iterations return equal but distinct
+ * objects.
+ * <p>
+ * Methods are numbered through an array indexed by their own number, and
+ * method contexts and units through an open-addressing table, so finding
+ * the number of a method or unit does not box. The readers returned by
+ * listener() and newListener() read the rows themselves, from a position
+ * in the columns, and make the Edge of a row only when it is read; like
+ * the readers of CallGraph, they and their clones need not be kept
+ * anywhere to see the edges added later. Unlike those, they skip the
+ * edges removed before they get to them.
+ * @author agent
+ */
+public class CompactCallGraph extends CallGraph
+{
+    private static final int NONE = -1;
+
+    /* The columns, indexed by edge number. */
+    private int[] srcs = new int[64];
+    private int[] units = new int[64];
+    private int[] tgts = new int[64];
+    private byte[] kinds = new byte[64];
+    private int[] nextByUnit = new int[64];
+    private int[] nextBySrc = new int[64];
+    private int[] nextByTgt = new int[64];
+    private int numRows = 0;
+    private int numEdges = 0;
+    private int numSrcs = 0;
+
+    /* The chains, indexed by method or unit number. */
+    private int[] firstBySrc = new int[16];
+    private int[] lastBySrc = new int[16];
+    private int[] firstByTgt = new int[16];
+    private int[] lastByTgt = new int[16];
+    private int[] firstByUnit = new int[16];
+    private int[] lastByUnit = new int[16];
+    private int[] numOutOf = new int[16];
+    private int[] numInto = new int[16];
+
+    /* The number of each SootMethod plus one, indexed by the number the
+     * Scene gave the method; 0 if it has none yet. */
+    private int[] methodNumbers = new int[64];
+    private final IndexMap contextNumbers = new IndexMap();
+    private final List<MethodOrMethodContext> methodList = new ArrayList<MethodOrMethodContext>();
+    private final IndexMap unitNumbers = new IndexMap();
+    private final List<Unit> unitList = new ArrayList<Unit>();
+    private final List<Kind> kindList = new ArrayList<Kind>();
+
+    /* Open-addressing table of edge numbers plus one; 0 is an empty slot
+     * and DELETED a removed one. */
+    private static final int DELETED = -1;
+    private int[] table = new int[128];
+    private int tableUsed = 0;
+
+    public CompactCallGraph() {
+        Arrays.fill( firstBySrc, NONE );
+        Arrays.fill( firstByTgt, NONE );
+        Arrays.fill( firstByUnit, NONE );
+        unitList.add( null );
+    }
+
+    /** Creates a compact copy of the edges of cg. */
+    public CompactCallGraph( CallGraph cg ) {
+        this();
+        for( Iterator<Edge> eIt = cg.listener(); eIt.hasNext(); ) addEdge( eIt.next() );
+    }
+
+    public boolean addEdge( Edge e ) {
+        int src = methodNumber( e.getSrc() );
+        int unit = unitNumber( e.srcUnit() );
+        int tgt = methodNumber( e.getTgt() );
+        int kind = kindNumber( e.kind() );
+        if( find( src, unit, tgt, kind ) != NONE ) return false;
+
+        int row = numRows++;
+        if( row == srcs.length ) growRows();
+        srcs[row] = src;
+        units[row] = unit;
+        tgts[row] = tgt;
+        kinds[row] = (byte) kind;
+        nextByUnit[row] = NONE;
+        nextBySrc[row] = NONE;
+        nextByTgt[row] = NONE;
+
+        if( firstByUnit[unit] == NONE ) firstByUnit[unit] = row;
+        else nextByUnit[lastByUnit[unit]] = row;
+        lastByUnit[unit] = row;
+        if( firstBySrc[src] == NONE ) firstBySrc[src] = row;
+        else nextBySrc[lastBySrc[src]] = row;
+        lastBySrc[src] = row;
+        if( numOutOf[src]++ == 0 ) numSrcs++;
+        numInto[tgt]++;
+        if( firstByTgt[tgt] == NONE ) firstByTgt[tgt] = row;
+        else nextByTgt[lastByTgt[tgt]] = row;
+        lastByTgt[tgt] = row;
+
+        insert( row );
+        numEdges++;
+        insensitive = null;
+        return true;
+    }
+
+    public boolean removeAllEdgesOutOf( Unit u ) {
+        int unit = unitNumbers.get( u );
+        if( unit == NONE ) return false;
+        boolean hasRemoved = false;
+        for( int row = firstByUnit[unit]; row != NONE; row = nextByUnit[row] ) {
+            if( kinds[row] == NONE ) continue;
+            removeRow( row );
+            hasRemoved = true;
+        }
+        return hasRemoved;
+    }
+
+    public boolean swapEdgesOutOf( Stmt out, Stmt in ) {
+        List<Edge> swapped = new ArrayList<Edge>();
+        for( Iterator<Edge> eIt = edgesOutOf( out ); eIt.hasNext(); ) swapped.add( eIt.next() );
+        for( Edge e : swapped ) {
+            removeEdge( e );
+            addEdge( new Edge( e.getSrc(), in, e.getTgt() ) );
+        }
+        return !swapped.isEmpty();
+    }
+
+    public boolean removeEdge( Edge e ) {
+        int src = findMethod( e.getSrc() );
+        int tgt = findMethod( e.getTgt() );
+        int unit = e.srcUnit() == null ? 0 : unitNumbers.get( e.srcUnit() );
+        int kind = kindList.indexOf( e.kind() );
+        if( src == NONE || tgt == NONE || unit == NONE || kind < 0 ) return false;
+        int row = find( src, unit, tgt, kind );
+        if( row == NONE ) return false;
+        removeRow( row );
+        return true;
+    }
+
+    public boolean isEntryMethod( SootMethod method ) {
+        int m = findMethod( method );
+        return m == NONE || numInto[m] == 0;
+    }
+
+    public Edge findEdge( Unit u, SootMethod callee ) {
+        int unit = unitNumbers.get( u );
+        if( unit == NONE ) return null;
+        for( int row = firstByUnit[unit]; row != NONE; row = nextByUnit[row] ) {
+            if( kinds[row] != NONE && methodList.get( tgts[row] ).method() == callee ) return edge( row );
+        }
+        return null;
+    }
+
+    public Iterator<MethodOrMethodContext> sourceMethods() {
+        return new Iterator<MethodOrMethodContext>() {
+            private int next = advance( 0 );
+            private int advance( int m ) {
+                while( m < methodList.size() && numOutOf[m] == 0 ) m++;
+                return m;
+            }
+            public boolean hasNext() {
+                return next < methodList.size();
+            }
+            public MethodOrMethodContext next() {
+                if( !hasNext() ) throw new NoSuchElementException();
+                MethodOrMethodContext ret = methodList.get( next );
+                next = advance( next+1 );
+                return ret;
+            }
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    public int numSources() {
+        return numSrcs;
+    }
+
+    public Iterator<Edge> edgesOutOf( Unit u ) {
+        if( u == null ) throw new RuntimeException();
+        int unit = unitNumbers.get( u );
+        return new RowIterator( nextByUnit, unit == NONE ? NONE : firstByUnit[unit] );
+    }
+
+    public Iterator<Edge> edgesOutOf( MethodOrMethodContext m ) {
+        if( m == null ) throw new RuntimeException();
+        int src = findMethod( m );
+        return new RowIterator( nextBySrc, src == NONE ? NONE : firstBySrc[src] );
+    }
+
+    public Iterator<Edge> edgesInto( MethodOrMethodContext m ) {
+        if( m == null ) throw new RuntimeException();
+        int tgt = findMethod( m );
+        return new RowIterator( nextByTgt, tgt == NONE ? NONE : firstByTgt[tgt] );
+    }
+
+    public QueueReader<Edge> listener() {
+        return new RowReader( 0 );
+    }
+
+    public QueueReader<Edge> newListener() {
+        return new RowReader( numRows );
+    }
+
+    public String toString() {
+        StringBuffer out = new StringBuffer();
+        for( Iterator<Edge> eIt = liveEdges(); eIt.hasNext(); ) {
+            out.append( eIt.next().toString() + "\n" );
+        }
+        return out.toString();
+    }
+
+    public int size() {
+        return numEdges;
+    }
+
+    /* End of public methods. */
+
+    protected Iterator<Edge> liveEdges() {
+        return new Iterator<Edge>() {
+            private int row = skip( 0 );
+            private int skip( int r ) {
+                while( r < numRows && kinds[r] == NONE ) r++;
+                return r;
+            }
+            public boolean hasNext() {
+                return row < numRows;
+            }
+            public Edge next() {
+                if( row >= numRows ) throw new NoSuchElementException();
+                Edge ret = edge( row );
+                row = skip( row+1 );
+                return ret;
+            }
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /** Iterates over a chain of rows, skipping removed ones. */
+    private class RowIterator implements Iterator<Edge> {
+        private final int[] next;
+        private int row;
+        RowIterator( int[] next, int first ) {
+            this.next = next;
+            this.row = skip( first );
+        }
+        private int skip( int r ) {
+            while( r != NONE && kinds[r] == NONE ) r = next[r];
+            return r;
+        }
+        public boolean hasNext() {
+            return row != NONE;
+        }
+        public Edge next() {
+            if( row == NONE ) throw new NoSuchElementException();
+            Edge ret = edge( row );
+            row = skip( next[row] );
+            return ret;
+        }
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /** Reads the rows from a given one on, as they are added, skipping
+     * removed ones. Rows are never reused, so a position stays valid. */
+    private class RowReader extends QueueReader<Edge> {
+        private int row;
+        RowReader( int row ) {
+            this.row = row;
+        }
+        public boolean hasNext() {
+            while( row < numRows && kinds[row] == NONE ) row++;
+            return row < numRows;
+        }
+        public Edge next() {
+            if( !hasNext() ) throw new NoSuchElementException();
+            return edge( row++ );
+        }
+        public QueueReader<Edge> clone() {
+            return new RowReader( row );
+        }
+    }
+
+    private Edge edge( int row ) {
+        return new Edge( methodList.get( srcs[row] ), unitList.get( units[row] ),
+                methodList.get( tgts[row] ), kindList.get( kinds[row] ) );
+    }
+
+    /** Marks a row as removed. It stays in its chains, and iterators
+     * skip it. */
+    private void removeRow( int row ) {
+        table[slotOf( row )] = DELETED;
+        kinds[row] = NONE;
+        numEdges--;
+        insensitive = null;
+        if( --numOutOf[srcs[row]] == 0 ) numSrcs--;
+        numInto[tgts[row]]--;
+    }
+
+    /** Returns the number of m, or NONE if it has none yet. */
+    private int findMethod( MethodOrMethodContext m ) {
+        if( m instanceof SootMethod ) {
+            int number = ((SootMethod) m).getNumber();
+            return number < methodNumbers.length ? methodNumbers[number]-1 : NONE;
+        }
+        return contextNumbers.get( m );
+    }
+
+    private int methodNumber( MethodOrMethodContext m ) {
+        int ret = findMethod( m );
+        if( ret != NONE ) return ret;
+        int n = methodList.size();
+        if( m instanceof SootMethod ) {
+            int number = ((SootMethod) m).getNumber();
+            if( number >= methodNumbers.length ) {
+                methodNumbers = Arrays.copyOf( methodNumbers, Math.max( number+1, methodNumbers.length*2 ) );
+            }
+            methodNumbers[number] = n+1;
+        } else {
+            contextNumbers.put( m, n );
+        }
+        methodList.add( m );
+        if( n == firstBySrc.length ) {
+            firstBySrc = grow( firstBySrc, true );
+            lastBySrc = grow( lastBySrc, false );
+            firstByTgt = grow( firstByTgt, true );
+            lastByTgt = grow( lastByTgt, false );
+            numOutOf = grow( numOutOf, false );
+            numInto = grow( numInto, false );
+        }
+        return n;
+    }
+
+    private int unitNumber( Unit u ) {
+        if( u == null ) return 0;
+        int ret = unitNumbers.get( u );
+        if( ret != NONE ) return ret;
+        int n = unitList.size();
+        unitNumbers.put( u, n );
+        unitList.add( u );
+        if( n == firstByUnit.length ) {
+            firstByUnit = grow( firstByUnit, true );
+            lastByUnit = grow( lastByUnit, false );
+        }
+        return n;
+    }
+
+    private int kindNumber( Kind k ) {
+        int ret = kindList.indexOf( k );
+        if( ret >= 0 ) return ret;
+        kindList.add( k );
+        return kindList.size()-1;
+    }
+
+    private static int[] grow( int[] a, boolean fill ) {
+        int[] ret = Arrays.copyOf( a, a.length*2 );
+        if( fill ) Arrays.fill( ret, a.length, ret.length, NONE );
+        return ret;
+    }
+
+    private void growRows() {
+        int n = srcs.length*2;
+        srcs = Arrays.copyOf( srcs, n );
+        units = Arrays.copyOf( units, n );
+        tgts = Arrays.copyOf( tgts, n );
+        kinds = Arrays.copyOf( kinds, n );
+        nextByUnit = Arrays.copyOf( nextByUnit, n );
+        nextBySrc = Arrays.copyOf( nextBySrc, n );
+        nextByTgt = Arrays.copyOf( nextByTgt, n );
+    }
+
+    private static int hash( int src, int unit, int tgt, int kind ) {
+        int h = src;
+        h = h*0x9E3779B1 + unit;
+        h = h*0x9E3779B1 + tgt;
+        h = h*0x9E3779B1 + kind;
+        return h ^ (h >>> 16);
+    }
+
+    /** Returns the live row with the given columns, or NONE. */
+    private int find( int src, int unit, int tgt, int kind ) {
+        int mask = table.length-1;
+        for( int slot = hash( src, unit, tgt, kind ) & mask; ; slot = (slot+1) & mask ) {
+            int entry = table[slot];
+            if( entry == 0 ) return NONE;
+            if( entry == DELETED ) continue;
+            int row = entry-1;
+            if( srcs[row] == src && units[row] == unit && tgts[row] == tgt && kinds[row] == kind ) return row;
+        }
+    }
+
+    private int slotOf( int row ) {
+        int mask = table.length-1;
+        for( int slot = hash( srcs[row], units[row], tgts[row], kinds[row] ) & mask; ; slot = (slot+1) & mask ) {
+            if( table[slot] == row+1 ) return slot;
+        }
+    }
+
+    private void insert( int row ) {
+        if( 2*(tableUsed+1) > table.length ) rehash();
+        int mask = table.length-1;
+        int slot = hash( srcs[row], units[row], tgts[row], kinds[row] ) & mask;
+        while( table[slot] != 0 ) slot = (slot+1) & mask;
+        table[slot] = row+1;
+        tableUsed++;
+    }
+
+    /** Rebuilds the table without its deleted slots, growing it until
+     * the live rows fill at most a quarter of it. */
+    private void rehash() {
+        int size = table.length;
+        while( 4*(numEdges+1) > size ) size *= 2;
+        table = new int[size];
+        tableUsed = 0;
+        for( int row = 0; row < numRows; row++ ) {
+            if( kinds[row] != NONE && row != numRows-1 ) insert( row );
+        }
+    }
+
+    /** An open-addressing map from objects, compared with equals(), to
+     * numbers, which keeps the numbers unboxed. */
+    private static final class IndexMap {
+        private Object[] keys = new Object[64];
+        /* The number of each key plus one; 0 is an empty slot. */
+        private int[] values = new int[64];
+        private int size = 0;
+
+        /** Returns the number of key, or NONE if it has none. */
+        int get( Object key ) {
+            int mask = keys.length-1;
+            for( int slot = slot( key ) & mask; values[slot] != 0; slot = (slot+1) & mask ) {
+                Object k = keys[slot];
+                if( k == key || ( key != null && key.equals( k ) ) ) return values[slot]-1;
+            }
+            return NONE;
+        }
+
+        /** Gives key, which has no number yet, the number value. */
+        void put( Object key, int value ) {
+            if( 2*(size+1) > keys.length ) {
+                Object[] oldKeys = keys;
+                int[] oldValues = values;
+                keys = new Object[oldKeys.length*2];
+                values = new int[oldValues.length*2];
+                for( int i = 0; i < oldKeys.length; i++ ) {
+                    if( oldValues[i] != 0 ) add( oldKeys[i], oldValues[i] );
+                }
+            }
+            add( key, value+1 );
+            size++;
+        }
+
+        private void add( Object key, int entry ) {
+            int mask = keys.length-1;
+            int slot = slot( key ) & mask;
+            while( values[slot] != 0 ) slot = (slot+1) & mask;
+            keys[slot] = key;
+            values[slot] = entry;
+        }
+
+        private static int slot( Object key ) {
+            int h = key == null ? 0 : key.hashCode()*0x9E3779B1;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -84,6 +84,9 @@ public class ObjSensContextManager implements ContextManager
         if (ObjectSensitiveConfig.isObjectSensitive() && typeContext == null)
             throw new RuntimeException("With object sensitive context should never be null!");      
         
+        //analyze the target in the receiver context truncated to the depth chosen for the target
+        typeContext = ObjectSensitiveConfig.v().truncateMethodContext(pag, typeContext, target);
+
         if (ObjectSensitiveConfig.v().apiCallDepth() < 0 || checkAPICallDepth(src, target, typeContext)) {
             Edge edge = new Edge( src, srcUnit, MethodContext.v( target, typeContext ), kind );
             // System.out.println("Adding virtual edge: " + edge);
@@ -58,6 +58,7 @@ import soot.Type;
 import soot.Unit;
 import soot.Value;
 import soot.javaToJimple.LocalGenerator;
+import soot.jimple.AnyNewExpr;
 import soot.jimple.AssignStmt;
 import soot.jimple.FieldRef;
 import soot.jimple.InstanceInvokeExpr;
@@ -620,14 +621,42 @@ public final class OnFlyCallGraphBuilder
         if( method.isNative() || method.isPhantom() ) {
             return;
         }
-        Body b = method.retrieveActiveBody();
-        getImplicitTargets( momc );
-        findReceivers(momc, b);
+        Stmt[] stmts = statements( method );
+        getImplicitTargets( momc, stmts );
+        findReceivers(momc, stmts);
     }
 
-    private void findReceivers(MethodOrMethodContext m, Body b) {
-        for( Iterator sIt = b.getUnits().iterator(); sIt.hasNext(); ) {
-            final Stmt s = (Stmt) sIt.next();
+    /** Returns the statements of the body of m that the call graph
+     * builder looks at, recorded the first time, so that the body need not
+     * be walked again for each new context in which m becomes reachable. */
+    private Stmt[] statements( SootMethod m ) {
+        Stmt[] ret = methodToStmts.get( m );
+        if( ret == null ) {
+            ret = relevantStatements( m.retrieveActiveBody() );
+            methodToStmts.put( m, ret );
+        }
+        return ret;
+    }
+
+    /** Returns the statements of b that have an invoke expression, a
+     * field reference or an allocation. */
+    private static Stmt[] relevantStatements( Body b ) {
+        List<Stmt> ret = new ArrayList<Stmt>();
+        for( Unit u : b.getUnits() ) {
+            Stmt s = (Stmt) u;
+            if( s.containsInvokeExpr() || s.containsFieldRef()
+                    || ( s instanceof AssignStmt
+                        && ((AssignStmt) s).getRightOp() instanceof AnyNewExpr ) ) {
+                ret.add( s );
+            }
+        }
+        return ret.toArray( new Stmt[ret.size()] );
+    }
+
+    private final Map<SootMethod, Stmt[]> methodToStmts = new HashMap<SootMethod, Stmt[]>();
+
+    private void findReceivers(MethodOrMethodContext m, Stmt[] stmts) {
+        for( final Stmt s : stmts ) {
             if (s.containsInvokeExpr()) {
                 InvokeExpr ie = s.getInvokeExpr();
 
@@ -687,7 +716,7 @@ public final class OnFlyCallGraphBuilder
 
     ReflectionModel reflectionModel;
 
-    private void getImplicitTargets( MethodOrMethodContext source) {
+    private void getImplicitTargets( MethodOrMethodContext source, Stmt[] stmts ) {
         SootMethod sourceMethod = source.method();
 
         final SootClass scl = sourceMethod.getDeclaringClass();
@@ -701,9 +730,7 @@ public final class OnFlyCallGraphBuilder
             if (target != null)
                 cm.addVirtualEdge(source, null, target, Kind.FINALIZE, source.context());
         }
-        Body b = sourceMethod.retrieveActiveBody();
-        for( Iterator sIt = b.getUnits().iterator(); sIt.hasNext(); ) {
-            final Stmt s = (Stmt) sIt.next();
+        for( final Stmt s : stmts ) {
             if( s.containsInvokeExpr() ) {
                 InvokeExpr ie = s.getInvokeExpr();
                 if( ie.getMethodRef().getSignature().equals( "<java.lang.reflect.Method: java.lang.Object invoke(java.lang.Object,java.lang.Object[])>" ) ) {
@@ -70,6 +70,17 @@ public class JimpleBasedInterproceduralCFG extends AbstractJimpleBasedICFG {
 	
 	@DontSynchronize("readonly")
 	protected final CallGraph cg;
+
+	/**
+	 * Returns the call graph with its method contexts projected away, which
+	 * the edge lookups use, since they look up SootMethods. It is taken from
+	 * cg on each call, which keeps it until cg changes, so lookups made after
+	 * edges are added to cg see them; results already cached by this ICFG
+	 * are not looked up again.
+	 */
+	protected synchronized CallGraph insensitiveCallGraph() {
+		return cg.contextInsensitive();
+	}
 	
 	@SynchronizedBy("by use of synchronized LoadingCache class")
 	protected final LoadingCache<Unit,Collection<SootMethod>> unitToCallees =
@@ -78,7 +89,7 @@ public class JimpleBasedInterproceduralCFG extends AbstractJimpleBasedICFG {
 				public Collection<SootMethod> load(Unit u) throws Exception {
 					ArrayList<SootMethod> res = null;
 					//only retain callers that are explicit call sites or Thread.start()
-					Iterator<Edge> edgeIter = new EdgeFilter().wrap(cg.edgesOutOf(u));					
+					Iterator<Edge> edgeIter = new EdgeFilter().wrap(insensitiveCallGraph().edgesOutOf(u));					
 					while(edgeIter.hasNext()) {
 						Edge edge = edgeIter.next();
 						SootMethod m = edge.getTgt().method();
@@ -107,7 +118,7 @@ public class JimpleBasedInterproceduralCFG extends AbstractJimpleBasedICFG {
 				public Collection<Unit> load(SootMethod m) throws Exception {
 					ArrayList<Unit> res = new ArrayList<Unit>();
 					//only retain callers that are explicit call sites or Thread.start()
-					Iterator<Edge> edgeIter = new EdgeFilter().wrap(cg.edgesInto(m));					
+					Iterator<Edge> edgeIter = new EdgeFilter().wrap(insensitiveCallGraph().edgesInto(m));					
 					while(edgeIter.hasNext()) {
 						Edge edge = edgeIter.next();
 						res.add(edge.srcUnit());
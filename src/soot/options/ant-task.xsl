@@ -105,7 +105,7 @@ public class AntTask extends MatchingTask {
 <!--*************************************************************************-->
 
   <xsl:template mode="parse" match="section">
-      <xsl:apply-templates mode="parse" select="boolopt|multiopt|listopt|phaseopt|stropt|macroopt"/>
+      <xsl:apply-templates mode="parse" select="boolopt|multiopt|listopt|phaseopt|stropt|intopt|macroopt"/>
   </xsl:template>
 
 <!--* BOOLEAN_OPTION *******************************************************-->
@@ -179,6 +179,14 @@ public class AntTask extends MatchingTask {
         }
   </xsl:template>
 
+<!--* INT_OPTION *******************************************************-->
+  <xsl:template mode="parse" match="intopt">
+        public void set<xsl:value-of select="translate(alias[last()],'-. ','___')"/>(String arg) {
+            addArg("-<xsl:value-of select="alias[last()]"/>");
+            addArg(arg);
+        }
+  </xsl:template>
+
 <!--* PHASE_OPTION *******************************************************-->
   <xsl:template mode="parse" match="phaseopt">
   </xsl:template>
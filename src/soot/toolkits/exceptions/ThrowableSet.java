@@ -23,6 +23,7 @@ import soot.*;
 import soot.options.Options;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -310,7 +311,7 @@ public final class ThrowableSet {
 		 *         exceptions corresponding to <code>include</code> -
 		 *         <code>exclude</code>.
 		 */
-		private ThrowableSet registerSetIfNew(Set<RefLikeType> include, Set<AnySubType> exclude) {
+		private synchronized ThrowableSet registerSetIfNew(Set<RefLikeType> include, Set<AnySubType> exclude) {
 			if (INSTRUMENTING) {
 				registrationCalls++;
 			}
@@ -427,11 +428,16 @@ public final class ThrowableSet {
 	 * If (k,v) is in <code>memoizedAdds</code> and k is a {@link RefLikeType},
 	 * then v is the set that results from adding k to <code>this</code>.
 	 */
-	private Map<Object, ThrowableSet> memoizedAdds;
+	private volatile Map<Object, ThrowableSet> memoizedAdds;
 
 	private ThrowableSet getMemoizedAdds(Object key) {
 		if (memoizedAdds == null) {
-			memoizedAdds = new HashMap<Object, ThrowableSet>();
+			// Sets are shared by the bodies built on all threads
+			synchronized (this) {
+				if (memoizedAdds == null) {
+					memoizedAdds = new ConcurrentHashMap<Object, ThrowableSet>();
+				}
+			}
 		}
 		return memoizedAdds.get(key);
 	}
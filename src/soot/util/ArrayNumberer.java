@@ -28,26 +28,30 @@ import java.util.*;
 
 public class ArrayNumberer<E extends Numberable> implements IterableNumberer<E> {
     @SuppressWarnings("unchecked")
-    protected E[] numberToObj = (E[]) new Numberable[10240];
-    protected int lastNumber = 0;
+    protected volatile E[] numberToObj = (E[]) new Numberable[10240];
+    /* Readers take no lock: add() fills the slot of an object before it
+     * publishes the object's number here, so a reader that reads a
+     * number at least as large finds the slot filled. */
+    protected volatile int lastNumber = 0;
     
     private void resize(int n) {
-    	E[] old = numberToObj;    	
+    	// The old array is left as it is, so that a get() that races with
+    	// an add() still finds the objects in it
     	numberToObj = Arrays.copyOf(numberToObj, n);
-    	Arrays.fill(old, null);
     }
     
-    public void add( E o ) {
+    public synchronized void add( E o ) {
         if (o == null)
             throw new RuntimeException("adding null object to array numberer");
         if( o.getNumber() != 0 ) return;
         
-        ++lastNumber;
-        if( lastNumber >= numberToObj.length ) {
+        int number = lastNumber+1;
+        if( number >= numberToObj.length ) {
         	resize(numberToObj.length*2);
         }
-        numberToObj[lastNumber] = o;
-        o.setNumber( lastNumber );
+        numberToObj[number] = o;
+        lastNumber = number;
+        o.setNumber( number );
     }
 
     public long get( E o ) {
@@ -59,9 +63,9 @@ public class ArrayNumberer<E extends Numberable> implements IterableNumberer<E>
 
 	public E get( long number ) {
         if( number == 0 ) return null;
-		E ret = numberToObj[(int) number];
-        if( ret == null ) throw new RuntimeException( "no object with number "+number + " of " + lastNumber);
-        return ret;
+        int last = lastNumber;
+        if( number > last ) throw new RuntimeException( "no object with number "+number + " of " + last);
+        return numberToObj[(int) number];
     }
 
     public int size() { 
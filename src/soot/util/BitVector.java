@@ -117,6 +117,13 @@ public class BitVector
         }
         return (int) ( (ret >> 32) ^ ret );
     }
+    /** Copies dst.length words starting at word from into dst, with
+     * zeros for the words past the end of this vector. */
+    void getWords( int from, long[] dst ) {
+        int n = Math.max( 0, Math.min( dst.length, bits.length - from ) );
+        if( n > 0 ) System.arraycopy( bits, from, dst, 0, n );
+        for( int i = n; i < dst.length; i++ ) dst[i] = 0L;
+    }
     /** Returns index of highest-numbered one bit. */
     public int length() {
         int i;
@@ -0,0 +1,111 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/** Reads what ChannelDataOutput writes from a channel, through one buffer
+ * of fixed size.
+ *
+ * @author agent
+ */
+public final class ChannelDataInput
+{
+    public ChannelDataInput( ReadableByteChannel channel ) {
+        this( channel, 1<<20 );
+    }
+
+    public ChannelDataInput( ReadableByteChannel channel, int bufferSize ) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect( bufferSize );
+        buffer.limit( 0 );
+    }
+
+    /** Returns the next byte, from 0 to 255, or -1 at the end of the
+     * channel. */
+    public int read() throws IOException {
+        if( !buffer.hasRemaining() && !fill() ) return -1;
+        return buffer.get() & 0xff;
+    }
+
+    public int readByte() throws IOException {
+        int b = read();
+        if( b < 0 ) throw new EOFException();
+        return b;
+    }
+
+    public int readVarInt() throws IOException {
+        int ret = 0;
+        for( int shift = 0; shift < 35; shift += 7 ) {
+            int b = readByte();
+            ret |= ( b & 0x7f ) << shift;
+            if( ( b & 0x80 ) == 0 ) return ret;
+        }
+        throw new IOException( "malformed variable-length int" );
+    }
+
+    public long readVarLong() throws IOException {
+        long ret = 0;
+        for( int shift = 0; shift < 70; shift += 7 ) {
+            int b = readByte();
+            ret |= (long) ( b & 0x7f ) << shift;
+            if( ( b & 0x80 ) == 0 ) return ret;
+        }
+        throw new IOException( "malformed variable-length long" );
+    }
+
+    public int readSignedVarInt() throws IOException {
+        int v = readVarInt();
+        return ( v >>> 1 ) ^ -( v & 1 );
+    }
+
+    public String readString() throws IOException {
+        byte[] bytes = new byte[readVarInt()];
+        int off = 0;
+        while( off < bytes.length ) {
+            if( !buffer.hasRemaining() && !fill() ) throw new EOFException();
+            int n = Math.min( buffer.remaining(), bytes.length - off );
+            buffer.get( bytes, off, n );
+            off += n;
+        }
+        return new String( bytes, ChannelDataOutput.UTF8 );
+    }
+
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /** Refills the empty buffer; returns false at the end of the channel. */
+    private boolean fill() throws IOException {
+        buffer.clear();
+        int n;
+        do {
+            n = channel.read( buffer );
+        } while( n == 0 );
+        buffer.flip();
+        return n > 0;
+    }
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+}
@@ -0,0 +1,125 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+/** Writes bytes, variable-length ints and strings to a channel through
+ * one buffer of fixed size, so that writing uses the same memory however
+ * much is written. Ints are written seven bits per byte, low bits first,
+ * with the high bit of a byte set if more bytes follow; small
+ * non-negative ints thus take one byte. Signed ints are zigzag encoded
+ * first, so that small negative ints are short too. ChannelDataInput
+ * reads what this writes.
+ *
+ * @author agent
+ */
+public final class ChannelDataOutput
+{
+    public ChannelDataOutput( WritableByteChannel channel ) {
+        this( channel, 1<<20 );
+    }
+
+    public ChannelDataOutput( WritableByteChannel channel, int bufferSize ) {
+        if( bufferSize < 16 ) throw new RuntimeException( "buffer too small: "+bufferSize );
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect( bufferSize );
+    }
+
+    public void writeByte( int b ) throws IOException {
+        if( !buffer.hasRemaining() ) drain();
+        buffer.put( (byte) b );
+    }
+
+    /** Writes v as unsigned; negative ints take five bytes. */
+    public void writeVarInt( int v ) throws IOException {
+        if( buffer.remaining() < 5 ) drain();
+        while( ( v & ~0x7f ) != 0 ) {
+            buffer.put( (byte) ( ( v & 0x7f ) | 0x80 ) );
+            v >>>= 7;
+        }
+        buffer.put( (byte) v );
+    }
+
+    /** Writes v as unsigned; negative longs take ten bytes. */
+    public void writeVarLong( long v ) throws IOException {
+        if( buffer.remaining() < 10 ) drain();
+        while( ( v & ~0x7fL ) != 0 ) {
+            buffer.put( (byte) ( ( v & 0x7f ) | 0x80 ) );
+            v >>>= 7;
+        }
+        buffer.put( (byte) v );
+    }
+
+    /** Writes v zigzag encoded, so that ints close to zero are short
+     * whatever their sign. */
+    public void writeSignedVarInt( int v ) throws IOException {
+        writeVarInt( ( v << 1 ) ^ ( v >> 31 ) );
+    }
+
+    /** Writes s as its length in bytes followed by its UTF-8 encoding;
+     * null is written as the empty string. */
+    public void writeString( String s ) throws IOException {
+        byte[] bytes = s == null ? EMPTY : s.getBytes( UTF8 );
+        writeVarInt( bytes.length );
+        int off = 0;
+        while( off < bytes.length ) {
+            if( !buffer.hasRemaining() ) drain();
+            int n = Math.min( buffer.remaining(), bytes.length - off );
+            buffer.put( bytes, off, n );
+            off += n;
+        }
+    }
+
+    /** Returns the number of bytes written so far, including those still
+     * in the buffer. */
+    public long size() {
+        return flushed + buffer.position();
+    }
+
+    /** Writes out the buffer. */
+    public void flush() throws IOException {
+        drain();
+    }
+
+    /** Flushes, and closes the channel. */
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while( buffer.hasRemaining() ) flushed += channel.write( buffer );
+        buffer.clear();
+    }
+
+    static final Charset UTF8 = Charset.forName( "UTF-8" );
+    private static final byte[] EMPTY = new byte[0];
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private long flushed = 0;
+}
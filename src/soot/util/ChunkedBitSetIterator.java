@@ -0,0 +1,74 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.util;
+
+import java.util.NoSuchElementException;
+
+/** An enumerator of the set bits of a ChunkedBitVector, like
+ *  BitSetIterator. The vector must not gain chunks while it is being
+ *  enumerated. */
+public class ChunkedBitSetIterator {
+    ChunkedBitSetIterator( int[] keys, long[][] chunks, int numChunks ) {
+        this.keys = keys;
+        this.chunks = chunks;
+        this.numChunks = numChunks;
+        chunk = 0;
+        word = -1;
+        advance();
+    }
+
+    /** Returns true if there are more set bits; false otherwise. */
+    public boolean hasNext() {
+        return chunk < numChunks;
+    }
+
+    /** Returns the index of the next set bit. */
+    public int next() {
+        if( chunk >= numChunks )
+            throw new NoSuchElementException();
+        int result = keys[chunk] * ChunkedBitVector.CHUNK_BITS + word * 64
+            + Long.numberOfTrailingZeros( save );
+        save &= save - 1;
+        if( save == 0L ) advance();
+        return result;
+    }
+
+    /** Moves to the next non-zero word. */
+    private void advance() {
+        while( chunk < numChunks ) {
+            long[] c = chunks[chunk];
+            while( ++word < ChunkedBitVector.WORDS ) {
+                if( c[word] != 0L ) {
+                    save = c[word];
+                    return;
+                }
+            }
+            chunk++;
+            word = -1;
+        }
+    }
+
+    private final int[] keys;
+    private final long[][] chunks;
+    private final int numChunks;
+    private int chunk;
+    private int word;
+    private long save;
+}
@@ -0,0 +1,244 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.util;
+
+/** A sparse bit vector made of fixed-size chunks of CHUNK_BITS bits, of
+ * which only those containing set bits are allocated. The chunks are
+ * kept sorted by index, so operations on two vectors merge their chunk
+ * lists, and the work within a pair of chunks is a loop over a fixed
+ * number of words with no branches, which the JIT can unroll and
+ * vectorize.
+ *
+ * @author agent
+ */
+public final class ChunkedBitVector
+{
+    /** Number of 64-bit words in a chunk. */
+    public static final int WORDS = 16;
+    /** Number of bits in a chunk. */
+    public static final int CHUNK_BITS = WORDS * 64;
+    private static final int CHUNK_SHIFT = 10;
+
+    private static final long[] ZEROS = new long[WORDS];
+    private static final long[] ONES = new long[WORDS];
+    static {
+        for( int i = 0; i < WORDS; i++ ) ONES[i] = -1L;
+    }
+
+    public ChunkedBitVector() {
+        keys = new int[2];
+        chunks = new long[2][];
+    }
+
+    /** Copy constructor. */
+    public ChunkedBitVector( ChunkedBitVector other ) {
+        numChunks = other.numChunks;
+        keys = new int[Math.max( 2, numChunks )];
+        chunks = new long[keys.length][];
+        System.arraycopy( other.keys, 0, keys, 0, numChunks );
+        for( int i = 0; i < numChunks; i++ ) chunks[i] = other.chunks[i].clone();
+    }
+
+    public boolean get( int bit ) {
+        int i = find( bit >>> CHUNK_SHIFT );
+        if( i < 0 ) return false;
+        return ( chunks[i][(bit >>> 6) & (WORDS-1)] & (1L << bit) ) != 0L;
+    }
+
+    /** Sets the bit; returns true iff it was not set before. */
+    public boolean set( int bit ) {
+        int key = bit >>> CHUNK_SHIFT;
+        int i = find( key );
+        long[] chunk;
+        if( i < 0 ) {
+            chunk = new long[WORDS];
+            insert( -i-1, key, chunk );
+        } else {
+            chunk = chunks[i];
+        }
+        int word = (bit >>> 6) & (WORDS-1);
+        long old = chunk[word];
+        chunk[word] = old | (1L << bit);
+        return chunk[word] != old;
+    }
+
+    public boolean isEmpty() {
+        return numChunks == 0;
+    }
+
+    /** Returns the number of set bits. */
+    public int cardinality() {
+        int ret = 0;
+        for( int i = 0; i < numChunks; i++ ) {
+            long[] chunk = chunks[i];
+            for( int w = 0; w < WORDS; w++ ) ret += Long.bitCount( chunk[w] );
+        }
+        return ret;
+    }
+
+    /** Returns the index of the highest set bit plus one, rounded up to a
+     * whole chunk. */
+    public int length() {
+        return numChunks == 0 ? 0 : (keys[numChunks-1]+1) << CHUNK_SHIFT;
+    }
+
+    /** Returns the number of chunks allocated. */
+    public int numChunks() {
+        return numChunks;
+    }
+
+    /** Returns true if this vector and other have a set bit in common. */
+    public boolean intersects( ChunkedBitVector other ) {
+        int i = 0, j = 0;
+        while( i < numChunks && j < other.numChunks ) {
+            if( keys[i] < other.keys[j] ) i++;
+            else if( keys[i] > other.keys[j] ) j++;
+            else {
+                long[] a = chunks[i++];
+                long[] b = other.chunks[j++];
+                long common = 0L;
+                for( int w = 0; w < WORDS; w++ ) common |= a[w] & b[w];
+                if( common != 0L ) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes this = this OR ((orset AND andset ) AND (NOT andnotset)),
+     * where andset and andnotset may be null.
+     * Returns true iff this is modified.
+     */
+    public boolean orAndAndNot( ChunkedBitVector orset, BitVector andset, ChunkedBitVector andnotset ) {
+        if( andnotset == this ) andnotset = new ChunkedBitVector( this );
+        boolean ret = false;
+        long[] maskWords = andset == null ? ONES : new long[WORDS];
+        int pos = 0;
+        int e = 0;
+        for( int o = 0; o < orset.numChunks; o++ ) {
+            int key = orset.keys[o];
+            long[] src = orset.chunks[o];
+            if( andset != null ) andset.getWords( key * WORDS, maskWords );
+            long[] exclude = ZEROS;
+            if( andnotset != null ) {
+                while( e < andnotset.numChunks && andnotset.keys[e] < key ) e++;
+                if( e < andnotset.numChunks && andnotset.keys[e] == key ) exclude = andnotset.chunks[e];
+            }
+            while( pos < numChunks && keys[pos] < key ) pos++;
+            if( pos < numChunks && keys[pos] == key ) {
+                if( orInto( chunks[pos], src, maskWords, exclude ) ) ret = true;
+            } else {
+                long[] chunk = new long[WORDS];
+                if( orInto( chunk, src, maskWords, exclude ) ) {
+                    insert( pos, key, chunk );
+                    ret = true;
+                }
+            }
+        }
+        return ret;
+    }
+
+    public BitVector toBitVector() {
+        BitVector ret = new BitVector( length() );
+        for( ChunkedBitSetIterator it = iterator(); it.hasNext(); ) ret.set( it.next() );
+        return ret;
+    }
+
+    public ChunkedBitSetIterator iterator() {
+        return new ChunkedBitSetIterator( keys, chunks, numChunks );
+    }
+
+    public boolean equals( Object o ) {
+        if( !(o instanceof ChunkedBitVector) ) return false;
+        ChunkedBitVector other = (ChunkedBitVector) o;
+        if( numChunks != other.numChunks ) return false;
+        for( int i = 0; i < numChunks; i++ ) {
+            if( keys[i] != other.keys[i] ) return false;
+            for( int w = 0; w < WORDS; w++ ) {
+                if( chunks[i][w] != other.chunks[i][w] ) return false;
+            }
+        }
+        return true;
+    }
+
+    public int hashCode() {
+        long ret = 0;
+        for( int i = 0; i < numChunks; i++ ) {
+            for( int w = 0; w < WORDS; w++ ) ret = ret * 31 + chunks[i][w];
+        }
+        return (int) ( (ret >> 32) ^ ret );
+    }
+
+    public String toString() {
+        StringBuffer ret = new StringBuffer( "{" );
+        for( ChunkedBitSetIterator it = iterator(); it.hasNext(); ) {
+            ret.append( it.next() );
+            if( it.hasNext() ) ret.append( ", " );
+        }
+        return ret.append( '}' ).toString();
+    }
+
+    /** Computes dst |= src & mask & ~exclude over the words of a chunk;
+     * returns true iff dst changed. */
+    private static boolean orInto( long[] dst, long[] src, long[] mask, long[] exclude ) {
+        long changed = 0L;
+        for( int w = 0; w < WORDS; w++ ) {
+            long old = dst[w];
+            long now = old | (src[w] & mask[w] & ~exclude[w]);
+            changed |= now ^ old;
+            dst[w] = now;
+        }
+        return changed != 0L;
+    }
+
+    /** Returns the position of the chunk with the given key, or
+     * -(insertion point)-1. */
+    private int find( int key ) {
+        int lo = 0, hi = numChunks-1;
+        while( lo <= hi ) {
+            int mid = (lo+hi) >>> 1;
+            int k = keys[mid];
+            if( k < key ) lo = mid+1;
+            else if( k > key ) hi = mid-1;
+            else return mid;
+        }
+        return -lo-1;
+    }
+
+    private void insert( int pos, int key, long[] chunk ) {
+        if( numChunks == keys.length ) {
+            int[] newKeys = new int[keys.length * 2];
+            long[][] newChunks = new long[keys.length * 2][];
+            System.arraycopy( keys, 0, newKeys, 0, numChunks );
+            System.arraycopy( chunks, 0, newChunks, 0, numChunks );
+            keys = newKeys;
+            chunks = newChunks;
+        }
+        System.arraycopy( keys, pos, keys, pos+1, numChunks-pos );
+        System.arraycopy( chunks, pos, chunks, pos+1, numChunks-pos );
+        keys[pos] = key;
+        chunks[pos] = chunk;
+        numChunks++;
+    }
+
+    private int[] keys;
+    private long[][] chunks;
+    private int numChunks;
+}
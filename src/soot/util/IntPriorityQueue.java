@@ -0,0 +1,145 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.util;
+
+import java.util.NoSuchElementException;
+
+/** A priority queue of distinct non-negative ints, such as the numbers of
+ * Numberable objects, each with a long key; the element with the smallest
+ * key comes out first. It is a binary heap in an int and a long array,
+ * plus an array from element to heap position, so no element is ever
+ * boxed, and adding an element that is already queued is a constant-time
+ * no-op.
+ *
+ * @author agent
+ */
+public final class IntPriorityQueue
+{
+    public IntPriorityQueue() {
+        this( 16 );
+    }
+
+    public IntPriorityQueue( int capacity ) {
+        heap = new int[capacity+1];
+        keys = new long[capacity+1];
+        pos = new int[capacity];
+    }
+
+    /** Adds e with the given key; returns false, and leaves the key alone,
+     * if e is already in the queue. */
+    public boolean add( int e, long key ) {
+        if( e >= pos.length ) {
+            int[] newPos = new int[Math.max( e+1, pos.length*2 )];
+            System.arraycopy( pos, 0, newPos, 0, pos.length );
+            pos = newPos;
+        } else if( pos[e] != 0 ) return false;
+        if( ++size == heap.length ) {
+            int[] newHeap = new int[heap.length*2];
+            long[] newKeys = new long[heap.length*2];
+            System.arraycopy( heap, 0, newHeap, 0, heap.length );
+            System.arraycopy( keys, 0, newKeys, 0, keys.length );
+            heap = newHeap;
+            keys = newKeys;
+        }
+        siftUp( size, e, key );
+        return true;
+    }
+
+    /** Removes and returns the element with the smallest key. */
+    public int removeMin() {
+        if( size == 0 ) throw new NoSuchElementException();
+        int ret = heap[1];
+        pos[ret] = 0;
+        int e = heap[size];
+        long key = keys[size];
+        if( --size > 0 ) siftDown( 1, e, key );
+        return ret;
+    }
+
+    /** Returns the smallest key in the queue. */
+    public long minKey() {
+        if( size == 0 ) throw new NoSuchElementException();
+        return keys[1];
+    }
+
+    public boolean contains( int e ) {
+        return e < pos.length && pos[e] != 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Removes all elements. */
+    public void clear() {
+        for( int i = 1; i <= size; i++ ) pos[heap[i]] = 0;
+        size = 0;
+    }
+
+    /** Returns the elements in the queue, in no particular order. */
+    public int[] toArray() {
+        int[] ret = new int[size];
+        System.arraycopy( heap, 1, ret, 0, size );
+        return ret;
+    }
+
+    private void siftUp( int i, int e, long key ) {
+        while( i > 1 ) {
+            int parent = i >>> 1;
+            if( keys[parent] <= key ) break;
+            move( parent, i );
+            i = parent;
+        }
+        place( i, e, key );
+    }
+
+    private void siftDown( int i, int e, long key ) {
+        while( true ) {
+            int child = i << 1;
+            if( child > size ) break;
+            if( child < size && keys[child+1] < keys[child] ) child++;
+            if( key <= keys[child] ) break;
+            move( child, i );
+            i = child;
+        }
+        place( i, e, key );
+    }
+
+    private void move( int from, int to ) {
+        heap[to] = heap[from];
+        keys[to] = keys[from];
+        pos[heap[to]] = to;
+    }
+
+    private void place( int i, int e, long key ) {
+        heap[i] = e;
+        keys[i] = key;
+        pos[e] = i;
+    }
+
+    private int[] heap;
+    private long[] keys;
+    private int[] pos;
+    private int size;
+}
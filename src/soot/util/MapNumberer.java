@@ -19,20 +19,29 @@
 
 package soot.util;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MapNumberer<T> implements Numberer<T> {
-    Map<T, Integer> map = new HashMap<T, Integer>();
-    ArrayList<T> al = new ArrayList<T>();
-    int nextIndex = 1;
-    public void add( T o ) {
+    /* Readers take no lock: add() fills the slot and the map entry of an
+     * object before it publishes the new size in nextIndex. */
+    Map<T, Integer> map = new ConcurrentHashMap<T, Integer>();
+    volatile Object[] objects = new Object[16];
+    volatile int nextIndex = 1;
+    public synchronized void add( T o ) {
+        if( o == null ) throw new RuntimeException( "adding null object to map numberer" );
         if( !map.containsKey(o) ) {
-            map.put( o, new Integer(nextIndex) );
-            al.add(o);
-            nextIndex++;
+            int number = nextIndex;
+            if( number == objects.length ) objects = Arrays.copyOf( objects, number*2 );
+            objects[number] = o;
+            map.put( o, Integer.valueOf(number) );
+            nextIndex = number+1;
         }
     }
+    @SuppressWarnings("unchecked")
     public T get( long number ) {
-        return al.get((int) number);
+        int next = nextIndex;
+        if( number < 0 || number >= next ) throw new IndexOutOfBoundsException( "no object with number "+number+" of "+(next-1) );
+        return (T) objects[(int) number];
     }
     public long get( Object o ) {
         if( o == null ) return 0;
@@ -41,6 +50,6 @@ public class MapNumberer<T> implements Numberer<T> {
         return i.intValue();
     }
     public int size() { return nextIndex-1; /*subtract 1 for null*/ }
-    public MapNumberer() { al.add(null); }
-    public boolean contains(Object o) { return map.containsKey(o); }
+    public MapNumberer() {}
+    public boolean contains(Object o) { return o != null && map.containsKey(o); }
 }
@@ -0,0 +1,121 @@
+package soot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import junit.framework.TestCase;
+import soot.jimple.spark.Boxes;
+import soot.jimple.spark.SparkTestUtility;
+import soot.options.Options;
+
+/**
+ * JUnit test suite for the BodyManager: runs Spark on the Boxes program
+ * with the release-bodies option, and checks that the bodies are kept
+ * while the points-to analysis and the call graph refer to them, and are
+ * the same once they are built again.
+ */
+public class BodyManagerTest extends TestCase {
+
+    public BodyManagerTest(String name) {
+	super(name);
+    }
+
+    private ByteArrayOutputStream bytes;
+
+    /**
+     * Resets Soot and runs the call graph pack on Boxes with Spark, with
+     * no resident bodies.
+     */
+    private void runSpark() {
+	G.reset();
+	bytes = new ByteArrayOutputStream();
+	G.v().out = new PrintStream(bytes, true);
+	List<String> args = new ArrayList<String>(Arrays.asList(
+	    "-w", "-f", "n", "-allow-phantom-refs", "-cp", SparkTestUtility.classPath(),
+	    "-main-class", Boxes.class.getName(),
+	    "-release-bodies", "-resident-bodies", "0",
+	    "-p", "cg", "implicit-entry:false", "-p", "cg.spark", "on",
+	    Boxes.class.getName()));
+	if (!Options.v().parse(args.toArray(new String[args.size()])))
+	    throw new RuntimeException("Bad options " + args);
+	Main.v().autoSetOptions();
+	Scene.v().loadNecessaryClasses();
+	PackManager.v().getPack("cg").apply();
+    }
+
+    /** Returns the reachable methods of the Boxes classes. */
+    private static List<SootMethod> reachableMethods() {
+	List<SootMethod> ret = new ArrayList<SootMethod>();
+	for (SootClass c : SparkTestUtility.boxesClasses()) {
+	    for (SootMethod m : c.getMethods()) {
+		if (m.isConcrete() && Scene.v().getReachableMethods().contains(m))
+		    ret.add(m);
+	    }
+	}
+	return ret;
+    }
+
+    private static Map<String, String> bodies(List<SootMethod> methods) {
+	Map<String, String> ret = new TreeMap<String, String>();
+	for (SootMethod m : methods) {
+	    StringWriter text = new StringWriter();
+	    PrintWriter out = new PrintWriter(text);
+	    Printer.v().printTo(m.retrieveActiveBody(), out);
+	    out.flush();
+	    ret.put(m.getSignature(), text.toString());
+	}
+	return ret;
+    }
+
+    public void testBodiesKeptWhileAnalysisInScene() {
+	SparkTestUtility.run("");
+	Map<String, Set<String>> expected = SparkTestUtility.pointsToTypes();
+
+	runSpark();
+	List<SootMethod> methods = reachableMethods();
+	assertFalse(methods.isEmpty());
+	for (SootMethod m : methods)
+	    assertTrue(m.toString(), m.hasActiveBody());
+	assertEquals(expected, SparkTestUtility.pointsToTypes());
+    }
+
+    public void testBodiesBuiltAgainOnceAnalysisReleased() {
+	runSpark();
+	List<SootMethod> methods = reachableMethods();
+	Map<String, String> expected = bodies(methods);
+
+	Scene.v().releasePointsToAnalysis();
+	for (SootMethod m : methods)
+	    assertTrue(m.toString(), m.hasActiveBody());
+	Scene.v().releaseCallGraph();
+	for (SootMethod m : methods)
+	    assertFalse(m.toString(), m.hasActiveBody());
+
+	BodyManager.v().trim();
+	assertEquals(expected, bodies(methods));
+	BodyManager.v().report();
+	// Methods of other classes, such as Object.<init>, are released too
+	assertTrue(bytes.toString(), bytes.toString().contains(
+	    " bodies released, 0 got back and " + methods.size() + " built again"));
+    }
+
+    public void testChangedBodiesAreNotReleased() {
+	runSpark();
+	List<SootMethod> methods = reachableMethods();
+	SootMethod changed = methods.get(0);
+	PackManager.v().getPack("jtp").apply(changed.getActiveBody());
+
+	Scene.v().releasePointsToAnalysis();
+	Scene.v().releaseCallGraph();
+	for (SootMethod m : methods)
+	    assertEquals(m.toString(), m == changed, m.hasActiveBody());
+    }
+}
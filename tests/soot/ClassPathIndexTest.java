@@ -0,0 +1,98 @@
+package soot;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import junit.framework.TestCase;
+import soot.options.Options;
+
+/**
+ * JUnit test suite for the class-path-index option: lists a jar through
+ * the index saved in a file, and checks when the saved listing is used
+ * and when the jar is read again.
+ */
+public class ClassPathIndexTest extends TestCase {
+
+    public ClassPathIndexTest(String name) {
+	super(name);
+    }
+
+    private static final long TIME = 1000000000000L;
+
+    private File jar;
+    private File index;
+
+    protected void setUp() throws Exception {
+	jar = File.createTempFile("classes", ".jar").getCanonicalFile();
+	index = File.createTempFile("classes", ".idx").getCanonicalFile();
+	index.delete();
+	writeJar("p/A.class");
+    }
+
+    protected void tearDown() {
+	jar.delete();
+	index.delete();
+    }
+
+    /**
+     * Writes the jar with one entry. Entries with names of the same length
+     * give jars of the same length.
+     */
+    private void writeJar(String entry) throws IOException {
+	ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar));
+	try {
+	    ZipEntry e = new ZipEntry(entry);
+	    e.setTime(TIME);
+	    out.putNextEntry(e);
+	    out.write(new byte[] { 1, 2, 3 });
+	    out.closeEntry();
+	} finally {
+	    out.close();
+	}
+	jar.setLastModified(TIME);
+    }
+
+    /** Resets Soot and lists the classes in the jar, with the index file. */
+    private String classes() {
+	G.reset();
+	Options.v().set_soot_classpath(jar.getPath());
+	Options.v().set_class_path_index(index.getPath());
+	return SourceLocator.v().getClassesUnder(jar.getPath()).toString();
+    }
+
+    public void testIndexIsSaved() {
+	assertEquals("[p.A]", classes());
+	assertTrue(index.isFile());
+	assertEquals("[p.A]", classes());
+    }
+
+    public void testSavedListingIsUsed() throws IOException {
+	classes();
+	long length = jar.length();
+	// The same length and time, so only the index tells what is in the jar
+	writeJar("p/B.class");
+	assertEquals(length, jar.length());
+	assertEquals("[p.A]", classes());
+
+	jar.setLastModified(TIME + 2000);
+	assertEquals("[p.B]", classes());
+	// The new listing is saved
+	writeJar("p/C.class");
+	jar.setLastModified(TIME + 2000);
+	assertEquals("[p.B]", classes());
+    }
+
+    public void testUnreadableIndexIsRebuilt() throws IOException {
+	FileOutputStream out = new FileOutputStream(index);
+	out.write(new byte[] { 1, 2, 3 });
+	out.close();
+	assertEquals("[p.A]", classes());
+
+	// The index was saved again, and is used
+	writeJar("p/B.class");
+	assertEquals("[p.A]", classes());
+    }
+}
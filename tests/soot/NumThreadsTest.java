@@ -0,0 +1,131 @@
+package soot;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import junit.framework.TestCase;
+import soot.jimple.spark.Boxes;
+import soot.jimple.spark.SparkTestUtility;
+import soot.options.Options;
+
+/**
+ * JUnit test suite for the num-threads option: Soot must write the same
+ * files whether it builds and transforms the bodies on one thread or on
+ * several.
+ */
+public class NumThreadsTest extends TestCase {
+
+    public NumThreadsTest(String name) {
+	super(name);
+    }
+
+    /**
+     * Some classes with many methods, besides those of Boxes. Some other
+     * classes, such as Scene, are not named the same way on every run even
+     * on one thread, since jb picks their local names in hash order.
+     */
+    private static final String[] CLASSES = {
+	"soot.jimple.spark.pag.PAG", "soot.jimple.spark.solver.PropWorklist",
+	"soot.util.ChunkedBitVector", "soot.util.HashMultiMap",
+    };
+
+    private List<File> dirs = new ArrayList<File>();
+
+    protected void tearDown() {
+	for (File dir : dirs)
+	    delete(dir);
+    }
+
+    /**
+     * Resets Soot, runs it on Boxes and CLASSES with the given number of
+     * threads and the options in extra, and returns the files it wrote,
+     * by path relative to the output directory.
+     */
+    private Map<String, String> run(int threads, String... extra) throws IOException {
+	File dir = File.createTempFile("soot", "");
+	dir.delete();
+	dirs.add(dir);
+	G.reset();
+	List<String> args = new ArrayList<String>(Arrays.asList(
+	    "-allow-phantom-refs", "-cp", SparkTestUtility.classPath(),
+	    "-d", dir.getPath(), "-num-threads", String.valueOf(threads)));
+	args.addAll(Arrays.asList(extra));
+	args.add(Boxes.class.getName());
+	for (Class<?> c : Boxes.class.getDeclaredClasses())
+	    args.add(c.getName());
+	args.addAll(Arrays.asList(CLASSES));
+	if (!Options.v().parse(args.toArray(new String[args.size()])))
+	    throw new RuntimeException("Bad options " + args);
+	Main.v().autoSetOptions();
+	Scene.v().loadNecessaryClasses();
+	PackManager.v().runPacks();
+	PackManager.v().writeOutput();
+
+	Map<String, String> ret = new TreeMap<String, String>();
+	read(dir, "", ret);
+	return ret;
+    }
+
+    private static void read(File f, String path, Map<String, String> files) throws IOException {
+	if (f.isDirectory()) {
+	    for (String name : f.list())
+		read(new File(f, name), path + "/" + name, files);
+	    return;
+	}
+	StringBuilder text = new StringBuilder();
+	BufferedReader in = new BufferedReader(new FileReader(f));
+	try {
+	    // jb.tr names its temporaries after their hash codes
+	    for (String line = in.readLine(); line != null; line = in.readLine())
+		text.append(line.replaceAll("tmp\\$\\d+", "tmp\\$")).append('\n');
+	} finally {
+	    in.close();
+	}
+	files.put(path, text.toString());
+    }
+
+    private static void delete(File f) {
+	File[] children = f.listFiles();
+	if (children != null) {
+	    for (File child : children)
+		delete(child);
+	}
+	f.delete();
+    }
+
+    private void checkSameOutput(String... extra) throws IOException {
+	Map<String, String> sequential = run(1, extra);
+	assertTrue(sequential.size() > CLASSES.length);
+	for (int i = 0; i < 3; i++)
+	    assertEquals(sequential, run(4, extra));
+    }
+
+    public void testBodiesAreTheSame() throws IOException {
+	checkSameOutput("-f", "J");
+    }
+
+    public void testBodiesAreDumpedTheSame() throws IOException {
+	checkSameOutput("-f", "J", "-dump-body", "jb", "-dump-body", "jb.ls",
+	    "-dump-body", "jb.tr");
+    }
+
+    public void testPacksGiveTheSameBaf() throws IOException {
+	checkSameOutput("-f", "b", "-keep-line-number", "-dump-body", "bb",
+	    "-dump-body", "tag");
+    }
+
+    public void testOptimizationPacksGiveTheSameBaf() throws IOException {
+	checkSameOutput("-f", "b", "-O", "-keep-line-number");
+    }
+
+    public void testPacksGiveTheSameGrimp() throws IOException {
+	checkSameOutput("-f", "G", "-dump-body", "gb");
+    }
+}
@@ -0,0 +1,160 @@
+package soot.jimple.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import junit.framework.TestCase;
+import soot.G;
+import soot.Printer;
+import soot.Scene;
+import soot.SootClass;
+import soot.SootMethod;
+import soot.jimple.spark.SparkTestUtility;
+import soot.options.Options;
+
+/**
+ * JUnit test suite for BodyCache: builds the bodies of a class with the
+ * cache, then again from the cache, and checks that they are the same.
+ */
+public class BodyCacheTest extends TestCase {
+
+    public BodyCacheTest(String name) {
+	super(name);
+    }
+
+    private static final String CLASS = "soot.util.HashMultiMap";
+
+    private File dir;
+    /** A directory on the class path, which the test may change. */
+    private File extra;
+    /** The process directory, which holds the application. */
+    private File app;
+    /** What BodyCache reported after the last call to bodies(). */
+    private String report;
+
+    protected void setUp() throws Exception {
+	dir = File.createTempFile("bodies", "");
+	dir.delete();
+	extra = File.createTempFile("extra", "");
+	extra.delete();
+	extra.mkdir();
+	app = File.createTempFile("app", "");
+	app.delete();
+	app.mkdir();
+    }
+
+    protected void tearDown() {
+	delete(dir);
+	delete(extra);
+	delete(app);
+    }
+
+    private static void delete(File f) {
+	File[] children = f.listFiles();
+	if (children != null) {
+	    for (File child : children)
+		delete(child);
+	}
+	f.delete();
+    }
+
+    private Map<String, String> bodies(boolean application) {
+	return bodies(application, true);
+    }
+
+    /**
+     * Resets Soot, loads CLASS as an application or library class with the
+     * cache on, and returns its bodies as text, by method signature.
+     */
+    private Map<String, String> bodies(boolean application, boolean phantomRefs) {
+	G.reset();
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	G.v().out = new PrintStream(bytes, true);
+	Options.v().set_allow_phantom_refs(phantomRefs);
+	Options.v().set_soot_classpath(SparkTestUtility.classPath()
+	    + File.pathSeparator + extra.getPath());
+	Options.v().set_process_dir(Collections.singletonList(app.getPath()));
+	Options.v().set_body_cache(dir.getPath());
+	Scene.v().loadBasicClasses();
+	SootClass c = Scene.v().loadClassAndSupport(CLASS);
+	if (application)
+	    c.setApplicationClass();
+	else
+	    c.setLibraryClass();
+
+	Map<String, String> ret = new TreeMap<String, String>();
+	for (SootMethod m : c.getMethods()) {
+	    if (!m.isConcrete())
+		continue;
+	    StringWriter text = new StringWriter();
+	    PrintWriter out = new PrintWriter(text);
+	    Printer.v().printTo(m.retrieveActiveBody(), out);
+	    out.flush();
+	    ret.put(m.getSignature(), text.toString());
+	}
+	BodyCache.v().report();
+	report = bytes.toString();
+	return ret;
+    }
+
+    private static void write(File f, byte[] bytes) throws IOException {
+	FileOutputStream out = new FileOutputStream(f);
+	out.write(bytes);
+	out.close();
+    }
+
+    private void assertReported(String counts) {
+	assertTrue(report, report.contains("[BodyCache] " + counts));
+    }
+
+    public void testRoundTrip() {
+	Map<String, String> built = bodies(false);
+	int n = built.size();
+	assertTrue(n > 0);
+	assertReported("0 bodies loaded, " + n + " built and " + n + " stored");
+
+	assertEquals(built, bodies(false));
+	assertReported(n + " bodies loaded, 0 built and 0 stored");
+    }
+
+    public void testApplicationClassesAreNotCached() {
+	Map<String, String> built = bodies(true);
+	assertReported("0 bodies loaded, 0 built and 0 stored");
+	assertFalse(dir.exists());
+
+	bodies(false);
+	assertEquals(built, bodies(true));
+	assertReported("0 bodies loaded, 0 built and 0 stored");
+    }
+
+    public void testClassPathChangeMissesCache() throws IOException {
+	int n = bodies(false).size();
+	// A class that could be a supertype of one the bodies refer to
+	write(new File(extra, "Extra.class"), new byte[] { 1, 2, 3 });
+	bodies(false);
+	assertReported("0 bodies loaded, " + n + " built and " + n + " stored");
+    }
+
+    public void testApplicationChangeHitsCache() throws IOException {
+	File appClass = new File(app, "App.class");
+	write(appClass, new byte[] { 1, 2, 3 });
+	int n = bodies(false).size();
+	write(appClass, new byte[] { 1, 2, 3, 4 });
+	bodies(false);
+	assertReported(n + " bodies loaded, 0 built and 0 stored");
+    }
+
+    public void testPhantomRefsOptionMissesCache() {
+	int n = bodies(false, true).size();
+	bodies(false, false);
+	assertReported("0 bodies loaded, " + n + " built and " + n + " stored");
+    }
+}
@@ -0,0 +1,84 @@
+package soot.jimple.spark;
+
+/**
+ * A small program for the Spark tests. It uses no library class but
+ * Object, so that a whole-program analysis of it is quick, and it puts
+ * objects through containers, factories, virtual calls and recursion, so
+ * that object-sensitive contexts make a difference.
+ */
+public class Boxes {
+    static class Box {
+	Object f;
+	Box next;
+	void set(Object o) { f = o; }
+	Object get() { return f; }
+    }
+
+    static class A { Object id(Object o) { return o; } }
+    static class B extends A { Object id(Object o) { return new Item(); } }
+    static class C extends A { Object id(Object o) { A a = new A(); return a.id(o); } }
+
+    static class Item { }
+    static class Other { }
+
+    static class Cell {
+	Object data;
+	Cell next;
+	Cell(Object d, Cell n) { data = d; next = n; }
+    }
+
+    static class List {
+	Cell head;
+	void add(Object o) { head = new Cell(o, head); }
+	Object first() { return head == null ? null : head.data; }
+	Iter iter() { return new Iter(head); }
+    }
+
+    static class Iter {
+	Cell cell;
+	Iter(Cell c) { cell = c; }
+	Object next() { Object ret = cell.data; cell = cell.next; return ret; }
+    }
+
+    static class Factory {
+	Object make() { return new Box(); }
+	Object wrap(Object o) { Box b = (Box) make(); b.set(o); return b; }
+    }
+
+    static Object sink;
+
+    static Box mk() { return new Box(); }
+
+    static Object pass(Object o, int n) { return n == 0 ? o : pass2(o, n - 1); }
+    static Object pass2(Object o, int n) { return pass(o, n); }
+
+    public static void main(String[] args) {
+	Box b1 = mk();
+	Box b2 = mk();
+	b1.set(new Item());
+	b2.set(new Other());
+	Object x = b1.get();
+	Object y = b2.get();
+
+	A a = args.length > 0 ? new A() : (args.length > 1 ? new B() : new C());
+	Object z = a.id(x);
+
+	List l1 = new List();
+	l1.add(z);
+	List l2 = new List();
+	l2.add(y);
+	Object w = l1.first();
+	Object v = l2.iter().next();
+
+	Factory f1 = new Factory();
+	Factory f2 = new Factory();
+	Box w1 = (Box) f1.wrap(w);
+	Box w2 = (Box) f2.wrap(v);
+	Object q1 = w1.get();
+	Object q2 = w2.get();
+
+	Object[] arr = new Object[] { pass(q1, 3), pass(q2, 2) };
+	sink = arr[0];
+	sink = arr[1];
+    }
+}
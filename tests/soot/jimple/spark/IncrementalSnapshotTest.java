@@ -0,0 +1,63 @@
+package soot.jimple.spark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+
+import junit.framework.TestCase;
+
+/**
+ * JUnit test suite for seeding Spark from an incremental snapshot.
+ */
+public class IncrementalSnapshotTest extends TestCase {
+
+    public IncrementalSnapshotTest(String name) {
+	super(name);
+    }
+
+    private File snapshot;
+
+    protected void setUp() throws Exception {
+	snapshot = File.createTempFile("spark", ".snapshot");
+    }
+
+    protected void tearDown() {
+	snapshot.delete();
+    }
+
+    /** Runs Spark like SparkTestUtility.run(), and returns what it printed. */
+    private static String run(String sparkOptions) {
+	PrintStream oldOut = System.out;
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	System.setOut(new PrintStream(bytes, true));
+	try {
+	    SparkTestUtility.run(sparkOptions);
+	} finally {
+	    System.setOut(oldOut);
+	}
+	return bytes.toString();
+    }
+
+    private void checkSeeding(String sparkOptions) {
+	run(sparkOptions + ",snapshot-out:" + snapshot.getPath());
+	Object solved = SparkTestUtility.pointsToTypes();
+
+	String out = run(sparkOptions + ",incremental-snapshot:" + snapshot.getPath());
+	assertTrue(out, out.contains("Seeded from snapshot"));
+	assertEquals(solved, SparkTestUtility.pointsToTypes());
+    }
+
+    public void testSeedingInsensitive() {
+	checkSeeding("on-fly-cg:true");
+    }
+
+    public void testSeedingObjectSensitiveWithoutBudget() {
+	checkSeeding("kobjsens:2");
+    }
+
+    public void testBudgetRefusesSnapshot() {
+	run("kobjsens:2,kobjsens-budget-nodes:1000,snapshot-out:" + snapshot.getPath());
+	String out = run("kobjsens:2,kobjsens-budget-nodes:1000,incremental-snapshot:" + snapshot.getPath());
+	assertTrue(out, out.contains("context budget"));
+    }
+}
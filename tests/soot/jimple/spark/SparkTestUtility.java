@@ -0,0 +1,108 @@
+package soot.jimple.spark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import soot.G;
+import soot.Local;
+import soot.Main;
+import soot.PackManager;
+import soot.PointsToAnalysis;
+import soot.RefLikeType;
+import soot.Scene;
+import soot.SootClass;
+import soot.SootMethod;
+import soot.Type;
+import soot.jimple.toolkits.callgraph.Edge;
+import soot.options.Options;
+
+/**
+ * Runs Soot with Spark on the Boxes program, for the Spark tests.
+ */
+public class SparkTestUtility {
+
+    /** The class path of the test run: the tests and the Java library. */
+    public static String classPath() {
+	return System.getProperty("java.class.path") + File.pathSeparator
+	    + System.getProperty("sun.boot.class.path");
+    }
+
+    /**
+     * Resets Soot and runs the packs on Boxes, with Spark given the options
+     * in sparkOptions (may be empty), and Soot given the options in extra.
+     * Nothing is written out, so the bodies and the results of the analysis
+     * are kept for the test to look at.
+     */
+    public static void run(String sparkOptions, String... extra) {
+	G.reset();
+	List<String> args = new ArrayList<String>(Arrays.asList(
+	    "-w", "-f", "n", "-allow-phantom-refs", "-cp", classPath(),
+	    "-main-class", Boxes.class.getName(),
+	    "-p", "cg", "implicit-entry:false",
+	    "-p", "cg.spark", "on" + (sparkOptions.length() > 0 ? "," + sparkOptions : "")));
+	args.addAll(Arrays.asList(extra));
+	args.add(Boxes.class.getName());
+	if (!Options.v().parse(args.toArray(new String[args.size()])))
+	    throw new RuntimeException("Bad options " + args);
+	Main.v().autoSetOptions();
+	Scene.v().loadNecessaryClasses();
+	PackManager.v().runPacks();
+    }
+
+    /**
+     * Returns, for each reference local of the Boxes classes, named as
+     * "&lt;method&gt; local", the types of the objects it may point to.
+     */
+    public static TreeMap<String, Set<String>> pointsToTypes() {
+	PointsToAnalysis pta = Scene.v().getPointsToAnalysis();
+	TreeMap<String, Set<String>> ret = new TreeMap<String, Set<String>>();
+	for (SootClass c : boxesClasses()) {
+	    for (SootMethod m : c.getMethods()) {
+		if (!m.isConcrete())
+		    continue;
+		for (Local l : m.retrieveActiveBody().getLocals()) {
+		    if (!(l.getType() instanceof RefLikeType))
+			continue;
+		    Set<String> types = new TreeSet<String>();
+		    for (Type t : pta.reachingObjects(l).possibleTypes())
+			types.add(t.toString());
+		    ret.put(m.getSignature() + " " + l.getName(), types);
+		}
+	    }
+	}
+	return ret;
+    }
+
+    /** Returns Boxes and its nested classes. */
+    public static List<SootClass> boxesClasses() {
+	List<SootClass> ret = new ArrayList<SootClass>();
+	for (SootClass c : Scene.v().getClasses()) {
+	    if (c.getName().startsWith(Boxes.class.getName()) && !c.isPhantom())
+		ret.add(c);
+	}
+	return ret;
+    }
+
+    /**
+     * Returns the edges of the call graph out of the Boxes classes, as
+     * sorted text, with the number of times each occurs.
+     */
+    public static TreeMap<String, Integer> callEdges() {
+	TreeMap<String, Integer> ret = new TreeMap<String, Integer>();
+	for (Iterator<Edge> eIt = Scene.v().getCallGraph().listener(); eIt.hasNext(); ) {
+	    Edge e = eIt.next();
+	    if (!e.src().getDeclaringClass().getName().startsWith(Boxes.class.getName()))
+		continue;
+	    String s = e.src().getSignature() + " -> " + e.tgt().getSignature() + " " + e.kind();
+	    Integer n = ret.get(s);
+	    ret.put(s, n == null ? 1 : n + 1);
+	}
+	return ret;
+    }
+}
@@ -0,0 +1,128 @@
+package soot.jimple.spark.geom.geomPA;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+
+import junit.framework.TestCase;
+import soot.Local;
+import soot.PointsToSet;
+import soot.RefLikeType;
+import soot.Scene;
+import soot.SootClass;
+import soot.SootMethod;
+import soot.Unit;
+import soot.jimple.spark.Boxes;
+import soot.jimple.spark.SparkTestUtility;
+import soot.jimple.spark.pag.AllocNode;
+import soot.jimple.spark.pag.Node;
+import soot.jimple.spark.sets.P2SetVisitor;
+import soot.jimple.spark.sets.PointsToSetInternal;
+import soot.jimple.toolkits.callgraph.Edge;
+
+/**
+ * JUnit test suite for ParallelSolver: runs the geometric points-to
+ * analysis on the Boxes program with the sequential solver, and with the
+ * parallel solver on two and on four threads, and checks that all three
+ * find the same objects for each local, both in all contexts and in the
+ * context of each call site.
+ */
+public class ParallelSolverTest extends TestCase {
+
+    public ParallelSolverTest(String name) {
+	super(name);
+    }
+
+    /** Returns the objects in set, named by their site. */
+    private static List<String> objects(PointsToSet set) {
+	final List<String> ret = new ArrayList<String>();
+	((PointsToSetInternal) set).forall(new P2SetVisitor() {
+	    public void visit(Node n) {
+		AllocNode a = (AllocNode) n;
+		ret.add(a.getNewExpr() + " in " + a.getMethod());
+	    }
+	});
+	Collections.sort(ret);
+	return ret;
+    }
+
+    private static List<Local> refLocals(SootMethod m) {
+	List<Local> ret = new ArrayList<Local>();
+	for (Local l : m.retrieveActiveBody().getLocals()) {
+	    if (l.getType() instanceof RefLikeType)
+		ret.add(l);
+	}
+	return ret;
+    }
+
+    /**
+     * Runs the analysis with the given options, and returns the objects
+     * each local of Boxes points to, and those it points to in the context
+     * of each call site from Boxes.
+     */
+    private static TreeMap<String, List<String>> solve(String geomOptions, boolean parallel) {
+	SparkTestUtility.run("geom-pta:true," + geomOptions);
+	GeomPointsTo pta = (GeomPointsTo) Scene.v().getPointsToAnalysis();
+	assertTrue(pta.hasGeomExecuted());
+	assertEquals(parallel, pta.parallelSolver != null);
+	if (parallel)
+	    assertTrue(pta.parallelSolver.n_parallel > 0);
+
+	TreeMap<String, List<String>> ret = new TreeMap<String, List<String>>();
+	for (SootClass c : SparkTestUtility.boxesClasses()) {
+	    for (SootMethod m : c.getMethods()) {
+		if (!m.isConcrete())
+		    continue;
+		for (Local l : refLocals(m)) {
+		    // Locals of methods that are not reachable have no node
+		    if (pta.findLocalVarNode(l) != null)
+			ret.put(m.getSignature() + " " + l, objects(pta.reachingObjects(l)));
+		}
+	    }
+	}
+	for (Iterator<Edge> it = Scene.v().getCallGraph().listener(); it.hasNext();) {
+	    Edge e = it.next();
+	    SootMethod src = e.src();
+	    if (!src.getDeclaringClass().getName().startsWith(Boxes.class.getName()) || !e.tgt().isConcrete())
+		continue;
+	    // Call sites are named by their position in the caller
+	    int site = 0;
+	    for (Unit u : src.retrieveActiveBody().getUnits()) {
+		if (u == e.srcUnit())
+		    break;
+		site++;
+	    }
+	    for (Local l : refLocals(e.tgt())) {
+		ret.put(src.getSignature() + " @" + site + " " + e.tgt().getSignature() + " " + l,
+		    objects(pta.reachingObjects(e.srcUnit(), l)));
+	    }
+	}
+	return ret;
+    }
+
+    private void check(String encoding) {
+	TreeMap<String, List<String>> sequential = solve(encoding + ",geom-threads:1", false);
+	int nonEmpty = 0;
+	for (List<String> objects : sequential.values()) {
+	    if (!objects.isEmpty())
+		nonEmpty++;
+	}
+	assertTrue(nonEmpty > 0);
+	assertEquals(sequential, solve(encoding + ",geom-threads:2", true));
+	assertEquals(sequential, solve(encoding + ",geom-threads:4", true));
+    }
+
+    public void testGeom() {
+	check("geom-encoding:Geom");
+    }
+
+    public void testHeapIns() {
+	check("geom-encoding:HeapIns");
+    }
+
+    public void testPtIns() {
+	check("geom-encoding:PtIns");
+    }
+}
@@ -0,0 +1,106 @@
+package soot.jimple.spark.ondemand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import soot.Local;
+import soot.PointsToSet;
+import soot.RefLikeType;
+import soot.Scene;
+import soot.jimple.spark.SparkTestUtility;
+
+/**
+ * JUnit test suite for DemandQueryService, running Spark with cs-demand on
+ * the Boxes program.
+ */
+public class DemandQueryServiceTest extends TestCase {
+
+    public DemandQueryServiceTest(String name) {
+	super(name);
+    }
+
+    private static List<Local> mainLocals() {
+	List<Local> ret = new ArrayList<Local>();
+	for (Local l : Scene.v().getMainMethod().retrieveActiveBody().getLocals()) {
+	    if (l.getType() instanceof RefLikeType)
+		ret.add(l);
+	}
+	return ret;
+    }
+
+    public void testMemoizesRefinedSets() {
+	SparkTestUtility.run("cs-demand:true,lazy-pts:false,demand-memo:4");
+	assertTrue(Scene.v().getPointsToAnalysis() instanceof DemandQueryService);
+	DemandQueryService service = (DemandQueryService) Scene.v().getPointsToAnalysis();
+	List<Local> locals = mainLocals();
+	assertTrue(locals.size() > 4);
+	int refined = 0;
+
+	for (Local l : locals) {
+	    DemandQueryService.QueryResult r = service.query(l);
+	    assertFalse(r.cached);
+	    PointsToSet fresh = service.getAnalysis().doReachingObjects(l);
+	    if (r.exhausted) {
+		assertNull(r.refined);
+		assertTrue(fresh instanceof WrappedPointsToSet);
+	    } else {
+		assertSame(r.refined, r.pointsTo);
+		assertEquals(l.toString(), fresh.possibleTypes(), r.refined.possibleTypes());
+		refined++;
+	    }
+	    assertTrue(service.size() <= 4);
+	}
+	assertTrue(refined > 0);
+	Local last = locals.get(locals.size() - 1);
+	DemandQueryService.QueryResult again = service.query(last);
+	assertTrue(again.cached);
+	assertEquals(0, again.passes);
+
+	DemandQueryService.Stats stats = service.getStats();
+	assertEquals(locals.size() + 1, stats.queries);
+	assertEquals(1, stats.hits);
+	assertEquals(locals.size() - 4, stats.evictions);
+    }
+
+    public void testBatchTraversesLessThanSingleQueries() {
+	SparkTestUtility.run("cs-demand:true,lazy-pts:false,demand-memo:100");
+	DemandQueryService service = (DemandQueryService) Scene.v().getPointsToAnalysis();
+	List<Local> locals = mainLocals();
+	List<DemandQueryService.QueryResult> single = new ArrayList<DemandQueryService.QueryResult>();
+	for (Local l : locals)
+	    single.add(service.query(l));
+	long singleNodes = service.getStats().totalNodesTraversed;
+	service.clear();
+
+	List<DemandQueryService.QueryResult> batch = service.queryAll(locals);
+	long batchNodes = service.getStats().totalNodesTraversed;
+	assertTrue(batchNodes < singleNodes);
+	for (int i = 0; i < locals.size(); i++) {
+	    assertFalse(batch.get(i).cached);
+	    assertEquals(locals.get(i).toString(), single.get(i).pointsTo.possibleTypes(),
+		batch.get(i).pointsTo.possibleTypes());
+	}
+	// The caches of the batch are gone
+	assertFalse(service.getAnalysis().usesCache());
+	service.clear();
+	assertEquals(single.get(0).nodesTraversed, service.query(locals.get(0)).nodesTraversed);
+    }
+
+    public void testLazySetsRefineThroughTheMemo() {
+	SparkTestUtility.run("cs-demand:true,demand-memo:100");
+	DemandQueryService service = (DemandQueryService) Scene.v().getPointsToAnalysis();
+	List<Local> locals = mainLocals();
+	PointsToSet first = service.reachingObjects(locals.get(0));
+	assertTrue(first instanceof LazyContextSensitivePointsToSet);
+	assertEquals(0, service.getStats().queries);
+	int aliases = 0;
+	for (Local l : locals) {
+	    if (first.hasNonEmptyIntersection(service.reachingObjects(l)))
+		aliases++;
+	}
+	assertTrue(aliases > 0);
+	assertTrue(service.getStats().queries > 0);
+	assertTrue(service.getStats().hits > 0);
+    }
+}
@@ -0,0 +1,54 @@
+package soot.jimple.spark.pag;
+
+import java.util.Map;
+import java.util.Set;
+
+import junit.framework.TestCase;
+import soot.MethodContext;
+import soot.Scene;
+import soot.jimple.spark.SparkTestUtility;
+
+/**
+ * JUnit test suite for ContextBudget, running object-sensitive Spark on
+ * the Boxes program.
+ */
+public class ContextBudgetTest extends TestCase {
+
+    public ContextBudgetTest(String name) {
+	super(name);
+    }
+
+    private static PAG pag() {
+	return (PAG) Scene.v().getPointsToAnalysis();
+    }
+
+    public void testNodeBudgetDegradesContexts() {
+	SparkTestUtility.run("kobjsens:2");
+	Map<String, Set<String>> precise = SparkTestUtility.pointsToTypes();
+
+	SparkTestUtility.run("kobjsens:2,kobjsens-budget-nodes:1");
+	ContextBudget budget = ObjectSensitiveConfig.v().budget();
+	assertNotNull(budget);
+	assertTrue(budget.steps() > 0);
+	// Degrading contexts may lose precision, but never a points-to target
+	Map<String, Set<String>> degraded = SparkTestUtility.pointsToTypes();
+	assertEquals(precise.keySet(), degraded.keySet());
+	for (Map.Entry<String, Set<String>> e : precise.entrySet())
+	    assertTrue(e.getKey(), degraded.get(e.getKey()).containsAll(e.getValue()));
+    }
+
+    public void testMethodContextsCountOnlyReachableContexts() {
+	SparkTestUtility.run("kobjsens:2");
+	int reachable = pag().numMethodContexts();
+	assertTrue(reachable > 0);
+	// The builder looks up contexts of methods that never become reachable
+	assertTrue(MethodContext.universeSize() > reachable);
+
+	SparkTestUtility.run("kobjsens:2,kobjsens-budget-method-contexts:" + reachable);
+	assertEquals(0, ObjectSensitiveConfig.v().budget().steps());
+	assertEquals(reachable, pag().numMethodContexts());
+
+	SparkTestUtility.run("kobjsens:2,kobjsens-budget-method-contexts:" + (reachable - 1));
+	assertTrue(ObjectSensitiveConfig.v().budget().steps() > 0);
+    }
+}
@@ -0,0 +1,133 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.pag;
+import java.util.*;
+
+import soot.G;
+import soot.Local;
+import soot.PointsToAnalysis;
+import soot.RefLikeType;
+import soot.Scene;
+import soot.SootField;
+
+/** Measures the throughput of points-to queries on a PAG and on its
+ * frozen copy. The first argument is the number of queries, the second a
+ * comma-separated list of thread counts, the others are the Soot command
+ * line, which must enable Spark. Each query asks whether two random
+ * locals may alias, and what a field of one of them points to. The PAG
+ * is queried from one thread, the frozen copy from each number of
+ * threads in turn, and the queries per second of each are printed. The
+ * number of queries with a non-empty answer, which must be the same for
+ * the PAG and one thread, is printed too. For example:
+ * <pre>
+ * java soot.jimple.spark.pag.FrozenPAGBenchmark 1000000 1,2,4,8 \
+ *     -w -f n -p cg.spark on -cp ... Main
+ * </pre>
+ * @author agent
+ */
+public class FrozenPAGBenchmark {
+    public static void main( String[] args ) {
+        if( args.length < 3 ) {
+            G.v().out.println( "Usage: java soot.jimple.spark.pag.FrozenPAGBenchmark "
+                    +"queries threads1,threads2,... <soot arguments>" );
+            return;
+        }
+        final int queries = Integer.parseInt( args[0] );
+        soot.Main.main( Arrays.asList( args ).subList( 2, args.length ).toArray( new String[0] ) );
+        PointsToAnalysis pa = Scene.v().getPointsToAnalysis();
+        if( !(pa instanceof PAG) ) {
+            G.v().out.println( "Spark was not run" );
+            return;
+        }
+        PAG pag = (PAG) pa;
+
+        List<Local> localList = new ArrayList<Local>();
+        for( Local l : pag.getLocalPointers() ) {
+            if( l.getType() instanceof RefLikeType ) localList.add( l );
+        }
+        Set<SootField> fieldSet = new HashSet<SootField>();
+        for( Iterator anIt = pag.getAllocNodeNumberer().iterator(); anIt.hasNext(); ) {
+            for( AllocDotField adf : ((AllocNode) anIt.next()).getFields() ) {
+                if( adf.getField() instanceof SootField ) fieldSet.add( (SootField) adf.getField() );
+            }
+        }
+        if( localList.isEmpty() || fieldSet.isEmpty() ) {
+            G.v().out.println( "No locals or fields to query" );
+            return;
+        }
+        final Local[] locals = localList.toArray( new Local[localList.size()] );
+        final SootField[] fields = fieldSet.toArray( new SootField[fieldSet.size()] );
+
+        G.v().out.println( "analysis,threads,queries,ms,queries_per_sec,hits" );
+        long start = System.currentTimeMillis();
+        long hits = run( pag, locals, fields, queries, 0 );
+        report( "pag", 1, queries, System.currentTimeMillis()-start, hits );
+
+        start = System.currentTimeMillis();
+        final FrozenPAG frozen = pag.freeze();
+        G.v().out.println( "[Spark] Frozen in "+(System.currentTimeMillis()-start)+" ms" );
+        for( String t : args[1].split( "," ) ) {
+            final int threads = Integer.parseInt( t );
+            final long[] found = new long[threads];
+            Thread[] workers = new Thread[threads];
+            for( int i = 0; i < threads; i++ ) {
+                final int id = i;
+                workers[i] = new Thread( "frozen-pag-query-"+i ) {
+                    public void run() {
+                        found[id] = FrozenPAGBenchmark.run( frozen, locals, fields, queries/threads, id );
+                    }
+                };
+            }
+            start = System.currentTimeMillis();
+            for( Thread w : workers ) w.start();
+            for( Thread w : workers ) {
+                try {
+                    w.join();
+                } catch( InterruptedException e ) {
+                    throw new RuntimeException( e );
+                }
+            }
+            long sum = 0;
+            for( long f : found ) sum += f;
+            report( "frozen", threads, queries/threads*threads, System.currentTimeMillis()-start, sum );
+        }
+    }
+
+    /** Runs queries random queries, seeded by seed, and returns the number
+     * of them that found aliasing locals or a non-empty field. */
+    private static long run( PointsToAnalysis pa, Local[] locals, SootField[] fields,
+            int queries, int seed ) {
+        Random r = new Random( seed );
+        long ret = 0;
+        for( int i = 0; i < queries; i++ ) {
+            Local l1 = locals[r.nextInt( locals.length )];
+            Local l2 = locals[r.nextInt( locals.length )];
+            SootField f = fields[r.nextInt( fields.length )];
+            if( pa.reachingObjects( l1 ).hasNonEmptyIntersection( pa.reachingObjects( l2 ) ) ) ret++;
+            if( !f.isStatic() && !pa.reachingObjects( l1, f ).isEmpty() ) ret++;
+        }
+        return ret;
+    }
+
+    private static void report( String analysis, int threads, int queries, long ms, long hits ) {
+        G.v().out.println( analysis+","+threads+","+queries+","+ms+","
+                +( ms == 0 ? "" : String.valueOf( queries*1000L/ms ) )+","+hits );
+    }
+}
@@ -0,0 +1,294 @@
+package soot.jimple.spark.pag;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import junit.framework.TestCase;
+import soot.Scene;
+import soot.jimple.spark.SparkTestUtility;
+import soot.jimple.spark.sets.P2SetVisitor;
+import soot.jimple.spark.sets.PointsToSetInternal;
+import soot.util.ArrayNumberer;
+import soot.util.ChannelDataInput;
+
+/**
+ * JUnit test suite for PAGExporter: exports the PAG of object-sensitive
+ * Spark on the Boxes program, reads the file back, and checks it against
+ * the PAG.
+ */
+public class PAGExporterTest extends TestCase {
+
+    public PAGExporterTest(String name) {
+	super(name);
+    }
+
+    private File file;
+    private PAG pag;
+    private ChannelDataInput in;
+
+    private String[] types, methods, fields;
+    /** The indices of the tables above that the file refers to. */
+    private Set<Integer> usedTypes, usedMethods, usedFields;
+    /** The contexts of the nodes. */
+    private Set<Integer> nodeContexts;
+    /** The heap contexts of the table, to their parent and last element. */
+    private Map<Integer, Integer> contextParents;
+    private Map<Integer, String> contextElements;
+    private Set<Integer> otherContexts;
+    private int[] varReps;
+    /** The points-to sets, by variable node number. */
+    private Map<Integer, Set<Integer>> pointsTo;
+    private int simpleEdges;
+
+    protected void setUp() throws Exception {
+	file = File.createTempFile("pag", ".bin");
+	SparkTestUtility.run("kobjsens:2");
+	pag = (PAG) Scene.v().getPointsToAnalysis();
+	new PAGExporter(pag).export(file.getPath(), true, true);
+	read();
+    }
+
+    protected void tearDown() {
+	file.delete();
+    }
+
+    public void testSymbolsAreReferenced() {
+	assertTrue(types.length < Scene.v().getTypeNumberer().size());
+	assertTrue(methods.length < Scene.v().getMethodNumberer().size());
+	assertEquals(all(types.length), usedTypes);
+	assertEquals(all(methods.length), usedMethods);
+	assertEquals(all(fields.length), usedFields);
+	// Boxes stores into an array
+	assertTrue(indexOf(fields, PAGSnapshot.ARRAY_ELEMENT_KEY) > 0);
+
+	Set<String> nodeTypes = new TreeSet<String>();
+	ArrayNumberer vars = pag.getVarNodeNumberer();
+	for (int i = 1; i <= vars.size(); i++)
+	    nodeTypes.add(String.valueOf(((VarNode) vars.get(i)).getType()));
+	for (String t : nodeTypes)
+	    assertTrue(t, indexOf(types, t) > 0);
+    }
+
+    public void testContextsAreDefined() {
+	assertFalse(contextParents.isEmpty());
+	ContextUniverse universe = ContextUniverse.v();
+	for (int c : nodeContexts) {
+	    if (c < 0) {
+		assertTrue(otherContexts.contains(-c));
+		continue;
+	    }
+	    // Walk the context back to the empty one through the table
+	    for (int len = universe.length(c); c != ContextUniverse.EMPTY; len--) {
+		assertTrue(contextParents.containsKey(c));
+		assertEquals(String.valueOf(universe.elementAt(c, len - 1)), contextElements.get(c));
+		assertEquals(universe.prefix(c, len - 1), contextParents.get(c).intValue());
+		c = contextParents.get(c);
+	    }
+	}
+    }
+
+    public void testPointsToSetsRoundTrip() {
+	ArrayNumberer vars = pag.getVarNodeNumberer();
+	int checked = 0;
+	int edges = 0;
+	for (int i = 1; i <= vars.size(); i++) {
+	    VarNode vn = (VarNode) vars.get(i);
+	    assertEquals(vn.getReplacement().getNumber(), varReps[i]);
+	    if (vn.getReplacement() != vn)
+		continue;
+	    edges += pag.simpleLookup(vn).length;
+	    final Set<Integer> expected = new HashSet<Integer>();
+	    PointsToSetInternal set = vn.getP2Set();
+	    if (set != null)
+		set.forall(new P2SetVisitor() {
+		    public void visit(soot.jimple.spark.pag.Node n) {
+			expected.add(n.getNumber());
+		    }
+		});
+	    Set<Integer> actual = pointsTo.get(i);
+	    assertEquals(vn.toString(), expected, actual == null ? new HashSet<Integer>() : actual);
+	    if (!expected.isEmpty())
+		checked++;
+	}
+	assertTrue(checked > 0);
+	assertEquals(edges, simpleEdges);
+    }
+
+    private static Set<Integer> all(int n) {
+	Set<Integer> ret = new HashSet<Integer>();
+	for (int i = 1; i < n; i++)
+	    ret.add(i);
+	return ret;
+    }
+
+    private static int indexOf(String[] table, String s) {
+	for (int i = 1; i < table.length; i++) {
+	    if (table[i].equals(s))
+		return i;
+	}
+	return -1;
+    }
+
+    /* The reader of the format described in PAGExporter. */
+
+    private void read() throws IOException {
+	in = new ChannelDataInput(new FileInputStream(file).getChannel());
+	try {
+	    int magic = 0;
+	    for (int i = 0; i < 4; i++)
+		magic = magic << 8 | in.readByte();
+	    assertEquals(PAGExporter.MAGIC, magic);
+	    assertEquals(PAGExporter.VERSION, in.readVarInt());
+	    usedTypes = new HashSet<Integer>();
+	    usedMethods = new HashSet<Integer>();
+	    usedFields = new HashSet<Integer>();
+	    nodeContexts = new HashSet<Integer>();
+	    pointsTo = new HashMap<Integer, Set<Integer>>();
+	    for (int tag = in.readByte(); tag != PAGExporter.END; tag = in.readByte()) {
+		switch (tag) {
+		case PAGExporter.TYPES: types = readStrings(); break;
+		case PAGExporter.METHODS: methods = readStrings(); break;
+		case PAGExporter.FIELDS: fields = readStrings(); break;
+		case PAGExporter.ALLOC_NODES: readNodes(false); break;
+		case PAGExporter.VAR_NODES: readNodes(true); break;
+		case PAGExporter.CONTEXTS: readContexts(); break;
+		case PAGExporter.ALLOC_EDGES: readEdges(false); break;
+		case PAGExporter.SIMPLE_EDGES: simpleEdges = readEdges(false); break;
+		case PAGExporter.STORE_EDGES: readEdges(true); break;
+		case PAGExporter.LOAD_EDGES: readLoadEdges(); break;
+		case PAGExporter.POINTS_TO: readPointsTo(); break;
+		case PAGExporter.FIELD_POINTS_TO: readFieldPointsTo(); break;
+		default: fail("unknown section " + tag);
+		}
+	    }
+	    assertEquals(-1, in.read());
+	} finally {
+	    in.close();
+	}
+    }
+
+    /** Reads a table, indexed from 1. */
+    private String[] readStrings() throws IOException {
+	String[] ret = new String[in.readVarInt() + 1];
+	for (int i = 1; i < ret.length; i++)
+	    ret[i] = in.readString();
+	return ret;
+    }
+
+    private void use(Set<Integer> used, String[] table, int index) {
+	if (index == 0)
+	    return;
+	assertTrue(index < table.length);
+	used.add(index);
+    }
+
+    private void readNodes(boolean vars) throws IOException {
+	int n = in.readVarInt();
+	for (int i = 1; i <= n; i++)
+	    in.readVarInt();
+	for (int i = 1; i <= n; i++)
+	    use(usedTypes, types, in.readVarInt());
+	for (int i = 1; i <= n; i++)
+	    use(usedMethods, methods, in.readVarInt());
+	for (int i = 1; i <= n; i++) {
+	    int c = in.readVarInt();
+	    if (c != 0)
+		nodeContexts.add(c);
+	}
+	if (vars) {
+	    varReps = new int[n + 1];
+	    for (int i = 1; i <= n; i++)
+		varReps[i] = i + in.readSignedVarInt();
+	}
+	for (int i = 1; i <= n; i++)
+	    in.readString();
+    }
+
+    private void readContexts() throws IOException {
+	contextParents = new HashMap<Integer, Integer>();
+	contextElements = new HashMap<Integer, String>();
+	ArrayNumberer allocs = pag.getAllocNodeNumberer();
+	int n = in.readVarInt();
+	int id = 0;
+	for (int i = 0; i < n; i++) {
+	    id += in.readVarInt();
+	    int parent = in.readVarInt();
+	    assertTrue(parent == ContextUniverse.EMPTY || contextParents.containsKey(parent));
+	    contextParents.put(id, parent);
+	    int kind = in.readVarInt();
+	    if (kind == PAGExporter.ELEMENT_ALLOC) {
+		contextElements.put(id, String.valueOf(allocs.get(in.readVarInt())));
+	    } else if (kind == PAGExporter.ELEMENT_TYPE) {
+		int type = in.readVarInt();
+		use(usedTypes, types, type);
+		contextElements.put(id, "TypeContext: " + types[type]);
+	    } else {
+		assertEquals(PAGExporter.ELEMENT_OTHER, kind);
+		contextElements.put(id, in.readString());
+	    }
+	}
+	otherContexts = new HashSet<Integer>();
+	int m = in.readVarInt();
+	for (int i = 0; i < m; i++) {
+	    otherContexts.add(in.readVarInt());
+	    in.readString();
+	}
+    }
+
+    /** Reads rows of edges, and returns the number of edges. */
+    private int readEdges(boolean store) throws IOException {
+	int ret = 0;
+	for (int delta = in.readVarInt(); delta != 0; delta = in.readVarInt()) {
+	    int len = in.readVarInt();
+	    for (int j = 0; j < len; j++) {
+		in.readSignedVarInt();
+		if (store)
+		    use(usedFields, fields, in.readVarInt());
+	    }
+	    ret += len;
+	}
+	return ret;
+    }
+
+    private void readLoadEdges() throws IOException {
+	for (int delta = in.readVarInt(); delta != 0; delta = in.readVarInt()) {
+	    in.readVarInt();
+	    use(usedFields, fields, in.readVarInt());
+	    int len = in.readVarInt();
+	    for (int j = 0; j < len; j++)
+		in.readSignedVarInt();
+	}
+    }
+
+    private Set<Integer> readSet(int size) throws IOException {
+	Set<Integer> ret = new HashSet<Integer>();
+	int last = 0;
+	for (int j = 0; j < size; j++) {
+	    last += in.readSignedVarInt();
+	    ret.add(last);
+	}
+	return ret;
+    }
+
+    private void readPointsTo() throws IOException {
+	int var = 0;
+	for (int delta = in.readVarInt(); delta != 0; delta = in.readVarInt()) {
+	    var += delta;
+	    pointsTo.put(var, readSet(in.readVarInt()));
+	}
+    }
+
+    private void readFieldPointsTo() throws IOException {
+	for (int delta = in.readVarInt(); delta != 0; delta = in.readVarInt()) {
+	    in.readVarInt();
+	    use(usedFields, fields, in.readVarInt());
+	    readSet(in.readVarInt());
+	}
+    }
+}
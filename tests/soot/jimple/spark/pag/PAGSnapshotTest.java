@@ -0,0 +1,73 @@
+package soot.jimple.spark.pag;
+
+import java.io.File;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+import soot.jimple.spark.SparkTestUtility;
+
+/**
+ * JUnit test suite for PAGSnapshot: writes a snapshot of object-sensitive
+ * Spark on the Boxes program, and checks that mapping it in small
+ * segments reads the same as mapping it whole.
+ */
+public class PAGSnapshotTest extends TestCase {
+
+    public PAGSnapshotTest(String name) {
+	super(name);
+    }
+
+    private File file;
+
+    protected void setUp() throws Exception {
+	file = File.createTempFile("spark", ".snapshot");
+	SparkTestUtility.run("kobjsens:2,snapshot-out:" + file.getPath());
+    }
+
+    protected void tearDown() {
+	file.delete();
+    }
+
+    private void checkSegments(int segmentSize) {
+	PAGSnapshot whole = PAGSnapshot.load(file.getPath());
+	PAGSnapshot segmented = PAGSnapshot.load(file.getPath(), segmentSize);
+	assertTrue(file.length() > 10 * segmentSize);
+	assertEquals(whole.fingerprint(), segmented.fingerprint());
+	assertEquals(whole.numVarNodes(), segmented.numVarNodes());
+	assertEquals(whole.numAllocNodes(), segmented.numAllocNodes());
+
+	int fieldSets = 0;
+	for (int n = 1; n <= whole.numVarNodes(); n++) {
+	    assertEquals(whole.varName(n), segmented.varName(n));
+	    int[] expected = whole.pointsTo(n);
+	    assertTrue(Arrays.equals(expected, segmented.pointsTo(n)));
+	    // Boxes stores into arrays, so some of these are not empty
+	    int[] elements = elements(whole, expected);
+	    assertTrue(Arrays.equals(elements, elements(segmented, expected)));
+	    if (elements.length > 0)
+		fieldSets++;
+	}
+	assertTrue(fieldSets > 0);
+	for (int i = 0; i < whole.numEdges(); i++) {
+	    for (int field = 0; field < 7; field++)
+		assertEquals(whole.edgeInt(i, field), segmented.edgeInt(i, field));
+	}
+	assertTrue(Arrays.equals(whole.simpleEdges(), segmented.simpleEdges()));
+	assertTrue(Arrays.equals(whole.storeEdges(), segmented.storeEdges()));
+	assertTrue(Arrays.equals(whole.loadEdges(), segmented.loadEdges()));
+    }
+
+    /** Returns the objects that the array elements of the objects in set point to. */
+    private static int[] elements(PAGSnapshot snapshot, int[] set) {
+	return ((SnapshotPointsToSet) snapshot.reachingObjectsOfArrayElement(
+	    new SnapshotPointsToSet(snapshot, set))).elems;
+    }
+
+    public void testAlignedSegments() {
+	checkSegments(64);
+    }
+
+    public void testUnalignedSegments() {
+	checkSegments(61);
+    }
+}
@@ -0,0 +1,51 @@
+package soot.jimple.spark.pag;
+
+import soot.Local;
+import soot.RefLikeType;
+import soot.Scene;
+import soot.SootMethod;
+import soot.jimple.spark.SparkTestUtility;
+import soot.jimple.spark.sets.P2SetVisitor;
+import soot.jimple.spark.sets.PointsToSetInternal;
+import junit.framework.TestCase;
+
+/**
+ * JUnit test suite for the points-to sets PAG.projectContexts() hands out,
+ * running object-sensitive Spark on the Boxes program.
+ */
+public class ProjectContextsTest extends TestCase {
+
+    public ProjectContextsTest(String name) {
+	super(name);
+    }
+
+    public void testProjectedSetsAreReadOnly() {
+	SparkTestUtility.run("kobjsens:2");
+	PAG pag = (PAG) Scene.v().getPointsToAnalysis();
+	SootMethod main = Scene.v().getMainMethod();
+	int checked = 0;
+	for (Local l : main.retrieveActiveBody().getLocals()) {
+	    if (!(l.getType() instanceof RefLikeType))
+		continue;
+	    final PointsToSetInternal set = (PointsToSetInternal) pag.reachingObjects(l);
+	    if (set.isEmpty())
+		continue;
+	    final int[] size = new int[1];
+	    set.forall(new P2SetVisitor() {
+		public void visit(Node n) {
+		    size[0]++;
+		}
+	    });
+	    Node some = (Node) pag.getAllocNodeNumberer().get(1);
+	    try {
+		set.add(some);
+		fail("could add into the set of " + l);
+	    } catch (RuntimeException e) {
+		// expected
+	    }
+	    assertEquals(size[0], set.size());
+	    checked++;
+	}
+	assertTrue(checked > 0);
+    }
+}
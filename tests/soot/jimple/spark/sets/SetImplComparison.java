@@ -0,0 +1,92 @@
+/* Soot - a J*va Optimization Framework
+ * Copyright (C) 2026 agent
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the
+ * Free Software Foundation, Inc., 59 Temple Place - Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package soot.jimple.spark.sets;
+import java.util.*;
+
+import soot.G;
+import soot.PointsToAnalysis;
+import soot.Scene;
+import soot.jimple.spark.pag.PAG;
+import soot.jimple.spark.pag.VarNode;
+import soot.jimple.spark.solver.SolverListener;
+import soot.jimple.spark.solver.SolverSample;
+import soot.jimple.spark.solver.SolverTelemetry;
+
+/** Compares points-to set implementations on a real program. The first
+ * argument is a comma-separated list of set-impl values, the others are
+ * the Soot command line, which must enable Spark. Soot is run once per
+ * implementation, and the time to build and solve the PAG, the number
+ * of propagations, the total size of the points-to sets and the heap in
+ * use once the solution is found are printed for each. For example:
+ * <pre>
+ * java soot.jimple.spark.sets.SetImplComparison hybrid,heintze,chunked \
+ *     -w -f n -p cg.spark on -cp ... Main
+ * </pre>
+ * @author agent
+ */
+public class SetImplComparison {
+    public static void main( String[] args ) {
+        if( args.length < 2 ) {
+            G.v().out.println( "Usage: java soot.jimple.spark.sets.SetImplComparison "
+                    +"impl1,impl2,... <soot arguments>" );
+            return;
+        }
+        List<String> results = new ArrayList<String>();
+        for( String impl : args[0].split( "," ) ) {
+            results.add( run( impl, Arrays.asList( args ).subList( 1, args.length ) ) );
+        }
+        G.v().out.println( "set-impl,solve_ms,propagations,total_set_size,used_heap_mb" );
+        for( String r : results ) G.v().out.println( r );
+    }
+
+    private static String run( String impl, List<String> sootArgs ) {
+        G.reset();
+        final SolverSample[] last = new SolverSample[1];
+        SolverListener listener = new SolverListener() {
+            public void sampled( SolverSample s ) {}
+            public void finished( SolverSample s ) { last[0] = s; }
+        };
+        List<String> argList = new ArrayList<String>( sootArgs );
+        argList.add( "-p" );
+        argList.add( "cg.spark" );
+        argList.add( "set-impl:"+impl );
+        SolverTelemetry.addGlobalListener( listener );
+        try {
+            soot.Main.main( argList.toArray( new String[argList.size()] ) );
+        } finally {
+            SolverTelemetry.removeGlobalListener( listener );
+        }
+
+        long totalSize = 0;
+        PointsToAnalysis pa = Scene.v().getPointsToAnalysis();
+        if( pa instanceof PAG ) {
+            for( Iterator vIt = ((PAG) pa).getVarNodeNumberer().iterator(); vIt.hasNext(); ) {
+                VarNode vn = (VarNode) vIt.next();
+                if( vn.getReplacement() == vn && vn.getP2Set() != null ) totalSize += vn.getP2Set().size();
+            }
+        }
+        for( int i = 0; i < 5; i++ ) System.gc();
+        Runtime rt = Runtime.getRuntime();
+        long usedHeap = rt.totalMemory() - rt.freeMemory();
+        if( last[0] == null ) return impl+",,,"+totalSize+","+(usedHeap >> 20);
+        return impl+","+last[0].elapsedMillis()+","+last[0].propagations()
+            +","+totalSize+","+(usedHeap >> 20);
+    }
+}
@@ -0,0 +1,118 @@
+package soot.jimple.spark.sets;
+
+import java.util.Iterator;
+
+import junit.framework.TestCase;
+import soot.Scene;
+import soot.jimple.spark.SparkTestUtility;
+import soot.jimple.spark.pag.AllocNode;
+import soot.jimple.spark.pag.Node;
+import soot.jimple.spark.pag.PAG;
+import soot.jimple.spark.pag.VarNode;
+
+/**
+ * JUnit test suite for SetPool: runs Spark on the Boxes program with
+ * pooled double sets, and checks that the results are those of unpooled
+ * sets, that a set only enters the pool once it stops changing, and that
+ * its hash, kept up to date as elements come in, is the hash of its
+ * elements.
+ */
+public class SetPoolTest extends TestCase {
+
+    public SetPoolTest(String name) {
+	super(name);
+    }
+
+    private static final String DOUBLE =
+	"set-impl:double,double-set-old:hybrid,double-set-new:hybrid";
+
+    private PAG pag;
+    private SetPool pool;
+
+    protected void setUp() {
+	SparkTestUtility.run(DOUBLE + ",set-pool:true");
+	pag = (PAG) Scene.v().getPointsToAnalysis();
+	pool = pag.getSetPool();
+    }
+
+    /** Returns the hash and size of set, computed from its elements. */
+    private static int[] hashAndSize(PointsToSetInternal set) {
+	final int[] ret = new int[2];
+	set.forall(new P2SetVisitor() {
+	    public void visit(Node n) {
+		ret[0] += SetPool.hash(n);
+		ret[1]++;
+	    }
+	});
+	return ret;
+    }
+
+    private void checkPooled(DoublePointsToSet set) {
+	assertNotNull(set.oldShared);
+	assertSame(set.oldShared.set(), set.getOldSet());
+	int[] expected = hashAndSize(set.getOldSet());
+	assertEquals(expected[0], set.oldShared.hash);
+	assertEquals(expected[1], set.oldShared.size);
+    }
+
+    public void testSameResultsWithoutPool() {
+	String pooled = SparkTestUtility.pointsToTypes().toString();
+	SparkTestUtility.run(DOUBLE);
+	assertEquals(SparkTestUtility.pointsToTypes().toString(), pooled);
+    }
+
+    public void testSetsArePooledAfterPropagation() {
+	int pooled = 0;
+	for (Iterator<?> it = pag.getVarNodeNumberer().iterator(); it.hasNext();) {
+	    VarNode v = (VarNode) it.next();
+	    DoublePointsToSet set = (DoublePointsToSet) v.getP2Set();
+	    if (v.getReplacement() != v || set.getOldSet().isEmpty())
+		continue;
+	    checkPooled(set);
+	    pooled++;
+	}
+	assertTrue(pooled > 0);
+	assertTrue(pool.numReferences() > pool.numSets());
+	assertTrue(pool.savedBytes() > 0);
+    }
+
+    public void testChangingSetIsPooledWhenItStops() {
+	AllocNode a = (AllocNode) pag.getAllocNodeNumberer().get(1);
+	AllocNode b = (AllocNode) pag.getAllocNodeNumberer().get(2);
+	DoublePointsToSet first = new DoublePointsToSet(null, pag);
+	DoublePointsToSet second = new DoublePointsToSet(null, pag);
+	int sets = pool.numSets();
+
+	first.add(a);
+	first.flushNew();
+	first.add(b);
+	first.flushNew();
+	// Still changing, so not hashed or pooled
+	assertNull(first.oldShared);
+	assertEquals(sets, pool.numSets());
+	first.flushNew();
+	checkPooled(first);
+
+	second.add(b);
+	second.add(a);
+	second.flushNew();
+	pool.internChanged();
+	checkPooled(second);
+	// Both hold the same pooled set
+	assertSame(first.getOldSet(), second.getOldSet());
+
+	// The other holder keeps its elements when one of them changes
+	AllocNode c = (AllocNode) pag.getAllocNodeNumberer().get(3);
+	second.add(c);
+	second.flushNew();
+	assertNull(second.oldShared);
+	assertNotSame(first.getOldSet(), second.getOldSet());
+	assertFalse(first.contains(c));
+	assertTrue(second.contains(c));
+	second.flushNew();
+	checkPooled(second);
+
+	first.release();
+	second.release();
+    }
+}
@@ -0,0 +1,70 @@
+package soot.jimple.spark.solver;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+import soot.G;
+import soot.PhaseOptions;
+import soot.RefType;
+import soot.Scene;
+import soot.jimple.spark.SparkTestUtility;
+import soot.jimple.spark.pag.PAG;
+import soot.jimple.spark.pag.VarNode;
+import soot.options.Options;
+import soot.options.SparkOptions;
+
+/**
+ * JUnit test suite for OnlineCycleCollapser.
+ */
+public class OnlineCycleCollapserTest extends TestCase {
+
+    public OnlineCycleCollapserTest(String name) {
+	super(name);
+    }
+
+    public void testLongCycleIsCollapsed() {
+	G.reset();
+	Options.v().set_soot_classpath(SparkTestUtility.classPath());
+	Scene.v().loadClassAndSupport("java.lang.Object");
+	Map<String, String> options = new HashMap<String, String>(
+	    PhaseOptions.v().getPhaseOptions("cg.spark"));
+	options.put("ignore-types", "true");
+	PAG pag = new PAG(new SparkOptions(options));
+	RefType object = RefType.v("java.lang.Object");
+	int n = 100000;
+	VarNode[] nodes = new VarNode[n];
+	for (int i = 0; i < n; i++)
+	    nodes[i] = pag.makeGlobalVarNode("v" + i, object);
+	for (int i = 0; i < n; i++)
+	    pag.addSimpleEdge(nodes[i], nodes[(i + 1) % n]);
+
+	OnlineCycleCollapser cycles = new OnlineCycleCollapser(pag, true);
+	cycles.propagated(nodes[0], nodes[1], false);
+	// An edge starts a search only once
+	cycles.propagated(nodes[0], nodes[1], false);
+	assertEquals(n - 1, cycles.collapse(VarNodeWorklist.make(pag)));
+	for (VarNode v : nodes)
+	    assertSame(nodes[0], v.getReplacement());
+	assertEquals(n - 1, cycles.numCollapsed());
+    }
+
+    public void testSameSolutionAsWithout() {
+	SparkTestUtility.run("online-cycles:false");
+	Object without = SparkTestUtility.pointsToTypes();
+	SparkTestUtility.run("online-cycles:true");
+	assertEquals(without, SparkTestUtility.pointsToTypes());
+	SparkTestUtility.run("online-cycles:true,ignore-types-for-sccs:true");
+	assertEquals(without, SparkTestUtility.pointsToTypes());
+    }
+
+    public void testLongSet() {
+	OnlineCycleCollapser.LongSet set = new OnlineCycleCollapser.LongSet();
+	for (long i = 0; i < 1000; i++)
+	    assertTrue(set.add(i << 32 | (i * 7)));
+	for (long i = 0; i < 1000; i++)
+	    assertFalse(set.add(i << 32 | (i * 7)));
+	assertTrue(set.add(-1L));
+	assertEquals(1001, set.size());
+    }
+}
@@ -0,0 +1,136 @@
+package soot.jimple.spark.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import junit.framework.TestCase;
+import soot.Scene;
+import soot.jimple.spark.SparkTestUtility;
+import soot.jimple.spark.pag.AllocDotField;
+import soot.jimple.spark.pag.AllocNode;
+import soot.jimple.spark.pag.ArrayElement;
+import soot.jimple.spark.pag.LocalVarNode;
+import soot.jimple.spark.pag.Node;
+import soot.jimple.spark.pag.PAG;
+import soot.jimple.spark.pag.VarNode;
+import soot.jimple.spark.sets.P2SetVisitor;
+import soot.jimple.spark.sets.PointsToSetInternal;
+import soot.util.ArrayNumberer;
+
+/**
+ * JUnit test suite for PropParallelWorklist: runs Spark on the Boxes
+ * program with the worklist propagator, and with the parallel worklist
+ * propagator on four threads, and checks that both reach the same points-to
+ * sets for every variable and every field of every object.
+ */
+public class PropParallelWorklistTest extends TestCase {
+
+    public PropParallelWorklistTest(String name) {
+	super(name);
+    }
+
+    /**
+     * Returns a name for each node of numberer, that does not depend on the
+     * order in which the propagator made the nodes. Nodes of the same method
+     * with the same description are made in the same order by both, and
+     * are told apart by that order.
+     */
+    private static Map<Node, String> names(ArrayNumberer numberer) {
+	Map<String, List<Node>> byDescription = new HashMap<String, List<Node>>();
+	for (Iterator<?> it = numberer.iterator(); it.hasNext();) {
+	    Node n = (Node) it.next();
+	    String d = describe(n);
+	    List<Node> nodes = byDescription.get(d);
+	    if (nodes == null)
+		byDescription.put(d, nodes = new ArrayList<Node>());
+	    nodes.add(n);
+	}
+	Map<Node, String> ret = new HashMap<Node, String>();
+	for (Map.Entry<String, List<Node>> e : byDescription.entrySet()) {
+	    List<Node> nodes = e.getValue();
+	    for (int i = 0; i < nodes.size(); i++)
+		ret.put(nodes.get(i), nodes.size() == 1 ? e.getKey() : e.getKey() + " #" + i);
+	}
+	return ret;
+    }
+
+    private static String describe(Node n) {
+	if (n instanceof AllocNode) {
+	    AllocNode a = (AllocNode) n;
+	    return "new " + a.getNewExpr() + " in " + a.getMethod();
+	}
+	if (n instanceof LocalVarNode) {
+	    LocalVarNode v = (LocalVarNode) n;
+	    return v.getVariable() + " in " + v.getMethod();
+	}
+	return String.valueOf(((VarNode) n).getVariable());
+    }
+
+    /**
+     * Runs Spark with the given options, and returns the points-to set of
+     * each variable and of each field of each object, by name.
+     */
+    private static Map<String, List<String>> solve(String sparkOptions) {
+	SparkTestUtility.run(sparkOptions);
+	PAG pag = (PAG) Scene.v().getPointsToAnalysis();
+	final Map<Node, String> allocs = names(pag.getAllocNodeNumberer());
+	Map<Node, String> vars = names(pag.getVarNodeNumberer());
+	Map<String, List<String>> ret = new TreeMap<String, List<String>>();
+	for (Map.Entry<Node, String> e : vars.entrySet())
+	    ret.put(e.getValue(), contents(e.getKey().getP2Set(), allocs));
+	for (Iterator<?> it = pag.getAllocDotFieldNodeNumberer().iterator(); it.hasNext();) {
+	    AllocDotField f = (AllocDotField) it.next();
+	    String name = allocs.get(f.getBase()) + " . "
+		+ (f.getField() instanceof ArrayElement ? "[]" : f.getField().toString());
+	    assertNull(name, ret.put(name, contents(f.getP2Set(), allocs)));
+	}
+	return ret;
+    }
+
+    private static List<String> contents(PointsToSetInternal set, final Map<Node, String> allocs) {
+	final List<String> ret = new ArrayList<String>();
+	if (set != null) {
+	    set.forall(new P2SetVisitor() {
+		public void visit(Node n) {
+		    ret.add(allocs.get(n));
+		}
+	    });
+	}
+	Collections.sort(ret);
+	return ret;
+    }
+
+    private void check(String setOptions) {
+	Map<String, List<String>> sequential = solve(setOptions + "propagator:worklist");
+	Map<String, List<String>> parallel = solve(setOptions
+	    + "propagator:parallel-worklist,propagator-threads:4");
+	int nonEmpty = 0;
+	for (List<String> set : sequential.values()) {
+	    if (!set.isEmpty())
+		nonEmpty++;
+	}
+	assertTrue(nonEmpty > 0);
+	assertEquals(sequential, parallel);
+    }
+
+    public void testHybridSets() {
+	check("");
+    }
+
+    public void testDoubleSets() {
+	check("set-impl:double,double-set-old:hybrid,double-set-new:hybrid,");
+    }
+
+    public void testHeintzeSets() {
+	check("set-impl:heintze,");
+    }
+
+    public void testSharedListSets() {
+	check("set-impl:sharedlist,");
+    }
+}
@@ -0,0 +1,190 @@
+package soot.jimple.toolkits.callgraph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+import soot.Context;
+import soot.Kind;
+import soot.MethodContext;
+import soot.MethodOrMethodContext;
+import soot.SootMethod;
+import soot.Unit;
+import soot.VoidType;
+import soot.jimple.Jimple;
+import soot.util.queue.QueueReader;
+
+/**
+ * JUnit test suite for CompactCallGraph, checked against CallGraph.
+ */
+public class CompactCallGraphTest extends TestCase {
+
+  private List<SootMethod> methods;
+  private List<Unit> units;
+
+  public CompactCallGraphTest(String name) {
+    super(name);
+  }
+
+  protected void setUp() {
+    methods = new ArrayList<SootMethod>();
+    units = new ArrayList<Unit>();
+    for (int i = 0; i < 20; i++) {
+      methods.add(new SootMethod("m" + i, Collections.EMPTY_LIST, VoidType.v()));
+      units.add(Jimple.v().newNopStmt());
+    }
+  }
+
+  private Edge randomEdge(Random r) {
+    Kind[] kinds = { Kind.STATIC, Kind.VIRTUAL, Kind.SPECIAL };
+    return new Edge(methods.get(r.nextInt(methods.size())), units.get(r.nextInt(units.size())),
+        methods.get(r.nextInt(methods.size())), kinds[r.nextInt(kinds.length)]);
+  }
+
+  private static Edge copy(Edge e) {
+    return new Edge(e.getSrc(), e.srcUnit(), e.getTgt(), e.kind());
+  }
+
+  private static Set<Edge> toSet(Iterator<Edge> it) {
+    Set<Edge> ret = new HashSet<Edge>();
+    while (it.hasNext()) assertTrue(ret.add(it.next()));
+    return ret;
+  }
+
+  private void assertSameGraph(CallGraph expected, Set<Edge> live, CallGraph actual) {
+    assertEquals(expected.size(), actual.size());
+    assertEquals(live, toSet(actual.listener()));
+    for (SootMethod m : methods) {
+      assertEquals(toSet(expected.edgesOutOf(m)), toSet(actual.edgesOutOf(m)));
+      assertEquals(toSet(expected.edgesInto(m)), toSet(actual.edgesInto(m)));
+      assertEquals(expected.isEntryMethod(m), actual.isEntryMethod(m));
+    }
+    for (Unit u : units) {
+      assertEquals(toSet(expected.edgesOutOf(u)), toSet(actual.edgesOutOf(u)));
+    }
+  }
+
+  public void testAddMatchesCallGraph() {
+    Random r = new Random(3);
+    CallGraph cg = new CallGraph();
+    CompactCallGraph ccg = new CompactCallGraph();
+    for (int i = 0; i < 2000; i++) {
+      Edge e = randomEdge(r);
+      assertEquals(cg.addEdge(e), ccg.addEdge(copy(e)));
+    }
+    assertSameGraph(cg, toSet(cg.listener()), ccg);
+    Set<MethodOrMethodContext> sources = new HashSet<MethodOrMethodContext>();
+    for (Iterator<MethodOrMethodContext> it = ccg.sourceMethods(); it.hasNext();) sources.add(it.next());
+    assertEquals(ccg.numSources(), sources.size());
+  }
+
+  public void testRemoveMatchesCallGraph() {
+    Random r = new Random(7);
+    CallGraph cg = new CallGraph();
+    CompactCallGraph ccg = new CompactCallGraph();
+    List<Edge> live = new ArrayList<Edge>();
+    for (int i = 0; i < 3000; i++) {
+      if (r.nextInt(3) == 0 && !live.isEmpty()) {
+        // CallGraph unlinks the very object it was given, so remove the stored one
+        Edge e = live.remove(r.nextInt(live.size()));
+        assertTrue(cg.removeEdge(e));
+        assertTrue(ccg.removeEdge(copy(e)));
+        assertFalse(ccg.removeEdge(copy(e)));
+      } else {
+        Edge e = randomEdge(r);
+        boolean added = cg.addEdge(e);
+        if (added) live.add(e);
+        assertEquals(added, ccg.addEdge(copy(e)));
+      }
+    }
+    assertSameGraph(cg, new HashSet<Edge>(live), ccg);
+  }
+
+  public void testListeners() {
+    CompactCallGraph ccg = new CompactCallGraph();
+    Random r = new Random(11);
+    Edge first = randomEdge(r);
+    ccg.addEdge(first);
+    QueueReader<Edge> all = ccg.listener();
+    QueueReader<Edge> fresh = ccg.newListener();
+    Edge second = randomEdge(r);
+    while (second.equals(first)) second = randomEdge(r);
+    ccg.addEdge(second);
+    assertEquals(first, all.next());
+    assertEquals(second, all.next());
+    assertFalse(all.hasNext());
+    assertEquals(second, fresh.next());
+    assertFalse(fresh.hasNext());
+  }
+
+  public void testClonedListenersSeeLaterEdges() {
+    CompactCallGraph ccg = new CompactCallGraph();
+    Random r = new Random(13);
+    Edge first = randomEdge(r);
+    ccg.addEdge(first);
+    QueueReader<Edge> clone = ccg.listener().clone();
+    QueueReader<Edge> freshClone = ccg.newListener().clone();
+    // Only the clones are kept
+    System.gc();
+    Edge second = randomEdge(r);
+    while (second.equals(first)) second = randomEdge(r);
+    ccg.addEdge(second);
+    assertEquals(first, clone.next());
+    QueueReader<Edge> later = clone.clone();
+    assertEquals(second, clone.next());
+    assertFalse(clone.hasNext());
+    assertEquals(second, later.next());
+    assertEquals(second, freshClone.next());
+    assertFalse(freshClone.hasNext());
+
+    // Edges removed before a reader gets to them are skipped
+    QueueReader<Edge> reader = ccg.listener();
+    assertTrue(ccg.removeEdge(copy(first)));
+    assertEquals(second, reader.next());
+    assertFalse(reader.hasNext());
+  }
+
+  public void testMethodContexts() {
+    Context c1 = new Context() { };
+    Context c2 = new Context() { };
+    SootMethod a = methods.get(0), b = methods.get(1);
+    CompactCallGraph ccg = new CompactCallGraph();
+    Edge e1 = new Edge(MethodContext.v(a, c1), units.get(0), MethodContext.v(b, c1), Kind.STATIC);
+    Edge e2 = new Edge(MethodContext.v(a, c2), units.get(0), MethodContext.v(b, c2), Kind.STATIC);
+    assertTrue(ccg.addEdge(e1));
+    assertTrue(ccg.addEdge(e2));
+    assertFalse(ccg.addEdge(copy(e1)));
+    assertEquals(Collections.singleton(e1), toSet(ccg.edgesOutOf(MethodContext.v(a, c1))));
+    assertEquals(Collections.singleton(e2), toSet(ccg.edgesInto(MethodContext.v(b, c2))));
+    assertFalse(ccg.edgesOutOf(a).hasNext());
+    assertTrue(ccg.removeEdge(copy(e2)));
+    assertFalse(ccg.edgesInto(MethodContext.v(b, c2)).hasNext());
+  }
+
+  public void testContextInsensitiveFollowsChanges() {
+    CallGraph cg = new CallGraph();
+    Context c1 = new Context() { };
+    Context c2 = new Context() { };
+    SootMethod a = methods.get(0), b = methods.get(1), c = methods.get(2);
+    cg.addEdge(new Edge(MethodContext.v(a, c1), units.get(0), MethodContext.v(b, c1), Kind.STATIC));
+    cg.addEdge(new Edge(MethodContext.v(a, c2), units.get(0), MethodContext.v(b, c2), Kind.STATIC));
+    CallGraph ci = cg.contextInsensitive();
+    assertSame(ci, cg.contextInsensitive());
+    assertEquals(1, ci.size());
+    assertEquals(b, ci.edgesOutOf(units.get(0)).next().tgt());
+
+    Edge added = new Edge(MethodContext.v(b, c1), units.get(1), MethodContext.v(c, c2), Kind.STATIC);
+    cg.addEdge(added);
+    ci = cg.contextInsensitive();
+    assertEquals(2, ci.size());
+    assertEquals(c, ci.edgesOutOf(units.get(1)).next().tgt());
+
+    cg.removeEdge(added);
+    assertFalse(cg.contextInsensitive().edgesOutOf(units.get(1)).hasNext());
+  }
+}
@@ -0,0 +1,78 @@
+package soot.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * JUnit test suite for ChannelDataOutput and ChannelDataInput.
+ */
+public class ChannelDataTest extends TestCase {
+
+  public ChannelDataTest(String name) {
+    super(name);
+  }
+
+  private ByteArrayOutputStream bytes;
+
+  private ChannelDataOutput output(int bufferSize) {
+    bytes = new ByteArrayOutputStream();
+    return new ChannelDataOutput(Channels.newChannel(bytes), bufferSize);
+  }
+
+  private ChannelDataInput input(int bufferSize) {
+    return new ChannelDataInput(Channels.newChannel(new ByteArrayInputStream(
+        bytes.toByteArray())), bufferSize);
+  }
+
+  public void testVarIntLengths() throws Exception {
+    ChannelDataOutput out = output(16);
+    out.writeVarInt(0);
+    out.writeVarInt(127);
+    assertEquals(2, out.size());
+    out.writeVarInt(128);
+    assertEquals(4, out.size());
+    out.writeSignedVarInt(-1);
+    assertEquals(5, out.size());
+    out.writeVarInt(-1);
+    assertEquals(10, out.size());
+    out.close();
+    assertEquals(10, bytes.size());
+  }
+
+  public void testRoundTrip() throws Exception {
+    Random r = new Random(1);
+    ChannelDataOutput out = output(16);
+    for (int i = 0; i < 10000; i++) {
+      out.writeVarInt(r.nextInt());
+      out.writeSignedVarInt(r.nextInt(1000) - 500);
+      out.writeVarLong(r.nextLong());
+      out.writeByte(i);
+    }
+    out.writeString("");
+    out.writeString("caf\u00e9 <init> " + new String(new char[100]).replace('\0', 'x'));
+    out.close();
+
+    r = new Random(1);
+    ChannelDataInput in = input(16);
+    for (int i = 0; i < 10000; i++) {
+      assertEquals(r.nextInt(), in.readVarInt());
+      assertEquals(r.nextInt(1000) - 500, in.readSignedVarInt());
+      assertEquals(r.nextLong(), in.readVarLong());
+      assertEquals(i & 0xff, in.readByte());
+    }
+    assertEquals("", in.readString());
+    assertEquals("caf\u00e9 <init> " + new String(new char[100]).replace('\0', 'x'),
+        in.readString());
+    assertEquals(-1, in.read());
+    try {
+      in.readVarInt();
+      fail();
+    } catch (EOFException e) {
+    }
+  }
+}
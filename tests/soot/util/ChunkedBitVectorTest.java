@@ -0,0 +1,114 @@
+package soot.util;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * JUnit test suite for ChunkedBitVector, checked against BitVector.
+ */
+public class ChunkedBitVectorTest extends TestCase {
+
+  public ChunkedBitVectorTest(String name) {
+    super(name);
+  }
+
+  private static void assertSameBits(BitVector expected, ChunkedBitVector actual) {
+    assertEquals(expected.cardinality(), actual.cardinality());
+    BitSetIterator e = expected.iterator();
+    ChunkedBitSetIterator a = actual.iterator();
+    while (e.hasNext()) {
+      assertTrue(a.hasNext());
+      assertEquals(e.next(), a.next());
+    }
+    assertFalse(a.hasNext());
+  }
+
+  private static void setRandom(Random r, int n, int max, BitVector b, ChunkedBitVector c) {
+    for (int i = 0; i < n; i++) {
+      int bit = r.nextInt(max);
+      assertEquals(b.set(bit), c.set(bit));
+    }
+  }
+
+  public void testEmpty() {
+    ChunkedBitVector a = new ChunkedBitVector();
+    assertTrue(a.isEmpty());
+    assertFalse(a.get(0));
+    assertFalse(a.iterator().hasNext());
+    assertFalse(a.intersects(a));
+    assertEquals(0, a.length());
+  }
+
+  public void testSetAndGet() {
+    ChunkedBitVector a = new ChunkedBitVector();
+    assertTrue(a.set(5000));
+    assertFalse(a.set(5000));
+    assertTrue(a.set(3));
+    assertTrue(a.set(63));
+    assertTrue(a.set(64));
+    assertTrue(a.get(5000));
+    assertTrue(a.get(63));
+    assertFalse(a.get(62));
+    assertFalse(a.get(5001));
+    assertEquals(2, a.numChunks());
+    assertEquals(4, a.cardinality());
+  }
+
+  public void testIteratorMatchesBitVector() {
+    Random r = new Random(1);
+    BitVector b = new BitVector();
+    ChunkedBitVector c = new ChunkedBitVector();
+    setRandom(r, 500, 100000, b, c);
+    assertSameBits(b, c);
+  }
+
+  public void testIntersects() {
+    ChunkedBitVector a = new ChunkedBitVector();
+    ChunkedBitVector b = new ChunkedBitVector();
+    a.set(10);
+    a.set(20000);
+    b.set(11);
+    b.set(30000);
+    assertFalse(a.intersects(b));
+    b.set(20000);
+    assertTrue(a.intersects(b));
+    assertTrue(b.intersects(a));
+  }
+
+  public void testOrAndAndNotMatchesBitVector() {
+    Random r = new Random(42);
+    for (int round = 0; round < 50; round++) {
+      int max = 1 + r.nextInt(20000);
+      BitVector b = new BitVector();
+      ChunkedBitVector c = new ChunkedBitVector();
+      setRandom(r, r.nextInt(200), max, b, c);
+      BitVector ob = new BitVector();
+      ChunkedBitVector oc = new ChunkedBitVector();
+      setRandom(r, r.nextInt(400), max, ob, oc);
+      BitVector eb = new BitVector();
+      ChunkedBitVector ec = new ChunkedBitVector();
+      setRandom(r, r.nextInt(400), max, eb, ec);
+      BitVector mask = null;
+      if (r.nextBoolean()) {
+        mask = new BitVector();
+        for (int i = 0; i < max; i++) if (r.nextInt(3) > 0) mask.set(i);
+      }
+      boolean useExclude = r.nextBoolean();
+      assertEquals(b.orAndAndNot(ob, mask, useExclude ? eb : null),
+          c.orAndAndNot(oc, mask, useExclude ? ec : null));
+      assertSameBits(b, c);
+    }
+  }
+
+  public void testOrAndAndNotWithItselfAsExclude() {
+    ChunkedBitVector a = new ChunkedBitVector();
+    ChunkedBitVector b = new ChunkedBitVector();
+    a.set(1);
+    b.set(1);
+    b.set(5000);
+    assertTrue(a.orAndAndNot(b, null, a));
+    assertTrue(a.get(5000));
+    assertFalse(a.orAndAndNot(b, null, null));
+  }
+}
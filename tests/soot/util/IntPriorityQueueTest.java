@@ -0,0 +1,69 @@
+package soot.util;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * JUnit test suite for IntPriorityQueue, checked against PriorityQueue.
+ */
+public class IntPriorityQueueTest extends TestCase {
+
+  public IntPriorityQueueTest(String name) {
+    super(name);
+  }
+
+  public void testEmpty() {
+    IntPriorityQueue q = new IntPriorityQueue();
+    assertTrue(q.isEmpty());
+    assertEquals(0, q.size());
+    assertFalse(q.contains(0));
+    assertFalse(q.contains(1000));
+    assertEquals(0, q.toArray().length);
+  }
+
+  public void testDuplicateAddKeepsKey() {
+    IntPriorityQueue q = new IntPriorityQueue(1);
+    assertTrue(q.add(7, 5));
+    assertTrue(q.add(3, 2));
+    assertFalse(q.add(7, 1));
+    assertEquals(2, q.size());
+    assertEquals(2, q.minKey());
+    assertEquals(3, q.removeMin());
+    assertEquals(7, q.removeMin());
+    assertTrue(q.isEmpty());
+    assertTrue(q.add(7, 1));
+  }
+
+  public void testClear() {
+    IntPriorityQueue q = new IntPriorityQueue();
+    for (int i = 0; i < 100; i++) q.add(i, -i);
+    q.clear();
+    assertTrue(q.isEmpty());
+    for (int i = 0; i < 100; i++) assertFalse(q.contains(i));
+    assertTrue(q.add(50, 0));
+  }
+
+  public void testOrderMatchesPriorityQueue() {
+    Random r = new Random(1);
+    IntPriorityQueue q = new IntPriorityQueue();
+    PriorityQueue<Long> expected = new PriorityQueue<Long>();
+    for (int round = 0; round < 10000; round++) {
+      if (r.nextInt(3) > 0) {
+        int e = r.nextInt(2000);
+        // Unique keys, with the element in the low bits, so that ties
+        // cannot make the order differ.
+        long key = ((long) r.nextInt(100) << 32) | e;
+        if (q.add(e, key)) expected.add(key);
+        assertTrue(q.contains(e));
+      } else if (!expected.isEmpty()) {
+        long key = expected.poll();
+        assertEquals(key, q.minKey());
+        assertEquals((int) key, q.removeMin());
+        assertFalse(q.contains((int) key));
+      }
+      assertEquals(expected.size(), q.size());
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package soot.util;
+
+import junit.framework.TestCase;
+
+/**
+ * JUnit test suite for ArrayNumberer and MapNumberer: readers that take no
+ * lock must find every object whose number they have seen, while another
+ * thread keeps adding objects.
+ */
+public class NumbererTest extends TestCase {
+
+    public NumbererTest(String name) {
+	super(name);
+    }
+
+    private static final int OBJECTS = 200000;
+
+    private static class Item implements Numberable {
+	private int number;
+
+	public void setNumber(int number) {
+	    this.number = number;
+	}
+
+	public int getNumber() {
+	    return number;
+	}
+    }
+
+    /** Reads the last object numbered, until the numberer is full. */
+    private static abstract class Reader extends Thread {
+	volatile Throwable failure;
+
+	abstract int size();
+
+	abstract Object get(int number);
+
+	public void run() {
+	    try {
+		for (int n = size(); n < OBJECTS; n = size()) {
+		    if (n > 0 && get(n) == null)
+			throw new AssertionError("no object with number " + n);
+		}
+	    } catch (Throwable t) {
+		failure = t;
+	    }
+	}
+    }
+
+    private static void check(Reader[] readers, Runnable writer) throws InterruptedException {
+	for (Reader r : readers)
+	    r.start();
+	writer.run();
+	for (Reader r : readers) {
+	    r.join();
+	    if (r.failure != null)
+		fail(String.valueOf(r.failure));
+	}
+    }
+
+    public void testArrayNumberer() throws InterruptedException {
+	final ArrayNumberer<Item> numberer = new ArrayNumberer<Item>();
+	Reader[] readers = new Reader[3];
+	for (int i = 0; i < readers.length; i++) {
+	    readers[i] = new Reader() {
+		int size() {
+		    return numberer.size();
+		}
+
+		Object get(int number) {
+		    return numberer.get(number);
+		}
+	    };
+	}
+	check(readers, new Runnable() {
+	    public void run() {
+		for (int i = 0; i < OBJECTS; i++)
+		    numberer.add(new Item());
+	    }
+	});
+	assertEquals(OBJECTS, numberer.size());
+    }
+
+    public void testMapNumberer() throws InterruptedException {
+	final MapNumberer<Integer> numberer = new MapNumberer<Integer>();
+	Reader[] readers = new Reader[3];
+	for (int i = 0; i < readers.length; i++) {
+	    readers[i] = new Reader() {
+		int size() {
+		    return numberer.size();
+		}
+
+		Object get(int number) {
+		    Object ret = numberer.get(number);
+		    if (ret != null && numberer.get(ret) != number)
+			throw new AssertionError("wrong number for " + ret);
+		    return ret;
+		}
+	    };
+	}
+	check(readers, new Runnable() {
+	    public void run() {
+		for (int i = 0; i < OBJECTS; i++)
+		    numberer.add(Integer.valueOf(i));
+	    }
+	});
+	assertEquals(OBJECTS, numberer.size());
+	assertEquals(OBJECTS, numberer.get(Integer.valueOf(OBJECTS - 1)));
+    }
+}